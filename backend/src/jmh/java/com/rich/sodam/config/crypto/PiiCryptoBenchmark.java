@@ -0,0 +1,96 @@
+package com.rich.sodam.config.crypto;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * 직원 명단 200행 적재 시의 PII 복호화 — 행마다 이름·전화·주소(String), 생년월일(LocalDate),
+ * 시급(Integer) 다섯 컬럼이 컨버터를 지난다.
+ *
+ * <p>{@code legacyRosterLoad} 는 스레드별 Cipher 도입 전 경로(호출마다 Cipher.getInstance, substring,
+ * IV/암호문 배열 복사)를 그대로 옮긴 기준선이다. gc 프로파일러의 gc.alloc.rate.norm 으로 행당 할당량도
+ * 함께 비교한다 — ./gradlew jmh -Pjmh.includes=PiiCrypto</p>
+ */
+@State(Scope.Benchmark)
+public class PiiCryptoBenchmark {
+
+    private static final int ROSTER_SIZE = 200;
+
+    private final StringCryptoConverter stringConverter = new StringCryptoConverter();
+    private final LocalDateCryptoConverter dateConverter = new LocalDateCryptoConverter();
+    private final IntegerCryptoConverter integerConverter = new IntegerCryptoConverter();
+
+    private SecretKey key;
+    private String[][] rows;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        key = StringCryptoConverter.buildKey(new byte[32]);
+        StringCryptoConverter.setKey(key);
+        rows = new String[ROSTER_SIZE][];
+        for (int i = 0; i < ROSTER_SIZE; i++) {
+            rows[i] = new String[]{
+                    stringConverter.convertToDatabaseColumn("직원" + i),
+                    stringConverter.convertToDatabaseColumn(String.format("010-%04d-%04d", i, 9_999 - i)),
+                    stringConverter.convertToDatabaseColumn("서울특별시 마포구 월드컵북로 " + i + "길 12, 3층"),
+                    dateConverter.convertToDatabaseColumn(LocalDate.of(1970 + i % 35, 1 + i % 12, 1 + i % 28)),
+                    integerConverter.convertToDatabaseColumn(10_030 + i * 10)
+            };
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        StringCryptoConverter.setKey(null);
+    }
+
+    @Benchmark
+    public void pooledRosterLoad(Blackhole bh) {
+        for (String[] row : rows) {
+            bh.consume(stringConverter.convertToEntityAttribute(row[0]));
+            bh.consume(stringConverter.convertToEntityAttribute(row[1]));
+            bh.consume(stringConverter.convertToEntityAttribute(row[2]));
+            bh.consume(dateConverter.convertToEntityAttribute(row[3]));
+            bh.consume(integerConverter.convertToEntityAttribute(row[4]));
+        }
+    }
+
+    @Benchmark
+    public void legacyRosterLoad(Blackhole bh) throws Exception {
+        for (String[] row : rows) {
+            bh.consume(legacyDecrypt(row[0]));
+            bh.consume(legacyDecrypt(row[1]));
+            bh.consume(legacyDecrypt(row[2]));
+            bh.consume(LocalDate.parse(legacyDecrypt(row[3])));
+            bh.consume(Integer.valueOf(legacyDecrypt(row[4])));
+        }
+    }
+
+    @Benchmark
+    public void pooledEncrypt(Blackhole bh) {
+        bh.consume(stringConverter.convertToDatabaseColumn("010-1234-5678"));
+    }
+
+    private String legacyDecrypt(String dbData) throws Exception {
+        byte[] combined = Base64.getDecoder().decode(dbData.substring(StringCryptoConverter.CIPHER_PREFIX.length()));
+        byte[] iv = new byte[12];
+        byte[] cipherText = new byte[combined.length - 12];
+        System.arraycopy(combined, 0, iv, 0, 12);
+        System.arraycopy(combined, 12, cipherText, 0, cipherText.length);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(128, iv));
+        return new String(cipher.doFinal(cipherText), StandardCharsets.UTF_8);
+    }
+}
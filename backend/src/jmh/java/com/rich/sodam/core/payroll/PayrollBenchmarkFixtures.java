@@ -0,0 +1,82 @@
+package com.rich.sodam.core.payroll;
+
+import com.rich.sodam.core.payroll.wage.WorkScheduleDay;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 벤치마크용 한 달치 근태 고정 데이터. 실제 매장에서 흔한 근무 형태를 2026년 9월(추석 연휴 9/24~9/26 포함)
+ * 위에 펼쳐 둔다 — 난수를 쓰지 않아 실행마다 같은 입력이 들어간다.
+ */
+public final class PayrollBenchmarkFixtures {
+
+    public static final LocalDate PERIOD_START = LocalDate.of(2026, 9, 1);
+    public static final LocalDate PERIOD_END = LocalDate.of(2026, 9, 30);
+    public static final LocalTime NIGHT_START = LocalTime.of(22, 0);
+
+    /** 관공서 공휴일(추석 연휴). 휴일근로(§56②) 분기를 타게 한다. */
+    public static final Set<LocalDate> HOLIDAYS = Set.of(
+            LocalDate.of(2026, 9, 24), LocalDate.of(2026, 9, 25), LocalDate.of(2026, 9, 26));
+
+    private PayrollBenchmarkFixtures() {
+    }
+
+    /** 출퇴근 1건. {@code holiday}는 근무 시작일이 공휴일인지. */
+    public record Shift(LocalDateTime checkIn, LocalDateTime checkOut, boolean holiday) {
+    }
+
+    /** 근무 형태별 한 달 근태. */
+    public enum Scenario {
+        /** 평일 09:00~18:00 풀타임(공휴일 포함 출근). */
+        WEEKDAY_FULL_TIME,
+        /** 주 5일 22:00~익일 07:00 야간(자정 넘김) — 야간·연장 계산이 가장 무겁다. */
+        OVERNIGHT,
+        /** 주말·공휴일 11:00~21:30 단시간 — 휴일근로·연장이 섞인다. */
+        WEEKEND_HOLIDAY_PART_TIME;
+
+        public List<Shift> shifts() {
+            List<Shift> shifts = new ArrayList<>();
+            for (LocalDate d = PERIOD_START; !d.isAfter(PERIOD_END); d = d.plusDays(1)) {
+                boolean weekend = d.getDayOfWeek() == DayOfWeek.SATURDAY || d.getDayOfWeek() == DayOfWeek.SUNDAY;
+                boolean holiday = HOLIDAYS.contains(d);
+                switch (this) {
+                    case WEEKDAY_FULL_TIME -> {
+                        if (!weekend) {
+                            shifts.add(new Shift(d.atTime(9, 0), d.atTime(18, 0), holiday));
+                        }
+                    }
+                    case OVERNIGHT -> {
+                        if (d.getDayOfWeek() != DayOfWeek.TUESDAY && d.getDayOfWeek() != DayOfWeek.WEDNESDAY) {
+                            shifts.add(new Shift(d.atTime(22, 0), d.plusDays(1).atTime(7, 0), holiday));
+                        }
+                    }
+                    case WEEKEND_HOLIDAY_PART_TIME -> {
+                        if (weekend || holiday) {
+                            shifts.add(new Shift(d.atTime(11, 0), d.atTime(21, 30), holiday));
+                        }
+                    }
+                }
+            }
+            return List.copyOf(shifts);
+        }
+    }
+
+    /** 근로계약 약정 스케줄 — 평일 주간 + 금·토 야간(자정 넘김, 휴게 포함). */
+    public static List<WorkScheduleDay> contractSchedule() {
+        return List.of(
+                new WorkScheduleDay(DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(18, 0),
+                        LocalTime.of(12, 0), LocalTime.of(13, 0)),
+                new WorkScheduleDay(DayOfWeek.TUESDAY, LocalTime.of(9, 0), LocalTime.of(18, 0),
+                        LocalTime.of(12, 0), LocalTime.of(13, 0)),
+                new WorkScheduleDay(DayOfWeek.WEDNESDAY, LocalTime.of(9, 0), LocalTime.of(15, 0), null, null),
+                new WorkScheduleDay(DayOfWeek.FRIDAY, LocalTime.of(20, 0), LocalTime.of(5, 0),
+                        LocalTime.of(0, 0), LocalTime.of(1, 0)),
+                new WorkScheduleDay(DayOfWeek.SATURDAY, LocalTime.of(20, 0), LocalTime.of(5, 0), null, null));
+    }
+}
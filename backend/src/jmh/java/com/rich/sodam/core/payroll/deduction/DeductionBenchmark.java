@@ -0,0 +1,52 @@
+package com.rich.sodam.core.payroll.deduction;
+
+import com.rich.sodam.core.payroll.constant.IncomeTaxBrackets;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * 공제 계산 벤치마크 — 4대보험 항목별 공제(국민연금 상·하한 캡, 장기요양 2단계)와 종합소득세 누진구간.
+ * 총 급여를 아르바이트 월급부터 상한 초과 월급까지 펼쳐 각 분기를 모두 지나게 한다.
+ */
+@State(Scope.Benchmark)
+public class DeductionBenchmark {
+
+    private static final int[] GROSS_WAGES = {
+            380_000, 1_250_000, 2_156_880, 3_100_000, 4_800_000, 6_370_000, 9_500_000
+    };
+
+    private static final long[] TAXABLE_INCOMES = {
+            8_000_000L, 14_000_000L, 45_000_000L, 88_000_000L, 150_000_000L, 320_000_000L, 1_200_000_000L
+    };
+
+    private final SocialInsuranceCalculator socialInsuranceCalculator = new SocialInsuranceCalculator(
+            Clock.fixed(LocalDate.of(2026, 9, 30).atStartOfDay(ZoneId.of("Asia/Seoul")).toInstant(),
+                    ZoneId.of("Asia/Seoul")));
+
+    @Benchmark
+    public void socialInsuranceBreakdown(Blackhole bh) {
+        for (int gross : GROSS_WAGES) {
+            bh.consume(socialInsuranceCalculator.breakdown(gross));
+        }
+    }
+
+    @Benchmark
+    public void socialInsuranceTotal(Blackhole bh) {
+        for (int gross : GROSS_WAGES) {
+            bh.consume(socialInsuranceCalculator.totalEmployeeDeduction(gross));
+        }
+    }
+
+    @Benchmark
+    public void incomeTaxEstimatedTax(Blackhole bh) {
+        for (long income : TAXABLE_INCOMES) {
+            bh.consume(IncomeTaxBrackets.estimatedTax(income));
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.rich.sodam.core.payroll.wage;
+
+import com.rich.sodam.core.payroll.PayrollBenchmarkFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+
+/**
+ * 월급제 계산기 벤치마크 — 통상시급(BigDecimal 나눗셈)과 중도 입사 일할계산.
+ * 월급제 직원은 매 급여마다 두 경로를 모두 탄다.
+ */
+@State(Scope.Benchmark)
+public class MonthlySalaryBenchmark {
+
+    private static final int MONTHLY_SALARY = 2_500_000;
+
+    private final MonthlySalaryCalculator calculator = new MonthlySalaryCalculator();
+    private final LocalDate midMonthHire = LocalDate.of(2026, 9, 17);
+
+    @Benchmark
+    public int ordinaryHourlyWageByWeeklyDays() {
+        return calculator.ordinaryHourlyWage(MONTHLY_SALARY, 5, 8.0);
+    }
+
+    @Benchmark
+    public int ordinaryHourlyWageByWeeklyHours() {
+        return calculator.ordinaryHourlyWage(MONTHLY_SALARY, 32.5, 5, 8.0);
+    }
+
+    @Benchmark
+    public int proratedFullMonth() {
+        return calculator.proratedBaseSalary(MONTHLY_SALARY,
+                PayrollBenchmarkFixtures.PERIOD_START, PayrollBenchmarkFixtures.PERIOD_END, null);
+    }
+
+    @Benchmark
+    public int proratedMidMonthHire() {
+        return calculator.proratedBaseSalary(MONTHLY_SALARY,
+                PayrollBenchmarkFixtures.PERIOD_START, PayrollBenchmarkFixtures.PERIOD_END, midMonthHire);
+    }
+}
@@ -0,0 +1,120 @@
+package com.rich.sodam.core.payroll.wage;
+
+import com.rich.sodam.core.payroll.PayrollBenchmarkFixtures;
+import com.rich.sodam.core.payroll.PayrollBenchmarkFixtures.Scenario;
+import com.rich.sodam.core.payroll.PayrollBenchmarkFixtures.Shift;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 일 단위 임금 계산기 벤치마크 — 한 직원의 한 달 근태를 통째로 돌린다.
+ *
+ * <p>{@link #monthlyPipeline}은 {@code PayrollService}의 일자별 루프와 같은 순서(근로시간 → 야간 →
+ * 일급/휴일근로 → 주 연장 가산)로 계산기를 호출해, 급여 1건 계산의 순수 CPU 비용을 잰다.
+ * 나머지는 계산기 하나씩 떼어 회귀 위치를 좁히기 위한 것이다.</p>
+ */
+@State(Scope.Benchmark)
+public class WageCalculatorBenchmark {
+
+    private static final int HOURLY_WAGE = 10_320;
+    private static final double REGULAR_HOURS_LIMIT = 8.0;
+
+    @Param({"WEEKDAY_FULL_TIME", "OVERNIGHT", "WEEKEND_HOLIDAY_PART_TIME"})
+    public Scenario scenario;
+
+    private final WorkHoursCalculator workHoursCalculator = new WorkHoursCalculator();
+    private final NightWorkCalculator nightWorkCalculator = new NightWorkCalculator();
+    private final DailyWageCalculator dailyWageCalculator = new DailyWageCalculator();
+    private final WeeklyOvertimeCalculator weeklyOvertimeCalculator = new WeeklyOvertimeCalculator();
+
+    private List<Shift> shifts;
+    private List<WorkScheduleDay> contractSchedule;
+    private List<WorkScheduleDay> scheduleWithoutBreaks;
+
+    @Setup
+    public void setUp() {
+        shifts = scenario.shifts();
+        contractSchedule = PayrollBenchmarkFixtures.contractSchedule();
+        scheduleWithoutBreaks = contractSchedule.stream()
+                .map(d -> new WorkScheduleDay(d.day(), d.startTime(), d.endTime(), null, null))
+                .toList();
+    }
+
+    @Benchmark
+    public int monthlyPipeline() {
+        int total = 0;
+        double weekPayableHours = 0;
+        double weekDailyOvertime = 0;
+        LocalDate weekStart = PayrollBenchmarkFixtures.PERIOD_START;
+        for (Shift shift : shifts) {
+            if (!shift.checkIn().toLocalDate().isBefore(weekStart.plusDays(7))) {
+                double extra = weeklyOvertimeCalculator.additionalOvertimeHours(weekPayableHours, weekDailyOvertime);
+                total += weeklyOvertimeCalculator.premiumWage(HOURLY_WAGE, extra, true);
+                weekPayableHours = 0;
+                weekDailyOvertime = 0;
+                weekStart = weekStart.plusDays(7);
+            }
+            WorkHoursResult hours = workHoursCalculator.calculate(shift.checkIn(), shift.checkOut(), REGULAR_HOURS_LIMIT);
+            double nightHours = nightWorkCalculator.calculatePayable(
+                    shift.checkIn(), shift.checkOut(), PayrollBenchmarkFixtures.NIGHT_START);
+            if (shift.holiday()) {
+                total += dailyWageCalculator.holidayWage(HOURLY_WAGE, hours.paidHours(), true);
+            } else {
+                total += dailyWageCalculator.calculate(
+                        HOURLY_WAGE, hours.regularHours(), hours.overtimeHours(), 0, true).total();
+            }
+            total += dailyWageCalculator.calculate(HOURLY_WAGE, 0, 0, nightHours, true).nightWorkWage();
+            weekPayableHours += hours.paidHours();
+            weekDailyOvertime += hours.overtimeHours();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public void workHours(Blackhole bh) {
+        for (Shift shift : shifts) {
+            bh.consume(workHoursCalculator.calculate(shift.checkIn(), shift.checkOut(), REGULAR_HOURS_LIMIT));
+        }
+    }
+
+    @Benchmark
+    public void nightWork(Blackhole bh) {
+        for (Shift shift : shifts) {
+            bh.consume(nightWorkCalculator.calculate(
+                    shift.checkIn(), shift.checkOut(), PayrollBenchmarkFixtures.NIGHT_START));
+        }
+    }
+
+    @Benchmark
+    public void nightWorkPayable(Blackhole bh) {
+        for (Shift shift : shifts) {
+            bh.consume(nightWorkCalculator.calculatePayable(
+                    shift.checkIn(), shift.checkOut(), PayrollBenchmarkFixtures.NIGHT_START));
+        }
+    }
+
+    @Benchmark
+    public void requiredBreak(Blackhole bh) {
+        for (Shift shift : shifts) {
+            bh.consume(BreakTimeCalculator.requiredBreakMinutes(Duration.between(shift.checkIn(), shift.checkOut())));
+        }
+    }
+
+    @Benchmark
+    public List<WorkScheduleDay> autoFillMissingBreaks() {
+        return BreakTimeCalculator.autoFillMissingBreaks(scheduleWithoutBreaks);
+    }
+
+    @Benchmark
+    public WorkScheduleCalculator.WeeklyStats weeklyStats() {
+        return WorkScheduleCalculator.weeklyStats(contractSchedule);
+    }
+}
@@ -0,0 +1,76 @@
+package com.rich.sodam.core.payroll.weeklyallowance;
+
+import com.rich.sodam.core.payroll.weeklyallowance.strategy.FullTimeWeekdayWeeklyAllowanceCalculator;
+import com.rich.sodam.core.payroll.weeklyallowance.strategy.IneligibleWeeklyAllowanceCalculator;
+import com.rich.sodam.core.payroll.weeklyallowance.strategy.ShiftScheduleWeeklyAllowanceCalculator;
+import com.rich.sodam.core.payroll.weeklyallowance.strategy.ShortTimeWeeklyAllowanceCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 주휴수당 전략 벤치마크. 한 달(5주)치 주 단위 컨텍스트를 근무 형태별로 만들어 resolver 와
+ * 각 전략을 직접 호출한다 — 전략 선택(supports) 비용과 BigDecimal 산식 비용을 나눠 본다.
+ */
+@State(Scope.Benchmark)
+public class WeeklyAllowanceBenchmark {
+
+    private static final BigDecimal HOURLY_WAGE = new BigDecimal("10320");
+
+    private final FullTimeWeekdayWeeklyAllowanceCalculator fullTime = new FullTimeWeekdayWeeklyAllowanceCalculator();
+    private final ShortTimeWeeklyAllowanceCalculator shortTime = new ShortTimeWeeklyAllowanceCalculator();
+    private final ShiftScheduleWeeklyAllowanceCalculator shiftSchedule = new ShiftScheduleWeeklyAllowanceCalculator();
+    private final IneligibleWeeklyAllowanceCalculator ineligible = new IneligibleWeeklyAllowanceCalculator();
+
+    private WeeklyAllowanceCalculatorResolver resolver;
+    private List<WeeklyAllowanceContext> monthOfWeeks;
+
+    @Setup
+    public void setUp() {
+        resolver = new WeeklyAllowanceCalculatorResolver(List.of(fullTime, shortTime, shiftSchedule, ineligible));
+        monthOfWeeks = List.of(
+                // 평일 풀타임 — 추석 주(공휴일 3일)는 소정일 2일
+                week("40", 5, 5, WeeklyWorkPattern.WEEKDAY_FIXED),
+                week("40", 5, 5, WeeklyWorkPattern.WEEKDAY_FIXED),
+                week("16", 2, 2, WeeklyWorkPattern.WEEKDAY_FIXED),
+                week("40", 5, 4, WeeklyWorkPattern.WEEKDAY_FIXED),
+                // 단시간·교대·미지정(AUTO 추론)·15시간 미달
+                week("21", 2, 2, WeeklyWorkPattern.SHORT_TIME),
+                week("36", 4, 4, WeeklyWorkPattern.SHIFT_SCHEDULE),
+                week("27.5", 3, 3, WeeklyWorkPattern.AUTO),
+                week("12", 2, 2, WeeklyWorkPattern.AUTO));
+    }
+
+    private static WeeklyAllowanceContext week(String contractedHours, int scheduledDays, int workedDays,
+                                               WeeklyWorkPattern pattern) {
+        return new WeeklyAllowanceContext(HOURLY_WAGE, new BigDecimal(contractedHours),
+                scheduledDays, workedDays, pattern);
+    }
+
+    @Benchmark
+    public void resolveMonth(Blackhole bh) {
+        for (WeeklyAllowanceContext context : monthOfWeeks) {
+            bh.consume(resolver.resolve(context));
+        }
+    }
+
+    @Benchmark
+    public void strategiesDirect(Blackhole bh) {
+        for (WeeklyAllowanceContext context : monthOfWeeks) {
+            // resolver 의 priority 순서(미달 100 → 교대 60 → 풀타임 50 → 단시간 40)를 그대로 펼친다
+            WeeklyAllowanceCalculator strategy = ineligible.supports(context) ? ineligible
+                    : shiftSchedule.supports(context) ? shiftSchedule
+                    : fullTime.supports(context) ? fullTime
+                    : shortTime.supports(context) ? shortTime
+                    : null;
+            if (strategy != null) {
+                bh.consume(strategy.calculate(context));
+            }
+        }
+    }
+}
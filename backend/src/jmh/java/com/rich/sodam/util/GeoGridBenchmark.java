@@ -0,0 +1,87 @@
+package com.rich.sodam.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 구직자 반경(4km) 매칭 — 전체 프로필 Haversine 스캔 vs 격자 셀 후보 조회.
+ *
+ * <p>프로필마다 희망지역 2곳. 70%는 수도권(서울 도심 반경 약 30km), 나머지는 전국에 흩뿌린다.
+ * {@code gridPrefilter}의 셀→프로필 맵은 location1/2_geo_cell 인덱스의 IN 조회를 흉내 낸 것으로,
+ * 후보 수(= DB 에서 읽는 행 수)가 전체 대비 얼마나 줄어드는지가 핵심이다 — ./gradlew jmh -Pjmh.includes=GeoGrid</p>
+ */
+@State(Scope.Benchmark)
+public class GeoGridBenchmark {
+
+    private static final double RADIUS_METERS = 4_000;
+    private static final double STORE_LAT = 37.5665;
+    private static final double STORE_LON = 126.9780;
+
+    @Param({"100000"})
+    public int profiles;
+
+    private double[][] locations;
+    private Map<Integer, List<Integer>> profilesByCell;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        locations = new double[profiles][];
+        profilesByCell = new HashMap<>();
+        for (int i = 0; i < profiles; i++) {
+            double[] first = randomPoint(random);
+            double[] second = randomPoint(random);
+            locations[i] = new double[]{first[0], first[1], second[0], second[1]};
+            profilesByCell.computeIfAbsent(GeoGrid.cellOf(first[0], first[1]), c -> new ArrayList<>()).add(i);
+            Integer secondCell = GeoGrid.cellOf(second[0], second[1]);
+            if (!secondCell.equals(GeoGrid.cellOf(first[0], first[1]))) {
+                profilesByCell.computeIfAbsent(secondCell, c -> new ArrayList<>()).add(i);
+            }
+        }
+    }
+
+    @Benchmark
+    public int fullScan() {
+        int matched = 0;
+        for (int i = 0; i < locations.length; i++) {
+            if (withinRadius(locations[i])) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public int gridPrefilter() {
+        int matched = 0;
+        for (Integer cell : GeoGrid.cellsWithin(STORE_LAT, STORE_LON, RADIUS_METERS)) {
+            for (int i : profilesByCell.getOrDefault(cell, List.of())) {
+                if (withinRadius(locations[i])) {
+                    matched++;
+                }
+            }
+        }
+        return matched;
+    }
+
+    private static boolean withinRadius(double[] location) {
+        return GeoUtils.calculateDistance(STORE_LAT, STORE_LON, location[0], location[1]) <= RADIUS_METERS
+                || GeoUtils.calculateDistance(STORE_LAT, STORE_LON, location[2], location[3]) <= RADIUS_METERS;
+    }
+
+    private static double[] randomPoint(SplittableRandom random) {
+        if (random.nextDouble() < 0.7) {
+            return new double[]{STORE_LAT + random.nextDouble(-0.27, 0.27), STORE_LON + random.nextDouble(-0.34, 0.34)};
+        }
+        return new double[]{random.nextDouble(34.5, 38.3), random.nextDouble(126.3, 129.4)};
+    }
+}
@@ -2,7 +2,6 @@ package com.rich.sodam;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.actuate.autoconfigure.health.HealthEndpointAutoConfiguration;
-import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
 import org.springframework.boot.actuate.autoconfigure.observation.ObservationAutoConfiguration;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration;
@@ -18,8 +17,8 @@ import org.springframework.core.Ordered;
 // 충돌로 재시도할 때 이미 rollback-only 로 마킹된 "같은" 트랜잭션 안에서 재시도하는 게 아니라,
 // 재시도마다 트랜잭션이 통째로 새로 시작된다(§2.8 대응방안, spring-retry 사용 전제조건).
 @EnableRetry(order = Ordered.LOWEST_PRECEDENCE - 1)
+// 지표 자동 구성은 켜 둔다 — 앱 지표(sodam.*)·MeterBinder 빈이 Boot 의 MeterRegistry 에 묶여 /actuator/metrics 로 나간다.
 @SpringBootApplication(exclude = {
-        MetricsAutoConfiguration.class,
         HealthEndpointAutoConfiguration.class,
         ObservationAutoConfiguration.class,
         SpringDataWebAutoConfiguration.class,
@@ -1,12 +1,19 @@
 package com.rich.sodam.config;
 
+import com.rich.sodam.config.integration.IntegrationProperties;
+import com.zaxxer.hikari.HikariDataSource;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.concurrent.ThreadPoolExecutor;
+
 /**
  * 엔터프라이즈급 배치 처리 설정
  * 대용량 데이터 처리 및 정기 작업을 위한 스케줄링 설정을 제공합니다.
@@ -72,4 +79,66 @@ public class BatchConfig {
 
         return scheduler;
     }
+
+    /**
+     * 월별 급여 분할 배치 워커 풀
+     * 샤드 단위 작업을 동시에 실행합니다. 워커 1개가 커넥션 1개를 쓰므로 Hikari 풀 크기에서
+     * API 몫(reservedConnections)을 뺀 값을 넘지 않게 제한합니다.
+     */
+    @Bean(name = "payrollBatchWorkerExecutor")
+    public ThreadPoolTaskExecutor payrollBatchWorkerExecutor(PayrollBatchProperties properties, DataSource dataSource) {
+        int workers = resolvePayrollBatchWorkers(properties, dataSource);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        // 샤드 수만큼만 큐에 쌓이므로 상한을 샤드 수로 둔다 — 초과분은 워커가 빌 때까지 대기열에서 기다린다.
+        executor.setQueueCapacity(Math.max(1, properties.getShardCount()));
+        executor.setThreadNamePrefix("Payroll-Batch-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+
+        log.info("급여 배치 워커 풀 초기화 완료 - 워커: {}, 샤드: {}", workers, properties.getShardCount());
+
+        return executor;
+    }
+
+    /**
+     * 전자서명 outbox 워커 풀
+     * BaroCert 호출이 블로킹 I/O 라 노드당 동시 처리 수만큼만 스레드를 둡니다. 워커는 이 수를 넘겨 lease 하지
+     * 않으므로 큐는 안전판이고, 넘치면 스케줄러 스레드가 직접 처리합니다.
+     */
+    @Bean(name = "electronicSignatureWorkerExecutor")
+    public ThreadPoolTaskExecutor electronicSignatureWorkerExecutor(IntegrationProperties properties) {
+        IntegrationProperties.ElectronicSignature config = properties.getElectronicSignature();
+        int workers = Math.max(1, config.getWorkerConcurrency());
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(workers);
+        executor.setThreadNamePrefix("ESign-Worker-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        log.info("전자서명 워커 풀 초기화 완료 - 워커: {}", workers);
+
+        return executor;
+    }
+
+    private int resolvePayrollBatchWorkers(PayrollBatchProperties properties, DataSource dataSource) {
+        int requested = Math.max(1, properties.getWorkerThreads());
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                int poolSize = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+                return Math.max(1, Math.min(requested, poolSize - properties.getReservedConnections()));
+            }
+        } catch (SQLException e) {
+            log.warn("Hikari 풀 크기 확인 실패 — 설정된 워커 수 사용: {}", e.getMessage());
+        }
+        return requested;
+    }
 }
@@ -46,8 +46,8 @@ public class DevInfraConfig {
     public CacheManager cacheManager() {
         log.info("DevInfraConfig: ConcurrentMapCacheManager 등록 (Redis 없이 인메모리 캐시)");
         return new ConcurrentMapCacheManager(
-                "users", "stores", "attendance", "payroll",
-                "policyInfo", "sessions", "subscriptions", "notifications"
+                "users", "stores", "attendance", "attendanceGeneration", "payroll",
+                "policyInfo", "sessions", "subscriptions", "notifications", "storeMembership"
         );
     }
 
@@ -5,6 +5,7 @@ import com.rich.sodam.domain.*;
 import com.rich.sodam.domain.type.PlanType;
 import com.rich.sodam.domain.type.UserGrade;
 import com.rich.sodam.repository.*;
+import com.rich.sodam.service.StoreDueSlotIndex;
 import com.rich.sodam.service.SubscriptionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -44,6 +45,7 @@ public class DevSeedRunner implements CommandLineRunner {
 
     private final UserRepository userRepository;
     private final StoreRepository storeRepository;
+    private final StoreDueSlotIndex storeDueSlotIndex;
     private final MasterProfileRepository masterProfileRepository;
     private final EmployeeProfileRepository employeeProfileRepository;
     private final MasterStoreRelationRepository masterStoreRelationRepository;
@@ -97,6 +99,7 @@ public class DevSeedRunner implements CommandLineRunner {
         store.updateLocation(37.5665, 126.9780, "서울특별시 중구 세종대로 110", store.getRadius());
         store.setAddressDetails("서울특별시 중구 세종대로 110", "서울특별시 중구 태평로1가 31");
         store = storeRepository.save(store);
+        storeDueSlotIndex.reindex(store);
 
         masterStoreRelationRepository.save(new MasterStoreRelation(masterProfile, store));
         EmployeeStoreRelation staffRel = new EmployeeStoreRelation(employeeProfile, store, 12_000);
@@ -0,0 +1,31 @@
+package com.rich.sodam.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 퍼널 계측 이벤트 비동기 적재 설정 ({@code sodam.domain-event.ingest.*}).
+ *
+ * <p>{@link com.rich.sodam.service.DomainEventBuffer}가 이벤트를 {@link #capacity}건까지 메모리에 모아 두고,
+ * {@link #batchSize}건이 차거나 첫 이벤트 후 {@link #flushInterval}이 지나면 한 번에 INSERT 한다.
+ * 버퍼가 가득 차면 새 이벤트는 버린다 — 분석 이벤트 때문에 비즈니스 요청이 기다리지 않게 하기 위함이다.</p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "sodam.domain-event.ingest")
+public class DomainEventIngestProperties {
+
+    /** 메모리 버퍼 최대 건수. 넘치는 이벤트는 버리고 dropped 카운터만 올린다. */
+    private int capacity = 10_000;
+
+    /** 한 번에 INSERT 하는 최대 건수. */
+    private int batchSize = 200;
+
+    /** 첫 이벤트가 들어온 뒤 배치가 덜 차도 기록하기까지 기다리는 최대 시간. */
+    private Duration flushInterval = Duration.ofMillis(500);
+}
@@ -0,0 +1,50 @@
+package com.rich.sodam.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 이미지 업로드 변환 설정 ({@code sodam.upload.image.*}).
+ *
+ * <p>{@link com.rich.sodam.service.image.ImagePipeline}이 업로드를 임시 파일로 받아 전용 스레드
+ * {@link #transcodeThreads}개에서 축소본을 만든다. 동시에 디코딩하는 이미지 수가 이 값으로 묶이므로 원본
+ * 크기의 {@code BufferedImage}가 업로드 수만큼 힙에 쌓이지 않는다. 대기 자리({@link #queueCapacity})까지 차면
+ * 요청은 {@link #queueWait}만큼 기다리다 503 으로 거절된다.</p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "sodam.upload.image")
+public class ImageUploadProperties {
+
+    /** 변환 스레드 수. 이미지 디코딩은 CPU·메모리를 함께 쓰므로 코어 수보다 작게 둔다. */
+    private int transcodeThreads = 2;
+
+    /** 실행 중인 변환 외에 기다릴 수 있는 업로드 수. */
+    private int queueCapacity = 16;
+
+    /** 대기 자리가 날 때까지 요청이 기다리는 최대 시간. */
+    private Duration queueWait = Duration.ofSeconds(10);
+
+    /** 디코딩을 허용하는 최대 픽셀 수(가로×세로) — 헤더만 읽고 판정해 압축 폭탄을 디코딩 전에 막는다. */
+    private long maxPixels = 40_000_000L;
+
+    /** JPEG 재인코딩 품질(0.0~1.0). */
+    private float jpegQuality = 0.8f;
+
+    /** 본 이미지의 긴 변 최대 픽셀 — 매장 사진·정보 게시물 이미지. */
+    private int displayMaxEdge = 1600;
+
+    /** 매장 사진 목록용 썸네일의 긴 변 최대 픽셀. */
+    private int thumbnailMaxEdge = 400;
+
+    /** 프로필 사진의 긴 변 최대 픽셀. */
+    private int avatarMaxEdge = 512;
+
+    /** 업로드를 받아 두는 임시 디렉터리. 비우면 시스템 임시 디렉터리. */
+    private String tempDirectory = "";
+}
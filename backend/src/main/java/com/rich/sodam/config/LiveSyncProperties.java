@@ -0,0 +1,30 @@
+package com.rich.sodam.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 실시간 인앱 동기화 팬아웃 설정 ({@code sodam.live-sync.*}) — {@link com.rich.sodam.service.LiveSyncPublisher}.
+ *
+ * <p>STOMP 브로커는 인스턴스 안의 simple broker 라, {@code local}이면 신호가 발행한 인스턴스에 붙은 클라이언트에게만
+ * 간다. 2대 이상이면 {@code redis}로 바꿔 Redis pub/sub({@link #channel})로 다른 인스턴스에 넘기고, 받은
+ * 인스턴스가 자기 simple broker 로 다시 뿌린다({@link LiveSyncRedisConfig}).</p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "sodam.live-sync")
+public class LiveSyncProperties {
+
+    private Fanout fanout = Fanout.LOCAL;
+
+    /** 인스턴스 간 중계 채널. 같은 Redis 를 쓰는 모든 인스턴스가 같은 값을 써야 한다. */
+    private String channel = "sodam:live-sync";
+
+    public enum Fanout {
+        LOCAL,
+        REDIS
+    }
+}
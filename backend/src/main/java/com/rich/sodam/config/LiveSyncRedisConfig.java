@@ -0,0 +1,34 @@
+package com.rich.sodam.config;
+
+import com.rich.sodam.service.RedisLiveSyncFanout;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 라이브 동기화 인스턴스 간 중계 구독 ({@code sodam.live-sync.fanout=redis}).
+ *
+ * <p>각 인스턴스가 {@link LiveSyncProperties#getChannel()}을 구독해 다른 인스턴스가 발행한 신호를
+ * {@link RedisLiveSyncFanout}으로 넘긴다. 연결은 near cache 무효화 채널과 같은 캐시용 Redis 를 쓴다.</p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "sodam.live-sync", name = "fanout", havingValue = "redis")
+public class LiveSyncRedisConfig {
+
+    @Bean
+    public RedisMessageListenerContainer liveSyncRelayListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                        RedisLiveSyncFanout fanout,
+                                                                        LiveSyncProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> fanout.onRelayMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(properties.getChannel()));
+        return container;
+    }
+}
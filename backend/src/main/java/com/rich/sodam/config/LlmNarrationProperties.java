@@ -0,0 +1,38 @@
+package com.rich.sodam.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * LLM 문구 생성 파이프라인 설정 ({@code sodam.ai.narration.*}) — {@link com.rich.sodam.service.ai.LlmNarrationPipeline}.
+ *
+ * <p>provider({@code sodam.ai.provider})가 없으면 생성 자체를 하지 않으므로 이 값들은 쓰이지 않는다.</p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "sodam.ai.narration")
+public class LlmNarrationProperties {
+
+    /** 프롬프트 해시별로 보관하는 응답 수. 같은 템플릿 문구는 다시 호출하지 않는다. */
+    private long cacheSize = 2_000;
+
+    /** 응답 보관 기간. 모델·프롬프트 지침을 바꾼 뒤 이 시간 안에는 이전 표현이 나갈 수 있다. */
+    private Duration cacheTtl = Duration.ofHours(24);
+
+    /** 여러 항목을 한 번에 다듬을 때 동시에 보내는 최대 요청 수. */
+    private int parallelism = 4;
+
+    /**
+     * 동시 요청 수를 넘겨 대기할 수 있는 항목 수. 가득 차면 새 항목은 기다리지 않고 바로 템플릿 문구로 나간다 —
+     * 모델이 느려져도 대기열이 끝없이 쌓여 메모리와 뒤늦은 호출이 불어나지 않게 한다.
+     */
+    private int queueCapacity = 32;
+
+    /** 여러 항목을 다듬을 때 전체 대기 한도. 넘긴 항목은 템플릿 문구로 나가고 응답은 캐시에만 남는다. */
+    private Duration deadline = Duration.ofMillis(2_500);
+}
@@ -3,6 +3,7 @@ package com.rich.sodam.config;
 import com.rich.sodam.domain.EmployeeStoreRelation;
 import com.rich.sodam.domain.Store;
 import com.rich.sodam.service.PayrollBatchExecutor;
+import com.rich.sodam.service.PayrollDetailBatchWriter;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +26,10 @@ import java.util.List;
  * 한 번의 부팅으로 비교할 수 있게 했다 — Phase 5 이전(단일 대형 트랜잭션) 구조와 직접 비교하려면 별도
  * 빌드가 필요하지만, 이 측정만으로도 "이전 구조라면 락을 총 소요시간만큼 통째로 들고 있었을 것"이라는
  * 분석의 근거 수치(총 소요시간)를 제공한다 — 계획서 §Phase 8 실행 노트 참조.</p>
+ *
+ * <p>급여 상세 저장 처리량(rows/s)도 구간별로 함께 찍는다. 같은 시드로
+ * {@code SODAM_PAYROLL_DETAIL_JDBC_BATCH_ENABLED=false}(건별 JPA save)와 기본값(JDBC 배치)을 한 번씩
+ * 부팅해 두 로그를 비교하면 {@link PayrollDetailBatchWriter} 도입 전후 수치가 된다.</p>
  */
 @Slf4j
 @Component
@@ -34,6 +39,7 @@ import java.util.List;
 public class LoadTestPayrollBenchmarkRunner implements CommandLineRunner {
 
     private final PayrollBatchExecutor payrollBatchExecutor;
+    private final PayrollDetailBatchWriter payrollDetailBatchWriter;
     private final EntityManager entityManager;
 
     @Override
@@ -81,6 +87,8 @@ public class LoadTestPayrollBenchmarkRunner implements CommandLineRunner {
 
     private void runTier(String label, List<EmployeeStoreRelation> targets, LocalDate start, LocalDate end) {
         long tierStart = System.currentTimeMillis();
+        long detailRowsBefore = payrollDetailBatchWriter.totalRows();
+        long detailNanosBefore = payrollDetailBatchWriter.totalNanos();
         int success = 0;
         int failed = 0;
         long maxSingleMs = 0;
@@ -103,5 +111,12 @@ public class LoadTestPayrollBenchmarkRunner implements CommandLineRunner {
         log.info("LoadTestPayrollBenchmark[{}]: 총 소요시간={}ms, 직원당 평균={}ms, 최대(단건)={}ms, " +
                         "성공={}, 실패={}",
                 label, totalMs, String.format("%.1f", avgMs), maxSingleMs, success, failed);
+
+        long detailRows = payrollDetailBatchWriter.totalRows() - detailRowsBefore;
+        long detailNanos = payrollDetailBatchWriter.totalNanos() - detailNanosBefore;
+        double rowsPerSec = detailNanos == 0 ? 0 : detailRows * 1_000_000_000.0 / detailNanos;
+        log.info("LoadTestPayrollBenchmark[{}]: 급여 상세 저장({})={}행, 저장 소요={}ms, 처리량={} rows/s",
+                label, payrollDetailBatchWriter.isJdbcBatchEnabled() ? "JDBC 배치" : "건별 JPA save",
+                detailRows, detailNanos / 1_000_000, String.format("%.0f", rowsPerSec));
     }
 }
@@ -8,6 +8,7 @@ import com.rich.sodam.domain.type.PlanType;
 import com.rich.sodam.domain.type.TaxPolicyType;
 import com.rich.sodam.domain.type.UserGrade;
 import com.rich.sodam.repository.*;
+import com.rich.sodam.service.StoreDueSlotIndex;
 import com.rich.sodam.service.SubscriptionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -72,6 +73,7 @@ public class LoadTestStoreSeeder {
 
     private final UserRepository userRepository;
     private final StoreRepository storeRepository;
+    private final StoreDueSlotIndex storeDueSlotIndex;
     private final MasterProfileRepository masterProfileRepository;
     private final EmployeeProfileRepository employeeProfileRepository;
     private final MasterStoreRelationRepository masterStoreRelationRepository;
@@ -108,6 +110,7 @@ public class LoadTestStoreSeeder {
         double lon = 126.97 + (storeIndex % 50) * 0.001;
         store.updateLocation(lat, lon, "서울특별시 부하테스트로 " + storeIndex, store.getRadius());
         store = storeRepository.save(store);
+        storeDueSlotIndex.reindex(store);
 
         masterStoreRelationRepository.save(new MasterStoreRelation(masterProfile, store));
 
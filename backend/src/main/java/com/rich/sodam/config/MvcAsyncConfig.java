@@ -0,0 +1,64 @@
+package com.rich.sodam.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Spring MVC 비동기 응답(StreamingResponseBody) 설정.
+ *
+ * <p>CSV 내보내기·내 출퇴근 기록·명세서 ZIP 다운로드는 응답 본문을 별도 스레드에서 쓴다. 실행기를 지정하지 않으면
+ * MVC 는 요청마다 스레드를 새로 만드는 {@code SimpleAsyncTaskExecutor}로 떨어진다 — {@link AsyncConfig}가
+ * Executor 빈을 직접 정의해 Boot 의 {@code applicationTaskExecutor}가 생기지 않기 때문이다. 그래서 다운로드
+ * 전용 풀을 두고, 풀이 차면 다른 풀과 같이 호출자(요청) 스레드에서 쓴다.</p>
+ *
+ * <p>전체 시간 상한은 {@code spring.mvc.async.request-timeout}으로 명시한다 — 넘으면 컨테이너가 응답을 끝낸다.</p>
+ */
+@Slf4j
+@Configuration
+public class MvcAsyncConfig implements WebMvcConfigurer {
+
+    private final Duration requestTimeout;
+
+    public MvcAsyncConfig(@Value("${spring.mvc.async.request-timeout:5m}") Duration requestTimeout) {
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * 스트리밍 다운로드 전용 스레드 풀
+     * 클라이언트로 쓰는 시간이 대부분인 I/O 작업이라 코어 수보다 조금 넉넉히 둔다.
+     */
+    @Bean(name = "mvcAsyncTaskExecutor")
+    public ThreadPoolTaskExecutor mvcAsyncTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(32);
+        executor.setThreadNamePrefix("Mvc-Async-");
+        executor.setKeepAliveSeconds(60);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+
+        executor.initialize();
+
+        log.info("MVC 비동기 응답 스레드 풀 초기화 완료 - 코어: {}, 최대: {}, 큐: {}, 시간 상한: {}",
+                executor.getCorePoolSize(), executor.getMaxPoolSize(), executor.getQueueCapacity(), requestTimeout);
+
+        return executor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(mvcAsyncTaskExecutor());
+        configurer.setDefaultTimeout(requestTimeout.toMillis());
+    }
+}
@@ -0,0 +1,43 @@
+package com.rich.sodam.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 월별 급여 배치 분할 실행 설정 ({@code sodam.payroll.batch.*}).
+ *
+ * <p>{@link com.rich.sodam.service.PayrollPartitionedBatchEngine}이 매장을 몇 개의 샤드로 나누고,
+ * 몇 개의 워커 스레드로 동시에 돌릴지 정한다. 워커 1개는 직원 1명 계산 동안 DB 커넥션 1개를 쥐므로
+ * 실제 워커 수는 Hikari 풀 크기에서 {@link #reservedConnections}를 뺀 값을 넘지 않는다 — 배치가
+ * 풀을 다 먹어 1일 새벽 API(출퇴근 등)가 커넥션 대기로 멈추는 것을 막는다.</p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "sodam.payroll.batch")
+public class PayrollBatchProperties {
+
+    /** 매장 샤드 수 — 매장 ID 를 이 값으로 나눈 나머지로 샤드를 정한다. 바꾸면 진행 중 체크포인트는 새로 시작한다. */
+    private int shardCount = 8;
+
+    /** 동시 실행 워커(샤드) 수 상한. */
+    private int workerThreads = 4;
+
+    /** 배치가 쓰지 않고 API 트래픽 몫으로 남겨 둘 Hikari 커넥션 수. */
+    private int reservedConnections = 10;
+
+    /**
+     * IN_PROGRESS 체크포인트가 이 시간(분) 동안 갱신되지 않으면 실행하던 노드가 죽은 것으로 보고
+     * 다음 틱에서 이어받는다. 실행 중인 샤드는 직원 계산 사이사이 이 값의 1/3 간격으로 진행 시각을 갱신하므로,
+     * 직원 1명 계산 시간보다만 충분히 길면 된다.
+     */
+    private int staleAfterMinutes = 15;
+
+    /**
+     * 실패 직원이 남은 샤드를 다시 훑는 최대 횟수. 넘으면 샤드를 COMPLETED_WITH_FAILURES 로 닫고 더 돌지 않는다 —
+     * 매번 같은 이유로 실패하는 직원 때문에 1일 내내 30분마다 샤드 전체를 다시 훑지 않게 한다.
+     */
+    private int maxRetries = 3;
+}
@@ -1,29 +1,39 @@
 package com.rich.sodam.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConsumptionProbe;
 import io.github.bucket4j.Refill;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.distributed.proxy.RemoteBucketBuilder;
+import io.github.bucket4j.distributed.proxy.optimization.DelayParameters;
+import io.github.bucket4j.distributed.proxy.optimization.Optimizations;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.annotation.Order;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Arrays;
-import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.function.Supplier;
 
 /**
- * 단순 IP 기반 Rate Limit — Bucket4j 메모리 백엔드.
+ * 단순 IP 기반 Rate Limit — Bucket4j.
  *
  * 적용 범위:
  *  - POST /api/login                     : IP+이메일별 5회/분 (brute-force 강화)
@@ -39,7 +49,17 @@ import java.util.function.Supplier;
  *                                           recruitment-monetization-gamification-plan.md §4.5)
  *  - 그 외 /api/**                       : IP별 120회/분
  *
- * 운영 다중 인스턴스 환경에서는 Redis 백엔드(Bucket4j Lettuce) 권장.
+ * 백엔드({@link RateLimitProperties#getBackend()}):
+ *  - memory : 인스턴스 메모리 버킷 (단일 인스턴스·로컬 기본값)
+ *  - redis  : Bucket4j Lettuce CAS 로 모든 인스턴스가 버킷 공유 ({@link RateLimitRedisConfig}).
+ *             일반 정책만 소수 토큰을 로컬에서 먼저 깎는다(delaying). Redis 오류 시 해당 요청은
+ *             메모리 버킷으로 판정한다 — 장애 중엔 인스턴스별 한도로 돌아갈 뿐 차단이 풀리지 않는다.
+ *
+ * 어느 쪽이든 정책별 버킷(핸들)은 Caffeine 캐시에 둔다 — 키 수 상한과 유휴 만료를 캐시가 지키고, 조회는 잠금
+ * 없이 동시에 돈다. 캐시 축출은 LRU 가 아니라 빈도 기반(W-TinyLFU)이라, 한도를 넘긴 뒤 조용해진 클라이언트의
+ * 버킷도 새 IP 가 몰려오면 밀려날 수 있다. 그래서 한도를 넘긴 키는 버킷이 다시 찰 때까지 별도 차단 캐시에
+ * 기록하고 버킷보다 먼저 확인한다 — 차단 캐시에는 한도를 넘긴 키만 들어가므로 한 번씩 오는 IP 가 아무리 많아도
+ * 밀어낼 수 없고, 버킷이 밀려났다 새로 만들어져도 차단이 풀리는 시점은 원래 버킷과 같다.
  */
 @Slf4j
 @Component
@@ -48,125 +68,147 @@ public class RateLimitFilter extends OncePerRequestFilter {
 
     private static final int DEFAULT_MAX_BUCKETS_PER_POLICY = 10_000;
     private static final Duration BUCKET_IDLE_TTL = Duration.ofMinutes(10);
-    private static final long CLEANUP_INTERVAL_NANOS = Duration.ofMinutes(1).toNanos();
+    /** 차단 기록 보관 상한 — 모든 정책이 1분 주기로 다시 차므로 그보다 오래 기다릴 일이 없다. */
+    private static final Duration BLOCK_TTL = Duration.ofMinutes(1);
+    private static final long REDIS_FAILURE_LOG_INTERVAL_NANOS = Duration.ofMinutes(1).toNanos();
 
     private static final java.util.regex.Pattern CHAT_MESSAGE_SEND_PATH =
             java.util.regex.Pattern.compile("^/api/chat-rooms/\\d+/messages$");
 
-    private final Map<String, BucketEntry> loginBuckets = new ConcurrentHashMap<>();
-    private final Map<String, BucketEntry> webLoginIpBuckets = new ConcurrentHashMap<>();
-    private final Map<String, BucketEntry> resetBuckets = new ConcurrentHashMap<>();
-    private final Map<String, BucketEntry> referralApplyBuckets = new ConcurrentHashMap<>();
-    private final Map<String, BucketEntry> authBuckets = new ConcurrentHashMap<>();
-    private final Map<String, BucketEntry> chatMessageBuckets = new ConcurrentHashMap<>();
-    private final Map<String, BucketEntry> publicBuckets = new ConcurrentHashMap<>();
-    private final Map<String, BucketEntry> generalBuckets = new ConcurrentHashMap<>();
-    private final int maxBucketsPerPolicy;
-    private final AtomicLong nextCleanupNanos = new AtomicLong();
-
-    public RateLimitFilter() {
-        this(DEFAULT_MAX_BUCKETS_PER_POLICY);
-    }
+    /** 한도 정책. {@code localDelayAllowed}는 Redis 모드에서 로컬 선소비(delaying)를 허용할지 여부. */
+    enum Policy {
+        LOGIN(5, false),
+        WEB_LOGIN_IP(5, false),
+        PASSWORD_RESET(3, false),
+        REFERRAL_APPLY(10, false),
+        AUTH(20, false),
+        CHAT_MESSAGE(30, false),
+        PUBLIC(30, false),
+        GENERAL(120, true);
 
-    RateLimitFilter(int maxBucketsPerPolicy) {
-        this.maxBucketsPerPolicy = maxBucketsPerPolicy;
-    }
+        private final int perMinute;
+        private final boolean localDelayAllowed;
 
-    @Value("${sodam.security.trust-forwarded-headers:false}")
-    private boolean trustForwardedHeaders;
-
-    @Value("${sodam.security.trusted-proxy-ips:}")
-    private String trustedProxyIps;
+        Policy(int perMinute, boolean localDelayAllowed) {
+            this.perMinute = perMinute;
+            this.localDelayAllowed = localDelayAllowed;
+        }
 
-    private Bucket resolveLoginBucket(String key) {
-        return resolveBucket(loginBuckets, key, () -> Bucket.builder()
-                .addLimit(Bandwidth.classic(5, Refill.intervally(5, Duration.ofMinutes(1))))
-                .build());
+        Bandwidth bandwidth() {
+            return Bandwidth.classic(perMinute, Refill.intervally(perMinute, Duration.ofMinutes(1)));
+        }
     }
 
-    private Bucket resolveWebLoginIpBucket(String key) {
-        return resolveBucket(webLoginIpBuckets, key, () -> Bucket.builder()
-                .addLimit(Bandwidth.classic(5, Refill.intervally(5, Duration.ofMinutes(1))))
-                .build());
-    }
+    private final Map<Policy, Cache<String, Bucket>> buckets = new EnumMap<>(Policy.class);
+    /** Redis 모드에서 Redis 오류 시 쓰는 메모리 버킷. memory 모드에서는 비어 있다. */
+    private final Map<Policy, Cache<String, Bucket>> fallbackBuckets = new EnumMap<>(Policy.class);
+    /** 한도를 넘긴 키 → 버킷이 다시 차는 시각({@link System#nanoTime()} 기준). */
+    private final Map<Policy, Cache<String, Long>> blockedUntil = new EnumMap<>(Policy.class);
+    private final ProxyManager<byte[]> proxyManager;
+    private final RateLimitProperties.Redis redisProperties;
+    private final AtomicLong nextRedisFailureLogNanos = new AtomicLong();
 
-    private Bucket resolveResetBucket(String key) {
-        return resolveBucket(resetBuckets, key, () -> Bucket.builder()
-                .addLimit(Bandwidth.classic(3, Refill.intervally(3, Duration.ofMinutes(1))))
-                .build());
+    public RateLimitFilter() {
+        this(DEFAULT_MAX_BUCKETS_PER_POLICY);
     }
 
-    private Bucket resolveAuthBucket(String key) {
-        return resolveBucket(authBuckets, key, () -> Bucket.builder()
-                .addLimit(Bandwidth.classic(20, Refill.intervally(20, Duration.ofMinutes(1))))
-                .build());
+    RateLimitFilter(int maxBucketsPerPolicy) {
+        this(maxBucketsPerPolicy, null, new RateLimitProperties.Redis());
     }
 
-    private Bucket resolveReferralApplyBucket(String key) {
-        return resolveBucket(referralApplyBuckets, key, () -> Bucket.builder()
-                .addLimit(Bandwidth.classic(10, Refill.intervally(10, Duration.ofMinutes(1))))
-                .build());
+    @Autowired
+    public RateLimitFilter(RateLimitProperties properties, ObjectProvider<ProxyManager<byte[]>> proxyManager) {
+        this(properties.getMaxBucketsPerPolicy(),
+                properties.getBackend() == RateLimitProperties.Backend.REDIS ? proxyManager.getObject() : null,
+                properties.getRedis());
     }
 
-    private Bucket resolveChatMessageBucket(String key) {
-        return resolveBucket(chatMessageBuckets, key, () -> Bucket.builder()
-                .addLimit(Bandwidth.classic(30, Refill.intervally(30, Duration.ofMinutes(1))))
-                .build());
+    RateLimitFilter(int maxBucketsPerPolicy, ProxyManager<byte[]> proxyManager, RateLimitProperties.Redis redisProperties) {
+        this.proxyManager = proxyManager;
+        this.redisProperties = redisProperties;
+        for (Policy policy : Policy.values()) {
+            buckets.put(policy, bucketCache(maxBucketsPerPolicy));
+            fallbackBuckets.put(policy, bucketCache(maxBucketsPerPolicy));
+            blockedUntil.put(policy, Caffeine.newBuilder()
+                    .maximumSize(maxBucketsPerPolicy)
+                    .expireAfterWrite(BLOCK_TTL)
+                    .build());
+        }
     }
 
-    private Bucket resolvePublicBucket(String key) {
-        return resolveBucket(publicBuckets, key, () -> Bucket.builder()
-                .addLimit(Bandwidth.classic(30, Refill.intervally(30, Duration.ofMinutes(1))))
-                .build());
-    }
+    @Value("${sodam.security.trust-forwarded-headers:false}")
+    private boolean trustForwardedHeaders;
 
-    private Bucket resolveGeneralBucket(String key) {
-        return resolveBucket(generalBuckets, key, () -> Bucket.builder()
-                .addLimit(Bandwidth.classic(120, Refill.intervally(120, Duration.ofMinutes(1))))
-                .build());
+    @Value("${sodam.security.trusted-proxy-ips:}")
+    private String trustedProxyIps;
+
+    private static Cache<String, Bucket> bucketCache(int maxSize) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(BUCKET_IDLE_TTL)
+                .build();
     }
 
-    private Bucket resolveBucket(Map<String, BucketEntry> buckets, String key, Supplier<Bucket> factory) {
+    private boolean tryConsume(Policy policy, String key) {
+        Cache<String, Long> blocked = blockedUntil.get(policy);
         long now = System.nanoTime();
-        cleanupExpiredBuckets(now);
-        BucketEntry entry = buckets.compute(key, (ignored, current) -> current == null
-                ? new BucketEntry(factory.get(), now)
-                : current.touch(now));
-        enforceMaximumSize(buckets);
-        return entry.bucket();
+        Long until = blocked.getIfPresent(key);
+        if (until != null && until - now > 0) {
+            return false;
+        }
+        ConsumptionProbe probe = consume(policy, key, now);
+        if (!probe.isConsumed()) {
+            blocked.put(key, now + probe.getNanosToWaitForRefill());
+        }
+        return probe.isConsumed();
     }
 
-    private void cleanupExpiredBuckets(long now) {
-        long scheduled = nextCleanupNanos.get();
-        if (now < scheduled || !nextCleanupNanos.compareAndSet(scheduled, now + CLEANUP_INTERVAL_NANOS)) {
-            return;
+    private ConsumptionProbe consume(Policy policy, String key, long now) {
+        if (proxyManager == null) {
+            return buckets.get(policy).get(key, k -> localBucket(policy)).tryConsumeAndReturnRemaining(1);
         }
-        long cutoff = now - BUCKET_IDLE_TTL.toNanos();
-        for (Map<String, BucketEntry> buckets : java.util.List.of(
-                loginBuckets, webLoginIpBuckets, resetBuckets, referralApplyBuckets, authBuckets, chatMessageBuckets,
-                publicBuckets, generalBuckets)) {
-            buckets.entrySet().removeIf(entry -> entry.getValue().lastSeenNanos() < cutoff);
+        try {
+            return buckets.get(policy).get(key, k -> remoteBucket(policy, k)).tryConsumeAndReturnRemaining(1);
+        } catch (RuntimeException e) {
+            logRedisFailure(now, e);
+            return fallbackBuckets.get(policy).get(key, k -> localBucket(policy)).tryConsumeAndReturnRemaining(1);
         }
     }
 
-    private void enforceMaximumSize(Map<String, BucketEntry> buckets) {
-        while (buckets.size() > maxBucketsPerPolicy) {
-            buckets.entrySet().stream()
-                    .min(Comparator.comparingLong(entry -> entry.getValue().lastSeenNanos()))
-                    .ifPresent(entry -> buckets.remove(entry.getKey(), entry.getValue()));
+    private Bucket localBucket(Policy policy) {
+        return Bucket.builder().addLimit(policy.bandwidth()).build();
+    }
+
+    private Bucket remoteBucket(Policy policy, String key) {
+        byte[] redisKey = (redisProperties.getKeyPrefix() + policy.name().toLowerCase(Locale.ROOT) + ":" + key)
+                .getBytes(StandardCharsets.UTF_8);
+        BucketConfiguration configuration = BucketConfiguration.builder().addLimit(policy.bandwidth()).build();
+        RemoteBucketBuilder<byte[]> builder = proxyManager.builder();
+        if (policy.localDelayAllowed && redisProperties.getLocalSyncTokens() > 0) {
+            builder = builder.withOptimization(Optimizations.delaying(new DelayParameters(
+                    redisProperties.getLocalSyncTokens(), redisProperties.getLocalSyncTimeout())));
         }
+        return builder.build(redisKey, () -> configuration);
     }
 
-    int bucketCountForTest() {
-        return loginBuckets.size() + webLoginIpBuckets.size() + resetBuckets.size() + referralApplyBuckets.size()
-                + authBuckets.size() + chatMessageBuckets.size() + publicBuckets.size()
-                + generalBuckets.size();
+    private void logRedisFailure(long now, RuntimeException e) {
+        long scheduled = nextRedisFailureLogNanos.get();
+        if (now >= scheduled && nextRedisFailureLogNanos.compareAndSet(scheduled, now + REDIS_FAILURE_LOG_INTERVAL_NANOS)) {
+            log.warn("Rate limit Redis 조회 실패 — 인스턴스 메모리 버킷으로 판정: {}", e.getMessage());
+        }
     }
 
-    private record BucketEntry(Bucket bucket, long lastSeenNanos) {
-        BucketEntry touch(long now) {
-            return new BucketEntry(bucket, now);
+    int bucketCountForTest() {
+        long count = 0;
+        for (Cache<String, Bucket> cache : buckets.values()) {
+            cache.cleanUp();
+            count += cache.estimatedSize();
+        }
+        for (Cache<String, Bucket> cache : fallbackBuckets.values()) {
+            cache.cleanUp();
+            count += cache.estimatedSize();
         }
+        return (int) count;
     }
 
     @Override
@@ -187,36 +229,35 @@ public class RateLimitFilter extends OncePerRequestFilter {
         }
 
         String clientIp = resolveClientIp(request);
-        Bucket bucket;
+        Policy policy;
         if (path.equals("/api/login")) {
             // 보안: brute-force 방지 — IP + 이메일 조합 키로 5/분
             // JSON body뿐 아니라 query/form 파라미터도 임의로 조작할 수 있으므로 이메일을 버킷 키에 넣지 않는다.
             // 같은 IP에서 이메일 값을 바꿔 무한히 버킷을 만드는 우회와 메모리 증가를 차단한다.
-            String key = clientIp;
-            bucket = resolveLoginBucket(key);
+            policy = Policy.LOGIN;
         } else if (path.equals("/api/web/auth/login")) {
             // 04_보안정책.md §4 — 웹 콘솔 로그인 IP별 5/분. 계정(이메일) 기준 10/분은
             // WebLoginAccountRateLimiter(컨트롤러 계층)가 별도 처리(JSON 바디는 필터가 못 읽음).
-            bucket = resolveWebLoginIpBucket(clientIp);
+            policy = Policy.WEB_LOGIN_IP;
         } else if (path.startsWith("/api/auth/password-reset")) {
             // 보안: 이메일 폭주 방지 — IP 단위 3/분
-            bucket = resolveResetBucket(clientIp);
+            policy = Policy.PASSWORD_RESET;
         } else if ("POST".equalsIgnoreCase(request.getMethod()) && path.equals("/api/referrals/apply")) {
-            bucket = resolveReferralApplyBucket(clientIp);
+            policy = Policy.REFERRAL_APPLY;
         } else if (path.equals("/api/join") || path.equals("/api/auth/refresh")) {
-            bucket = resolveAuthBucket(clientIp);
+            policy = Policy.AUTH;
         } else if (path.startsWith("/api/public/")) {
             // 공개 계산기(WP-A) — 인증이 없어 남용 표면이 넓다. 일반 120/분보다 낮은 30/분 전용 한도.
             // 사람이 계산기를 쓰는 빈도로는 넉넉하고, 스크립트 반복 호출은 걸린다.
-            bucket = resolvePublicBucket(clientIp);
+            policy = Policy.PUBLIC;
         } else if ("POST".equalsIgnoreCase(request.getMethod()) && CHAT_MESSAGE_SEND_PATH.matcher(path).matches()) {
             // 채팅 도배 스팸 방지 — 일반 120/분보다 낮은 전용 한도(recruitment-monetization-gamification-plan.md §4.5)
-            bucket = resolveChatMessageBucket(clientIp);
+            policy = Policy.CHAT_MESSAGE;
         } else {
-            bucket = resolveGeneralBucket(clientIp);
+            policy = Policy.GENERAL;
         }
 
-        if (bucket.tryConsume(1)) {
+        if (tryConsume(policy, clientIp)) {
             chain.doFilter(request, response);
         } else {
             log.warn("Rate limit exceeded ip={} path={}", clientIp, path);
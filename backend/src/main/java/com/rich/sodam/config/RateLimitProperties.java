@@ -0,0 +1,54 @@
+package com.rich.sodam.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * API Rate Limit 설정 ({@code sodam.rate-limit.*}) — {@link RateLimitFilter}.
+ *
+ * <p>{@code memory}는 인스턴스마다 따로 센다 — 인스턴스가 N대면 실제 한도가 N배가 된다. 2대 이상이면
+ * {@code redis}로 바꿔 모든 인스턴스가 같은 버킷({@link RateLimitRedisConfig})을 나눠 쓴다.</p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "sodam.rate-limit")
+public class RateLimitProperties {
+
+    private Backend backend = Backend.MEMORY;
+
+    /**
+     * 정책별로 인스턴스가 들고 있을 버킷(또는 Redis 버킷 핸들) 수 상한. 넘으면 Caffeine 이 접근 빈도가 낮은 키부터
+     * 버린다(LRU 아님). 한도를 넘긴 키는 버킷이 밀려나도 다시 찰 때까지 별도로 차단된다({@link RateLimitFilter}).
+     */
+    private int maxBucketsPerPolicy = 10_000;
+
+    private Redis redis = new Redis();
+
+    public enum Backend {
+        MEMORY,
+        REDIS
+    }
+
+    @Getter
+    @Setter
+    public static class Redis {
+
+        /** 버킷 키 접두사. 뒤에 정책명과 클라이언트 IP 가 붙는다. */
+        private String keyPrefix = "sodam:rl:";
+
+        /**
+         * 로컬 선소비 허용 토큰 수 — 한도가 큰 정책(일반 120/분)만 이만큼은 Redis 왕복 없이 인스턴스에서
+         * 먼저 깎고 나중에 맞춘다. 인스턴스당 최대 이만큼 한도를 넘길 수 있다. 로그인·재설정처럼 한도가
+         * 작은 정책은 항상 Redis 에서 바로 깎는다.
+         */
+        private long localSyncTokens = 10;
+
+        /** 로컬 선소비분을 늦어도 이 시간 안에는 Redis 에 반영한다. */
+        private Duration localSyncTimeout = Duration.ofMillis(500);
+    }
+}
@@ -0,0 +1,61 @@
+package com.rich.sodam.config;
+
+import com.rich.sodam.config.app.AppProperties;
+import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.ByteArrayCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+
+/**
+ * Redis 공유 Rate Limit 버킷 ({@code sodam.rate-limit.backend=redis}).
+ *
+ * <p>Bucket4j 의 Lettuce CAS ProxyManager 는 바이트 키/값 연결이 필요해서 Spring 의 커넥션 팩토리 대신
+ * 같은 호스트·캐시 DB 로 전용 Lettuce 클라이언트를 하나 연다. 버킷 키는 마지막 충전 후 1분 뒤 Redis 에서
+ * 만료된다 — 다 찬 버킷은 새로 만든 버킷과 같으므로 지워도 된다.</p>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "sodam.rate-limit", name = "backend", havingValue = "redis")
+public class RateLimitRedisConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public RedisClient rateLimitRedisClient(RedisProperties redisProperties, AppProperties appProperties) {
+        RedisURI.Builder uri = RedisURI.builder()
+                .withHost(redisProperties.getHost())
+                .withPort(redisProperties.getPort())
+                .withDatabase(appProperties.getRedis().getCacheDatabase());
+        if (redisProperties.getTimeout() != null) {
+            uri.withTimeout(redisProperties.getTimeout());
+        }
+        if (StringUtils.hasText(redisProperties.getPassword())) {
+            uri.withPassword(redisProperties.getPassword().toCharArray());
+        }
+        log.info("Rate limit Redis 백엔드 사용 - 호스트: {}, 포트: {}, DB: {}", redisProperties.getHost(),
+                redisProperties.getPort(), appProperties.getRedis().getCacheDatabase());
+        return RedisClient.create(uri.build());
+    }
+
+    @Bean(destroyMethod = "close")
+    public StatefulRedisConnection<byte[], byte[]> rateLimitRedisConnection(RedisClient rateLimitRedisClient) {
+        return rateLimitRedisClient.connect(ByteArrayCodec.INSTANCE);
+    }
+
+    @Bean
+    public ProxyManager<byte[]> rateLimitProxyManager(StatefulRedisConnection<byte[], byte[]> rateLimitRedisConnection) {
+        return LettuceBasedProxyManager.builderFor(rateLimitRedisConnection)
+                .withExpirationStrategy(
+                        ExpirationAfterWriteStrategy.basedOnTimeForRefillingBucketUpToMax(Duration.ofMinutes(1)))
+                .build();
+    }
+}
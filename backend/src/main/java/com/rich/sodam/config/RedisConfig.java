@@ -4,10 +4,13 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.rich.sodam.config.app.AppProperties;
+import com.rich.sodam.config.nearcache.NearCacheMetrics;
+import com.rich.sodam.config.nearcache.NearCacheProperties;
+import com.rich.sodam.config.nearcache.TwoLevelCacheManager;
+import com.rich.sodam.security.authorization.StoreMembershipCache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.interceptor.CacheErrorHandler;
@@ -22,10 +25,14 @@ import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
@@ -52,6 +59,7 @@ public class RedisConfig implements CachingConfigurer {
 
     private final CustomCacheErrorHandler customCacheErrorHandler;
     private final AppProperties appProperties;
+    private final NearCacheProperties nearCacheProperties;
     @Value("${spring.data.redis.password:#{null}}")
     private String redisPassword;
     @Value("${spring.data.redis.timeout:5000ms}")
@@ -63,9 +71,11 @@ public class RedisConfig implements CachingConfigurer {
     @Value("${spring.data.redis.lettuce.pool.min-idle:0}")
     private int minIdle;
 
-    public RedisConfig(CustomCacheErrorHandler customCacheErrorHandler, AppProperties appProperties) {
+    public RedisConfig(CustomCacheErrorHandler customCacheErrorHandler, AppProperties appProperties,
+                       NearCacheProperties nearCacheProperties) {
         this.customCacheErrorHandler = customCacheErrorHandler;
         this.appProperties = appProperties;
+        this.nearCacheProperties = nearCacheProperties;
     }
 
     /**
@@ -187,11 +197,12 @@ public class RedisConfig implements CachingConfigurer {
 
     /**
      * Redis 캐시 매니저 설정
-     * 각 캐시별로 다른 TTL 설정 및 에러 핸들링 포함
+     * 각 캐시별로 다른 TTL 설정 및 에러 핸들링 포함.
+     * {@link NearCacheProperties}에 적은 캐시는 인스턴스 내 L1 을 거친다({@link TwoLevelCacheManager}).
      */
     @Bean
     @Override
-    public CacheManager cacheManager() {
+    public TwoLevelCacheManager cacheManager() {
         RedisConnectionFactory connectionFactory = cacheConnectionFactory();
         log.info("Redis 캐시 매니저 초기화");
 
@@ -219,6 +230,14 @@ public class RedisConfig implements CachingConfigurer {
         // 출근 기록 캐시 (15분)
         cacheConfigurations.put("attendance", defaultConfig.entryTtl(Duration.ofMinutes(15)));
 
+        // 출근 기록 캐시 세대(AttendanceCacheGenerations) — 데이터 캐시(15분)보다 길게 둬야 세대가 만료돼
+        // 기본값으로 돌아가도 그 세대로 만든 옛 키가 이미 사라져 있다 (1일)
+        cacheConfigurations.put("attendanceGeneration", defaultConfig.entryTtl(Duration.ofDays(1)));
+
+        // 매장 소속 인가 스냅샷(StoreMembershipCache) — 변경 경로가 명시적으로 지우지만, 빠뜨린 경로가 있어도
+        // 오래 남지 않도록 짧게 둔다 (10분)
+        cacheConfigurations.put(StoreMembershipCache.CACHE_NAME, defaultConfig.entryTtl(Duration.ofMinutes(10)));
+
         // 급여 정보 캐시 (4시간)
         cacheConfigurations.put("payroll", defaultConfig.entryTtl(Duration.ofHours(4)));
 
@@ -228,11 +247,41 @@ public class RedisConfig implements CachingConfigurer {
         // 세션 캐시 (30분)
         cacheConfigurations.put("sessions", defaultConfig.entryTtl(Duration.ofMinutes(30)));
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
-                .transactionAware() // 트랜잭션 지원
                 .build();
+        // 빈이 아니므로 캐시별 TTL(initial configurations) 적재를 직접 호출한다
+        redisCacheManager.afterPropertiesSet();
+
+        // 캐시별 opt-in L1(near cache)을 앞에 붙인다. 트랜잭션 지원(커밋 후 put/evict)은 두 계층 바깥에서 건다.
+        log.info("near cache(L1) {} — 대상: {}", nearCacheProperties.isEnabled() ? "활성" : "비활성",
+                nearCacheProperties.getCaches().keySet());
+        return new TwoLevelCacheManager(redisCacheManager, nearCacheProperties,
+                new StringRedisTemplate(connectionFactory), true);
+    }
+
+    /**
+     * 다른 인스턴스가 보낸 near cache 무효화 메시지 구독 (캐시용 Redis 연결).
+     */
+    @Bean
+    public RedisMessageListenerContainer nearCacheInvalidationListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(cacheConnectionFactory());
+        TwoLevelCacheManager cacheManager = cacheManager();
+        container.addMessageListener(
+                (message, pattern) -> cacheManager.onInvalidationMessage(
+                        new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(nearCacheProperties.getChannel()));
+        return container;
+    }
+
+    /**
+     * near cache 계층별 히트/미스/축출 지표 (Actuator metrics).
+     */
+    @Bean
+    public NearCacheMetrics nearCacheMetrics() {
+        return new NearCacheMetrics(cacheManager());
     }
 
     /**
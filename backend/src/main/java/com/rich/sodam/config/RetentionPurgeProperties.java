@@ -0,0 +1,36 @@
+package com.rich.sodam.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 보존기간 스캔·파기 배치 분할 설정 ({@code sodam.retention.purge.*}).
+ *
+ * <p>{@link com.rich.sodam.service.retention.RetentionPurgeService}가 만료 대상 등록과 실제 파기를
+ * {@link #chunkSize}건씩 나눠 각각 별도 트랜잭션으로 처리한다. 청크 사이에 {@link #chunkPause}만큼 쉬면
+ * 그동안 커넥션이 풀로 돌아가므로, 적체분이 많아도 영업시간 API 가 커넥션 대기로 밀리지 않는다.
+ * 실제 파기 활성화 여부({@code execute-enabled})는 {@code RetentionNoticeScheduler}가 따로 읽는다.</p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "sodam.retention.purge")
+public class RetentionPurgeProperties {
+
+    /** 한 트랜잭션에서 등록하거나 파기하는 최대 건수. 등록 시 미등록 판정 IN 절 크기이기도 하다. */
+    private int chunkSize = 500;
+
+    /** 청크 사이 휴지 시간 — 0 이면 쉬지 않는다. 영업시간에 돌릴 때는 수백 ms 정도를 준다. */
+    private Duration chunkPause = Duration.ZERO;
+
+    /**
+     * 보존 배치 ShedLock 락 유지 시간 — 배치 시작 시 이만큼 잡고, 청크를 하나 끝낼 때마다 지금부터 이만큼 다시
+     * 연장한다. 청크 하나(+휴지)와 고지 발송이 넉넉히 들어가야 하며, 인스턴스가 죽었을 때 다른 인스턴스가
+     * 이어받기까지의 최대 대기이기도 하다.
+     */
+    private Duration lockAtMostFor = Duration.ofMinutes(20);
+}
@@ -12,6 +12,7 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.jdbc.core.JdbcTemplate;
 
 import javax.sql.DataSource;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Map;
 import java.util.Optional;
@@ -79,6 +80,13 @@ public class SchedulerLockConfig {
                 public void unlock() {
                     heldUntil.remove(name);
                 }
+
+                /** {@code LockExtender} 로 긴 배치가 락을 연장할 수 있게 한다(보존기간 배치). */
+                @Override
+                public Optional<SimpleLock> extend(Duration lockAtMostFor, Duration lockAtLeastFor) {
+                    heldUntil.put(name, Instant.now().plus(lockAtMostFor));
+                    return Optional.of(this);
+                }
             });
         }
     }
@@ -30,6 +30,9 @@ import java.util.stream.Collectors;
  * 페이로드는 "무엇이 바뀌었으니 다시 조회하라"는 트리거({type, storeId})일 뿐, 민감정보는 담지
  * 않는다. 실제 데이터는 BOLA 가드가 걸린 REST 재조회로 가져간다.</p>
  *
+ * <p>브로커는 인스턴스 안의 simple broker 다. 여러 인스턴스로 운영하면 발행은 {@code LiveSyncFanout}이
+ * Redis pub/sub 로 다른 인스턴스에 중계해 각자의 simple broker 가 다시 뿌린다({@link LiveSyncProperties}).</p>
+ *
  * <p>인증: 모바일 앱은 STOMP CONNECT 시 {@code Authorization: Bearer <jwt>} 헤더로 인증한다
  * (기존 경로, 변경 없음). 사장님 웹 콘솔(세션 로그인)은 JWT 헤더를 보내지 않는 대신, 핸드셰이크
  * (HTTP GET /ws) 시점에 브라우저가 자동으로 동봉하는 세션 쿠키를 {@link SessionHandshakeInterceptor}
@@ -1,5 +1,6 @@
 package com.rich.sodam.config.crypto;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,7 +21,8 @@ import java.util.Base64;
  * <p>{@code sodam.security.pii.encryption-key} 환경설정에서 키를 읽어
  * {@link StringCryptoConverter} 의 static 키 슬롯에 채운다.
  * AttributeConverter 는 Hibernate 가 직접 인스턴스화하므로 Spring DI 가 불가능 →
- * 부팅 시 1회 static 주입 방식 사용.
+ * 부팅 시 1회 static 주입 방식 사용. 컨버터의 {@code sodam.pii.crypto} 타이머도 같은 방식으로
+ * 애플리케이션 {@link MeterRegistry} 에 묶는다.
  *
  * <p><b>키 형식</b>:
  *  <ul>
@@ -42,13 +44,16 @@ public class PiiCryptoKeyHolder {
     private String encryptionKey;
 
     private final Environment environment;
+    private final MeterRegistry meterRegistry;
 
-    public PiiCryptoKeyHolder(Environment environment) {
+    public PiiCryptoKeyHolder(Environment environment, MeterRegistry meterRegistry) {
         this.environment = environment;
+        this.meterRegistry = meterRegistry;
     }
 
     @PostConstruct
     void init() {
+        StringCryptoConverter.bindMetrics(meterRegistry);
         boolean isProd = Arrays.asList(environment.getActiveProfiles()).contains("prod");
         if (encryptionKey == null || encryptionKey.isBlank()) {
             // 운영(prod) 프로파일에서는 평문 PII 저장을 차단 — 키 없이는 부팅 거부(fail-fast, PIPA §29).
@@ -1,5 +1,7 @@
 package com.rich.sodam.config.crypto;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
 import org.slf4j.Logger;
@@ -9,9 +11,12 @@ import javax.crypto.Cipher;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.SecureRandom;
 import java.util.Base64;
+import java.util.concurrent.TimeUnit;
 
 /**
  * PII 컬럼(휴대폰 번호 등) AES/GCM 양방향 암호화 JPA 컨버터 (PIPA §29).
@@ -30,6 +35,13 @@ import java.util.Base64;
  *
  * <p><b>키 주입</b>: {@link PiiCryptoKeyHolder} 가 부팅 시 static 키를 채운다.
  * AttributeConverter 는 Hibernate 가 인스턴스화하므로 Spring DI 대신 static 홀더 사용.
+ *
+ * <p><b>처리량</b>: 직원 명단·근태 CSV 같은 목록 조회는 행×필드마다 이 컨버터를 지난다. 그래서
+ * {@link Cipher} 를 스레드별로 하나 두고 연산마다 {@code init} 만 다시 하며(GCM 은 IV 가 매번 달라
+ * 재-init 이 필수, Cipher 는 스레드 안전하지 않음), 복호화는 Base64 결과 배열 하나에서 IV·암호문을
+ * 오프셋으로 바로 읽어 중간 배열 복사를 없앤다. 호출 수·지연은 {@code sodam.pii.crypto}
+ * 타이머(op=encrypt|decrypt)로 남는다 — 키와 같은 방식으로 {@link PiiCryptoKeyHolder} 가 부팅 시
+ * 애플리케이션 레지스트리에 묶는다. 비교 벤치마크는 src/jmh 의 {@code PiiCryptoBenchmark}.
  */
 @Converter
 public class StringCryptoConverter implements AttributeConverter<String, String> {
@@ -44,7 +56,14 @@ public class StringCryptoConverter implements AttributeConverter<String, String>
     private static final int GCM_TAG_BITS = 128;
     private static final int GCM_IV_BYTES = 12;
 
-    private static final SecureRandom RANDOM = new SecureRandom();
+    /** 스레드별 재사용 — getInstance 는 프로바이더 조회·객체 생성이 매번 일어난다. */
+    private static final ThreadLocal<Cipher> CIPHERS = ThreadLocal.withInitial(StringCryptoConverter::newCipher);
+    /** 공유 SecureRandom 은 구현에 따라 nextBytes 가 전역 락을 잡는다. */
+    private static final ThreadLocal<SecureRandom> RANDOMS = ThreadLocal.withInitial(SecureRandom::new);
+
+    /** null = 레지스트리 미연결(부팅 전·단위 테스트) — 기록하지 않는다. PiiCryptoKeyHolder 가 설정. */
+    private static volatile Timer encryptTimer;
+    private static volatile Timer decryptTimer;
 
     /** null = 암호화 비활성(평문 유지). PiiCryptoKeyHolder 가 설정. */
     private static volatile SecretKey key;
@@ -53,6 +72,11 @@ public class StringCryptoConverter implements AttributeConverter<String, String>
         key = newKey;
     }
 
+    static void bindMetrics(MeterRegistry registry) {
+        encryptTimer = registry == null ? null : cryptoTimer(registry, "encrypt");
+        decryptTimer = registry == null ? null : cryptoTimer(registry, "decrypt");
+    }
+
     static boolean isEncryptionEnabled() {
         return key != null;
     }
@@ -95,24 +119,26 @@ public class StringCryptoConverter implements AttributeConverter<String, String>
         if (attribute.startsWith(CIPHER_PREFIX)) {
             return attribute;
         }
+        long start = System.nanoTime();
         try {
+            byte[] plain = attribute.getBytes(StandardCharsets.UTF_8);
+            Cipher cipher = CIPHERS.get();
             byte[] iv = new byte[GCM_IV_BYTES];
-            RANDOM.nextBytes(iv);
-
-            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            RANDOMS.get().nextBytes(iv);
             cipher.init(Cipher.ENCRYPT_MODE, k, new GCMParameterSpec(GCM_TAG_BITS, iv));
-            byte[] cipherText = cipher.doFinal(attribute.getBytes(StandardCharsets.UTF_8));
 
-            // [iv || cipherText] 를 Base64 로 직렬화
-            byte[] combined = new byte[iv.length + cipherText.length];
-            System.arraycopy(iv, 0, combined, 0, iv.length);
-            System.arraycopy(cipherText, 0, combined, iv.length, cipherText.length);
+            // [iv || cipherText] 를 한 배열에 바로 써서 Base64 로 직렬화 (GCM 출력 = 평문 + 태그, 길이 고정)
+            byte[] combined = new byte[GCM_IV_BYTES + cipher.getOutputSize(plain.length)];
+            System.arraycopy(iv, 0, combined, 0, GCM_IV_BYTES);
+            cipher.doFinal(plain, 0, plain.length, combined, GCM_IV_BYTES);
             return CIPHER_PREFIX + Base64.getEncoder().encodeToString(combined);
         } catch (Exception e) {
             // 암호화 실패 시 데이터 유실 방지를 위해 평문 저장하지 않고 예외 전파.
             // (저장 단계 실패는 트랜잭션 롤백이 안전 — 평문 누출보다 낫다.)
             log.error("PII 암호화 실패 — 저장 중단. cause={}", e.getMessage());
             throw new IllegalStateException("PII 암호화에 실패했습니다.", e);
+        } finally {
+            record(encryptTimer, start);
         }
     }
 
@@ -132,26 +158,30 @@ public class StringCryptoConverter implements AttributeConverter<String, String>
             log.warn("PII 복호화 키 미설정인데 암호문 컬럼 발견 — 키 설정 필요");
             return dbData;
         }
+        long start = System.nanoTime();
         try {
-            byte[] combined = Base64.getDecoder().decode(dbData.substring(CIPHER_PREFIX.length()));
-            if (combined.length <= GCM_IV_BYTES) {
+            // prefix 를 잘라낸 substring 없이 ASCII 바이트 구간을 바로 디코딩
+            byte[] ascii = dbData.getBytes(StandardCharsets.ISO_8859_1);
+            ByteBuffer decoded = Base64.getDecoder().decode(
+                    ByteBuffer.wrap(ascii, CIPHER_PREFIX.length(), ascii.length - CIPHER_PREFIX.length()));
+            byte[] combined = decoded.array();
+            int length = decoded.remaining();
+            if (length <= GCM_IV_BYTES) {
                 log.warn("PII 암호문 길이 비정상 — 평문 간주");
                 return dbData;
             }
-            byte[] iv = new byte[GCM_IV_BYTES];
-            byte[] cipherText = new byte[combined.length - GCM_IV_BYTES];
-            System.arraycopy(combined, 0, iv, 0, GCM_IV_BYTES);
-            System.arraycopy(combined, GCM_IV_BYTES, cipherText, 0, cipherText.length);
 
-            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
-            cipher.init(Cipher.DECRYPT_MODE, k, new GCMParameterSpec(GCM_TAG_BITS, iv));
-            byte[] plain = cipher.doFinal(cipherText);
+            Cipher cipher = CIPHERS.get();
+            cipher.init(Cipher.DECRYPT_MODE, k, new GCMParameterSpec(GCM_TAG_BITS, combined, 0, GCM_IV_BYTES));
+            byte[] plain = cipher.doFinal(combined, GCM_IV_BYTES, length - GCM_IV_BYTES);
             return new String(plain, StandardCharsets.UTF_8);
         } catch (Exception e) {
             // 복호화 실패 == 키 불일치/손상. 평문으로 간주해 그대로 반환(무중단 폴백).
             // ⚠️ 키 로테이션 시 구 키로 암호화된 값이 깨질 수 있음 — 백필 배치 필요(TODO).
             log.warn("PII 복호화 실패 — 평문 간주 폴백. cause={}", e.getMessage());
             return dbData;
+        } finally {
+            record(decryptTimer, start);
         }
     }
 
@@ -159,4 +189,25 @@ public class StringCryptoConverter implements AttributeConverter<String, String>
     static SecretKey buildKey(byte[] keyBytes) {
         return new SecretKeySpec(keyBytes, AES);
     }
+
+    private static Cipher newCipher() {
+        try {
+            return Cipher.getInstance(TRANSFORMATION);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("AES/GCM Cipher 를 만들 수 없습니다.", e);
+        }
+    }
+
+    private static void record(Timer timer, long start) {
+        if (timer != null) {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Timer cryptoTimer(MeterRegistry registry, String op) {
+        return Timer.builder("sodam.pii.crypto")
+                .description("PII 컬럼 AES-GCM 암·복호화 (JPA 컨버터)")
+                .tag("op", op)
+                .register(registry);
+    }
 }
@@ -0,0 +1,72 @@
+package com.rich.sodam.config.entitycache;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+
+/**
+ * Hibernate 2차 캐시 영역 구성 — 2차 캐시가 켜진 프로필에서만 뜬다(dev/test 는 꺼져 있다).
+ *
+ * <p>Ehcache 를 XML 대신 코드로 구성해 {@link EntityCacheProperties}의 영역별 크기·TTL 을 적용하고, 그
+ * {@link CacheManager}를 Hibernate 의 JCache 영역 팩토리에 넘긴다. 다른 인스턴스의 변경은
+ * {@link EntityCacheInvalidationConfig}가 pub/sub 로 지운다. 영역별 히트·미스는
+ * {@link EntityCacheMetrics}가 Actuator 지표로 올린다 — Hibernate 통계를 켠 경우에만({@code HIBERNATE_GENERATE_STATISTICS=true}).
+ * 통계는 세션마다 비용이 들어 기본은 꺼 두고, 캐시 크기·TTL 을 조정할 때만 켠다.</p>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.jpa.properties.hibernate.cache.use_second_level_cache", havingValue = "true")
+public class EntityCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager(EntityCacheProperties properties) {
+        CacheManager manager = Caching.getCachingProvider(EhcacheCachingProvider.class.getName())
+                .getCacheManager(URI.create("urn:sodam:entity-cache"), getClass().getClassLoader());
+        for (String region : EntityCacheRegions.DATA_REGIONS) {
+            EntityCacheProperties.Spec spec = properties.spec(region);
+            createIfAbsent(manager, region, CacheConfigurationBuilder
+                    .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(spec.getMaxEntries()))
+                    .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(spec.getTtl()))
+                    .build());
+            log.info("2차 캐시 영역 {}: 최대 {}건, TTL {}", region, spec.getMaxEntries(), spec.getTtl());
+        }
+        createIfAbsent(manager, EntityCacheRegions.UPDATE_TIMESTAMPS, CacheConfigurationBuilder
+                .newCacheConfigurationBuilder(Object.class, Object.class,
+                        ResourcePoolsBuilder.heap(properties.getUpdateTimestampsMaxEntries()))
+                .withExpiry(ExpiryPolicyBuilder.noExpiration())
+                .build());
+        return manager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheHibernateProperties(CacheManager entityCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.jpa.properties.hibernate.generate_statistics", havingValue = "true")
+    public EntityCacheMetrics entityCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        return new EntityCacheMetrics(entityManagerFactory.unwrap(SessionFactory.class));
+    }
+
+    private static void createIfAbsent(CacheManager manager, String region, CacheConfiguration<Object, Object> config) {
+        if (manager.getCache(region, Object.class, Object.class) == null) {
+            manager.createCache(region, Eh107Configuration.fromEhcacheCacheConfiguration(config));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.rich.sodam.config.entitycache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 2차 캐시 인스턴스 간 무효화({@link EntityCacheInvalidator}) — 2차 캐시가 켜져 있고 캐시용 Redis 가 있는
+ * 프로필(RedisConfig 와 같은 조건)에서만 뜬다. 그 밖에서는 영역 TTL 만 불일치 상한이 된다.
+ */
+@Configuration
+@Profile("!dev & !test")
+@ConditionalOnProperty(name = "spring.jpa.properties.hibernate.cache.use_second_level_cache", havingValue = "true")
+public class EntityCacheInvalidationConfig {
+
+    @Bean
+    public EntityCacheInvalidator entityCacheInvalidator(EntityManagerFactory entityManagerFactory,
+                                                         @Qualifier("cacheConnectionFactory")
+                                                         RedisConnectionFactory connectionFactory,
+                                                         EntityCacheProperties properties) {
+        return new EntityCacheInvalidator(entityManagerFactory.unwrap(SessionFactory.class),
+                new StringRedisTemplate(connectionFactory), properties.getChannel());
+    }
+
+    /**
+     * 다른 인스턴스가 보낸 2차 캐시 무효화 메시지 구독 (캐시용 Redis 연결).
+     */
+    @Bean
+    public RedisMessageListenerContainer entityCacheInvalidationListenerContainer(
+            @Qualifier("cacheConnectionFactory") RedisConnectionFactory connectionFactory,
+            EntityCacheInvalidator invalidator, EntityCacheProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> invalidator.onInvalidationMessage(
+                        new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(properties.getChannel()));
+        return container;
+    }
+}
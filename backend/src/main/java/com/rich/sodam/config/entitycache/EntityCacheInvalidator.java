@@ -0,0 +1,112 @@
+package com.rich.sodam.config.entitycache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.UUID;
+
+/**
+ * 2차 캐시 영역의 인스턴스 간 무효화 — near cache({@code TwoLevelCacheManager})와 같은 Redis pub/sub 방식.
+ *
+ * <p>캐시 대상 엔티티의 삽입·수정·삭제가 커밋되면 {@code 인스턴스ID|엔티티명|ID}를 발행하고, 다른 인스턴스는 받은
+ * 엔티티 항목과 쿼리 결과 영역을 지운다. 쿼리 결과({@link EntityCacheRegions#PAYROLL_POLICY_BY_STORE})는 테이블
+ * 변경 시각을 인스턴스 안에서만 비교하므로 다른 인스턴스의 삽입을 모른다 — 그래서 삽입도 알리고, 어느 쿼리가
+ * 영향받는지 메시지만으로 알 수 없어 쿼리 영역은 통째로 비운다(영역이 하나뿐이고 대상 테이블은 자주 바뀌지 않는다).</p>
+ *
+ * <p>자기가 보낸 메시지는 Hibernate 가 이미 커밋과 함께 로컬 영역을 고쳤으므로 무시한다. 발행 실패·메시지 유실과
+ * 서비스 경로 밖 쓰기(수동 SQL 등)는 영역 TTL({@link EntityCacheProperties.Spec#ttl})이 상한이다.</p>
+ */
+@Slf4j
+public class EntityCacheInvalidator implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener {
+
+    private final Cache cache;
+    private final StringRedisTemplate publisher;
+    private final String channel;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public EntityCacheInvalidator(SessionFactory sessionFactory, StringRedisTemplate publisher, String channel) {
+        this.cache = sessionFactory.getCache();
+        this.publisher = publisher;
+        this.channel = channel;
+        EventListenerRegistry listeners = sessionFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        listeners.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        listeners.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        listeners.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    /** 다른 인스턴스가 보낸 무효화 메시지 처리 (EntityCacheInvalidationConfig 의 리스너 컨테이너가 호출). */
+    public void onInvalidationMessage(String message) {
+        String[] parts = message.split("\\|", 3);
+        if (parts.length < 3 || instanceId.equals(parts[0])) {
+            return;
+        }
+        try {
+            cache.evictEntityData(parts[1], Long.valueOf(parts[2]));
+        } catch (NumberFormatException e) {
+            // 캐시 대상 엔티티는 모두 Long ID 다 — 다른 형식이면 해당 엔티티 영역 전체를 비운다
+            cache.evictEntityData(parts[1]);
+        }
+        cache.evictQueryRegions();
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // 롤백 — 알릴 변경이 없다
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // 롤백 — 알릴 변경이 없다
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // 롤백 — 알릴 변경이 없다
+    }
+
+    private void publish(EntityPersister persister, Object id) {
+        if (!persister.canWriteToCache() || id == null) {
+            return;
+        }
+        try {
+            publisher.convertAndSend(channel, instanceId + "|" + persister.getEntityName() + "|" + id);
+        } catch (RuntimeException e) {
+            log.warn("2차 캐시 무효화 발행 실패 — 다른 인스턴스는 영역 TTL 만료까지 이전 값을 볼 수 있음: {}",
+                    e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.rich.sodam.config.entitycache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Hibernate 2차 캐시 영역별 지표 — Actuator {@code /actuator/metrics}에서 본다.
+ *
+ * <ul>
+ *   <li>{@code sodam.entity_cache.gets{region, result=hit|miss}} — 영역 조회 결과 누계</li>
+ *   <li>{@code sodam.entity_cache.puts{region}} — DB 에서 읽어 영역에 넣은 수</li>
+ *   <li>{@code sodam.entity_cache.hit_ratio{region}} — 누계 기준 히트율(조회가 없으면 0)</li>
+ * </ul>
+ *
+ * <p>Hibernate 통계({@code hibernate.generate_statistics})를 켠 경우에만 등록된다 — 꺼져 있으면 값이 전부 0 이라
+ * 히트율 0 으로 오해하기 쉽다.</p>
+ */
+public class EntityCacheMetrics implements MeterBinder {
+
+    private final Statistics statistics;
+
+    public EntityCacheMetrics(SessionFactory sessionFactory) {
+        this.statistics = sessionFactory.getStatistics();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : EntityCacheRegions.DATA_REGIONS) {
+            FunctionCounter.builder("sodam.entity_cache.gets", this, m -> m.count(region, CacheRegionStatistics::getHitCount))
+                    .tags("region", region, "result", "hit")
+                    .description("2차 캐시 영역 히트 수")
+                    .register(registry);
+            FunctionCounter.builder("sodam.entity_cache.gets", this, m -> m.count(region, CacheRegionStatistics::getMissCount))
+                    .tags("region", region, "result", "miss")
+                    .description("2차 캐시 영역 미스 수")
+                    .register(registry);
+            FunctionCounter.builder("sodam.entity_cache.puts", this, m -> m.count(region, CacheRegionStatistics::getPutCount))
+                    .tags("region", region)
+                    .description("2차 캐시 영역에 넣은 수")
+                    .register(registry);
+            Gauge.builder("sodam.entity_cache.hit_ratio", this, m -> m.hitRatio(region))
+                    .tags("region", region)
+                    .description("2차 캐시 영역 히트율")
+                    .register(registry);
+        }
+    }
+
+    private double count(String region, ToLongFunction<CacheRegionStatistics> metric) {
+        CacheRegionStatistics stats;
+        try {
+            stats = statistics.getCacheRegionStatistics(region);
+        } catch (IllegalArgumentException e) {
+            // 쿼리 결과 영역은 첫 쿼리 때 만들어진다 — 그 전에는 Hibernate 가 모르는 영역이라 예외를 던진다
+            return 0;
+        }
+        return stats == null ? 0 : metric.applyAsLong(stats);
+    }
+
+    private double hitRatio(String region) {
+        double hits = count(region, CacheRegionStatistics::getHitCount);
+        double total = hits + count(region, CacheRegionStatistics::getMissCount);
+        return total == 0 ? 0 : hits / total;
+    }
+}
@@ -0,0 +1,49 @@
+package com.rich.sodam.config.entitycache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hibernate 2차 캐시(Ehcache, 인스턴스 힙) 영역별 크기·TTL ({@code sodam.entity-cache.*}).
+ *
+ * <p>인스턴스마다 따로 두는 캐시다. 같은 인스턴스 안의 변경은 Hibernate 가 커밋과 함께 갱신하고, 다른 인스턴스의
+ * 변경은 Redis pub/sub({@link #channel}, {@link EntityCacheInvalidator})으로 받아 지운다. 메시지를 놓치거나 서비스
+ * 경로 밖에서 쓴 값은 {@link Spec#ttl} 동안 이전 값으로 보일 수 있다 — TTL 이 곧 최대 불일치 시간이다(near cache 와
+ * 같은 기준). 적지 않은 영역은 {@link Spec} 기본값을 쓴다.</p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "sodam.entity-cache")
+public class EntityCacheProperties {
+
+    /** 무효화 메시지 채널. 같은 Redis 를 쓰는 모든 인스턴스가 같은 값을 써야 한다. */
+    private String channel = "sodam:entity-cache:invalidate";
+
+    /** 영역 이름({@link EntityCacheRegions}) → 크기·TTL. */
+    private Map<String, Spec> regions = new LinkedHashMap<>();
+
+    /** 테이블 변경 시각 영역 크기 — 캐시 대상 테이블 수보다 넉넉하면 된다. 만료는 없다. */
+    private long updateTimestampsMaxEntries = 1_000;
+
+    public Spec spec(String region) {
+        return regions.getOrDefault(region, new Spec());
+    }
+
+    @Getter
+    @Setter
+    public static class Spec {
+
+        /** 인스턴스당 최대 항목 수. 넘으면 Ehcache 가 축출한다. */
+        private long maxEntries = 1_000;
+
+        /** 쓰기 후 만료 시간. */
+        private Duration ttl = Duration.ofSeconds(60);
+    }
+}
@@ -0,0 +1,30 @@
+package com.rich.sodam.config.entitycache;
+
+import java.util.List;
+
+/**
+ * Hibernate 2차 캐시 영역 이름 — 엔티티의 {@code @Cache(region = ...)}와 쿼리 힌트가 이 상수를 쓴다.
+ * 크기·TTL 은 {@link EntityCacheProperties}에서 영역별로 정한다.
+ */
+public final class EntityCacheRegions {
+
+    public static final String STORE = "store";
+    public static final String PAYROLL_POLICY = "payrollPolicy";
+    public static final String MASTER_STORE_RELATION = "masterStoreRelation";
+    public static final String POLICY_INFO = "policyInfo";
+
+    /** {@code PayrollPolicyRepository.findByStore*} 쿼리 결과. */
+    public static final String PAYROLL_POLICY_BY_STORE = "payrollPolicyByStore";
+
+    /**
+     * Hibernate 가 테이블별 마지막 변경 시각을 두는 영역. 쿼리 결과가 이보다 오래됐으면 버린다 — 그래서 이 영역은
+     * 만료시키지 않는다(먼저 사라지면 오래된 쿼리 결과가 살아남는다).
+     */
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    static final List<String> DATA_REGIONS = List.of(
+            STORE, PAYROLL_POLICY, MASTER_STORE_RELATION, POLICY_INFO, PAYROLL_POLICY_BY_STORE);
+
+    private EntityCacheRegions() {
+    }
+}
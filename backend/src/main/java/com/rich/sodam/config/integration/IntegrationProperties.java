@@ -145,6 +145,13 @@ public class IntegrationProperties {
         private String storageEndpoint = "";
         private String callCenterNumber = "";
         private boolean workerEnabled = false;
+        /** 노드당 동시에 처리하는 outbox 작업 수(BaroCert 왕복 동시 호출 상한). 한 번에 lease 하는 작업 수도 이만큼이다. */
+        private int workerConcurrency = 4;
+        /**
+         * 노드가 한 틱에 처리하는 outbox 작업 수 상한. 틱마다 밀린 양만큼 처리하되 이 값에서 멈춘다 — 스케줄러
+         * 스레드를 한 틱에 너무 오래 붙잡지 않도록. {@link #workerConcurrency}보다 작으면 그 값을 쓴다.
+         */
+        private int workerMaxPerTick = 40;
 
         public Mode resolvedMode() {
             return Mode.parse(mode);
@@ -1,5 +1,6 @@
 package com.rich.sodam.config.integration;
 
+import com.rich.sodam.util.AtomicFiles;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -75,15 +76,9 @@ public class ObjectStorage {
         if (data == null) {
             throw new IllegalArgumentException("저장할 파일 데이터가 없습니다.");
         }
-        String key = safePrefix(prefix) + "/" + UUID.randomUUID() + inferExt(contentType);
+        String key = newKey(prefix, contentType);
         if (mode == Mode.LIVE) {
-            PutObjectRequest request = PutObjectRequest.builder()
-                    .bucket(bucket)
-                    .key(key)
-                    .contentType(contentType == null ? "application/octet-stream" : contentType)
-                    // public-read ACL을 지정하지 않는다. private bucket 정책이 유일한 접근 제어다.
-                    .build();
-            s3.putObject(request, RequestBody.fromBytes(data));
+            s3.putObject(putRequest(key, contentType), RequestBody.fromBytes(data));
             log.info("[Storage S3] put {} ({} bytes)", key, data.length);
             // Presigned URL is an ephemeral bearer credential. Never hand it to a
             // persistence caller; API response assembly calls accessUrl(key) later.
@@ -91,9 +86,7 @@ public class ObjectStorage {
         }
 
         try {
-            Path target = safeLocalPath(key);
-            Files.createDirectories(target.getParent());
-            Files.write(target, data);
+            AtomicFiles.write(data, safeLocalPath(key));
             log.info("[Storage MOCK] put {} ({} bytes)", key, data.length);
             return new PutResult(key, "/uploads/" + key);
         } catch (IOException e) {
@@ -102,6 +95,36 @@ public class ObjectStorage {
         }
     }
 
+    /**
+     * 디스크의 파일을 그대로 올린다. 업로드 변환 결과처럼 이미 임시 파일로 있는 데이터를 다시 힙에 읽어
+     * 올리지 않기 위한 경로다.
+     */
+    public PutResult put(String prefix, Path file, String contentType) {
+        return putAt(newKey(prefix, contentType), file, contentType);
+    }
+
+    /** {@link #put(String, Path, String)}와 같되 key 를 호출측이 정한다 — 본 이미지 옆에 썸네일을 둘 때 쓴다. */
+    public PutResult putAt(String key, Path file, String contentType) {
+        if (file == null || !Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("저장할 파일 데이터가 없습니다.");
+        }
+        String safeKey = safeKey(key);
+        try {
+            long size = Files.size(file);
+            if (mode == Mode.LIVE) {
+                s3.putObject(putRequest(safeKey, contentType), RequestBody.fromFile(file));
+                log.info("[Storage S3] put {} ({} bytes)", safeKey, size);
+                return new PutResult(safeKey, null);
+            }
+            AtomicFiles.copy(file, safeLocalPath(safeKey));
+            log.info("[Storage MOCK] put {} ({} bytes)", safeKey, size);
+            return new PutResult(safeKey, "/uploads/" + safeKey);
+        } catch (IOException e) {
+            log.error("Storage put failed", e);
+            throw new IllegalStateException("파일 저장에 실패했습니다.", e);
+        }
+    }
+
     public void delete(String key) {
         String safeKey = safeKey(key);
         if (mode == Mode.LIVE) {
@@ -186,6 +209,19 @@ public class ObjectStorage {
         return ttl;
     }
 
+    private String newKey(String prefix, String contentType) {
+        return safePrefix(prefix) + "/" + UUID.randomUUID() + inferExt(contentType);
+    }
+
+    private PutObjectRequest putRequest(String key, String contentType) {
+        return PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType == null ? "application/octet-stream" : contentType)
+                // public-read ACL을 지정하지 않는다. private bucket 정책이 유일한 접근 제어다.
+                .build();
+    }
+
     private static String safePrefix(String prefix) {
         return safeKey(prefix);
     }
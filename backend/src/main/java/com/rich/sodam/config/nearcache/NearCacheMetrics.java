@@ -0,0 +1,40 @@
+package com.rich.sodam.config.nearcache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 2단계 캐시 계층별 지표를 Micrometer 에 올린다 — Actuator {@code /actuator/metrics}에서 본다.
+ *
+ * <ul>
+ *   <li>L1: Caffeine 표준 지표 {@code cache.gets{result=hit|miss}}, {@code cache.evictions}, {@code cache.size}
+ *       ({@code cache=캐시명, tier=l1} 태그)</li>
+ *   <li>L2: L1 미스 뒤 Redis 조회 결과 {@code sodam.cache.l2.gets{cache=캐시명, result=hit|miss}}</li>
+ * </ul>
+ */
+public class NearCacheMetrics implements MeterBinder {
+
+    private final TwoLevelCacheManager cacheManager;
+
+    public NearCacheMetrics(TwoLevelCacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        cacheManager.nearCaches().forEach((name, cache) -> {
+            CaffeineCacheMetrics.monitor(registry, cache.l1(), name, Tags.of("tier", "l1"));
+            FunctionCounter.builder("sodam.cache.l2.gets", cache, TwoLevelCache::l2Hits)
+                    .tags("cache", name, "result", "hit")
+                    .description("L1 미스 후 Redis(L2) 조회 히트 수")
+                    .register(registry);
+            FunctionCounter.builder("sodam.cache.l2.gets", cache, TwoLevelCache::l2Misses)
+                    .tags("cache", name, "result", "miss")
+                    .description("L1 미스 후 Redis(L2) 조회 미스 수")
+                    .register(registry);
+        });
+    }
+}
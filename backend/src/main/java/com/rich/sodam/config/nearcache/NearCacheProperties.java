@@ -0,0 +1,47 @@
+package com.rich.sodam.config.nearcache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 2단계 캐시의 인스턴스 내 L1(near cache) 설정 ({@code sodam.cache.near.*}).
+ *
+ * <p>L1 은 {@link #caches}에 적은 캐시에만 붙는다(캐시별 opt-in). 호출측이 꺼낸 값을 고치지 않는 캐시만
+ * 넣어야 한다 — Redis 는 매번 새로 역직렬화한 사본을 주지만 L1 은 같은 인스턴스를 돌려준다. 엔티티를
+ * 담는 "users"·"attendance"는 그래서 넣지 않았다.</p>
+ *
+ * <p>다른 인스턴스의 무효화는 Redis pub/sub({@link #channel})으로 받는다. 메시지를 놓쳐도 L1 항목은
+ * {@link Spec#ttl} 뒤에 사라지므로, TTL 이 곧 최대 불일치 시간이다 — Redis(L2) TTL 보다 훨씬 짧게 둔다.</p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "sodam.cache.near")
+public class NearCacheProperties {
+
+    /** false 면 L1 없이 기존처럼 Redis 만 쓴다. */
+    private boolean enabled = true;
+
+    /** 무효화 메시지 채널. 같은 Redis 를 쓰는 모든 인스턴스가 같은 값을 써야 한다. */
+    private String channel = "sodam:cache:near-invalidate";
+
+    /** L1 을 붙일 캐시 이름 → 크기·TTL. */
+    private Map<String, Spec> caches = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Spec {
+
+        /** 인스턴스당 최대 항목 수. 넘으면 Caffeine 이 덜 쓰인 항목부터 축출한다. */
+        private long maxSize = 1_000;
+
+        /** 쓰기 후 만료 시간. */
+        private Duration ttl = Duration.ofSeconds(60);
+    }
+}
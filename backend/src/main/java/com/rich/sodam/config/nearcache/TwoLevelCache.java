@@ -0,0 +1,160 @@
+package com.rich.sodam.config.nearcache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * L1(Caffeine, 인스턴스 내) + L2(Redis) 캐시.
+ *
+ * <p>읽기는 L1 → L2 순서이고 L2 에서 찾은 값은 L1 에 채운다. 쓰기·삭제는 L2 에 먼저 반영한 뒤 이 인스턴스의
+ * L1 을 지우고, {@link TwoLevelCacheManager}를 통해 다른 인스턴스에도 무효화를 알린다 — 쓰기 값을 바로
+ * L1 에 넣지 않는 이유는, 같은 순간 다른 인스턴스의 쓰기와 엇갈려도 다음 읽기가 L2 의 최종값을 보게 하기 위해서다.</p>
+ *
+ * <p>L1 키는 {@code String.valueOf(key)}다. RedisCache 도 키를 문자열로 바꿔 저장하므로 두 계층이 같은 키
+ * 공간을 쓰고, 무효화 메시지에도 문자열 키를 그대로 실을 수 있다. null 값은 L1 에 넣지 않는다
+ * (Redis 설정이 null 캐싱을 끈 것과 같다).</p>
+ */
+public class TwoLevelCache implements Cache {
+
+    private final Cache l2;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> l1;
+    private final TwoLevelCacheManager manager;
+
+    private final LongAdder l2Hits = new LongAdder();
+    private final LongAdder l2Misses = new LongAdder();
+
+    TwoLevelCache(Cache l2, com.github.benmanes.caffeine.cache.Cache<String, Object> l1, TwoLevelCacheManager manager) {
+        this.l2 = l2;
+        this.l1 = l1;
+        this.manager = manager;
+    }
+
+    @Override
+    public String getName() {
+        return l2.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return l2.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String l1Key = String.valueOf(key);
+        Object cached = l1.getIfPresent(l1Key);
+        if (cached != null) {
+            return new SimpleValueWrapper(cached);
+        }
+        ValueWrapper wrapper = l2.get(key);
+        recordL2(wrapper != null);
+        if (wrapper != null && wrapper.get() != null) {
+            l1.put(l1Key, wrapper.get());
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String l1Key = String.valueOf(key);
+        Object cached = l1.getIfPresent(l1Key);
+        if (cached != null) {
+            return (T) cached;
+        }
+        ValueWrapper wrapper = l2.get(key);
+        recordL2(wrapper != null);
+        T value = wrapper != null ? (T) wrapper.get() : l2.get(key, valueLoader);
+        if (value != null) {
+            l1.put(l1Key, value);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        l2.put(key, value);
+        invalidateLocal(key);
+        manager.publishEvict(getName(), key);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = l2.putIfAbsent(key, value);
+        invalidateLocal(key);
+        manager.publishEvict(getName(), key);
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        l2.evict(key);
+        invalidateLocal(key);
+        manager.publishEvict(getName(), key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = l2.evictIfPresent(key);
+        invalidateLocal(key);
+        manager.publishEvict(getName(), key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        l2.clear();
+        invalidateAllLocal();
+        manager.publishClear(getName());
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = l2.invalidate();
+        invalidateAllLocal();
+        manager.publishClear(getName());
+        return invalidated;
+    }
+
+    void invalidateLocal(Object key) {
+        l1.invalidate(String.valueOf(key));
+    }
+
+    void invalidateAllLocal() {
+        l1.invalidateAll();
+    }
+
+    /** L1(Caffeine) — 통계 조회용. */
+    public com.github.benmanes.caffeine.cache.Cache<String, Object> l1() {
+        return l1;
+    }
+
+    /** L1 미스 후 Redis 에서 찾은 횟수. */
+    public long l2Hits() {
+        return l2Hits.sum();
+    }
+
+    /** L1 미스 후 Redis 에도 없던 횟수. */
+    public long l2Misses() {
+        return l2Misses.sum();
+    }
+
+    private void recordL2(boolean hit) {
+        (hit ? l2Hits : l2Misses).increment();
+    }
+}
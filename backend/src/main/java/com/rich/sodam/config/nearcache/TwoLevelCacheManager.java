@@ -0,0 +1,120 @@
+package com.rich.sodam.config.nearcache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis 캐시 매니저 앞에 캐시별 opt-in L1 을 붙이는 매니저 ({@link NearCacheProperties}).
+ *
+ * <p>L1 을 켠 캐시는 {@link TwoLevelCache}로, 나머지는 Redis 캐시 그대로 돌려준다. 기존
+ * {@code RedisCacheManager.transactionAware()}와 같은 의미를 지키려고 트랜잭션 데코레이터는 두 계층을
+ * 합친 바깥에 씌운다 — put/evict 가 커밋 이후에 L2·L1·pub/sub 순서로 한꺼번에 일어난다.</p>
+ *
+ * <p>무효화 메시지 형식: {@code 인스턴스ID|E|캐시명|키} (키 삭제) 또는 {@code 인스턴스ID|C|캐시명|} (전체 삭제).
+ * 자기가 보낸 메시지는 이미 로컬 L1 을 지웠으므로 무시한다. 발행 실패는 로그만 남긴다 — L1 TTL 이 상한이다.</p>
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final CacheManager redisCacheManager;
+    private final NearCacheProperties properties;
+    private final StringRedisTemplate publisher;
+    private final boolean transactionAware;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+    private final Map<String, TwoLevelCache> nearCaches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager redisCacheManager, NearCacheProperties properties,
+                                StringRedisTemplate publisher, boolean transactionAware) {
+        this.redisCacheManager = redisCacheManager;
+        this.properties = properties;
+        this.publisher = publisher;
+        this.transactionAware = transactionAware;
+        // 메트릭 바인딩(NearCacheMetrics)이 기동 시점에 모든 L1 을 볼 수 있게 미리 만든다.
+        if (properties.isEnabled()) {
+            properties.getCaches().keySet().forEach(this::getCache);
+        }
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache existing = caches.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        Cache l2 = redisCacheManager.getCache(name);
+        if (l2 == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, ignored -> decorate(name, l2));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return redisCacheManager.getCacheNames();
+    }
+
+    /** L1 이 붙은 캐시들(메트릭·통계용). */
+    public Map<String, TwoLevelCache> nearCaches() {
+        return Map.copyOf(nearCaches);
+    }
+
+    /** 다른 인스턴스가 보낸 무효화 메시지 처리 (RedisConfig 의 리스너 컨테이너가 호출). */
+    public void onInvalidationMessage(String message) {
+        String[] parts = message.split("\\|", 4);
+        if (parts.length < 4 || instanceId.equals(parts[0])) {
+            return;
+        }
+        TwoLevelCache cache = nearCaches.get(parts[2]);
+        if (cache == null) {
+            return;
+        }
+        if ("C".equals(parts[1])) {
+            cache.invalidateAllLocal();
+        } else {
+            cache.invalidateLocal(parts[3]);
+        }
+    }
+
+    void publishEvict(String cacheName, Object key) {
+        publish(instanceId + "|E|" + cacheName + "|" + key);
+    }
+
+    void publishClear(String cacheName) {
+        publish(instanceId + "|C|" + cacheName + "|");
+    }
+
+    private void publish(String message) {
+        try {
+            publisher.convertAndSend(properties.getChannel(), message);
+        } catch (RuntimeException e) {
+            log.warn("near cache 무효화 발행 실패 — 다른 인스턴스 L1 은 TTL 만료까지 이전 값을 볼 수 있음: {}",
+                    e.getMessage());
+        }
+    }
+
+    private Cache decorate(String name, Cache l2) {
+        Cache cache = l2;
+        NearCacheProperties.Spec spec = properties.isEnabled() ? properties.getCaches().get(name) : null;
+        if (spec != null) {
+            TwoLevelCache twoLevel = new TwoLevelCache(l2, Caffeine.newBuilder()
+                    .maximumSize(spec.getMaxSize())
+                    .expireAfterWrite(spec.getTtl())
+                    .recordStats()
+                    .build(), this);
+            nearCaches.put(name, twoLevel);
+            cache = twoLevel;
+        }
+        return transactionAware ? new TransactionAwareCacheDecorator(cache) : cache;
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import com.rich.sodam.domain.type.PlanType;
 import com.rich.sodam.security.UserPrincipal;
 import com.rich.sodam.security.annotation.MasterOnly;
@@ -17,13 +18,12 @@ import com.rich.sodam.security.web.SensitiveDownloadHeaders;
 import com.rich.sodam.service.ExportService;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 
 /**
  * 출퇴근/급여 CSV 내보내기 (PRD_OWNER A35·A45 · A-부가).
  *
- * 한국어 CSV: UTF-8 BOM 포함 (Excel 호환).
+ * 한국어 CSV: UTF-8 BOM 포함 (Excel 호환). 본문은 페이지 단위로 읽는 대로 응답에 스트리밍한다.
  */
 @MasterOnly
 @RestController
@@ -39,43 +39,41 @@ public class ExportController {
             description = "지정 기간의 매장 출퇴근 기록을 CSV 로 내보냅니다. Excel 호환 UTF-8 BOM 포함.")
     @RequirePlan(min = PlanType.PRO) // CSV 내보내기 = PRO 비즈니스 기능
     @GetMapping("/attendance/store/{storeId}.csv")
-    public ResponseEntity<byte[]> exportAttendance(
+    public ResponseEntity<StreamingResponseBody> exportAttendance(
             @AuthenticationPrincipal UserPrincipal principal,
             @PathVariable Long storeId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
         // BOLA 차단: 본인 소유 매장만 CSV 내보내기(타 매장 PII·급여 덤프 방지)
         storeAccessGuard.assertMasterOwnsStore(principal.getId(), storeId);
-        String csv = exportService.buildAttendanceCsv(storeId, from, to);
 
-        byte[] bytes = csv.getBytes(StandardCharsets.UTF_8);
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.parseMediaType("text/csv; charset=utf-8"));
         SensitiveDownloadHeaders.apply(headers);
         headers.setContentDispositionFormData("attachment",
                 String.format("attendance_store_%d_%s_%s.csv", storeId, from, to));
-        return ResponseEntity.ok().headers(headers).body(bytes);
+        return ResponseEntity.ok().headers(headers)
+                .body(out -> exportService.writeAttendanceCsv(storeId, from, to, out));
     }
 
     @Operation(summary = "매장 급여 명세 CSV",
             description = "지정 기간의 매장 발급 급여 명세를 CSV 로 내보냅니다.")
     @RequirePlan(min = PlanType.PRO) // CSV 내보내기 = PRO 비즈니스 기능
     @GetMapping("/payroll/store/{storeId}.csv")
-    public ResponseEntity<byte[]> exportPayroll(
+    public ResponseEntity<StreamingResponseBody> exportPayroll(
             @AuthenticationPrincipal UserPrincipal principal,
             @PathVariable Long storeId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
         // BOLA 차단: 본인 소유 매장만 급여 CSV 내보내기
         storeAccessGuard.assertMasterOwnsStore(principal.getId(), storeId);
-        String csv = exportService.buildPayrollCsv(storeId, from, to);
 
-        byte[] bytes = csv.getBytes(StandardCharsets.UTF_8);
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.parseMediaType("text/csv; charset=utf-8"));
         SensitiveDownloadHeaders.apply(headers);
         headers.setContentDispositionFormData("attachment",
                 String.format("payroll_store_%d_%s_%s.csv", storeId, from, to));
-        return ResponseEntity.ok().headers(headers).body(bytes);
+        return ResponseEntity.ok().headers(headers)
+                .body(out -> exportService.writePayrollCsv(storeId, from, to, out));
     }
 }
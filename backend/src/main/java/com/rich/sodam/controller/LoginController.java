@@ -57,6 +57,7 @@ public class LoginController {
     private final LoginLockoutService loginLockoutService;
     private final WebLoginAccountRateLimiter accountRateLimiter;
     private final PersonalModeService personalModeService;
+    private final AccessTokenRevocationService accessTokenRevocationService;
 
     @Value("${spring.security.oauth2.client.registration.kakao.redirect-uri}")
     private String redirectUrl;
@@ -64,7 +65,7 @@ public class LoginController {
     @Value("${spring.security.oauth2.client.registration.kakao.client-id}")
     private String clientId;
 
-    public LoginController(KakaoAuthService kakaoAuthService, AppleAuthService appleAuthService, JwtTokenProvider jwtTokenProvider, TokenService tokenService, UserService userService, TokenStore redisService, RefreshTokenService refreshTokenService, KakaoOAuthStateService kakaoOAuthStateService, MessageSource messageSource, LocaleResolver localeResolver, LoginLockoutService loginLockoutService, WebLoginAccountRateLimiter accountRateLimiter, PersonalModeService personalModeService) {
+    public LoginController(KakaoAuthService kakaoAuthService, AppleAuthService appleAuthService, JwtTokenProvider jwtTokenProvider, TokenService tokenService, UserService userService, TokenStore redisService, RefreshTokenService refreshTokenService, KakaoOAuthStateService kakaoOAuthStateService, MessageSource messageSource, LocaleResolver localeResolver, LoginLockoutService loginLockoutService, WebLoginAccountRateLimiter accountRateLimiter, PersonalModeService personalModeService, AccessTokenRevocationService accessTokenRevocationService) {
         this.kakaoAuthService = kakaoAuthService;
         this.appleAuthService = appleAuthService;
         this.jwtTokenProvider = jwtTokenProvider;
@@ -78,6 +79,7 @@ public class LoginController {
         this.loginLockoutService = loginLockoutService;
         this.accountRateLimiter = accountRateLimiter;
         this.personalModeService = personalModeService;
+        this.accessTokenRevocationService = accessTokenRevocationService;
     }
 
     @Operation(summary = "카카오 OAuth 인가 시작", description = "단일 사용 state와 PKCE 검증값을 발급합니다.")
@@ -364,7 +366,7 @@ public class LoginController {
 
     /**
      * 로그아웃 — refresh token 무효화 + Redis access 토큰 삭제.
-     * JWT access 토큰 자체는 stateless 라 BE 가 강제 폐기 불가 (짧은 만료 1시간으로 완화).
+     * 이미 발급된 access 토큰은 사용자 단위 폐기 기준 시각으로 거부된다 (다른 인스턴스는 로컬 캐시 TTL 내 반영).
      * FE 는 호출 후 로컬 토큰 clear — BE 호출 실패해도 로컬은 무조건 정리.
      */
     @Operation(summary = "로그아웃", description = "refresh token 을 무효화하고 Redis access 토큰을 삭제합니다.")
@@ -376,6 +378,7 @@ public class LoginController {
                 Long userId = jwtTokenProvider.getUserId(token);
                 userService.findById(userId).ifPresent(refreshTokenService::invalidateUserTokens);
                 redisService.deleteToken(String.valueOf(userId), token);
+                accessTokenRevocationService.revokeAfterCommit(userId);
             }
             return ResponseEntity.ok(ApiResponse.success("로그아웃됐어요."));
         } catch (Exception e) {
@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -62,13 +63,13 @@ public class MyHistoryController {
     @Operation(summary = "내 근무 기록 CSV 내려받기",
             description = "보존기간이 끝나면 기록은 파기되어 되돌릴 수 없습니다. 파기 전 사전 고지에서 안내하는 내려받기 경로입니다.")
     @GetMapping("/attendance.csv")
-    public ResponseEntity<byte[]> downloadMyAttendance(@AuthenticationPrincipal UserPrincipal principal) {
-        byte[] body = myHistoryService.myAttendanceCsv(principal.getId());
+    public ResponseEntity<StreamingResponseBody> downloadMyAttendance(@AuthenticationPrincipal UserPrincipal principal) {
+        Long userId = principal.getId();
 
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.parseMediaType("text/csv; charset=utf-8"));
         SensitiveDownloadHeaders.apply(headers);
         headers.setContentDispositionFormData("attachment", "my_attendance_" + LocalDate.now() + ".csv");
-        return ResponseEntity.ok().headers(headers).body(body);
+        return ResponseEntity.ok().headers(headers).body(out -> myHistoryService.writeMyAttendanceCsv(userId, out));
     }
 }
@@ -12,6 +12,7 @@ import com.rich.sodam.security.UserPrincipal;
 import com.rich.sodam.security.annotation.EmployeeOrMaster;
 import com.rich.sodam.security.annotation.MasterOnly;
 import com.rich.sodam.service.PayrollService;
+import com.rich.sodam.service.PayslipBulkExportService;
 import com.rich.sodam.service.PayrollStoreBatchService;
 import com.rich.sodam.service.PayrollCalculationLockService;
 import com.rich.sodam.service.PayrollHighRiskActionService;
@@ -34,6 +35,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -53,6 +55,7 @@ public class PayrollController {
     private final PayrollHighRiskActionService payrollHighRiskActionService;
     private final PayrollCalculationLockService payrollCalculationLockService;
     private final RequestIdempotencyService requestIdempotencyService;
+    private final PayslipBulkExportService payslipBulkExportService;
 
     private static boolean isMaster(UserPrincipal p) {
         if (p == null || p.getAuthorities() == null) return false;
@@ -333,6 +336,39 @@ public class PayrollController {
                 .body(pdfBytes);
     }
 
+    @Operation(summary = "매장 급여명세서 일괄 다운로드",
+            description = "기간 내 매장 직원 전원의 확정·지급 완료 급여명세서 PDF 를 ZIP 하나로 내려받습니다. "
+                    + "응답은 생성되는 대로 스트리밍됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "ZIP 생성 성공",
+                    content = @Content(mediaType = "application/zip")),
+            @ApiResponse(responseCode = "400", description = "기간 누락·역전 또는 3개월 초과"),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "403", description = "매장 사장 아님")
+    })
+    @MasterOnly
+    @GetMapping("/store/{storeId}/payslips")
+    public ResponseEntity<StreamingResponseBody> downloadStorePayslips(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @Parameter(description = "매장 ID", required = true) @PathVariable Long storeId,
+            @Parameter(description = "조회 시작일 (YYYY-MM-DD)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "조회 종료일 (YYYY-MM-DD), 시작일로부터 최대 3개월", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        guard.assertMasterOwnsStore(principal.getId(), storeId);
+        // 조회는 응답을 쓰기 전에 — 실패하면 ZIP 조각 대신 정상 오류 응답이 나간다.
+        PayslipBulkExportService.StorePayslips payslips = payslipBulkExportService.prepare(storeId, from, to);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("application/zip"));
+        SensitiveDownloadHeaders.apply(headers);
+        headers.setContentDispositionFormData("attachment", "payslips_" + storeId + ".zip");
+
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(out -> payslipBulkExportService.writeZip(payslips, out));
+    }
+
     private void assertCanViewEmployeeInStore(UserPrincipal principal, Long employeeId, Long storeId) {
         if (isMaster(principal)) {
             guard.assertMasterOwnsStore(principal.getId(), storeId);
@@ -19,7 +19,9 @@ import java.time.LocalDateTime;
         @Index(name = "idx_attendance_store_id", columnList = "store_id"),
         @Index(name = "idx_attendance_check_out_time", columnList = "checkOutTime"),
         @Index(name = "idx_attendance_employee_store", columnList = "employee_id, store_id"),
-        @Index(name = "idx_attendance_date_range", columnList = "checkInTime, checkOutTime")
+        @Index(name = "idx_attendance_date_range", columnList = "checkInTime, checkOutTime"),
+        @Index(name = "idx_attendance_store_check_in", columnList = "store_id, checkInTime"),
+        @Index(name = "idx_attendance_employee_check_in", columnList = "employee_id, checkInTime")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
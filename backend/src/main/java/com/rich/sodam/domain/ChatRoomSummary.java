@@ -0,0 +1,68 @@
+package com.rich.sodam.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅방 목록용 참여자별 요약 — 채팅방 1개당 참여자 수(사장·구직자)만큼 2행.
+ *
+ * <p>{@code GET /api/chat-rooms/me} 가 방마다 마지막 메시지·미읽음 수를 따로 세던 것을 대신한다.
+ * 원본은 여전히 {@link ChatMessage}이고, 이 행은 {@link com.rich.sodam.service.ChatRoomService}가
+ * 메시지 저장·읽음 처리와 같은 트랜잭션에서 원자적 UPDATE 로 갱신한다(동시 발신에도 카운터가 유실되지
+ * 않도록 읽고-쓰기를 하지 않는다). 시스템 메시지는 마지막 메시지로는 반영하되 미읽음으로 세지 않는다 —
+ * 기존 {@code sender_user_id <> :viewer} 집계와 같은 기준이다.</p>
+ */
+@Entity
+@Table(name = "chat_room_summary", indexes = {
+        @Index(name = "idx_chat_room_summary_user", columnList = "user_id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uq_chat_room_summary_room_user", columnNames = {"chat_room_id", "user_id"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatRoomSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "chat_room_id", nullable = false)
+    private ChatRoom chatRoom;
+
+    /** 이 요약을 보는 참여자. */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /** {@link #userId} 기준 상대방 — 목록의 차단 필터를 방을 펼치지 않고 판정하기 위해 둔다. */
+    @Column(name = "counterpart_user_id", nullable = false)
+    private Long counterpartUserId;
+
+    @Column(name = "last_message_content", length = 1000)
+    private String lastMessageContent;
+
+    @Column(name = "last_message_at")
+    private LocalDateTime lastMessageAt;
+
+    @Column(name = "unread_count", nullable = false)
+    private int unreadCount;
+
+    private ChatRoomSummary(ChatRoom chatRoom, Long userId, Long counterpartUserId, ChatMessage lastMessage) {
+        this.chatRoom = chatRoom;
+        this.userId = userId;
+        this.counterpartUserId = counterpartUserId;
+        this.lastMessageContent = lastMessage == null ? null : lastMessage.getContent();
+        this.lastMessageAt = lastMessage == null ? null : lastMessage.getSentAt();
+        this.unreadCount = 0;
+    }
+
+    /** 개설 직후 요약 — 개설 안내(시스템 메시지)가 마지막 메시지, 미읽음 0. */
+    public static ChatRoomSummary opened(ChatRoom chatRoom, User viewer, ChatMessage openingMessage) {
+        return new ChatRoomSummary(chatRoom, viewer.getId(), chatRoom.otherParticipant(viewer.getId()).getId(),
+                openingMessage);
+    }
+}
@@ -0,0 +1,44 @@
+package com.rich.sodam.domain;
+
+import com.rich.sodam.domain.type.DomainEventType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 매장·일자·이벤트 종류별 {@link DomainEvent} 건수 — 주간 인사이트용 사전 집계.
+ *
+ * <p>{@link com.rich.sodam.service.DomainEventBuffer}가 원본 이벤트를 INSERT 하는 같은 트랜잭션에서
+ * 누적 UPSERT 로 올린다. 인사이트 조회가 기간 내 원본 이벤트를 전부 읽지 않고 (매장 × 일자 × 종류) 행만
+ * 합산하도록 하기 위함이다. 매장이 없는 이벤트(구독 시작 등)는 집계하지 않는다. 원본은 보존기간이
+ * 지나면 파기되지만 이 행은 건수만 담고 있어 그대로 남는다.</p>
+ */
+@Entity
+@Table(name = "domain_event_daily_count", uniqueConstraints = {
+        @UniqueConstraint(name = "uq_domain_event_daily_count",
+                columnNames = {"store_id", "event_date", "event_type"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DomainEventDailyCount {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+
+    @Column(name = "event_date", nullable = false)
+    private LocalDate eventDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", length = 40, nullable = false)
+    private DomainEventType eventType;
+
+    @Column(name = "event_count", nullable = false)
+    private long eventCount;
+}
@@ -59,6 +59,17 @@ public class ElectronicSignatureOutbox {
         updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * 이 lease 를 잡은 쪽이면 만료를 {@code until}까지 늦춘다. lease 마다 {@code attemptCount}가 오르므로, 잡을 때의
+     * 값과 다르면 만료 뒤 다른 워커가 다시 잡은 것이다 — 그때는 손대지 않고 false.
+     */
+    public boolean renewLease(int leasedAttempt, LocalDateTime until) {
+        if (status != SignatureOutboxStatus.LEASED || attemptCount != leasedAttempt) return false;
+        leaseUntil = until;
+        updatedAt = LocalDateTime.now();
+        return true;
+    }
+
     public void complete() {
         if (status != SignatureOutboxStatus.LEASED) throw new IllegalStateException("lease된 작업이 아닙니다.");
         status = SignatureOutboxStatus.COMPLETED;
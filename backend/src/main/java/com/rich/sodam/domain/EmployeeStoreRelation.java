@@ -48,11 +48,12 @@ public class EmployeeStoreRelation {
     @Column(nullable = false)
     private Long version;
 
-    @ManyToOne
+    /** 지연 로딩 — 함께 읽어야 하면 레포지토리의 fetch join/엔티티 그래프 조회를 쓴다. */
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employee_id")
     private EmployeeProfile employeeProfile;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "store_id")
     private Store store;
 
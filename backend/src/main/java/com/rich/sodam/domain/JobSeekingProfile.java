@@ -1,6 +1,7 @@
 package com.rich.sodam.domain;
 
 import com.rich.sodam.config.converter.JobAvailabilityListConverter;
+import com.rich.sodam.util.GeoGrid;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -27,7 +28,9 @@ import java.util.List;
  */
 @Entity
 @Table(name = "job_seeking_profile", indexes = {
-        @Index(name = "idx_job_seeking_seeking", columnList = "seeking")
+        @Index(name = "idx_job_seeking_seeking", columnList = "seeking"),
+        @Index(name = "idx_job_seeking_location1_cell", columnList = "location1_geo_cell"),
+        @Index(name = "idx_job_seeking_location2_cell", columnList = "location2_geo_cell")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -66,6 +69,13 @@ public class JobSeekingProfile {
     @Column(name = "location2_longitude")
     private Double location2Longitude;
 
+    /** 희망지역1·2 좌표의 격자 셀 번호({@link GeoGrid}) — 매장 반경 매칭 후보 조회용. {@link #updateLocations}가 함께 갱신한다. */
+    @Column(name = "location1_geo_cell")
+    private Integer location1GeoCell;
+
+    @Column(name = "location2_geo_cell")
+    private Integer location2GeoCell;
+
     /** 구직 유형 CSV — {@code SUBSTITUTE}(당일 대타) / {@code REGULAR}(정기), 복수 선택 가능(§2 #9). */
     @Column(name = "seeking_types", length = 50)
     private String seekingTypes;
@@ -131,6 +141,8 @@ public class JobSeekingProfile {
         this.location2Address = address2;
         this.location2Latitude = latitude2;
         this.location2Longitude = longitude2;
+        this.location1GeoCell = GeoGrid.cellOf(latitude1, longitude1);
+        this.location2GeoCell = GeoGrid.cellOf(latitude2, longitude2);
         touch();
     }
 
@@ -1,9 +1,12 @@
 package com.rich.sodam.domain;
 
+import com.rich.sodam.config.entitycache.EntityCacheRegions;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
@@ -12,6 +15,7 @@ import java.time.LocalDateTime;
         // 같은 사업자가 같은 매장을 중복 등록할 이유 없음 — 재시도 시 중복 행 생성 방지(§2.12)
         uniqueConstraints = @UniqueConstraint(name = "uq_master_store_relation",
                 columnNames = {"master_id", "store_id"}))
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.MASTER_STORE_RELATION)
 @Getter
 @Setter
 @NoArgsConstructor
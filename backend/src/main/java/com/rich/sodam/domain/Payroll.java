@@ -13,7 +13,9 @@ import java.time.LocalDateTime;
  * 급여 명세서 엔티티
  */
 @Entity
-@Table(name = "payroll")
+@Table(name = "payroll", indexes = {
+        @Index(name = "idx_payroll_store_start_date", columnList = "store_id, startDate")
+})
 @Getter
 @Setter
 @NoArgsConstructor
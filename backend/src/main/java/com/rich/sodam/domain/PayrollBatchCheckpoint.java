@@ -0,0 +1,159 @@
+package com.rich.sodam.domain;
+
+import com.rich.sodam.domain.type.PayrollBatchShardStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 월별 급여 배치 샤드 진행 체크포인트.
+ *
+ * <p>(정산기간, 샤드 수, 샤드 번호)당 1행. 샤드 안의 매장은 ID 오름차순으로 처리하고, 매장 1곳을
+ * 끝낼 때마다 {@code lastStoreId}를 전진시킨다. 노드가 중간에 죽으면 다음 실행이 이 값 다음 매장부터
+ * 이어서 돌기 때문에 이미 끝난 매장을 처음부터 다시 계산하지 않는다.</p>
+ *
+ * <p>실행 중에는 직원 계산 사이사이 {@link #heartbeat}로 {@code updatedAt}을 갱신해, 매장 1곳이 오래 걸려도
+ * 다른 노드가 죽은 실행으로 오인해 가져가지 않게 한다. 그래도 겹치면 {@code @Version}이 늦게 저장하는 쪽을
+ * 낙관적 락 충돌로 멈춘다.</p>
+ */
+@Entity
+@Table(name = "payroll_batch_checkpoint",
+        uniqueConstraints = @UniqueConstraint(name = "uq_payroll_batch_checkpoint_shard",
+                columnNames = {"period_start", "period_end", "shard_count", "shard_index"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PayrollBatchCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "period_end", nullable = false)
+    private LocalDate periodEnd;
+
+    @Column(name = "shard_count", nullable = false)
+    private int shardCount;
+
+    @Column(name = "shard_index", nullable = false)
+    private int shardIndex;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 30)
+    private PayrollBatchShardStatus status;
+
+    /** 마지막으로 끝까지 처리한 매장 ID. 아직 한 곳도 끝내지 못했으면 NULL. */
+    @Column(name = "last_store_id")
+    private Long lastStoreId;
+
+    /** 누적 계산 성공 직원 수(이어받은 실행 포함). */
+    @Column(name = "processed_count", nullable = false)
+    private int processedCount;
+
+    /** 누적 계산 실패 직원 수(이어받은 실행 포함, 재시도를 시작하면 0 부터 다시 센다). */
+    @Column(name = "failed_count", nullable = false)
+    private int failedCount;
+
+    /** 실패 직원 때문에 샤드를 처음부터 다시 훑은 횟수 — 상한에 닿으면 더 재시도하지 않는다. */
+    @Column(name = "retry_count", nullable = false)
+    private int retryCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /** 마지막 진행 시각 — 오래 멈춰 있으면 실행 노드가 죽은 것으로 보고 이어받는다. */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public PayrollBatchCheckpoint(LocalDate periodStart, LocalDate periodEnd, int shardCount, int shardIndex) {
+        this.periodStart = periodStart;
+        this.periodEnd = periodEnd;
+        this.shardCount = shardCount;
+        this.shardIndex = shardIndex;
+        this.status = PayrollBatchShardStatus.IN_PROGRESS;
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    /** 더 돌 일이 없는 샤드 — 전원 성공했거나, 재시도 상한까지 돌고 실패 직원만 남았다. */
+    public boolean isCompleted() {
+        return status == PayrollBatchShardStatus.COMPLETED
+                || status == PayrollBatchShardStatus.COMPLETED_WITH_FAILURES;
+    }
+
+    public boolean isCompletedWithFailures() {
+        return status == PayrollBatchShardStatus.COMPLETED_WITH_FAILURES;
+    }
+
+    public boolean isRetryPending() {
+        return status == PayrollBatchShardStatus.RETRY_PENDING;
+    }
+
+    /** 살아 있는 다른 실행이 쥐고 있는 샤드인지 — 최근 진행 기록이 있는 IN_PROGRESS 면 건드리지 않는다. */
+    public boolean isHeldByLiveRun(LocalDateTime now, int staleAfterMinutes) {
+        return status == PayrollBatchShardStatus.IN_PROGRESS && updatedAt.isAfter(now.minusMinutes(staleAfterMinutes));
+    }
+
+    /** 매장 1곳을 끝까지 처리했음을 기록한다. */
+    public void advance(Long storeId, int processed, int failed) {
+        this.lastStoreId = storeId;
+        this.processedCount += processed;
+        this.failedCount += failed;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /** 실행을 시작(또는 이어받기)했음을 기록해 다른 노드가 같은 샤드를 잡지 않게 한다. */
+    public void touch() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 마지막 갱신 후 {@code interval}이 지났으면 진행 시각만 갱신한다.
+     *
+     * @return 갱신했으면 true — 호출측이 저장해야 한다
+     */
+    public boolean heartbeat(LocalDateTime now, Duration interval) {
+        if (updatedAt.isAfter(now.minus(interval))) {
+            return false;
+        }
+        this.updatedAt = now;
+        return true;
+    }
+
+    /** RETRY_PENDING 샤드를 처음 매장부터 다시 훑는다. 이미 계산된 직원은 엔진이 건너뛴다. */
+    public void retry() {
+        this.retryCount++;
+        this.status = PayrollBatchShardStatus.IN_PROGRESS;
+        this.lastStoreId = null;
+        this.failedCount = 0;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 샤드의 모든 매장을 한 바퀴 돌았다. 실패가 남았으면 다음 실행이 다시 훑도록 RETRY_PENDING 으로 두되,
+     * 이미 {@code maxRetries}번 다시 훑었으면 COMPLETED_WITH_FAILURES 로 닫는다 — 직원 1명의 고정 실패(데이터
+     * 오류 등)로 30분마다 샤드 전체를 다시 훑는 일을 막는다. 남은 실패는 수동 계산으로 처리한다.
+     */
+    public void finish(int maxRetries) {
+        if (failedCount > 0 && retryCount < maxRetries) {
+            this.status = PayrollBatchShardStatus.RETRY_PENDING;
+            this.lastStoreId = null;
+        } else if (failedCount > 0) {
+            this.status = PayrollBatchShardStatus.COMPLETED_WITH_FAILURES;
+        } else {
+            this.status = PayrollBatchShardStatus.COMPLETED;
+        }
+        this.updatedAt = LocalDateTime.now();
+    }
+}
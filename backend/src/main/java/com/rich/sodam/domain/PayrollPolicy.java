@@ -1,16 +1,20 @@
 package com.rich.sodam.domain;
 
+import com.rich.sodam.config.entitycache.EntityCacheRegions;
 import com.rich.sodam.domain.type.TaxPolicyType;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 @Entity
 @Table(name = "payroll_policy")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.PAYROLL_POLICY)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,9 +1,12 @@
 package com.rich.sodam.domain;
 
+import com.rich.sodam.config.entitycache.EntityCacheRegions;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
@@ -12,6 +15,7 @@ import java.time.LocalDateTime;
  * 국가정책 관련 정보를 저장하는 엔티티입니다.
  */
 @Entity(name = "policy_info")
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = EntityCacheRegions.POLICY_INFO)
 @Getter
 @Setter
 @NoArgsConstructor
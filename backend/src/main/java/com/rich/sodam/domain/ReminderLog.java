@@ -40,7 +40,8 @@ public class ReminderLog {
 
     /**
      * 리마인더 참조 ID — 같은 날 같은 매장에서 대상별(예: 시프트별 지각 감지)로 따로 발송해야
-     * 하는 룰의 멱등키 확장. SHIFT_LATE = work_shift_id. 기존 룰(매출/급여일/주간리포트)은 NULL.
+     * 하는 룰의 멱등키 확장. SHIFT_LATE = work_shift_id, 출퇴근 누락 = employee_profile_id.
+     * 기존 룰(매출/급여일/주간리포트)은 NULL.
      */
     @Column(name = "ref_id")
     private Long refId;
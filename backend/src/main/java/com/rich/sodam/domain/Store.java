@@ -3,11 +3,15 @@ package com.rich.sodam.domain;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.rich.sodam.config.crypto.PiiSearchHashSupport;
 import com.rich.sodam.config.crypto.StringCryptoConverter;
+import com.rich.sodam.config.entitycache.EntityCacheRegions;
+import com.rich.sodam.util.GeoGrid;
 import com.rich.sodam.util.GeoUtils;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
@@ -25,11 +29,14 @@ import java.util.UUID;
         @Index(name = "idx_store_code", columnList = "storeCode"),
         @Index(name = "idx_store_name", columnList = "storeName"),
         @Index(name = "idx_store_location", columnList = "latitude, longitude"),
+        @Index(name = "idx_store_geo_cell", columnList = "geo_cell"),
         @Index(name = "idx_store_created_at", columnList = "createdAt"),
         @Index(name = "idx_store_updated_at", columnList = "updatedAt"),
         @Index(name = "idx_store_is_deleted", columnList = "is_deleted"),
-        @Index(name = "idx_store_deleted_at", columnList = "deleted_at")
+        @Index(name = "idx_store_deleted_at", columnList = "deleted_at"),
+        @Index(name = "idx_store_pay_day", columnList = "pay_day_day, pay_day_last_day")
 })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.STORE)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Store {
@@ -84,6 +91,10 @@ public class Store {
     private Double latitude;       // 위도
     private Double longitude;      // 경도
 
+    /** 위경도 격자 셀 번호({@link GeoGrid}) — 구인 공고 반경 매칭 후보 조회용. 좌표 setter 가 함께 갱신한다. */
+    @Column(name = "geo_cell")
+    private Integer geoCell;
+
     @Column(nullable = false)
     private Integer radius;  // 출퇴근 인증 반경(미터)
 
@@ -344,11 +355,13 @@ public class Store {
     // 필요한 setter 메서드들 (캡슐화를 위해 개별적으로 제공)
     public void setLatitude(Double latitude) {
         this.latitude = latitude;
+        this.geoCell = GeoGrid.cellOf(this.latitude, this.longitude);
         this.updatedAt = LocalDateTime.now();
     }
 
     public void setLongitude(Double longitude) {
         this.longitude = longitude;
+        this.geoCell = GeoGrid.cellOf(this.latitude, this.longitude);
         this.updatedAt = LocalDateTime.now();
     }
 
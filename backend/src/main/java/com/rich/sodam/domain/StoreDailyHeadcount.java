@@ -0,0 +1,37 @@
+package com.rich.sodam.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 매장 × 일자별 출근 직원 수(distinct) — 근로기준법 시행령 §7의2 상시근로자 참고 산정용.
+ *
+ * <p>연인원은 이 값의 합, 가동일수는 값이 0보다 큰 일자 수다. 출근·대리등록·정정 승인 커밋 후 그 일자를
+ * 원본 출근 기록에서 다시 세어 덮어쓰고({@link com.rich.sodam.service.StoreDailyHeadcountService}),
+ * 매일 새벽 최근 구간을 다시 계산해 어긋난 값을 바로잡는다. 일자는 출근시각 기준이다.</p>
+ */
+@Entity
+@Table(name = "store_daily_headcount", uniqueConstraints = {
+        @UniqueConstraint(name = "uq_store_daily_headcount", columnNames = {"store_id", "work_date"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoreDailyHeadcount {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+
+    @Column(name = "work_date", nullable = false)
+    private LocalDate workDate;
+
+    @Column(name = "worker_count", nullable = false)
+    private int workerCount;
+}
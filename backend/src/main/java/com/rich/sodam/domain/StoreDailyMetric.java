@@ -0,0 +1,43 @@
+package com.rich.sodam.domain;
+
+import com.rich.sodam.domain.type.StoreDailyMetricType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 매장 × 일자 × 지표 사전 집계 — 사장님 대시보드 당월 누계용.
+ *
+ * <p>대시보드가 조회마다 매장의 전체 급여 이력을 읽어 합산하던 것을 대신한다. 급여를 저장하는 트랜잭션이
+ * 변경분(이전 값 → 새 값의 차이)을 누적 UPSERT 로 더하고({@link com.rich.sodam.service.StoreDailyMetricService}),
+ * 매일 새벽 최근 구간을 원본에서 다시 계산해 어긋난 값을 바로잡는다.</p>
+ */
+@Entity
+@Table(name = "store_daily_metric", uniqueConstraints = {
+        @UniqueConstraint(name = "uq_store_daily_metric",
+                columnNames = {"store_id", "metric_date", "metric"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoreDailyMetric {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+
+    @Column(name = "metric_date", nullable = false)
+    private LocalDate metricDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metric", length = 40, nullable = false)
+    private StoreDailyMetricType metric;
+
+    @Column(name = "metric_value", nullable = false)
+    private double metricValue;
+}
@@ -0,0 +1,62 @@
+package com.rich.sodam.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 주기 배치용 매장 시각 인덱스 — 매장의 요일별 오픈·마감 시각을 "주 단위 분"(월요일 00:00 = 0)으로 펼친 행.
+ *
+ * <p>10·15분 주기 배치가 매 틱마다 전체 매장을 읽지 않고 "이번 윈도에 오픈/마감이 걸친 매장"만
+ * {@code (slot_type, minute_of_week)} 인덱스 범위 조회로 고르기 위한 것이다. 운영시간 원본은 여전히
+ * {@link OperatingHours}이고, 이 테이블은 {@link com.rich.sodam.service.StoreDueSlotIndex}가 매장
+ * 저장 시점에 다시 만든다(어긋남은 야간 재구축이 바로잡는다).</p>
+ */
+@Entity
+@Table(name = "store_due_slot", indexes = {
+        @Index(name = "idx_store_due_slot_window", columnList = "slot_type, minute_of_week"),
+        @Index(name = "idx_store_due_slot_store", columnList = "store_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoreDueSlot {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+
+    public enum Type { OPEN, CLOSE }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "slot_type", nullable = false, length = 10)
+    private Type slotType;
+
+    /** 월요일 00:00 기준 경과 분(0 ~ 10079). */
+    @Column(name = "minute_of_week", nullable = false)
+    private int minuteOfWeek;
+
+    public StoreDueSlot(Long storeId, Type slotType, DayOfWeek dayOfWeek, LocalTime time) {
+        this.storeId = storeId;
+        this.slotType = slotType;
+        this.minuteOfWeek = minuteOfWeek(dayOfWeek, time);
+    }
+
+    public static int minuteOfWeek(DayOfWeek dayOfWeek, LocalTime time) {
+        return (dayOfWeek.getValue() - 1) * MINUTES_PER_DAY + time.getHour() * 60 + time.getMinute();
+    }
+
+    public static int minuteOfWeek(LocalDateTime dateTime) {
+        return minuteOfWeek(dateTime.getDayOfWeek(), dateTime.toLocalTime());
+    }
+}
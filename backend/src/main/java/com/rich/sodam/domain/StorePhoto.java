@@ -33,6 +33,10 @@ public class StorePhoto {
     @Column(nullable = false, length = 300)
     private String storageKey;
 
+    /** 목록용 썸네일 key — 본 이미지 key 옆 {@code _thumb} 객체. 썸네일 도입 전 사진은 null */
+    @Column(length = 300)
+    private String thumbnailKey;
+
     /** 공개 URL (서명된 URL 또는 정적) — mock 시 placeholder */
     @Column(nullable = false, length = 500)
     private String publicUrl;
@@ -48,11 +52,12 @@ public class StorePhoto {
     @Column(nullable = false)
     private LocalDateTime uploadedAt;
 
-    public static StorePhoto of(Store store, String storageKey, String publicUrl,
+    public static StorePhoto of(Store store, String storageKey, String thumbnailKey, String publicUrl,
                                 int order, String contentType, long sizeBytes) {
         StorePhoto p = new StorePhoto();
         p.store = store;
         p.storageKey = storageKey;
+        p.thumbnailKey = thumbnailKey;
         p.publicUrl = publicUrl;
         p.displayOrder = order;
         p.contentType = contentType;
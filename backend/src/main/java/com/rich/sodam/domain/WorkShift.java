@@ -18,7 +18,8 @@ import java.time.LocalTime;
 @Entity
 @Table(name = "work_shift", indexes = {
         @Index(name = "idx_work_shift_store_date", columnList = "store_id, shift_date"),
-        @Index(name = "idx_work_shift_emp_date", columnList = "employee_id, shift_date")
+        @Index(name = "idx_work_shift_emp_date", columnList = "employee_id, shift_date"),
+        @Index(name = "idx_work_shift_date_start", columnList = "shift_date, start_time")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
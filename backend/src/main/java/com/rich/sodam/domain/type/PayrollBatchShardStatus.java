@@ -0,0 +1,7 @@
+package com.rich.sodam.domain.type;
+
+/**
+ * 급여 배치 샤드 상태. RETRY_PENDING 은 한 바퀴를 끝냈지만 실패 직원이 남아 다음 실행이 다시 훑는 샤드,
+ * COMPLETED_WITH_FAILURES 는 재시도 상한까지 돌고도 실패 직원이 남아 더는 자동으로 훑지 않는 샤드다.
+ */
+public enum PayrollBatchShardStatus { IN_PROGRESS, COMPLETED, RETRY_PENDING, COMPLETED_WITH_FAILURES }
@@ -1,7 +1,8 @@
 package com.rich.sodam.domain.type;
 
 /**
- * 사장 리마인더 배치 유형 ({@link com.rich.sodam.service.OwnerReminderScheduler}).
+ * 리마인더 배치 유형 ({@link com.rich.sodam.service.OwnerReminderScheduler},
+ * {@link com.rich.sodam.service.AttendanceMissingScheduler}).
  */
 public enum ReminderType {
     /** 마감 30분 전 — 오늘 매출 입력 알림. */
@@ -13,5 +14,9 @@ public enum ReminderType {
     /** 주간 리포트(월요일 오전) 알림. */
     WEEKLY_REPORT,
     /** 지각·미출근 감지 — 시프트 시작 +10분 경과에도 출근 기록 없음(ref_id = work_shift_id). */
-    SHIFT_LATE
+    SHIFT_LATE,
+    /** 출근 누락 — 오픈 +30분 경과에도 출근 기록 없음(ref_id = employee_profile_id, target_date = 영업일). */
+    ATTENDANCE_CHECK_IN_MISSING,
+    /** 퇴근 누락 — 마감 +60분 경과에도 체크아웃 없음(ref_id = employee_profile_id, target_date = 영업일). */
+    ATTENDANCE_CHECK_OUT_MISSING
 }
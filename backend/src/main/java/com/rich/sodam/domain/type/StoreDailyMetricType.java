@@ -0,0 +1,16 @@
+package com.rich.sodam.domain.type;
+
+/**
+ * 매장 일자별 사전 집계({@code store_daily_metric}) 지표 종류.
+ *
+ * <p>급여 지표는 급여 기간 시작일(startDate)을 일자로 삼는다 — 대시보드 당월 누계가 "시작일이 이번 달인
+ * 급여"를 합산하던 기존 기준과 같다.</p>
+ */
+public enum StoreDailyMetricType {
+    /** 세전 지급총액(원). */
+    PAYROLL_GROSS,
+    /** 실수령액(원). */
+    PAYROLL_NET,
+    /** 기본·연장·야간 근무 시간 합계. */
+    PAYROLL_HOURS
+}
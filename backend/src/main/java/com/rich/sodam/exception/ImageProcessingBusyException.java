@@ -0,0 +1,11 @@
+package com.rich.sodam.exception;
+
+/**
+ * 이미지 변환 대기열이 가득 차 정해진 시간 안에 자리를 얻지 못했을 때. 잠시 뒤 다시 시도하면 되는 일시적 상태라 503 으로 응답한다.
+ */
+public class ImageProcessingBusyException extends RuntimeException {
+
+    public ImageProcessingBusyException() {
+        super("사진을 처리하는 요청이 많아요. 잠시 후 다시 시도해 주세요.");
+    }
+}
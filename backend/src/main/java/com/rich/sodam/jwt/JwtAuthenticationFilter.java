@@ -1,10 +1,12 @@
 package com.rich.sodam.jwt;
 
+import com.rich.sodam.exception.InvalidTokenException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -42,28 +44,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // 요청에서 토큰 추출 (resolveToken에서 이미 "Bearer " 접두사 제거됨)
             String token = jwtTokenProvider.resolveToken(request);
 
-            // 토큰 유효성 검사 및 인증 처리
-            if (token != null && jwtTokenProvider.validateToken(token)) {
-                log.debug("유효한 JWT 토큰 발견");
-
+            if (token != null) {
                 // 현재 SecurityContext에 인증 정보가 없는 경우에만 처리
                 if (SecurityContextHolder.getContext().getAuthentication() == null) {
-                    // JWT 토큰에서 인증 정보 추출 및 SecurityContext에 설정
-                    org.springframework.security.core.Authentication authentication =
-                            jwtTokenProvider.getAuthentication(token);
-
+                    // 서명·만료·폐기 검증과 principal 구성을 토큰 파싱 한 번으로 처리한다.
+                    // 무효 토큰은 InvalidTokenException 으로 아래에서 401 표식을 남긴다.
+                    Authentication authentication = jwtTokenProvider.getAuthentication(token);
                     SecurityContextHolder.getContext().setAuthentication(authentication);
-
-                    Long userId = jwtTokenProvider.getUserId(token);
-                    log.debug("JWT 인증 완료 - 사용자 ID: {}", userId);
+                    log.debug("JWT 인증 완료 - 사용자 ID: {}", authentication.getName());
                 } else {
                     log.debug("이미 인증된 사용자입니다.");
                 }
-            } else if (token != null) {
-                // 토큰은 있으나 만료/무효 → EntryPoint(401)가 사유 메시지를 쓰도록 표식을 남긴다.
-                log.debug("JWT 토큰이 만료되었거나 유효하지 않습니다.");
-                request.setAttribute(JwtProperties.HEADER_STRING, "토큰이 만료되었거나 유효하지 않습니다.");
             }
+        } catch (InvalidTokenException e) {
+            // 토큰은 있으나 만료/무효/폐기 → EntryPoint(401)가 사유 메시지를 쓰도록 표식을 남긴다.
+            log.debug("JWT 토큰이 만료되었거나 유효하지 않습니다.");
+            SecurityContextHolder.clearContext();
+            request.setAttribute(JwtProperties.HEADER_STRING, "토큰이 만료되었거나 유효하지 않습니다.");
         } catch (Exception e) {
             log.error("JWT 인증 처리 중 오류 발생: {}", e.getClass().getSimpleName());
             // 인증 실패 시 SecurityContext 초기화
@@ -2,40 +2,65 @@ package com.rich.sodam.jwt;
 
 import com.rich.sodam.domain.User;
 import com.rich.sodam.exception.InvalidTokenException;
+import com.rich.sodam.security.UserPrincipal;
+import com.rich.sodam.service.AccessTokenCutoff;
+import com.rich.sodam.service.AccessTokenRevocationService;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.security.Key;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
  * JWT 토큰 생성 및 검증을 처리하는 유틸리티 클래스
+ *
+ * <p>무상태 모드({@code jwt.stateless-principal}, 기본 켜짐)에서는 서명 검증된 클레임(id·email·userGrade)으로
+ * {@link UserPrincipal}을 바로 만든다 — 요청마다 나가던 이메일(암호화 컬럼) 사용자 조회가 없다. 대신
+ * {@link AccessTokenRevocationService}의 사용자별 기준 시각으로 로그아웃·탈퇴 토큰을 거부하고, 등급이 바뀐
+ * 뒤의 옛 토큰만 DB 에서 principal 을 다시 읽는다.</p>
  */
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
+    /** 발급 시각(ms). 표준 iat 는 초 단위라 같은 초 안의 로그아웃→재로그인을 구분하지 못한다. */
+    private static final String ISSUED_AT_MILLIS_CLAIM = "iatMs";
+
     private final UserDetailsService userDetailsService;
+    private final AccessTokenRevocationService accessTokenRevocationService;
     @Value("${jwt.secret}")
     private String secretKey;
     @Value("${jwt.token-validity-in-seconds}")
     private long tokenValidityInSeconds;
+    @Value("${jwt.stateless-principal:true}")
+    private boolean statelessPrincipal;
     private Key key;
 
+    /** 매 요청 DB 조회, 폐기 검사 없음 (이전 동작 — 단위 테스트·수동 조립용). */
     public JwtTokenProvider(UserDetailsService userDetailsService) {
+        this(userDetailsService, null);
+    }
+
+    @Autowired
+    public JwtTokenProvider(UserDetailsService userDetailsService,
+                            AccessTokenRevocationService accessTokenRevocationService) {
         this.userDetailsService = userDetailsService;
+        this.accessTokenRevocationService = accessTokenRevocationService;
     }
 
     @PostConstruct
@@ -57,6 +82,7 @@ public class JwtTokenProvider {
         claims.put("userGrade", user.getUserGrade().getValue());
 
         long now = System.currentTimeMillis();
+        claims.put(ISSUED_AT_MILLIS_CLAIM, now);
         Date validity = new Date(now + tokenValidityInSeconds * 1000);
 
         return Jwts.builder().claims(claims).subject(user.getEmail()).issuedAt(new Date(now)).expiration(validity)
@@ -65,19 +91,56 @@ public class JwtTokenProvider {
     }
 
     /**
-     * JWT 토큰에서 사용자 인증 정보를 추출합니다.
+     * JWT 토큰에서 사용자 인증 정보를 추출합니다. 토큰은 한 번만 파싱합니다.
      *
      * @param token JWT 토큰
      * @return 사용자 인증 객체
+     * @throws InvalidTokenException 토큰이 유효하지 않거나 폐기된 경우
      */
     public Authentication getAuthentication(String token) {
         Claims claims = extractClaims(token);
-        String userEmail = claims.getSubject();
+        Long userId = claims.get("id", Long.class);
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
+        AccessTokenCutoff cutoff = cutoff(userId);
+        long issuedAtMillis = issuedAtMillis(claims);
+        if (cutoff.revokes(issuedAtMillis)) {
+            throw new InvalidTokenException("폐기된 토큰입니다.");
+        }
+
+        UserDetails userDetails = statelessPrincipal && !cutoff.claimsStale(issuedAtMillis)
+                ? principalFromClaims(userId, claims)
+                : null;
+        if (userDetails == null) {
+            userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+        }
         return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
     }
 
+    private AccessTokenCutoff cutoff(Long userId) {
+        return accessTokenRevocationService == null || userId == null
+                ? AccessTokenCutoff.NONE
+                : accessTokenRevocationService.cutoff(userId);
+    }
+
+    /** id·userGrade 클레임이 없는(형식이 다른) 토큰은 null — DB 조회로 넘긴다. */
+    private UserPrincipal principalFromClaims(Long userId, Claims claims) {
+        String userGrade = claims.get("userGrade", String.class);
+        if (userId == null || userGrade == null) {
+            return null;
+        }
+        return new UserPrincipal(userId, claims.getSubject(),
+                Collections.singletonList(new SimpleGrantedAuthority(userGrade)));
+    }
+
+    private static long issuedAtMillis(Claims claims) {
+        Long millis = claims.get(ISSUED_AT_MILLIS_CLAIM, Long.class);
+        if (millis != null) {
+            return millis;
+        }
+        Date issuedAt = claims.getIssuedAt();
+        return issuedAt == null ? 0L : issuedAt.getTime();
+    }
+
     /**
      * JWT 토큰에서 사용자 ID를 추출합니다.
      *
@@ -90,14 +153,19 @@ public class JwtTokenProvider {
     }
 
     /**
-     * JWT 토큰의 유효성을 검증합니다.
+     * JWT 토큰의 유효성을 검증합니다. 서명·만료에 더해 로그아웃·탈퇴로 폐기된 토큰도 거부한다 — 필터를 거치지
+     * 않고 토큰을 직접 검증하는 곳(STOMP CONNECT, 로그인 컨트롤러의 /me 등)도 같은 기준을 쓴다.
      *
      * @param token JWT 토큰
      * @return 유효성 여부
      */
     public boolean validateToken(String token) {
         try {
-            extractClaims(token);
+            Claims claims = extractClaims(token);
+            if (cutoff(claims.get("id", Long.class)).revokes(issuedAtMillis(claims))) {
+                log.warn("Invalid JWT token: revoked");
+                return false;
+            }
             return true;
         } catch (JwtException | IllegalArgumentException | InvalidTokenException e) {
             // extractClaims 는 JWT 예외를 InvalidTokenException 으로 변환해 던지므로 함께 잡아야
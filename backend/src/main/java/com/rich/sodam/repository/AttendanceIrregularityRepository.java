@@ -6,6 +6,7 @@ import com.rich.sodam.domain.type.AttendanceIrregularityType;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,4 +26,9 @@ public interface AttendanceIrregularityRepository extends JpaRepository<Attendan
     /** 정산 반영용 — WAIVED(공제 없이 처리) 건의 미근무시간을 자동 공제 계산에서 제외하기 위한 조회. */
     List<AttendanceIrregularity> findByEmployeeIdAndStoreIdAndShiftDateBetweenAndResolution(
             Long employeeId, Long storeId, LocalDate from, LocalDate to, AttendanceIrregularityResolution resolution);
+
+    /** 매장 급여 계산 컨텍스트용 — 여러 직원의 WAIVED 건을 한 번에 조회. */
+    List<AttendanceIrregularity> findByStoreIdAndEmployeeIdInAndShiftDateBetweenAndResolution(
+            Long storeId, Collection<Long> employeeIds, LocalDate from, LocalDate to,
+            AttendanceIrregularityResolution resolution);
 }
@@ -11,6 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -19,6 +20,9 @@ import java.util.List;
  */
 public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
 
+    /** 키셋 첫 페이지 커서 — 어떤 출근시각보다도 뒤(MySQL DATETIME 상한). */
+    LocalDateTime EXPORT_CURSOR_START = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
     /**
      * 특정 직원의 특정 기간 출퇴근 기록 조회
      * 최신 기록 순으로 정렬
@@ -94,6 +98,24 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate);
 
+    /**
+     * 매장 급여 계산 컨텍스트용 — 여러 직원의 매장 내 기간 출퇴근 기록을 한 번에 조회 (Fetch Join).
+     * 정렬은 단건 조회({@link #findByEmployeeIdAndStoreIdAndPeriodWithDetails})와 같은 최신순이라
+     * 직원별로 나눠도 직원 단위 조회 결과와 순서가 같다.
+     */
+    @Query("SELECT a FROM Attendance a " +
+            "JOIN FETCH a.employeeProfile " +
+            "JOIN FETCH a.store " +
+            "WHERE a.employeeProfile.id IN :employeeIds " +
+            "AND a.store.id = :storeId " +
+            "AND a.checkInTime BETWEEN :startDate AND :endDate " +
+            "ORDER BY a.checkInTime DESC")
+    List<Attendance> findByEmployeeIdsAndStoreIdAndPeriodWithDetails(
+            @Param("employeeIds") Collection<Long> employeeIds,
+            @Param("storeId") Long storeId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate);
+
     /**
      * 직원 ID로 특정 기간의 출퇴근 기록 조회 (Fetch Join 사용)
      * 최신 기록 순으로 정렬하며, N+1 쿼리 문제를 방지합니다.
@@ -132,6 +154,9 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
      * <p>재입사(같은 매장에 활성 관계가 다시 생긴 경우)는 {@code NOT EXISTS}로 제외한다 — 과거 퇴사
      * 이력만 보고 현직자의 기록을 파기 대상으로 잡으면 안 된다. 같은 매장에 비활성 관계가 여러 건이면
      * {@code MAX}로 가장 늦은 종료일을 취해 보수적으로 판정한다.</p>
+     *
+     * <p>{@code afterId}보다 큰 ID만 ID 순으로 읽는다 — 보존 스캔이 마지막 ID를 커서로 넘기며 페이지를 잇는다.
+     * 이미 {@code tableName}으로 파기 스케줄에 오른 기록은 빼므로, 매일 밤 스캔은 새로 만료된 기록만 돌려준다.</p>
      */
     @Query("SELECT a.id, MAX(r.deactivatedAt) FROM Attendance a, EmployeeStoreRelation r " +
             "WHERE r.employeeProfile.id = a.employeeProfile.id AND r.store.id = a.store.id " +
@@ -139,8 +164,12 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
             "AND NOT EXISTS (SELECT 1 FROM EmployeeStoreRelation r2 " +
             "  WHERE r2.employeeProfile.id = a.employeeProfile.id AND r2.store.id = a.store.id " +
             "  AND r2.isActive = true) " +
+            "AND a.id > :afterId " +
+            "AND NOT EXISTS (SELECT 1 FROM RetentionPurgeSchedule s WHERE s.tableName = :tableName AND s.entityId = a.id) " +
             "GROUP BY a.id ORDER BY a.id")
-    List<Object[]> findExpiredAfterEmploymentEnded(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+    List<Object[]> findExpiredAfterEmploymentEnded(@Param("tableName") String tableName,
+                                                   @Param("cutoff") LocalDateTime cutoff,
+                                                   @Param("afterId") Long afterId, Pageable pageable);
 
     /**
      * 본인 근무 이력 조회 — 소속 매장을 가리지 않고 <b>이 사용자의 기록 전부</b>를 최신순으로 반환한다.
@@ -152,8 +181,46 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
     @EntityGraph(attributePaths = {"store"})
     Page<Attendance> findByEmployeeProfile_IdOrderByCheckInTimeDesc(Long employeeId, Pageable pageable);
 
-    /** 본인 근무 이력 전체(다운로드용) — 페이징 없이 최신순. */
+    /**
+     * 본인 근무 이력 CSV 키셋 페이지 — 최신순으로 (출근시각, ID) 커서보다 앞선 기록을 {@code limit} 건 읽는다.
+     * 첫 페이지는 {@link #EXPORT_CURSOR_START} 와 {@code Long.MAX_VALUE} 를 넘긴다.
+     * 본인 스코프 조회라 호출부는 반드시 JWT 의 userId 를 넘긴다.
+     */
     @EntityGraph(attributePaths = {"store"})
-    List<Attendance> findByEmployeeProfile_IdOrderByCheckInTimeDesc(Long employeeId);
+    @Query("SELECT a FROM Attendance a WHERE a.employeeProfile.id = :employeeId " +
+            "AND (a.checkInTime < :cursorTime OR (a.checkInTime = :cursorTime AND a.id < :cursorId)) " +
+            "ORDER BY a.checkInTime DESC, a.id DESC")
+    List<Attendance> findEmployeeExportPage(@Param("employeeId") Long employeeId,
+                                            @Param("cursorTime") LocalDateTime cursorTime,
+                                            @Param("cursorId") Long cursorId,
+                                            Pageable limit);
 
+    /**
+     * 매장 출퇴근 CSV 키셋 페이지 — 기간 내 기록을 최신순으로 (출근시각, ID) 커서보다 앞선 것부터 {@code limit} 건.
+     * 오프셋 페이징과 달리 뒤 페이지로 갈수록 느려지지 않는다.
+     */
+    @EntityGraph(attributePaths = {"employeeProfile", "employeeProfile.user"})
+    @Query("SELECT a FROM Attendance a WHERE a.store.id = :storeId " +
+            "AND a.checkInTime BETWEEN :start AND :end " +
+            "AND (a.checkInTime < :cursorTime OR (a.checkInTime = :cursorTime AND a.id < :cursorId)) " +
+            "ORDER BY a.checkInTime DESC, a.id DESC")
+    List<Attendance> findStoreExportPage(@Param("storeId") Long storeId,
+                                         @Param("start") LocalDateTime start,
+                                         @Param("end") LocalDateTime end,
+                                         @Param("cursorTime") LocalDateTime cursorTime,
+                                         @Param("cursorId") Long cursorId,
+                                         Pageable limit);
+
+    /** 한 매장에서 출근시각이 [start, end) 인 직원 수(distinct) — 일자별 상시근로자 집계 갱신용. */
+    @Query("SELECT COUNT(DISTINCT a.employeeProfile.id) FROM Attendance a " +
+            "WHERE a.store.id = :storeId AND a.checkInTime >= :start AND a.checkInTime < :end")
+    long countDistinctEmployeesByStoreAndCheckInBetween(@Param("storeId") Long storeId,
+                                                        @Param("start") LocalDateTime start,
+                                                        @Param("end") LocalDateTime end);
+
+    /** 출근시각이 [start, end) 인 매장별 직원 수(distinct) — [0]=storeId(Long), [1]=직원 수(Long). */
+    @Query("SELECT a.store.id, COUNT(DISTINCT a.employeeProfile.id) FROM Attendance a " +
+            "WHERE a.checkInTime >= :start AND a.checkInTime < :end GROUP BY a.store.id")
+    List<Object[]> countDistinctEmployeesPerStoreByCheckInBetween(@Param("start") LocalDateTime start,
+                                                                  @Param("end") LocalDateTime end);
 }
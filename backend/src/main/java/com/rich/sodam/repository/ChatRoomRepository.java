@@ -4,7 +4,6 @@ import com.rich.sodam.domain.ChatRoom;
 import com.rich.sodam.domain.type.ChatSourceType;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -19,7 +18,4 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     boolean existsBySourceTypeAndSourceId(ChatSourceType sourceType, Long sourceId);
 
     Optional<ChatRoom> findBySourceTypeAndSourceId(ChatSourceType sourceType, Long sourceId);
-
-    /** 내 채팅방 목록({@code GET /api/chat-rooms/me}) — 사장/구직자 어느 쪽이든 최신 생성순. */
-    List<ChatRoom> findByMasterUser_IdOrCounterpartUser_IdOrderByCreatedAtDesc(Long masterUserId, Long counterpartUserId);
 }
@@ -0,0 +1,43 @@
+package com.rich.sodam.repository;
+
+import com.rich.sodam.domain.ChatRoomSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 채팅방 목록 요약 레포지토리. 갱신은 모두 원자적 UPDATE 다 — 엔티티를 읽어 고치면 동시 발신 시
+ * 미읽음 카운터가 유실된다.
+ */
+public interface ChatRoomSummaryRepository extends JpaRepository<ChatRoomSummary, Long> {
+
+    /** 내 채팅방 목록 한 번에 — 방·매장·양쪽 참여자를 함께 읽는다(최신 개설순, 기존 목록과 같은 정렬). */
+    @Query("SELECT s FROM ChatRoomSummary s " +
+            "JOIN FETCH s.chatRoom r JOIN FETCH r.store JOIN FETCH r.masterUser JOIN FETCH r.counterpartUser " +
+            "WHERE s.userId = :userId ORDER BY r.createdAt DESC, r.id DESC")
+    List<ChatRoomSummary> findWithRoomByUserId(@Param("userId") Long userId);
+
+    /** 방의 두 요약 모두 마지막 메시지 갱신 — 더 늦은 메시지가 먼저 반영됐으면 덮어쓰지 않는다. */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ChatRoomSummary s SET s.lastMessageContent = :content, s.lastMessageAt = :sentAt " +
+            "WHERE s.chatRoom.id = :roomId AND (s.lastMessageAt IS NULL OR s.lastMessageAt <= :sentAt)")
+    int recordLastMessage(@Param("roomId") Long roomId,
+                          @Param("content") String content,
+                          @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ChatRoomSummary s SET s.unreadCount = s.unreadCount + 1 " +
+            "WHERE s.chatRoom.id = :roomId AND s.userId = :userId")
+    int incrementUnread(@Param("roomId") Long roomId, @Param("userId") Long userId);
+
+    /** 읽음 처리한 건수만큼 차감(0 미만으로 내려가지 않음) — 그 사이 도착한 메시지는 남는다. */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ChatRoomSummary s SET s.unreadCount = " +
+            "CASE WHEN s.unreadCount > :count THEN s.unreadCount - :count ELSE 0 END " +
+            "WHERE s.chatRoom.id = :roomId AND s.userId = :userId")
+    int decrementUnread(@Param("roomId") Long roomId, @Param("userId") Long userId, @Param("count") int count);
+}
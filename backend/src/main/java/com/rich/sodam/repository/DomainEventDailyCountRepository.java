@@ -0,0 +1,17 @@
+package com.rich.sodam.repository;
+
+import com.rich.sodam.domain.DomainEventDailyCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DomainEventDailyCountRepository extends JpaRepository<DomainEventDailyCount, Long> {
+
+    /** 한 매장의 {@code fromDate} 이후 이벤트 종류별 합계 — [0]=DomainEventType, [1]=Long. */
+    @Query("SELECT c.eventType, SUM(c.eventCount) FROM DomainEventDailyCount c "
+            + "WHERE c.storeId = :storeId AND c.eventDate >= :fromDate GROUP BY c.eventType")
+    List<Object[]> sumByStoreSince(@Param("storeId") Long storeId, @Param("fromDate") LocalDate fromDate);
+}
@@ -3,6 +3,7 @@ package com.rich.sodam.repository;
 import com.rich.sodam.domain.ElectronicSignatureEnvelope;
 import com.rich.sodam.domain.type.SignatureSubjectType;
 import com.rich.sodam.domain.type.SignatureEnvelopeStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
@@ -17,8 +18,16 @@ public interface ElectronicSignatureEnvelopeRepository extends JpaRepository<Ele
             SignatureSubjectType type, Long subjectId, int documentVersion);
     Optional<ElectronicSignatureEnvelope> findFirstBySubjectTypeAndSubjectIdOrderByDocumentVersionDesc(
             SignatureSubjectType type, Long subjectId);
-    List<ElectronicSignatureEnvelope> findBySubjectTypeAndStatusAndCompletedAtLessThanEqual(
-            SignatureSubjectType type, SignatureEnvelopeStatus status, LocalDateTime completedAt);
+    /** 보존기간 만료 스캔용 — 완료 시각이 cutoff 이전이고 아직 {@code tableName}으로 파기 스케줄에 오르지 않은 봉투, ID 키셋 한 페이지. */
+    @Query("SELECT e FROM ElectronicSignatureEnvelope e WHERE e.subjectType = :type AND e.status = :status " +
+            "AND e.completedAt <= :cutoff AND e.id > :afterId " +
+            "AND NOT EXISTS (SELECT 1 FROM RetentionPurgeSchedule s WHERE s.tableName = :tableName AND s.entityId = e.id) " +
+            "ORDER BY e.id")
+    List<ElectronicSignatureEnvelope> findUnscheduledExpired(@Param("tableName") String tableName,
+                                                             @Param("type") SignatureSubjectType type,
+                                                             @Param("status") SignatureEnvelopeStatus status,
+                                                             @Param("cutoff") LocalDateTime cutoff,
+                                                             @Param("afterId") Long afterId, Pageable pageable);
     List<ElectronicSignatureEnvelope> findByAuthorityEnvelopeId(Long authorityEnvelopeId);
 
     @Lock(jakarta.persistence.LockModeType.PESSIMISTIC_WRITE)
@@ -2,10 +2,12 @@ package com.rich.sodam.repository;
 
 import com.rich.sodam.domain.ElectronicSignatureOutbox;
 import com.rich.sodam.domain.type.SignatureOutboxStatus;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
@@ -21,11 +23,26 @@ public interface ElectronicSignatureOutboxRepository extends JpaRepository<Elect
     @Query("select o from ElectronicSignatureOutbox o where o.id = :id")
     Optional<ElectronicSignatureOutbox> findByIdForUpdate(@Param("id") Long id);
 
-    @Query("select o.id from ElectronicSignatureOutbox o " +
+    /** 처리할 차례인 작업 수(대기·재시도 due + lease 만료) — 워커 배치 크기와 큐 깊이 지표에 쓴다. */
+    @Query("select count(o) from ElectronicSignatureOutbox o " +
+            "where ((o.status in :ready and o.nextAttemptAt <= :now) " +
+            "or (o.status = :leased and o.leaseUntil < :now))")
+    long countDue(@Param("ready") Collection<SignatureOutboxStatus> ready,
+                  @Param("leased") SignatureOutboxStatus leased,
+                  @Param("now") LocalDateTime now);
+
+    /**
+     * 처리할 차례인 작업을 행 잠금으로 집어 온다. lock timeout {@code -2}는 Hibernate 의 SKIP LOCKED 라
+     * ({@code FOR UPDATE SKIP LOCKED}) 다른 노드가 잠근 행은 기다리지 않고 건너뛴다 — 노드마다 서로 다른
+     * 작업을 받아 가고, 같은 트랜잭션에서 LEASED 로 바꿔 커밋하면 잠금이 풀린 뒤에도 중복으로 잡히지 않는다.
+     */
+    @Lock(jakarta.persistence.LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from ElectronicSignatureOutbox o " +
             "where ((o.status in :ready and o.nextAttemptAt <= :now) " +
             "or (o.status = :leased and o.leaseUntil < :now)) order by o.nextAttemptAt, o.id")
-    List<Long> findDueIds(@Param("ready") Collection<SignatureOutboxStatus> ready,
-                          @Param("leased") SignatureOutboxStatus leased,
-                          @Param("now") LocalDateTime now,
-                          Pageable pageable);
+    List<ElectronicSignatureOutbox> findDueForLease(@Param("ready") Collection<SignatureOutboxStatus> ready,
+                                                    @Param("leased") SignatureOutboxStatus leased,
+                                                    @Param("now") LocalDateTime now,
+                                                    Pageable pageable);
 }
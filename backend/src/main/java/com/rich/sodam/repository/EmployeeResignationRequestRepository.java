@@ -2,6 +2,7 @@ package com.rich.sodam.repository;
 
 import com.rich.sodam.domain.EmployeeResignationRequest;
 import com.rich.sodam.domain.EmployeeResignationRequest.Status;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
@@ -19,8 +20,11 @@ public interface EmployeeResignationRequestRepository
     @Query("select r from EmployeeResignationRequest r where r.id = :id")
     Optional<EmployeeResignationRequest> findByIdForUpdate(@Param("id") Long id);
 
+    /** 목록 응답이 트랜잭션 밖(컨트롤러)에서 매장명을 읽으므로 관계·매장까지 함께 읽는다. */
+    @EntityGraph(attributePaths = {"relation", "relation.store"})
     List<EmployeeResignationRequest> findByRequester_IdOrderByRequestedAtDesc(Long requesterId);
 
+    @EntityGraph(attributePaths = {"relation", "relation.store"})
     List<EmployeeResignationRequest> findByRelation_Store_IdOrderByRequestedAtDesc(Long storeId);
 
     Optional<EmployeeResignationRequest> findByRelation_IdAndStatus(Long relationId, Status status);
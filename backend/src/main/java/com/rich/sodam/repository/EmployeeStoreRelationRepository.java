@@ -4,17 +4,25 @@ import com.rich.sodam.domain.EmployeeProfile;
 import com.rich.sodam.domain.EmployeeStoreRelation;
 import com.rich.sodam.domain.Store;
 import com.rich.sodam.domain.type.StoreRole;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * 직원-매장 관계 레포지토리
  * 직원과 매장 간의 관계 데이터에 대한 접근 메소드를 제공합니다.
+ *
+ * <p>{@code employeeProfile}·{@code store}는 지연 로딩이다. 직원 이름을 보여주는 화면(명부·리스크·통계·공지
+ * 읽음)은 {@code findWithEmployee*}를, 직원 본인의 매장 목록처럼 매장 이름을 쓰는 곳은 {@code findWithStore*}를,
+ * 급여 계산은 {@link #findByStoreIdWithEmployeeAndUser}를 쓴다. 일반 조회는 관계 값(시급·입사일·ID)만 보는
+ * 곳용이다 — 결과를 돌며 {@code getStore()}·{@code getEmployeeProfile()}의 ID 외 값을 읽으면 건마다 추가
+ * 조회가 나가고, 트랜잭션 밖(컨트롤러 매핑)에서 읽으면 LazyInitializationException 이 난다.</p>
  */
 public interface EmployeeStoreRelationRepository extends JpaRepository<EmployeeStoreRelation, Long> {
 
@@ -34,6 +42,20 @@ public interface EmployeeStoreRelationRepository extends JpaRepository<EmployeeS
      */
     List<EmployeeStoreRelation> findByEmployeeProfileAndIsActiveTrue(EmployeeProfile employeeProfile);
 
+    /**
+     * 특정 직원의 모든 매장 관계(비활성 포함)를 매장까지 함께 조회 — 경력증명서 대상 매장·매장별 시급처럼
+     * 매장 이름을 쓰는 경로용.
+     */
+    @EntityGraph(attributePaths = "store")
+    List<EmployeeStoreRelation> findWithStoreByEmployeeProfile(EmployeeProfile employeeProfile);
+
+    /**
+     * 특정 직원의 활성 매장 관계를 매장까지 함께 조회 — 매장 패스 전환·출근 화면의 매장 목록용. 매장은
+     * 트랜잭션 밖 컨트롤러에서 DTO 로 변환되므로 미리 읽어 둬야 한다.
+     */
+    @EntityGraph(attributePaths = "store")
+    List<EmployeeStoreRelation> findWithStoreByEmployeeProfileAndIsActiveTrue(EmployeeProfile employeeProfile);
+
     /**
      * 특정 매장의 모든 직원 관계 조회
      */
@@ -54,6 +76,13 @@ public interface EmployeeStoreRelationRepository extends JpaRepository<EmployeeS
      */
     List<EmployeeStoreRelation> findByStore_Id(Long storeId);
 
+    /**
+     * 매장의 전체 직원 관계(비활성 포함)를 직원 프로필·사용자·매장까지 한 번에 조회 — 직원 명부·지원금 판정처럼
+     * 이름과 적용 시급을 함께 보여주는 화면용.
+     */
+    @EntityGraph(attributePaths = {"employeeProfile", "employeeProfile.user", "store"})
+    List<EmployeeStoreRelation> findWithEmployeeByStore_Id(Long storeId);
+
     /**
      * 직원 ID와 매장 ID로 관계 조회 (Fetch Join 사용하여 N+1 문제 해결)
      */
@@ -66,10 +95,37 @@ public interface EmployeeStoreRelationRepository extends JpaRepository<EmployeeS
             @Param("storeId") Long storeId);
 
     /**
-     * 활성 상태(isActive=true) 직원 관계만 조회
+     * 매장의 전체 직원 관계를 직원 프로필·사용자까지 fetch join 하여 조회 (매장 급여 계산 컨텍스트용).
+     * {@link #findByStore_Id}와 범위는 같고(비활성 포함), 직원마다 프로필·사용자를 따로 읽는 N+1 을 없앤다.
+     */
+    @Query("SELECT DISTINCT esr FROM EmployeeStoreRelation esr " +
+            "JOIN FETCH esr.store " +
+            "LEFT JOIN FETCH esr.employeeProfile ep " +
+            "LEFT JOIN FETCH ep.user " +
+            "WHERE esr.store.id = :storeId")
+    List<EmployeeStoreRelation> findByStoreIdWithEmployeeAndUser(@Param("storeId") Long storeId);
+
+    /**
+     * 여러 직원의 전 매장 중 가장 빠른 입사일 — 입사일 기산(HIRE_DATE_ANCHORED) 주휴 정책의 기산점 일괄 산정용.
+     * 반환: [employeeProfileId(Long), 최초 입사일(LocalDate, 입사일이 하나도 없으면 null)].
+     */
+    @Query("SELECT esr.employeeProfile.id, MIN(esr.hireDate) FROM EmployeeStoreRelation esr " +
+            "WHERE esr.employeeProfile.id IN :employeeIds GROUP BY esr.employeeProfile.id")
+    List<Object[]> findEarliestHireDatesByEmployeeIds(@Param("employeeIds") Collection<Long> employeeIds);
+
+    /**
+     * 활성 상태(isActive=true) 직원 관계만 조회. 직원 프로필은 읽지 않는다 — 이름이 필요하면
+     * {@link #findWithEmployeeByStoreAndIsActiveTrue}.
      */
     List<EmployeeStoreRelation> findByStoreAndIsActiveTrue(Store store);
 
+    /**
+     * 활성 직원 관계를 직원 프로필·사용자까지 함께 조회 — 노무 리스크·연차/퇴직금 집계·오늘 현황·알림 대상처럼
+     * 직원 이름이나 사용자 ID 를 쓰는 경로용. 매장은 인자로 받은 엔티티가 그대로 쓰인다.
+     */
+    @EntityGraph(attributePaths = {"employeeProfile", "employeeProfile.user"})
+    List<EmployeeStoreRelation> findWithEmployeeByStoreAndIsActiveTrue(Store store);
+
     /**
      * 활성 상태(isActive=true) 직원 수 — 상시근로자 5인 이상 여부 산정용(Store.applyEmployeeCount).
      */
@@ -106,6 +162,11 @@ public interface EmployeeStoreRelationRepository extends JpaRepository<EmployeeS
      */
     boolean existsByEmployeeProfile_IdAndStore_IdAndIsActiveTrue(Long employeeId, Long storeId);
 
+    /** 매장의 활성 직원 프로필 ID 전체 — 구직자 리스트에서 이미 재직 중인 사람을 한 번에 거르기 위함. */
+    @Query("SELECT esr.employeeProfile.id FROM EmployeeStoreRelation esr " +
+            "WHERE esr.store.id = :storeId AND esr.isActive = true")
+    List<Long> findActiveEmployeeIdsByStoreId(@Param("storeId") Long storeId);
+
     /**
      * 직원 ID와 매장 ID로 활성 관계 조회.
      */
@@ -135,5 +196,8 @@ public interface EmployeeStoreRelationRepository extends JpaRepository<EmployeeS
     Optional<EmployeeStoreRelation> findByIdForUpdate(@Param("id") Long id);
 
     List<EmployeeStoreRelation> findByStore_IdAndStoreRoleAndIsActiveTrue(Long storeId, StoreRole storeRole);
-    List<EmployeeStoreRelation> findByEmployeeProfile_IdAndStoreRoleAndIsActiveTrue(Long employeeId, StoreRole storeRole);
+
+    /** 직원이 특정 역할로 활성 소속된 매장 관계를 매장까지 함께 조회 — 매니저 위임 매장 목록(매장 이름 표시)용. */
+    @EntityGraph(attributePaths = "store")
+    List<EmployeeStoreRelation> findWithStoreByEmployeeProfile_IdAndStoreRoleAndIsActiveTrue(Long employeeId, StoreRole storeRole);
 }
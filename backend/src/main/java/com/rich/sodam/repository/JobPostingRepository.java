@@ -2,7 +2,10 @@ package com.rich.sodam.repository;
 
 import com.rich.sodam.domain.JobPosting;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +17,10 @@ public interface JobPostingRepository extends JpaRepository<JobPosting, Long> {
     /** 매장의 공고 조회 — 매장당 1건(store_id UNIQUE, V55). upsert 판정·{@code GET .../job-posting}에 사용. */
     Optional<JobPosting> findByStore_Id(Long storeId);
 
-    /** 구인중(open=true)인 공고 전체 — nearby 조회의 반경 필터링 전 후보군. */
-    List<JobPosting> findByOpenTrue();
+    /**
+     * 구인중(open=true) 공고 중 매장 좌표가 주어진 격자 셀({@link com.rich.sodam.util.GeoGrid})에 있는 것만 매장까지 fetch join
+     * 하여 조회 — nearby 조회의 후보군. 정확한 거리 판정은 서비스가 한다.
+     */
+    @Query("SELECT jp FROM JobPosting jp JOIN FETCH jp.store s WHERE jp.open = true AND s.geoCell IN :cells")
+    List<JobPosting> findOpenWithStoreInCells(@Param("cells") Collection<Integer> cells);
 }
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,9 +18,10 @@ public interface JobSeekingProfileRepository extends JpaRepository<JobSeekingPro
     Optional<JobSeekingProfile> findByUser_Id(Long userId);
 
     /**
-     * 구직중(seeking=true)인 프로필 전체를 {@code user}까지 fetch join 하여 조회 — N+1 방지.
-     * 매장 리스트(§4 매칭 로직) 조회 시 반경 필터링 전 후보군으로 사용한다.
+     * 구직중(seeking=true) 프로필 중 희망지역1·2 중 하나라도 주어진 격자 셀({@link com.rich.sodam.util.GeoGrid})에 있는 것만
+     * {@code user}까지 fetch join 하여 조회(N+1 방지) — 매장 리스트(§4 매칭 로직)의 반경 필터링 전 후보군. 정확한 거리 판정은 서비스가 한다.
      */
-    @Query("SELECT p FROM JobSeekingProfile p JOIN FETCH p.user WHERE p.seeking = true")
-    List<JobSeekingProfile> findAllSeekingWithUser();
+    @Query("SELECT p FROM JobSeekingProfile p JOIN FETCH p.user WHERE p.seeking = true " +
+            "AND (p.location1GeoCell IN :cells OR p.location2GeoCell IN :cells)")
+    List<JobSeekingProfile> findSeekingWithUserInCells(@Param("cells") Collection<Integer> cells);
 }
@@ -10,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import jakarta.persistence.LockModeType;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +22,9 @@ public interface LaborContractRepository extends JpaRepository<LaborContract, Lo
 
     List<LaborContract> findByEmployeeIdAndStoreIdOrderByCreatedAtDesc(Long employeeId, Long storeId);
 
+    /** 매장 급여 계산 컨텍스트용 — 여러 직원의 매장 계약서를 한 번에(직원 단위 조회와 같은 최신순). */
+    List<LaborContract> findByStoreIdAndEmployeeIdInOrderByCreatedAtDesc(Long storeId, Collection<Long> employeeIds);
+
     /** 사장의 임시저장(미발송) 계약서 관리 화면용 — create()만 되고 send()가 안/못 된 초안만. */
     List<LaborContract> findByEmployeeIdAndStoreIdAndSentAtIsNullOrderByCreatedAtDesc(Long employeeId, Long storeId);
 
@@ -41,7 +45,8 @@ public interface LaborContractRepository extends JpaRepository<LaborContract, Lo
      * (근로기준법 §42 및 시행령 §22 취지: 계약 서류는 근로관계가 끝난 때부터 보존기간을 센다).
      *
      * <p>반환 원소는 {@code [laborContractId, deactivatedAt]} 2요소 배열이다.
-     * 재입사 제외·복수 비활성 관계 처리는 {@link AttendanceRepository#findExpiredAfterEmploymentEnded}와 동일하다.</p>
+     * 재입사 제외·복수 비활성 관계 처리, 이미 파기 스케줄에 오른 계약 제외는
+     * {@link AttendanceRepository#findExpiredAfterEmploymentEnded}와 동일하다.</p>
      */
     @Query("SELECT c.id, MAX(r.deactivatedAt) FROM LaborContract c, EmployeeStoreRelation r " +
             "WHERE r.employeeProfile.id = c.employeeId AND r.store.id = c.storeId " +
@@ -49,8 +54,12 @@ public interface LaborContractRepository extends JpaRepository<LaborContract, Lo
             "AND NOT EXISTS (SELECT 1 FROM EmployeeStoreRelation r2 " +
             "  WHERE r2.employeeProfile.id = c.employeeId AND r2.store.id = c.storeId " +
             "  AND r2.isActive = true) " +
+            "AND c.id > :afterId " +
+            "AND NOT EXISTS (SELECT 1 FROM RetentionPurgeSchedule s WHERE s.tableName = :tableName AND s.entityId = c.id) " +
             "GROUP BY c.id ORDER BY c.id")
-    List<Object[]> findExpiredAfterEmploymentEnded(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+    List<Object[]> findExpiredAfterEmploymentEnded(@Param("tableName") String tableName,
+                                                   @Param("cutoff") LocalDateTime cutoff,
+                                                   @Param("afterId") Long afterId, Pageable pageable);
 
     /**
      * 본인 근로계약 이력 — 매장을 가리지 않고 이 사용자의 계약 전부를 최신순으로(WP-H 데이터 연속성).
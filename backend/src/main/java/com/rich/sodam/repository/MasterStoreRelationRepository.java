@@ -4,6 +4,8 @@ import com.rich.sodam.domain.MasterProfile;
 import com.rich.sodam.domain.MasterStoreRelation;
 import com.rich.sodam.domain.Store;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -20,4 +22,10 @@ public interface MasterStoreRelationRepository extends JpaRepository<MasterStore
      * 사장이 해당 매장을 소유하는지 검증 (StoreAccessGuard 용).
      */
     boolean existsByMasterProfile_IdAndStore_Id(Long masterId, Long storeId);
+
+    /**
+     * 사장이 소유한 매장 ID 전부 (StoreMembershipCache 스냅샷 적재용).
+     */
+    @Query("select r.store.id from MasterStoreRelation r where r.masterProfile.id = :masterId")
+    List<Long> findStoreIdsByMasterProfileId(@Param("masterId") Long masterId);
 }
@@ -23,7 +23,14 @@ public interface NotificationInboxRepository extends JpaRepository<NotificationI
     /**
      * 보존기간 만료 스캔용(Phase 4, §2.5) — 카테고리별로 보존기간이 달라 정책마다 대상 카테고리
      * 집합과 cutoff를 다르게 넘긴다({@code com.rich.sodam.service.retention} 패키지의 3개 정책).
+     * 이미 그 정책({@code tableName})으로 파기 스케줄에 오른 알림은 빼고 ID 키셋으로 한 페이지씩 읽는다.
      */
-    List<NotificationInbox> findByCategoryInAndCreatedAtLessThan(
-            List<NotificationInbox.Category> categories, LocalDateTime cutoff);
+    @Query("SELECT n FROM NotificationInbox n WHERE n.category IN :categories " +
+            "AND n.createdAt < :cutoff AND n.id > :afterId " +
+            "AND NOT EXISTS (SELECT 1 FROM RetentionPurgeSchedule s WHERE s.tableName = :tableName AND s.entityId = n.id) " +
+            "ORDER BY n.id")
+    List<NotificationInbox> findUnscheduledExpired(@Param("tableName") String tableName,
+                                                   @Param("categories") List<NotificationInbox.Category> categories,
+                                                   @Param("cutoff") LocalDateTime cutoff,
+                                                   @Param("afterId") Long afterId, Pageable pageable);
 }
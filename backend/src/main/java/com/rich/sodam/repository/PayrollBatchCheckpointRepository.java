@@ -0,0 +1,16 @@
+package com.rich.sodam.repository;
+
+import com.rich.sodam.domain.PayrollBatchCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 월별 급여 배치 샤드 체크포인트 레포지토리.
+ */
+public interface PayrollBatchCheckpointRepository extends JpaRepository<PayrollBatchCheckpoint, Long> {
+
+    Optional<PayrollBatchCheckpoint> findByPeriodStartAndPeriodEndAndShardCountAndShardIndex(
+            LocalDate periodStart, LocalDate periodEnd, int shardCount, int shardIndex);
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -19,6 +20,12 @@ public interface PayrollDetailRepository extends JpaRepository<PayrollDetail, Lo
      */
     List<PayrollDetail> findByPayroll_IdOrderByWorkDateAsc(Long payrollId);
 
+    /**
+     * 여러 급여의 상세 내역을 한 번에 조회 (명세서 일괄 발급).
+     * 급여 ID, 근무일 오름차순 정렬
+     */
+    List<PayrollDetail> findByPayroll_IdInOrderByPayroll_IdAscWorkDateAsc(Collection<Long> payrollIds);
+
     /**
      * 재계산(recalculate) 시 기존 급여의 상세 내역을 모두 제거한다.
      *
@@ -1,8 +1,15 @@
 package com.rich.sodam.repository;
 
+import com.rich.sodam.config.entitycache.EntityCacheRegions;
 import com.rich.sodam.domain.PayrollPolicy;
 import com.rich.sodam.domain.Store;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -12,12 +19,29 @@ import java.util.Optional;
 public interface PayrollPolicyRepository extends JpaRepository<PayrollPolicy, Long> {
 
     /**
-     * 매장 기준으로 급여 정책 조회
+     * 매장 기준으로 급여 정책 조회. 결과(정책 ID)는 2차 쿼리 캐시에 두고, 정책 엔티티는 엔티티 캐시에서 꺼낸다 —
+     * payroll_policy 가 바뀌면 Hibernate 가 이 쿼리 캐시를 무효화한다.
      */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.cacheable", value = "true"),
+            @QueryHint(name = "org.hibernate.cacheRegion", value = EntityCacheRegions.PAYROLL_POLICY_BY_STORE)
+    })
     Optional<PayrollPolicy> findByStore(Store store);
 
     /**
-     * 매장 ID 기준으로 급여 정책 조회
+     * 매장 ID 기준으로 급여 정책 조회 ({@link #findByStore}와 같은 쿼리 캐시 영역)
      */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.cacheable", value = "true"),
+            @QueryHint(name = "org.hibernate.cacheRegion", value = EntityCacheRegions.PAYROLL_POLICY_BY_STORE)
+    })
     Optional<PayrollPolicy> findByStore_Id(Long storeId);
+
+    /**
+     * 쿼리 캐시를 거치지 않는 잠금 읽기 — 캐시된 "정책 없음"을 믿고 기본 정책을 만들기 전 마지막 확인용.
+     * 잠금 읽기는 트랜잭션 스냅샷이 아니라 최신 커밋을 보므로 다른 인스턴스가 방금 만든 정책도 보인다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM PayrollPolicy p WHERE p.store.id = :storeId")
+    Optional<PayrollPolicy> findByStoreIdForUpdate(@Param("storeId") Long storeId);
 }
\ No newline at end of file
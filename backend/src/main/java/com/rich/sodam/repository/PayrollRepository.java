@@ -1,11 +1,14 @@
 package com.rich.sodam.repository;
 
 import com.rich.sodam.domain.Payroll;
+import com.rich.sodam.domain.type.PayrollStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.Lock;
@@ -73,4 +76,56 @@ public interface PayrollRepository extends JpaRepository<Payroll, Long> {
             @Param("storeId") Long storeId,
             @Param("from") LocalDate from,
             @Param("to") LocalDate to);
+
+    /**
+     * 매장·기간·상태 급여를 직원(사용자)·매장과 함께 조회 — 명세서 일괄 발급은 트랜잭션 밖 워커에서 렌더링하므로
+     * 이름·매장명을 미리 채워 둔다. 직원 순서가 매번 같도록 급여 ID 오름차순. 기간은 양끝 모두 필수다.
+     */
+    @Query("SELECT p FROM Payroll p JOIN FETCH p.store " +
+            "LEFT JOIN FETCH p.employee e LEFT JOIN FETCH e.user " +
+            "WHERE p.store.id = :storeId " +
+            "AND p.status IN :statuses " +
+            "AND p.endDate >= :from " +
+            "AND p.startDate <= :to " +
+            "ORDER BY p.id")
+    List<Payroll> findWithEmployeeByStoreIdAndPeriod(
+            @Param("storeId") Long storeId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("statuses") Collection<PayrollStatus> statuses);
+
+    /**
+     * 급여 CSV 키셋 페이지 — 정산 시작일이 기간 안인 매장 급여를 급여 ID {@code afterId} 다음부터 {@code limit} 건.
+     */
+    @Query("SELECT p FROM Payroll p JOIN FETCH p.store " +
+            "LEFT JOIN FETCH p.employee e LEFT JOIN FETCH e.user " +
+            "WHERE p.store.id = :storeId " +
+            "AND p.startDate BETWEEN :from AND :to " +
+            "AND p.id > :afterId " +
+            "ORDER BY p.id")
+    List<Payroll> findStoreExportPage(@Param("storeId") Long storeId,
+                                      @Param("from") LocalDate from,
+                                      @Param("to") LocalDate to,
+                                      @Param("afterId") Long afterId,
+                                      Pageable limit);
+
+    /**
+     * 매장·정산기간 급여가 이미 있는 직원 ID — 월별 배치가 수동 계산분·이어받기 전 계산분을 매장당 한 번의
+     * 조회로 건너뛰는 데 쓴다.
+     */
+    @Query("SELECT p.employee.id FROM Payroll p " +
+            "WHERE p.store.id = :storeId AND p.startDate = :startDate AND p.endDate = :endDate")
+    List<Long> findCalculatedEmployeeIds(@Param("storeId") Long storeId,
+                                         @Param("startDate") LocalDate startDate,
+                                         @Param("endDate") LocalDate endDate);
+
+    /**
+     * 매장·급여 시작일별 합계(대시보드 사전 집계 재계산용) —
+     * [storeId(Long), startDate(LocalDate), 세전 합계(Number), 실수령 합계(Number), 기본·연장·야간 시간 합계(Number)].
+     */
+    @Query("SELECT p.store.id, p.startDate, SUM(COALESCE(p.grossWage, 0)), SUM(COALESCE(p.netWage, 0)), "
+            + "SUM(COALESCE(p.regularHours, 0) + COALESCE(p.overtimeHours, 0) + COALESCE(p.nightWorkHours, 0)) "
+            + "FROM Payroll p WHERE p.store IS NOT NULL AND p.startDate BETWEEN :from AND :to "
+            + "GROUP BY p.store.id, p.startDate")
+    List<Object[]> sumDailyTotalsByStartDateBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
 }
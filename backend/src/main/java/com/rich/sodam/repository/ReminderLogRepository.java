@@ -2,7 +2,10 @@ package com.rich.sodam.repository;
 
 import com.rich.sodam.domain.ReminderLog;
 import com.rich.sodam.domain.type.ReminderType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -20,6 +23,14 @@ public interface ReminderLogRepository extends JpaRepository<ReminderLog, Long>
     boolean existsByStoreIdAndReminderTypeAndTargetDateAndRefId(
             Long storeId, ReminderType reminderType, LocalDate targetDate, Long refId);
 
-    /** 보존기간 만료 스캔용(Phase 6, §2.5) — 기산 시각(createdAt)이 cutoff 이전인 만료 대상. */
-    List<ReminderLog> findByCreatedAtLessThan(LocalDateTime cutoff);
+    /**
+     * 보존기간 만료 스캔용(Phase 6, §2.5) — 기산 시각(createdAt)이 cutoff 이전이고 아직 {@code tableName}으로 파기
+     * 스케줄에 오르지 않은 대상, ID 키셋 한 페이지.
+     */
+    @Query("SELECT r FROM ReminderLog r WHERE r.createdAt < :cutoff AND r.id > :afterId " +
+            "AND NOT EXISTS (SELECT 1 FROM RetentionPurgeSchedule s WHERE s.tableName = :tableName AND s.entityId = r.id) " +
+            "ORDER BY r.id")
+    List<ReminderLog> findUnscheduledExpired(@Param("tableName") String tableName,
+                                             @Param("cutoff") LocalDateTime cutoff,
+                                             @Param("afterId") Long afterId, Pageable pageable);
 }
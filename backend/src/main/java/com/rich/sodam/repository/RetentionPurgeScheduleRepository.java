@@ -1,6 +1,7 @@
 package com.rich.sodam.repository;
 
 import com.rich.sodam.domain.RetentionPurgeSchedule;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -13,10 +14,15 @@ public interface RetentionPurgeScheduleRepository extends JpaRepository<Retentio
 
     Optional<RetentionPurgeSchedule> findByTableNameAndEntityId(String tableName, Long entityId);
 
-    /** 파기 예정일이 도래했고(오늘 이하), 아직 파기되지 않았고, 법적 홀드가 아닌 대상. */
+    /**
+     * 파기 예정일이 도래했고(오늘 이하), 아직 파기되지 않았고, 법적 홀드가 아닌 대상 중 {@code afterId}
+     * 다음 청크 — ID 순 키셋 페이징이라 파기를 보류한 행이 있어도 다음 청크로 넘어간다.
+     */
     @Query("SELECT r FROM RetentionPurgeSchedule r WHERE r.scheduledPurgeAt <= :now "
-            + "AND r.purgedAt IS NULL AND r.legalHold = false")
-    List<RetentionPurgeSchedule> findDueForPurge(@Param("now") LocalDateTime now);
+            + "AND r.purgedAt IS NULL AND r.legalHold = false AND r.id > :afterId ORDER BY r.id")
+    List<RetentionPurgeSchedule> findDueForPurgeAfter(@Param("now") LocalDateTime now,
+                                                      @Param("afterId") Long afterId,
+                                                      Pageable pageable);
 
     /**
      * 사전 고지가 아직 하나라도 남아 있는 대상 — 파기 예정일이 {@code noticeHorizon}(=now+30일) 이내이고,
@@ -0,0 +1,24 @@
+package com.rich.sodam.repository;
+
+import com.rich.sodam.domain.StoreDailyHeadcount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface StoreDailyHeadcountRepository extends JpaRepository<StoreDailyHeadcount, Long> {
+
+    /** 한 매장의 기간(양끝 포함) 요약 — 한 행, [0]=가동일수(Long), [1]=연인원(Long, 없으면 0). */
+    @Query("SELECT COUNT(h), COALESCE(SUM(h.workerCount), 0) FROM StoreDailyHeadcount h "
+            + "WHERE h.storeId = :storeId AND h.workDate BETWEEN :from AND :to AND h.workerCount > 0")
+    List<Object[]> summarizeByStoreBetween(@Param("storeId") Long storeId,
+                                           @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /** 재계산 전 구간 비우기 — 출근 기록이 사라진 일자의 행이 남지 않게 한다. */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM StoreDailyHeadcount h WHERE h.workDate BETWEEN :from AND :to")
+    int deleteByWorkDateBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
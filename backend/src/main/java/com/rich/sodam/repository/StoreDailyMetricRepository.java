@@ -0,0 +1,27 @@
+package com.rich.sodam.repository;
+
+import com.rich.sodam.domain.StoreDailyMetric;
+import com.rich.sodam.domain.type.StoreDailyMetricType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface StoreDailyMetricRepository extends JpaRepository<StoreDailyMetric, Long> {
+
+    /** 한 매장의 기간(양끝 포함) 지표별 합계 — [0]=StoreDailyMetricType, [1]=Double. */
+    @Query("SELECT m.metric, SUM(m.metricValue) FROM StoreDailyMetric m "
+            + "WHERE m.storeId = :storeId AND m.metricDate BETWEEN :from AND :to GROUP BY m.metric")
+    List<Object[]> sumByStoreBetween(@Param("storeId") Long storeId,
+                                     @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /** 재계산 전 구간 비우기 — 원본이 사라진 일자의 행이 남지 않게 한다. */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM StoreDailyMetric m WHERE m.metric IN :metrics AND m.metricDate BETWEEN :from AND :to")
+    int deleteByMetricInAndDateBetween(@Param("metrics") Collection<StoreDailyMetricType> metrics,
+                                       @Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -0,0 +1,29 @@
+package com.rich.sodam.repository;
+
+import com.rich.sodam.domain.StoreDueSlot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface StoreDueSlotRepository extends JpaRepository<StoreDueSlot, Long> {
+
+    /** (fromExclusive, toInclusive] 주 단위 분 범위에 해당 종류 슬롯이 있는 매장 ID — idx_store_due_slot_window 범위 조회. */
+    @Query("SELECT DISTINCT d.storeId FROM StoreDueSlot d " +
+            "WHERE d.slotType = :type AND d.minuteOfWeek > :fromExclusive AND d.minuteOfWeek <= :toInclusive")
+    List<Long> findStoreIdsInWindow(@Param("type") StoreDueSlot.Type type,
+                                    @Param("fromExclusive") int fromExclusive,
+                                    @Param("toInclusive") int toInclusive);
+
+    @Modifying
+    @Query("DELETE FROM StoreDueSlot d WHERE d.storeId = :storeId")
+    int deleteByStoreId(@Param("storeId") Long storeId);
+
+    /** 야간 재구축 — 소프트 삭제된 매장에 남은 슬롯 정리. */
+    @Modifying
+    @Query("DELETE FROM StoreDueSlot d WHERE d.storeId IN " +
+            "(SELECT s.id FROM Store s WHERE s.isDeleted = true)")
+    int deleteForDeletedStores();
+}
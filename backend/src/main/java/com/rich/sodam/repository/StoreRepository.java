@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,6 +40,31 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
             "AND (s.isDeleted = false OR s.isDeleted IS NULL)")
     Optional<Store> findActiveByStoreCode(@Param("storeCode") String storeCode);
 
+    /**
+     * 전체 매장 ID 를 오름차순으로 조회 — 월별 급여 배치 샤드 분할용. 엔티티(암호화 컬럼 포함)를
+     * 통째로 읽지 않고 ID 만 가져온다. 범위는 기존 {@code findAll()} 과 같다(소프트 삭제 포함).
+     */
+    @Query("SELECT s.id FROM Store s ORDER BY s.id")
+    List<Long> findAllIdsOrderById();
+
+    /** 활성 매장 ID 오름차순 — 주간 리포트·시각 인덱스 재구축이 ID 만 먼저 읽고 페이지 단위로 적재한다. */
+    @Query("SELECT s.id FROM Store s WHERE s.isDeleted = false OR s.isDeleted IS NULL ORDER BY s.id")
+    List<Long> findAllActiveIdsOrderById();
+
+    /**
+     * 급여일 D-3 배치 후보 — 지급일(일자)이 {@code payDays} 중 하나이거나, {@code lastDay=true}일 때
+     * 말일 지급인 활성 매장 ID. 지급 월 오프셋은 보지 않는다(인접 기준월 판정은 배치가 한다).
+     * idx_store_pay_day 로 좁힌다.
+     */
+    @Query("SELECT s.id FROM Store s " +
+            "WHERE (s.isDeleted = false OR s.isDeleted IS NULL) " +
+            "AND s.payrollCycle.payOffset IS NOT NULL " +
+            "AND (s.payrollCycle.payDay IN :payDays " +
+            "OR (:lastDay = true AND s.payrollCycle.payDayLastDay = true)) " +
+            "ORDER BY s.id")
+    List<Long> findActiveIdsByPayDay(@Param("payDays") Collection<String> payDays,
+                                     @Param("lastDay") boolean lastDay);
+
     // ==================== Soft Delete 관련 메서드 ====================
 
     /**
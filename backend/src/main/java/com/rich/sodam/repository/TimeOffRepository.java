@@ -11,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import jakarta.persistence.LockModeType;
@@ -34,6 +35,10 @@ public interface TimeOffRepository extends JpaRepository<TimeOff, Long> {
     // 특정 직원의 특정 상태의 휴가 신청 조회
     List<TimeOff> findByEmployeeAndStatus(EmployeeProfile employee, TimeOffStatus status);
 
+    // 매장 급여 계산 컨텍스트용 — 여러 직원의 특정 매장·상태 휴가 신청을 한 번에 조회
+    List<TimeOff> findByStore_IdAndEmployee_IdInAndStatus(Long storeId, Collection<Long> employeeIds,
+                                                           TimeOffStatus status);
+
     // 특정 기간에 겹치는 휴가 신청 조회
     @Query("SELECT t FROM TimeOff t WHERE t.store = :store AND " +
             "((t.startDate <= :endDate AND t.endDate >= :startDate))")
@@ -2,8 +2,17 @@ package com.rich.sodam.repository;
 
 import com.rich.sodam.domain.UserBlock;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface UserBlockRepository extends JpaRepository<UserBlock, Long> {
 
     boolean existsByBlockerUser_IdAndBlockedUser_Id(Long blockerUserId, Long blockedUserId);
+
+    /** 사용자가 차단했거나 사용자를 차단한 상대 ID — 양방향 비노출 판정을 한 번에 한다. */
+    @Query("SELECT CASE WHEN b.blockerUser.id = :userId THEN b.blockedUser.id ELSE b.blockerUser.id END " +
+            "FROM UserBlock b WHERE b.blockerUser.id = :userId OR b.blockedUser.id = :userId")
+    List<Long> findCounterpartIdsEitherWay(@Param("userId") Long userId);
 }
@@ -9,6 +9,8 @@ import org.springframework.data.repository.query.Param;
 import jakarta.persistence.LockModeType;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -42,12 +44,23 @@ public interface WorkShiftRepository extends JpaRepository<WorkShift, Long> {
     List<WorkShift> findByEmployeeIdAndStoreIdAndShiftDateBetweenAndConfirmedAtIsNotNull(
             Long employeeId, Long storeId, LocalDate from, LocalDate to);
 
+    /** 매장 급여 계산 컨텍스트용 — 여러 직원의 매장×기간 확정 시프트를 한 번에. */
+    List<WorkShift> findByStoreIdAndEmployeeIdInAndShiftDateBetweenAndConfirmedAtIsNotNull(
+            Long storeId, Collection<Long> employeeIds, LocalDate from, LocalDate to);
+
     /** 출근 리마인드 스케줄러용 — 특정 일자 시프트 전체. */
     List<WorkShift> findByShiftDate(LocalDate shiftDate);
 
     /** 지각·미출근 감지 배치용 — 특정 일자의 확정 시프트만. */
     List<WorkShift> findByShiftDateAndConfirmedAtIsNotNull(LocalDate shiftDate);
 
+    /**
+     * 지각·미출근 감지 배치용 — 특정 일자 확정 시프트 중 시작 시각이 [startFrom, startBefore) 인 것만.
+     * 틱마다 그날 시프트 전체가 아니라 방금 유예가 끝난 시프트만 읽는다(idx_work_shift_date_start).
+     */
+    List<WorkShift> findByShiftDateAndConfirmedAtIsNotNullAndStartTimeGreaterThanEqualAndStartTimeLessThan(
+            LocalDate shiftDate, LocalTime startFrom, LocalTime startBefore);
+
     /** 고정 스케줄 자동 생성용 — 해당 날짜에 이미 시프트가 있으면(수동 등록 포함) 중복 생성을 건너뛴다. */
     boolean existsByEmployeeIdAndStoreIdAndShiftDate(Long employeeId, Long storeId, LocalDate shiftDate);
 }
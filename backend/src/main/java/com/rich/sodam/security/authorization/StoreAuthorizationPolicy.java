@@ -1,15 +1,16 @@
 package com.rich.sodam.security.authorization;
 
 import com.rich.sodam.domain.TimeOff;
-import com.rich.sodam.domain.EmployeeStoreRelation;
 import com.rich.sodam.domain.type.ManagerPermission;
 import com.rich.sodam.domain.type.PlanFeature;
+import com.rich.sodam.domain.type.StoreRole;
 import com.rich.sodam.exception.ManagerAccessDeniedException;
 import com.rich.sodam.repository.EmployeeStoreRelationRepository;
 import com.rich.sodam.repository.MasterStoreRelationRepository;
 import com.rich.sodam.repository.TimeOffRepository;
 import com.rich.sodam.service.PlanAccessService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Component;
@@ -25,37 +26,49 @@ import org.springframework.stereotype.Component;
  * <p>WP-08(인가 정책 모듈화): 이 클래스가 실제 인가 로직을 담당하는 원본이다.
  * {@code com.rich.sodam.service.StoreAccessGuard} 는 기존 컨트롤러(47곳) 호출 호환을 위해
  * 남겨둔 얇은 위임 facade이며, 실제 구현은 이 클래스로 이동했다.
+ *
+ * <p>소유/소속 사실은 {@link StoreMembershipCache}의 사용자별 스냅샷에서 읽는다 — 요청마다 나가던
+ * {@code exists...} 쿼리 대신 메모리 조회다. 타임오프는 리소스 조회라 그대로 저장소에서 읽고,
+ * 매니저 위임의 구독(플랜) 조건도 캐시하지 않는다.
  */
 @Slf4j
 @Component
 public class StoreAuthorizationPolicy {
 
-    private final MasterStoreRelationRepository masterStoreRelationRepository;
-    private final EmployeeStoreRelationRepository employeeStoreRelationRepository;
+    private final StoreMembershipCache membershipCache;
     private final TimeOffRepository timeOffRepository;
     private final PlanAccessService planAccessService;
     private final boolean managerDelegationEnabled;
 
-    public StoreAuthorizationPolicy(MasterStoreRelationRepository masterStoreRelationRepository,
-                            EmployeeStoreRelationRepository employeeStoreRelationRepository,
+    @Autowired
+    public StoreAuthorizationPolicy(StoreMembershipCache membershipCache,
                             TimeOffRepository timeOffRepository,
                             PlanAccessService planAccessService,
                             @Value("${sodam.features.manager-delegation-enabled:false}")
                             boolean managerDelegationEnabled) {
-        this.masterStoreRelationRepository = masterStoreRelationRepository;
-        this.employeeStoreRelationRepository = employeeStoreRelationRepository;
+        this.membershipCache = membershipCache;
         this.timeOffRepository = timeOffRepository;
         this.planAccessService = planAccessService;
         this.managerDelegationEnabled = managerDelegationEnabled;
     }
 
+    /** 캐시 없이 저장소를 직접 읽는 조립 (단위 테스트용). */
+    public StoreAuthorizationPolicy(MasterStoreRelationRepository masterStoreRelationRepository,
+                            EmployeeStoreRelationRepository employeeStoreRelationRepository,
+                            TimeOffRepository timeOffRepository,
+                            PlanAccessService planAccessService,
+                            boolean managerDelegationEnabled) {
+        this(StoreMembershipCache.uncached(masterStoreRelationRepository, employeeStoreRelationRepository),
+                timeOffRepository, planAccessService, managerDelegationEnabled);
+    }
+
     /**
      * 사장이 해당 매장을 소유하는지 검증. 미소유 시 AccessDeniedException.
      */
     public void assertMasterOwnsStore(Long masterId, Long storeId) {
         requireNonNull(masterId, "masterId");
         requireNonNull(storeId, "storeId");
-        if (!masterStoreRelationRepository.existsByMasterProfile_IdAndStore_Id(masterId, storeId)) {
+        if (!membershipCache.ownership(masterId).owns(storeId)) {
             log.warn("권한 거부: master {} 가 store {} 미소유", masterId, storeId);
             throw new AccessDeniedException("해당 매장에 대한 권한이 없어요.");
         }
@@ -67,7 +80,7 @@ public class StoreAuthorizationPolicy {
     public void assertEmployeeInStore(Long employeeId, Long storeId) {
         requireNonNull(employeeId, "employeeId");
         requireNonNull(storeId, "storeId");
-        if (!employeeStoreRelationRepository.existsByEmployeeProfile_IdAndStore_Id(employeeId, storeId)) {
+        if (membershipCache.employments(employeeId).in(storeId) == null) {
             log.warn("권한 거부: employee {} 가 store {} 미소속", employeeId, storeId);
             throw new AccessDeniedException("해당 매장 소속이 아니에요.");
         }
@@ -81,8 +94,7 @@ public class StoreAuthorizationPolicy {
     public void assertActiveEmployeeInStore(Long employeeId, Long storeId) {
         requireNonNull(employeeId, "employeeId");
         requireNonNull(storeId, "storeId");
-        if (!employeeStoreRelationRepository
-                .existsByEmployeeProfile_IdAndStore_IdAndIsActiveTrue(employeeId, storeId)) {
+        if (!isActiveEmployee(employeeId, storeId)) {
             log.warn("권한 거부: employee {} 가 store {} 에 현재 재직 중이 아님", employeeId, storeId);
             throw new AccessDeniedException("현재 재직 중인 매장 직원만 이 기능을 사용할 수 있어요.");
         }
@@ -94,8 +106,8 @@ public class StoreAuthorizationPolicy {
     public void assertMemberOfStore(Long userId, Long storeId) {
         requireNonNull(userId, "userId");
         requireNonNull(storeId, "storeId");
-        if (masterStoreRelationRepository.existsByMasterProfile_IdAndStore_Id(userId, storeId)) return;
-        if (employeeStoreRelationRepository.existsByEmployeeProfile_IdAndStore_Id(userId, storeId)) return;
+        if (membershipCache.ownership(userId).owns(storeId)) return;
+        if (membershipCache.employments(userId).in(storeId) != null) return;
         log.warn("권한 거부: user {} 가 store {} 비구성원", userId, storeId);
         throw new AccessDeniedException("해당 매장 구성원이 아니에요.");
     }
@@ -104,9 +116,8 @@ public class StoreAuthorizationPolicy {
     public void assertActiveMemberOfStore(Long userId, Long storeId) {
         requireNonNull(userId, "userId");
         requireNonNull(storeId, "storeId");
-        if (masterStoreRelationRepository.existsByMasterProfile_IdAndStore_Id(userId, storeId)) return;
-        if (employeeStoreRelationRepository
-                .existsByEmployeeProfile_IdAndStore_IdAndIsActiveTrue(userId, storeId)) return;
+        if (membershipCache.ownership(userId).owns(storeId)) return;
+        if (isActiveEmployee(userId, storeId)) return;
         log.warn("권한 거부: user {} 가 store {} 의 현재 구성원이 아님", userId, storeId);
         throw new AccessDeniedException("현재 매장 구성원만 이 기능을 사용할 수 있어요.");
     }
@@ -139,10 +150,9 @@ public class StoreAuthorizationPolicy {
         // 사장이면 자기 매장 직원인지 확인
         if (isMasterRole) {
             // 직원이 어떤 매장 소속이든, 그 매장 중 하나라도 principal(사장) 이 소유하면 OK
-            boolean anyMatch = employeeStoreRelationRepository.findByEmployeeProfile_Id(employeeId).stream()
-                    .anyMatch(rel -> rel.getStore() != null
-                            && masterStoreRelationRepository.existsByMasterProfile_IdAndStore_Id(
-                                    principalId, rel.getStore().getId()));
+            StoreMembershipCache.Ownership owned = membershipCache.ownership(principalId);
+            boolean anyMatch = membershipCache.employments(employeeId).storeIds().stream()
+                    .anyMatch(owned::owns);
             if (anyMatch) return;
         }
         log.warn("권한 거부: principal {} 가 employee {} 조회 시도 (master={})", principalId, employeeId, isMasterRole);
@@ -166,13 +176,14 @@ public class StoreAuthorizationPolicy {
         requireNonNull(userId, "userId");
         requireNonNull(storeId, "storeId");
         assertManagerDelegationEnabled();
-        EmployeeStoreRelation relation = employeeStoreRelationRepository
-                .findByEmployeeProfile_IdAndStore_IdAndIsActiveTrue(userId, storeId)
-                .orElseThrow(ManagerAccessDeniedException::permissionDenied);
-        if (relation.getStoreRole() != com.rich.sodam.domain.type.StoreRole.MANAGER) {
+        StoreMembershipCache.Employment relation = membershipCache.employments(userId).in(storeId);
+        if (relation == null || !relation.isActive()) {
             throw ManagerAccessDeniedException.permissionDenied();
         }
-        if (relation.getManagerAcceptedAt() == null || relation.getManagerSignatureEnvelopeId() == null) {
+        if (relation.getStoreRole() != StoreRole.MANAGER) {
+            throw ManagerAccessDeniedException.permissionDenied();
+        }
+        if (!relation.isManagerSigned()) {
             throw ManagerAccessDeniedException.signaturePending();
         }
         if (!planAccessService.storeOwnerHasFeature(storeId, PlanFeature.MANAGER_DELEGATION)) {
@@ -186,7 +197,7 @@ public class StoreAuthorizationPolicy {
     public void assertMasterOrManagerPermission(Long userId, Long storeId, ManagerPermission permission) {
         requireNonNull(userId, "userId");
         requireNonNull(storeId, "storeId");
-        if (masterStoreRelationRepository.existsByMasterProfile_IdAndStore_Id(userId, storeId)) return;
+        if (membershipCache.ownership(userId).owns(storeId)) return;
         assertManagerPermission(userId, storeId, permission);
     }
 
@@ -203,7 +214,7 @@ public class StoreAuthorizationPolicy {
 
     public boolean isMasterOwner(Long userId, Long storeId) {
         return userId != null && storeId != null
-                && masterStoreRelationRepository.existsByMasterProfile_IdAndStore_Id(userId, storeId);
+                && membershipCache.ownership(userId).owns(storeId);
     }
 
     public void assertManagerDelegationEnabled() {
@@ -214,6 +225,11 @@ public class StoreAuthorizationPolicy {
         return managerDelegationEnabled;
     }
 
+    private boolean isActiveEmployee(Long userId, Long storeId) {
+        StoreMembershipCache.Employment employment = membershipCache.employments(userId).in(storeId);
+        return employment != null && employment.isActive();
+    }
+
     private static void requireNonNull(Object v, String name) {
         if (v == null) throw new AccessDeniedException(name + " 가 비어있어요. (로그인 필요)");
     }
@@ -0,0 +1,185 @@
+package com.rich.sodam.security.authorization;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.rich.sodam.domain.EmployeeStoreRelation;
+import com.rich.sodam.domain.type.ManagerPermission;
+import com.rich.sodam.domain.type.StoreRole;
+import com.rich.sodam.repository.EmployeeStoreRelationRepository;
+import com.rich.sodam.repository.MasterStoreRelationRepository;
+import com.rich.sodam.service.support.AfterCommitExecutor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.NoOpCache;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 사용자별 매장 소속 스냅샷 캐시 — {@link StoreAuthorizationPolicy}의 조회 원천.
+ *
+ * <p>인가 검사마다 나가던 {@code exists...} 쿼리 2~3개를 사용자당 스냅샷 두 개(사장 소유 매장 / 직원 소속
+ * 관계)로 바꾼다. 두 조각은 따로 적재한다 — 사장 경로는 직원 관계를 읽지 않는다. 캐시는 "storeMembership"
+ * (L1 near cache + Redis)이고 다른 인스턴스 L1 은 pub/sub 로 지워진다.</p>
+ *
+ * <p>소속이 바뀌는 서비스 경로(매장 등록, 직원 합류·재활성·비활성, 매니저 지명·서명·권한 축소·해제)는
+ * {@link #evictAfterCommit(Long)}를 호출해야 한다. 커밋 전에 지우면 그 사이 다른 요청이 옛 값을 다시
+ * 채울 수 있어 커밋 이후에 지운다. 트랜잭션 인지 캐시의 {@code evict}는 afterCommit 안에서 부르면 다시
+ * 미뤄진 채 실행되지 않으므로 즉시 실행되는 {@code evictIfPresent}를 쓴다. 구독 상태(플랜 기능)는
+ * 소속이 아니라서 여기 담지 않는다.</p>
+ */
+@Component
+public class StoreMembershipCache {
+
+    public static final String CACHE_NAME = "storeMembership";
+
+    private final MasterStoreRelationRepository masterStoreRelationRepository;
+    private final EmployeeStoreRelationRepository employeeStoreRelationRepository;
+    private final Cache cache;
+    private final AfterCommitExecutor afterCommitExecutor;
+
+    @Autowired
+    public StoreMembershipCache(MasterStoreRelationRepository masterStoreRelationRepository,
+                                EmployeeStoreRelationRepository employeeStoreRelationRepository,
+                                CacheManager cacheManager,
+                                AfterCommitExecutor afterCommitExecutor) {
+        this(masterStoreRelationRepository, employeeStoreRelationRepository,
+                Objects.requireNonNull(cacheManager.getCache(CACHE_NAME), "cache '" + CACHE_NAME + "' 미등록"),
+                afterCommitExecutor);
+    }
+
+    private StoreMembershipCache(MasterStoreRelationRepository masterStoreRelationRepository,
+                                 EmployeeStoreRelationRepository employeeStoreRelationRepository,
+                                 Cache cache, AfterCommitExecutor afterCommitExecutor) {
+        this.masterStoreRelationRepository = masterStoreRelationRepository;
+        this.employeeStoreRelationRepository = employeeStoreRelationRepository;
+        this.cache = cache;
+        this.afterCommitExecutor = afterCommitExecutor;
+    }
+
+    /** 캐시 없이 매번 저장소를 읽는 인스턴스 (단위 테스트·수동 조립용). */
+    public static StoreMembershipCache uncached(MasterStoreRelationRepository masterStoreRelationRepository,
+                                                EmployeeStoreRelationRepository employeeStoreRelationRepository) {
+        return new StoreMembershipCache(masterStoreRelationRepository, employeeStoreRelationRepository,
+                new NoOpCache(CACHE_NAME), new AfterCommitExecutor());
+    }
+
+    public Ownership ownership(Long userId) {
+        return cache.get("owner:" + userId, () -> new Ownership(
+                new HashSet<>(masterStoreRelationRepository.findStoreIdsByMasterProfileId(userId))));
+    }
+
+    public Employments employments(Long userId) {
+        return cache.get("employee:" + userId, () -> {
+            Map<Long, Employment> byStore = new HashMap<>();
+            for (EmployeeStoreRelation relation : employeeStoreRelationRepository.findByEmployeeProfile_Id(userId)) {
+                if (relation.getStore() != null && relation.getStore().getId() != null) {
+                    byStore.put(relation.getStore().getId(), Employment.of(relation));
+                }
+            }
+            return new Employments(byStore);
+        });
+    }
+
+    /** 해당 사용자의 두 스냅샷을 커밋 이후에 지운다. 트랜잭션 밖이면 바로 지운다. */
+    public void evictAfterCommit(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        afterCommitExecutor.execute(() -> {
+            cache.evictIfPresent("owner:" + userId);
+            cache.evictIfPresent("employee:" + userId);
+        });
+    }
+
+    /*
+     * 아래 값 객체는 Redis(L2)에 JSON 으로 들어간다. 캐시 직렬화기가 NON_FINAL 기본 타이핑이라 final 이 아니어야
+     * 타입 정보가 붙고, 역직렬화는 @JsonCreator 로 한다. L1 은 같은 인스턴스를 돌려주므로 읽기 전용으로 노출한다.
+     */
+
+    /** 사장으로 소유한 매장 ID. */
+    @Getter
+    public static class Ownership {
+
+        private final Set<Long> storeIds;
+
+        @JsonCreator
+        public Ownership(@JsonProperty("storeIds") Set<Long> storeIds) {
+            this.storeIds = storeIds == null
+                    ? Collections.emptySet() : Collections.unmodifiableSet(new HashSet<>(storeIds));
+        }
+
+        public boolean owns(Long storeId) {
+            return storeIds.contains(storeId);
+        }
+    }
+
+    /** 직원으로 소속된(비활성 포함) 매장별 관계 요약. */
+    @Getter
+    public static class Employments {
+
+        private final Map<Long, Employment> byStore;
+
+        @JsonCreator
+        public Employments(@JsonProperty("byStore") Map<Long, Employment> byStore) {
+            this.byStore = byStore == null
+                    ? Collections.emptyMap() : Collections.unmodifiableMap(new HashMap<>(byStore));
+        }
+
+        /** 소속 관계가 없으면 null. */
+        public Employment in(Long storeId) {
+            return byStore.get(storeId);
+        }
+
+        public Set<Long> storeIds() {
+            return byStore.keySet();
+        }
+    }
+
+    /** 한 매장과의 관계 — {@link EmployeeStoreRelation} 중 인가에 쓰는 값만. */
+    @Getter
+    public static class Employment {
+
+        private final boolean active;
+        private final StoreRole storeRole;
+        /** 매니저 위임 전자서명 완료(수락 시각·서명 envelope 모두 있음). */
+        private final boolean managerSigned;
+        /** {@link EmployeeStoreRelation#hasActiveManagerDelegation()}. */
+        private final boolean managerDelegationActive;
+        private final Set<ManagerPermission> grantedPermissions;
+
+        @JsonCreator
+        public Employment(@JsonProperty("active") boolean active,
+                          @JsonProperty("storeRole") StoreRole storeRole,
+                          @JsonProperty("managerSigned") boolean managerSigned,
+                          @JsonProperty("managerDelegationActive") boolean managerDelegationActive,
+                          @JsonProperty("grantedPermissions") Set<ManagerPermission> grantedPermissions) {
+            this.active = active;
+            this.storeRole = storeRole;
+            this.managerSigned = managerSigned;
+            this.managerDelegationActive = managerDelegationActive;
+            this.grantedPermissions = grantedPermissions == null
+                    ? Collections.emptySet() : Collections.unmodifiableSet(new HashSet<>(grantedPermissions));
+        }
+
+        static Employment of(EmployeeStoreRelation relation) {
+            return new Employment(
+                    Boolean.TRUE.equals(relation.getIsActive()),
+                    relation.getStoreRole(),
+                    relation.getManagerAcceptedAt() != null && relation.getManagerSignatureEnvelopeId() != null,
+                    relation.hasActiveManagerDelegation(),
+                    relation.getGrantedPermissions());
+        }
+
+        public boolean hasActiveManagerPermission(ManagerPermission permission) {
+            return managerDelegationActive && grantedPermissions.contains(permission);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.rich.sodam.service;
+
+/**
+ * 사용자별 액세스 토큰 기준 시각 (발급 epoch ms, 없으면 0).
+ *
+ * @param revokedBefore          이 시각 이전(포함)에 발급된 토큰은 거부한다 — 로그아웃·탈퇴.
+ * @param principalChangedBefore 이 시각 이전(포함)에 발급된 토큰의 등급 클레임은 믿지 않고 DB 에서 다시 읽는다 — 등급 변경.
+ */
+public record AccessTokenCutoff(long revokedBefore, long principalChangedBefore) {
+
+    public static final AccessTokenCutoff NONE = new AccessTokenCutoff(0L, 0L);
+
+    public boolean revokes(long issuedAtMillis) {
+        return revokedBefore > 0 && issuedAtMillis <= revokedBefore;
+    }
+
+    public boolean claimsStale(long issuedAtMillis) {
+        return principalChangedBefore > 0 && issuedAtMillis <= principalChangedBefore;
+    }
+}
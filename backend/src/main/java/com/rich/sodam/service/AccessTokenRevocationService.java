@@ -0,0 +1,80 @@
+package com.rich.sodam.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rich.sodam.service.support.AfterCommitExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * 액세스 토큰 폐기·등급 변경 기준 시각 관리.
+ *
+ * <p>JWT 필터가 토큰 클레임만으로 principal 을 만들면(무상태 모드) 로그아웃·탈퇴·등급 변경이 토큰에
+ * 반영되지 않는다. 그래서 사용자별 기준 시각을 {@link TokenStore}(운영 Redis)에 남기고, 인증 경로는
+ * 그 값을 인스턴스 로컬 캐시로 짧게 들고 있는다 — 요청마다 DB 도 Redis 도 가지 않는다. 다른 인스턴스에서
+ * 기록한 폐기는 로컬 캐시 TTL({@code jwt.revocation-cache-seconds}) 안에 반영된다.</p>
+ *
+ * <p>기록은 커밋 이후에 한다 — 롤백된 탈퇴가 사용자를 로그아웃시키지 않도록. 저장소 조회가 실패하면
+ * 기준 없음으로 보고 인증을 계속한다(Redis 장애가 전체 API 장애가 되지 않게, RateLimitFilter 와 같은
+ * fail-open). 서명·만료 검증은 그와 무관하게 항상 수행된다.</p>
+ */
+@Slf4j
+@Service
+public class AccessTokenRevocationService {
+
+    private final TokenStore tokenStore;
+    private final AfterCommitExecutor afterCommitExecutor;
+    private final long tokenValidityInSeconds;
+    private final Cache<Long, AccessTokenCutoff> localCutoffs;
+
+    public AccessTokenRevocationService(TokenStore tokenStore,
+                                        AfterCommitExecutor afterCommitExecutor,
+                                        @Value("${jwt.token-validity-in-seconds}") long tokenValidityInSeconds,
+                                        @Value("${jwt.revocation-cache-seconds:5}") long revocationCacheSeconds) {
+        this.tokenStore = tokenStore;
+        this.afterCommitExecutor = afterCommitExecutor;
+        this.tokenValidityInSeconds = tokenValidityInSeconds;
+        this.localCutoffs = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofSeconds(revocationCacheSeconds))
+                .build();
+    }
+
+    /** 지금까지 발급된 이 사용자의 액세스 토큰을 모두 거부한다 (로그아웃·탈퇴). */
+    public void revokeAfterCommit(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        afterCommitExecutor.execute(() -> {
+            tokenStore.revokeAccessTokensIssuedBefore(userId, System.currentTimeMillis(), tokenValidityInSeconds);
+            localCutoffs.invalidate(userId);
+        });
+    }
+
+    /** 지금까지 발급된 이 사용자의 액세스 토큰은 등급 클레임 대신 DB 값을 쓰게 한다 (등급 변경). */
+    public void principalChangedAfterCommit(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        afterCommitExecutor.execute(() -> {
+            tokenStore.markPrincipalChangedBefore(userId, System.currentTimeMillis(), tokenValidityInSeconds);
+            localCutoffs.invalidate(userId);
+        });
+    }
+
+    public AccessTokenCutoff cutoff(Long userId) {
+        return localCutoffs.get(userId, this::loadCutoff);
+    }
+
+    private AccessTokenCutoff loadCutoff(Long userId) {
+        try {
+            return tokenStore.findAccessTokenCutoff(userId);
+        } catch (RuntimeException e) {
+            log.warn("액세스 토큰 기준 시각 조회 실패 — 기준 없음으로 처리: {}", e.getClass().getSimpleName());
+            return AccessTokenCutoff.NONE;
+        }
+    }
+}
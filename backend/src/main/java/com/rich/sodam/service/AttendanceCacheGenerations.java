@@ -0,0 +1,86 @@
+package com.rich.sodam.service;
+
+import com.rich.sodam.service.support.AfterCommitExecutor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * "attendance" 캐시의 직원·매장 단위 세대(generation) 값.
+ *
+ * <p>예전에는 출퇴근 한 번마다 {@code @CacheEvict(allEntries = true)}로 전 매장의 출근 기록 캐시를 통째로
+ * 비웠다 — 아침 출근 시간대엔 다른 매장 조회까지 매번 미스가 났다. 이제 조회 캐시 키에
+ * {@code employee:{id}:g{세대}} / {@code store:{id}:g{세대}}를 넣고, 출퇴근은 해당 직원·매장의 세대만
+ * 새 값으로 바꾼다. 옛 세대 키는 아무도 다시 읽지 않다가 "attendance" TTL(15분)로 사라진다.</p>
+ *
+ * <p>세대 값은 증가 카운터가 아니라 무작위 토큰이다 — Redis 캐시 API 에 원자적 증가가 없고, 여러 인스턴스가
+ * 같은 순간 올려도 같은 값이 나오지 않아야 해서다. 세대 캐시("attendanceGeneration")의 TTL 은 데이터
+ * 캐시보다 길게 잡아, 세대가 만료돼 기본값으로 돌아갈 때는 그 세대로 만든 데이터 키가 이미 만료돼 있다.
+ * 세대 조회가 실패하면 매번 새 토큰을 돌려줘 캐시 미스로 처리한다(오래된 값을 주지 않는 쪽).</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttendanceCacheGenerations {
+
+    static final String CACHE_NAME = "attendanceGeneration";
+    private static final String INITIAL = "0";
+
+    private final CacheManager cacheManager;
+    private final AfterCommitExecutor afterCommitExecutor;
+
+    /** 직원 기간 조회 캐시 키에 넣을 현재 세대. */
+    public String employee(Long employeeId) {
+        return current("employee:" + employeeId);
+    }
+
+    /** 매장 기간 조회 캐시 키에 넣을 현재 세대. */
+    public String store(Long storeId) {
+        return current("store:" + storeId);
+    }
+
+    /**
+     * 출퇴근 기록이 바뀐 직원·매장의 세대를 커밋 이후에 교체한다. 커밋 전에 바꾸면 다른 스레드가 커밋 전
+     * 데이터로 새 세대 키를 채울 수 있어 {@link AfterCommitExecutor}로 미룬다.
+     */
+    public void bumpAfterCommit(Long employeeId, Long storeId) {
+        afterCommitExecutor.execute(() -> {
+            bump("employee:" + employeeId);
+            bump("store:" + storeId);
+        });
+    }
+
+    private String current(String key) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return newToken();
+        }
+        try {
+            String generation = cache.get(key, String.class);
+            return generation != null ? generation : INITIAL;
+        } catch (RuntimeException e) {
+            log.warn("출근 캐시 세대 조회 실패 — 캐시 미스로 처리: key={}, 오류={}", key, e.getMessage());
+            return newToken();
+        }
+    }
+
+    private void bump(String key) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return;
+        }
+        try {
+            cache.put(key, newToken());
+        } catch (RuntimeException e) {
+            log.warn("출근 캐시 세대 갱신 실패: key={}, 오류={}", key, e.getMessage());
+        }
+    }
+
+    private static String newToken() {
+        return Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    }
+}
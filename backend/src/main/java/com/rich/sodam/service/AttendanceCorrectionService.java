@@ -35,6 +35,7 @@ public class AttendanceCorrectionService {
     private final ManagerSupervisionNotificationService supervision;
     private final StorePermissionRecipientService permissionRecipients;
     private final AttendanceCorrectionReasonRefiner reasonRefiner;
+    private final StoreDailyHeadcountService storeDailyHeadcountService;
 
     /** 정정 요청 생성 결과 — 컨트롤러가 그대로 응답을 조립할 수 있도록 필요한 값만 담는다. */
     public record CorrectionRequestResult(Long id, String status, boolean forbidden) {
@@ -119,8 +120,11 @@ public class AttendanceCorrectionService {
             throw new IllegalArgumentException("정정 대상 매장을 확인할 수 없어요.");
         }
         if (req.getProposedCheckIn() != null) {
+            LocalDateTime previousCheckIn = att.getCheckInTime();
             att.adjustTimes(req.getProposedCheckIn(), req.getProposedCheckOut());
             attendanceRepo.save(att);
+            // 출근 일자가 바뀌면 이전 일자에서 빠지고 새 일자에 더해진다.
+            storeDailyHeadcountService.recordCheckIns(att.getStore().getId(), previousCheckIn, att.getCheckInTime());
         }
         req.approve();
 
@@ -29,7 +29,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -92,7 +94,7 @@ public class AttendanceIrregularityService {
      *
      * <p>DEDUCTED 는 이미 {@link PayrollService}가 시프트-출퇴근 대조로 자동 공제하는 금액을
      * 사장이 확인만 한 것이므로 별도 반영이 필요 없고, CONVERTED_TO_LEAVE 는 연차 전환 시 생성되는
-     * APPROVED TimeOff 가 기존 결근 공제 제외 로직({@code PayrollService#approvedTimeOffDates})을
+     * APPROVED TimeOff 가 기존 결근 공제 제외 로직({@code PayrollCalculationContext#approvedTimeOffDates})을
      * 그대로 타므로 여기서 다룰 필요가 없다 — WAIVED 만 이 메서드로 별도 보정한다.</p>
      */
     @Transactional(readOnly = true)
@@ -104,6 +106,22 @@ public class AttendanceIrregularityService {
                         AttendanceIrregularity::getShiftDate, AttendanceIrregularity::getMinutesShort, Integer::sum));
     }
 
+    /**
+     * {@link #waivedMinutesByDate}의 매장 단위 일괄 버전 — 직원 ID → (날짜 → WAIVED 미근무분) 을 쿼리 1회로 만든다.
+     * 매장 급여 계산 컨텍스트({@link PayrollCalculationContextLoader})가 직원마다 조회하지 않도록 쓴다.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Map<LocalDate, Integer>> waivedMinutesByEmployeeAndDate(
+            Long storeId, Collection<Long> employeeIds, LocalDate from, LocalDate to) {
+        Map<Long, Map<LocalDate, Integer>> result = new HashMap<>();
+        irregularityRepository.findByStoreIdAndEmployeeIdInAndShiftDateBetweenAndResolution(
+                        storeId, employeeIds, from, to, com.rich.sodam.domain.type.AttendanceIrregularityResolution.WAIVED)
+                .forEach(irregularity -> result
+                        .computeIfAbsent(irregularity.getEmployeeId(), ignored -> new HashMap<>())
+                        .merge(irregularity.getShiftDate(), irregularity.getMinutesShort(), Integer::sum));
+        return result;
+    }
+
     @Transactional
     void detectForStore(Long storeId, LocalDate from, LocalDate to) {
         LocalDate detectTo = to.isAfter(LocalDate.now()) ? LocalDate.now() : to;
@@ -3,11 +3,15 @@ package com.rich.sodam.service;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 import com.rich.sodam.domain.Attendance;
 import com.rich.sodam.domain.EmployeeStoreRelation;
+import com.rich.sodam.domain.ReminderLog;
 import com.rich.sodam.domain.Store;
+import com.rich.sodam.domain.StoreDueSlot;
 import com.rich.sodam.domain.User;
+import com.rich.sodam.domain.type.ReminderType;
 import com.rich.sodam.repository.AttendanceRepository;
 import com.rich.sodam.repository.EmployeeStoreRelationRepository;
 import com.rich.sodam.repository.MasterStoreRelationRepository;
+import com.rich.sodam.repository.ReminderLogRepository;
 import com.rich.sodam.repository.StoreRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,10 +20,14 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.TreeSet;
 
 /**
  * 출퇴근 누락 감지 스케줄러.
@@ -28,76 +36,70 @@ import java.util.Optional;
  *  - 운영시작 + 30분 후 출근 기록 없는 직원 → 본인+사장에게 푸시
  *  - 운영종료 + 60분 후 미퇴근 직원(체크인만 있고 체크아웃 없음) → 본인+사장에게 푸시
  *
- * 빈도: 매 15분.
- * 중복 알림 방지: 단일 인스턴스에서 발송 후 메모리 캐시 — 단순 PoC. 운영에서는 Redis SETNX 권장.
+ * 빈도: 매 15분. 기준 시각(오픈+30, 마감+60)이 지난 지 {@value CATCH_UP_MINUTES}분 이내인 매장을 매 틱
+ * 다시 판정한다 — 틱이 건너뛰어지거나 늦게 돌거나 다른 노드가 락을 쥐고 있었어도 다음 틱이 이어서 보낸다.
+ * 후보 매장은 {@link StoreDueSlotIndex}의 오픈·마감 슬롯 범위 조회로 고르고 페이지 단위로 읽는다. 자정을 넘긴
+ * 마감+60 은 전날 요일의 마감 슬롯으로 잡힌다(주 단위 분 범위 조회라 요일·주 경계를 그대로 넘는다).
+ *
+ * <p><b>멱등성</b>: {@link ReminderLog} (store_id, reminder_type, target_date=영업일, ref_id=직원 프로필 ID)
+ * 유니크 — 발송 전 존재 체크, 발송 전 기록. 따라잡기 구간 안에서 여러 틱이 같은 직원을 판정해도 영업일·유형당
+ * 1회만 보낸다.</p>
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class AttendanceMissingScheduler {
 
+    private static final int AFTER_OPEN_MINUTES = 30;
+    private static final int AFTER_CLOSE_MINUTES = 60;
+    /**
+     * 기준 시각을 지난 뒤 후보로 다시 잡아주는 시간(분). 15분 틱이 몇 번 빠져도 이 시간 안의 건은 이어서
+     * 발송한다(발송 여부는 reminder_log 멱등으로 판단).
+     */
+    static final int CATCH_UP_MINUTES = 60;
+
     private final StoreRepository storeRepository;
     private final EmployeeStoreRelationRepository employeeStoreRelationRepository;
     private final MasterStoreRelationRepository masterStoreRelationRepository;
     private final AttendanceRepository attendanceRepository;
+    private final ReminderLogRepository reminderLogRepository;
     private final NotificationService notificationService;
+    private final StoreDueSlotIndex storeDueSlotIndex;
 
     /** 매 15분마다 점검. */
     @Scheduled(cron = "0 */15 * * * *", zone = "Asia/Seoul")
-    @Transactional(readOnly = true)
+    @Transactional
     @SchedulerLock(name = "attendanceMissing", lockAtMostFor = "PT10M", lockAtLeastFor = "PT30S")
     public void detectMissingAttendance() {
-        LocalDateTime now = LocalDateTime.now();
-        DayOfWeek today = now.getDayOfWeek();
-        LocalTime nowTime = now.toLocalTime();
+        detectMissingAttendance(LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES));
+    }
 
-        List<Store> stores = storeRepository.findAll();
-        int missingCount = 0;
+    /** 시각 주입 가능 버전(테스트용). */
+    void detectMissingAttendance(LocalDateTime now) {
+        LocalDateTime windowStart = now.minusMinutes(CATCH_UP_MINUTES);
 
-        for (Store store : stores) {
-            if (!store.isActive()) continue;
-            if (store.getOperatingHours() == null) continue;
-            if (!store.getOperatingHours().isOpenOn(today)) continue;
-
-            LocalTime openTime = store.getOperatingHours().getOpenTime(today);
-            LocalTime closeTime = store.getOperatingHours().getCloseTime(today);
-            if (openTime == null || closeTime == null) continue;
-
-            boolean afterOpening30Min = nowTime.isAfter(openTime.plusMinutes(30));
-            boolean afterClosing60Min = nowTime.isAfter(closeTime.plusMinutes(60));
-
-            if (!afterOpening30Min && !afterClosing60Min) continue;
-
-            // 매장의 활성 직원 조회
-            List<EmployeeStoreRelation> relations =
-                    employeeStoreRelationRepository.findByStoreAndIsActiveTrue(store);
-
-            LocalDateTime startOfDay = now.toLocalDate().atStartOfDay();
-            LocalDateTime endOfDay = startOfDay.plusDays(1);
-            List<Attendance> today_attendances =
-                    attendanceRepository.findByStoreAndDate(store, startOfDay, endOfDay);
-
-            for (EmployeeStoreRelation rel : relations) {
-                if (rel.getEmployeeProfile() == null) continue;
-                User emp = rel.getEmployeeProfile().getUser();
-                if (emp == null) continue;
-
-                Optional<Attendance> myToday = today_attendances.stream()
-                        .filter(a -> a.getEmployeeProfile().getId().equals(rel.getEmployeeProfile().getId()))
-                        .findFirst();
-
-                if (afterClosing60Min && myToday.isPresent() && myToday.get().getCheckOutTime() == null) {
-                    // 퇴근 누락 — 직원 + 사장
-                    log.info("퇴근 누락 감지 store={} emp={}", store.getId(), emp.getId());
-                    notificationService.notifyAttendanceMissing(emp.getId(), store.getStoreName());
-                    notifyMastersOfStore(store);
-                    missingCount++;
-                } else if (afterOpening30Min && myToday.isEmpty()) {
-                    // 출근 누락 — 직원 + 사장
-                    log.info("출근 누락 감지 store={} emp={}", store.getId(), emp.getId());
-                    notificationService.notifyAttendanceMissing(emp.getId(), store.getStoreName());
-                    notifyMastersOfStore(store);
-                    missingCount++;
+        // 오픈+30 이 (now-60, now] 에 들어온 매장 ∪ 마감+60 이 (now-60, now] 에 들어온 매장
+        TreeSet<Long> candidates = new TreeSet<>(storeDueSlotIndex.dueStoreIds(StoreDueSlot.Type.OPEN,
+                windowStart.minusMinutes(AFTER_OPEN_MINUTES), now.minusMinutes(AFTER_OPEN_MINUTES)));
+        candidates.addAll(storeDueSlotIndex.dueStoreIds(StoreDueSlot.Type.CLOSE,
+                windowStart.minusMinutes(AFTER_CLOSE_MINUTES), now.minusMinutes(AFTER_CLOSE_MINUTES)));
+
+        int missingCount = 0;
+        for (List<Long> page : StoreDueSlotIndex.pages(new ArrayList<>(candidates))) {
+            for (Store store : storeRepository.findAllById(page)) {
+                if (!store.isActive()) continue;
+                if (store.getOperatingHours() == null) continue;
+
+                // 출근 누락: 오픈+30 이 구간 안 / 퇴근 누락: 마감+60 이 구간 안. 따라잡기 구간이 자정을 넘을 수 있어
+                // 오늘·어제 영업일을 모두 본다(23시 이후 마감은 +60 이 자정을 넘긴다).
+                LocalDate today = now.toLocalDate();
+                for (LocalDate businessDay : List.of(today, today.minusDays(1))) {
+                    if (inWindow(store, businessDay, true, windowStart, now)) {
+                        missingCount += notifyMissing(store, businessDay, false);
+                    }
+                    if (inWindow(store, businessDay, false, windowStart, now)) {
+                        missingCount += notifyMissing(store, businessDay, true);
+                    }
                 }
             }
         }
@@ -107,6 +109,77 @@ public class AttendanceMissingScheduler {
         }
     }
 
+    /** 영업일 businessDay 의 오픈+30(또는 마감+60) 시각이 (windowStart, now] 안인지. */
+    private boolean inWindow(Store store, LocalDate businessDay, boolean open,
+                             LocalDateTime windowStart, LocalDateTime now) {
+        DayOfWeek dow = businessDay.getDayOfWeek();
+        if (!store.getOperatingHours().isOpenOn(dow)) return false;
+        LocalTime openTime = store.getOperatingHours().getOpenTime(dow);
+        LocalTime closeTime = store.getOperatingHours().getCloseTime(dow);
+        if (openTime == null || closeTime == null) return false;
+
+        LocalDateTime due;
+        if (open) {
+            due = businessDay.atTime(openTime).plusMinutes(AFTER_OPEN_MINUTES);
+        } else {
+            due = businessDay.atTime(closeTime).plusMinutes(AFTER_CLOSE_MINUTES);
+        }
+        return due.isAfter(windowStart) && !due.isAfter(now);
+    }
+
+    /**
+     * 영업일 businessDay 기준 누락 직원에게(+사장) 알린다.
+     * checkOut=false 면 출근 기록 없음, true 면 체크인만 있고 체크아웃 없음.
+     */
+    private int notifyMissing(Store store, LocalDate businessDay, boolean checkOut) {
+        // 매장의 활성 직원 조회
+        List<EmployeeStoreRelation> relations =
+                employeeStoreRelationRepository.findWithEmployeeByStoreAndIsActiveTrue(store);
+
+        LocalDateTime startOfDay = businessDay.atStartOfDay();
+        LocalDateTime endOfDay = startOfDay.plusDays(1);
+        List<Attendance> dayAttendances =
+                attendanceRepository.findByStoreAndDate(store, startOfDay, endOfDay);
+
+        int count = 0;
+        for (EmployeeStoreRelation rel : relations) {
+            if (rel.getEmployeeProfile() == null) continue;
+            User emp = rel.getEmployeeProfile().getUser();
+            if (emp == null) continue;
+
+            Optional<Attendance> myDay = dayAttendances.stream()
+                    .filter(a -> a.getEmployeeProfile().getId().equals(rel.getEmployeeProfile().getId()))
+                    .findFirst();
+
+            boolean missing = checkOut
+                    ? myDay.isPresent() && myDay.get().getCheckOutTime() == null
+                    : myDay.isEmpty();
+            if (!missing) continue;
+            ReminderType type = checkOut
+                    ? ReminderType.ATTENDANCE_CHECK_OUT_MISSING : ReminderType.ATTENDANCE_CHECK_IN_MISSING;
+            if (!markSent(store, type, businessDay, rel.getEmployeeProfile().getId())) continue;
+            // 출근·퇴근 누락 — 직원 + 사장
+            log.info("{} 감지 store={} emp={}", checkOut ? "퇴근 누락" : "출근 누락", store.getId(), emp.getId());
+            notificationService.notifyAttendanceMissing(emp.getId(), store.getStoreName());
+            notifyMastersOfStore(store);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * 영업일·유형·직원당 1회 — reminder_log 에 없으면 기록하고 true. 기록을 먼저 남겨 유니크 제약이 동시 실행
+     * 중복도 막는다.
+     */
+    private boolean markSent(Store store, ReminderType type, LocalDate businessDay, Long employeeProfileId) {
+        if (reminderLogRepository.existsByStoreIdAndReminderTypeAndTargetDateAndRefId(
+                store.getId(), type, businessDay, employeeProfileId)) {
+            return false;
+        }
+        reminderLogRepository.save(new ReminderLog(store.getId(), type, businessDay, employeeProfileId));
+        return true;
+    }
+
     /** 같은 매장의 사장(MASTER) 들에게도 동일 알림. */
     private void notifyMastersOfStore(Store store) {
         masterStoreRelationRepository.findByStore(store).forEach(rel -> {
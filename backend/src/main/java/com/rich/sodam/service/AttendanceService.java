@@ -20,9 +20,7 @@ import com.rich.sodam.service.support.AfterCommitExecutor;
 import com.rich.sodam.util.DateTimeUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -62,6 +60,8 @@ public class AttendanceService {
     private final NfcVerificationService nfcVerificationService;
     private final StoreQrTokenService storeQrTokenService;
     private final AfterCommitExecutor afterCommitExecutor;
+    private final AttendanceCacheGenerations attendanceCacheGenerations;
+    private final StoreDailyHeadcountService storeDailyHeadcountService;
 
     /**
      * 위치정보 수집·이용 동의 여부를 강제한다(위치정보법 §18·§19, G-1).
@@ -92,10 +92,6 @@ public class AttendanceService {
      * 그 시각을 출근시각으로 채택하고, 초과(또는 미래 시각)면 서버시각으로 폴백한다.
      */
     @Transactional
-    // 컨트롤러가 프록시로 호출하는 진입점에 캐시 무효화를 둔다. 내부에서 this.checkIn(...) 자기호출은
-    // AOP 프록시를 우회해 checkIn 의 @CacheEvict 가 발화하지 않으므로, 여기서 직접 evict 해야
-    // 출근 직후 attendance 조회(오늘/기간)가 stale 캐시를 반환하지 않는다.
-    @CacheEvict(value = "attendance", allEntries = true)
     public Attendance checkInWithVerification(Long employeeId, Long storeId,
                                               Double latitude, Double longitude, LocalDateTime queuedAt) {
         // 위치정보 동의 강제 (위치정보법 §18·§19) — GPS 좌표 수집·검증 전에 확인
@@ -117,9 +113,6 @@ public class AttendanceService {
      * 직원 출근 처리
      */
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "attendance", allEntries = true)
-    })
     public Attendance checkIn(Long employeeId, Long storeId, Double latitude, Double longitude) {
         return checkIn(employeeId, storeId, latitude, longitude, null);
     }
@@ -129,9 +122,6 @@ public class AttendanceService {
      * (오프라인 큐 적재분 보정용 — 임계 검증은 호출부에서 끝난다).
      */
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "attendance", allEntries = true)
-    })
     public Attendance checkIn(Long employeeId, Long storeId, Double latitude, Double longitude,
                               LocalDateTime effectiveTime) {
         // 직원과 매장 조회
@@ -163,6 +153,10 @@ public class AttendanceService {
         }
 
         Attendance saved = attendanceRepository.save(attendance);
+        // 이 직원·매장 조회 캐시만 무효화. GPS/NFC/QR 진입점의 this.checkIn(...) 자기호출도 여기를 지나므로
+        // 프록시 우회로 무효화가 빠지는 일이 없다(예전 진입점별 @CacheEvict 가 필요했던 이유).
+        attendanceCacheGenerations.bumpAfterCommit(employeeId, storeId);
+        storeDailyHeadcountService.recordCheckIns(storeId, saved.getCheckInTime());
 
         // 해당 직원-매장 최초 출근일 때만 1회 발화 (record 는 실패해도 흐름 영향 없음)
         if (isFirstCheckIn) {
@@ -184,9 +178,6 @@ public class AttendanceService {
      * 직원 퇴근 처리 (위치 검증 + 오프라인 큐 시각 수락). 임계 검증은 {@link #resolveQueuedTime}.
      */
     @Transactional
-    // 진입점에 캐시 무효화 — this.checkOut(...) 자기호출은 프록시 우회로 checkOut 의 @CacheEvict 가
-    // 발화하지 않는다(퇴근 후에도 today 조회가 checkOutTime=null 인 stale 레코드 반환 → '근무중' 잔류).
-    @CacheEvict(value = "attendance", allEntries = true)
     public Attendance checkOutWithVerification(Long employeeId, Long storeId,
                                                Double latitude, Double longitude, LocalDateTime queuedAt) {
         // 위치정보 동의 강제 (위치정보법 §18·§19)
@@ -212,9 +203,6 @@ public class AttendanceService {
      * {@link NfcVerificationException}으로 거부한다(대리출근 방지).</p>
      */
     @Transactional
-    // 진입점에 캐시 무효화 — this.checkIn(...) 자기호출은 프록시를 우회해 checkIn 의 @CacheEvict 가
-    // 발화하지 않는다(checkInWithVerification 과 동일한 이유).
-    @CacheEvict(value = "attendance", allEntries = true)
     public Attendance checkInWithNfcVerification(Long employeeId, Long storeId, String tagId, LocalDateTime queuedAt) {
         var verifyResult = nfcVerificationService.verifyTag(storeId, tagId);
         if (!verifyResult.isSuccess()) {
@@ -235,7 +223,6 @@ public class AttendanceService {
      * 서버 시각 기준 유효기간을 모두 본다.</p>
      */
     @Transactional
-    @CacheEvict(value = "attendance", allEntries = true)
     public Attendance checkInWithQrVerification(Long employeeId, Long storeId, String qrToken, LocalDateTime queuedAt) {
         storeQrTokenService.verify(storeId, qrToken);
 
@@ -247,7 +234,6 @@ public class AttendanceService {
 
     /** QR 전용 퇴근 처리 — {@link #checkInWithQrVerification}과 대칭. */
     @Transactional
-    @CacheEvict(value = "attendance", allEntries = true)
     public Attendance checkOutWithQrVerification(Long employeeId, Long storeId, String qrToken, LocalDateTime queuedAt) {
         storeQrTokenService.verify(storeId, qrToken);
 
@@ -261,7 +247,6 @@ public class AttendanceService {
      * NFC 전용 퇴근 처리 — {@link #checkInWithNfcVerification}과 대칭.
      */
     @Transactional
-    @CacheEvict(value = "attendance", allEntries = true)
     public Attendance checkOutWithNfcVerification(Long employeeId, Long storeId, String tagId, LocalDateTime queuedAt) {
         var verifyResult = nfcVerificationService.verifyTag(storeId, tagId);
         if (!verifyResult.isSuccess()) {
@@ -318,9 +303,6 @@ public class AttendanceService {
      * 직원 퇴근 처리
      */
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "attendance", allEntries = true)
-    })
     public Attendance checkOut(Long employeeId, Long storeId, Double latitude, Double longitude) {
         return checkOut(employeeId, storeId, latitude, longitude, null);
     }
@@ -330,9 +312,6 @@ public class AttendanceService {
      * 단, 출근시각보다 이른 시각은 엔티티가 거부하므로 그 경우 현재 시각으로 폴백한다.
      */
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "attendance", allEntries = true)
-    })
     public Attendance checkOut(Long employeeId, Long storeId, Double latitude, Double longitude,
                                LocalDateTime effectiveTime) {
         // 직원과 매장 조회
@@ -359,14 +338,17 @@ public class AttendanceService {
             attendance.checkOut(latitude, longitude);
         }
 
-        return attendanceRepository.save(attendance);
+        Attendance saved = attendanceRepository.save(attendance);
+        attendanceCacheGenerations.bumpAfterCommit(employeeId, storeId);
+        return saved;
     }
 
     /**
      * 특정 직원의 특정 기간 출퇴근 기록 조회
      */
     @Transactional(readOnly = true)
-    @Cacheable(value = "attendance", key = "'employee:' + #employeeId + ':' + #startDate.toString() + ':' + #endDate.toString()")
+    @Cacheable(value = "attendance", key = "'employee:' + #employeeId + ':g' + @attendanceCacheGenerations.employee(#employeeId)"
+            + " + ':' + #startDate.toString() + ':' + #endDate.toString()")
     public List<Attendance> getAttendancesByEmployeeAndPeriod(
             Long employeeId, LocalDateTime startDate, LocalDateTime endDate) {
 
@@ -389,7 +371,8 @@ public class AttendanceService {
      * 특정 매장의 특정 기간 출퇴근 기록 조회
      */
     @Transactional(readOnly = true)
-    @Cacheable(value = "attendance", key = "'store:' + #storeId + ':' + #startDate.toString() + ':' + #endDate.toString()")
+    @Cacheable(value = "attendance", key = "'store:' + #storeId + ':g' + @attendanceCacheGenerations.store(#storeId)"
+            + " + ':' + #startDate.toString() + ':' + #endDate.toString()")
     public List<Attendance> getAttendancesByStoreAndPeriod(
             Long storeId, LocalDateTime startDate, LocalDateTime endDate) {
 
@@ -426,9 +409,6 @@ public class AttendanceService {
      * ATTEND-004: 사업주가 직원 대신 출퇴근 기록을 수동으로 등록
      */
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "attendance", allEntries = true)
-    })
     public Attendance registerManualAttendance(ManualAttendanceRequestDto request) {
         // 1. 사업주 권한 검증
         userService.validateMasterPermission(request.getRegisteredBy());
@@ -444,7 +424,10 @@ public class AttendanceService {
         // 4. 출퇴근 기록 생성
         Attendance attendance = createManualAttendance(context, request);
 
-        return attendanceRepository.save(attendance);
+        Attendance saved = attendanceRepository.save(attendance);
+        attendanceCacheGenerations.bumpAfterCommit(request.getEmployeeId(), request.getStoreId());
+        storeDailyHeadcountService.recordCheckIns(request.getStoreId(), saved.getCheckInTime());
+        return saved;
     }
 
     /**
@@ -1,5 +1,8 @@
 package com.rich.sodam.service;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.rich.sodam.config.nearcache.TwoLevelCache;
+import com.rich.sodam.config.nearcache.TwoLevelCacheManager;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.CacheManager;
@@ -93,12 +96,35 @@ public class CacheMetricsService {
                 cacheStats.put("keyCount", "조회 실패");
             }
 
+            putNearCacheStats(cacheName, cacheStats);
+
             statistics.put(cacheName, cacheStats);
         }
 
         return statistics;
     }
 
+    /**
+     * L1(near cache)이 붙은 캐시면 계층별 통계를 덧붙인다.
+     */
+    private void putNearCacheStats(String cacheName, Map<String, Object> cacheStats) {
+        if (!(cacheManager instanceof TwoLevelCacheManager twoLevelCacheManager)) {
+            return;
+        }
+        TwoLevelCache nearCache = twoLevelCacheManager.nearCaches().get(cacheName);
+        if (nearCache == null) {
+            return;
+        }
+        CacheStats l1Stats = nearCache.l1().stats();
+        cacheStats.put("l1Hits", l1Stats.hitCount());
+        cacheStats.put("l1Misses", l1Stats.missCount());
+        cacheStats.put("l1HitRate", String.format("%.2f%%", l1Stats.hitRate() * 100.0));
+        cacheStats.put("l1Evictions", l1Stats.evictionCount());
+        cacheStats.put("l1Size", nearCache.l1().estimatedSize());
+        cacheStats.put("l2Hits", nearCache.l2Hits());
+        cacheStats.put("l2Misses", nearCache.l2Misses());
+    }
+
     /**
      * 캐시 메모리 사용량 조회 (Redis 정보)
      */
@@ -140,6 +166,12 @@ public class CacheMetricsService {
             report.append(String.format("   - 히트율: %s\n", stats.get("hitRate")));
             report.append(String.format("   - 총 요청: %s\n", stats.get("totalRequests")));
             report.append(String.format("   - 키 개수: %s\n", stats.get("keyCount")));
+            if (stats.containsKey("l1Hits")) {
+                report.append(String.format("   - L1 히트/미스/축출: %s / %s / %s (히트율 %s, 크기 %s)\n",
+                        stats.get("l1Hits"), stats.get("l1Misses"), stats.get("l1Evictions"),
+                        stats.get("l1HitRate"), stats.get("l1Size")));
+                report.append(String.format("   - L2 히트/미스: %s / %s\n", stats.get("l2Hits"), stats.get("l2Misses")));
+            }
             report.append("\n");
         }
 
@@ -4,6 +4,7 @@ import com.rich.sodam.domain.EmployeeStoreRelation;
 import com.rich.sodam.domain.Store;
 import com.rich.sodam.domain.type.CertificateType;
 import com.rich.sodam.repository.EmployeeStoreRelationRepository;
+import com.rich.sodam.util.PdfFonts;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.access.AccessDeniedException;
@@ -76,14 +77,7 @@ public class CertificateService {
             com.lowagie.text.pdf.PdfWriter.getInstance(document, baos);
 
             // 한글 지원 폰트 — 시스템 폰트 fallback (운영에서는 NanumGothic.ttf 번들 권장)
-            com.lowagie.text.pdf.BaseFont bf;
-            try {
-                bf = com.lowagie.text.pdf.BaseFont.createFont(
-                        "HYSMyeongJoStd-Medium", "UniKS-UCS2-H",
-                        com.lowagie.text.pdf.BaseFont.NOT_EMBEDDED);
-            } catch (Exception ignored) {
-                bf = com.lowagie.text.pdf.BaseFont.createFont();
-            }
+            com.lowagie.text.pdf.BaseFont bf = PdfFonts.korean();
             com.lowagie.text.Font fontTitle = new com.lowagie.text.Font(bf, 20, com.lowagie.text.Font.BOLD);
             com.lowagie.text.Font fontH = new com.lowagie.text.Font(bf, 12, com.lowagie.text.Font.BOLD);
             com.lowagie.text.Font fontN = new com.lowagie.text.Font(bf, 11);
@@ -11,6 +11,7 @@ import com.rich.sodam.exception.ConflictException;
 import com.rich.sodam.exception.EntityNotFoundException;
 import com.rich.sodam.repository.ChatMessageReportRepository;
 import com.rich.sodam.repository.ChatMessageRepository;
+import com.rich.sodam.repository.ChatRoomSummaryRepository;
 import com.rich.sodam.repository.ChatUserRestrictionRepository;
 import com.rich.sodam.repository.UserBlockRepository;
 import com.rich.sodam.repository.UserRepository;
@@ -22,6 +23,9 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
+import java.util.Set;
+
 /**
  * 채팅 최소 안전장치 — 메시지 신고 + 사용자 차단(recruitment-monetization-gamification-plan.md §4.4,
  * Phase D).
@@ -46,6 +50,7 @@ public class ChatModerationService {
     private final ChatUserRestrictionRepository chatUserRestrictionRepository;
     private final UserBlockRepository userBlockRepository;
     private final UserRepository userRepository;
+    private final ChatRoomSummaryRepository chatRoomSummaryRepository;
 
     @Value("${sodam.recruitment.chat.report-threshold:3}")
     private int reportThreshold;
@@ -87,7 +92,10 @@ public class ChatModerationService {
         }
 
         // 신고 접수 피드백(§4.4) — 채팅창에 시스템 메시지로 즉시 확인시켜준다.
-        chatMessageRepository.save(ChatMessage.systemMessage(message.getChatRoom(), "신고가 접수됐어요. 검토 후 안내드릴게요."));
+        ChatMessage notice = chatMessageRepository.save(
+                ChatMessage.systemMessage(message.getChatRoom(), "신고가 접수됐어요. 검토 후 안내드릴게요."));
+        chatRoomSummaryRepository.recordLastMessage(
+                message.getChatRoom().getId(), notice.getContent(), notice.getSentAt());
     }
 
     private ChatReportReason parseReason(String raw) {
@@ -129,4 +137,16 @@ public class ChatModerationService {
         return userBlockRepository.existsByBlockerUser_IdAndBlockedUser_Id(userId1, userId2)
                 || userBlockRepository.existsByBlockerUser_IdAndBlockedUser_Id(userId2, userId1);
     }
+
+    /**
+     * {@code userId} 와 어느 쪽으로든 차단 관계인 상대 ID 전부 — 목록처럼 여러 상대를 한꺼번에 거를 때
+     * {@link #isBlockedEitherWay}를 상대마다 부르지 않고 쿼리 한 번으로 판정한다.
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> blockedEitherWay(Long userId) {
+        if (userId == null) {
+            return Set.of();
+        }
+        return new HashSet<>(userBlockRepository.findCounterpartIdsEitherWay(userId));
+    }
 }
@@ -2,6 +2,7 @@ package com.rich.sodam.service;
 
 import com.rich.sodam.domain.ChatMessage;
 import com.rich.sodam.domain.ChatRoom;
+import com.rich.sodam.domain.ChatRoomSummary;
 import com.rich.sodam.domain.ChatUserRestriction;
 import com.rich.sodam.domain.JobApplication;
 import com.rich.sodam.domain.JobOffer;
@@ -17,6 +18,7 @@ import com.rich.sodam.exception.ConflictException;
 import com.rich.sodam.exception.EntityNotFoundException;
 import com.rich.sodam.repository.ChatMessageRepository;
 import com.rich.sodam.repository.ChatRoomRepository;
+import com.rich.sodam.repository.ChatRoomSummaryRepository;
 import com.rich.sodam.repository.ChatUserRestrictionRepository;
 import com.rich.sodam.repository.MasterStoreRelationRepository;
 import com.rich.sodam.repository.UserRepository;
@@ -35,7 +37,7 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 
 /**
  * 채팅방/메시지 서비스(recruitment-monetization-gamification-plan.md §4, Phase D).
@@ -59,6 +61,7 @@ public class ChatRoomService {
 
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMessageRepository chatMessageRepository;
+    private final ChatRoomSummaryRepository chatRoomSummaryRepository;
     private final ChatUserRestrictionRepository restrictionRepository;
     private final UserRepository userRepository;
     private final MasterStoreRelationRepository masterStoreRelationRepository;
@@ -108,6 +111,8 @@ public class ChatRoomService {
             ChatRoom saved = chatRoomRepository.save(room);
             ChatMessage opening = ChatMessage.systemMessage(saved, openingSystemMessage(sourceType));
             chatMessageRepository.save(opening);
+            chatRoomSummaryRepository.save(ChatRoomSummary.opened(saved, saved.getMasterUser(), opening));
+            chatRoomSummaryRepository.save(ChatRoomSummary.opened(saved, saved.getCounterpartUser(), opening));
         } catch (DataIntegrityViolationException e) {
             // 동시 요청 레이스 — 유니크 제약(source_type, source_id) 위반은 이미 채팅방이 개설됐다는 뜻이므로 무시(idempotent).
             log.info("채팅방 동시 중복 개설 방지 — sourceType={} sourceId={}", sourceType, sourceId);
@@ -124,18 +129,22 @@ public class ChatRoomService {
     // GET /api/chat-rooms/me
     // ─────────────────────────────────────────────────────────────────
 
+    /**
+     * 참여자별 요약({@link ChatRoomSummary}) 한 번 조회 + 차단 상대 한 번 조회로 끝낸다 — 방 수와 무관하게
+     * 쿼리 2회. 마지막 메시지·미읽음 수는 발신·읽음 처리 시점에 요약에 반영돼 있다.
+     */
     @Transactional(readOnly = true)
     public List<ChatRoomListItemResponse> getMyChatRooms(Long userId) {
-        return chatRoomRepository.findByMasterUser_IdOrCounterpartUser_IdOrderByCreatedAtDesc(userId, userId).stream()
-                .filter(room -> !chatModerationService.isBlockedEitherWay(userId, room.otherParticipant(userId).getId()))
-                .map(room -> toListItem(room, userId))
+        Set<Long> blocked = chatModerationService.blockedEitherWay(userId);
+        return chatRoomSummaryRepository.findWithRoomByUserId(userId).stream()
+                .filter(summary -> !blocked.contains(summary.getCounterpartUserId()))
+                .map(summary -> toListItem(summary, userId))
                 .toList();
     }
 
-    private ChatRoomListItemResponse toListItem(ChatRoom room, Long viewerUserId) {
+    private ChatRoomListItemResponse toListItem(ChatRoomSummary summary, Long viewerUserId) {
+        ChatRoom room = summary.getChatRoom();
         User counterpart = room.otherParticipant(viewerUserId);
-        Optional<ChatMessage> last = chatMessageRepository.findTopByChatRoom_IdOrderBySentAtDesc(room.getId());
-        long unread = chatMessageRepository.countByChatRoom_IdAndSender_IdNotAndReadAtIsNull(room.getId(), viewerUserId);
         ChatRoomStatus effectiveStatus = resolveEffectiveStatus(room);
 
         return new ChatRoomListItemResponse(
@@ -150,9 +159,9 @@ public class ChatRoomService {
                 room.getEndTime(),
                 room.getHourlyWage(),
                 effectiveStatus.name(),
-                last.map(ChatMessage::getContent).orElse(null),
-                last.map(ChatMessage::getSentAt).orElse(null),
-                unread,
+                summary.getLastMessageContent(),
+                summary.getLastMessageAt(),
+                summary.getUnreadCount(),
                 room.getMatchedAt());
     }
 
@@ -166,8 +175,11 @@ public class ChatRoomService {
         assertNotBlocked(room, userId);
 
         // 목록 조회 시점에 상대가 보낸 미읽음 메시지를 자동으로 읽음 처리한다(카톡류 관행).
-        chatMessageRepository.findByChatRoom_IdAndSender_IdNotAndReadAtIsNull(chatRoomId, userId)
-                .forEach(m -> m.markReadBy(userId));
+        List<ChatMessage> unread = chatMessageRepository.findByChatRoom_IdAndSender_IdNotAndReadAtIsNull(chatRoomId, userId);
+        unread.forEach(m -> m.markReadBy(userId));
+        if (!unread.isEmpty()) {
+            chatRoomSummaryRepository.decrementUnread(chatRoomId, userId, unread.size());
+        }
 
         Page<ChatMessage> messages = chatMessageRepository.findByChatRoom_IdOrderBySentAtAsc(
                 chatRoomId, PageRequest.of(page, size));
@@ -190,10 +202,13 @@ public class ChatRoomService {
         ChatMessage message = ChatMessage.userMessage(room, sender, masked.content(), masked.masked());
         message = chatMessageRepository.save(message);
 
-        ChatMessageResponse recipientView = toMessageResponse(message, room.otherParticipant(senderUserId).getId());
+        User recipient = room.otherParticipant(senderUserId);
+        chatRoomSummaryRepository.recordLastMessage(chatRoomId, message.getContent(), message.getSentAt());
+        chatRoomSummaryRepository.incrementUnread(chatRoomId, recipient.getId());
+
+        ChatMessageResponse recipientView = toMessageResponse(message, recipient.getId());
         liveSyncPublisher.publishChatMessage(chatRoomId, recipientView);
 
-        User recipient = room.otherParticipant(senderUserId);
         notificationService.notifyChatMessageReceived(recipient.getId(), sender.getName(), room.getStore().getStoreName());
 
         return toMessageResponse(message, senderUserId);
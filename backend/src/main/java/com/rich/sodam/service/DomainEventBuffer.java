@@ -0,0 +1,287 @@
+package com.rich.sodam.service;
+
+import com.rich.sodam.config.DomainEventIngestProperties;
+import com.rich.sodam.domain.DomainEvent;
+import com.rich.sodam.domain.type.DomainEventType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 퍼널 계측 이벤트(domain_event) 비동기 일괄 적재.
+ *
+ * <p>{@link DomainEventService#record}가 요청 스레드에서 건마다 INSERT 하던 것을 대신한다. 이벤트는 고정 크기
+ * 버퍼에 넣기만 하고, 전용 스레드 하나가 {@link DomainEventIngestProperties#getBatchSize()}건이 차거나
+ * {@link DomainEventIngestProperties#getFlushInterval()}이 지나면 JDBC 배치 INSERT 로 모아 쓴다
+ * ({@code PayrollDetailBatchWriter}와 같은 이유 — IDENTITY 키라 Hibernate 배치가 안 된다). 같은 트랜잭션에서
+ * 매장·일자·종류별 건수({@code domain_event_daily_count})도 누적 UPSERT 한다.</p>
+ *
+ * <p>버퍼가 가득 차면 새 이벤트는 버린다(요청을 기다리게 하지 않는다). 기록 실패도 배치째 버리고 로그만
+ * 남긴다. 적재·버림·실패 건수는 {@code sodam.domain_event.ingest.*} 지표로 나간다. 종료 시에는 웹 서버가
+ * 요청을 다 끝낸 뒤 멈추도록 단계를 낮게 두고, 남은 이벤트를 모두 기록한 뒤 스레드를 끝낸다.</p>
+ */
+@Slf4j
+@Component
+public class DomainEventBuffer implements SmartLifecycle {
+
+    /** 웹 서버 정상 종료(DEFAULT_PHASE - 1024) 이후에 멈춘다 — 마지막 요청의 이벤트까지 받는다. */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private static final List<String> EVENT_COLUMNS = List.of(
+            "event_type", "user_id", "store_id", "occurred_at", "metadata");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate writeTransactions;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final BlockingQueue<DomainEvent> queue;
+    /** 버퍼에 들어갔지만 아직 기록(또는 실패 처리)되지 않은 건수 — 기록 스레드가 들고 있는 배치 포함. */
+    private final AtomicLong pending = new AtomicLong();
+
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter failed;
+
+    private volatile boolean running;
+    private volatile Thread writer;
+    private volatile String eventInsertSql;
+    private volatile String dailyCountUpsertSql;
+
+    public DomainEventBuffer(JdbcTemplate jdbcTemplate,
+                             TransactionTemplate transactions,
+                             DomainEventIngestProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 호출 측 트랜잭션(커밋 직후 콜백 포함)에 섞이지 않도록 공유 빈의 REQUIRES_NEW 복사본을 쓴다.
+        TransactionTemplate requiresNew = new TransactionTemplate(transactions.getTransactionManager(), transactions);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.writeTransactions = requiresNew;
+        this.batchSize = Math.max(1, properties.getBatchSize());
+        this.flushIntervalNanos = Math.max(1L, properties.getFlushInterval().toNanos());
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.getCapacity()));
+
+        this.written = Counter.builder("sodam.domain_event.ingest.written")
+                .description("기록된 도메인 이벤트 수").register(meterRegistry);
+        this.dropped = Counter.builder("sodam.domain_event.ingest.dropped")
+                .description("버퍼가 가득 차 버린 도메인 이벤트 수").register(meterRegistry);
+        this.failed = Counter.builder("sodam.domain_event.ingest.failed")
+                .description("기록 실패로 버린 도메인 이벤트 수").register(meterRegistry);
+        Gauge.builder("sodam.domain_event.ingest.queued", queue, BlockingQueue::size)
+                .description("기록 대기 중인 도메인 이벤트 수").register(meterRegistry);
+    }
+
+    /**
+     * 이벤트를 버퍼에 넣는다. 기다리지 않는다 — 버퍼가 가득 차면 버리고 false.
+     * 기록 스레드가 멈춘 뒤(종료 중)에는 호출 스레드에서 바로 기록한다.
+     */
+    public boolean offer(DomainEvent event) {
+        if (!running) {
+            write(List.of(event));
+            return true;
+        }
+        pending.incrementAndGet();
+        if (queue.offer(event)) {
+            return true;
+        }
+        pending.decrementAndGet();
+        dropped.increment();
+        long total = (long) dropped.count();
+        if (total == 1 || total % 1000 == 0) {
+            log.warn("도메인 이벤트 버퍼 가득 참 — 이벤트 버림(누적 {}건, 대기 {}건)", total, queue.size());
+        }
+        return false;
+    }
+
+    /**
+     * 버퍼에 쌓인 이벤트를 호출 스레드에서 모두 기록하고, 기록 스레드가 들고 있던 배치가 끝날 때까지
+     * 잠시(최대 5초) 기다린다. 종료 시와 테스트에서 쓴다.
+     */
+    public void flush() {
+        List<DomainEvent> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            writeQueued(batch);
+            batch.clear();
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (pending.get() > 0 && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        Thread t = new Thread(this::drainLoop, "domain-event-writer");
+        t.setDaemon(true);
+        writer = t;
+        t.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread t = writer;
+        if (t != null) {
+            t.interrupt();
+            try {
+                t.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+        log.info("도메인 이벤트 기록 스레드 종료 — 누적 기록 {}건, 버림 {}건, 실패 {}건",
+                (long) written.count(), (long) dropped.count(), (long) failed.count());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /** 첫 이벤트를 기다렸다가, 배치가 차거나 flushInterval 이 지날 때까지 더 모은 뒤 기록한다. */
+    private void drainLoop() {
+        List<DomainEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                DomainEvent first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize) {
+                    if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    DomainEvent next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // 종료 신호 — 모아 둔 배치는 아래에서 기록하고, 남은 버퍼는 stop() 이 비운다.
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                writeQueued(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeQueued(List<DomainEvent> batch) {
+        try {
+            write(batch);
+        } finally {
+            pending.addAndGet(-batch.size());
+        }
+    }
+
+    private void write(List<DomainEvent> batch) {
+        try {
+            writeTransactions.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(eventInsertSql(), batch, batch.size(), (ps, e) -> {
+                    ps.setString(1, e.getEventType().name());
+                    ps.setObject(2, e.getUserId(), Types.BIGINT);
+                    ps.setObject(3, e.getStoreId(), Types.BIGINT);
+                    ps.setTimestamp(4, Timestamp.valueOf(e.getOccurredAt()));
+                    ps.setString(5, e.getMetadata());
+                });
+                List<Map.Entry<DailyKey, Long>> counts = new ArrayList<>(dailyCounts(batch).entrySet());
+                if (!counts.isEmpty()) {
+                    jdbcTemplate.batchUpdate(dailyCountUpsertSql(), counts, counts.size(), (ps, c) -> {
+                        ps.setLong(1, c.getKey().storeId());
+                        ps.setDate(2, Date.valueOf(c.getKey().date()));
+                        ps.setString(3, c.getKey().type().name());
+                        ps.setLong(4, c.getValue());
+                    });
+                }
+            });
+            written.increment(batch.size());
+        } catch (Exception e) {
+            failed.increment(batch.size());
+            log.warn("도메인 이벤트 {}건 기록 실패(무시): {}", batch.size(), e.getMessage());
+        }
+    }
+
+    private static Map<DailyKey, Long> dailyCounts(List<DomainEvent> batch) {
+        Map<DailyKey, Long> counts = new LinkedHashMap<>();
+        for (DomainEvent e : batch) {
+            if (e.getStoreId() != null) {
+                counts.merge(new DailyKey(e.getStoreId(), e.getOccurredAt().toLocalDate(), e.getEventType()),
+                        1L, Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 식별자를 DB 인용 문자로 감싼다 — 운영(MySQL)과 테스트(H2) 모두 전역 인용 식별자로 스키마를 만들기
+     * 때문이다({@code PayrollDetailBatchWriter}와 같은 방식).
+     */
+    private String quote() {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            String q = connection.getMetaData().getIdentifierQuoteString();
+            return q == null || q.isBlank() ? "" : q;
+        });
+    }
+
+    private String eventInsertSql() {
+        if (eventInsertSql == null) {
+            String q = quote();
+            List<String> columns = EVENT_COLUMNS.stream().map(c -> q + c + q).toList();
+            eventInsertSql = "INSERT INTO " + q + "domain_event" + q + " (" + String.join(", ", columns)
+                    + ") VALUES (?, ?, ?, ?, ?)";
+        }
+        return eventInsertSql;
+    }
+
+    /** 누적 UPSERT — 운영 MySQL 과 테스트 H2(MODE=MySQL) 모두 {@code ON DUPLICATE KEY UPDATE} 를 지원한다. */
+    private String dailyCountUpsertSql() {
+        if (dailyCountUpsertSql == null) {
+            String q = quote();
+            String count = q + "event_count" + q;
+            dailyCountUpsertSql = "INSERT INTO " + q + "domain_event_daily_count" + q + " ("
+                    + q + "store_id" + q + ", " + q + "event_date" + q + ", " + q + "event_type" + q + ", " + count
+                    + ") VALUES (?, ?, ?, ?) ON DUPLICATE KEY UPDATE " + count + " = " + count
+                    + " + VALUES(" + count + ")";
+        }
+        return dailyCountUpsertSql;
+    }
+
+    private record DailyKey(Long storeId, LocalDate date, DomainEventType type) {
+    }
+}
@@ -8,6 +8,7 @@ import com.lowagie.text.pdf.BaseFont;
 import com.lowagie.text.pdf.PdfWriter;
 import com.rich.sodam.domain.ElectronicSignatureEnvelope;
 import com.rich.sodam.domain.ElectronicSignatureParty;
+import com.rich.sodam.util.PdfFonts;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
@@ -23,12 +24,7 @@ public class ElectronicSignatureCertificateService {
             document.addTitle("Sodam Electronic Signature Certificate");
             document.addCreator("SODAM");
             document.open();
-            BaseFont base;
-            try {
-                base = BaseFont.createFont("HYSMyeongJoStd-Medium", "UniKS-UCS2-H", BaseFont.NOT_EMBEDDED);
-            } catch (Exception ignored) {
-                base = BaseFont.createFont();
-            }
+            BaseFont base = PdfFonts.korean();
             Font title = new Font(base, 18, Font.BOLD);
             Font body = new Font(base, 10);
             document.add(new Paragraph("전자서명 완료증명서", title));
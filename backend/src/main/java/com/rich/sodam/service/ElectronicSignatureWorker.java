@@ -1,6 +1,5 @@
 package com.rich.sodam.service;
 
-import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rich.sodam.config.integration.IntegrationProperties;
 import com.rich.sodam.core.electronicsignature.*;
@@ -8,6 +7,10 @@ import com.rich.sodam.domain.*;
 import com.rich.sodam.domain.type.*;
 import com.rich.sodam.exception.EntityNotFoundException;
 import com.rich.sodam.repository.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -21,23 +24,42 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * BaroCert request → status polling → verify를 DB outbox lease로 직렬화한다.
  *
- * <p><b>트랜잭션 경계</b>: {@link #runDueWork()}는 {@code com.rich.sodam.service} 전역 트랜잭션
- * advisor({@code TransactionAspect})에 의해 이미 하나의 물리 트랜잭션으로 감싸여 있다. 이 안에서
- * {@link #processOne(Long)}가 {@code transactions.execute(...)}로 outbox 항목별 "독립 트랜잭션"을
- * 의도하지만, {@link TransactionTemplate}의 기본 전파({@code PROPAGATION_REQUIRED})는 이미 열려있는
- * advisor의 외부 트랜잭션에 그대로 참여해버려 항목 A의 실패가 rollback-only 마킹을 남기고, 이후
- * 처리된 항목 B까지 루프 종료 시점의 커밋에서 {@code UnexpectedRollbackException}으로 함께
- * 롤백되는 문제가 있었다. 그래서 {@link #transactions}는 생성자에서 항상
- * {@code PROPAGATION_REQUIRES_NEW}로 강제해, outbox 항목마다 독립된 물리 트랜잭션에서 커밋/롤백이
- * 결정되도록 한다.</p>
+ * <p><b>트랜잭션 경계</b>: outbox 항목마다 독립된 물리 트랜잭션에서 커밋/롤백이 결정돼야 한다. 그런데
+ * {@link TransactionTemplate}의 기본 전파({@code PROPAGATION_REQUIRED})는 호출 측에 이미 열린 트랜잭션이
+ * 있으면 거기 참여해, 항목 A의 실패가 남긴 rollback-only 마킹 때문에 이후 처리된 항목 B까지 바깥 커밋에서
+ * {@code UnexpectedRollbackException}으로 함께 롤백된다. 그래서 {@link #transactions}는 생성자에서 항상
+ * {@code PROPAGATION_REQUIRES_NEW}로 강제한다.</p>
+ *
+ * <p><b>동시 처리</b>: 예전에는 전역 ShedLock 아래에서 3초마다 20건을 순차 처리해 클러스터 전체가
+ * BaroCert 왕복 1건씩만 진행했다. 지금은 노드마다 돌고, 작업 배분은 outbox 행 lease 로 한다 —
+ * {@code FOR UPDATE SKIP LOCKED}로 다른 노드가 잡고 있는 행은 건너뛰어 집고, 같은 트랜잭션에서 LEASED 로
+ * 바꿔 커밋한다. 집어 온 작업은 노드당 {@code worker-concurrency}개 스레드({@code electronicSignatureWorkerExecutor})
+ * 에서 동시에 처리하고, 배치가 끝날 때까지 기다린 뒤 다음 배치를 집는다. 한 틱의 처리량은 밀린 양만큼
+ * 늘어나되 {@code worker-max-per-tick}에서 멈추고, 그 안에서 배치 하나는 빈 워커 수({@code worker-concurrency})를
+ * 넘지 않는다 — 집은 작업이 워커 큐에서 기다리는 동안 lease 가 흐르지 않도록. 워커는 처리 직전에 lease 가
+ * 아직 자기 것인지 확인하고 만료를 다시 늘린다 — 그 사이 만료돼 다른 노드가 잡았으면 건너뛴다. 작업 하나의 처리
+ * 흐름(항목별 REQUIRES_NEW, 실패 시 재시도/dead-letter)은 그대로다.</p>
+ *
+ * <p>지표: {@code sodam.esign.outbox.due}(틱 시점 처리 대기 수), {@code sodam.esign.outbox.lease}
+ * (lease 획득부터 반납까지 — 30초 lease 에 가까워지면 중복 처리 위험), {@code sodam.esign.gateway}
+ * (BaroCert 호출 연산별 지연).</p>
  */
+@Slf4j
 @Component
 @ConditionalOnProperty(prefix = "sodam.integration.electronic-signature", name = "worker-enabled", havingValue = "true")
 public class ElectronicSignatureWorker {
+    private static final EnumSet<SignatureOutboxStatus> READY =
+            EnumSet.of(SignatureOutboxStatus.PENDING, SignatureOutboxStatus.RETRY);
+    private static final Duration LEASE = Duration.ofSeconds(30);
+
     private final ElectronicSignatureGateway gateway;
     private final ElectronicSignatureEnvelopeRepository envelopeRepository;
     private final ElectronicSignaturePartyRepository partyRepository;
@@ -56,6 +78,9 @@ public class ElectronicSignatureWorker {
     private final IntegrationProperties properties;
     private final TransactionTemplate transactions;
     private final ObjectMapper objectMapper;
+    private final Executor workerExecutor;
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong dueGauge;
 
     public ElectronicSignatureWorker(ElectronicSignatureGateway gateway,
                                       ElectronicSignatureEnvelopeRepository envelopeRepository,
@@ -74,7 +99,9 @@ public class ElectronicSignatureWorker {
                                       NotificationService notificationService,
                                       IntegrationProperties properties,
                                       TransactionTemplate transactions,
-                                      ObjectMapper objectMapper) {
+                                      ObjectMapper objectMapper,
+                                      @Qualifier("electronicSignatureWorkerExecutor") Executor workerExecutor,
+                                      MeterRegistry meterRegistry) {
         this.gateway = gateway;
         this.envelopeRepository = envelopeRepository;
         this.partyRepository = partyRepository;
@@ -98,47 +125,105 @@ public class ElectronicSignatureWorker {
         requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
         this.transactions = requiresNew;
         this.objectMapper = objectMapper;
+        this.workerExecutor = workerExecutor;
+        this.meterRegistry = meterRegistry;
+        this.dueGauge = meterRegistry.gauge("sodam.esign.outbox.due", new AtomicLong());
     }
 
+    /**
+     * 노드마다 도는 틱 — ShedLock 대신 행 lease 로 조율하므로 분산 락을 걸지 않는다(클래스 Javadoc 참고).
+     */
     @Scheduled(fixedDelayString = "${sodam.integration.electronic-signature.worker-delay-ms:3000}")
-    @SchedulerLock(name = "electronicSignatureWorker", lockAtMostFor = "PT5M", lockAtLeastFor = "PT1S")
     public void runDueWork() {
-        List<Long> ids = outboxRepository.findDueIds(
-                EnumSet.of(SignatureOutboxStatus.PENDING, SignatureOutboxStatus.RETRY),
-                SignatureOutboxStatus.LEASED, LocalDateTime.now(), PageRequest.of(0, 20));
-        for (Long id : ids) processOne(id);
+        long due = outboxRepository.countDue(READY, SignatureOutboxStatus.LEASED, LocalDateTime.now());
+        dueGauge.set(due);
+        if (due == 0) return;
+        IntegrationProperties.ElectronicSignature config = properties.getElectronicSignature();
+        int slots = Math.max(1, config.getWorkerConcurrency());
+        // 이번 틱 처리량 — 밀린 양만큼 늘리되 worker-max-per-tick 에서 멈춘다. 배치 하나는 빈 워커 수까지만.
+        long budget = Math.min(due, Math.max(slots, config.getWorkerMaxPerTick()));
+        while (budget > 0) {
+            int batchSize = (int) Math.min(budget, slots);
+            List<Work> claimed = transactions.execute(status -> claim(batchSize));
+            if (claimed == null || claimed.isEmpty()) return;
+            CompletableFuture.allOf(claimed.stream()
+                    .map(work -> CompletableFuture.runAsync(() -> process(work), workerExecutor)
+                            .exceptionally(e -> {
+                                // 실패 기록(handleFailure) 자체가 실패한 경우 — lease 만료 후 다시 잡힌다.
+                                log.error("전자서명 outbox 처리 실패 기록 중 오류: outboxId={}, 오류={}",
+                                        work.outboxId(), e.getMessage(), e);
+                                return null;
+                            }))
+                    .toArray(CompletableFuture[]::new)).join();
+            if (claimed.size() < batchSize) return;
+            budget -= claimed.size();
+        }
+    }
+
+    private List<Work> claim(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ElectronicSignatureOutbox> due = outboxRepository.findDueForLease(
+                READY, SignatureOutboxStatus.LEASED, now, PageRequest.of(0, batchSize));
+        return due.stream().map(this::leaseLocked).toList();
     }
 
     void processOne(Long outboxId) {
         Work work = transactions.execute(status -> lease(outboxId));
         if (work == null) return;
+        process(work);
+    }
+
+    private void process(Work work) {
+        if (!Boolean.TRUE.equals(transactions.execute(status -> renewLease(work)))) {
+            log.warn("전자서명 outbox lease 가 처리 전에 넘어감 — 건너뜀: outboxId={}", work.outboxId());
+            return;
+        }
+        boolean failed = false;
         try {
             switch (work.operation()) {
                 case REQUEST -> processRequest(work);
                 case STATUS -> processStatus(work);
                 case VERIFY -> processVerify(work);
                 case FINALIZE -> finalizeEnvelope(work);
-                case CANCEL -> completeOutbox(work.outboxId());
+                case CANCEL -> transactions.executeWithoutResult(status -> completeOutbox(work.outboxId()));
             }
         } catch (RuntimeException e) {
+            failed = true;
             transactions.executeWithoutResult(status -> handleFailure(work, e));
+        } finally {
+            Timer.builder("sodam.esign.outbox.lease")
+                    .description("전자서명 outbox lease 획득부터 반납까지")
+                    .tags("operation", work.operation().name(), "outcome", failed ? "failed" : "done")
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - work.leasedAtNanos(), TimeUnit.NANOSECONDS);
         }
     }
 
+    /** 처리 직전 lease 재확인·연장 — 아직 이 lease(시도 번호)가 잡고 있을 때만 true. */
+    private boolean renewLease(Work work) {
+        return outboxRepository.findByIdForUpdate(work.outboxId())
+                .map(outbox -> outbox.renewLease(work.attempt(), LocalDateTime.now().plus(LEASE)))
+                .orElse(false);
+    }
+
     private Work lease(Long outboxId) {
         ElectronicSignatureOutbox outbox = outboxRepository.findByIdForUpdate(outboxId).orElse(null);
         if (outbox == null || outbox.getStatus() == SignatureOutboxStatus.COMPLETED
                 || outbox.getStatus() == SignatureOutboxStatus.CANCELLED
                 || outbox.getStatus() == SignatureOutboxStatus.DEAD_LETTER) return null;
-        outbox.lease(LocalDateTime.now().plusSeconds(30));
+        return leaseLocked(outbox);
+    }
+
+    private Work leaseLocked(ElectronicSignatureOutbox outbox) {
+        outbox.lease(LocalDateTime.now().plus(LEASE));
         return new Work(outbox.getId(), outbox.getEnvelopeId(), outbox.getPartyId(),
-                outbox.getOperation(), outbox.getIdempotencyKey(), outbox.getAttemptCount());
+                outbox.getOperation(), outbox.getIdempotencyKey(), outbox.getAttemptCount(), System.nanoTime());
     }
 
     private void processRequest(Work work) {
         RequestWork request = transactions.execute(status -> prepareRequest(work));
         if (request == null) return;
-        ElectronicSignatureReceipt receipt = gateway.request(request.request());
+        ElectronicSignatureReceipt receipt = timed(SignatureOperation.REQUEST, () -> gateway.request(request.request()));
         transactions.executeWithoutResult(status -> {
             ElectronicSignatureParty party = partyRepository.findByIdForUpdate(work.partyId())
                     .orElseThrow(() -> new EntityNotFoundException("전자서명 party를 찾을 수 없습니다."));
@@ -179,10 +264,12 @@ public class ElectronicSignatureWorker {
         ElectronicSignatureParty snapshot = partyRepository.findById(work.partyId())
                 .orElseThrow(() -> new EntityNotFoundException("전자서명 party를 찾을 수 없습니다."));
         if (snapshot.getStatus() != SignaturePartyStatus.PENDING) {
-            completeOutbox(work.outboxId());
+            // 워커 스레드에는 바깥 트랜잭션이 없다 — lease 반납도 항목별 트랜잭션에서 한다.
+            transactions.executeWithoutResult(status -> completeOutbox(work.outboxId()));
             return;
         }
-        ElectronicSignatureStatus observed = gateway.getStatus(crypto.decrypt(snapshot.getReceiptRefEnc()));
+        String receiptId = crypto.decrypt(snapshot.getReceiptRefEnc());
+        ElectronicSignatureStatus observed = timed(SignatureOperation.STATUS, () -> gateway.getStatus(receiptId));
         transactions.executeWithoutResult(status -> applyObservedStatus(work, observed));
     }
 
@@ -211,7 +298,7 @@ public class ElectronicSignatureWorker {
     private void processVerify(Work work) {
         VerifyWork verify = transactions.execute(status -> prepareVerify(work));
         if (verify == null) return;
-        ElectronicSignatureVerification result = gateway.verify(verify.receiptId());
+        ElectronicSignatureVerification result = timed(SignatureOperation.VERIFY, () -> gateway.verify(verify.receiptId()));
         if (result.status() != ProviderSignatureStatus.COMPLETED
                 || !verify.expectedSigner().matches(result.signer())
                 || result.signedData() == null || result.signedData().isBlank()) {
@@ -437,6 +524,15 @@ public class ElectronicSignatureWorker {
         }
     }
 
+    /** BaroCert 왕복 지연 — 실패 호출도 같이 잰다(타임아웃이 지연 분포에 보이도록). */
+    private <T> T timed(SignatureOperation operation, java.util.function.Supplier<T> call) {
+        return Timer.builder("sodam.esign.gateway")
+                .description("BaroCert 전자서명 게이트웨이 호출")
+                .tag("operation", operation.name())
+                .register(meterRegistry)
+                .record(call);
+    }
+
     private User requireSigner(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("전자서명 사용자를 찾을 수 없습니다."));
@@ -455,7 +551,7 @@ public class ElectronicSignatureWorker {
     }
 
     private record Work(Long outboxId, Long envelopeId, Long partyId, SignatureOperation operation,
-                        String idempotencyKey, int attempt) {}
+                        String idempotencyKey, int attempt, long leasedAtNanos) {}
     private record RequestWork(ElectronicSignatureRequest request) {}
     private record VerifyWork(String receiptId, SignerIdentity expectedSigner) {}
 }
@@ -3,6 +3,7 @@ package com.rich.sodam.service;
 import com.rich.sodam.domain.EmployeeResignationRequest;
 import com.rich.sodam.domain.Store;
 import com.rich.sodam.domain.User;
+import com.rich.sodam.util.PdfFonts;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
@@ -56,14 +57,7 @@ public class EmployeeResignationPdfService {
             com.lowagie.text.Document document = new com.lowagie.text.Document(com.lowagie.text.PageSize.A4, 40, 40, 40, 40);
             com.lowagie.text.pdf.PdfWriter.getInstance(document, baos);
 
-            com.lowagie.text.pdf.BaseFont bf;
-            try {
-                bf = com.lowagie.text.pdf.BaseFont.createFont(
-                        "HYSMyeongJoStd-Medium", "UniKS-UCS2-H",
-                        com.lowagie.text.pdf.BaseFont.NOT_EMBEDDED);
-            } catch (Exception ignored) {
-                bf = com.lowagie.text.pdf.BaseFont.createFont();
-            }
+            com.lowagie.text.pdf.BaseFont bf = PdfFonts.korean();
             com.lowagie.text.Font fontTitle = new com.lowagie.text.Font(bf, 18, com.lowagie.text.Font.BOLD);
             com.lowagie.text.Font fontN = new com.lowagie.text.Font(bf, 10);
             com.lowagie.text.Font fontDisclaimer = new com.lowagie.text.Font(bf, 9, com.lowagie.text.Font.ITALIC);
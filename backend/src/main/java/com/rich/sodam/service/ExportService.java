@@ -2,14 +2,21 @@ package com.rich.sodam.service;
 
 import com.rich.sodam.domain.Attendance;
 import com.rich.sodam.domain.Payroll;
-import com.rich.sodam.domain.Store;
 import com.rich.sodam.repository.AttendanceRepository;
 import com.rich.sodam.repository.PayrollRepository;
-import com.rich.sodam.repository.StoreRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -19,74 +26,93 @@ import java.util.List;
  *
  * <p>매장 소유 검증(BOLA 가드)은 컨트롤러 책임이며, 여기서는 CSV 본문 조립만 담당한다.
  * WP-09 2단계: 컨트롤러에서 repository 직접 접근을 이관(behavior-preserving).
+ *
+ * <p>기록은 매장·기간으로 좁힌 키셋 페이지({@value #PAGE_SIZE}건)로 읽어 행마다 응답 스트림에 바로 쓴다.
+ * 페이지를 다 쓰면 영속성 컨텍스트를 비운다 — 이력이 몇 년 치여도 메모리에는 한 페이지만 남는다.
  */
 @Service
 @RequiredArgsConstructor
 public class ExportService {
 
+    static final int PAGE_SIZE = 500;
+
     private final AttendanceRepository attendanceRepository;
     private final PayrollRepository payrollRepository;
-    private final StoreRepository storeRepository;
+    private final EntityManager entityManager;
 
+    /** 매장 출퇴근 CSV 를 {@code out} 에 쓴다. 스트림은 닫지 않는다. */
     @Transactional(readOnly = true)
-    public String buildAttendanceCsv(Long storeId, LocalDate from, LocalDate to) {
-        Store store = storeRepository.findById(storeId)
-                .orElseThrow(() -> new IllegalArgumentException("매장을 찾을 수 없어요."));
+    public void writeAttendanceCsv(Long storeId, LocalDate from, LocalDate to, OutputStream out) throws IOException {
         LocalDateTime start = from.atStartOfDay();
         LocalDateTime end = to.atTime(23, 59, 59);
-        List<Attendance> list =
-                attendanceRepository.findByStoreAndCheckInTimeBetweenOrderByCheckInTimeDesc(
-                        store, start, end);
+        Pageable limit = PageRequest.of(0, PAGE_SIZE);
+        Writer w = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        w.write("\uFEFF"); // UTF-8 BOM
+        w.write("직원 ID,직원명,날짜,출근,퇴근,근무시간(분),적용시급,일급\n");
 
-        StringBuilder sb = new StringBuilder();
-        sb.append("﻿"); // UTF-8 BOM
-        sb.append("직원 ID,직원명,날짜,출근,퇴근,근무시간(분),적용시급,일급\n");
-        for (Attendance a : list) {
-            String empName = a.getEmployeeProfile() != null && a.getEmployeeProfile().getUser() != null
-                    ? csvSafe(a.getEmployeeProfile().getUser().getName()) : "";
-            Long empId = a.getEmployeeProfile() != null ? a.getEmployeeProfile().getId() : null;
-            sb.append(empId == null ? "" : empId).append(',')
-                    .append(empName).append(',')
-                    .append(a.getCheckInTime() != null ? a.getCheckInTime().toLocalDate() : "").append(',')
-                    .append(a.getCheckInTime() != null ? a.getCheckInTime().toLocalTime() : "").append(',')
-                    .append(a.getCheckOutTime() != null ? a.getCheckOutTime().toLocalTime() : "").append(',')
-                    .append(a.getWorkingTimeInMinutes()).append(',')
-                    .append(a.getAppliedHourlyWage() != null ? a.getAppliedHourlyWage() : "").append(',')
-                    .append(a.calculateDailyWage()).append('\n');
-        }
-        return sb.toString();
+        LocalDateTime cursorTime = AttendanceRepository.EXPORT_CURSOR_START;
+        Long cursorId = Long.MAX_VALUE;
+        List<Attendance> page;
+        do {
+            page = attendanceRepository.findStoreExportPage(storeId, start, end, cursorTime, cursorId, limit);
+            for (Attendance a : page) {
+                String empName = a.getEmployeeProfile() != null && a.getEmployeeProfile().getUser() != null
+                        ? csvSafe(a.getEmployeeProfile().getUser().getName()) : "";
+                Long empId = a.getEmployeeProfile() != null ? a.getEmployeeProfile().getId() : null;
+                w.append(empId == null ? "" : empId.toString()).append(',')
+                        .append(empName).append(',')
+                        .append(a.getCheckInTime() != null ? a.getCheckInTime().toLocalDate().toString() : "").append(',')
+                        .append(a.getCheckInTime() != null ? a.getCheckInTime().toLocalTime().toString() : "").append(',')
+                        .append(a.getCheckOutTime() != null ? a.getCheckOutTime().toLocalTime().toString() : "").append(',')
+                        .append(String.valueOf(a.getWorkingTimeInMinutes())).append(',')
+                        .append(a.getAppliedHourlyWage() != null ? a.getAppliedHourlyWage().toString() : "").append(',')
+                        .append(String.valueOf(a.calculateDailyWage())).append('\n');
+            }
+            if (page.size() == PAGE_SIZE) {
+                Attendance last = page.get(page.size() - 1);
+                cursorTime = last.getCheckInTime();
+                cursorId = last.getId();
+            }
+            w.flush();
+            entityManager.clear();
+        } while (page.size() == PAGE_SIZE);
     }
 
+    /** 매장 급여 CSV(정산 시작일이 기간 안인 급여)를 {@code out} 에 쓴다. 스트림은 닫지 않는다. */
     @Transactional(readOnly = true)
-    public String buildPayrollCsv(Long storeId, LocalDate from, LocalDate to) {
-        List<Payroll> list = payrollRepository.findAll().stream()
-                .filter(p -> p.getStore() != null && storeId.equals(p.getStore().getId()))
-                .filter(p -> p.getStartDate() != null
-                        && !p.getStartDate().isBefore(from)
-                        && !p.getStartDate().isAfter(to))
-                .toList();
+    public void writePayrollCsv(Long storeId, LocalDate from, LocalDate to, OutputStream out) throws IOException {
+        Pageable limit = PageRequest.of(0, PAGE_SIZE);
+        Writer w = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        w.write("\uFEFF");
+        w.write("급여 ID,직원,기간,기본,연장,야간,주휴,세전,세금,실수령,상태\n");
 
-        StringBuilder sb = new StringBuilder();
-        sb.append("﻿");
-        sb.append("급여 ID,직원,기간,기본,연장,야간,주휴,세전,세금,실수령,상태\n");
-        for (Payroll p : list) {
-            String emp = p.getEmployee() != null && p.getEmployee().getUser() != null
-                    ? csvSafe(p.getEmployee().getUser().getName()) : "";
-            sb.append(p.getId()).append(',')
-                    .append(emp).append(',')
-                    .append(p.getStartDate()).append('~').append(p.getEndDate()).append(',')
-                    .append(p.getRegularWage() == null ? 0 : p.getRegularWage()).append(',')
-                    // 일 8h 초과 + 주 40h 초과 = §56① 연장근로수당. 합쳐야 세전 합계와 맞는다.
-                    .append((p.getOvertimeWage() == null ? 0 : p.getOvertimeWage())
-                            + (p.getWeeklyOvertimeWage() == null ? 0 : p.getWeeklyOvertimeWage())).append(',')
-                    .append(p.getNightWorkWage() == null ? 0 : p.getNightWorkWage()).append(',')
-                    .append(p.getWeeklyAllowance() == null ? 0 : p.getWeeklyAllowance()).append(',')
-                    .append(p.getGrossWage() == null ? 0 : p.getGrossWage()).append(',')
-                    .append(p.getTaxAmount() == null ? 0 : p.getTaxAmount()).append(',')
-                    .append(p.getNetWage() == null ? 0 : p.getNetWage()).append(',')
-                    .append(p.getStatus() == null ? "" : p.getStatus().name()).append('\n');
-        }
-        return sb.toString();
+        long afterId = 0L;
+        List<Payroll> page;
+        do {
+            page = payrollRepository.findStoreExportPage(storeId, from, to, afterId, limit);
+            for (Payroll p : page) {
+                String emp = p.getEmployee() != null && p.getEmployee().getUser() != null
+                        ? csvSafe(p.getEmployee().getUser().getName()) : "";
+                w.append(p.getId().toString()).append(',')
+                        .append(emp).append(',')
+                        .append(String.valueOf(p.getStartDate())).append('~').append(String.valueOf(p.getEndDate())).append(',')
+                        .append(String.valueOf(p.getRegularWage() == null ? 0 : p.getRegularWage())).append(',')
+                        // 일 8h 초과 + 주 40h 초과 = §56① 연장근로수당. 합쳐야 세전 합계와 맞는다.
+                        .append(String.valueOf((p.getOvertimeWage() == null ? 0 : p.getOvertimeWage())
+                                + (p.getWeeklyOvertimeWage() == null ? 0 : p.getWeeklyOvertimeWage()))).append(',')
+                        .append(String.valueOf(p.getNightWorkWage() == null ? 0 : p.getNightWorkWage())).append(',')
+                        .append(String.valueOf(p.getWeeklyAllowance() == null ? 0 : p.getWeeklyAllowance())).append(',')
+                        .append(String.valueOf(p.getGrossWage() == null ? 0 : p.getGrossWage())).append(',')
+                        .append(String.valueOf(p.getTaxAmount() == null ? 0 : p.getTaxAmount())).append(',')
+                        .append(String.valueOf(p.getNetWage() == null ? 0 : p.getNetWage())).append(',')
+                        .append(p.getStatus() == null ? "" : p.getStatus().name()).append('\n');
+            }
+            if (!page.isEmpty()) {
+                afterId = page.get(page.size() - 1).getId();
+            }
+            w.flush();
+            entityManager.clear();
+        } while (page.size() == PAGE_SIZE);
     }
 
     /** CSV 안전 문자열: 쉼표/따옴표/개행 포함 시 따옴표 감싸기 + 내부 따옴표 이중. */
@@ -25,6 +25,8 @@ public class InMemoryTokenStore implements TokenStore {
 
     /** key = "USER_TOKENS:{userId}", inner key = tokenHash, inner value = expiresAtMillis */
     private final Map<String, Map<String, Long>> store = new ConcurrentHashMap<>();
+    /** key = userId, value = 기준 시각 + 만료 시각 */
+    private final Map<Long, CutoffEntry> cutoffs = new ConcurrentHashMap<>();
     private final ScheduledExecutorService cleaner = Executors.newSingleThreadScheduledExecutor(r -> {
         Thread t = new Thread(r, "in-memory-token-cleaner");
         t.setDaemon(true);
@@ -80,9 +82,38 @@ public class InMemoryTokenStore implements TokenStore {
         }
     }
 
+    @Override
+    public void revokeAccessTokensIssuedBefore(Long userId, long issuedBeforeMillis, long ttlSeconds) {
+        long expiresAt = System.currentTimeMillis() + (ttlSeconds * 1000L);
+        cutoffs.compute(userId, (id, current) -> new CutoffEntry(
+                new AccessTokenCutoff(issuedBeforeMillis, live(current).cutoff().principalChangedBefore()), expiresAt));
+    }
+
+    @Override
+    public void markPrincipalChangedBefore(Long userId, long issuedBeforeMillis, long ttlSeconds) {
+        long expiresAt = System.currentTimeMillis() + (ttlSeconds * 1000L);
+        cutoffs.compute(userId, (id, current) -> new CutoffEntry(
+                new AccessTokenCutoff(live(current).cutoff().revokedBefore(), issuedBeforeMillis), expiresAt));
+    }
+
+    @Override
+    public AccessTokenCutoff findAccessTokenCutoff(Long userId) {
+        return live(cutoffs.get(userId)).cutoff();
+    }
+
     private void sweepExpired() {
         long now = System.currentTimeMillis();
         store.forEach((k, inner) -> inner.entrySet().removeIf(e -> e.getValue() < now));
         store.entrySet().removeIf(e -> e.getValue().isEmpty());
+        cutoffs.entrySet().removeIf(e -> e.getValue().expiresAt() < now);
+    }
+
+    /** 만료된 항목은 없는 것으로 본다 (Redis 키 TTL 과 같은 의미). */
+    private static CutoffEntry live(CutoffEntry entry) {
+        return entry == null || entry.expiresAt() < System.currentTimeMillis() ? CutoffEntry.EMPTY : entry;
+    }
+
+    private record CutoffEntry(AccessTokenCutoff cutoff, long expiresAt) {
+        static final CutoffEntry EMPTY = new CutoffEntry(AccessTokenCutoff.NONE, Long.MAX_VALUE);
     }
 }
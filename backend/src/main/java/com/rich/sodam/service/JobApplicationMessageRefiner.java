@@ -1,9 +1,11 @@
 package com.rich.sodam.service;
 
 import com.rich.sodam.service.ai.ForbiddenPhrases;
+import com.rich.sodam.service.ai.LlmNarrationPipeline;
 import com.rich.sodam.service.ai.LlmText;
 import com.rich.sodam.service.ai.PiiPatterns;
 import com.rich.sodam.service.ai.TextGenerationClient;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -26,6 +28,11 @@ public class JobApplicationMessageRefiner {
 
     private final Optional<TextGenerationClient> client;
 
+    @Autowired
+    public JobApplicationMessageRefiner(LlmNarrationPipeline pipeline) {
+        this(pipeline.client());
+    }
+
     public JobApplicationMessageRefiner(Optional<TextGenerationClient> client) {
         this.client = client;
     }
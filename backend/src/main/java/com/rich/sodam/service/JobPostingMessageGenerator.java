@@ -3,8 +3,10 @@ package com.rich.sodam.service;
 import com.rich.sodam.domain.type.JobCategory;
 import com.rich.sodam.domain.type.JobWorkType;
 import com.rich.sodam.service.ai.ForbiddenPhrases;
+import com.rich.sodam.service.ai.LlmNarrationPipeline;
 import com.rich.sodam.service.ai.LlmText;
 import com.rich.sodam.service.ai.TextGenerationClient;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalTime;
@@ -38,6 +40,11 @@ public class JobPostingMessageGenerator {
 
     private final Optional<TextGenerationClient> client;
 
+    @Autowired
+    public JobPostingMessageGenerator(LlmNarrationPipeline pipeline) {
+        this(pipeline.client());
+    }
+
     public JobPostingMessageGenerator(Optional<TextGenerationClient> client) {
         this.client = client;
     }
@@ -15,6 +15,7 @@ import com.rich.sodam.exception.EntityNotFoundException;
 import com.rich.sodam.repository.JobPostingRepository;
 import com.rich.sodam.repository.JobSeekingProfileRepository;
 import com.rich.sodam.repository.StoreRepository;
+import com.rich.sodam.util.GeoGrid;
 import com.rich.sodam.util.GeoUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,7 +25,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * 구인 공고(JobPosting) 서비스 — 매장당 1건 upsert + 직원용 주변 구인 리스트
@@ -144,7 +147,12 @@ public class JobPostingService {
         JobCategory filterCategory = blankToNull(category) == null ? null : parseCategory(category.trim());
 
         List<JobPostingNearbyItemResponse> result = new ArrayList<>();
-        for (JobPosting posting : jobPostingRepository.findByOpenTrue()) {
+        // 두 희망지역 반경을 덮는 격자 셀의 공고만 후보로 읽는다(전체 공고 스캔 방지).
+        Set<Integer> cells = new HashSet<>(GeoGrid.cellsWithin(
+                profile.getLocation1Latitude(), profile.getLocation1Longitude(), MATCH_RADIUS_METERS));
+        cells.addAll(GeoGrid.cellsWithin(
+                profile.getLocation2Latitude(), profile.getLocation2Longitude(), MATCH_RADIUS_METERS));
+        for (JobPosting posting : jobPostingRepository.findOpenWithStoreInCells(cells)) {
             Store store = posting.getStore();
             if (store == null || !store.hasLocationSet()) {
                 continue;
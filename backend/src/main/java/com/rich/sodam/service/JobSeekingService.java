@@ -21,6 +21,7 @@ import com.rich.sodam.repository.JobSeekingProfileRepository;
 import com.rich.sodam.repository.MasterStoreRelationRepository;
 import com.rich.sodam.repository.StoreRepository;
 import com.rich.sodam.repository.UserRepository;
+import com.rich.sodam.util.GeoGrid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -228,13 +229,17 @@ public class JobSeekingService {
         String normalizedWorkType = (workType == null || workType.isBlank()) ? null : workType.trim();
         Long ownerUserId = resolveStoreOwnerUserId(storeId);
 
+        // 매장 반경을 덮는 격자 셀에 희망지역이 있는 구직자만 후보로 읽고, 재직자 제외는 한 번의 조회로 한다.
+        List<Integer> cells = GeoGrid.cellsWithin(store.getLatitude(), store.getLongitude(), MATCH_RADIUS_METERS);
+        Set<Long> activeEmployeeIds = new HashSet<>(employeeStoreRelationRepository.findActiveEmployeeIdsByStoreId(storeId));
+
         List<JobSeekerListItemResponse> result = new ArrayList<>();
-        for (JobSeekingProfile profile : jobSeekingProfileRepository.findAllSeekingWithUser()) {
+        for (JobSeekingProfile profile : jobSeekingProfileRepository.findSeekingWithUserInCells(cells)) {
             User seeker = profile.getUser();
             if (seeker == null || seeker.isWithdrawn()) {
                 continue;
             }
-            if (employeeStoreRelationRepository.existsByEmployeeProfile_IdAndStore_IdAndIsActiveTrue(seeker.getId(), storeId)) {
+            if (activeEmployeeIds.contains(seeker.getId())) {
                 continue;
             }
             // 상호 차단(§4.4) — 리스트·제안·채팅 전 구간 비노출의 첫 관문(ChatModerationService 가 단일 판정 지점).
@@ -76,7 +76,7 @@ public class LaborAggregationService {
     @Transactional(readOnly = true)
     public List<EmployeeAnnualLeaveDto> annualLeaveSummary(Long storeId) {
         Store store = store(storeId);
-        List<EmployeeStoreRelation> active = relationRepository.findByStoreAndIsActiveTrue(store);
+        List<EmployeeStoreRelation> active = relationRepository.findWithEmployeeByStoreAndIsActiveTrue(store);
         boolean fiveOrMore = active.size() >= LaborStandards.SMALL_BUSINESS_THRESHOLD;
         LocalDate today = LocalDate.now();
 
@@ -100,7 +100,7 @@ public class LaborAggregationService {
     @Transactional(readOnly = true)
     public List<EmployeeSeveranceDto> severanceEstimates(Long storeId) {
         Store store = store(storeId);
-        List<EmployeeStoreRelation> active = relationRepository.findByStoreAndIsActiveTrue(store);
+        List<EmployeeStoreRelation> active = relationRepository.findWithEmployeeByStoreAndIsActiveTrue(store);
         LocalDate today = LocalDate.now();
 
         return active.stream().map(r -> {
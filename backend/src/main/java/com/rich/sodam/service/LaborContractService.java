@@ -24,6 +24,7 @@ import com.rich.sodam.repository.LaborContractRepository;
 import com.rich.sodam.repository.PayrollPolicyRepository;
 import com.rich.sodam.repository.StoreRepository;
 import com.rich.sodam.repository.UserRepository;
+import com.rich.sodam.util.PdfFonts;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -816,14 +817,7 @@ public class LaborContractService {
             com.lowagie.text.Document document = new com.lowagie.text.Document(com.lowagie.text.PageSize.A4, 40, 40, 40, 40);
             com.lowagie.text.pdf.PdfWriter.getInstance(document, baos);
 
-            com.lowagie.text.pdf.BaseFont bf;
-            try {
-                bf = com.lowagie.text.pdf.BaseFont.createFont(
-                        "HYSMyeongJoStd-Medium", "UniKS-UCS2-H",
-                        com.lowagie.text.pdf.BaseFont.NOT_EMBEDDED);
-            } catch (Exception ignored) {
-                bf = com.lowagie.text.pdf.BaseFont.createFont();
-            }
+            com.lowagie.text.pdf.BaseFont bf = PdfFonts.korean();
             com.lowagie.text.Font fontTitle = new com.lowagie.text.Font(bf, 18, com.lowagie.text.Font.BOLD);
             com.lowagie.text.Font fontH = new com.lowagie.text.Font(bf, 12, com.lowagie.text.Font.BOLD);
             com.lowagie.text.Font fontN = new com.lowagie.text.Font(bf, 10);
@@ -2,6 +2,8 @@ package com.rich.sodam.service;
 
 import com.rich.sodam.dto.response.LaborRiskResponse.Item;
 
+import java.util.List;
+
 /**
  * 노무 리스크 항목의 서술(narration) 계층 — {@code ReceiptOcrClient}/{@code NoopReceiptOcrClient}
  * 패턴을 그대로 따른다.
@@ -17,4 +19,12 @@ public interface LaborRiskNarrator {
      * 어떤 이유로든 실패해도 예외를 던지지 않고 원본 문구를 반환해야 한다(fail-safe).
      */
     String narrate(Item item);
+
+    /**
+     * 여러 항목을 한 번에 서술한다. 결과는 입력 순서와 같다. 기본은 항목별 {@link #narrate}이고, 외부 호출이
+     * 있는 구현은 병렬로 보내고 전체 대기 한도를 둔다 — 대시보드가 항목 수만큼 왕복을 기다리지 않게.
+     */
+    default List<String> narrateAll(List<Item> items) {
+        return items.stream().map(this::narrate).toList();
+    }
 }
@@ -101,7 +101,7 @@ public class LaborRiskService {
     public LaborRiskResponse analyze(Long storeId, LocalDate today) {
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new IllegalArgumentException("매장을 찾을 수 없어요: " + storeId));
-        List<EmployeeStoreRelation> relations = relationRepository.findByStoreAndIsActiveTrue(store);
+        List<EmployeeStoreRelation> relations = relationRepository.findWithEmployeeByStoreAndIsActiveTrue(store);
         if (relations.isEmpty()) {
             return new LaborRiskResponse(List.of());
         }
@@ -182,10 +182,14 @@ public class LaborRiskService {
      * 그대로 반환해(외부 호출 0) 이 매핑이 기존 동작을 바꾸지 않는다.
      */
     private List<Item> narrate(List<Item> items) {
-        return items.stream()
-                .map(i -> new Item(i.type(), i.severity(), i.employeeId(), i.employeeName(),
-                        laborRiskNarrator.narrate(i), i.value()))
-                .toList();
+        List<String> messages = laborRiskNarrator.narrateAll(items);
+        List<Item> narrated = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            Item item = items.get(i);
+            narrated.add(new Item(item.type(), item.severity(), item.employeeId(), item.employeeName(),
+                    messages.get(i), item.value()));
+        }
+        return narrated;
     }
 
     /**
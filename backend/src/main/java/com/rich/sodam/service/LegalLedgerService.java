@@ -96,7 +96,7 @@ public class LegalLedgerService {
      */
     @Transactional(readOnly = true)
     public EmployeeRosterResponse employeeRoster(Long storeId) {
-        List<EmployeeStoreRelation> relations = relationRepository.findByStore_Id(storeId);
+        List<EmployeeStoreRelation> relations = relationRepository.findWithEmployeeByStore_Id(storeId);
 
         List<RosterLine> items = new ArrayList<>();
         for (EmployeeStoreRelation rel : relations) {
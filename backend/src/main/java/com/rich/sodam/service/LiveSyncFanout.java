@@ -0,0 +1,19 @@
+package com.rich.sodam.service;
+
+/**
+ * 라이브 동기화 신호를 STOMP 구독자에게 내보내는 경로 ({@code sodam.live-sync.fanout}).
+ *
+ * <p>{@link LocalLiveSyncFanout}은 이 인스턴스의 simple broker 로만, {@link RedisLiveSyncFanout}은 다른
+ * 인스턴스에도 중계한다. 구현은 예외를 던질 수 있다 — 삼키는 것은 {@link LiveSyncPublisher}의 몫이다.</p>
+ */
+public interface LiveSyncFanout {
+
+    void send(String destination, Object payload);
+
+    /** 지표 태그용 토픽 종류 — {@code /topic/store.7} → {@code store}. 매장·채팅방 ID 는 태그에 넣지 않는다. */
+    static String topicFamily(String destination) {
+        String name = destination.startsWith("/topic/") ? destination.substring("/topic/".length()) : destination;
+        int dot = name.indexOf('.');
+        return dot < 0 ? name : name.substring(0, dot);
+    }
+}
@@ -1,9 +1,10 @@
 package com.rich.sodam.service;
 
 import com.rich.sodam.service.support.AfterCommitExecutor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
@@ -18,14 +19,19 @@ import java.util.Map;
  * <p>견고성: 발행 실패가 본래 트랜잭션(출퇴근/입사 등)을 깨지 않도록 절대 예외를 전파하지 않는다.
  * WebSocket 미연결·브로커 일시오류여도 비즈니스 로직은 정상 완료되고, 클라이언트는 다음 포커스
  * 재조회(useFocusEffect)로 따라잡는다.</p>
+ *
+ * <p>전달 경로는 {@link LiveSyncFanout}이 정한다 — 기본은 이 인스턴스의 simple broker 뿐이고, 여러 인스턴스로
+ * 운영할 때는 {@code sodam.live-sync.fanout=redis}로 다른 인스턴스의 구독자에게도 중계한다. 토픽 종류·이벤트
+ * 종류별 발행 수는 {@code sodam.livesync.published}로 남는다.</p>
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class LiveSyncPublisher {
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private final LiveSyncFanout fanout;
     private final AfterCommitExecutor afterCommitExecutor;
+    private final MeterRegistry meterRegistry;
 
     /** 동기화 이벤트 종류 — FE 가 어떤 데이터를 재조회할지 분기. */
     public enum SyncType {
@@ -58,7 +64,8 @@ public class LiveSyncPublisher {
                     "type", type.name(),
                     "storeId", storeId,
                     "at", Instant.now().toString());
-            messagingTemplate.convertAndSend("/topic/store." + storeId, payload);
+            fanout.send("/topic/store." + storeId, payload);
+            published("store", type.name());
         } catch (Exception e) {
             // 라이브 동기화는 best-effort — 실패는 로그만. 포커스 재조회가 백업.
             log.debug("[LiveSync] publish 실패 storeId={} type={}: {}", storeId, type, e.getMessage());
@@ -80,9 +87,19 @@ public class LiveSyncPublisher {
 
     private void doPublishChat(Long chatRoomId, Object messagePayload) {
         try {
-            messagingTemplate.convertAndSend("/topic/chat." + chatRoomId, messagePayload);
+            fanout.send("/topic/chat." + chatRoomId, messagePayload);
+            published("chat", "CHAT_MESSAGE");
         } catch (Exception e) {
             log.debug("[LiveSync] 채팅 publish 실패 chatRoomId={}: {}", chatRoomId, e.getMessage());
         }
     }
+
+    private void published(String topic, String type) {
+        Counter.builder("sodam.livesync.published")
+                .description("발행한 라이브 동기화 신호 수")
+                .tag("topic", topic)
+                .tag("type", type)
+                .register(meterRegistry)
+                .increment();
+    }
 }
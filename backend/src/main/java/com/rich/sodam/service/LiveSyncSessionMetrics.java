@@ -0,0 +1,46 @@
+package com.rich.sodam.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이 인스턴스에 연결된 STOMP 세션 수 지표({@code sodam.livesync.sessions}).
+ *
+ * <p>인스턴스별 값이다 — 클러스터 전체 연결 수는 지표 수집 쪽에서 인스턴스 태그로 합친다.
+ * 세션 ID 로 세므로 같은 세션의 중복 연결·해제 이벤트가 와도 값이 어긋나지 않는다.</p>
+ */
+@Component
+public class LiveSyncSessionMetrics {
+
+    private final Set<String> sessionIds = ConcurrentHashMap.newKeySet();
+
+    public LiveSyncSessionMetrics(MeterRegistry meterRegistry) {
+        Gauge.builder("sodam.livesync.sessions", sessionIds, Set::size)
+                .description("연결된 라이브 동기화 STOMP 세션 수").register(meterRegistry);
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        if (sessionId != null) {
+            sessionIds.add(sessionId);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        sessionIds.remove(event.getSessionId());
+    }
+
+    public int connectedSessions() {
+        return sessionIds.size();
+    }
+}
@@ -3,12 +3,13 @@ package com.rich.sodam.service;
 import com.rich.sodam.dto.response.LaborRiskResponse.Item;
 import com.rich.sodam.service.ai.AnthropicTextClient;
 import com.rich.sodam.service.ai.ForbiddenPhrases;
-import lombok.extern.slf4j.Slf4j;
+import com.rich.sodam.service.ai.LlmNarrationPipeline;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -31,8 +32,10 @@ import java.util.List;
  *
  * <p><b>실패 안전</b>: 네트워크·파싱·검증 실패는 전부 흡수하고 원본 메시지를 반환한다.
  * LLM이 죽어도 노무 리스크 대시보드는 계속 동작한다.</p>
+ *
+ * <p><b>대기 시간</b>: 항목들은 {@link LlmNarrationPipeline}으로 병렬로 보내고 전체 대기 한도를 넘긴 항목은
+ * 원본 문구로 나간다. 캐시 키는 비식별화된 프롬프트라 실명이 캐시에 남지 않고, 이름은 응답을 꺼낸 뒤 되돌린다.</p>
  */
-@Slf4j
 @Component("laborRiskNarratorProvider")
 @ConditionalOnProperty(name = "sodam.ai.provider", havingValue = "anthropic")
 public class LlmLaborRiskNarrator implements LaborRiskNarrator {
@@ -43,40 +46,59 @@ public class LlmLaborRiskNarrator implements LaborRiskNarrator {
     static final List<String> FORBIDDEN_PHRASES = ForbiddenPhrases.LIST;
 
     private final AnthropicTextClient client;
+    private final LlmNarrationPipeline pipeline;
 
     public LlmLaborRiskNarrator(
             @Value("${sodam.ai.api-url:https://api.anthropic.com/v1/messages}") String apiUrl,
             @Value("${sodam.ai.api-key:}") String apiKey,
             @Value("${sodam.ai.model:claude-haiku-4-5-20251001}") String model,
             @Value("${sodam.ai.connect-timeout-ms:3000}") int connectTimeoutMs,
-            @Value("${sodam.ai.read-timeout-ms:8000}") int readTimeoutMs) {
+            @Value("${sodam.ai.read-timeout-ms:8000}") int readTimeoutMs,
+            LlmNarrationPipeline pipeline) {
         this.client = new AnthropicTextClient(apiUrl, apiKey, model, connectTimeoutMs, readTimeoutMs);
+        this.pipeline = pipeline;
     }
 
     @Override
     public String narrate(Item item) {
-        String original = item.message();
-        if (!client.isReady() || original == null || original.isBlank()) {
-            return original;
-        }
-        try {
-            String employeeName = item.employeeName();
-            boolean hasName = employeeName != null && !employeeName.isBlank();
-            String anonymized = hasName ? original.replace(employeeName, ANONYMOUS_LABEL) : original;
+        return narrateAll(List.of(item)).get(0);
+    }
 
-            String response = client.complete(buildPrompt(item, anonymized));
-            if (response == null) {
-                return original;
+    @Override
+    public List<String> narrateAll(List<Item> items) {
+        List<String> results = new ArrayList<>(items.size());
+        items.forEach(item -> results.add(item.message()));
+        if (!client.isReady()) {
+            return results;
+        }
+        List<Integer> indexes = new ArrayList<>();
+        List<LlmNarrationPipeline.Request> requests = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            Item item = items.get(i);
+            if (item.message() == null || item.message().isBlank()) {
+                continue;
             }
-            String rephrased = response.trim();
-            if (!passesValidation(rephrased, item)) {
-                return original;
+            indexes.add(i);
+            requests.add(new LlmNarrationPipeline.Request(
+                    () -> buildPrompt(item, anonymize(item)), text -> passesValidation(text, item), null));
+        }
+        List<String> rephrased = pipeline.generateAll(client, requests, "LaborRiskNarrator");
+        for (int r = 0; r < indexes.size(); r++) {
+            String text = rephrased.get(r);
+            if (text != null) {
+                Item item = items.get(indexes.get(r));
+                results.set(indexes.get(r), hasName(item) ? text.replace(ANONYMOUS_LABEL, item.employeeName()) : text);
             }
-            return hasName ? rephrased.replace(ANONYMOUS_LABEL, employeeName) : rephrased;
-        } catch (Exception e) {
-            log.debug("[LaborRiskNarrator] LLM 서술 실패 — 템플릿 문구로 폴백. cause={}", e.toString());
-            return original;
         }
+        return results;
+    }
+
+    private static boolean hasName(Item item) {
+        return item.employeeName() != null && !item.employeeName().isBlank();
+    }
+
+    private static String anonymize(Item item) {
+        return hasName(item) ? item.message().replace(item.employeeName(), ANONYMOUS_LABEL) : item.message();
     }
 
     static String buildPrompt(Item item, String anonymizedMessage) {
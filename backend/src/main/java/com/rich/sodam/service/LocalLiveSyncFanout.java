@@ -0,0 +1,20 @@
+package com.rich.sodam.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/** 이 인스턴스의 simple broker 로만 보낸다 — 단일 인스턴스 운영과 dev/test 기본값. */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "sodam.live-sync", name = "fanout", havingValue = "local", matchIfMissing = true)
+public class LocalLiveSyncFanout implements LiveSyncFanout {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Override
+    public void send(String destination, Object payload) {
+        messagingTemplate.convertAndSend(destination, payload);
+    }
+}
@@ -151,7 +151,7 @@ public class ManagerDelegationService {
     @Transactional(readOnly = true)
     public List<ManagedStoreView> managedStores(Long employeeId) {
         if (!guard.isManagerDelegationEnabled()) return List.of();
-        return relationRepository.findByEmployeeProfile_IdAndStoreRoleAndIsActiveTrue(
+        return relationRepository.findWithStoreByEmployeeProfile_IdAndStoreRoleAndIsActiveTrue(
                 employeeId, com.rich.sodam.domain.type.StoreRole.MANAGER).stream()
                 .map(this::toManagedStoreView).toList();
     }
@@ -5,12 +5,19 @@ import com.rich.sodam.domain.LaborContract;
 import com.rich.sodam.dto.response.MyHistoryResponse;
 import com.rich.sodam.repository.AttendanceRepository;
 import com.rich.sodam.repository.LaborContractRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 
@@ -34,9 +41,11 @@ public class MyHistoryService {
 
     private static final DateTimeFormatter DATE = DateTimeFormatter.ISO_LOCAL_DATE;
     private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm");
+    static final int CSV_PAGE_SIZE = 500;
 
     private final AttendanceRepository attendanceRepository;
     private final LaborContractRepository laborContractRepository;
+    private final EntityManager entityManager;
 
     @Transactional(readOnly = true)
     public MyHistoryResponse.Page<MyHistoryResponse.AttendanceItem> myAttendance(Long userId, int page, int size) {
@@ -58,22 +67,38 @@ public class MyHistoryService {
      * 본인 근무 이력 CSV — 보존기간 만료 고지에서 안내하는 "내려받기"의 실체다.
      * 파기되면 되돌릴 수 없으므로, 근로자가 직접 보관할 수 있어야 한다(법무·노무 공통 권고).
      *
-     * <p>Excel 호환을 위해 UTF-8 BOM을 붙인다(기존 {@code ExportService} 관행과 동일).</p>
+     * <p>Excel 호환을 위해 UTF-8 BOM을 붙인다(기존 {@code ExportService} 관행과 동일). 기록은 키셋 페이지로
+     * 읽어 {@code out} 에 바로 쓰고 페이지마다 영속성 컨텍스트를 비운다 — 근속 기간과 무관하게 메모리가 일정하다.
+     * 스트림은 닫지 않는다.</p>
      */
     @Transactional(readOnly = true)
-    public byte[] myAttendanceCsv(Long userId) {
-        StringBuilder sb = new StringBuilder();
-        sb.append('﻿');
-        sb.append("매장,날짜,출근,퇴근,근무시간(분),적용시급\n");
-        for (Attendance a : attendanceRepository.findByEmployeeProfile_IdOrderByCheckInTimeDesc(userId)) {
-            sb.append(csv(storeNameOf(a))).append(',')
-                    .append(a.getCheckInTime() == null ? "" : a.getCheckInTime().format(DATE)).append(',')
-                    .append(a.getCheckInTime() == null ? "" : a.getCheckInTime().format(TIME)).append(',')
-                    .append(a.getCheckOutTime() == null ? "" : a.getCheckOutTime().format(TIME)).append(',')
-                    .append(a.getWorkingTimeInMinutes()).append(',')
-                    .append(a.getAppliedHourlyWage() == null ? "" : a.getAppliedHourlyWage()).append('\n');
-        }
-        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    public void writeMyAttendanceCsv(Long userId, OutputStream out) throws IOException {
+        Writer w = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        w.write('\uFEFF');
+        w.write("매장,날짜,출근,퇴근,근무시간(분),적용시급\n");
+
+        LocalDateTime cursorTime = AttendanceRepository.EXPORT_CURSOR_START;
+        Long cursorId = Long.MAX_VALUE;
+        List<Attendance> page;
+        do {
+            page = attendanceRepository.findEmployeeExportPage(
+                    userId, cursorTime, cursorId, PageRequest.of(0, CSV_PAGE_SIZE));
+            for (Attendance a : page) {
+                w.append(csv(storeNameOf(a))).append(',')
+                        .append(a.getCheckInTime() == null ? "" : a.getCheckInTime().format(DATE)).append(',')
+                        .append(a.getCheckInTime() == null ? "" : a.getCheckInTime().format(TIME)).append(',')
+                        .append(a.getCheckOutTime() == null ? "" : a.getCheckOutTime().format(TIME)).append(',')
+                        .append(String.valueOf(a.getWorkingTimeInMinutes())).append(',')
+                        .append(a.getAppliedHourlyWage() == null ? "" : a.getAppliedHourlyWage().toString()).append('\n');
+            }
+            if (page.size() == CSV_PAGE_SIZE) {
+                Attendance last = page.get(page.size() - 1);
+                cursorTime = last.getCheckInTime();
+                cursorId = last.getId();
+            }
+            w.flush();
+            entityManager.clear();
+        } while (page.size() == CSV_PAGE_SIZE);
     }
 
     private static MyHistoryResponse.AttendanceItem toAttendanceItem(Attendance a) {
@@ -6,6 +6,7 @@ import com.rich.sodam.domain.AttendanceApprovalRequest;
 import com.rich.sodam.domain.PayrollCycle;
 import com.rich.sodam.domain.ReminderLog;
 import com.rich.sodam.domain.Store;
+import com.rich.sodam.domain.StoreDueSlot;
 import com.rich.sodam.domain.User;
 import com.rich.sodam.domain.WorkShift;
 import com.rich.sodam.domain.type.ReminderType;
@@ -29,8 +30,10 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.YearMonth;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeSet;
 
 /**
  * 사장 리마인더 배치 5종.
@@ -45,6 +48,9 @@ import java.util.Map;
  * <p><b>멱등성</b>: {@link ReminderLog} (store_id, reminder_type, target_date, ref_id) 유니크 —
  * 발송 전 존재 체크, 발송 후 기록. 같은 날 배치가 재실행돼도 중복 발송하지 않는다.
  * 기존 룰은 ref_id=NULL, 지각 감지는 ref_id=시프트 ID 로 직원(시프트)별 멱등성을 확보한다.
+ * <p><b>후보 선정</b>: 매 틱 전체 매장을 읽지 않는다. (a)(b)는 {@link StoreDueSlotIndex}의 마감·오픈 슬롯
+ * 범위 조회, (c)는 지급일 컬럼 조회, (e)는 시작 시각 범위 조회로 그 틱에 할 일이 있는 매장·시프트만 고르고,
+ * 매장은 {@link StoreDueSlotIndex#PAGE_SIZE} 단위로 읽는다. 최종 판정은 아래 각 룰이 원본 값으로 다시 한다.
  * <p>푸시는 {@link NotificationService} 재사용(인앱 inbox 적재 + FCM). FCM 키 없는 dev 환경에서도
  * 배치가 죽지 않도록 매장 단위 try-catch 로 격리한다.
  */
@@ -60,6 +66,11 @@ public class OwnerReminderScheduler {
     private static final int PAYDAY_LEAD_DAYS = 3;
     /** 지각 감지 유예(분) — 시프트 시작 후 이 시간까지는 출근 대기로 본다. */
     private static final int LATE_GRACE_MINUTES = 10;
+    /**
+     * 오픈·지각 기준 시각을 지난 뒤 후보로 다시 잡아주는 시간(분). 배치가 잠시 멈췄다 재개돼도 이 시간 안의
+     * 건은 이어서 발송한다(발송 여부는 reminder_log 멱등으로 판단).
+     */
+    private static final int CATCH_UP_MINUTES = 60;
 
     private final StoreRepository storeRepository;
     private final MasterStoreRelationRepository masterStoreRelationRepository;
@@ -70,6 +81,7 @@ public class OwnerReminderScheduler {
     private final AttendanceRepository attendanceRepository;
     private final AttendanceApprovalRequestRepository attendanceApprovalRequestRepository;
     private final UserRepository userRepository;
+    private final StoreDueSlotIndex storeDueSlotIndex;
 
     /* ==================== (a)+(b) 매출 입력 리마인더 — 10분 주기 ==================== */
 
@@ -83,14 +95,24 @@ public class OwnerReminderScheduler {
     /** 시각 주입 가능 버전(테스트용). */
     void remindSalesInput(LocalDateTime now) {
         LocalDate today = now.toLocalDate();
-        for (Store store : storeRepository.findAll()) {
-            try {
-                if (!store.isActive() || store.getOperatingHours() == null) continue;
-                remindTodayBeforeClose(store, now, today);
-                remindYesterdayAfterOpen(store, now, today);
-            } catch (Exception e) {
-                // 매장 단위 격리 — FCM 미설정/데이터 이상으로 배치 전체가 죽지 않게 한다.
-                log.warn("매출 리마인더 처리 실패 storeId={} reason={}", store.getId(), e.getMessage());
+        LocalDateTime minute = now.truncatedTo(ChronoUnit.MINUTES);
+        // (a) 마감이 (now+20, now+30] 에 걸친 매장 — 초 단위 절삭 오차를 덮도록 끝을 1분 넓힌다.
+        // (b) 오늘 오픈이 (now-60, now] 에 걸친 매장.
+        TreeSet<Long> candidates = new TreeSet<>(storeDueSlotIndex.dueStoreIds(StoreDueSlot.Type.CLOSE,
+                minute.plusMinutes(CLOSE_WINDOW_END_MIN), minute.plusMinutes(CLOSE_WINDOW_START_MIN + 1)));
+        candidates.addAll(storeDueSlotIndex.dueStoreIds(StoreDueSlot.Type.OPEN,
+                minute.minusMinutes(CATCH_UP_MINUTES), minute));
+
+        for (List<Long> page : StoreDueSlotIndex.pages(new ArrayList<>(candidates))) {
+            for (Store store : storeRepository.findAllById(page)) {
+                try {
+                    if (!store.isActive() || store.getOperatingHours() == null) continue;
+                    remindTodayBeforeClose(store, now, today);
+                    remindYesterdayAfterOpen(store, now, today);
+                } catch (Exception e) {
+                    // 매장 단위 격리 — FCM 미설정/데이터 이상으로 배치 전체가 죽지 않게 한다.
+                    log.warn("매출 리마인더 처리 실패 storeId={} reason={}", store.getId(), e.getMessage());
+                }
             }
         }
     }
@@ -149,27 +171,46 @@ public class OwnerReminderScheduler {
     /** 날짜 주입 가능 버전(테스트용). */
     void remindPaydayD3(LocalDate today) {
         LocalDate target = today.plusDays(PAYDAY_LEAD_DAYS);
-        for (Store store : storeRepository.findAll()) {
-            try {
-                if (!store.isActive()) continue;
-                PayrollCycle cycle = store.getPayrollCycle();
-                if (cycle == null || !cycle.isConfigured()) continue;
-                if (!isPayDate(cycle, target)) continue;
-
-                sendOnce(store, ReminderType.PAYDAY_D3, target, PushMessage.builder()
-                        .title("3일 뒤 급여일입니다")
-                        .body(String.format("%s의 급여일(%s)이 3일 남았어요. 급여 정산을 미리 준비해 보세요.",
-                                store.getStoreName(), target))
-                        .deepLink("sodam://payroll")
-                        .data(Map.of("type", "PAYDAY_D3", "storeId", String.valueOf(store.getId()),
-                                "payDate", target.toString()))
-                        .build());
-            } catch (Exception e) {
-                log.warn("급여일 D-3 리마인더 처리 실패 storeId={} reason={}", store.getId(), e.getMessage());
+        for (List<Long> page : StoreDueSlotIndex.pages(payDayCandidates(target))) {
+            for (Store store : storeRepository.findAllById(page)) {
+                remindPaydayD3(store, target);
             }
         }
     }
 
+    private void remindPaydayD3(Store store, LocalDate target) {
+        try {
+            if (!store.isActive()) return;
+            PayrollCycle cycle = store.getPayrollCycle();
+            if (cycle == null || !cycle.isConfigured()) return;
+            if (!isPayDate(cycle, target)) return;
+
+            sendOnce(store, ReminderType.PAYDAY_D3, target, PushMessage.builder()
+                    .title("3일 뒤 급여일입니다")
+                    .body(String.format("%s의 급여일(%s)이 3일 남았어요. 급여 정산을 미리 준비해 보세요.",
+                            store.getStoreName(), target))
+                    .deepLink("sodam://payroll")
+                    .data(Map.of("type", "PAYDAY_D3", "storeId", String.valueOf(store.getId()),
+                            "payDate", target.toString()))
+                    .build());
+        } catch (Exception e) {
+            log.warn("급여일 D-3 리마인더 처리 실패 storeId={} reason={}", store.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * target 이 지급일일 수 있는 매장 ID — 지급일(일자)이 target 일자와 같거나, target 이 말일이면 말일 지급이거나
+     * 그 달에 없는 일자(31일 지정 등, 말일로 클램프됨)인 매장.
+     */
+    private List<Long> payDayCandidates(LocalDate target) {
+        boolean lastDayOfMonth = target.getDayOfMonth() == target.lengthOfMonth();
+        List<String> payDays = new ArrayList<>();
+        for (int day = target.getDayOfMonth(); day <= (lastDayOfMonth ? 31 : target.getDayOfMonth()); day++) {
+            payDays.add(String.format("%02d", day));
+        }
+        return storeRepository.findActiveIdsByPayDay(payDays, lastDayOfMonth);
+    }
+
     /** target 날짜가 이 매장의 급여 지급일인지 — 인접 기준월(전월/당월/익월) 후보로 판정. */
     boolean isPayDate(PayrollCycle cycle, LocalDate target) {
         YearMonth base = YearMonth.from(target);
@@ -193,24 +234,31 @@ public class OwnerReminderScheduler {
     /** 날짜 주입 가능 버전(테스트용). */
     void remindWeeklyReport(LocalDate today) {
         LocalDate lastWeekStart = today.minusDays(7); // 지난주 월요일
-        for (Store store : storeRepository.findAll()) {
-            try {
-                if (!store.isActive()) continue;
-                sendOnce(store, ReminderType.WEEKLY_REPORT, today, PushMessage.builder()
-                        .title("주간 리포트가 도착했어요")
-                        .body(String.format("%s의 지난주 매장 활동 요약을 확인해 보세요.", store.getStoreName()))
-                        .deepLink("sodam://weekly-insights")
-                        // WeeklyInsights 화면 딥링크용 데이터 키
-                        .data(Map.of("type", "WEEKLY_REPORT", "storeId", String.valueOf(store.getId()),
-                                "weekStart", lastWeekStart.toString(),
-                                "weekEnd", lastWeekStart.plusDays(6).toString()))
-                        .build());
-            } catch (Exception e) {
-                log.warn("주간 리포트 리마인더 처리 실패 storeId={} reason={}", store.getId(), e.getMessage());
+        // 모든 활성 매장이 대상 — ID 만 먼저 읽고 페이지 단위로 적재한다.
+        for (List<Long> page : StoreDueSlotIndex.pages(storeRepository.findAllActiveIdsOrderById())) {
+            for (Store store : storeRepository.findAllById(page)) {
+                remindWeeklyReport(store, today, lastWeekStart);
             }
         }
     }
 
+    private void remindWeeklyReport(Store store, LocalDate today, LocalDate lastWeekStart) {
+        try {
+            if (!store.isActive()) return;
+            sendOnce(store, ReminderType.WEEKLY_REPORT, today, PushMessage.builder()
+                    .title("주간 리포트가 도착했어요")
+                    .body(String.format("%s의 지난주 매장 활동 요약을 확인해 보세요.", store.getStoreName()))
+                    .deepLink("sodam://weekly-insights")
+                    // WeeklyInsights 화면 딥링크용 데이터 키
+                    .data(Map.of("type", "WEEKLY_REPORT", "storeId", String.valueOf(store.getId()),
+                            "weekStart", lastWeekStart.toString(),
+                            "weekEnd", lastWeekStart.plusDays(6).toString()))
+                    .build());
+        } catch (Exception e) {
+            log.warn("주간 리포트 리마인더 처리 실패 storeId={} reason={}", store.getId(), e.getMessage());
+        }
+    }
+
     /* ==================== (e) 지각·미출근 감지 — 10분 주기 ==================== */
 
     @Scheduled(cron = "0 */10 * * * *", zone = "Asia/Seoul")
@@ -230,7 +278,14 @@ public class OwnerReminderScheduler {
      */
     void remindLateCheckIn(LocalDateTime now) {
         LocalDate today = now.toLocalDate();
-        for (WorkShift shift : workShiftRepository.findByShiftDateAndConfirmedAtIsNotNull(today)) {
+        // 유예가 끝난 지 CATCH_UP_MINUTES 이내인 오늘 시프트만 — 시작 시각 [now-10-60, now-10).
+        LocalDateTime startBefore = now.minusMinutes(LATE_GRACE_MINUTES);
+        if (!startBefore.toLocalDate().equals(today)) return; // 자정 직후 — 아직 유예가 끝난 시프트 없음
+        LocalDateTime startFrom = startBefore.minusMinutes(CATCH_UP_MINUTES);
+        LocalTime from = startFrom.toLocalDate().equals(today) ? startFrom.toLocalTime() : LocalTime.MIN;
+        for (WorkShift shift : workShiftRepository
+                .findByShiftDateAndConfirmedAtIsNotNullAndStartTimeGreaterThanEqualAndStartTimeLessThan(
+                        today, from, startBefore.toLocalTime())) {
             try {
                 LocalDateTime lateThreshold = shift.getShiftDate()
                         .atTime(shift.getStartTime()).plusMinutes(LATE_GRACE_MINUTES);
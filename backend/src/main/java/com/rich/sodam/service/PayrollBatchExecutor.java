@@ -60,4 +60,23 @@ public class PayrollBatchExecutor {
                                          boolean recalculate) {
         return payrollService.calculatePayroll(employeeId, storeId, startDate, endDate, recalculate);
     }
+
+    /**
+     * 매장 단위 계산 입력을 한 번에 읽는다 — 직원마다 출근기록·계약서·시프트를 다시 조회하지 않도록
+     * 오케스트레이션 루프가 매장당 1회 호출하고, 결과를 아래 컨텍스트 오버로드에 넘긴다.
+     * 직원 계산과 같은 트랜잭션에 묶지 않으므로 읽기가 끝나면 바로 커넥션을 돌려준다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public PayrollCalculationContext loadStoreContext(Long storeId, LocalDate startDate, LocalDate endDate) {
+        return payrollService.loadStoreCalculationContext(storeId, startDate, endDate);
+    }
+
+    /**
+     * 미리 읽어 둔 매장 컨텍스트로 직원 1명의 급여를 독립 트랜잭션으로 계산한다.
+     * 기존-급여 갱신/방어(PAID·CONFIRMED 재계산 거부 등)는 위 오버로드와 같다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Payroll calculateForEmployee(PayrollCalculationContext context, Long employeeId, boolean recalculate) {
+        return payrollService.calculatePayroll(context, employeeId, recalculate);
+    }
 }
@@ -0,0 +1,136 @@
+package com.rich.sodam.service;
+
+import com.rich.sodam.domain.Attendance;
+import com.rich.sodam.domain.EmployeeStoreRelation;
+import com.rich.sodam.domain.LaborContract;
+import com.rich.sodam.domain.PayrollPolicy;
+import com.rich.sodam.domain.Store;
+import com.rich.sodam.domain.WorkShift;
+import com.rich.sodam.exception.EntityNotFoundException;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 한 매장·한 정산기간의 급여 계산 입력을 미리 모아 둔 읽기 전용 스냅샷.
+ *
+ * <p>{@link PayrollService#calculatePayroll(PayrollCalculationContext, Long, boolean)}는 직원 1명을 계산할 때
+ * 출근기록·계약서·확정 시프트·승인 휴가·WAIVED 근태 이상을 각각 조회하고, 주 40시간 연장가산과 주휴수당
+ * 집계가 같은 출근기록·계약서를 한 번씩 더 읽었다. 매장 일괄 정산·월별 배치에서는 이것이 직원 수만큼
+ * 반복돼 매장당 수백 번의 왕복이 됐다. 이 컨텍스트는 {@link PayrollCalculationContextLoader}가
+ * 매장 단위 IN 쿼리 몇 번으로 채우고, 계산 루프는 메모리에서만 꺼내 쓴다.</p>
+ *
+ * <p>출근기록은 정산기간 앞뒤로 6일씩 넓혀 담는다 — 주휴수당·주 연장가산은 기간에 걸친 주(週)
+ * 전체를 보며, 어떤 주 기산 정책이든 주 시작일은 기준일로부터 6일 안쪽이다.</p>
+ *
+ * <p>기존 급여(Payroll)와 합산 후보 보너스는 담지 않는다. 둘 다 계산 트랜잭션 안에서 갱신(재계산
+ * 방어·소비 처리)되는 값이라, 미리 읽어 두면 그 사이의 확정·소비를 놓칠 수 있다.</p>
+ */
+public final class PayrollCalculationContext {
+
+    /** 주 단위 집계를 위해 정산기간 앞뒤로 넓히는 일수(1주 − 1일). */
+    static final int WEEK_MARGIN_DAYS = 6;
+
+    @Getter
+    private final Store store;
+    @Getter
+    private final PayrollPolicy policy;
+    @Getter
+    private final LocalDate startDate;
+    @Getter
+    private final LocalDate endDate;
+
+    private final Map<Long, EmployeeStoreRelation> relationsByEmployee;
+    private final Map<Long, List<Attendance>> attendancesByEmployee;
+    private final Map<Long, List<LaborContract>> contractsByEmployee;
+    private final Map<Long, List<WorkShift>> confirmedShiftsByEmployee;
+    private final Map<Long, Set<LocalDate>> approvedTimeOffDatesByEmployee;
+    private final Map<Long, Map<LocalDate, Integer>> waivedMinutesByEmployee;
+    private final Map<Long, LocalDate> hireAnchorsByEmployee;
+
+    PayrollCalculationContext(Store store, PayrollPolicy policy, LocalDate startDate, LocalDate endDate,
+                              Map<Long, EmployeeStoreRelation> relationsByEmployee,
+                              Map<Long, List<Attendance>> attendancesByEmployee,
+                              Map<Long, List<LaborContract>> contractsByEmployee,
+                              Map<Long, List<WorkShift>> confirmedShiftsByEmployee,
+                              Map<Long, Set<LocalDate>> approvedTimeOffDatesByEmployee,
+                              Map<Long, Map<LocalDate, Integer>> waivedMinutesByEmployee,
+                              Map<Long, LocalDate> hireAnchorsByEmployee) {
+        this.store = store;
+        this.policy = policy;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.relationsByEmployee = Collections.unmodifiableMap(new LinkedHashMap<>(relationsByEmployee));
+        this.attendancesByEmployee = Map.copyOf(attendancesByEmployee);
+        this.contractsByEmployee = Map.copyOf(contractsByEmployee);
+        this.confirmedShiftsByEmployee = Map.copyOf(confirmedShiftsByEmployee);
+        this.approvedTimeOffDatesByEmployee = Map.copyOf(approvedTimeOffDatesByEmployee);
+        this.waivedMinutesByEmployee = Map.copyOf(waivedMinutesByEmployee);
+        this.hireAnchorsByEmployee = Map.copyOf(hireAnchorsByEmployee);
+    }
+
+    public Long getStoreId() {
+        return store.getId();
+    }
+
+    /** 컨텍스트에 담긴 직원-매장 관계(비활성 포함, 직원 ID 오름차순). */
+    public Collection<EmployeeStoreRelation> relations() {
+        return relationsByEmployee.values();
+    }
+
+    public EmployeeStoreRelation relationOf(Long employeeId) {
+        EmployeeStoreRelation relation = relationsByEmployee.get(employeeId);
+        if (relation == null) {
+            throw new EntityNotFoundException("사원-매장 관계를 찾을 수 없습니다.");
+        }
+        return relation;
+    }
+
+    /**
+     * 직원의 [from, to] 출근기록(checkInTime 기준, 양끝 포함 — 기존 BETWEEN 조회와 같은 경계).
+     * 정렬은 최신순으로, 직원 단위 조회({@code findByEmployeeIdAndStoreIdAndPeriodWithDetails})와 같다.
+     */
+    public List<Attendance> attendances(Long employeeId, LocalDateTime from, LocalDateTime to) {
+        return attendancesByEmployee.getOrDefault(employeeId, List.of()).stream()
+                .filter(a -> a.getCheckInTime() != null
+                        && !a.getCheckInTime().isBefore(from) && !a.getCheckInTime().isAfter(to))
+                .toList();
+    }
+
+    /** 정산기간 안쪽 출근기록 중 하나라도 있는지 — 퇴사자 근무 여부 판정용. */
+    public boolean hasAttendanceInPeriod(Long employeeId) {
+        return !attendances(employeeId, startDate.atStartOfDay(), endDate.atTime(23, 59, 59)).isEmpty();
+    }
+
+    /** 직원의 이 매장 계약서 (작성일 최신순). */
+    public List<LaborContract> contracts(Long employeeId) {
+        return contractsByEmployee.getOrDefault(employeeId, List.of());
+    }
+
+    /** 정산기간 안의 확정(confirmedAt) 시프트. */
+    public List<WorkShift> confirmedShifts(Long employeeId) {
+        return confirmedShiftsByEmployee.getOrDefault(employeeId, List.of());
+    }
+
+    /** 정산기간 안의 승인(APPROVED) 휴가 일자. */
+    public Set<LocalDate> approvedTimeOffDates(Long employeeId) {
+        return approvedTimeOffDatesByEmployee.getOrDefault(employeeId, Set.of());
+    }
+
+    /** 정산기간 안의 WAIVED 근태 이상 미근무분(분), 날짜별 합. */
+    public Map<LocalDate, Integer> waivedMinutesByDate(Long employeeId) {
+        return waivedMinutesByEmployee.getOrDefault(employeeId, Map.of());
+    }
+
+    /** 입사일 기산(HIRE_DATE_ANCHORED) 정책일 때만 채워진다. 그 외 정책이면 null. */
+    public LocalDate hireAnchor(Long employeeId) {
+        return hireAnchorsByEmployee.get(employeeId);
+    }
+}
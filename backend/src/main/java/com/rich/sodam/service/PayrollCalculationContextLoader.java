@@ -0,0 +1,160 @@
+package com.rich.sodam.service;
+
+import com.rich.sodam.domain.Attendance;
+import com.rich.sodam.domain.EmployeeProfile;
+import com.rich.sodam.domain.EmployeeStoreRelation;
+import com.rich.sodam.domain.LaborContract;
+import com.rich.sodam.domain.PayrollPolicy;
+import com.rich.sodam.domain.Store;
+import com.rich.sodam.domain.TimeOff;
+import com.rich.sodam.domain.WorkShift;
+import com.rich.sodam.domain.type.TimeOffStatus;
+import com.rich.sodam.exception.EntityNotFoundException;
+import com.rich.sodam.repository.AttendanceRepository;
+import com.rich.sodam.repository.EmployeeProfileRepository;
+import com.rich.sodam.repository.EmployeeStoreRelationRepository;
+import com.rich.sodam.repository.LaborContractRepository;
+import com.rich.sodam.repository.StoreRepository;
+import com.rich.sodam.repository.TimeOffRepository;
+import com.rich.sodam.repository.WorkShiftRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * {@link PayrollCalculationContext}를 채운다 — 직원 수와 무관하게 매장당 고정 횟수의 IN 쿼리만 쓴다.
+ *
+ * <p>트랜잭션은 호출측({@link PayrollService})이 연다. 급여 정책이 없으면 기본 정책을 만들어 저장하므로
+ * 읽기 전용 트랜잭션에서 부르면 안 된다({@link PayrollPolicyService#getPayrollPolicyByStore} 참고).</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class PayrollCalculationContextLoader {
+
+    private final EmployeeProfileRepository employeeProfileRepository;
+    private final StoreRepository storeRepository;
+    private final EmployeeStoreRelationRepository employeeStoreRelationRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final LaborContractRepository laborContractRepository;
+    private final WorkShiftRepository workShiftRepository;
+    private final TimeOffRepository timeOffRepository;
+    private final AttendanceIrregularityService attendanceIrregularityService;
+    private final PayrollPolicyService payrollPolicyService;
+
+    /**
+     * 직원 1명용 컨텍스트 (수동 계산 경로). 직원·매장·관계가 없을 때의 예외와 문구는 기존 단건 계산과 같다.
+     */
+    public PayrollCalculationContext loadForEmployee(Long employeeId, Long storeId, LocalDate startDate,
+                                                     LocalDate endDate, boolean includeHireAnchors) {
+        EmployeeProfile employee = employeeProfileRepository.findById(employeeId)
+                .orElseThrow(() -> new EntityNotFoundException("사원 프로필을 찾을 수 없습니다."));
+        Store store = findStore(storeId);
+        EmployeeStoreRelation relation = employeeStoreRelationRepository.findByEmployeeProfileAndStore(employee, store)
+                .orElseThrow(() -> new EntityNotFoundException("사원-매장 관계를 찾을 수 없습니다."));
+        return load(store, startDate, endDate, Map.of(employeeId, relation), includeHireAnchors);
+    }
+
+    /**
+     * 매장 전체 직원(비활성 포함)용 컨텍스트 (매장 일괄 정산·월별 배치 경로).
+     * 활성 여부로 거르는 것은 호출측 몫이다 — 퇴사자 근무기록 보고도 같은 컨텍스트를 쓴다.
+     */
+    public PayrollCalculationContext loadForStore(Long storeId, LocalDate startDate, LocalDate endDate,
+                                                  boolean includeHireAnchors) {
+        Store store = findStore(storeId);
+        Map<Long, EmployeeStoreRelation> relations = new LinkedHashMap<>();
+        employeeStoreRelationRepository.findByStoreIdWithEmployeeAndUser(storeId).stream()
+                .filter(relation -> relation.getEmployeeProfile() != null)
+                .sorted(Comparator.comparing(relation -> relation.getEmployeeProfile().getId()))
+                .forEach(relation -> relations.putIfAbsent(relation.getEmployeeProfile().getId(), relation));
+        return load(store, startDate, endDate, relations, includeHireAnchors);
+    }
+
+    private Store findStore(Long storeId) {
+        return storeRepository.findById(storeId)
+                .orElseThrow(() -> new EntityNotFoundException("매장을 찾을 수 없습니다."));
+    }
+
+    private PayrollCalculationContext load(Store store, LocalDate startDate, LocalDate endDate,
+                                           Map<Long, EmployeeStoreRelation> relations, boolean includeHireAnchors) {
+        Long storeId = store.getId();
+        PayrollPolicy policy = payrollPolicyService.getPayrollPolicyByStore(storeId);
+        if (relations.isEmpty()) {
+            return new PayrollCalculationContext(store, policy, startDate, endDate, relations,
+                    Map.of(), Map.of(), Map.of(), Map.of(), Map.of(), Map.of());
+        }
+        Set<Long> employeeIds = relations.keySet();
+
+        // 주 단위 집계(주휴·주 연장가산)가 보는 "기간에 걸친 주 전체"까지 한 번에 읽는다.
+        Map<Long, List<Attendance>> attendances = attendanceRepository
+                .findByEmployeeIdsAndStoreIdAndPeriodWithDetails(employeeIds, storeId,
+                        startDate.minusDays(PayrollCalculationContext.WEEK_MARGIN_DAYS).atStartOfDay(),
+                        endDate.plusDays(PayrollCalculationContext.WEEK_MARGIN_DAYS).atTime(23, 59, 59))
+                .stream()
+                .collect(Collectors.groupingBy(a -> a.getEmployeeProfile().getId()));
+
+        Map<Long, List<LaborContract>> contracts = laborContractRepository
+                .findByStoreIdAndEmployeeIdInOrderByCreatedAtDesc(storeId, employeeIds).stream()
+                .collect(Collectors.groupingBy(LaborContract::getEmployeeId));
+
+        Map<Long, List<WorkShift>> confirmedShifts = workShiftRepository
+                .findByStoreIdAndEmployeeIdInAndShiftDateBetweenAndConfirmedAtIsNotNull(
+                        storeId, employeeIds, startDate, endDate).stream()
+                .collect(Collectors.groupingBy(WorkShift::getEmployeeId));
+
+        Map<Long, Set<LocalDate>> approvedTimeOffDates = new HashMap<>();
+        for (TimeOff timeOff : timeOffRepository.findByStore_IdAndEmployee_IdInAndStatus(
+                storeId, employeeIds, TimeOffStatus.APPROVED)) {
+            if (timeOff.getStartDate() == null || timeOff.getEndDate() == null) {
+                continue;
+            }
+            LocalDate from = timeOff.getStartDate().isAfter(startDate) ? timeOff.getStartDate() : startDate;
+            LocalDate to = timeOff.getEndDate().isBefore(endDate) ? timeOff.getEndDate() : endDate;
+            Set<LocalDate> dates = approvedTimeOffDates
+                    .computeIfAbsent(timeOff.getEmployee().getId(), ignored -> new HashSet<>());
+            for (LocalDate d = from; !d.isAfter(to); d = d.plusDays(1)) {
+                dates.add(d);
+            }
+        }
+
+        Map<Long, Map<LocalDate, Integer>> waivedMinutes = attendanceIrregularityService
+                .waivedMinutesByEmployeeAndDate(storeId, employeeIds, startDate, endDate);
+
+        Map<Long, LocalDate> hireAnchors = includeHireAnchors
+                ? earliestHireDates(relations)
+                : Map.of();
+
+        return new PayrollCalculationContext(store, policy, startDate, endDate, relations,
+                attendances, contracts, confirmedShifts, approvedTimeOffDates, waivedMinutes, hireAnchors);
+    }
+
+    /**
+     * 직원별 전 매장 최초 입사일. 입사일이 하나도 없으면 사용자 생성일, 그것도 없으면 오늘
+     * ({@code PayrollService#findEarliestHireDate}와 같은 폴백 순서).
+     */
+    private Map<Long, LocalDate> earliestHireDates(Map<Long, EmployeeStoreRelation> relations) {
+        Map<Long, LocalDate> earliest = new HashMap<>();
+        for (Object[] row : employeeStoreRelationRepository.findEarliestHireDatesByEmployeeIds(relations.keySet())) {
+            if (row[1] != null) {
+                earliest.put((Long) row[0], (LocalDate) row[1]);
+            }
+        }
+        Map<Long, LocalDate> anchors = new HashMap<>();
+        relations.forEach((employeeId, relation) -> anchors.put(employeeId,
+                earliest.computeIfAbsent(employeeId, ignored -> fallbackHireDate(relation.getEmployeeProfile()))));
+        return anchors;
+    }
+
+    private LocalDate fallbackHireDate(EmployeeProfile employee) {
+        return employee.getUser() != null && employee.getUser().getCreatedAt() != null
+                ? employee.getUser().getCreatedAt().toLocalDate() : LocalDate.now();
+    }
+}
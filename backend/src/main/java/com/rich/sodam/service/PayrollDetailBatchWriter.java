@@ -0,0 +1,143 @@
+package com.rich.sodam.service;
+
+import com.rich.sodam.domain.PayrollDetail;
+import com.rich.sodam.repository.PayrollDetailRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 급여 상세 내역(payroll_detail) 일괄 INSERT.
+ *
+ * <p>{@link PayrollDetail}은 IDENTITY 키라 Hibernate 가 JDBC 배치를 쓰지 못한다 — 행마다 INSERT 후
+ * 생성 키를 받아야 해서 {@code jdbc.batch_size}를 설정해도 건별 왕복이 된다. 직원 1명이 한 달에
+ * 25~30행을 만드는 표라 월별 배치에서는 수만 번의 단건 INSERT 가 됐다. 상세 내역은 저장 뒤 ID 를
+ * 다시 쓰지 않으므로({@code findByPayroll_IdOrderByWorkDateAsc}로만 읽는다) {@link JdbcTemplate#batchUpdate}로
+ * {@code jdbc.batch_size} 단위 배치를 보낸다. MySQL 은 {@code rewriteBatchedStatements=true}일 때
+ * 배치를 다건 VALUES 하나로 재작성한다({@code LoadTestStoreSeeder}와 같은 이유).</p>
+ *
+ * <p>JPA 와 같은 트랜잭션·커넥션을 쓴다. 부모 급여(payroll)는 IDENTITY 라 {@code save()} 시점에 이미
+ * INSERT 되어 있고, 재계산 시의 기존 상세 삭제도 벌크 DELETE 라 즉시 반영되므로 FK·UNIQUE 순서 문제가 없다.
+ * 엔티티 콜백({@code @PrePersist})을 거치지 않으므로 생성 시각과 버전 초기값을 여기서 직접 넣는다.</p>
+ *
+ * <p>{@code sodam.payroll.detail-jdbc-batch-enabled=false}면 예전 경로(건별 {@code save()})로 돌아간다 —
+ * loadtest 프로필에서 전후 처리량(rows/s)을 같은 데이터로 비교하기 위한 스위치다
+ * ({@code LoadTestPayrollBenchmarkRunner}가 {@link #totalRows()}·{@link #totalNanos()}로 집계한다).</p>
+ */
+@Component
+public class PayrollDetailBatchWriter {
+
+    private static final List<String> COLUMNS = List.of(
+            "payroll_id", "attendance_id", "work_date", "start_time", "end_time",
+            "regular_hours", "overtime_hours", "night_work_hours", "holiday_work_hours",
+            "base_hourly_wage", "regular_wage", "overtime_wage", "night_work_wage", "holiday_work_wage",
+            "daily_wage", "holiday_work", "note", "created_at", "version");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PayrollDetailRepository payrollDetailRepository;
+    private final int batchSize;
+    private final boolean enabled;
+
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+
+    private volatile String insertSql;
+
+    public PayrollDetailBatchWriter(JdbcTemplate jdbcTemplate,
+                                    PayrollDetailRepository payrollDetailRepository,
+                                    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:30}") int batchSize,
+                                    @Value("${sodam.payroll.detail-jdbc-batch-enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.payrollDetailRepository = payrollDetailRepository;
+        this.batchSize = Math.max(1, batchSize);
+        this.enabled = enabled;
+    }
+
+    /**
+     * 같은 급여의 상세 내역을 저장한다. 각 행의 {@code payroll}은 이미 저장돼 ID 가 있어야 한다.
+     */
+    public void insertAll(List<PayrollDetail> details) {
+        if (details.isEmpty()) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        if (enabled) {
+            LocalDateTime now = LocalDateTime.now();
+            jdbcTemplate.batchUpdate(insertSql(), details, batchSize, (ps, detail) -> {
+                ps.setLong(1, detail.getPayroll().getId());
+                if (detail.getAttendance() != null) {
+                    ps.setLong(2, detail.getAttendance().getId());
+                } else {
+                    ps.setNull(2, Types.BIGINT);
+                }
+                ps.setObject(3, detail.getWorkDate() != null ? Date.valueOf(detail.getWorkDate()) : null, Types.DATE);
+                // java.sql.Time 은 초 미만을 버린다 — LocalTime 그대로 넘겨 JPA 경로와 같은 값을 저장한다.
+                ps.setObject(4, detail.getStartTime());
+                ps.setObject(5, detail.getEndTime());
+                ps.setObject(6, detail.getRegularHours(), Types.DOUBLE);
+                ps.setObject(7, detail.getOvertimeHours(), Types.DOUBLE);
+                ps.setObject(8, detail.getNightWorkHours(), Types.DOUBLE);
+                ps.setObject(9, detail.getHolidayWorkHours(), Types.DOUBLE);
+                ps.setObject(10, detail.getBaseHourlyWage(), Types.INTEGER);
+                ps.setObject(11, detail.getRegularWage(), Types.INTEGER);
+                ps.setObject(12, detail.getOvertimeWage(), Types.INTEGER);
+                ps.setObject(13, detail.getNightWorkWage(), Types.INTEGER);
+                ps.setObject(14, detail.getHolidayWorkWage(), Types.INTEGER);
+                ps.setObject(15, detail.getDailyWage(), Types.INTEGER);
+                ps.setBoolean(16, detail.isHolidayWork());
+                ps.setString(17, detail.getNote());
+                ps.setTimestamp(18, Timestamp.valueOf(now));
+                ps.setLong(19, 0L);
+            });
+        } else {
+            for (PayrollDetail detail : details) {
+                payrollDetailRepository.save(detail);
+            }
+        }
+        rows.add(details.size());
+        nanos.add(System.nanoTime() - startedAt);
+    }
+
+    /** 기동 이후 저장한 상세 행 수(측정용). */
+    public long totalRows() {
+        return rows.sum();
+    }
+
+    /** 기동 이후 상세 저장에 쓴 누적 시간(ns, 측정용). */
+    public long totalNanos() {
+        return nanos.sum();
+    }
+
+    public boolean isJdbcBatchEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 식별자를 DB 인용 문자로 감싼 INSERT 문. 운영(MySQL)과 테스트(H2)가 모두 전역 인용 식별자로
+     * 스키마를 만들므로({@code globally_quoted_identifiers}), 인용하지 않으면 H2 에서 대소문자가 어긋난다.
+     */
+    private String insertSql() {
+        if (insertSql == null) {
+            String quote = jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+                String q = connection.getMetaData().getIdentifierQuoteString();
+                return q == null || q.isBlank() ? "" : q;
+            });
+            insertSql = "INSERT INTO " + quote + "payroll_detail" + quote + " ("
+                    + COLUMNS.stream().map(c -> quote + c + quote).collect(Collectors.joining(", "))
+                    + ") VALUES ("
+                    + Stream.generate(() -> "?").limit(COLUMNS.size()).collect(Collectors.joining(", "))
+                    + ")";
+        }
+        return insertSql;
+    }
+}
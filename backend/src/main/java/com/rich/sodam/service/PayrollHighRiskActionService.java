@@ -21,6 +21,7 @@ public class PayrollHighRiskActionService {
     private final StepUpAuthenticationService stepUpAuthenticationService;
     private final StoreDelegationAuditRepository auditRepository;
     private final StoreAccessGuard guard;
+    private final StoreDailyMetricService storeDailyMetricService;
 
     @Transactional
     public Payroll changeStatus(Long actorUserId, Long payrollId, PayrollStatus status,
@@ -73,7 +74,9 @@ public class PayrollHighRiskActionService {
         stepUpAuthenticationService.verifyPassword(actorUserId, stepUpPassword);
         // 이미 지급 완료(PAID)된 급여는 금액을 다시 건드리지 않는다 — 재요청은 멱등해야 한다.
         if (adjustment != null && adjustment != 0 && payroll.getStatus() != PayrollStatus.PAID) {
+            StoreDailyMetricService.PayrollTotals before = StoreDailyMetricService.PayrollTotals.of(payroll);
             payroll.applyAdjustment(adjustment, adjustmentReason);
+            storeDailyMetricService.recordPayrollChange(before, StoreDailyMetricService.PayrollTotals.of(payroll));
         }
         Payroll saved = payrollService.issuePayroll(payrollId);
         record(saved, authority, "ISSUED", channel);
@@ -1,10 +1,6 @@
 package com.rich.sodam.service;
 
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
-import com.rich.sodam.domain.EmployeeStoreRelation;
-import com.rich.sodam.domain.Store;
-import com.rich.sodam.repository.EmployeeStoreRelationRepository;
-import com.rich.sodam.repository.StoreRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -12,7 +8,6 @@ import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
-import java.util.List;
 
 /**
  * 월별 급여 계산 배치 오케스트레이션(DB_OPTIMIZATION_PLAN.md §2.8(e), Phase 5).
@@ -24,21 +19,26 @@ import java.util.List;
  * {@code calculatePayroll}을 부르는 구조라 — Spring AOP 프록시가 자기호출을 우회해 안쪽
  * {@code @Transactional}이 사실상 무시되고, 매장×직원 전체가 하나의 대형 트랜잭션으로 묶여 락을 오래
  * 들고 있었다(제3자 검토 지적, §2.8(e) 참조).</p>
+ *
+ * <p>매장 × 직원 순차 루프는 {@link PayrollPartitionedBatchEngine}으로 옮겼다 — 매장을 샤드로 나눠
+ * Hikari 풀 크기를 넘지 않는 워커 풀에서 동시에 돌리고, 샤드별 체크포인트로 중단 지점부터 재개한다.</p>
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class PayrollMonthlyBatchScheduler {
 
-    private final StoreRepository storeRepository;
-    private final EmployeeStoreRelationRepository employeeStoreRelationRepository;
-    private final PayrollBatchExecutor payrollBatchExecutor;
+    private final PayrollPartitionedBatchEngine payrollPartitionedBatchEngine;
 
     /**
      * 월별 급여 계산 스케줄러.
      * 매월 1일 01:00에 실행되어 지난 달의 급여를 계산한다.
+     *
+     * <p>1일 01:00~23:30 동안 30분마다 다시 깨어난다. 끝난 샤드는 체크포인트만 보고 바로 건너뛰므로
+     * 정상 완료 뒤의 틱은 조회 몇 번으로 끝나고, 실행하던 노드가 죽었으면 다음 틱에서 어느 노드든
+     * 남은 샤드를 이어받는다({@link PayrollPartitionedBatchEngine}).</p>
      */
-    @Scheduled(cron = "0 0 1 1 * ?")
+    @Scheduled(cron = "0 0/30 1-23 1 * ?")
     @SchedulerLock(name = "payrollMonthlyBatch", lockAtMostFor = "PT2H", lockAtLeastFor = "PT5M")
     public void calculateMonthlyPayrolls() {
         // 지난 달의 시작일과 종료일 계산
@@ -48,27 +48,8 @@ public class PayrollMonthlyBatchScheduler {
 
         log.info("월별 급여 계산 시작: {} ~ {}", startDate, endDate);
 
-        // 모든 매장 조회
-        List<Store> stores = storeRepository.findAll();
-
-        for (Store store : stores) {
-            // 매장의 모든 직원 관계 조회
-            List<EmployeeStoreRelation> relations = employeeStoreRelationRepository.findByStore(store);
-
-            for (EmployeeStoreRelation relation : relations) {
-                try {
-                    // 급여 계산 — 직원 1명당 독립 트랜잭션(REQUIRES_NEW)으로 실행
-                    payrollBatchExecutor.calculateForEmployee(
-                            relation.getEmployeeProfile().getId(), store.getId(), startDate, endDate);
-                    log.info("급여 계산 완료: 직원ID={}, 매장ID={}", relation.getEmployeeProfile().getId(), store.getId());
-                } catch (Exception e) {
-                    // 직원 1명의 실패가 이미 커밋된 다른 직원의 결과나 이후 반복에 영향을 주지 않는다
-                    // (REQUIRES_NEW로 각자 독립 트랜잭션이라 여기서 잡아도 이전 커밋은 유지됨).
-                    log.error("급여 계산 실패: 직원ID={}, 매장ID={}, 오류={}",
-                            relation.getEmployeeProfile().getId(), store.getId(), e.getMessage(), e);
-                }
-            }
-        }
+        // 매장을 샤드로 나눠 워커 풀에서 동시에 계산 — 직원 1명당 독립 트랜잭션(REQUIRES_NEW)은 그대로
+        payrollPartitionedBatchEngine.run(startDate, endDate);
 
         log.info("월별 급여 계산 완료");
     }
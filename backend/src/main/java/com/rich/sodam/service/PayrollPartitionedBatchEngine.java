@@ -0,0 +1,321 @@
+package com.rich.sodam.service;
+
+import com.rich.sodam.config.PayrollBatchProperties;
+import com.rich.sodam.domain.EmployeeStoreRelation;
+import com.rich.sodam.domain.PayrollBatchCheckpoint;
+import com.rich.sodam.repository.PayrollBatchCheckpointRepository;
+import com.rich.sodam.repository.PayrollRepository;
+import com.rich.sodam.repository.StoreRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 월별 급여 배치 분할 실행 엔진.
+ *
+ * <p>{@link PayrollMonthlyBatchScheduler}가 예전에는 전체 매장 × 직원을 스케줄러 스레드 1개로 순차
+ * 처리했다. 테넌트 수에 비례해 실행 시간이 늘어 ShedLock {@code lockAtMostFor}(2h) 한계에 다가가고
+ * 있어, 매장 ID 를 샤드로 나눠 워커 풀({@code payrollBatchWorkerExecutor})에서 동시에 돌린다.</p>
+ *
+ * <ul>
+ *   <li>직원 단위 트랜잭션 격리는 그대로다 — 워커도 {@link PayrollBatchExecutor#calculateForEmployee}
+ *       (REQUIRES_NEW)를 직원 1명씩 호출한다. 이 클래스에는 {@code @Transactional}이 없다.</li>
+ *   <li>샤드마다 {@link PayrollBatchCheckpoint}를 두고 매장 1곳을 끝낼 때마다 전진시킨다. 노드가 죽으면
+ *       다음 실행이 마지막으로 끝낸 매장 다음부터 이어받는다.</li>
+ *   <li>매장마다 그 기간 급여가 이미 있는 직원을 한 번에 읽어 건너뛴다 — 사장이 먼저 수동 계산한 직원이나
+ *       이어받기 전에 계산된 직원이 중복 방어에 걸려 실패로 세지지 않는다.</li>
+ *   <li>최근에 진행 기록이 있는 IN_PROGRESS 샤드는 살아 있는 다른 실행의 몫으로 보고 건드리지 않는다. 실행 중인
+ *       샤드는 직원 계산 사이사이 진행 시각을 갱신(heartbeat)해, 매장 1곳이 {@code stale-after-minutes}보다
+ *       오래 걸려도 죽은 실행으로 보이지 않는다.</li>
+ *   <li>실패 직원이 남은 샤드는 완료로 닫지 않고 RETRY_PENDING 으로 둔다 — 다음 틱이 처음 매장부터 다시 훑으며
+ *       이미 계산된 직원은 건너뛰고 실패했던 직원만 다시 계산한다. {@code max-retries}번 다시 훑고도 실패가
+ *       남으면 COMPLETED_WITH_FAILURES 로 닫아 더 훑지 않는다.</li>
+ *   <li>매장마다 {@link PayrollCalculationContext}를 한 번 읽어 그 매장 직원 전원이 나눠 쓴다 — 직원 수만큼
+ *       출근기록·계약서·시프트를 다시 조회하지 않는다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class PayrollPartitionedBatchEngine {
+
+    /** 실패 직원 목록을 로그·리포트에 싣는 상한 — 대량 실패 시 로그 폭주 방지. 건수는 전부 센다. */
+    static final int FAILED_EMPLOYEE_REPORT_LIMIT = 100;
+
+    private final StoreRepository storeRepository;
+    private final PayrollRepository payrollRepository;
+    private final PayrollBatchCheckpointRepository checkpointRepository;
+    private final PayrollBatchExecutor payrollBatchExecutor;
+    private final PayrollBatchProperties properties;
+    private final TaskExecutor workerExecutor;
+
+    public PayrollPartitionedBatchEngine(StoreRepository storeRepository,
+                                         PayrollRepository payrollRepository,
+                                         PayrollBatchCheckpointRepository checkpointRepository,
+                                         PayrollBatchExecutor payrollBatchExecutor,
+                                         PayrollBatchProperties properties,
+                                         @Qualifier("payrollBatchWorkerExecutor") TaskExecutor workerExecutor) {
+        this.storeRepository = storeRepository;
+        this.payrollRepository = payrollRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.payrollBatchExecutor = payrollBatchExecutor;
+        this.properties = properties;
+        this.workerExecutor = workerExecutor;
+    }
+
+    /**
+     * 정산기간의 급여를 샤드 단위로 동시에 계산한다. 모든 샤드가 끝날 때까지 기다린 뒤 집계를 반환한다.
+     */
+    public BatchReport run(LocalDate startDate, LocalDate endDate) {
+        long startedAt = System.nanoTime();
+        int shardCount = Math.max(1, properties.getShardCount());
+
+        List<List<Long>> shards = partition(storeRepository.findAllIdsOrderById(), shardCount);
+
+        List<CompletableFuture<ShardResult>> futures = new ArrayList<>(shardCount);
+        for (int shardIndex = 0; shardIndex < shardCount; shardIndex++) {
+            int index = shardIndex;
+            List<Long> storeIds = shards.get(index);
+            futures.add(CompletableFuture
+                    .supplyAsync(() -> runShard(startDate, endDate, shardCount, index, storeIds), workerExecutor)
+                    .exceptionally(e -> {
+                        // 체크포인트 저장 실패 등 샤드 자체가 중단된 경우 — IN_PROGRESS 로 남아 다음 실행이 이어받는다.
+                        log.error("급여 배치 샤드 중단: shard={}/{}, 오류={}", index, shardCount, e.getMessage(), e);
+                        return ShardResult.aborted(index);
+                    }));
+        }
+
+        BatchReport report = BatchReport.aggregate(
+                futures.stream().map(CompletableFuture::join).toList(),
+                Duration.ofNanos(System.nanoTime() - startedAt));
+
+        log.info("월별 급여 계산 집계: 기간={}~{}, 샤드={}(완료 {}, 재시도 대기 {}, 건너뜀 {}, 중단 {}), 매장={}, 성공={}, "
+                        + "실패={}, 소요={}ms, 처리량={}명/초",
+                startDate, endDate, shardCount, report.completedShards(), report.retryPendingShards(),
+                report.skippedShards(),
+                report.abortedShards(), report.storesProcessed(), report.processed(), report.failed(),
+                report.elapsed().toMillis(), String.format("%.1f", report.throughputPerSecond()));
+        if (!report.failedEmployees().isEmpty()) {
+            log.warn("급여 계산 실패 직원(최대 {}명 표기): {}", FAILED_EMPLOYEE_REPORT_LIMIT, report.failedEmployees());
+        }
+        return report;
+    }
+
+    /** 매장 ID 를 {@code floorMod(storeId, shardCount)}로 나눈다. 각 샤드 안의 순서는 ID 오름차순 그대로다. */
+    static List<List<Long>> partition(List<Long> storeIds, int shardCount) {
+        List<List<Long>> shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new ArrayList<>());
+        }
+        for (Long storeId : storeIds) {
+            shards.get((int) Math.floorMod(storeId, (long) shardCount)).add(storeId);
+        }
+        return shards;
+    }
+
+    private ShardResult runShard(LocalDate startDate, LocalDate endDate, int shardCount, int shardIndex,
+                                 List<Long> storeIds) {
+        PayrollBatchCheckpoint checkpoint = checkpointRepository
+                .findByPeriodStartAndPeriodEndAndShardCountAndShardIndex(startDate, endDate, shardCount, shardIndex)
+                .orElse(null);
+
+        if (checkpoint != null && checkpoint.isCompleted()) {
+            return ShardResult.skipped(shardIndex);
+        }
+        if (checkpoint != null && checkpoint.isHeldByLiveRun(LocalDateTime.now(), properties.getStaleAfterMinutes())) {
+            log.info("급여 배치 샤드를 다른 실행이 진행 중 — 건너뜀: shard={}/{}", shardIndex, shardCount);
+            return ShardResult.skipped(shardIndex);
+        }
+
+        boolean retrying = checkpoint != null && checkpoint.isRetryPending();
+        if (checkpoint == null) {
+            checkpoint = new PayrollBatchCheckpoint(startDate, endDate, shardCount, shardIndex);
+        } else if (retrying) {
+            log.info("급여 배치 샤드 실패 직원 재시도: shard={}/{}, 이전 실패={}",
+                    shardIndex, shardCount, checkpoint.getFailedCount());
+            checkpoint.retry();
+        } else {
+            log.info("급여 배치 샤드 이어받기: shard={}/{}, 마지막 완료 매장={}",
+                    shardIndex, shardCount, checkpoint.getLastStoreId());
+        }
+        checkpoint.touch();
+
+        ShardResult result = new ShardResult(shardIndex);
+        try {
+            ShardProgress progress = new ShardProgress(checkpointRepository.save(checkpoint));
+            Long lastStoreId = progress.checkpoint.getLastStoreId();
+            for (Long storeId : storeIds) {
+                if (lastStoreId != null && storeId <= lastStoreId) {
+                    continue;
+                }
+                int processedBefore = result.processed;
+                int failedBefore = result.failed;
+                calculateStore(storeId, startDate, endDate, result, progress);
+                result.storesProcessed++;
+
+                progress.checkpoint.advance(storeId, result.processed - processedBefore, result.failed - failedBefore);
+                progress.save();
+            }
+
+            progress.checkpoint.finish(Math.max(0, properties.getMaxRetries()));
+            progress.save();
+            if (progress.checkpoint.isRetryPending()) {
+                result.retryPending = true;
+                log.warn("급여 배치 샤드에 실패 직원이 남아 다음 실행에서 재시도: shard={}/{}, 실패={}",
+                        shardIndex, shardCount, progress.checkpoint.getFailedCount());
+            } else if (progress.checkpoint.isCompletedWithFailures()) {
+                result.completed = true;
+                log.error("급여 배치 샤드 재시도 {}회 후에도 실패 직원이 남아 자동 재시도 중단(수동 계산 필요): shard={}/{}, 실패={}",
+                        progress.checkpoint.getRetryCount(), shardIndex, shardCount,
+                        progress.checkpoint.getFailedCount());
+            } else {
+                result.completed = true;
+            }
+            return result;
+        } catch (OptimisticLockingFailureException e) {
+            // 진행이 늦어진 사이 다른 노드가 이 샤드를 이어받았다 — 여기서 멈춰 같은 직원을 두 번 계산하지 않는다.
+            log.warn("급여 배치 샤드를 다른 실행이 이어받아 중단: shard={}/{}", shardIndex, shardCount);
+            result.aborted = true;
+            return result;
+        }
+    }
+
+    private void calculateStore(Long storeId, LocalDate startDate, LocalDate endDate,
+                                ShardResult result, ShardProgress progress) {
+        PayrollCalculationContext context;
+        Set<Long> alreadyCalculated;
+        try {
+            context = payrollBatchExecutor.loadStoreContext(storeId, startDate, endDate);
+            alreadyCalculated = new HashSet<>(payrollRepository.findCalculatedEmployeeIds(storeId, startDate, endDate));
+        } catch (Exception e) {
+            // 매장 입력을 읽지 못하면 그 매장 직원은 아무도 계산할 수 없다 — 매장 단위 실패 1건으로 남기고 다음 매장으로.
+            result.failed++;
+            if (result.failedEmployees.size() < FAILED_EMPLOYEE_REPORT_LIMIT) {
+                result.failedEmployees.add(new FailedEmployee(null, storeId, e.getMessage()));
+            }
+            log.error("급여 계산 입력 조회 실패: 매장ID={}, 오류={}", storeId, e.getMessage(), e);
+            return;
+        }
+
+        for (EmployeeStoreRelation relation : context.relations()) {
+            Long employeeId = relation.getEmployeeProfile().getId();
+            if (alreadyCalculated.contains(employeeId)) {
+                continue;
+            }
+            try {
+                // 급여 계산 — 직원 1명당 독립 트랜잭션(REQUIRES_NEW)으로 실행
+                payrollBatchExecutor.calculateForEmployee(context, employeeId, false);
+                result.processed++;
+                log.debug("급여 계산 완료: 직원ID={}, 매장ID={}", employeeId, storeId);
+            } catch (Exception e) {
+                // 직원 1명의 실패가 이미 커밋된 다른 직원의 결과나 이후 반복에 영향을 주지 않는다.
+                result.failed++;
+                if (result.failedEmployees.size() < FAILED_EMPLOYEE_REPORT_LIMIT) {
+                    result.failedEmployees.add(new FailedEmployee(employeeId, storeId, e.getMessage()));
+                }
+                log.error("급여 계산 실패: 직원ID={}, 매장ID={}, 오류={}", employeeId, storeId, e.getMessage(), e);
+            }
+            progress.heartbeat();
+        }
+    }
+
+    /**
+     * 실행 중인 샤드의 체크포인트. 저장할 때마다 새 버전이 돌아오므로 항상 마지막 저장본을 들고 있는다.
+     * heartbeat 간격은 stale 판정 시간의 1/3 — 두 번 놓쳐도 다른 노드가 가져가지 않는다.
+     */
+    private final class ShardProgress {
+        private final Duration heartbeatInterval =
+                Duration.ofMinutes(Math.max(0, properties.getStaleAfterMinutes())).dividedBy(3);
+        private PayrollBatchCheckpoint checkpoint;
+
+        private ShardProgress(PayrollBatchCheckpoint checkpoint) {
+            this.checkpoint = checkpoint;
+        }
+
+        private void heartbeat() {
+            if (checkpoint.heartbeat(LocalDateTime.now(), heartbeatInterval)) {
+                save();
+            }
+        }
+
+        private void save() {
+            checkpoint = checkpointRepository.save(checkpoint);
+        }
+    }
+
+    /** 샤드 1개의 실행 결과(이번 실행분만 — 이어받기 이전 누적은 체크포인트에 있다). */
+    static final class ShardResult {
+        final int shardIndex;
+        int storesProcessed;
+        int processed;
+        int failed;
+        boolean completed;
+        boolean retryPending;
+        boolean skipped;
+        boolean aborted;
+        final List<FailedEmployee> failedEmployees = new ArrayList<>();
+
+        ShardResult(int shardIndex) {
+            this.shardIndex = shardIndex;
+        }
+
+        static ShardResult skipped(int shardIndex) {
+            ShardResult result = new ShardResult(shardIndex);
+            result.skipped = true;
+            return result;
+        }
+
+        static ShardResult aborted(int shardIndex) {
+            ShardResult result = new ShardResult(shardIndex);
+            result.aborted = true;
+            return result;
+        }
+    }
+
+    /** 계산 실패 1건. 매장 입력 조회 자체가 실패했으면 {@code employeeId}는 null 이다. */
+    public record FailedEmployee(Long employeeId, Long storeId, String reason) {
+    }
+
+    /** 배치 1회 실행 집계 — 종료 로그와 테스트에서 쓴다. */
+    public record BatchReport(int completedShards, int retryPendingShards, int skippedShards, int abortedShards,
+                              int storesProcessed, int processed, int failed, List<FailedEmployee> failedEmployees,
+                              Duration elapsed) {
+
+        static BatchReport aggregate(List<ShardResult> results, Duration elapsed) {
+            int completed = 0, retryPending = 0, skipped = 0, aborted = 0, stores = 0, processed = 0, failed = 0;
+            List<FailedEmployee> failedEmployees = new ArrayList<>();
+            for (ShardResult r : results) {
+                if (r.completed) completed++;
+                if (r.retryPending) retryPending++;
+                if (r.skipped) skipped++;
+                if (r.aborted) aborted++;
+                stores += r.storesProcessed;
+                processed += r.processed;
+                failed += r.failed;
+                for (FailedEmployee f : r.failedEmployees) {
+                    if (failedEmployees.size() >= FAILED_EMPLOYEE_REPORT_LIMIT) break;
+                    failedEmployees.add(f);
+                }
+            }
+            return new BatchReport(completed, retryPending, skipped, aborted, stores, processed, failed,
+                    Collections.unmodifiableList(failedEmployees), elapsed);
+        }
+
+        /** 초당 처리 직원 수(성공+실패). */
+        public double throughputPerSecond() {
+            double seconds = elapsed.toMillis() / 1000.0;
+            return seconds <= 0 ? processed + failed : (processed + failed) / seconds;
+        }
+    }
+}
@@ -38,7 +38,7 @@ public class PayrollPolicyService {
                 .orElseThrow(() -> new EntityNotFoundException("매장을 찾을 수 없습니다."));
 
         return payrollPolicyRepository.findByStore(store)
-                .orElseGet(() -> createDefaultPolicy(store));
+                .orElseGet(() -> createDefaultPolicyIfAbsent(store));
     }
 
     /**
@@ -51,7 +51,7 @@ public class PayrollPolicyService {
                 .orElseThrow(() -> new EntityNotFoundException("매장을 찾을 수 없습니다."));
 
         PayrollPolicy policy = payrollPolicyRepository.findByStore(store)
-                .orElseGet(() -> createDefaultPolicy(store));
+                .orElseGet(() -> createDefaultPolicyIfAbsent(store));
 
         // 업데이트할 필드가 null이 아닌 경우에만 업데이트
         if (updateDto.getTaxPolicyType() != null) {
@@ -82,6 +82,17 @@ public class PayrollPolicyService {
         return payrollPolicyRepository.save(policy);
     }
 
+    /**
+     * 쿼리 캐시({@code payrollPolicyByStore})의 "정책 없음"은 인스턴스별 로컬 캐시라, 다른 인스턴스가 그 사이 만든
+     * 정책을 모를 수 있다. 그대로 INSERT 하면 {@code payroll_policy.store_id} 유니크 위반으로 500 이 나므로, 매장 행을
+     * 잠가 최초 생성을 직렬화한 뒤 캐시를 거치지 않는 잠금 읽기로 다시 확인하고 정말 없을 때만 만든다.
+     */
+    private PayrollPolicy createDefaultPolicyIfAbsent(Store store) {
+        storeRepository.findByIdForUpdate(store.getId());
+        return payrollPolicyRepository.findByStoreIdForUpdate(store.getId())
+                .orElseGet(() -> createDefaultPolicy(store));
+    }
+
     /**
      * 기본 급여 정책 생성
      */
@@ -11,7 +11,6 @@ import com.rich.sodam.domain.*;
 import com.rich.sodam.domain.type.EmploymentType;
 import com.rich.sodam.domain.type.PayrollStatus;
 import com.rich.sodam.domain.type.TaxPolicyType;
-import com.rich.sodam.domain.type.TimeOffStatus;
 import com.rich.sodam.dto.request.PayrollCalculationRequestDto;
 import com.rich.sodam.dto.response.EmployeeWageInfoDto;
 import com.rich.sodam.exception.BusinessException;
@@ -42,8 +41,6 @@ public class PayrollService {
     private final EmployeeProfileRepository employeeProfileRepository;
     private final StoreRepository storeRepository;
     private final EmployeeStoreRelationRepository employeeStoreRelationRepository;
-    private final LaborContractRepository laborContractRepository;
-    private final PayrollPolicyService payrollPolicyService;
     private final PayrollDetailRepository payrollDetailRepository;
     private final PayrollRepository payrollRepository;
     private final WeeklyAllowanceCalculatorResolver weeklyAllowanceResolver;
@@ -53,27 +50,16 @@ public class PayrollService {
     private final com.rich.sodam.core.payroll.wage.WeeklyOvertimeCalculator weeklyOvertimeCalculator;
     private final com.rich.sodam.core.payroll.wage.MonthlySalaryCalculator monthlySalaryCalculator;
     private final com.rich.sodam.core.payroll.deduction.SocialInsuranceCalculator socialInsuranceCalculator;
-    private final WorkShiftRepository workShiftRepository;
-    private final TimeOffRepository timeOffRepository;
     private final PlanAccessService planAccessService;
     private final PayslipFreeGrantService payslipFreeGrantService;
     private final PayrollBonusService payrollBonusService;
     private final LiveSyncPublisher liveSyncPublisher;
     private final NotificationService notificationService;
     private final com.rich.sodam.service.support.AfterCommitExecutor afterCommitExecutor;
-    private final AttendanceIrregularityService attendanceIrregularityService;
-
-    /** 미리보기 워터마크 문구(매장 사장 플랜이 명세서 PDF 발급 권한 미보유 시). */
-    private static final String PAYSLIP_WATERMARK = "소담 미리보기 · STARTER 플랜에서 정식 발급";
-
-    /**
-     * 임금명세서 투명성 고지 (사실 안내). 계산 근거·한계·최종 책임 주체를 명시해 사용자가
-     * 자동산정 결과를 맹신하지 않도록 한다. SaaS 책임을 면제하는 법률 면책조항(약관)은 별도(변호사 검토).
-     */
-    private static final String PAYROLL_DISCLAIMER =
-            "※ 본 명세서는 입력된 출퇴근·시급·정책을 바탕으로 노동관계법령 기준에 따라 자동 산정한 참고 자료입니다. "
-                    + "4대보험·세액은 개략 추정치이며 공단/세무 신고가 최종입니다. "
-                    + "근로자에 대한 임금 지급·명세서 교부·신고 의무와 그 정확성에 대한 최종 책임은 사업주에게 있습니다.";
+    private final PayrollCalculationContextLoader payrollCalculationContextLoader;
+    private final PayrollDetailBatchWriter payrollDetailBatchWriter;
+    private final PayslipPdfRenderer payslipPdfRenderer;
+    private final StoreDailyMetricService storeDailyMetricService;
 
     /**
      * 주휴수당 1주 기산 정책. application.yml: sodam.payroll.week-start-policy (기본 MONDAY).
@@ -166,7 +152,7 @@ public class PayrollService {
     public List<EmployeeWageInfoDto> getEmployeeWageInfoInAllStores(Long employeeId) {
         EmployeeProfile employeeProfile = findEmployeeById(employeeId);
         List<EmployeeStoreRelation> relations = employeeStoreRelationRepository
-                .findByEmployeeProfile(employeeProfile);
+                .findWithStoreByEmployeeProfile(employeeProfile);
 
         List<EmployeeWageInfoDto> result = new ArrayList<>();
         for (EmployeeStoreRelation relation : relations) {
@@ -181,15 +167,14 @@ public class PayrollService {
                 .orElseThrow(() -> new EntityNotFoundException("사원 프로필을 찾을 수 없습니다."));
     }
 
-    private Store findStoreById(Long storeId) {
-        return storeRepository.findById(storeId)
-                .orElseThrow(() -> new EntityNotFoundException("매장을 찾을 수 없습니다."));
+    private static void validatePeriod(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("The payroll calculation end date must not precede its start date.");
+        }
     }
 
-    private EmployeeStoreRelation findEmployeeStoreRelation(EmployeeProfile employeeProfile, Store store) {
-        return employeeStoreRelationRepository
-                .findByEmployeeProfileAndStore(employeeProfile, store)
-                .orElseThrow(() -> new EntityNotFoundException("사원-매장 관계를 찾을 수 없습니다."));
+    private boolean isHireDateAnchored() {
+        return weekStartPolicy == WeekStartPolicy.HIRE_DATE_ANCHORED;
     }
 
     private double calculateTotalWorkingHours(List<Attendance> attendances) {
@@ -485,14 +470,38 @@ public class PayrollService {
      */
     @Transactional
     public Payroll calculatePayroll(Long employeeId, Long storeId, LocalDate startDate, LocalDate endDate, boolean recalculate) {
-        if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
-            throw new IllegalArgumentException("The payroll calculation end date must not precede its start date.");
-        }
+        validatePeriod(startDate, endDate);
+        PayrollCalculationContext context = payrollCalculationContextLoader.loadForEmployee(
+                employeeId, storeId, startDate, endDate, isHireDateAnchored());
+        return calculatePayroll(context, employeeId, recalculate);
+    }
 
-        // 직원, 매장, 정책 정보 조회
-        EmployeeProfile employee = findEmployeeById(employeeId);
-        Store store = findStoreById(storeId);
-        EmployeeStoreRelation relation = findEmployeeStoreRelation(employee, store);
+    /**
+     * 매장 일괄 정산·월별 배치용 — 매장 전체 직원의 계산 입력을 한 번에 읽어 둔다.
+     * 직원마다 {@link #calculatePayroll(PayrollCalculationContext, Long, boolean)}에 넘겨 재사용한다.
+     *
+     * <p>readOnly 아님 — 급여 정책이 없으면 기본 정책을 만들어 저장한다(calculatePayroll 과 같은 이유).</p>
+     */
+    @Transactional
+    public PayrollCalculationContext loadStoreCalculationContext(Long storeId, LocalDate startDate, LocalDate endDate) {
+        validatePeriod(startDate, endDate);
+        return payrollCalculationContextLoader.loadForStore(storeId, startDate, endDate, isHireDateAnchored());
+    }
+
+    /**
+     * 미리 읽어 둔 컨텍스트로 직원 1명의 급여를 계산하고 저장한다.
+     *
+     * <p>기존 급여 조회(재계산 방어)와 합산 보너스 조회는 컨텍스트에 넣지 않고 이 트랜잭션 안에서 한다 —
+     * 배치가 도는 사이에 사장이 급여를 확정했거나 보너스가 다른 급여에 소비됐을 수 있다.</p>
+     */
+    @Transactional
+    public Payroll calculatePayroll(PayrollCalculationContext context, Long employeeId, boolean recalculate) {
+        Long storeId = context.getStoreId();
+        LocalDate startDate = context.getStartDate();
+        LocalDate endDate = context.getEndDate();
+        EmployeeStoreRelation relation = context.relationOf(employeeId);
+        EmployeeProfile employee = relation.getEmployeeProfile();
+        Store store = context.getStore();
 
         // 이미 급여가 계산된 경우 체크 — recalculate 여부와 무관하게 항상 조회한다.
         // (uq_payroll_employee_store_period, V50) 재계산 시 새 Payroll 을 또 만들면 이 유니크
@@ -524,18 +533,15 @@ public class PayrollService {
             }
         }
 
-        // 급여 정책 조회 — 매장이 아직 정책 화면을 한 번도 열어본 적 없어도(정책 미생성 상태) 계산이
-        // 막히지 않도록, 정책 조회 API와 동일하게 없으면 기본 정책을 lazy 생성한다(2026-07-26 Phase3
-        // 정산 마법사 실사용 검증 중 발견 — 새 매장에서 정책 화면을 거치지 않고 바로 "정산 시작"을
-        // 누르면 404로 막히던 결함).
-        PayrollPolicy policy = payrollPolicyService.getPayrollPolicyByStore(storeId);
+        // 급여 정책 — 매장이 아직 정책 화면을 한 번도 열어본 적 없어도(정책 미생성 상태) 계산이
+        // 막히지 않도록, 컨텍스트 로더가 정책 조회 API와 동일하게 없으면 기본 정책을 lazy 생성해 둔다
+        // (2026-07-26 Phase3 정산 마법사 실사용 검증 중 발견 — 새 매장에서 정책 화면을 거치지 않고
+        // 바로 "정산 시작"을 누르면 404로 막히던 결함).
+        PayrollPolicy policy = context.getPolicy();
 
-        // 해당 기간의 출근 기록 조회 (Fetch Join으로 N+1 쿼리 방지)
-        List<Attendance> attendances = attendanceRepository
-                .findByEmployeeIdAndStoreIdAndPeriodWithDetails(
-                        employeeId, storeId,
-                        startDate.atStartOfDay(),
-                        endDate.atTime(23, 59, 59));
+        // 해당 기간의 출근 기록 (컨텍스트가 Fetch Join 으로 미리 읽어 둔 주 단위 확장 범위에서 거른다)
+        List<Attendance> attendances = context.attendances(
+                employeeId, startDate.atStartOfDay(), endDate.atTime(23, 59, 59));
 
         // 적용 단가 산정 — 고용형태 분기
         //  · 시급제(HOURLY): 관계의 적용시급(개별 또는 매장 기준) — 기존 경로 그대로(회귀 없음)
@@ -564,6 +570,8 @@ public class PayrollService {
         // uq_payroll_employee_store_period(V50) 위반 방지: 같은 (employee, store, startDate, endDate)
         // 로 새 행을 또 만들지 않는다.
         Payroll payroll = existingPayroll != null ? existingPayroll : new Payroll();
+        // 대시보드 일자별 집계는 재계산 전 값을 빼고 새 값을 더한다 — 덮어쓰기 전에 떠 둔다.
+        StoreDailyMetricService.PayrollTotals totalsBefore = StoreDailyMetricService.PayrollTotals.of(existingPayroll);
         if (existingPayroll != null) {
             // 기존 상세 내역 전부 제거 — 벌크 삭제라 즉시 실행되어(플러시 대기 없음), 아래에서 같은
             // attendance_id 로 새 상세 내역을 삽입해도 payroll_detail.attendance_id UNIQUE 제약과
@@ -685,7 +693,7 @@ public class PayrollService {
         // 주 40시간 초과 연장가산(§56①) — 주휴수당과 같이 총액으로 더한다. 일자별 재분류를 하지
         // 않으므로 주가 정산기간 경계에 걸려도 배분 실패가 없다(G-9, 노무·법무 2자 검토 결론).
         WeeklyOvertimeResult weeklyOvertime = weeklyOvertimeEnabled
-                ? calculateWeeklyOvertime(employee, store, startDate, endDate,
+                ? calculateWeeklyOvertime(context, employeeId,
                         policy.getRegularHoursPerDay(), hourlyWage, store.isPremiumApplicable())
                 : WeeklyOvertimeResult.none();
 
@@ -694,7 +702,7 @@ public class PayrollService {
             int proratedBase = monthlySalaryCalculator.proratedBaseSalary(
                     relation.getMonthlySalary(), startDate, endDate, relation.getHireDate());
             MonthlyAttendanceAdjustment adjustment = calculateMonthlyAttendanceAdjustment(
-                    relation, startDate, endDate, hourlyWage, policy.getRegularHoursPerDay(),
+                    context, relation, hourlyWage, policy.getRegularHoursPerDay(),
                     paidHoursByDate, regularHoursByDate);
             // 무노동 무임금 공제 — 단, 공제가 기본급을 초과하지 않도록 하한 0 (음수 급여 방지)
             totalRegularWage = Math.max(0, proratedBase - adjustment.deduction()) + adjustment.extraBasePay();
@@ -708,7 +716,7 @@ public class PayrollService {
                 || Boolean.TRUE.equals(policy.getWeeklyAllowanceForIncomeTax3_3Enabled());
         WeeklyAllowanceTotal weeklyAllowanceTotal =
                 (policy.getWeeklyAllowanceEnabled() && appliesToIncomeTax3_3 && !monthlySalaried)
-                        ? calculateTotalWeeklyAllowance(employeeId, storeId, startDate, endDate)
+                        ? calculateTotalWeeklyAllowance(context, employeeId)
                         : WeeklyAllowanceTotal.none();
         int weeklyAllowance = weeklyAllowanceTotal.amount();
 
@@ -775,12 +783,14 @@ public class PayrollService {
 
         // 급여 저장
         Payroll savedPayroll = payrollRepository.save(payroll);
+        storeDailyMetricService.recordPayrollChange(totalsBefore,
+                StoreDailyMetricService.PayrollTotals.of(savedPayroll));
 
-        // 급여 상세 내역 저장
+        // 급여 상세 내역 저장 — IDENTITY 키라 JPA 로는 배치가 안 되어 JDBC 배치로 넣는다(PayrollDetailBatchWriter)
         for (PayrollDetail detail : details) {
             detail.setPayroll(savedPayroll);
-            payrollDetailRepository.save(detail);
         }
+        payrollDetailBatchWriter.insertAll(details);
 
         // 이번 정산에 합산한 즉시 보너스를 소비 처리(멱등) — 재계산(recalculate) 시에는 기존 Payroll
         // 엔티티를 그대로 갱신하므로 savedPayroll.getId() 는 첫 계산과 두 번째 계산이 항상 같은 값이다.
@@ -980,7 +990,7 @@ public class PayrollService {
     /**
      * 급여명세서 PDF 생성 (HIGH-BE-002).
      *
-     * <p>OpenPDF 로 실제 PDF 를 만든다(레이아웃·한글 폰트·워터마크 포함). 아래 텍스트 생성
+     * <p>OpenPDF 로 실제 PDF 를 만든다(레이아웃·한글 폰트·워터마크는 {@link PayslipPdfRenderer}). 아래 텍스트 생성
      * 경로는 PDF 생성이 실패했을 때의 폴백이며, 정상 경로가 아니다.</p>
      *
      * @param payrollId 급여 ID
@@ -1014,100 +1024,7 @@ public class PayrollService {
         }
 
         try (java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream()) {
-            com.lowagie.text.Document document = new com.lowagie.text.Document(com.lowagie.text.PageSize.A4);
-            com.lowagie.text.pdf.PdfWriter writer = com.lowagie.text.pdf.PdfWriter.getInstance(document, baos);
-
-            // 한글 지원 폰트 — 시스템 폰트 fallback (운영에서는 NanumGothic.ttf 번들 권장)
-            com.lowagie.text.pdf.BaseFont bf;
-            try {
-                bf = com.lowagie.text.pdf.BaseFont.createFont(
-                        "HYSMyeongJoStd-Medium", "UniKS-UCS2-H",
-                        com.lowagie.text.pdf.BaseFont.NOT_EMBEDDED);
-            } catch (Exception ignored) {
-                bf = com.lowagie.text.pdf.BaseFont.createFont();
-            }
-            com.lowagie.text.Font fontTitle = new com.lowagie.text.Font(bf, 18, com.lowagie.text.Font.BOLD);
-            com.lowagie.text.Font fontH = new com.lowagie.text.Font(bf, 12, com.lowagie.text.Font.BOLD);
-            com.lowagie.text.Font fontN = new com.lowagie.text.Font(bf, 10);
-
-            if (watermark) {
-                writer.setPageEvent(new PayslipWatermarkEvent(bf, PAYSLIP_WATERMARK));
-            }
-
-            document.open();
-            document.add(new com.lowagie.text.Paragraph("급여 명세서", fontTitle));
-            document.add(new com.lowagie.text.Paragraph(" ", fontN));
-
-            String emp = payroll.getEmployee() != null && payroll.getEmployee().getUser() != null
-                    ? payroll.getEmployee().getUser().getName() : "-";
-            String store = payroll.getStore() != null ? payroll.getStore().getStoreName() : "-";
-            document.add(new com.lowagie.text.Paragraph("직원: " + emp, fontN));
-            document.add(new com.lowagie.text.Paragraph("매장: " + store, fontN));
-            document.add(new com.lowagie.text.Paragraph(
-                    "기간: " + payroll.getStartDate() + " ~ " + payroll.getEndDate(), fontN));
-            document.add(new com.lowagie.text.Paragraph(" ", fontN));
-
-            com.lowagie.text.pdf.PdfPTable table = new com.lowagie.text.pdf.PdfPTable(2);
-            table.setWidthPercentage(100);
-            // 임금명세서 §48② 필수: 지급일·근로일수
-            addKv(table, "지급일",
-                    payroll.getPaymentDate() != null ? payroll.getPaymentDate().toString() : "미지정", fontH, fontN);
-            addKv(table, "근로일수", details.size() + "일", fontH, fontN);
-            addKv(table, "기본 근무 시간",
-                    String.format("%.1fh", nz(payroll.getRegularHours())), fontH, fontN);
-            // 시행령 §27조의2 — 연장근로는 금액과 함께 "그 시간 수"를 적는다.
-            // 일 8시간 초과분과 주 40시간 초과분을 나눠 적어야 근로자가 산정 근거를 검증할 수 있다.
-            addKv(table, "연장 근무 시간(일 8시간 초과)",
-                    String.format("%.1fh", nz(payroll.getOvertimeHours())), fontH, fontN);
-            addKv(table, "연장 근무 시간(주 40시간 초과)",
-                    String.format("%.1fh", nz(payroll.getWeeklyOvertimeHours())), fontH, fontN);
-            addKv(table, "야간 근무 시간",
-                    String.format("%.1fh", nz(payroll.getNightWorkHours())), fontH, fontN);
-            addKv(table, "주휴 환산 시간",
-                    String.format("%.1fh", nz(payroll.getWeeklyAllowanceHours())), fontH, fontN);
-            // 지급 항목 (§48② 항목별 지급내역)
-            addKv(table, "[지급] 기본급",
-                    String.format("%,d원", nz(payroll.getRegularWage())), fontH, fontN);
-            addKv(table, "[지급] 연장수당(일 8시간 초과)",
-                    String.format("%,d원", nz(payroll.getOvertimeWage())), fontH, fontN);
-            addKv(table, "[지급] 연장수당(주 40시간 초과 가산분)",
-                    String.format("%,d원", nz(payroll.getWeeklyOvertimeWage())), fontH, fontN);
-            addKv(table, "[지급] 야간수당",
-                    String.format("%,d원", nz(payroll.getNightWorkWage())), fontH, fontN);
-            addKv(table, "[지급] 휴일수당",
-                    String.format("%,d원", nz(payroll.getHolidayWorkWage())), fontH, fontN);
-            addKv(table, "[지급] 주휴수당",
-                    String.format("%,d원", nz(payroll.getWeeklyAllowance())), fontH, fontN);
-            addKv(table, "지급총액 (세전)",
-                    String.format("%,d원", nz(payroll.getGrossWage())), fontH, fontN);
-            // 공제 항목 (§48② 항목별 공제내역)
-            addDeductionRows(table, payroll, fontH, fontN);
-            // 가감조정(C-3) — 실수령액이 항목 합계로 검증 가능해야 한다(§48② 항목별 지급/공제내역).
-            if (payroll.getAdjustment() != null && payroll.getAdjustment() != 0) {
-                int adj = payroll.getAdjustment();
-                String reason = payroll.getAdjustmentReason() == null ? "" : " (" + payroll.getAdjustmentReason() + ")";
-                addKv(table, (adj > 0 ? "[지급] 가감조정" : "[공제] 가감조정") + reason,
-                        String.format("%,d원", adj), fontH, fontN);
-            }
-            addKv(table, "실수령액",
-                    String.format("%,d원", nz(payroll.getNetWage())), fontH, fontN);
-            addKv(table, "상태", payroll.getStatus() != null ? payroll.getStatus().name() : "-", fontH, fontN);
-            document.add(table);
-
-            document.add(new com.lowagie.text.Paragraph(" ", fontN));
-            document.add(new com.lowagie.text.Paragraph(
-                    "근무 상세 (" + details.size() + "건)", fontH));
-            for (PayrollDetail d : details) {
-                double dh = nz(d.getRegularHours()) + nz(d.getOvertimeHours()) + nz(d.getNightWorkHours());
-                document.add(new com.lowagie.text.Paragraph(
-                        String.format("%s · %.1fh · %,d원",
-                                d.getWorkDate(), dh, nz(d.getDailyWage())), fontN));
-            }
-            document.add(new com.lowagie.text.Paragraph(" ", fontN));
-            document.add(new com.lowagie.text.Paragraph(PAYROLL_DISCLAIMER, fontN));
-            document.add(new com.lowagie.text.Paragraph(
-                    "발급: 소담(SODAM) — 본 명세서는 전자 문서로 유효합니다.", fontN));
-            document.close();
+            payslipPdfRenderer.render(payroll, details, watermark, baos);
             return baos.toByteArray();
         } catch (Exception e) {
             log.error("급여 PDF 생성 실패", e);
@@ -1117,25 +1034,6 @@ public class PayrollService {
 
     private static double nz(Double v) { return v == null ? 0 : v; }
     private static int nz(Integer v) { return v == null ? 0 : v; }
-    private static void addKv(com.lowagie.text.pdf.PdfPTable t, String k, String v,
-                              com.lowagie.text.Font fh, com.lowagie.text.Font fn) {
-        t.addCell(new com.lowagie.text.Phrase(k, fh));
-        t.addCell(new com.lowagie.text.Phrase(v, fn));
-    }
-
-    /** PDF 명세서에 §48② 항목별 공제내역을 정책에 맞춰 추가. */
-    private void addDeductionRows(com.lowagie.text.pdf.PdfPTable t, Payroll payroll,
-                                  com.lowagie.text.Font fh, com.lowagie.text.Font fn) {
-        if (isWithholdingPolicy(payroll)) {
-            addKv(t, "[공제] 소득세(3.3%)", String.format("-%,d원", nz(payroll.getTaxAmount())), fh, fn);
-        } else {
-            addKv(t, "[공제] 국민연금", String.format("-%,d원", nz(payroll.getNationalPensionDeduction())), fh, fn);
-            addKv(t, "[공제] 건강보험", String.format("-%,d원", nz(payroll.getHealthInsuranceDeduction())), fh, fn);
-            addKv(t, "[공제] 장기요양", String.format("-%,d원", nz(payroll.getLongTermCareDeduction())), fh, fn);
-            addKv(t, "[공제] 고용보험", String.format("-%,d원", nz(payroll.getEmploymentInsuranceDeduction())), fh, fn);
-        }
-        addKv(t, "공제총액", String.format("-%,d원", nz(payroll.getTaxAmount())), fh, fn);
-    }
 
     /** PDF 생성 실패 시 텍스트 폴백 (구 동작 유지). */
     private byte[] generatePayrollTextFallback(Payroll payroll, List<PayrollDetail> details) {
@@ -1187,7 +1085,7 @@ public class PayrollService {
         pdfContent.append("상태: ").append(payroll.getStatus()).append("\n");
         pdfContent.append("계산일: ").append(payroll.getCreatedAt()).append("\n");
         pdfContent.append("-------------------------------------------\n");
-        pdfContent.append(PAYROLL_DISCLAIMER).append("\n");
+        pdfContent.append(PayslipPdfRenderer.PAYROLL_DISCLAIMER).append("\n");
         pdfContent.append("\n");
         pdfContent.append("===========================================\n");
         pdfContent.append("상세 근무 내역 (").append(details.size()).append("건)\n");
@@ -1222,8 +1120,7 @@ public class PayrollService {
      * <p>⚠️ 월 경계에 걸친 주(週)는 정산월 내 출근일만 집계되어 소정근로시간이 일부만 반영될 수 있다.
      * 월 경계·교대 4주 평균 처리는 외부 노무사 확인 권장 항목(노무 검증 보고서 §1).</p>
      */
-    private WeeklyOvertimeResult calculateWeeklyOvertime(EmployeeProfile employee, Store store,
-                                                         LocalDate payrollStartDate, LocalDate payrollEndDate,
+    private WeeklyOvertimeResult calculateWeeklyOvertime(PayrollCalculationContext context, Long employeeId,
                                                          double regularHoursLimit, int hourlyWage,
                                                          boolean premiumApplicable) {
         // 5인 미만 사업장은 §56 가산수당 적용 대상이 아니다(§11①, 시행령 §7 별표1).
@@ -1231,14 +1128,15 @@ public class PayrollService {
             return WeeklyOvertimeResult.none();
         }
 
-        LocalDate hireAnchor = (weekStartPolicy == WeekStartPolicy.HIRE_DATE_ANCHORED)
-                ? findEarliestHireDate(employee) : null;
-        List<LaborContract> contracts = laborContractRepository
-                .findByEmployeeIdAndStoreIdOrderByCreatedAtDesc(employee.getId(), store.getId());
+        Store store = context.getStore();
+        LocalDate payrollStartDate = context.getStartDate();
+        LocalDate payrollEndDate = context.getEndDate();
+        LocalDate hireAnchor = context.hireAnchor(employeeId);
+        List<LaborContract> contracts = context.contracts(employeeId);
         LocalDate firstWeekStart = resolveWeekStart(payrollStartDate, hireAnchor, store, contracts);
         LocalDate lastWeekEnd = resolveWeekStart(payrollEndDate, hireAnchor, store, contracts).plusDays(6);
-        List<Attendance> weeklyAttendances = attendanceRepository.findByEmployeeIdAndStoreIdAndPeriodWithDetails(
-                employee.getId(), store.getId(), firstWeekStart.atStartOfDay(), lastWeekEnd.atTime(23, 59, 59));
+        List<Attendance> weeklyAttendances = context.attendances(
+                employeeId, firstWeekStart.atStartOfDay(), lastWeekEnd.atTime(23, 59, 59));
 
         Map<LocalDate, List<Attendance>> attendancesByWeek = new HashMap<>();
         for (Attendance attendance : weeklyAttendances) {
@@ -1289,20 +1187,16 @@ public class PayrollService {
         return Math.round(value * 100) / 100.0;
     }
 
-    private WeeklyAllowanceTotal calculateTotalWeeklyAllowance(Long employeeId, Long storeId,
-                                                               LocalDate startDate, LocalDate endDate) {
-        // 입사일 기산 정책일 때만 입사일 조회 (불필요한 쿼리 회피)
-        EmployeeProfile employee = findEmployeeById(employeeId);
-        Store store = findStoreById(storeId);
-        LocalDate hireAnchor = (weekStartPolicy == WeekStartPolicy.HIRE_DATE_ANCHORED)
-                ? findEarliestHireDate(employee)
-                : null;
+    private WeeklyAllowanceTotal calculateTotalWeeklyAllowance(PayrollCalculationContext context, Long employeeId) {
+        Store store = context.getStore();
+        LocalDate startDate = context.getStartDate();
+        LocalDate endDate = context.getEndDate();
+        // 입사일 기산 정책일 때만 컨텍스트에 입사일이 채워진다 (그 외 정책은 null)
+        LocalDate hireAnchor = context.hireAnchor(employeeId);
 
         // 소정근로일(개근 판정 분모) — 직원-매장 관계에 설정돼 있으면 사용, 없으면 null(폴백)
-        Integer scheduledDays = findEmployeeStoreRelation(employee, store)
-                .getContractedWeeklyDays();
-        List<LaborContract> contracts = laborContractRepository
-                .findByEmployeeIdAndStoreIdOrderByCreatedAtDesc(employeeId, storeId);
+        Integer scheduledDays = context.relationOf(employeeId).getContractedWeeklyDays();
+        List<LaborContract> contracts = context.contracts(employeeId);
         assertNoUnresolvedWeeklyHolidayTransition(contracts, startDate, endDate);
 
         // 월 경계에 걸친 주를 쪼개지 않기 위해 조회 범위를 "정산월에 걸친 주(週) 전체"로 확장한다.
@@ -1311,9 +1205,8 @@ public class PayrollService {
         LocalDate firstWeekStart = resolveWeekStart(startDate, hireAnchor, store, contracts);
         LocalDate lastWeekEnd = resolveWeekStart(endDate, hireAnchor, store, contracts).plusDays(6);
 
-        List<Attendance> attendances = attendanceRepository
-                .findByEmployeeIdAndStoreIdAndPeriodWithDetails(
-                        employeeId, storeId, firstWeekStart.atStartOfDay(), lastWeekEnd.atTime(23, 59, 59));
+        List<Attendance> attendances = context.attendances(
+                employeeId, firstWeekStart.atStartOfDay(), lastWeekEnd.atTime(23, 59, 59));
 
         // 주(週) 기산 정책에 따라 출근기록 그룹핑 (주 전체 — 전월·익월 출근 포함)
         Map<LocalDate, List<Attendance>> byWeek = new HashMap<>();
@@ -1487,13 +1380,12 @@ public class PayrollService {
      * 지급한다. 일 8h 초과분의 연장가산(§56)·야간가산은 기존 경로가 별도 지급하므로 여기서는 기본분만.</p>
      */
     private MonthlyAttendanceAdjustment calculateMonthlyAttendanceAdjustment(
-            EmployeeStoreRelation relation, LocalDate startDate, LocalDate endDate,
+            PayrollCalculationContext context, EmployeeStoreRelation relation,
             int ordinaryHourlyWage, double regularHoursPerDay,
             Map<LocalDate, Double> paidHoursByDate, Map<LocalDate, Double> regularHoursByDate) {
 
-        List<WorkShift> confirmedShifts = workShiftRepository
-                .findByEmployeeIdAndStoreIdAndShiftDateBetweenAndConfirmedAtIsNotNull(
-                        relation.getEmployeeProfile().getId(), relation.getStore().getId(), startDate, endDate);
+        Long employeeId = relation.getEmployeeProfile().getId();
+        List<WorkShift> confirmedShifts = context.confirmedShifts(employeeId);
         if (confirmedShifts.isEmpty()) {
             return new MonthlyAttendanceAdjustment(0, 0);
         }
@@ -1518,12 +1410,11 @@ public class PayrollService {
         }
         scheduledByDate.replaceAll((date, hours) -> Math.min(hours, regularHoursPerDay));
 
-        Set<LocalDate> approvedTimeOffDates = approvedTimeOffDates(relation, startDate, endDate);
+        Set<LocalDate> approvedTimeOffDates = context.approvedTimeOffDates(employeeId);
         // 사장이 "공제 없이 처리"(WAIVED)한 근태 이상 — 해당 건의 미근무시간만큼 공제에서 제외한다.
         // CONVERTED_TO_LEAVE 는 별도 처리 불필요(연차 전환 시 생성되는 APPROVED TimeOff 가 위
         // approvedTimeOffDates 로 이미 공제 대상에서 빠진다).
-        Map<LocalDate, Integer> waivedMinutesByDate = attendanceIrregularityService.waivedMinutesByDate(
-                relation.getEmployeeProfile().getId(), relation.getStore().getId(), startDate, endDate);
+        Map<LocalDate, Integer> waivedMinutesByDate = context.waivedMinutesByDate(employeeId);
 
         // 결근·지각·조퇴 공제 (일자별 상계 — 다른 날의 초과근무가 미근무를 상쇄하지 못하게 max(0,·))
         long deduction = 0;
@@ -1551,26 +1442,6 @@ public class PayrollService {
         return new MonthlyAttendanceAdjustment((int) deduction, (int) extraBasePay);
     }
 
-    /** 기간 내 승인(APPROVED)된 휴가 일자 집합 — 월급제 결근 공제 제외용. */
-    private Set<LocalDate> approvedTimeOffDates(EmployeeStoreRelation relation, LocalDate startDate, LocalDate endDate) {
-        Set<LocalDate> dates = new HashSet<>();
-        List<TimeOff> approved = timeOffRepository
-                .findByEmployeeAndStatus(relation.getEmployeeProfile(), TimeOffStatus.APPROVED);
-        for (TimeOff timeOff : approved) {
-            if (timeOff.getStore() == null
-                    || !timeOff.getStore().getId().equals(relation.getStore().getId())
-                    || timeOff.getStartDate() == null || timeOff.getEndDate() == null) {
-                continue;
-            }
-            LocalDate from = timeOff.getStartDate().isAfter(startDate) ? timeOff.getStartDate() : startDate;
-            LocalDate to = timeOff.getEndDate().isBefore(endDate) ? timeOff.getEndDate() : endDate;
-            for (LocalDate d = from; !d.isAfter(to); d = d.plusDays(1)) {
-                dates.add(d);
-            }
-        }
-        return dates;
-    }
-
     /**
      * 세금 계산
      */
@@ -5,8 +5,6 @@ import com.rich.sodam.domain.Payroll;
 import com.rich.sodam.dto.response.PayrollBatchResultDto;
 import com.rich.sodam.dto.response.PayrollDto;
 import com.rich.sodam.exception.BusinessException;
-import com.rich.sodam.repository.AttendanceRepository;
-import com.rich.sodam.repository.EmployeeStoreRelationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -26,8 +24,9 @@ import java.util.List;
  * 재실측 발견 — 재계산 요청 1건이 매장 전체 정산을 500 으로 날림).</p>
  *
  * <p>월별 배치({@link PayrollMonthlyBatchScheduler})와 동일한 패턴으로, 직원 1명당
- * {@link PayrollBatchExecutor#calculateForEmployee(Long, Long, LocalDate, LocalDate, boolean)}를
- * {@code REQUIRES_NEW} 독립 트랜잭션으로 호출한다. {@code PayrollService}에 직접 의존하지 않고
+ * {@link PayrollBatchExecutor#calculateForEmployee(PayrollCalculationContext, Long, boolean)}를
+ * {@code REQUIRES_NEW} 독립 트랜잭션으로 호출한다. 계산 입력(출근기록·계약서·시프트 등)은 매장당 한 번
+ * {@link PayrollCalculationContext}로 읽어 모든 직원이 나눠 쓴다. {@code PayrollService}에 직접 의존하지 않고
  * {@code PayrollBatchExecutor}(단방향: 실행기 → PayrollService)만 의존해 순환 참조를 피한다.</p>
  */
 @Slf4j
@@ -41,8 +40,6 @@ public class PayrollStoreBatchService {
      */
     public static final String RESIGNED_NEEDS_MANUAL_SETTLEMENT = "PAYROLL_RESIGNED_NEEDS_MANUAL_SETTLEMENT";
 
-    private final EmployeeStoreRelationRepository employeeStoreRelationRepository;
-    private final AttendanceRepository attendanceRepository;
     private final PayrollBatchExecutor payrollBatchExecutor;
 
     /**
@@ -52,19 +49,19 @@ public class PayrollStoreBatchService {
      * 직원 한 명의 계산 실패는 REQUIRES_NEW 독립 트랜잭션 덕분에 다른 직원에게 전혀 영향을 주지 않는다.
      */
     public PayrollBatchResultDto calculatePayrollForStore(Long storeId, LocalDate startDate, LocalDate endDate) {
-        List<EmployeeStoreRelation> all = employeeStoreRelationRepository.findByStore_Id(storeId);
-        List<EmployeeStoreRelation> relations = all.stream()
+        // 매장 직원 전체의 계산 입력을 한 번에 읽고(직원 수와 무관한 고정 쿼리 수), 직원별 트랜잭션은 계산·저장만 한다.
+        PayrollCalculationContext context = payrollBatchExecutor.loadStoreContext(storeId, startDate, endDate);
+        List<EmployeeStoreRelation> relations = context.relations().stream()
                 .filter(r -> Boolean.TRUE.equals(r.getIsActive()))
                 .toList();
 
         List<PayrollDto> result = new ArrayList<>();
         List<PayrollBatchResultDto.FailedEmployee> failed = new ArrayList<>();
-        reportResignedWithWork(all, storeId, startDate, endDate, failed);
+        reportResignedWithWork(context, failed);
         for (EmployeeStoreRelation rel : relations) {
-            if (rel.getEmployeeProfile() == null) continue;
             Long employeeId = rel.getEmployeeProfile().getId();
             try {
-                Payroll p = payrollBatchExecutor.calculateForEmployee(employeeId, storeId, startDate, endDate, true);
+                Payroll p = payrollBatchExecutor.calculateForEmployee(context, employeeId, true);
                 result.add(PayrollDto.from(p));
             } catch (Exception e) {
                 // REQUIRES_NEW 독립 트랜잭션이라 이미 커밋된 다른 직원의 결과에 영향을 주지 않는다.
@@ -93,21 +90,19 @@ public class PayrollStoreBatchService {
      * <p>근무기록이 없는 퇴사자는 정산할 것이 없으므로 조용히 넘어간다 — 과거 퇴사자 전원을 매달
      * 경고로 띄우면 경고 자체가 무시된다.</p>
      */
-    private void reportResignedWithWork(List<EmployeeStoreRelation> all, Long storeId,
-                                        LocalDate startDate, LocalDate endDate,
+    private void reportResignedWithWork(PayrollCalculationContext context,
                                         List<PayrollBatchResultDto.FailedEmployee> failed) {
-        for (EmployeeStoreRelation rel : all) {
-            if (Boolean.TRUE.equals(rel.getIsActive()) || rel.getEmployeeProfile() == null) {
+        for (EmployeeStoreRelation rel : context.relations()) {
+            if (Boolean.TRUE.equals(rel.getIsActive())) {
                 continue;
             }
             Long employeeId = rel.getEmployeeProfile().getId();
-            boolean workedInPeriod = attendanceRepository
-                    .existsByEmployeeProfile_IdAndStore_IdAndCheckInTimeBetween(
-                            employeeId, storeId, startDate.atStartOfDay(), endDate.atTime(23, 59, 59));
-            if (!workedInPeriod) {
+            // 컨텍스트가 이미 읽어 둔 출근기록으로 판정 — 퇴사자마다 exists 쿼리를 따로 날리지 않는다.
+            if (!context.hasAttendanceInPeriod(employeeId)) {
                 continue;
             }
-            log.info("퇴사 직원의 정산기간 근무기록 발견 — 수동 최종정산 안내 emp={} store={}", employeeId, storeId);
+            log.info("퇴사 직원의 정산기간 근무기록 발견 — 수동 최종정산 안내 emp={} store={}",
+                    employeeId, context.getStoreId());
             failed.add(new PayrollBatchResultDto.FailedEmployee(
                     employeeId, resolveEmployeeName(rel),
                     RESIGNED_NEEDS_MANUAL_SETTLEMENT,
@@ -0,0 +1,180 @@
+package com.rich.sodam.service;
+
+import com.rich.sodam.domain.Payroll;
+import com.rich.sodam.domain.PayrollDetail;
+import com.rich.sodam.domain.type.PayrollStatus;
+import com.rich.sodam.domain.type.PlanFeature;
+import com.rich.sodam.repository.PayrollDetailRepository;
+import com.rich.sodam.repository.PayrollRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 매장·기간 급여명세서 일괄 발급 (ZIP, 직원당 PDF 1개).
+ *
+ * <ul>
+ *   <li>대상은 확정·지급 완료 급여뿐이다 — 작성 중이거나 취소된 급여는 명세서로 나가지 않는다. 기간은 양끝이
+ *       모두 있어야 하고 {@link #MAX_PERIOD_MONTHS}개월을 넘을 수 없다(한 번에 읽는 급여·상세 내역 상한).</li>
+ *   <li>조회는 읽기 전용 트랜잭션 한 번 — 급여는 직원·매장과 함께, 상세 내역은 급여 ID IN 으로 묶어 읽는다.
+ *       렌더링은 트랜잭션 밖이라 명세서 수만큼 커넥션을 붙잡지 않는다.</li>
+ *   <li>렌더링은 {@code dataProcessingTaskExecutor}(CPU 코어 수)에서 동시에 하고, ZIP 에는 급여 ID 순서대로
+ *       쓴다. 동시에 메모리에 올라가는 명세서는 {@link #renderWindow}건으로 묶어 둔다 — 직원 수와 무관하게
+ *       응답 버퍼가 전체 ZIP 크기로 커지지 않는다. 쓰다 실패하면(렌더링 오류·클라이언트 끊김) 아직 시작하지
+ *       않은 렌더링은 취소한다.</li>
+ *   <li>워터마크는 단건 발급과 같은 플랜 기준이다. 다만 무료 플랜의 "월 1회 정식 발급"은 직원 한 명의
+ *       명세서를 위한 것이라 일괄 발급에서는 소진하지 않는다 — 무료 플랜은 전부 미리보기로 나간다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class PayslipBulkExportService {
+
+    /** 상세 내역 IN 절 한 번에 넣는 급여 수. */
+    static final int DETAIL_QUERY_CHUNK = 500;
+    /** 한 번에 발급할 수 있는 기간 상한(개월). */
+    static final int MAX_PERIOD_MONTHS = 3;
+    /** 명세서로 발급하는 급여 상태. */
+    private static final EnumSet<PayrollStatus> ISSUABLE = EnumSet.of(PayrollStatus.CONFIRMED, PayrollStatus.PAID);
+
+    private final PayrollRepository payrollRepository;
+    private final PayrollDetailRepository payrollDetailRepository;
+    private final PlanAccessService planAccessService;
+    private final PayslipPdfRenderer renderer;
+    private final TransactionTemplate readOnlyTransactions;
+    private final Executor renderExecutor;
+    private final int renderWindow;
+
+    public PayslipBulkExportService(PayrollRepository payrollRepository,
+                                    PayrollDetailRepository payrollDetailRepository,
+                                    PlanAccessService planAccessService,
+                                    PayslipPdfRenderer renderer,
+                                    TransactionTemplate transactions,
+                                    @Qualifier("dataProcessingTaskExecutor") Executor renderExecutor) {
+        this.payrollRepository = payrollRepository;
+        this.payrollDetailRepository = payrollDetailRepository;
+        this.planAccessService = planAccessService;
+        this.renderer = renderer;
+        // 공유 TransactionTemplate 빈을 직접 바꾸지 않고 읽기 전용 복사본을 쓴다(ElectronicSignatureWorker 와 같은 방식).
+        TransactionTemplate readOnly = new TransactionTemplate(transactions.getTransactionManager(), transactions);
+        readOnly.setReadOnly(true);
+        this.readOnlyTransactions = readOnly;
+        this.renderExecutor = renderExecutor;
+        this.renderWindow = Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * 발급 대상을 읽어 둔다. 응답을 쓰기 시작하기 전에 호출해 조회 오류가 정상 오류 응답으로 나가게 한다.
+     *
+     * @throws IllegalArgumentException 기간이 없거나 거꾸로이거나 {@link #MAX_PERIOD_MONTHS}개월을 넘음
+     */
+    public StorePayslips prepare(Long storeId, LocalDate from, LocalDate to) {
+        validatePeriod(from, to);
+        StorePayslips payslips = readOnlyTransactions.execute(status -> {
+            List<Payroll> payrolls = payrollRepository.findWithEmployeeByStoreIdAndPeriod(storeId, from, to, ISSUABLE);
+            Map<Long, List<PayrollDetail>> details = new HashMap<>();
+            List<Long> ids = payrolls.stream().map(Payroll::getId).toList();
+            for (int i = 0; i < ids.size(); i += DETAIL_QUERY_CHUNK) {
+                List<Long> chunk = ids.subList(i, Math.min(ids.size(), i + DETAIL_QUERY_CHUNK));
+                for (PayrollDetail d : payrollDetailRepository.findByPayroll_IdInOrderByPayroll_IdAscWorkDateAsc(chunk)) {
+                    details.computeIfAbsent(d.getPayroll().getId(), k -> new ArrayList<>()).add(d);
+                }
+            }
+            boolean watermark = !planAccessService.storeOwnerHasFeature(storeId, PlanFeature.PAYSLIP_PDF);
+            return new StorePayslips(payrolls, details, watermark);
+        });
+        log.info("명세서 일괄 발급 준비: storeId={}, 기간={}~{}, {}건, 워터마크={}",
+                storeId, from, to, payslips.payrolls().size(), payslips.watermark());
+        return payslips;
+    }
+
+    private static void validatePeriod(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("조회 시작일과 종료일을 모두 입력해 주세요.");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 시작일은 종료일보다 늦을 수 없어요.");
+        }
+        if (to.isAfter(from.plusMonths(MAX_PERIOD_MONTHS))) {
+            throw new IllegalArgumentException("명세서 일괄 발급 기간은 최대 " + MAX_PERIOD_MONTHS + "개월이에요.");
+        }
+    }
+
+    /** 명세서를 ZIP 으로 {@code out} 에 쓴다. 스트림은 닫지 않는다. */
+    public void writeZip(StorePayslips payslips, OutputStream out) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out);
+        Deque<RenderedEntry> inFlight = new ArrayDeque<>(renderWindow);
+        try {
+            for (Payroll payroll : payslips.payrolls()) {
+                List<PayrollDetail> details = payslips.details().getOrDefault(payroll.getId(), List.of());
+                inFlight.add(new RenderedEntry(payroll.getId(), entryName(payroll), CompletableFuture.supplyAsync(
+                        () -> render(payroll, details, payslips.watermark()), renderExecutor)));
+                if (inFlight.size() >= renderWindow) {
+                    writeEntry(zip, inFlight.poll());
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                writeEntry(zip, inFlight.poll());
+            }
+            zip.finish();
+        } finally {
+            // 정상 종료면 비어 있다. 도중에 실패했으면 아직 시작하지 않은 렌더링이 실행기를 붙잡지 않게 한다.
+            inFlight.forEach(entry -> entry.pdf().cancel(false));
+        }
+    }
+
+    private byte[] render(Payroll payroll, List<PayrollDetail> details, boolean watermark) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(16 * 1024);
+        try {
+            renderer.render(payroll, details, watermark, buffer);
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static void writeEntry(ZipOutputStream zip, RenderedEntry entry) throws IOException {
+        byte[] pdf;
+        try {
+            pdf = entry.pdf().join();
+        } catch (CompletionException e) {
+            throw new IOException("명세서 PDF 생성 실패: payrollId=" + entry.payrollId(), e.getCause());
+        }
+        zip.putNextEntry(new ZipEntry(entry.name()));
+        zip.write(pdf);
+        zip.closeEntry();
+    }
+
+    /** {@code 급여ID_직원명_시작일.pdf} — 급여 ID 가 앞에 있어 동명이인도 겹치지 않는다. */
+    static String entryName(Payroll payroll) {
+        String name = payroll.getEmployee() != null && payroll.getEmployee().getUser() != null
+                ? payroll.getEmployee().getUser().getName() : null;
+        String safeName = name == null || name.isBlank() ? "직원" : name.replaceAll("[\\\\/:*?\"<>|\\s]", "_");
+        return payroll.getId() + "_" + safeName + "_" + payroll.getStartDate() + ".pdf";
+    }
+
+    /** 발급 대상 — 급여(직원·매장 채움), 급여 ID 별 상세 내역, 워터마크 여부. */
+    public record StorePayslips(List<Payroll> payrolls, Map<Long, List<PayrollDetail>> details, boolean watermark) {
+    }
+
+    private record RenderedEntry(Long payrollId, String name, CompletableFuture<byte[]> pdf) {
+    }
+}
@@ -0,0 +1,146 @@
+package com.rich.sodam.service;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Font;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.Phrase;
+import com.lowagie.text.pdf.BaseFont;
+import com.lowagie.text.pdf.PdfPTable;
+import com.lowagie.text.pdf.PdfWriter;
+import com.rich.sodam.domain.Payroll;
+import com.rich.sodam.domain.PayrollDetail;
+import com.rich.sodam.util.PdfFonts;
+import org.springframework.stereotype.Component;
+
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * 급여명세서 PDF 레이아웃 (HIGH-BE-002).
+ *
+ * <p>글꼴·고정 문구는 빈 생성 시 한 번만 만들고, 문서는 호출자가 준 스트림에 바로 쓴다 — 단건 다운로드와
+ * 매장 일괄 발급({@link PayslipBulkExportService})이 같은 레이아웃을 쓴다. 엔티티를 읽기만 하므로
+ * 지연 로딩 연관(직원 이름·매장명)은 호출 측이 미리 채워 둬야 한다. 상태가 없어 여러 스레드가 동시에
+ * 호출해도 된다.</p>
+ */
+@Component
+public class PayslipPdfRenderer {
+
+    /** 미리보기 워터마크 문구(매장 사장 플랜이 명세서 PDF 발급 권한 미보유 시). */
+    static final String PAYSLIP_WATERMARK = "소담 미리보기 · STARTER 플랜에서 정식 발급";
+
+    /**
+     * 임금명세서 투명성 고지 (사실 안내). 계산 근거·한계·최종 책임 주체를 명시해 사용자가
+     * 자동산정 결과를 맹신하지 않도록 한다. SaaS 책임을 면제하는 법률 면책조항(약관)은 별도(변호사 검토).
+     */
+    static final String PAYROLL_DISCLAIMER =
+            "※ 본 명세서는 입력된 출퇴근·시급·정책을 바탕으로 노동관계법령 기준에 따라 자동 산정한 참고 자료입니다. "
+                    + "4대보험·세액은 개략 추정치이며 공단/세무 신고가 최종입니다. "
+                    + "근로자에 대한 임금 지급·명세서 교부·신고 의무와 그 정확성에 대한 최종 책임은 사업주에게 있습니다.";
+
+    private static final String ISSUER_NOTE = "발급: 소담(SODAM) — 본 명세서는 전자 문서로 유효합니다.";
+
+    private final BaseFont baseFont = PdfFonts.korean();
+    private final Font fontTitle = new Font(baseFont, 18, Font.BOLD);
+    private final Font fontH = new Font(baseFont, 12, Font.BOLD);
+    private final Font fontN = new Font(baseFont, 10);
+
+    /**
+     * 명세서 한 부를 {@code out} 에 쓴다. 스트림은 닫지 않는다.
+     *
+     * @param watermark true 면 각 페이지에 미리보기 워터마크를 깐다
+     */
+    public void render(Payroll payroll, List<PayrollDetail> details, boolean watermark, OutputStream out)
+            throws DocumentException {
+        Document document = new Document(PageSize.A4);
+        PdfWriter writer = PdfWriter.getInstance(document, out);
+        writer.setCloseStream(false);
+        if (watermark) {
+            writer.setPageEvent(new PayslipWatermarkEvent(baseFont, PAYSLIP_WATERMARK));
+        }
+
+        document.open();
+        document.add(new Paragraph("급여 명세서", fontTitle));
+        document.add(new Paragraph(" ", fontN));
+
+        String emp = payroll.getEmployee() != null && payroll.getEmployee().getUser() != null
+                ? payroll.getEmployee().getUser().getName() : "-";
+        String store = payroll.getStore() != null ? payroll.getStore().getStoreName() : "-";
+        document.add(new Paragraph("직원: " + emp, fontN));
+        document.add(new Paragraph("매장: " + store, fontN));
+        document.add(new Paragraph("기간: " + payroll.getStartDate() + " ~ " + payroll.getEndDate(), fontN));
+        document.add(new Paragraph(" ", fontN));
+
+        PdfPTable table = new PdfPTable(2);
+        table.setWidthPercentage(100);
+        // 임금명세서 §48② 필수: 지급일·근로일수
+        addKv(table, "지급일", payroll.getPaymentDate() != null ? payroll.getPaymentDate().toString() : "미지정");
+        addKv(table, "근로일수", details.size() + "일");
+        addKv(table, "기본 근무 시간", String.format("%.1fh", nz(payroll.getRegularHours())));
+        // 시행령 §27조의2 — 연장근로는 금액과 함께 "그 시간 수"를 적는다.
+        // 일 8시간 초과분과 주 40시간 초과분을 나눠 적어야 근로자가 산정 근거를 검증할 수 있다.
+        addKv(table, "연장 근무 시간(일 8시간 초과)", String.format("%.1fh", nz(payroll.getOvertimeHours())));
+        addKv(table, "연장 근무 시간(주 40시간 초과)", String.format("%.1fh", nz(payroll.getWeeklyOvertimeHours())));
+        addKv(table, "야간 근무 시간", String.format("%.1fh", nz(payroll.getNightWorkHours())));
+        addKv(table, "주휴 환산 시간", String.format("%.1fh", nz(payroll.getWeeklyAllowanceHours())));
+        // 지급 항목 (§48② 항목별 지급내역)
+        addKv(table, "[지급] 기본급", String.format("%,d원", nz(payroll.getRegularWage())));
+        addKv(table, "[지급] 연장수당(일 8시간 초과)", String.format("%,d원", nz(payroll.getOvertimeWage())));
+        addKv(table, "[지급] 연장수당(주 40시간 초과 가산분)", String.format("%,d원", nz(payroll.getWeeklyOvertimeWage())));
+        addKv(table, "[지급] 야간수당", String.format("%,d원", nz(payroll.getNightWorkWage())));
+        addKv(table, "[지급] 휴일수당", String.format("%,d원", nz(payroll.getHolidayWorkWage())));
+        addKv(table, "[지급] 주휴수당", String.format("%,d원", nz(payroll.getWeeklyAllowance())));
+        addKv(table, "지급총액 (세전)", String.format("%,d원", nz(payroll.getGrossWage())));
+        // 공제 항목 (§48② 항목별 공제내역)
+        addDeductionRows(table, payroll);
+        // 가감조정(C-3) — 실수령액이 항목 합계로 검증 가능해야 한다(§48② 항목별 지급/공제내역).
+        if (payroll.getAdjustment() != null && payroll.getAdjustment() != 0) {
+            int adj = payroll.getAdjustment();
+            String reason = payroll.getAdjustmentReason() == null ? "" : " (" + payroll.getAdjustmentReason() + ")";
+            addKv(table, (adj > 0 ? "[지급] 가감조정" : "[공제] 가감조정") + reason, String.format("%,d원", adj));
+        }
+        addKv(table, "실수령액", String.format("%,d원", nz(payroll.getNetWage())));
+        addKv(table, "상태", payroll.getStatus() != null ? payroll.getStatus().name() : "-");
+        document.add(table);
+
+        document.add(new Paragraph(" ", fontN));
+        document.add(new Paragraph("근무 상세 (" + details.size() + "건)", fontH));
+        for (PayrollDetail d : details) {
+            double dh = nz(d.getRegularHours()) + nz(d.getOvertimeHours()) + nz(d.getNightWorkHours());
+            document.add(new Paragraph(
+                    String.format("%s · %.1fh · %,d원", d.getWorkDate(), dh, nz(d.getDailyWage())), fontN));
+        }
+        document.add(new Paragraph(" ", fontN));
+        document.add(new Paragraph(PAYROLL_DISCLAIMER, fontN));
+        document.add(new Paragraph(ISSUER_NOTE, fontN));
+        document.close();
+    }
+
+    /** PDF 명세서에 §48② 항목별 공제내역을 정책에 맞춰 추가. */
+    private void addDeductionRows(PdfPTable t, Payroll payroll) {
+        if (isWithholdingPolicy(payroll)) {
+            addKv(t, "[공제] 소득세(3.3%)", String.format("-%,d원", nz(payroll.getTaxAmount())));
+        } else {
+            addKv(t, "[공제] 국민연금", String.format("-%,d원", nz(payroll.getNationalPensionDeduction())));
+            addKv(t, "[공제] 건강보험", String.format("-%,d원", nz(payroll.getHealthInsuranceDeduction())));
+            addKv(t, "[공제] 장기요양", String.format("-%,d원", nz(payroll.getLongTermCareDeduction())));
+            addKv(t, "[공제] 고용보험", String.format("-%,d원", nz(payroll.getEmploymentInsuranceDeduction())));
+        }
+        addKv(t, "공제총액", String.format("-%,d원", nz(payroll.getTaxAmount())));
+    }
+
+    private void addKv(PdfPTable t, String k, String v) {
+        t.addCell(new Phrase(k, fontH));
+        t.addCell(new Phrase(v, fontN));
+    }
+
+    /** 3.3% 원천징수(사업소득) 정책 여부 — PayrollService 와 같은 판정. */
+    private static boolean isWithholdingPolicy(Payroll payroll) {
+        return payroll.getTaxRate() != null && Math.abs(payroll.getTaxRate() - 0.033) < 1e-9;
+    }
+
+    private static double nz(Double v) { return v == null ? 0 : v; }
+    private static int nz(Integer v) { return v == null ? 0 : v; }
+}
@@ -3,8 +3,10 @@ package com.rich.sodam.service;
 import com.rich.sodam.dto.response.MonthlySummaryResponse;
 import com.rich.sodam.dto.response.VendorSummaryResponse;
 import com.rich.sodam.service.ai.ForbiddenPhrases;
+import com.rich.sodam.service.ai.LlmNarrationPipeline;
 import com.rich.sodam.service.ai.LlmText;
 import com.rich.sodam.service.ai.TextGenerationClient;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
@@ -40,6 +42,11 @@ public class PurchaseInsightNarrator {
 
     private final Optional<TextGenerationClient> client;
 
+    @Autowired
+    public PurchaseInsightNarrator(LlmNarrationPipeline pipeline) {
+        this(pipeline.client());
+    }
+
     public PurchaseInsightNarrator(Optional<TextGenerationClient> client) {
         this.client = client;
     }
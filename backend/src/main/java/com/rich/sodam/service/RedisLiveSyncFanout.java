@@ -0,0 +1,85 @@
+package com.rich.sodam.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rich.sodam.config.LiveSyncProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Redis pub/sub 로 다른 인스턴스에도 중계하는 팬아웃 ({@code sodam.live-sync.fanout=redis}).
+ *
+ * <p>먼저 이 인스턴스의 simple broker 로 보내고, {@code instanceId|destination|json} 을 채널에 발행한다.
+ * 다른 인스턴스는 {@link #onRelayMessage}로 받아 자기 simple broker 로 다시 뿌리고, 자기가 보낸 메시지는
+ * 무시한다(near cache 무효화 채널과 같은 방식). 중계 실패는 로컬 전달에 영향을 주지 않는다 — 다른
+ * 인스턴스의 클라이언트는 포커스 재조회로 따라잡는다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "sodam.live-sync", name = "fanout", havingValue = "redis")
+public class RedisLiveSyncFanout implements LiveSyncFanout {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final StringRedisTemplate publisher;
+    private final ObjectMapper objectMapper;
+    private final LiveSyncProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public RedisLiveSyncFanout(SimpMessagingTemplate messagingTemplate, RedisConnectionFactory connectionFactory,
+                               ObjectMapper objectMapper, LiveSyncProperties properties, MeterRegistry meterRegistry) {
+        this(messagingTemplate, new StringRedisTemplate(connectionFactory), objectMapper, properties, meterRegistry);
+    }
+
+    RedisLiveSyncFanout(SimpMessagingTemplate messagingTemplate, StringRedisTemplate publisher,
+                        ObjectMapper objectMapper, LiveSyncProperties properties, MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.publisher = publisher;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void send(String destination, Object payload) {
+        messagingTemplate.convertAndSend(destination, payload);
+        try {
+            publisher.convertAndSend(properties.getChannel(),
+                    instanceId + "|" + destination + "|" + objectMapper.writeValueAsString(payload));
+            relayed("out", destination);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("[LiveSync] 인스턴스 간 중계 발행 실패 destination={}: {}", destination, e.getMessage());
+        }
+    }
+
+    /** 채널 수신 — 다른 인스턴스가 보낸 신호를 이 인스턴스의 구독자에게 전달한다. */
+    public void onRelayMessage(String message) {
+        String[] parts = message.split("\\|", 3);
+        if (parts.length < 3 || instanceId.equals(parts[0])) {
+            return;
+        }
+        try {
+            messagingTemplate.convertAndSend(parts[1], objectMapper.readTree(parts[2]));
+            relayed("in", parts[1]);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.debug("[LiveSync] 중계 수신 전달 실패 destination={}: {}", parts[1], e.getMessage());
+        }
+    }
+
+    private void relayed(String direction, String destination) {
+        Counter.builder("sodam.livesync.relay")
+                .description("Redis 로 인스턴스 간 중계한 라이브 동기화 신호 수")
+                .tag("direction", direction)
+                .tag("topic", LiveSyncFanout.topicFamily(destination))
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -9,6 +9,7 @@ import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.time.Duration;
 import java.util.Base64;
+import java.util.Map;
 
 /**
  * Redis 백엔드 토큰 저장소. dev 프로필에서는 {@link InMemoryTokenStore} 가 대신 등록된다.
@@ -85,4 +86,38 @@ public class RedisService implements TokenStore {
         String tokenHash = hashToken(token);
         jwtRedisTemplate.opsForHash().delete(key, tokenHash);
     }
+
+    /**
+     * 사용자 단위 기준 시각은 "USER_TOKEN_CUTOFF:{userId}" 해시 한 개에 필드 두 개로 둔다 — 인증 경로는
+     * HGETALL 한 번으로 두 값을 읽는다. TTL 이 지나면 그 이전 발급 토큰은 어차피 만료돼 있다.
+     */
+    @Override
+    public void revokeAccessTokensIssuedBefore(Long userId, long issuedBeforeMillis, long ttlSeconds) {
+        putCutoff(userId, "revokedBefore", issuedBeforeMillis, ttlSeconds);
+    }
+
+    @Override
+    public void markPrincipalChangedBefore(Long userId, long issuedBeforeMillis, long ttlSeconds) {
+        putCutoff(userId, "principalChangedBefore", issuedBeforeMillis, ttlSeconds);
+    }
+
+    @Override
+    public AccessTokenCutoff findAccessTokenCutoff(Long userId) {
+        Map<Object, Object> fields = jwtRedisTemplate.opsForHash().entries("USER_TOKEN_CUTOFF:" + userId);
+        if (fields.isEmpty()) {
+            return AccessTokenCutoff.NONE;
+        }
+        return new AccessTokenCutoff(asMillis(fields.get("revokedBefore")), asMillis(fields.get("principalChangedBefore")));
+    }
+
+    private void putCutoff(Long userId, String field, long issuedBeforeMillis, long ttlSeconds) {
+        String key = "USER_TOKEN_CUTOFF:" + userId;
+        jwtRedisTemplate.opsForHash().put(key, field, issuedBeforeMillis);
+        jwtRedisTemplate.expire(key, Duration.ofSeconds(ttlSeconds));
+    }
+
+    /** JSON 역직렬화는 값 크기에 따라 Integer/Long 을 돌려준다. */
+    private static long asMillis(Object value) {
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
 }
@@ -212,7 +212,7 @@ public class ShiftSwapService {
                 .data(Map.of("type", "SHIFT_SWAP_OPEN", "storeId", String.valueOf(shift.getStoreId()),
                         "shiftId", String.valueOf(shift.getId())))
                 .build();
-        for (EmployeeStoreRelation rel : relationRepository.findByStoreAndIsActiveTrue(
+        for (EmployeeStoreRelation rel : relationRepository.findWithEmployeeByStoreAndIsActiveTrue(
                 store != null ? store : storeRepository.getReferenceById(shift.getStoreId()))) {
             Long userId = rel.getEmployeeProfile().getUser() != null ? rel.getEmployeeProfile().getUser().getId() : null;
             if (userId == null || Objects.equals(rel.getEmployeeProfile().getId(), shift.getEmployeeId())) continue;
@@ -3,13 +3,11 @@ package com.rich.sodam.service;
 import com.rich.sodam.config.LaborLawRoadmapProperties;
 import com.rich.sodam.core.payroll.constant.MinimumWage;
 import com.rich.sodam.core.payroll.constant.StatutoryHeadcountStandards;
-import com.rich.sodam.domain.Attendance;
 import com.rich.sodam.domain.EmployeeStoreRelation;
 import com.rich.sodam.domain.Store;
 import com.rich.sodam.dto.response.HeadcountSimulationResponse;
 import com.rich.sodam.dto.response.StatutoryHeadcountResponse;
 import com.rich.sodam.dto.response.StatutoryHeadcountResponse.RoadmapItem;
-import com.rich.sodam.repository.AttendanceRepository;
 import com.rich.sodam.repository.EmployeeStoreRelationRepository;
 import com.rich.sodam.repository.StoreRepository;
 import lombok.RequiredArgsConstructor;
@@ -19,12 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
 
 /**
  * 근로기준법 시행령 §7의2 상시근로자 수 참고 산정기(사장 전용, 신규 테이블 없음).
@@ -36,6 +29,9 @@ import java.util.Set;
  * 세액공제 신호와 근로기준법 적용 판정이 뒤바뀌는 오판이 나고, 그 오판은 사장의 채용 의사결정을
  * 바꾼다. 이 서비스는 {@code EmploymentCreditService}의 집계 로직을 재사용하지 않는다.
  *
+ * <p>가동일수·연인원은 매장 일자별 출근 직원 수({@link StoreDailyHeadcountService})를 합산해 얻는다 — 산정기간
+ * 한 달 치 출근 기록을 매번 읽지 않는다.
+ *
  * <p>판정은 전부 참고용이다(HC-3) — 다른 기능을 자동으로 켜거나 끄지 않는다(HC-4).
  */
 @Service
@@ -46,7 +42,7 @@ public class StatutoryHeadcountService {
             "근로기준법 시행령 §7의2 방식의 참고 산정이에요. 최종 판단은 근로감독관·법원의 권한입니다.";
 
     private final StoreRepository storeRepository;
-    private final AttendanceRepository attendanceRepository;
+    private final StoreDailyHeadcountService dailyHeadcountService;
     private final EmployeeStoreRelationRepository relationRepository;
     private final LaborLawRoadmapProperties roadmapProperties;
 
@@ -58,15 +54,17 @@ public class StatutoryHeadcountService {
     /** 기준일 주입 가능 버전(테스트용). */
     @Transactional(readOnly = true)
     public StatutoryHeadcountResponse referenceHeadcount(Long storeId, LocalDate today) {
-        Store store = storeRepository.findById(storeId)
-                .orElseThrow(() -> new IllegalArgumentException("매장을 찾을 수 없어요: " + storeId));
+        if (!storeRepository.existsById(storeId)) {
+            throw new IllegalArgumentException("매장을 찾을 수 없어요: " + storeId);
+        }
 
         LocalDate periodEnd = today.minusDays(1);
         LocalDate periodStart = today.minusMonths(StatutoryHeadcountStandards.CALCULATION_PERIOD_MONTHS);
 
-        Map<LocalDate, Set<Long>> dailyEmployees = dailyDistinctEmployees(store, periodStart, periodEnd);
-        int operatingDays = dailyEmployees.size();
-        int manDays = dailyEmployees.values().stream().mapToInt(Set::size).sum();
+        StoreDailyHeadcountService.HeadcountTotals totals =
+                dailyHeadcountService.summarize(storeId, periodStart, periodEnd);
+        int operatingDays = totals.operatingDays();
+        int manDays = totals.manDays();
         BigDecimal statutoryHeadcount = operatingDays == 0
                 ? BigDecimal.ZERO.setScale(StatutoryHeadcountStandards.SCALE, RoundingMode.HALF_UP)
                 : BigDecimal.valueOf(manDays)
@@ -114,25 +112,6 @@ public class StatutoryHeadcountService {
                 projected, crossesThreshold, provisions, min, max, DISCLAIMER);
     }
 
-    /** 산정기간 내 일자별 실제 출근(체크인) 직원 distinct 집합. 가동일수·연인원 산출의 기초 자료. */
-    private Map<LocalDate, Set<Long>> dailyDistinctEmployees(Store store, LocalDate periodStart, LocalDate periodEnd) {
-        LocalDateTime from = periodStart.atStartOfDay();
-        LocalDateTime to = periodEnd.plusDays(1).atStartOfDay();
-        Map<LocalDate, Set<Long>> byDay = new HashMap<>();
-        for (Attendance att : attendanceRepository.findByStoreAndCheckInTimeBetweenOrderByCheckInTimeDesc(store, from, to)) {
-            if (att.getCheckInTime() == null || att.getEmployeeProfile() == null
-                    || att.getEmployeeProfile().getId() == null) {
-                continue;
-            }
-            LocalDate day = att.getCheckInTime().toLocalDate();
-            if (day.isBefore(periodStart) || day.isAfter(periodEnd)) {
-                continue;
-            }
-            byDay.computeIfAbsent(day, k -> new HashSet<>()).add(att.getEmployeeProfile().getId());
-        }
-        return byDay;
-    }
-
     /** 재직 중인 직원의 평균 적용 시급. 재직자가 없으면 해당 연도 최저임금으로 대체(보수적 하한). */
     private BigDecimal averageAppliedHourlyWage(Long storeId, LocalDate today) {
         Store store = storeRepository.findById(storeId)
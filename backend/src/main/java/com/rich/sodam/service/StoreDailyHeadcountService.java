@@ -0,0 +1,145 @@
+package com.rich.sodam.service;
+
+import com.rich.sodam.repository.AttendanceRepository;
+import com.rich.sodam.repository.StoreDailyHeadcountRepository;
+import com.rich.sodam.service.support.AfterCommitExecutor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 매장 일자별 출근 직원 수({@code store_daily_headcount}) 갱신·조회.
+ *
+ * <ul>
+ *   <li>출근·대리등록·정정 승인이 {@link #recordCheckIns}로 바뀐 출근 일자를 넘기면, 커밋 후 그 일자를 원본
+ *       출근 기록에서 다시 세어 덮어쓴다. 더하기가 아니라 다시 세기라 같은 직원의 두 번째 출근이나 정정으로
+ *       일자가 옮겨 간 기록도 그대로 맞는다. 커밋 전에 세면 동시에 출근한 다른 트랜잭션의 행이 빠진다.</li>
+ *   <li>{@link #summarize}는 기간의 가동일수·연인원을 일자 행 합산으로 돌려준다 — 상시근로자 참고 산정
+ *       ({@link StatutoryHeadcountService})이 매번 한 달 치 출근 기록을 읽지 않게 한다.</li>
+ *   <li>{@link #recompute}는 구간을 원본에서 다시 계산해 덮어쓴다. 커밋 후 갱신이 실패했거나 동시 갱신 순서가
+ *       엇갈린 값을 {@link StoreDailyMetricCompactionScheduler}가 매일 바로잡는다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoreDailyHeadcountService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AttendanceRepository attendanceRepository;
+    private final StoreDailyHeadcountRepository headcountRepository;
+    private final AfterCommitExecutor afterCommitExecutor;
+
+    private volatile String upsertSql;
+
+    /** 산정기간의 가동일수(출근자가 있는 일자 수)와 연인원(일자별 출근 직원 수의 합). */
+    public record HeadcountTotals(int operatingDays, int manDays) {
+    }
+
+    /**
+     * 출근 기록이 생기거나 출근시각이 바뀐 일자를 커밋 후 다시 센다. 정정으로 일자가 바뀌면 이전·새 출근시각을
+     * 함께 넘긴다. 실패해도 호출 측 흐름에는 영향이 없다 — 새벽 재계산이 맞춘다.
+     */
+    public void recordCheckIns(Long storeId, LocalDateTime... checkInTimes) {
+        if (storeId == null) {
+            return;
+        }
+        Set<LocalDate> days = new LinkedHashSet<>();
+        for (LocalDateTime checkIn : checkInTimes) {
+            if (checkIn != null) {
+                days.add(checkIn.toLocalDate());
+            }
+        }
+        if (days.isEmpty()) {
+            return;
+        }
+        afterCommitExecutor.execute(() -> {
+            for (LocalDate day : days) {
+                try {
+                    refresh(storeId, day);
+                } catch (Exception e) {
+                    log.warn("매장 일자별 출근 인원 갱신 실패 storeId={} day={}: {}", storeId, day, e.getMessage());
+                }
+            }
+        });
+    }
+
+    /** 한 매장·일자의 출근 직원 수를 원본에서 다시 세어 덮어쓴다. */
+    public void refresh(Long storeId, LocalDate day) {
+        long count = attendanceRepository.countDistinctEmployeesByStoreAndCheckInBetween(
+                storeId, day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+        upsert(List.of(new DayCount(storeId, day, (int) count)));
+    }
+
+    /** 한 매장의 기간(양끝 포함) 가동일수·연인원. */
+    @Transactional(readOnly = true)
+    public HeadcountTotals summarize(Long storeId, LocalDate from, LocalDate to) {
+        List<Object[]> rows = headcountRepository.summarizeByStoreBetween(storeId, from, to);
+        if (rows.isEmpty() || rows.get(0)[0] == null) {
+            return new HeadcountTotals(0, 0);
+        }
+        Object[] row = rows.get(0);
+        return new HeadcountTotals(((Number) row[0]).intValue(), row[1] == null ? 0 : ((Number) row[1]).intValue());
+    }
+
+    /**
+     * 출근 일자가 {@code from}~{@code to}인 구간을 원본 출근 기록에서 다시 계산해 덮어쓴다. 일자마다 매장별로
+     * 한 번 묶어 센다.
+     *
+     * @return 다시 쓴 (매장 × 일자) 수
+     */
+    @Transactional
+    public int recompute(LocalDate from, LocalDate to) {
+        headcountRepository.deleteByWorkDateBetween(from, to);
+        List<DayCount> counts = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            for (Object[] row : attendanceRepository.countDistinctEmployeesPerStoreByCheckInBetween(
+                    day.atStartOfDay(), day.plusDays(1).atStartOfDay())) {
+                counts.add(new DayCount((Long) row[0], day, ((Number) row[1]).intValue()));
+            }
+        }
+        upsert(counts);
+        log.info("매장 일자별 출근 인원 재계산: {}~{}, {}건", from, to, counts.size());
+        return counts.size();
+    }
+
+    private void upsert(List<DayCount> counts) {
+        if (counts.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(upsertSql(), counts, counts.size(), (ps, c) -> {
+            ps.setLong(1, c.storeId());
+            ps.setDate(2, Date.valueOf(c.day()));
+            ps.setInt(3, c.workers());
+        });
+    }
+
+    /** 덮어쓰기 UPSERT — 식별자 인용은 {@link StoreDailyMetricService}와 같은 방식. */
+    private String upsertSql() {
+        if (upsertSql == null) {
+            String q = jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+                String quote = connection.getMetaData().getIdentifierQuoteString();
+                return quote == null || quote.isBlank() ? "" : quote;
+            });
+            String workers = q + "worker_count" + q;
+            upsertSql = "INSERT INTO " + q + "store_daily_headcount" + q + " (" + q + "store_id" + q + ", "
+                    + q + "work_date" + q + ", " + workers + ") VALUES (?, ?, ?) ON DUPLICATE KEY UPDATE "
+                    + workers + " = VALUES(" + workers + ")";
+        }
+        return upsertSql;
+    }
+
+    private record DayCount(Long storeId, LocalDate day, int workers) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.rich.sodam.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * 매장 일자별 사전 집계 보정 배치.
+ *
+ * <p>매일 새벽 03:50(KST)에 지난달 1일부터 오늘까지를 원본에서 다시 계산한다 — 급여 집계는 대시보드가 읽는
+ * 당월 누계와 월초 재계산이 몰리는 지난달을, 출근 인원 집계는 상시근로자 산정기간(직전 1개월)을 덮는
+ * 구간이다. 커밋 후 갱신이 정상이면 값은 바뀌지 않는다. 한쪽이 실패해도 다른 쪽은 진행한다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreDailyMetricCompactionScheduler {
+
+    private final StoreDailyMetricService storeDailyMetricService;
+    private final StoreDailyHeadcountService storeDailyHeadcountService;
+
+    @Scheduled(cron = "0 50 3 * * *", zone = "Asia/Seoul")
+    @SchedulerLock(name = "storeDailyMetricCompaction", lockAtMostFor = "PT30M", lockAtLeastFor = "PT1M")
+    public void compact() {
+        LocalDate today = LocalDate.now();
+        LocalDate from = YearMonth.from(today).minusMonths(1).atDay(1);
+        try {
+            storeDailyMetricService.recomputePayroll(from, today);
+        } catch (Exception e) {
+            // 다음 실행에서 재시도 — 그동안 대시보드는 누적 갱신 값으로 동작한다.
+            log.error("매장 일자별 급여 집계 재계산 실패: {}", e.getMessage(), e);
+        }
+        try {
+            storeDailyHeadcountService.recompute(from, today);
+        } catch (Exception e) {
+            log.error("매장 일자별 출근 인원 재계산 실패: {}", e.getMessage(), e);
+        }
+    }
+}
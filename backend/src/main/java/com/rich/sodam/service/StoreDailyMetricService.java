@@ -0,0 +1,154 @@
+package com.rich.sodam.service;
+
+import com.rich.sodam.domain.Payroll;
+import com.rich.sodam.domain.type.StoreDailyMetricType;
+import com.rich.sodam.repository.PayrollRepository;
+import com.rich.sodam.repository.StoreDailyMetricRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 매장 일자별 사전 집계({@code store_daily_metric}) 갱신·조회.
+ *
+ * <ul>
+ *   <li>급여를 저장하는 쪽이 저장 전·후 합계({@link PayrollTotals})를 넘기면 차이만 누적 UPSERT 한다 —
+ *       읽고-쓰기가 아니라 {@code ON DUPLICATE KEY UPDATE value = value + ?} 라 같은 매장·일자의 급여가
+ *       동시에 저장돼도 더한 값이 유실되지 않는다. 호출 측 트랜잭션에 함께 묶인다.</li>
+ *   <li>{@link #recomputePayroll}는 구간을 원본(payroll)에서 다시 계산해 덮어쓴다. 누적 경로를 거치지 않는
+ *       변경(운영 SQL 보정 등)으로 어긋난 값을 {@link StoreDailyMetricCompactionScheduler}가 매일 바로잡는다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoreDailyMetricService {
+
+    private static final EnumSet<StoreDailyMetricType> PAYROLL_METRICS = EnumSet.of(
+            StoreDailyMetricType.PAYROLL_GROSS, StoreDailyMetricType.PAYROLL_NET, StoreDailyMetricType.PAYROLL_HOURS);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StoreDailyMetricRepository metricRepository;
+    private final PayrollRepository payrollRepository;
+
+    private volatile String upsertSql;
+
+    /**
+     * 급여 한 건의 변경을 반영한다. {@code before}는 변경 전 합계(신규면 null), {@code after}는 저장 후 합계다.
+     * 매장·시작일이 바뀌었으면 이전 일자에서 빼고 새 일자에 더한다.
+     */
+    public void recordPayrollChange(PayrollTotals before, PayrollTotals after) {
+        Map<MetricKey, Double> deltas = new LinkedHashMap<>();
+        if (before != null) {
+            before.addTo(deltas, -1);
+        }
+        if (after != null) {
+            after.addTo(deltas, 1);
+        }
+        deltas.values().removeIf(v -> v == 0.0);
+        upsert(deltas);
+    }
+
+    /** 한 매장의 기간(양끝 포함) 지표별 합계. 집계 행이 없는 지표는 0. */
+    @Transactional(readOnly = true)
+    public Map<StoreDailyMetricType, Double> sum(Long storeId, LocalDate from, LocalDate to) {
+        Map<StoreDailyMetricType, Double> sums = new EnumMap<>(StoreDailyMetricType.class);
+        for (StoreDailyMetricType type : StoreDailyMetricType.values()) {
+            sums.put(type, 0.0);
+        }
+        for (Object[] row : metricRepository.sumByStoreBetween(storeId, from, to)) {
+            sums.put((StoreDailyMetricType) row[0], ((Number) row[1]).doubleValue());
+        }
+        return sums;
+    }
+
+    /**
+     * 급여 시작일이 {@code from}~{@code to}인 구간의 급여 지표를 원본에서 다시 계산해 덮어쓴다.
+     *
+     * @return 다시 쓴 (매장 × 일자) 수
+     */
+    @Transactional
+    public int recomputePayroll(LocalDate from, LocalDate to) {
+        metricRepository.deleteByMetricInAndDateBetween(PAYROLL_METRICS, from, to);
+        Map<MetricKey, Double> values = new LinkedHashMap<>();
+        List<Object[]> rows = payrollRepository.sumDailyTotalsByStartDateBetween(from, to);
+        for (Object[] row : rows) {
+            new PayrollTotals((Long) row[0], (LocalDate) row[1], ((Number) row[2]).doubleValue(),
+                    ((Number) row[3]).doubleValue(), ((Number) row[4]).doubleValue()).addTo(values, 1);
+        }
+        upsert(values);
+        log.info("매장 일자별 급여 집계 재계산: {}~{}, {}건", from, to, rows.size());
+        return rows.size();
+    }
+
+    private void upsert(Map<MetricKey, Double> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<MetricKey, Double>> entries = new ArrayList<>(values.entrySet());
+        jdbcTemplate.batchUpdate(upsertSql(), entries, entries.size(), (ps, e) -> {
+            ps.setLong(1, e.getKey().storeId());
+            ps.setDate(2, Date.valueOf(e.getKey().date()));
+            ps.setString(3, e.getKey().metric().name());
+            ps.setDouble(4, e.getValue());
+        });
+    }
+
+    /**
+     * 누적 UPSERT — 운영 MySQL 과 테스트 H2(MODE=MySQL) 모두 {@code ON DUPLICATE KEY UPDATE} 를 지원한다.
+     * 식별자는 전역 인용 식별자 스키마에 맞춰 DB 인용 문자로 감싼다({@code PayrollDetailBatchWriter}와 같은 방식).
+     */
+    private String upsertSql() {
+        if (upsertSql == null) {
+            String q = jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+                String quote = connection.getMetaData().getIdentifierQuoteString();
+                return quote == null || quote.isBlank() ? "" : quote;
+            });
+            String value = q + "metric_value" + q;
+            upsertSql = "INSERT INTO " + q + "store_daily_metric" + q + " (" + q + "store_id" + q + ", "
+                    + q + "metric_date" + q + ", " + q + "metric" + q + ", " + value
+                    + ") VALUES (?, ?, ?, ?) ON DUPLICATE KEY UPDATE " + value + " = " + value
+                    + " + VALUES(" + value + ")";
+        }
+        return upsertSql;
+    }
+
+    /** 급여 한 건이 매장·시작일 집계에 더하는 값. 매장이나 시작일이 없으면 집계하지 않는다. */
+    public record PayrollTotals(Long storeId, LocalDate startDate, double gross, double net, double hours) {
+
+        /** 현재 엔티티 값의 스냅숏. 매장·시작일이 비어 있으면 null. */
+        public static PayrollTotals of(Payroll payroll) {
+            if (payroll == null || payroll.getStore() == null || payroll.getStartDate() == null) {
+                return null;
+            }
+            return new PayrollTotals(payroll.getStore().getId(), payroll.getStartDate(),
+                    nz(payroll.getGrossWage()), nz(payroll.getNetWage()),
+                    nz(payroll.getRegularHours()) + nz(payroll.getOvertimeHours()) + nz(payroll.getNightWorkHours()));
+        }
+
+        private void addTo(Map<MetricKey, Double> values, int sign) {
+            values.merge(new MetricKey(storeId, startDate, StoreDailyMetricType.PAYROLL_GROSS), sign * gross, Double::sum);
+            values.merge(new MetricKey(storeId, startDate, StoreDailyMetricType.PAYROLL_NET), sign * net, Double::sum);
+            values.merge(new MetricKey(storeId, startDate, StoreDailyMetricType.PAYROLL_HOURS), sign * hours, Double::sum);
+        }
+
+        private static double nz(Number v) {
+            return v == null ? 0 : v.doubleValue();
+        }
+    }
+
+    private record MetricKey(Long storeId, LocalDate date, StoreDailyMetricType metric) {
+    }
+}
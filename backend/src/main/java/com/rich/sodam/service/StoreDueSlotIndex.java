@@ -0,0 +1,133 @@
+package com.rich.sodam.service;
+
+import com.rich.sodam.domain.OperatingHours;
+import com.rich.sodam.domain.Store;
+import com.rich.sodam.domain.StoreDueSlot;
+import com.rich.sodam.repository.StoreDueSlotRepository;
+import com.rich.sodam.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * 주기 배치용 매장 오픈·마감 시각 인덱스({@link StoreDueSlot}) 관리.
+ *
+ * <p>사장 리마인더·출퇴근 누락 배치는 10·15분마다 돌지만 한 틱에 실제로 할 일이 있는 매장은 그 윈도에
+ * 오픈이나 마감이 걸친 극소수다. 매장 전체를 읽어 자바에서 시각을 비교하던 것을, 이 인덱스의 범위 조회로
+ * 후보 매장 ID 만 먼저 고르고 그 매장들만 {@link #PAGE_SIZE} 단위로 읽도록 바꿨다. 후보 선정은 넓게(상위
+ * 집합) 하고, 최종 판정은 기존처럼 배치가 {@link OperatingHours} 원본으로 한다.</p>
+ *
+ * <p>갱신은 운영시간을 바꾸는 쓰기와 같은 트랜잭션에서 한다 — 롤백되면 인덱스도 함께 롤백된다. 서비스
+ * 경로 밖의 쓰기(시드, JDBC 일괄 적재, 수동 SQL)로 생기는 어긋남은 야간 {@link #rebuildAll()}이 메운다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoreDueSlotIndex {
+
+    /** 후보 매장을 엔티티로 읽을 때의 한 번 IN 조회 크기. */
+    public static final int PAGE_SIZE = 200;
+
+    private final StoreDueSlotRepository storeDueSlotRepository;
+    private final StoreRepository storeRepository;
+    private final TransactionTemplate transactions;
+
+    /** 매장의 슬롯을 현재 운영시간 기준으로 다시 만든다. 삭제된 매장은 슬롯을 지우기만 한다. */
+    @Transactional
+    public void reindex(Store store) {
+        if (store == null || store.getId() == null) {
+            return;
+        }
+        storeDueSlotRepository.deleteByStoreId(store.getId());
+        storeDueSlotRepository.saveAll(slotsOf(store));
+    }
+
+    /**
+     * (fromExclusive, toInclusive] 시각 범위에 해당 종류 슬롯이 걸친 매장 ID(오름차순).
+     * 범위가 주(월요일 00:00) 경계를 넘으면 두 번의 범위 조회로 나눈다.
+     */
+    @Transactional(readOnly = true)
+    public List<Long> dueStoreIds(StoreDueSlot.Type type, LocalDateTime fromExclusive, LocalDateTime toInclusive) {
+        long span = Duration.between(fromExclusive, toInclusive).toMinutes();
+        if (span <= 0) {
+            return List.of();
+        }
+        TreeSet<Long> ids = new TreeSet<>();
+        if (span >= StoreDueSlot.MINUTES_PER_WEEK) {
+            ids.addAll(storeDueSlotRepository.findStoreIdsInWindow(type, -1, StoreDueSlot.MINUTES_PER_WEEK));
+            return new ArrayList<>(ids);
+        }
+        int from = StoreDueSlot.minuteOfWeek(fromExclusive);
+        int to = StoreDueSlot.minuteOfWeek(toInclusive);
+        if (from < to) {
+            ids.addAll(storeDueSlotRepository.findStoreIdsInWindow(type, from, to));
+        } else {
+            ids.addAll(storeDueSlotRepository.findStoreIdsInWindow(type, from, StoreDueSlot.MINUTES_PER_WEEK));
+            ids.addAll(storeDueSlotRepository.findStoreIdsInWindow(type, -1, to));
+        }
+        return new ArrayList<>(ids);
+    }
+
+    /**
+     * 야간 재구축 — 활성 매장 전체를 페이지 단위(페이지마다 별도 트랜잭션)로 다시 색인하고, 삭제된 매장의
+     * 슬롯을 지운다. 서비스 경로 밖 쓰기로 생긴 어긋남을 하루 안에 복구한다.
+     */
+    @Scheduled(cron = "0 40 3 * * *", zone = "Asia/Seoul")
+    @SchedulerLock(name = "storeDueSlotRebuild", lockAtMostFor = "PT30M", lockAtLeastFor = "PT1M")
+    public void rebuildAll() {
+        int stores = 0;
+        for (List<Long> page : pages(storeRepository.findAllActiveIdsOrderById())) {
+            Integer done = transactions.execute(status -> {
+                List<Store> loaded = storeRepository.findAllById(page);
+                loaded.forEach(this::reindex);
+                return loaded.size();
+            });
+            stores += done == null ? 0 : done;
+        }
+        Integer purged = transactions.execute(status -> storeDueSlotRepository.deleteForDeletedStores());
+        log.info("매장 시각 인덱스 재구축 완료 stores={} purgedSlots={}", stores, purged);
+    }
+
+    /** 후보 ID 를 {@link #PAGE_SIZE} 단위로 자른다 — 배치가 findAllById 로 한 페이지씩 읽는다. */
+    public static List<List<Long>> pages(List<Long> ids) {
+        List<List<Long>> pages = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += PAGE_SIZE) {
+            pages.add(ids.subList(from, Math.min(from + PAGE_SIZE, ids.size())));
+        }
+        return pages;
+    }
+
+    static List<StoreDueSlot> slotsOf(Store store) {
+        OperatingHours hours = store.getOperatingHours();
+        if (!store.isActive() || hours == null) {
+            return List.of();
+        }
+        List<StoreDueSlot> slots = new ArrayList<>();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (!hours.isOpenOn(day)) {
+                continue;
+            }
+            LocalTime open = hours.getOpenTime(day);
+            LocalTime close = hours.getCloseTime(day);
+            if (open != null) {
+                slots.add(new StoreDueSlot(store.getId(), StoreDueSlot.Type.OPEN, day, open));
+            }
+            if (close != null) {
+                slots.add(new StoreDueSlot(store.getId(), StoreDueSlot.Type.CLOSE, day, close));
+            }
+        }
+        return slots;
+    }
+}
@@ -16,6 +16,7 @@ import com.rich.sodam.dto.response.StoreEmployeeResponseDto;
 import com.rich.sodam.exception.BusinessException;
 import com.rich.sodam.exception.EntityNotFoundException;
 import com.rich.sodam.repository.*;
+import com.rich.sodam.security.authorization.StoreMembershipCache;
 import com.rich.sodam.service.support.AfterCommitExecutor;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
@@ -65,6 +66,9 @@ public class StoreManagementServiceImpl implements StoreManagementService {
     private final CacheManager cacheManager;
     private final jakarta.persistence.EntityManager entityManager;
     private final AfterCommitExecutor afterCommitExecutor;
+    private final StoreMembershipCache storeMembershipCache;
+    private final AccessTokenRevocationService accessTokenRevocationService;
+    private final StoreDueSlotIndex storeDueSlotIndex;
 
     /**
      * "stores" 캐시 무효화를 트랜잭션 커밋 이후로 미룬다(DB_OPTIMIZATION_PLAN.md §2.8(c)).
@@ -216,10 +220,13 @@ public class StoreManagementServiceImpl implements StoreManagementService {
         Store store = getStore(storeDto);
 
         storeRepository.save(store);
+        storeDueSlotIndex.reindex(store);
 
         // 사장-매장 관계 생성
         MasterStoreRelation relation = new MasterStoreRelation(masterProfile, store);
         masterStoreRelationRepository.save(relation);
+        // 소유 매장 추가 → 인가 스냅샷 무효화(커밋 이후)
+        storeMembershipCache.evictAfterCommit(userId);
 
         return store;
     }
@@ -332,6 +339,7 @@ public class StoreManagementServiceImpl implements StoreManagementService {
         }
         store.updateOperatingHours(oh);
         storeRepository.save(store);
+        storeDueSlotIndex.reindex(store);
         return com.rich.sodam.dto.response.OperatingHoursResponseDto.from(store);
     }
 
@@ -359,6 +367,8 @@ public class StoreManagementServiceImpl implements StoreManagementService {
                         "직원-매장 관계를 찾을 수 없습니다. employeeId=" + employeeId + ", storeId=" + storeId));
         relation.changeActive(active);
         employeeStoreRelationRepository.save(relation);
+        // 재직 여부·매니저 해제 → 인가 스냅샷 무효화(커밋 이후)
+        storeMembershipCache.evictAfterCommit(employeeId);
         // 재직 인원 변동 → 5인 이상 여부 재산정(§56 가산 적용 정상화)
         recountEmployeesAndApply(relation.getStore());
         // 사장 화면 라이브 동기화 — 직원 활성/비활성 즉시 반영.
@@ -431,7 +441,10 @@ public class StoreManagementServiceImpl implements StoreManagementService {
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new EntityNotFoundException("매장을 찾을 수 없습니다."));
 
-        // 사용자를 EMPLOYEE로 변경
+        // 사용자를 EMPLOYEE로 변경 — 등급이 바뀌면 기존 액세스 토큰의 등급 클레임은 낡는다
+        if (user.getUserGrade() != UserGrade.EMPLOYEE) {
+            accessTokenRevocationService.principalChangedAfterCommit(userId);
+        }
         user.changeToEmployee();
 
         // EmployeeProfile 생성 또는 조회
@@ -463,6 +476,8 @@ public class StoreManagementServiceImpl implements StoreManagementService {
             relation = new EmployeeStoreRelation(employeeProfile, store, customHourlyWage);
         }
         employeeStoreRelationRepository.save(relation);
+        // 새 소속(또는 joinStoreByCode 의 재활성) → 인가 스냅샷 무효화(커밋 이후)
+        storeMembershipCache.evictAfterCommit(userId);
         // 재직 인원 변동 → 5인 이상 여부 재산정(§56 가산 적용 정상화)
         recountEmployeesAndApply(store);
         // 직원이 매장에 새로 합류한 경우 계측 이벤트 발화(전환·activation 분모)
@@ -654,8 +669,8 @@ public class StoreManagementServiceImpl implements StoreManagementService {
         // 활성 관계만 반환한다. includeInactive=true는 WP-6(경력증명서) 전용 — 퇴사 후에도 본인
         // 스코프로 경력증명서를 조회·발급할 수 있어야 하므로 비활성 관계도 포함한다.
         List<EmployeeStoreRelation> relations = includeInactive
-                ? employeeStoreRelationRepository.findByEmployeeProfile(employeeProfile)
-                : employeeStoreRelationRepository.findByEmployeeProfileAndIsActiveTrue(employeeProfile);
+                ? employeeStoreRelationRepository.findWithStoreByEmployeeProfile(employeeProfile)
+                : employeeStoreRelationRepository.findWithStoreByEmployeeProfileAndIsActiveTrue(employeeProfile);
         return relations.stream()
                 .map(EmployeeStoreRelation::getStore)
                 .collect(Collectors.toList());
@@ -667,7 +682,7 @@ public class StoreManagementServiceImpl implements StoreManagementService {
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new EntityNotFoundException("매장을 찾을 수 없습니다."));
 
-        return employeeStoreRelationRepository.findByStore(store)
+        return employeeStoreRelationRepository.findWithEmployeeByStore_Id(store.getId())
                 .stream()
                 .map(relation -> StoreEmployeeResponseDto.from(relation.getEmployeeProfile().getUser()))
                 .collect(Collectors.toList());
@@ -745,5 +760,6 @@ public class StoreManagementServiceImpl implements StoreManagementService {
                 .orElseThrow(() -> new EntityNotFoundException("매장을 찾을 수 없습니다."));
         store.softDelete();
         storeRepository.save(store);
+        storeDueSlotIndex.reindex(store);
     }
 }
@@ -10,6 +10,7 @@ import com.rich.sodam.exception.ManagerAccessDeniedException;
 import com.rich.sodam.repository.EmployeeStoreRelationRepository;
 import com.rich.sodam.repository.StoreDelegationAuditRepository;
 import com.rich.sodam.repository.StoreRepository;
+import com.rich.sodam.security.authorization.StoreMembershipCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,6 +31,7 @@ public class StoreManagerService {
     private final EmployeeStoreRelationRepository relationRepository;
     private final StoreDelegationAuditRepository auditRepository;
     private final DelegatedContractEnvelopeCancellationService delegatedContractCancellationService;
+    private final StoreMembershipCache storeMembershipCache;
 
     @Transactional
     public EmployeeStoreRelation draftAppointment(Long masterId, Long storeId, Long employeeId,
@@ -54,6 +56,7 @@ public class StoreManagerService {
                 ? ManagerPermission.defaultPreset() : permissions;
         relation.draftManagerAppointment(requested, LocalDateTime.now());
         EmployeeStoreRelation saved = relationRepository.save(relation);
+        storeMembershipCache.evictAfterCommit(employeeId);
         auditRepository.save(StoreDelegationAudit.of(storeId, employeeId, masterId, masterId,
                 StoreDelegationAudit.ActorType.MASTER, StoreDelegationAudit.Action.GRANT_DRAFTED,
                 saved.getGrantedPermissions(), saved.getManagerDelegationVersion(), null, null, null));
@@ -73,6 +76,7 @@ public class StoreManagerService {
         }
         relation.activateManagerDelegation(envelopeId, delegationVersion, LocalDateTime.now());
         EmployeeStoreRelation saved = relationRepository.save(relation);
+        storeMembershipCache.evictAfterCommit(relation.getEmployeeProfile().getId());
         auditRepository.save(StoreDelegationAudit.of(storeId, relation.getEmployeeProfile().getId(), null, null,
                 StoreDelegationAudit.ActorType.SYSTEM, StoreDelegationAudit.Action.ACTIVATED,
                 saved.getGrantedPermissions(), saved.getManagerDelegationVersion(), envelopeId,
@@ -107,6 +111,7 @@ public class StoreManagerService {
             }
             relation.reduceManagerPermissions(requested);
             relationRepository.save(relation);
+            storeMembershipCache.evictAfterCommit(employeeId);
             auditRepository.save(StoreDelegationAudit.of(storeId, employeeId, masterId, masterId,
                     StoreDelegationAudit.ActorType.MASTER, StoreDelegationAudit.Action.MODIFIED,
                     relation.getGrantedPermissions(), relation.getManagerDelegationVersion(),
@@ -146,6 +151,7 @@ public class StoreManagerService {
         delegatedContractCancellationService.cancelUnfinishedContracts(employeeId, envelopeId);
         relation.revokeManager();
         relationRepository.save(relation);
+        storeMembershipCache.evictAfterCommit(employeeId);
         auditRepository.save(StoreDelegationAudit.of(storeId, employeeId, masterId, masterId,
                 StoreDelegationAudit.ActorType.MASTER, StoreDelegationAudit.Action.REVOKED,
                 snapshot, version, envelopeId, null, reason));
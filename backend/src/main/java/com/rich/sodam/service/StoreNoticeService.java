@@ -143,7 +143,7 @@ public class StoreNoticeService {
     }
 
     private List<EmployeeStoreRelation> activeRelations(Long storeId) {
-        return relationRepository.findByStore_Id(storeId).stream()
+        return relationRepository.findWithEmployeeByStore_Id(storeId).stream()
                 .filter(rel -> Boolean.TRUE.equals(rel.getIsActive()))
                 .toList();
     }
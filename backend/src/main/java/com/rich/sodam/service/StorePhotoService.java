@@ -1,10 +1,12 @@
 package com.rich.sodam.service;
 
+import com.rich.sodam.config.ImageUploadProperties;
 import com.rich.sodam.config.integration.ObjectStorage;
 import com.rich.sodam.domain.Store;
 import com.rich.sodam.domain.StorePhoto;
 import com.rich.sodam.repository.StorePhotoRepository;
 import com.rich.sodam.repository.StoreRepository;
+import com.rich.sodam.service.image.ImagePipeline;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,6 +33,8 @@ public class StorePhotoService {
     private final StorePhotoRepository storePhotoRepository;
     private final StoreRepository storeRepository;
     private final ObjectStorage objectStorage;
+    private final ImagePipeline imagePipeline;
+    private final ImageUploadProperties imageProperties;
 
     @Transactional(readOnly = true)
     public List<Map<String, Object>> list(Long storeId) {
@@ -39,6 +43,7 @@ public class StorePhotoService {
                     Map<String, Object> m = new LinkedHashMap<>();
                     m.put("id", p.getId());
                     m.put("publicUrl", objectStorage.accessUrl(p.getStorageKey()));
+                    m.put("thumbnailUrl", objectStorage.accessUrl(thumbnailKeyOf(p)));
                     m.put("displayOrder", p.getDisplayOrder());
                     m.put("uploadedAt", p.getUploadedAt());
                     return m;
@@ -48,8 +53,11 @@ public class StorePhotoService {
     /**
      * 한 번에 1장. JPG/PNG. 최대 5MB. 매장당 최대 5장.
      * 실패 사유는 {@link UploadResult#message()} 로 전달 — 컨트롤러가 200/400 매핑을 그대로 유지한다.
+     *
+     * <p>본 이미지(긴 변 {@code displayMaxEdge})와 목록용 썸네일을 업로드 시점에 만들어 둔다. 변환은 수백 ms
+     * 걸릴 수 있어 트랜잭션으로 감싸지 않는다 — DB 커넥션은 조회·저장 순간에만 잡고, 저장이 실패하면 올린
+     * 객체를 지운다.</p>
      */
-    @Transactional(rollbackFor = Exception.class)
     public UploadResult upload(Long storeId, MultipartFile file) throws IOException {
         if (file == null || file.isEmpty()) {
             return UploadResult.failure("파일이 비어 있어요.");
@@ -70,20 +78,49 @@ public class StorePhotoService {
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new IllegalArgumentException("매장을 찾을 수 없어요."));
 
-        ObjectStorage.PutResult res = objectStorage.put(
-                "stores/" + storeId + "/photos",
-                file.getBytes(),
-                contentType);
+        String storageKey;
+        String thumbnailKey = null;
+        ImagePipeline.Rendition display;
+        try (ImagePipeline.Processed processed = imagePipeline.process(file, MAX_SIZE_BYTES,
+                imageProperties.getDisplayMaxEdge(), imageProperties.getThumbnailMaxEdge())) {
+            display = processed.rendition(0);
+            storageKey = objectStorage.put("stores/" + storeId + "/photos", display.file(), display.contentType())
+                    .getStorageKey();
+            ImagePipeline.Rendition thumbnail = processed.rendition(1);
+            // 변환하지 못한 이미지(GIF 등)는 썸네일이 원본과 같으므로 따로 올리지 않는다
+            if (thumbnail.transcoded()) {
+                try {
+                    thumbnailKey = objectStorage.putAt(thumbnailKeyFor(storageKey), thumbnail.file(),
+                            thumbnail.contentType()).getStorageKey();
+                } catch (RuntimeException e) {
+                    objectStorage.delete(storageKey);
+                    throw e;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // 받으면서 잰 실제 크기·해상도 초과도 다른 검증 실패처럼 400 메시지로 돌려준다
+            return UploadResult.failure(e.getMessage());
+        }
 
-        // publicUrl is a legacy non-null column. Keep an opaque key there for
-        // compatibility; responses are always built from storageKey below.
-        StorePhoto saved = storePhotoRepository.save(StorePhoto.of(
-                store, res.getStorageKey(), res.getStorageKey(),
-                (int) currentCount, contentType, file.getSize()));
+        StorePhoto saved;
+        try {
+            // publicUrl is a legacy non-null column. Keep an opaque key there for
+            // compatibility; responses are always built from storageKey below.
+            saved = storePhotoRepository.save(StorePhoto.of(
+                    store, storageKey, thumbnailKey, storageKey,
+                    (int) currentCount, display.contentType(), display.size()));
+        } catch (RuntimeException e) {
+            objectStorage.delete(storageKey);
+            if (thumbnailKey != null) {
+                objectStorage.delete(thumbnailKey);
+            }
+            throw e;
+        }
 
         Map<String, Object> body = Map.of(
                 "id", saved.getId(),
                 "publicUrl", objectStorage.accessUrl(saved.getStorageKey()),
+                "thumbnailUrl", objectStorage.accessUrl(thumbnailKeyOf(saved)),
                 "displayOrder", saved.getDisplayOrder()
         );
         return UploadResult.success(body);
@@ -94,10 +131,27 @@ public class StorePhotoService {
         storePhotoRepository.findById(photoId).ifPresent(photo -> {
             if (photo.getStore() == null || !storeId.equals(photo.getStore().getId())) return;
             objectStorage.delete(photo.getStorageKey());
+            if (photo.getThumbnailKey() != null) {
+                objectStorage.delete(photo.getThumbnailKey());
+            }
             storePhotoRepository.delete(photo);
         });
     }
 
+    /** 썸네일이 없는 사진(도입 전 업로드·GIF)은 본 이미지로 대신한다. */
+    private static String thumbnailKeyOf(StorePhoto photo) {
+        return photo.getThumbnailKey() != null ? photo.getThumbnailKey() : photo.getStorageKey();
+    }
+
+    /** {@code stores/1/photos/abc.jpg} → {@code stores/1/photos/abc_thumb.jpg} */
+    private static String thumbnailKeyFor(String storageKey) {
+        int dot = storageKey.lastIndexOf('.');
+        int slash = storageKey.lastIndexOf('/');
+        return dot > slash
+                ? storageKey.substring(0, dot) + "_thumb" + storageKey.substring(dot)
+                : storageKey + "_thumb";
+    }
+
     /** 업로드 결과. {@code success=false} 면 {@code message} 가 실패 사유, 성공 시 {@code body} 가 응답 페이로드. */
     public record UploadResult(boolean success, String message, Map<String, Object> body) {
         static UploadResult failure(String message) {
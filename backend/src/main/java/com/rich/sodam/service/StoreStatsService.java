@@ -3,13 +3,12 @@ package com.rich.sodam.service;
 import com.rich.sodam.domain.Attendance;
 import com.rich.sodam.domain.AttendanceCorrectionRequest;
 import com.rich.sodam.domain.EmployeeStoreRelation;
-import com.rich.sodam.domain.Payroll;
 import com.rich.sodam.domain.Store;
 import com.rich.sodam.domain.User;
+import com.rich.sodam.domain.type.StoreDailyMetricType;
 import com.rich.sodam.repository.AttendanceCorrectionRequestRepository;
 import com.rich.sodam.repository.AttendanceRepository;
 import com.rich.sodam.repository.EmployeeStoreRelationRepository;
-import com.rich.sodam.repository.PayrollRepository;
 import com.rich.sodam.repository.StoreRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -27,6 +26,9 @@ import java.util.Map;
  *
  * <p>매장 소유/전결 권한 검증(BOLA 가드)은 컨트롤러 책임이며, 여기서는 통계 조회·조립만
  * 담당한다. WP-09 2단계: 컨트롤러에서 repository 직접 접근을 이관(behavior-preserving).
+ *
+ * <p>당월 누계는 매장 일자별 사전 집계({@link StoreDailyMetricService})를 합산한다 — 급여 이력이 쌓여도
+ * 조회 비용이 당월 일수만큼으로 고정된다. 오늘 현황은 하루치 출퇴근만 읽으므로 원본에서 바로 만든다.</p>
  */
 @Service
 @RequiredArgsConstructor
@@ -35,7 +37,7 @@ public class StoreStatsService {
     private final StoreRepository storeRepository;
     private final EmployeeStoreRelationRepository employeeStoreRelationRepository;
     private final AttendanceRepository attendanceRepository;
-    private final PayrollRepository payrollRepository;
+    private final StoreDailyMetricService storeDailyMetricService;
     private final AttendanceCorrectionRequestRepository attendanceCorrectionRequestRepository;
 
     @Transactional(readOnly = true)
@@ -72,7 +74,7 @@ public class StoreStatsService {
 
     private Map<String, Object> buildTodayStats(Store store) {
         List<EmployeeStoreRelation> active =
-                employeeStoreRelationRepository.findByStoreAndIsActiveTrue(store);
+                employeeStoreRelationRepository.findWithEmployeeByStoreAndIsActiveTrue(store);
 
         LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
         LocalDateTime endOfDay = startOfDay.plusDays(1);
@@ -116,20 +118,10 @@ public class StoreStatsService {
         LocalDate start = ym.atDay(1);
         LocalDate end = LocalDate.now();
 
-        // 전테넌트 findAll() 대신 매장 스코프 쿼리로 조회(성능·격리). 기간 필터는 동일 의미 유지.
-        List<Payroll> all = payrollRepository.findByStore_IdOrderByEndDateDesc(storeId).stream()
-                .filter(p -> p.getStartDate() != null && !p.getStartDate().isBefore(start)
-                        && !p.getStartDate().isAfter(end))
-                .toList();
-
-        long totalGross = all.stream().mapToLong(p -> p.getGrossWage() == null ? 0 : p.getGrossWage()).sum();
-        long totalNet = all.stream().mapToLong(p -> p.getNetWage() == null ? 0 : p.getNetWage()).sum();
-        double totalHours = all.stream().mapToDouble(p -> {
-            double r = p.getRegularHours() == null ? 0 : p.getRegularHours();
-            double o = p.getOvertimeHours() == null ? 0 : p.getOvertimeHours();
-            double n = p.getNightWorkHours() == null ? 0 : p.getNightWorkHours();
-            return r + o + n;
-        }).sum();
+        Map<StoreDailyMetricType, Double> sums = storeDailyMetricService.sum(storeId, start, end);
+        long totalGross = Math.round(sums.get(StoreDailyMetricType.PAYROLL_GROSS));
+        long totalNet = Math.round(sums.get(StoreDailyMetricType.PAYROLL_NET));
+        double totalHours = sums.get(StoreDailyMetricType.PAYROLL_HOURS);
 
         int daysLeft = ym.lengthOfMonth() - end.getDayOfMonth();
 
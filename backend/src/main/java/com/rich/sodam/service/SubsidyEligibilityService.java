@@ -36,7 +36,7 @@ public class SubsidyEligibilityService {
 
     @Transactional(readOnly = true)
     public SubsidyEligibilityResponse evaluate(Long storeId) {
-        List<EmployeeStoreRelation> relations = employeeStoreRelationRepository.findByStore_Id(storeId).stream()
+        List<EmployeeStoreRelation> relations = employeeStoreRelationRepository.findWithEmployeeByStore_Id(storeId).stream()
                 .filter(r -> !Boolean.FALSE.equals(r.getIsActive()))
                 .toList();
 
@@ -17,6 +17,7 @@ import com.rich.sodam.exception.EntityNotFoundException;
 import com.rich.sodam.repository.PayrollRepository;
 import com.rich.sodam.repository.StoreRepository;
 import com.rich.sodam.repository.TaxReportSendLogRepository;
+import com.rich.sodam.util.PdfFonts;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -74,12 +75,7 @@ public class TaxReportService {
             Document document = new Document(PageSize.A4.rotate());
             PdfWriter.getInstance(document, baos);
 
-            BaseFont bf;
-            try {
-                bf = BaseFont.createFont("HYSMyeongJoStd-Medium", "UniKS-UCS2-H", BaseFont.NOT_EMBEDDED);
-            } catch (Exception ignored) {
-                bf = BaseFont.createFont();
-            }
+            BaseFont bf = PdfFonts.korean();
             Font fontTitle = new Font(bf, 16, Font.BOLD);
             Font fontH = new Font(bf, 9, Font.BOLD);
             Font fontN = new Font(bf, 9);
@@ -18,4 +18,13 @@ public interface TokenStore {
 
     /** 특정 토큰 삭제 (로그아웃 등). */
     void deleteToken(String userId, String token);
+
+    /** issuedBeforeMillis 이전(포함)에 발급된 액세스 토큰을 거부하도록 기록 (TTL 초 ≥ 액세스 토큰 수명). */
+    void revokeAccessTokensIssuedBefore(Long userId, long issuedBeforeMillis, long ttlSeconds);
+
+    /** issuedBeforeMillis 이전(포함)에 발급된 액세스 토큰의 등급 클레임을 무효로 기록 (TTL 초 ≥ 액세스 토큰 수명). */
+    void markPrincipalChangedBefore(Long userId, long issuedBeforeMillis, long ttlSeconds);
+
+    /** 기록된 기준 시각. 없으면 {@link AccessTokenCutoff#NONE}. */
+    AccessTokenCutoff findAccessTokenCutoff(Long userId);
 }
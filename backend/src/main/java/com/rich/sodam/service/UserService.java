@@ -1,6 +1,7 @@
 package com.rich.sodam.service;
 
 import com.rich.sodam.exception.ConflictException;
+import com.rich.sodam.config.ImageUploadProperties;
 import com.rich.sodam.config.integration.ObjectStorage;
 import com.rich.sodam.domain.User;
 import com.rich.sodam.domain.type.SubscriptionStatus;
@@ -13,11 +14,13 @@ import com.rich.sodam.domain.type.TermsType;
 import com.rich.sodam.repository.SubscriptionRepository;
 import com.rich.sodam.repository.TermsAgreementRepository;
 import com.rich.sodam.repository.UserRepository;
+import com.rich.sodam.service.image.ImagePipeline;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -45,18 +48,30 @@ public class UserService {
     private final TermsAgreementRepository termsAgreementRepository;
     private final PasswordEncoder passwordEncoder;
     private final ObjectStorage objectStorage;
+    private final AccessTokenRevocationService accessTokenRevocationService;
+    private final ImagePipeline imagePipeline;
+    private final ImageUploadProperties imageProperties;
+    private final TransactionTemplate transactions;
     private final org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder bCryptPasswordEncoder = new org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder();
 
     public UserService(UserRepository userRepository,
                        SubscriptionRepository subscriptionRepository,
                        TermsAgreementRepository termsAgreementRepository,
                        PasswordEncoder passwordEncoder,
-                       ObjectStorage objectStorage) {
+                       ObjectStorage objectStorage,
+                       AccessTokenRevocationService accessTokenRevocationService,
+                       ImagePipeline imagePipeline,
+                       ImageUploadProperties imageProperties,
+                       TransactionTemplate transactions) {
         this.userRepository = userRepository;
         this.subscriptionRepository = subscriptionRepository;
         this.termsAgreementRepository = termsAgreementRepository;
         this.passwordEncoder = passwordEncoder;
         this.objectStorage = objectStorage;
+        this.accessTokenRevocationService = accessTokenRevocationService;
+        this.imagePipeline = imagePipeline;
+        this.imageProperties = imageProperties;
+        this.transactions = transactions;
     }
 
     /**
@@ -117,6 +132,8 @@ public class UserService {
             // 이미 NORMAL이 아니면 위에서 예외, 여기 도달 시 Personal 유지
         }
 
+        // 기존 액세스 토큰의 등급 클레임은 낡았다 — 재발급 전까지 DB 등급으로 인증된다.
+        accessTokenRevocationService.principalChangedAfterCommit(userId);
         return userRepository.save(user);
     }
 
@@ -233,6 +250,7 @@ public class UserService {
 
         // 사업주로 전환
         user.changeToMaster();
+        accessTokenRevocationService.principalChangedAfterCommit(userId);
         return userRepository.save(user);
     }
 
@@ -379,6 +397,8 @@ public class UserService {
         // password 도 무효화 (재로그인 방지)
         user.setPassword(bCryptPasswordEncoder.encode(java.util.UUID.randomUUID().toString()));
         userRepository.save(user);
+        // 이미 발급된 액세스 토큰도 거부 (무상태 인증은 이메일 변경만으로 막히지 않는다)
+        accessTokenRevocationService.revokeAfterCommit(userId);
         // 로그 (PII 마스킹 — 원문 이메일은 해시만)
         org.slf4j.LoggerFactory.getLogger(UserService.class)
                 .info("회원 탈퇴 처리 — userId={}, originalEmailHash={}", userId,
@@ -408,13 +428,16 @@ public class UserService {
     /**
      * 아바타(프로필 사진) 업로드 — 1인 1장 교체 방식(매장 사진처럼 여러 장 쌓지 않음).
      * 검증 규칙은 {@link com.rich.sodam.service.StorePhotoService#upload} 와 동일(빈 파일/5MB 초과/image 아님).
-     * 기존 avatarKey 가 있으면 새 파일 저장 전 ObjectStorage 에서 먼저 정리한다.
+     * 기존 avatarKey 가 있으면 새 키로 바꿔 저장한 뒤 ObjectStorage 에서 정리한다.
+     *
+     * <p>변환(입장 대기 최대 {@code queue-wait} 포함)과 객체 업로드는 트랜잭션으로 감싸지 않는다 —
+     * {@link com.rich.sodam.service.StorePhotoService#upload} 처럼 DB 커넥션은 사용자 조회와 아바타 키 갱신
+     * 순간에만 잡고, 갱신이 실패하면 올린 객체를 지운다.</p>
      *
      * @param userId 대상 사용자 ID (본인 리소스 — 컨트롤러에서 principal.getId() 를 그대로 전달)
      * @param file   업로드할 이미지 파일
      * @return 갱신된 사용자
      */
-    @Transactional
     @CacheEvict(value = "users", key = "#userId")
     public User uploadAvatar(Long userId, MultipartFile file) throws IOException {
         if (file == null || file.isEmpty()) {
@@ -428,21 +451,39 @@ public class UserService {
             throw new IllegalArgumentException("이미지 파일만 업로드할 수 있어요.");
         }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없어요."));
+        // 없는 사용자면 변환 전에 거절한다
+        String oldKey = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없어요."))
+                .getAvatarKey();
+
+        // 프로필 사진은 작게만 보이므로 avatarMaxEdge 한 장만 만들어 저장한다(GIF·디코딩 불가는 원본 그대로)
+        String storageKey;
+        try (ImagePipeline.Processed processed = imagePipeline.process(
+                file, MAX_AVATAR_SIZE_BYTES, imageProperties.getAvatarMaxEdge())) {
+            ImagePipeline.Rendition avatar = processed.rendition(0);
+            storageKey = objectStorage.put("users/" + userId + "/avatar", avatar.file(), avatar.contentType())
+                    .getStorageKey();
+        }
+
+        User saved;
+        try {
+            saved = transactions.execute(status -> {
+                User user = userRepository.findById(userId)
+                        .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없어요."));
+                // A live presigned URL is a temporary bearer credential and must not be
+                // stored in avatar_url. The object key is sufficient to generate it.
+                user.updateAvatar(null, storageKey);
+                return userRepository.save(user);
+            });
+        } catch (RuntimeException e) {
+            objectStorage.delete(storageKey);
+            throw e;
+        }
 
-        String oldKey = user.getAvatarKey();
         if (oldKey != null && !oldKey.isBlank()) {
             objectStorage.delete(oldKey);
         }
-
-        ObjectStorage.PutResult res = objectStorage.put(
-                "users/" + userId + "/avatar", file.getBytes(), contentType);
-
-        // A live presigned URL is a temporary bearer credential and must not be
-        // stored in avatar_url. The object key is sufficient to generate it.
-        user.updateAvatar(null, res.getStorageKey());
-        return userRepository.save(user);
+        return saved;
     }
 
     /** 저장된 key가 있으면 매 응답에 새 접근 URL을 만들고, 과거 레코드는 저장 URL로 호환한다. */
@@ -3,8 +3,10 @@ package com.rich.sodam.service;
 import com.rich.sodam.dto.response.WeeklyInsightsResponse;
 import com.rich.sodam.dto.response.WeeklyInsightsResponse.InsightItem;
 import com.rich.sodam.service.ai.ForbiddenPhrases;
+import com.rich.sodam.service.ai.LlmNarrationPipeline;
 import com.rich.sodam.service.ai.LlmText;
 import com.rich.sodam.service.ai.TextGenerationClient;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -25,6 +27,11 @@ public class WeeklyInsightsNarrator {
 
     private final Optional<TextGenerationClient> client;
 
+    @Autowired
+    public WeeklyInsightsNarrator(LlmNarrationPipeline pipeline) {
+        this(pipeline.client());
+    }
+
     public WeeklyInsightsNarrator(Optional<TextGenerationClient> client) {
         this.client = client;
     }
@@ -0,0 +1,223 @@
+package com.rich.sodam.service.ai;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rich.sodam.config.LlmNarrationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * LLM 문구 생성 공통 파이프라인 — 응답 캐시, 동일 프롬프트 합치기, 여러 항목 병렬 생성.
+ *
+ * <ul>
+ *   <li><b>캐시</b>: 프롬프트 SHA-256 을 키로 응답을 보관한다. 프롬프트는 규칙 엔진이 만든 템플릿 문구로
+ *       만들어지므로 같은 문구는 모델을 다시 부르지 않는다. 검증은 호출부가 매번 하므로 캐시에는 원 응답을 둔다.</li>
+ *   <li><b>합치기</b>: 같은 프롬프트가 진행 중이면 새로 보내지 않고 그 응답을 함께 기다린다.</li>
+ *   <li><b>병렬 생성</b>: {@link #generateAll}은 항목들을 동시에 보내고 전체 대기 한도 안에 못 받은 항목은
+ *       {@code fallback}으로 채운다. 이미 모델을 부르고 있던 항목은 끝까지 돌아 응답이 캐시에 남아 다음 조회에
+ *       쓰이고, 아직 대기열에 있던 항목은 취소해 모델을 부르지 않는다.</li>
+ *   <li><b>대기열 상한</b>: 실행기는 {@code parallelism}개 스레드와 {@code queue-capacity} 크기 대기열만 둔다.
+ *       가득 차면 그 항목은 바로 {@code fallback}이다 — 모델이 느려진 동안 요청이 대기열에 무한히 쌓이지 않는다.</li>
+ * </ul>
+ *
+ * <p>실패 안전은 {@link LlmText}와 같다 — 어떤 실패도 {@code fallback}으로 흡수하고 예외를 던지지 않는다.</p>
+ */
+@Slf4j
+@Component
+public class LlmNarrationPipeline {
+
+    /** {@link #generateAll}의 한 항목. 프롬프트는 클라이언트가 준비된 경우에만 평가된다. */
+    public record Request(Supplier<String> prompt, Predicate<String> validator, String fallback) {
+    }
+
+    private final Optional<TextGenerationClient> client;
+    private final LlmNarrationProperties properties;
+    private final Cache<String, String> responses;
+    private final ConcurrentHashMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor executor;
+
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+    private final Counter coalesced;
+    private final Counter deadlineMissed;
+    private final Counter rejected;
+
+    public LlmNarrationPipeline(Optional<TextGenerationClient> client, LlmNarrationProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.client = client;
+        this.properties = properties;
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheSize())
+                .expireAfterWrite(properties.getCacheTtl())
+                .build();
+        AtomicInteger seq = new AtomicInteger();
+        int threads = Math.max(1, properties.getParallelism());
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity())), r -> {
+            Thread t = new Thread(r, "llm-narration-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }, new ThreadPoolExecutor.AbortPolicy());
+        this.cacheHits = cacheCounter(meterRegistry, "hit");
+        this.cacheMisses = cacheCounter(meterRegistry, "miss");
+        this.coalesced = cacheCounter(meterRegistry, "coalesced");
+        this.deadlineMissed = Counter.builder("sodam.ai.narration.deadline_missed")
+                .description("대기 한도를 넘겨 템플릿 문구로 나간 항목 수").register(meterRegistry);
+        this.rejected = Counter.builder("sodam.ai.narration.rejected")
+                .description("실행기 대기열이 가득 차 바로 템플릿 문구로 나간 항목 수").register(meterRegistry);
+    }
+
+    /**
+     * provider 클라이언트에 캐시·합치기를 씌운 것. provider 가 없으면 비어 있다.
+     * {@link LlmText#tryGenerate}에 그대로 넘긴다.
+     */
+    public Optional<TextGenerationClient> client() {
+        return client.map(this::cached);
+    }
+
+    /** 임의 클라이언트에 이 파이프라인의 캐시·합치기를 씌운다. */
+    public TextGenerationClient cached(TextGenerationClient raw) {
+        return new TextGenerationClient() {
+            @Override
+            public boolean isReady() {
+                return raw.isReady();
+            }
+
+            @Override
+            public String complete(String prompt) {
+                return completeShared(raw, prompt);
+            }
+        };
+    }
+
+    /**
+     * 여러 항목을 병렬로 생성한다. 결과는 요청 순서대로이며, 전체 대기 한도
+     * ({@code sodam.ai.narration.deadline}) 안에 끝나지 않거나 실패·검증 탈락했거나 대기열이 가득 차 받지 못한
+     * 항목은 {@code fallback}이다. 한도를 넘긴 항목 중 아직 시작하지 않은 것은 대기열에서 빼 모델을 부르지 않는다.
+     */
+    public List<String> generateAll(TextGenerationClient raw, List<Request> requests, String logTag) {
+        List<String> results = new ArrayList<>(requests.size());
+        if (raw == null || !raw.isReady()) {
+            requests.forEach(r -> results.add(r.fallback()));
+            return results;
+        }
+        Optional<TextGenerationClient> shared = Optional.of(cached(raw));
+        List<CompletableFuture<String>> futures = new ArrayList<>(requests.size());
+        List<Runnable> tasks = new ArrayList<>(requests.size());
+        for (Request request : requests) {
+            CompletableFuture<String> future = new CompletableFuture<>();
+            Runnable task = () -> {
+                // 한도를 넘겨 취소된 뒤 늦게 꺼내진 항목은 모델을 부르지 않는다
+                if (future.isDone()) {
+                    return;
+                }
+                try {
+                    future.complete(LlmText.tryGenerate(shared, request.prompt(),
+                            request.validator(), request.fallback(), logTag));
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            };
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                rejected.increment();
+                future.complete(request.fallback());
+            }
+            futures.add(future);
+            tasks.add(task);
+        }
+        long deadline = System.nanoTime() + properties.getDeadline().toNanos();
+        for (int i = 0; i < requests.size(); i++) {
+            String fallback = requests.get(i).fallback();
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                results.add(futures.get(i).get(remaining, TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                deadlineMissed.increment();
+                // 실행 중인 항목은 그대로 두어 응답이 캐시에 남게 하고, 대기 중인 항목만 대기열에서 뺀다
+                futures.get(i).cancel(false);
+                executor.remove(tasks.get(i));
+                results.add(fallback);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                results.add(fallback);
+            } catch (Exception e) {
+                log.debug("[{}] LLM 병렬 생성 실패 — 폴백 사용. cause={}", logTag, e.toString());
+                results.add(fallback);
+            }
+        }
+        return results;
+    }
+
+    private String completeShared(TextGenerationClient raw, String prompt) {
+        String key = sha256(prompt);
+        String cachedResponse = responses.getIfPresent(key);
+        if (cachedResponse != null) {
+            cacheHits.increment();
+            return cachedResponse;
+        }
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            coalesced.increment();
+            return running.join();
+        }
+        cacheMisses.increment();
+        try {
+            String response = raw.complete(prompt);
+            if (response != null) {
+                responses.put(key, response);
+            }
+            mine.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static String sha256(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Counter cacheCounter(MeterRegistry registry, String result) {
+        return Counter.builder("sodam.ai.narration.cache")
+                .description("LLM 응답 캐시 조회 결과(hit/miss/coalesced)")
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -0,0 +1,137 @@
+package com.rich.sodam.service.image;
+
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * JPEG EXIF Orientation 태그(0x0112) 읽기와 적용.
+ *
+ * <p>휴대폰 카메라는 센서 방향 그대로 픽셀을 저장하고 "보여줄 때 돌려라"를 EXIF 에만 적는다. ImageIO 는 이 태그를
+ * 무시하고, 재인코딩한 축소본에는 EXIF 가 남지 않으므로 세로로 찍은 사진이 옆으로 누워 올라간다. 그래서 디코딩한
+ * 픽셀에 회전·뒤집기를 직접 적용해 방향을 굳힌다.</p>
+ *
+ * <p>태그를 읽을 때 메타데이터 전체를 디코딩하지 않는다 — 파일 앞쪽 마커만 훑어 APP1(Exif) 세그먼트의 IFD0 에서
+ * 값 하나를 꺼낸다. 태그가 없거나 깨졌으면 {@link #NORMAL}(그대로)이다.</p>
+ */
+final class ExifOrientation {
+
+    static final int NORMAL = 1;
+
+    private static final int SOI = 0xFFD8;
+    private static final int APP1 = 0xFFE1;
+    private static final int SOS = 0xFFDA;
+    private static final int EOI = 0xFFD9;
+    private static final int ORIENTATION_TAG = 0x0112;
+    private static final byte[] EXIF_HEADER = "Exif\0\0".getBytes(StandardCharsets.ISO_8859_1);
+
+    private ExifOrientation() {
+    }
+
+    /** JPEG 파일의 Orientation 값(1~8). JPEG 가 아니거나 태그가 없으면 {@link #NORMAL}. */
+    static int read(Path file) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readUnsignedShort() != SOI) {
+                return NORMAL;
+            }
+            while (true) {
+                int marker = in.readUnsignedShort();
+                if ((marker & 0xFF00) != 0xFF00 || marker == SOS || marker == EOI) {
+                    return NORMAL;
+                }
+                int length = in.readUnsignedShort() - 2;
+                if (length < 0) {
+                    return NORMAL;
+                }
+                if (marker == APP1) {
+                    byte[] segment = in.readNBytes(length);
+                    if (segment.length == length && startsWithExifHeader(segment)) {
+                        return fromTiff(segment);
+                    }
+                    // 같은 APP1 마커를 쓰는 XMP 등은 건너뛴다
+                    continue;
+                }
+                in.skipNBytes(length);
+            }
+        } catch (IOException e) {
+            return NORMAL;
+        }
+    }
+
+    /** Orientation 에 맞게 돌리거나 뒤집은 새 이미지. {@link #NORMAL}이나 알 수 없는 값이면 그대로 반환한다. */
+    static BufferedImage apply(BufferedImage source, int orientation) {
+        int w = source.getWidth();
+        int h = source.getHeight();
+        // AffineTransform(m00, m10, m01, m11, m02, m12): x' = m00·x + m01·y + m02, y' = m10·x + m11·y + m12
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);   // 좌우 뒤집기
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);  // 180° 회전
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);   // 상하 뒤집기
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);    // 주대각선 기준 뒤집기
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);   // 시계 방향 90°
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);  // 부대각선 기준 뒤집기
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, w);   // 반시계 방향 90°
+            default -> null;
+        };
+        if (transform == null) {
+            return source;
+        }
+        boolean swap = orientation >= 5;
+        BufferedImage target = new BufferedImage(swap ? h : w, swap ? w : h,
+                source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.drawImage(source, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private static boolean startsWithExifHeader(byte[] segment) {
+        if (segment.length < EXIF_HEADER.length) {
+            return false;
+        }
+        for (int i = 0; i < EXIF_HEADER.length; i++) {
+            if (segment[i] != EXIF_HEADER[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Exif 헤더 뒤 TIFF 구조(바이트 순서 II/MM → IFD0 오프셋 → 12바이트 항목들)에서 Orientation 을 찾는다. */
+    private static int fromTiff(byte[] segment) {
+        try {
+            ByteBuffer tiff = ByteBuffer.wrap(segment, EXIF_HEADER.length, segment.length - EXIF_HEADER.length)
+                    .slice();
+            char order = (char) tiff.get(0);
+            if (order == 'I') {
+                tiff.order(ByteOrder.LITTLE_ENDIAN);
+            } else if (order != 'M') {
+                return NORMAL;
+            }
+            int ifd = tiff.getInt(4);
+            int entries = Short.toUnsignedInt(tiff.getShort(ifd));
+            for (int i = 0; i < entries; i++) {
+                int entry = ifd + 2 + i * 12;
+                if (Short.toUnsignedInt(tiff.getShort(entry)) == ORIENTATION_TAG) {
+                    int value = Short.toUnsignedInt(tiff.getShort(entry + 8));
+                    return value >= 1 && value <= 8 ? value : NORMAL;
+                }
+            }
+            return NORMAL;
+        } catch (IndexOutOfBoundsException | BufferUnderflowException e) {
+            return NORMAL;
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package com.rich.sodam.service.image;
+
+import com.rich.sodam.config.ImageUploadProperties;
+import com.rich.sodam.exception.ImageProcessingBusyException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.IIOException;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 이미지 변환 파이프라인 — 받기(스트리밍) → 축소본 생성(전용 스레드) → 호출측 저장.
+ *
+ * <ul>
+ *   <li>업로드는 바이트 배열로 올리지 않고 크기 상한을 세며 임시 파일로 흘려 받는다.</li>
+ *   <li>디코딩 전에 헤더로 해상도를 확인하고, 요청된 가장 큰 축소본에 맞춰 서브샘플링해 읽는다 — 12MP 폰
+ *       사진도 원본 크기 {@code BufferedImage}를 만들지 않는다.</li>
+ *   <li>변환은 {@link ImageUploadProperties#getTranscodeThreads()}개의 전용 스레드에서만 돌고, 대기 자리를
+ *       얻지 못한 요청은 {@link ImageProcessingBusyException}으로 거절된다.</li>
+ *   <li>JPEG 의 EXIF Orientation 은 축소 전에 픽셀에 적용한다 — 재인코딩한 축소본에는 EXIF 가 남지 않아, 그대로
+ *       두면 세로로 찍은 폰 사진이 옆으로 누워 보인다({@link ExifOrientation}).</li>
+ *   <li>GIF(애니메이션 보존)와 읽을 수 없는 형식은 변환하지 않고 원본을 그대로 넘긴다(기존 동작).</li>
+ * </ul>
+ *
+ * <p>결과 파일은 모두 임시 파일이다 — 호출측은 {@link Processed}를 try-with-resources 로 닫아 지운다.</p>
+ */
+@Slf4j
+@Component
+public class ImagePipeline {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ImageUploadProperties properties;
+    private final ExecutorService executor;
+    private final Semaphore admission;
+
+    public ImagePipeline(ImageUploadProperties properties) {
+        this.properties = properties;
+        int threads = Math.max(1, properties.getTranscodeThreads());
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "image-transcode-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.admission = new Semaphore(threads + Math.max(0, properties.getQueueCapacity()));
+    }
+
+    /**
+     * 업로드를 임시 파일로 받아 {@code maxEdges} 순서대로 축소본을 만든다. 원본이 더 작으면 키우지 않고 그 크기로
+     * 재인코딩한다.
+     *
+     * @param maxBytes 받기 상한 — 넘으면 받던 중에 끊고 {@link IllegalArgumentException}
+     * @throws IllegalArgumentException 크기·해상도 상한 초과
+     * @throws ImageProcessingBusyException 변환 대기열이 가득 참
+     */
+    public Processed process(MultipartFile file, long maxBytes, int... maxEdges) throws IOException {
+        if (maxEdges.length == 0) {
+            throw new IllegalArgumentException("축소본 크기를 하나 이상 지정해야 합니다.");
+        }
+        Path source = stage(file, maxBytes);
+        try {
+            return new Processed(source, transcode(source, file.getContentType(), maxEdges));
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(source);
+            throw e;
+        }
+    }
+
+    private Path stage(MultipartFile file, long maxBytes) throws IOException {
+        Path staged = Files.createTempFile(tempDirectory(), "upload-", ".tmp");
+        try (InputStream in = file.getInputStream(); OutputStream out = Files.newOutputStream(staged)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long total = 0;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                total += read;
+                if (total > maxBytes) {
+                    throw new IllegalArgumentException(
+                            "파일 크기가 허용된 최대 크기(" + (maxBytes / 1024 / 1024) + "MB)를 초과했습니다.");
+                }
+                out.write(buffer, 0, read);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(staged);
+            throw e;
+        }
+        return staged;
+    }
+
+    private List<Rendition> transcode(Path source, String contentType, int[] maxEdges) throws IOException {
+        try {
+            if (!admission.tryAcquire(properties.getQueueWait().toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new ImageProcessingBusyException();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("이미지 처리 대기 중 중단됐습니다.", e);
+        }
+        Future<List<Rendition>> future;
+        try {
+            future = executor.submit(() -> {
+                try {
+                    return render(source, contentType, maxEdges);
+                } finally {
+                    admission.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            admission.release();
+            throw e;
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IOException("이미지 처리 대기 중 중단됐습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IOException("이미지 처리에 실패했습니다.", cause);
+        }
+    }
+
+    private List<Rendition> render(Path source, String contentType, int[] maxEdges) throws IOException {
+        BufferedImage decoded;
+        int orientation = ExifOrientation.NORMAL;
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                return passthrough(source, contentType, maxEdges.length);
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                if ("gif".equalsIgnoreCase(reader.getFormatName())) {
+                    return passthrough(source, contentType, maxEdges.length);
+                }
+                if ("jpeg".equalsIgnoreCase(reader.getFormatName())) {
+                    orientation = ExifOrientation.read(source);
+                }
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > properties.getMaxPixels()) {
+                    throw new IllegalArgumentException("이미지 해상도가 너무 커요. 더 작은 사진을 올려 주세요.");
+                }
+                int largest = 0;
+                for (int edge : maxEdges) {
+                    largest = Math.max(largest, edge);
+                }
+                int step = Math.max(1, Math.max(width, height) / largest);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                decoded = reader.read(0, param);
+            } catch (IIOException e) {
+                // CMYK JPEG 등 ImageIO 가 디코딩하지 못하는 변종 — 변환 없이 원본을 쓴다
+                log.debug("이미지 디코딩 불가, 원본 사용: {}", e.getMessage());
+                return passthrough(source, contentType, maxEdges.length);
+            } finally {
+                reader.dispose();
+            }
+        }
+
+        decoded = ExifOrientation.apply(decoded, orientation);
+        boolean alpha = decoded.getColorModel().hasAlpha();
+        List<Rendition> renditions = new ArrayList<>(maxEdges.length);
+        try {
+            for (int maxEdge : maxEdges) {
+                renditions.add(encode(scale(decoded, maxEdge, alpha), alpha));
+            }
+        } catch (IOException | RuntimeException e) {
+            for (Rendition rendition : renditions) {
+                Files.deleteIfExists(rendition.file());
+            }
+            throw e;
+        }
+        return renditions;
+    }
+
+    /**
+     * 긴 변이 {@code maxEdge} 이하가 되도록 줄인다. 한 번에 크게 줄이면 계단 현상이 생겨 절반씩 나눠 줄이고,
+     * 결과는 항상 JPEG/PNG 로 바로 쓸 수 있는 RGB(A) 타입이다.
+     */
+    private static BufferedImage scale(BufferedImage source, int maxEdge, boolean alpha) {
+        int longEdge = Math.max(source.getWidth(), source.getHeight());
+        double ratio = longEdge <= maxEdge ? 1.0 : (double) maxEdge / longEdge;
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height, alpha);
+        } while (width > targetWidth || height > targetHeight);
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height, boolean alpha) {
+        BufferedImage target = new BufferedImage(width, height,
+                alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    /** 투명도가 있으면 PNG, 없으면 품질을 지정한 JPEG 로 임시 파일에 바로 쓴다. */
+    private Rendition encode(BufferedImage image, boolean alpha) throws IOException {
+        String format = alpha ? "png" : "jpeg";
+        String extension = alpha ? ".png" : ".jpg";
+        Path target = Files.createTempFile(tempDirectory(), "rendition-", extension);
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(format).next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (!alpha) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(properties.getJpegQuality());
+            }
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(target);
+            throw e;
+        } finally {
+            writer.dispose();
+        }
+        return new Rendition(target, alpha ? "image/png" : "image/jpeg", extension,
+                image.getWidth(), image.getHeight(), Files.size(target));
+    }
+
+    private static List<Rendition> passthrough(Path source, String contentType, int count) throws IOException {
+        Rendition original = new Rendition(source, contentType, null, 0, 0, Files.size(source));
+        List<Rendition> renditions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            renditions.add(original);
+        }
+        return renditions;
+    }
+
+    private Path tempDirectory() throws IOException {
+        String configured = properties.getTempDirectory();
+        if (configured == null || configured.isBlank()) {
+            return Path.of(System.getProperty("java.io.tmpdir"));
+        }
+        return Files.createDirectories(Path.of(configured));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 변환 결과 한 장. 원본을 그대로 넘긴 경우 {@code extension}은 null 이고 가로·세로는 0 이다.
+     */
+    public record Rendition(Path file, String contentType, String extension, int width, int height, long size) {
+
+        public boolean transcoded() {
+            return extension != null;
+        }
+    }
+
+    /** 받은 원본과 축소본들. 닫으면 임시 파일을 모두 지운다. */
+    public record Processed(Path source, List<Rendition> renditions) implements AutoCloseable {
+
+        public Rendition rendition(int index) {
+            return renditions.get(index);
+        }
+
+        @Override
+        public void close() {
+            Set<Path> files = new LinkedHashSet<>();
+            files.add(source);
+            renditions.forEach(rendition -> files.add(rendition.file()));
+            for (Path file : files) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    log.warn("업로드 임시 파일 삭제 실패 path={} reason={}", file, e.getMessage());
+                }
+            }
+        }
+    }
+}
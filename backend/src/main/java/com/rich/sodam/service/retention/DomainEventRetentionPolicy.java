@@ -3,6 +3,7 @@ package com.rich.sodam.service.retention;
 import com.rich.sodam.domain.DomainEvent;
 import com.rich.sodam.repository.DomainEventRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
@@ -32,8 +33,9 @@ public class DomainEventRetentionPolicy implements RetentionPolicy {
     }
 
     @Override
-    public List<ExpiredEntity> findExpired(LocalDateTime cutoff) {
-        return domainEventRepository.findByOccurredAtLessThan(cutoff).stream()
+    public List<ExpiredEntity> findExpired(LocalDateTime cutoff, long afterId, int limit) {
+        return domainEventRepository.findUnscheduledExpired(
+                        tableName(), cutoff, afterId, PageRequest.of(0, limit)).stream()
                 .map(e -> new ExpiredEntity(e.getId(), e.getOccurredAt()))
                 .toList();
     }
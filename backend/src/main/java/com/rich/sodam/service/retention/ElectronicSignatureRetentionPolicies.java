@@ -4,6 +4,7 @@ import com.rich.sodam.domain.type.SignatureEnvelopeStatus;
 import com.rich.sodam.domain.type.SignatureSubjectType;
 import com.rich.sodam.repository.ElectronicSignatureEnvelopeRepository;
 import com.rich.sodam.service.ElectronicSignatureEvidencePurgeService;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
@@ -28,9 +29,9 @@ abstract class AbstractElectronicSignatureRetentionPolicy implements RetentionPo
     @Override public String tableName() { return "electronic_signature_" + subjectType.name().toLowerCase(); }
     @Override public Period retentionPeriod() { return period; }
     @Override public boolean noticeRequired() { return true; }
-    @Override public List<ExpiredEntity> findExpired(LocalDateTime cutoff) {
-        return repository.findBySubjectTypeAndStatusAndCompletedAtLessThanEqual(
-                        subjectType, SignatureEnvelopeStatus.VERIFIED, cutoff).stream()
+    @Override public List<ExpiredEntity> findExpired(LocalDateTime cutoff, long afterId, int limit) {
+        return repository.findUnscheduledExpired(
+                        tableName(), subjectType, SignatureEnvelopeStatus.VERIFIED, cutoff, afterId, PageRequest.of(0, limit)).stream()
                 .map(envelope -> new ExpiredEntity(envelope.getId(), envelope.getCompletedAt())).toList();
     }
     @Override public void purge(Long entityId) { purgeService.purge(entityId, subjectType); }
@@ -3,15 +3,14 @@ package com.rich.sodam.service.retention;
 import com.rich.sodam.domain.LaborContract;
 import com.rich.sodam.repository.AttendanceRepository;
 import com.rich.sodam.repository.LaborContractRepository;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.time.Period;
 import java.util.List;
 import java.util.Optional;
-import java.util.function.BiFunction;
 
 /**
  * 근로관계 기록(출퇴근·근로계약)의 3년 보존정책 — 260807 마스터 실행계획서 WP-J.
@@ -40,8 +39,9 @@ import java.util.function.BiFunction;
  *   <li><b>{@code noticeRequired() = true}</b> — 데이터 주체(근로자)가 명확하므로 30/15/1일 전 사전 고지 대상이다.
  *       임금채권·퇴직급여 청구권 소멸시효가 보존기간과 똑같이 3년이라, 시효 만료 직전에 증거가 먼저
  *       사라지지 않도록 고지와 다운로드 제공이 특히 중요하다(법무·노무 공통 권고).</li>
- *   <li><b>배치 상한</b> — 출퇴근은 로우 수가 매우 많아(부하테스트 기준 매장 1,000·직원 2만·24개월)
- *       한 번의 스캔이 전부를 훑지 않도록 {@code scan-batch-size}로 제한한다. 남은 대상은 다음 날 스캔이 이어받는다.</li>
+ *   <li><b>키셋 페이지</b> — 출퇴근은 로우 수가 매우 많아(부하테스트 기준 매장 1,000·직원 2만·24개월)
+ *       만료 대상을 한 번에 올리지 않고 {@link RetentionPurgeService}가 청크 크기만큼 ID 커서로 이어 읽는다.
+ *       이미 파기 스케줄에 오른 기록은 조회에서 {@code NOT EXISTS}로 빠지므로 매일 밤 새로 만료된 기록만 읽는다.</li>
  * </ul>
  */
 abstract class AbstractLaborRecordRetentionPolicy implements RetentionPolicy {
@@ -49,12 +49,9 @@ abstract class AbstractLaborRecordRetentionPolicy implements RetentionPolicy {
     /** 근로기준법 §42 — 계약 서류 3년 보존. */
     private static final Period LABOR_RECORD_RETENTION = Period.ofYears(3);
 
-    private final int scanBatchSize;
-    private final BiFunction<LocalDateTime, PageRequest, List<Object[]>> finder;
+    private final ExpiredRowFinder finder;
 
-    AbstractLaborRecordRetentionPolicy(int scanBatchSize,
-                                       BiFunction<LocalDateTime, PageRequest, List<Object[]>> finder) {
-        this.scanBatchSize = scanBatchSize;
+    AbstractLaborRecordRetentionPolicy(ExpiredRowFinder finder) {
         this.finder = finder;
     }
 
@@ -70,11 +67,17 @@ abstract class AbstractLaborRecordRetentionPolicy implements RetentionPolicy {
     }
 
     @Override
-    public List<ExpiredEntity> findExpired(LocalDateTime cutoff) {
-        return finder.apply(cutoff, PageRequest.of(0, scanBatchSize)).stream()
+    public List<ExpiredEntity> findExpired(LocalDateTime cutoff, long afterId, int limit) {
+        return finder.find(tableName(), cutoff, afterId, PageRequest.of(0, limit)).stream()
                 .map(row -> new ExpiredEntity((Long) row[0], (LocalDateTime) row[1]))
                 .toList();
     }
+
+    /** {@code findExpiredAfterEmploymentEnded} 레포지토리 조회 — {@code [id, deactivatedAt]} 행 목록. */
+    @FunctionalInterface
+    interface ExpiredRowFinder {
+        List<Object[]> find(String tableName, LocalDateTime cutoff, Long afterId, Pageable pageable);
+    }
 }
 
 /**
@@ -85,9 +88,8 @@ class AttendanceRetentionPolicy extends AbstractLaborRecordRetentionPolicy {
 
     private final AttendanceRepository attendanceRepository;
 
-    AttendanceRetentionPolicy(AttendanceRepository attendanceRepository,
-                              @Value("${sodam.retention.labor.scan-batch-size:1000}") int scanBatchSize) {
-        super(scanBatchSize, attendanceRepository::findExpiredAfterEmploymentEnded);
+    AttendanceRetentionPolicy(AttendanceRepository attendanceRepository) {
+        super(attendanceRepository::findExpiredAfterEmploymentEnded);
         this.attendanceRepository = attendanceRepository;
     }
 
@@ -122,9 +124,8 @@ class LaborContractRetentionPolicy extends AbstractLaborRecordRetentionPolicy {
 
     private final LaborContractRepository laborContractRepository;
 
-    LaborContractRetentionPolicy(LaborContractRepository laborContractRepository,
-                                 @Value("${sodam.retention.labor.scan-batch-size:1000}") int scanBatchSize) {
-        super(scanBatchSize, laborContractRepository::findExpiredAfterEmploymentEnded);
+    LaborContractRetentionPolicy(LaborContractRepository laborContractRepository) {
+        super(laborContractRepository::findExpiredAfterEmploymentEnded);
         this.laborContractRepository = laborContractRepository;
     }
 
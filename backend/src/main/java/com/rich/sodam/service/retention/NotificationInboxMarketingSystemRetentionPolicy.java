@@ -3,6 +3,7 @@ package com.rich.sodam.service.retention;
 import com.rich.sodam.domain.NotificationInbox;
 import com.rich.sodam.repository.NotificationInboxRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
@@ -36,8 +37,9 @@ public class NotificationInboxMarketingSystemRetentionPolicy implements Retentio
     }
 
     @Override
-    public List<ExpiredEntity> findExpired(LocalDateTime cutoff) {
-        return notificationInboxRepository.findByCategoryInAndCreatedAtLessThan(CATEGORIES, cutoff).stream()
+    public List<ExpiredEntity> findExpired(LocalDateTime cutoff, long afterId, int limit) {
+        return notificationInboxRepository.findUnscheduledExpired(
+                        tableName(), CATEGORIES, cutoff, afterId, PageRequest.of(0, limit)).stream()
                 .map(n -> new ExpiredEntity(n.getId(), n.getCreatedAt()))
                 .toList();
     }
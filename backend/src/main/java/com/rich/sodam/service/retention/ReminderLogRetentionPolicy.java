@@ -3,6 +3,7 @@ package com.rich.sodam.service.retention;
 import com.rich.sodam.domain.ReminderLog;
 import com.rich.sodam.repository.ReminderLogRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
@@ -31,8 +32,9 @@ public class ReminderLogRetentionPolicy implements RetentionPolicy {
     }
 
     @Override
-    public List<ExpiredEntity> findExpired(LocalDateTime cutoff) {
-        return reminderLogRepository.findByCreatedAtLessThan(cutoff).stream()
+    public List<ExpiredEntity> findExpired(LocalDateTime cutoff, long afterId, int limit) {
+        return reminderLogRepository.findUnscheduledExpired(
+                        tableName(), cutoff, afterId, PageRequest.of(0, limit)).stream()
                 .map(r -> new ExpiredEntity(r.getId(), r.getCreatedAt()))
                 .toList();
     }
@@ -7,6 +7,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 /**
  * 보존기간 만료 스캔·(향후) 고지·실제 파기를 매일 실행하는 배치
  * (DB_OPTIMIZATION_PLAN.md §2.2(c), Phase 6).
@@ -22,15 +24,23 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class RetentionNoticeScheduler {
 
+    /** 락 연장 시에도 같은 값을 쓴다({@link RetentionPurgeService}). */
+    static final Duration LOCK_AT_LEAST_FOR = Duration.ofMinutes(1);
+
     private final RetentionPurgeService retentionPurgeService;
     private final RetentionNoticeService retentionNoticeService;
 
     @Value("${sodam.retention.purge.execute-enabled:false}")
     private boolean purgeExecutionEnabled;
 
-    /** 매일 03:30 KST — UserDataRetentionScheduler(03:10)와 겹치지 않게 20분 뒤. */
+    /**
+     * 매일 03:30 KST — UserDataRetentionScheduler(03:10)와 겹치지 않게 20분 뒤.
+     * {@code lockAtMostFor}는 청크 하나 + 고지 발송을 덮는 최초 값이고, 적체분이 길어지면
+     * {@link RetentionPurgeService}가 청크마다 같은 길이로 락을 연장한다.
+     */
     @Scheduled(cron = "0 30 3 * * *", zone = "Asia/Seoul")
-    @SchedulerLock(name = "retentionNotice", lockAtMostFor = "PT20M", lockAtLeastFor = "PT1M")
+    @SchedulerLock(name = "retentionNotice",
+            lockAtMostFor = "${sodam.retention.purge.lock-at-most-for:PT20M}", lockAtLeastFor = "PT1M")
     public void run() {
         try {
             retentionPurgeService.scanAndSchedule();
@@ -39,10 +39,15 @@ public interface RetentionPolicy {
     }
 
     /**
-     * 기산 시각이 {@code cutoff}(=now - retentionPeriod) 이전이라 이미 만료된 대상을 찾는다.
-     * 아직 파기 스케줄에 없는 것만 걸러내는 멱등 처리는 {@link RetentionPurgeService}가 담당한다.
+     * 기산 시각이 {@code cutoff}(=now - retentionPeriod) 이전이라 이미 만료된 대상 중 ID가 {@code afterId}보다
+     * 큰 것을 <b>ID 오름차순으로 최대 {@code limit}건</b> 찾는다. {@link RetentionPurgeService}가 마지막 ID를
+     * 커서로 넘기며 페이지를 이어 읽으므로, 적체분이 수십만 건이어도 한 번에 메모리에 올리지 않는다.
+     *
+     * <p>이미 {@code retention_purge_schedule}에 이 정책의 {@link #tableName()}으로 오른 대상은 조회 단계에서
+     * {@code NOT EXISTS}로 빼야 한다. 실제 파기는 기본 비활성이라 만료 대상은 계속 쌓이는데, 등록된 것까지
+     * 매번 읽어 애플리케이션에서 거르면 매일 밤 스캔이 누적분 전체를 다시 훑는다.</p>
      */
-    List<ExpiredEntity> findExpired(LocalDateTime cutoff);
+    List<ExpiredEntity> findExpired(LocalDateTime cutoff, long afterId, int limit);
 
     /** 실제 파기 실행(삭제 또는 PII 마스킹) — 되돌릴 수 없으므로 호출 전 반드시 유예·고지 확인 완료 상태여야 한다. */
     void purge(Long entityId);
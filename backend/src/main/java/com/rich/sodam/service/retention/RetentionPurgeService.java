@@ -1,17 +1,28 @@
 package com.rich.sodam.service.retention;
 
+import com.rich.sodam.config.RetentionPurgeProperties;
 import com.rich.sodam.domain.RetentionPurgeSchedule;
 import com.rich.sodam.repository.RetentionPurgeScheduleRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.core.LockExtender;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 보존기간 만료 로우를 찾아 파기 대기로 등록하고, 유예기간이 지나면 실제 파기하는 배치
@@ -32,6 +43,20 @@ import java.util.stream.Collectors;
  * <p><b>scan/schedule은 되돌릴 수 있는 작업</b>(스케줄 등록만, 원본 데이터 불변)이라 자동 배치로 안전하게
  * 돌려도 된다. <b>실제 파기(purge)는 되돌릴 수 없다</b> — {@link RetentionNoticeScheduler}가 별도
  * 활성화 플래그 없이는 {@link #executePurge()}를 호출하지 않도록 게이팅한다.</p>
+ *
+ * <p>등록·파기 모두 {@link RetentionPurgeProperties#getChunkSize()}건씩 나눠 청크마다 별도 트랜잭션으로
+ * 처리한다. 예전에는 만료 대상마다 스케줄 존재 여부를 한 번씩 조회하고, 파기는 도래분 전체를 트랜잭션
+ * 하나에서 돌려 적체분이 많으면 커넥션·락을 오래 쥐었다. 이미 등록된 대상은 정책 조회가
+ * {@code retention_purge_schedule}과의 {@code NOT EXISTS}로 DB 에서 빼고 돌려주므로, 등록은 받은 청크를 그대로
+ * JDBC 배치 INSERT 한다. 만료 대상 조회({@link RetentionPolicy#findExpired})와 파기 모두 ID 키셋으로
+ * 청크 하나씩 읽으므로, 적체분이 수십만 건이어도 메모리에는 청크 하나만 올라온다. 청크 사이 휴지
+ * ({@link RetentionPurgeProperties#getChunkPause()})를 주면 영업시간에도 돌릴 수 있다.</p>
+ *
+ * <p>청크 수 × 휴지만큼 실행이 길어지므로 고정된 ShedLock {@code lockAtMostFor}로는 적체분 처리 중에 락이
+ * 풀려 다른 인스턴스가 같은 배치를 겹쳐 돌 수 있다. 그래서 청크마다 락을
+ * {@link RetentionPurgeProperties#getLockAtMostFor()}만큼 다시 연장한다 — 진행 중인 실행은 락을 계속 쥐고,
+ * 인스턴스가 죽으면 마지막 연장 후 그 시간이 지나 풀린다. 연장에 실패하면(락을 이미 잃음) 남은 청크는
+ * 다음 배치로 넘긴다.</p>
  */
 @Slf4j
 @Service
@@ -41,8 +66,16 @@ public class RetentionPurgeService {
     /** 만료 후 실제 파기까지의 유예기간(§2.2(c) 확정 정책). */
     static final int GRACE_PERIOD_DAYS = 30;
 
+    private static final List<String> INSERT_COLUMNS = List.of(
+            "table_name", "entity_id", "retention_expires_at", "scheduled_purge_at", "legal_hold", "created_at");
+
     private final List<RetentionPolicy> policies;
     private final RetentionPurgeScheduleRepository scheduleRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactions;
+    private final RetentionPurgeProperties properties;
+
+    private volatile String insertSql;
 
     private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
         return a.isAfter(b) ? a : b;
@@ -59,26 +92,69 @@ public class RetentionPurgeService {
      *
      * @return 새로 등록된 건수
      */
-    @Transactional
     public int scanAndSchedule() {
         LocalDateTime now = LocalDateTime.now();
+        int chunkSize = chunkSize();
         int scheduled = 0;
         for (RetentionPolicy policy : policies) {
             LocalDateTime cutoff = now.minus(policy.retentionPeriod());
-            List<RetentionPolicy.ExpiredEntity> expired = policy.findExpired(cutoff);
-            for (RetentionPolicy.ExpiredEntity e : expired) {
-                if (scheduleRepository.findByTableNameAndEntityId(policy.tableName(), e.id()).isPresent()) {
-                    continue;
+            long afterId = 0L;
+            while (true) {
+                long cursor = afterId;
+                ChunkResult result = transactions.execute(
+                        status -> scheduleChunk(policy, policy.findExpired(cutoff, cursor, chunkSize), now));
+                if (result == null || result.lastId() == null) {
+                    break;
+                }
+                scheduled += result.affected();
+                afterId = result.lastId();
+                if (result.size() < chunkSize) {
+                    break;
+                }
+                if (!continueAfterChunk()) {
+                    return logScheduled(scheduled);
                 }
-                LocalDateTime expiresAt = e.anchoredAt().plus(policy.retentionPeriod());
-                // 유예는 "만료일로부터" 30일이되, 이미 만료된 지 오래인 건(정책 신설 직후의 적체분)은
-                // "발견 시점으로부터" 30일을 준다. 그러지 않으면 스케줄에 오르자마자 파기 대상이 되어
-                // 30/15/1일 사전 고지를 보낼 시간 자체가 없다 — 고지가 형식이 되지 않도록 하는 장치다.
-                LocalDateTime purgeAt = max(expiresAt.plusDays(GRACE_PERIOD_DAYS), now.plusDays(GRACE_PERIOD_DAYS));
-                scheduleRepository.save(new RetentionPurgeSchedule(policy.tableName(), e.id(), expiresAt, purgeAt));
-                scheduled++;
             }
         }
+        return logScheduled(scheduled);
+    }
+
+    /** 청크(정책 조회가 이미 미등록분만 돌려준다)를 한 번의 배치 INSERT 로 등록한다. */
+    private ChunkResult scheduleChunk(RetentionPolicy policy, List<RetentionPolicy.ExpiredEntity> chunk,
+                                      LocalDateTime now) {
+        if (chunk.isEmpty()) {
+            return new ChunkResult(0, 0, null);
+        }
+        Long lastId = chunk.get(chunk.size() - 1).id();
+        Set<Long> seen = new HashSet<>();
+        List<RetentionPolicy.ExpiredEntity> fresh = new ArrayList<>(chunk.size());
+        for (RetentionPolicy.ExpiredEntity e : chunk) {
+            // 정책 조회 결과에 같은 ID 가 두 번 섞여도 UNIQUE 위반이 나지 않게 청크 안에서 거른다.
+            if (seen.add(e.id())) {
+                fresh.add(e);
+            }
+        }
+        if (fresh.isEmpty()) {
+            return new ChunkResult(chunk.size(), 0, lastId);
+        }
+        Timestamp createdAt = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(insertSql(), fresh, fresh.size(), (ps, e) -> {
+            LocalDateTime expiresAt = e.anchoredAt().plus(policy.retentionPeriod());
+            // 유예는 "만료일로부터" 30일이되, 이미 만료된 지 오래인 건(정책 신설 직후의 적체분)은
+            // "발견 시점으로부터" 30일을 준다. 그러지 않으면 스케줄에 오르자마자 파기 대상이 되어
+            // 30/15/1일 사전 고지를 보낼 시간 자체가 없다 — 고지가 형식이 되지 않도록 하는 장치다.
+            LocalDateTime purgeAt = max(expiresAt.plusDays(GRACE_PERIOD_DAYS), now.plusDays(GRACE_PERIOD_DAYS));
+            ps.setString(1, policy.tableName());
+            ps.setLong(2, e.id());
+            ps.setTimestamp(3, Timestamp.valueOf(expiresAt));
+            ps.setTimestamp(4, Timestamp.valueOf(purgeAt));
+            ps.setBoolean(5, false);
+            ps.setTimestamp(6, createdAt);
+        });
+        return new ChunkResult(chunk.size(), fresh.size(), lastId);
+    }
+
+    private static int logScheduled(int scheduled) {
         if (scheduled > 0) {
             log.info("[RetentionPurge] 신규 파기 대상 {}건 스케줄 등록", scheduled);
         }
@@ -91,10 +167,33 @@ public class RetentionPurgeService {
      *
      * @return 실제로 파기된 건수
      */
-    @Transactional
     public int executePurge() {
         Map<String, RetentionPolicy> byTable = policiesByTableName();
-        List<RetentionPurgeSchedule> due = scheduleRepository.findDueForPurge(LocalDateTime.now());
+        LocalDateTime now = LocalDateTime.now();
+        PageRequest chunk = PageRequest.of(0, chunkSize());
+        int purged = 0;
+        long afterId = 0L;
+        while (true) {
+            long cursor = afterId;
+            ChunkResult result = transactions.execute(status -> purgeChunk(byTable, now, cursor, chunk));
+            if (result == null || result.lastId() == null) {
+                break;
+            }
+            purged += result.affected();
+            afterId = result.lastId();
+            if (result.size() < chunk.getPageSize() || !continueAfterChunk()) {
+                break;
+            }
+        }
+        if (purged > 0) {
+            log.info("[RetentionPurge] {}건 실제 파기 완료", purged);
+        }
+        return purged;
+    }
+
+    private ChunkResult purgeChunk(Map<String, RetentionPolicy> byTable, LocalDateTime now,
+                                   long afterId, PageRequest chunk) {
+        List<RetentionPurgeSchedule> due = scheduleRepository.findDueForPurgeAfter(now, afterId, chunk);
         int purged = 0;
         for (RetentionPurgeSchedule schedule : due) {
             RetentionPolicy policy = byTable.get(schedule.getTableName());
@@ -115,9 +214,76 @@ public class RetentionPurgeService {
             schedule.markPurged();
             purged++;
         }
-        if (purged > 0) {
-            log.info("[RetentionPurge] {}건 실제 파기 완료", purged);
+        Long lastId = due.isEmpty() ? null : due.get(due.size() - 1).getId();
+        return new ChunkResult(due.size(), purged, lastId);
+    }
+
+    private int chunkSize() {
+        return Math.max(1, properties.getChunkSize());
+    }
+
+    /**
+     * 다음 청크로 넘어가기 전에 쉬고 스케줄러 락을 연장한다. false 면 남은 청크는 다음 배치로 넘긴다.
+     */
+    private boolean continueAfterChunk() {
+        return pauseBetweenChunks() && extendSchedulerLock();
+    }
+
+    /**
+     * 실행 중인 ShedLock 락을 지금부터 {@code lock-at-most-for}만큼 다시 연장한다. 스케줄러 밖(수동 호출·테스트)에서
+     * 돌면 쥔 락이 없으니 그대로 진행하고, 락을 이미 잃었으면 false — 다른 인스턴스가 이어받았을 수 있다.
+     */
+    private boolean extendSchedulerLock() {
+        try {
+            LockExtender.extendActiveLock(properties.getLockAtMostFor(), RetentionNoticeScheduler.LOCK_AT_LEAST_FOR);
+            return true;
+        } catch (LockExtender.NoActiveLockException e) {
+            return true;
+        } catch (LockExtender.LockCanNotBeExtendedException e) {
+            log.warn("[RetentionPurge] 스케줄러 락 연장 실패 — 남은 청크는 다음 배치에서 처리");
+            return false;
         }
-        return purged;
+    }
+
+    /**
+     * 설정된 휴지 시간만큼 쉰다. 인터럽트(종료 중)면 false — 남은 청크는 다음 배치가 이어서 처리한다.
+     */
+    private boolean pauseBetweenChunks() {
+        Duration pause = properties.getChunkPause();
+        if (pause == null || pause.isZero() || pause.isNegative()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[RetentionPurge] 청크 휴지 중 인터럽트 — 남은 대상은 다음 배치에서 처리");
+            return false;
+        }
+    }
+
+    /**
+     * 식별자를 DB 인용 문자로 감싼 INSERT 문 — 운영(MySQL)과 테스트(H2) 모두 전역 인용 식별자로 스키마를
+     * 만들기 때문이다({@code PayrollDetailBatchWriter}와 같은 방식). 엔티티 생성자를 거치지 않으므로
+     * {@code legal_hold}·{@code created_at}을 직접 넣는다.
+     */
+    private String insertSql() {
+        if (insertSql == null) {
+            String quote = jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+                String q = connection.getMetaData().getIdentifierQuoteString();
+                return q == null || q.isBlank() ? "" : q;
+            });
+            insertSql = "INSERT INTO " + quote + "retention_purge_schedule" + quote + " ("
+                    + INSERT_COLUMNS.stream().map(c -> quote + c + quote).collect(Collectors.joining(", "))
+                    + ") VALUES ("
+                    + Stream.generate(() -> "?").limit(INSERT_COLUMNS.size()).collect(Collectors.joining(", "))
+                    + ")";
+        }
+        return insertSql;
+    }
+
+    /** 청크 하나의 결과 — 읽은 건수, 등록·파기 건수, 다음 청크 커서(마지막 ID, 비었으면 null). */
+    private record ChunkResult(int size, int affected, Long lastId) {
     }
 }
@@ -0,0 +1,57 @@
+package com.rich.sodam.util;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+
+/**
+ * 파일을 "다 쓰인 상태로만" 보이게 저장하는 유틸리티.
+ *
+ * <p>대상과 같은 디렉터리에 임시 이름으로 먼저 복사한 뒤 rename 한다. 같은 파일시스템 안의 rename 은
+ * 원자적이라, 읽는 쪽은 이전 파일이나 완성된 새 파일만 보고 쓰다 만 파일은 보지 않는다. 파일마다 따로
+ * 처리되므로 서로 다른 업로드끼리 잠글 필요가 없다.</p>
+ */
+public final class AtomicFiles {
+
+    private AtomicFiles() {
+        // 유틸리티 클래스는 인스턴스화를 방지합니다.
+    }
+
+    /** {@code source}의 내용을 {@code target}에 원자적으로 쓴다. 상위 디렉터리가 없으면 만든다. */
+    public static void copy(Path source, Path target) throws IOException {
+        Path part = partFor(target);
+        try {
+            Files.copy(source, part);
+            publish(part, target);
+        } finally {
+            Files.deleteIfExists(part);
+        }
+    }
+
+    /** 바이트 배열을 {@code target}에 원자적으로 쓴다. */
+    public static void write(byte[] data, Path target) throws IOException {
+        Path part = partFor(target);
+        try {
+            Files.write(part, data);
+            publish(part, target);
+        } finally {
+            Files.deleteIfExists(part);
+        }
+    }
+
+    private static Path partFor(Path target) throws IOException {
+        Files.createDirectories(target.toAbsolutePath().getParent());
+        return target.resolveSibling(target.getFileName() + ".part-" + UUID.randomUUID());
+    }
+
+    private static void publish(Path part, Path target) throws IOException {
+        try {
+            Files.move(part, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(part, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.rich.sodam.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 위경도 격자(셀) 인덱스 유틸리티.
+ *
+ * <p>위도·경도를 각각 {@value #CELLS_PER_DEGREE}분의 1도(약 5.5km) 간격으로 자른 셀 번호를 엔티티에 함께
+ * 저장해 두고, 반경 매칭 시 중심 주변 셀 목록({@link #cellsWithin})으로 후보를 먼저 좁힌다. 셀 목록은
+ * 반경을 감싸는 위경도 사각형을 덮으므로 반경 안 좌표는 빠짐없이 후보에 들어오고, 정확한 거리 판정은
+ * 호출측이 {@link GeoUtils#calculateDistance}로 한다.</p>
+ *
+ * <p>셀 번호 = floor((위도+90)×20) × {@value #LONGITUDE_CELLS} + floor((경도+180)×20).
+ * 마이그레이션 백필 SQL 도 같은 식을 쓴다.</p>
+ */
+public final class GeoGrid {
+
+    public static final int CELLS_PER_DEGREE = 20;
+    static final int LONGITUDE_CELLS = 360 * CELLS_PER_DEGREE;
+    private static final int LATITUDE_CELLS = 180 * CELLS_PER_DEGREE;
+    /** 위도 1도의 길이를 {@link GeoUtils}의 지구 반지름(6371km) 기준 값(약 111.19km)보다 조금 작게 잡아 사각형을 넉넉히 만든다. */
+    private static final double METERS_PER_DEGREE_LATITUDE = 111_000d;
+
+    private GeoGrid() {
+        // 유틸리티 클래스는 인스턴스화를 방지합니다.
+    }
+
+    /** 좌표가 속한 셀 번호. 좌표가 없으면 null. */
+    public static Integer cellOf(Double latitude, Double longitude) {
+        if (latitude == null || longitude == null) {
+            return null;
+        }
+        return latitudeIndex(latitude) * LONGITUDE_CELLS + longitudeIndex(longitude);
+    }
+
+    /**
+     * 중심에서 반경 radiusMeters 안의 모든 좌표를 덮는 셀 번호 목록.
+     * 반경을 감싸는 위경도 사각형이 걸친 셀을 모두 돌려준다(경도 ±180 경계는 감아 돈다).
+     */
+    public static List<Integer> cellsWithin(double latitude, double longitude, double radiusMeters) {
+        double latitudeDelta = radiusMeters / METERS_PER_DEGREE_LATITUDE;
+        double cosine = Math.cos(Math.toRadians(Math.min(89.0, Math.abs(latitude) + latitudeDelta)));
+        double longitudeDelta = Math.min(180.0, radiusMeters / (METERS_PER_DEGREE_LATITUDE * cosine));
+
+        int latFrom = latitudeIndex(latitude - latitudeDelta);
+        int latTo = latitudeIndex(latitude + latitudeDelta);
+        int lonFrom = (int) Math.floor((longitude - longitudeDelta + 180.0) * CELLS_PER_DEGREE);
+        int lonTo = (int) Math.floor((longitude + longitudeDelta + 180.0) * CELLS_PER_DEGREE);
+        if (lonTo - lonFrom >= LONGITUDE_CELLS) {
+            lonFrom = 0;
+            lonTo = LONGITUDE_CELLS - 1;
+        }
+
+        List<Integer> cells = new ArrayList<>((latTo - latFrom + 1) * (lonTo - lonFrom + 1));
+        for (int lat = latFrom; lat <= latTo; lat++) {
+            for (int lon = lonFrom; lon <= lonTo; lon++) {
+                cells.add(lat * LONGITUDE_CELLS + Math.floorMod(lon, LONGITUDE_CELLS));
+            }
+        }
+        return cells;
+    }
+
+    private static int latitudeIndex(double latitude) {
+        int index = (int) Math.floor((latitude + 90.0) * CELLS_PER_DEGREE);
+        return Math.max(0, Math.min(LATITUDE_CELLS - 1, index));
+    }
+
+    private static int longitudeIndex(double longitude) {
+        int index = (int) Math.floor((longitude + 180.0) * CELLS_PER_DEGREE);
+        return Math.floorMod(index, LONGITUDE_CELLS);
+    }
+}
@@ -0,0 +1,38 @@
+package com.rich.sodam.util;
+
+import com.lowagie.text.pdf.BaseFont;
+
+/**
+ * PDF 한글 글꼴(HYSMyeongJoStd-Medium / UniKS-UCS2-H) 공유 인스턴스.
+ *
+ * <p>명세서·내역서·증명서 생성기가 요청마다 {@code BaseFont.createFont} 를 부르고, CJK 리소스가 없는
+ * 환경에서는 매번 예외를 던진 뒤 기본 글꼴로 떨어졌다. BaseFont 는 문서에 독립적이고 읽기 전용이라
+ * 처음 쓸 때 한 번만 만들어 모든 문서·스레드가 나눠 쓴다. 글꼴별 사용 글리프 기록은 PdfWriter 쪽에
+ * 문서마다 따로 남으므로 공유해도 섞이지 않는다.</p>
+ */
+public final class PdfFonts {
+
+    private PdfFonts() {
+    }
+
+    /** 한글 글꼴. CJK 리소스가 없으면 기본 글꼴(Helvetica)로 대체한다 — 기존 생성기들과 같은 폴백. */
+    public static BaseFont korean() {
+        return Holder.KOREAN;
+    }
+
+    private static final class Holder {
+        private static final BaseFont KOREAN = load();
+
+        private static BaseFont load() {
+            try {
+                return BaseFont.createFont("HYSMyeongJoStd-Medium", "UniKS-UCS2-H", BaseFont.NOT_EMBEDDED);
+            } catch (Exception ignored) {
+                try {
+                    return BaseFont.createFont();
+                } catch (Exception e) {
+                    throw new IllegalStateException("PDF 글꼴을 초기화할 수 없습니다.", e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+-- 채팅방 목록용 참여자별 요약(마지막 메시지·미읽음 수).
+-- GET /api/chat-rooms/me 가 방마다 마지막 메시지 조회 + 미읽음 COUNT + 차단 확인을 따로 하던 것을
+-- 요약 1회 조회로 바꾼다. 채팅방 1개당 사장·구직자 2행이며, ChatRoomService 가 메시지 저장·읽음 처리와
+-- 같은 트랜잭션에서 원자적 UPDATE 로 갱신한다.
+CREATE TABLE `chat_room_summary` (
+    `id`                   BIGINT        NOT NULL AUTO_INCREMENT,
+    `chat_room_id`         BIGINT        NOT NULL,
+    `user_id`              BIGINT        NOT NULL COMMENT '요약을 보는 참여자',
+    `counterpart_user_id`  BIGINT        NOT NULL COMMENT 'user_id 기준 상대방(차단 필터용)',
+    `last_message_content` VARCHAR(1000) NULL,
+    `last_message_at`      DATETIME      NULL,
+    `unread_count`         INT           NOT NULL DEFAULT 0,
+    PRIMARY KEY (`id`),
+    UNIQUE KEY `uq_chat_room_summary_room_user` (`chat_room_id`, `user_id`),
+    KEY `idx_chat_room_summary_user` (`user_id`),
+    CONSTRAINT `fk_chat_room_summary_room` FOREIGN KEY (`chat_room_id`) REFERENCES `chat_room` (`id`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+-- 기존 채팅방 백필 — 미읽음은 기존 집계와 같은 기준(상대가 보낸 메시지 중 read_at 이 NULL, 시스템 메시지 제외).
+INSERT INTO `chat_room_summary` (`chat_room_id`, `user_id`, `counterpart_user_id`,
+                                 `last_message_content`, `last_message_at`, `unread_count`)
+SELECT r.`id`, r.`master_user_id`, r.`counterpart_user_id`,
+       (SELECT m.`content` FROM `chat_message` m
+        WHERE m.`chat_room_id` = r.`id` ORDER BY m.`sent_at` DESC, m.`id` DESC LIMIT 1),
+       (SELECT MAX(m.`sent_at`) FROM `chat_message` m WHERE m.`chat_room_id` = r.`id`),
+       (SELECT COUNT(*) FROM `chat_message` m
+        WHERE m.`chat_room_id` = r.`id` AND m.`sender_user_id` <> r.`master_user_id` AND m.`read_at` IS NULL)
+FROM `chat_room` r;
+
+INSERT INTO `chat_room_summary` (`chat_room_id`, `user_id`, `counterpart_user_id`,
+                                 `last_message_content`, `last_message_at`, `unread_count`)
+SELECT r.`id`, r.`counterpart_user_id`, r.`master_user_id`,
+       (SELECT m.`content` FROM `chat_message` m
+        WHERE m.`chat_room_id` = r.`id` ORDER BY m.`sent_at` DESC, m.`id` DESC LIMIT 1),
+       (SELECT MAX(m.`sent_at`) FROM `chat_message` m WHERE m.`chat_room_id` = r.`id`),
+       (SELECT COUNT(*) FROM `chat_message` m
+        WHERE m.`chat_room_id` = r.`id` AND m.`sender_user_id` <> r.`counterpart_user_id` AND m.`read_at` IS NULL)
+FROM `chat_room` r;
@@ -0,0 +1,21 @@
+-- 퍼널 계측 이벤트 매장·일자·종류별 건수(주간 인사이트용 사전 집계).
+-- weeklyInsights 가 기간 내 domain_event 원본을 전부 읽어 세던 것을 이 표의 합산으로 바꾼다.
+-- DomainEventBuffer 가 원본 배치 INSERT 와 같은 트랜잭션에서 ON DUPLICATE KEY UPDATE 로 누적한다.
+-- 매장이 없는 이벤트(store_id IS NULL)는 집계하지 않는다.
+CREATE TABLE `domain_event_daily_count` (
+    `id`          BIGINT      NOT NULL AUTO_INCREMENT,
+    `store_id`    BIGINT      NOT NULL,
+    `event_date`  DATE        NOT NULL,
+    `event_type`  VARCHAR(40) NOT NULL,
+    `event_count` BIGINT      NOT NULL DEFAULT 0,
+    PRIMARY KEY (`id`),
+    UNIQUE KEY `uq_domain_event_daily_count` (`store_id`, `event_date`, `event_type`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+-- 기존 이벤트 백필.
+INSERT INTO `domain_event_daily_count` (`store_id`, `event_date`, `event_type`, `event_count`)
+SELECT `store_id`, DATE(`occurred_at`), `event_type`, COUNT(*)
+FROM `domain_event`
+WHERE `store_id` IS NOT NULL
+GROUP BY `store_id`, DATE(`occurred_at`), `event_type`;
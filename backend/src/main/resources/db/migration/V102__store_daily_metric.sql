@@ -0,0 +1,31 @@
+-- 매장 × 일자 × 지표 사전 집계(사장님 대시보드 당월 누계).
+-- StoreStatsService 가 조회마다 매장의 전체 급여 이력을 읽어 합산하던 것을 이 표의 합산으로 바꾼다.
+-- 급여 저장 트랜잭션이 변경분을 ON DUPLICATE KEY UPDATE 로 누적하고, StoreDailyMetricCompactionScheduler 가
+-- 매일 최근 구간을 원본에서 다시 계산한다. 급여 지표의 일자는 급여 시작일(start_date)이다.
+CREATE TABLE `store_daily_metric` (
+    `id`           BIGINT      NOT NULL AUTO_INCREMENT,
+    `store_id`     BIGINT      NOT NULL,
+    `metric_date`  DATE        NOT NULL,
+    `metric`       VARCHAR(40) NOT NULL COMMENT 'PAYROLL_GROSS / PAYROLL_NET / PAYROLL_HOURS',
+    `metric_value` DOUBLE      NOT NULL DEFAULT 0,
+    PRIMARY KEY (`id`),
+    UNIQUE KEY `uq_store_daily_metric` (`store_id`, `metric_date`, `metric`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+-- 기존 급여 백필.
+INSERT INTO `store_daily_metric` (`store_id`, `metric_date`, `metric`, `metric_value`)
+SELECT `store_id`, `start_date`, 'PAYROLL_GROSS', SUM(COALESCE(`gross_wage`, 0))
+FROM `payroll` WHERE `store_id` IS NOT NULL AND `start_date` IS NOT NULL
+GROUP BY `store_id`, `start_date`;
+
+INSERT INTO `store_daily_metric` (`store_id`, `metric_date`, `metric`, `metric_value`)
+SELECT `store_id`, `start_date`, 'PAYROLL_NET', SUM(COALESCE(`net_wage`, 0))
+FROM `payroll` WHERE `store_id` IS NOT NULL AND `start_date` IS NOT NULL
+GROUP BY `store_id`, `start_date`;
+
+INSERT INTO `store_daily_metric` (`store_id`, `metric_date`, `metric`, `metric_value`)
+SELECT `store_id`, `start_date`, 'PAYROLL_HOURS',
+       SUM(COALESCE(`regular_hours`, 0) + COALESCE(`overtime_hours`, 0) + COALESCE(`night_work_hours`, 0))
+FROM `payroll` WHERE `store_id` IS NOT NULL AND `start_date` IS NOT NULL
+GROUP BY `store_id`, `start_date`;
@@ -0,0 +1,19 @@
+-- 매장 × 일자별 출근 직원 수(distinct) — 근로기준법 시행령 §7의2 상시근로자 참고 산정.
+-- StatutoryHeadcountService 가 조회마다 산정기간 한 달 치 출근 기록을 읽어 일자별 집합을 만들던 것을 이 표의
+-- 합산(연인원 = SUM(worker_count), 가동일수 = worker_count > 0 인 일자 수)으로 바꾼다. 출근·대리등록·정정 승인
+-- 커밋 후 그 일자를 다시 세어 덮어쓰고, StoreDailyMetricCompactionScheduler 가 매일 최근 구간을 다시 계산한다.
+CREATE TABLE `store_daily_headcount` (
+    `id`           BIGINT NOT NULL AUTO_INCREMENT,
+    `store_id`     BIGINT NOT NULL,
+    `work_date`    DATE   NOT NULL COMMENT '출근시각 기준 일자',
+    `worker_count` INT    NOT NULL DEFAULT 0,
+    PRIMARY KEY (`id`),
+    UNIQUE KEY `uq_store_daily_headcount` (`store_id`, `work_date`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+-- 기존 출근 기록 백필.
+INSERT INTO `store_daily_headcount` (`store_id`, `work_date`, `worker_count`)
+SELECT `store_id`, DATE(`check_in_time`), COUNT(DISTINCT `employee_id`)
+FROM `attendance` WHERE `check_in_time` IS NOT NULL
+GROUP BY `store_id`, DATE(`check_in_time`);
@@ -0,0 +1,4 @@
+-- 매장 사진 목록용 썸네일 객체 key. 업로드 시 본 이미지와 함께 미리 만들어 두고, 목록은 원본 대신 이 객체를 내려준다.
+-- 이전에 올린 사진은 NULL — 응답은 본 이미지 key 로 대신한다.
+ALTER TABLE `store_photo`
+    ADD COLUMN `thumbnail_key` VARCHAR(300) NULL COMMENT '썸네일 ObjectStorage key';
@@ -0,0 +1,6 @@
+-- 급여 배치 샤드 체크포인트 낙관적 락. 오래 걸린 샤드를 다른 노드가 이어받았으면, 원래 실행의 다음 저장이
+-- 버전 충돌로 실패해 그 자리에서 멈춘다(같은 샤드를 두 노드가 동시에 계산하지 않는다).
+-- status 에 RETRY_PENDING(실패 직원이 남아 다음 실행이 다시 훑는 샤드)이 추가된다.
+ALTER TABLE `payroll_batch_checkpoint`
+    ADD COLUMN `version` BIGINT NOT NULL DEFAULT 0,
+    MODIFY COLUMN `status` VARCHAR(20) NOT NULL COMMENT 'IN_PROGRESS/COMPLETED/RETRY_PENDING';
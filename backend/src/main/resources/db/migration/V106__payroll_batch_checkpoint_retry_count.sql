@@ -0,0 +1,5 @@
+-- 급여 배치 샤드 재시도 상한. 실패 직원이 남은 샤드를 다시 훑은 횟수를 세고, 상한(sodam.payroll.batch.max-retries)을
+-- 넘기면 COMPLETED_WITH_FAILURES 로 닫아 같은 실패로 1일 내내 샤드 전체를 다시 훑지 않게 한다.
+ALTER TABLE `payroll_batch_checkpoint`
+    ADD COLUMN `retry_count` INT NOT NULL DEFAULT 0,
+    MODIFY COLUMN `status` VARCHAR(30) NOT NULL COMMENT 'IN_PROGRESS/COMPLETED/RETRY_PENDING/COMPLETED_WITH_FAILURES';
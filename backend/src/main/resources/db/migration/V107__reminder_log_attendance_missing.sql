@@ -0,0 +1,6 @@
+-- 출퇴근 누락 알림(AttendanceMissingScheduler)도 reminder_log 로 멱등 처리한다 — 기준 시각 뒤 60분 따라잡기
+-- 구간 동안 여러 틱이 같은 직원을 판정해도 영업일·유형당 1회만 발송. ref_id = employee_profile_id.
+ALTER TABLE `reminder_log`
+    MODIFY COLUMN `reminder_type` VARCHAR(30) NOT NULL
+        COMMENT 'SALES_CLOSE_REMINDER/SALES_YESTERDAY_REMINDER/PAYDAY_D3/WEEKLY_REPORT/SHIFT_LATE/ATTENDANCE_CHECK_IN_MISSING/ATTENDANCE_CHECK_OUT_MISSING',
+    MODIFY COLUMN `ref_id` BIGINT NULL COMMENT '리마인더 참조 ID(SHIFT_LATE=work_shift_id, 출퇴근 누락=employee_profile_id, 기존 룰은 NULL)';
@@ -0,0 +1,19 @@
+-- 월별 급여 배치 분할 실행(PayrollPartitionedBatchEngine) 샤드 체크포인트.
+-- (정산기간, 샤드 수, 샤드 번호)당 1행. 매장 1곳을 끝낼 때마다 last_store_id 를 전진시켜,
+-- 실행 노드가 죽으면 다음 스케줄 틱이 그 다음 매장부터 이어받는다.
+CREATE TABLE `payroll_batch_checkpoint` (
+    `id`              BIGINT      NOT NULL AUTO_INCREMENT,
+    `period_start`    DATE        NOT NULL,
+    `period_end`      DATE        NOT NULL,
+    `shard_count`     INT         NOT NULL,
+    `shard_index`     INT         NOT NULL,
+    `status`          VARCHAR(20) NOT NULL COMMENT 'IN_PROGRESS/COMPLETED',
+    `last_store_id`   BIGINT      NULL COMMENT '마지막으로 끝까지 처리한 매장 ID',
+    `processed_count` INT         NOT NULL DEFAULT 0,
+    `failed_count`    INT         NOT NULL DEFAULT 0,
+    `created_at`      DATETIME(6) NOT NULL,
+    `updated_at`      DATETIME(6) NOT NULL,
+    PRIMARY KEY (`id`),
+    UNIQUE KEY `uq_payroll_batch_checkpoint_shard` (`period_start`, `period_end`, `shard_count`, `shard_index`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,110 @@
+-- 주기 배치(사장 리마인더·출퇴근 누락) 후보 선정용 매장 오픈·마감 시각 인덱스.
+-- 요일별 오픈/마감 시각을 "주 단위 분"(월요일 00:00 = 0, 일요일 23:59 = 10079)으로 펼쳐, 틱마다
+-- (slot_type, minute_of_week) 범위 조회로 그 윈도에 걸친 매장만 고른다. 매장 저장 시 StoreDueSlotIndex 가
+-- 같은 트랜잭션에서 다시 만들고, 야간 재구축이 어긋남을 메운다.
+CREATE TABLE `store_due_slot` (
+    `id`             BIGINT      NOT NULL AUTO_INCREMENT,
+    `store_id`       BIGINT      NOT NULL,
+    `slot_type`      VARCHAR(10) NOT NULL COMMENT 'OPEN/CLOSE',
+    `minute_of_week` INT         NOT NULL COMMENT '월요일 00:00 기준 경과 분',
+    PRIMARY KEY (`id`),
+    KEY `idx_store_due_slot_window` (`slot_type`, `minute_of_week`),
+    KEY `idx_store_due_slot_store` (`store_id`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+-- 기존 활성 매장 백필 — 휴무일·시각 미설정 요일은 제외(StoreDueSlotIndex#slotsOf 와 동일).
+INSERT INTO `store_due_slot` (`store_id`, `slot_type`, `minute_of_week`)
+SELECT `store_id`, 'OPEN', 0 + HOUR(`monday_open`) * 60 + MINUTE(`monday_open`)
+FROM `store`
+WHERE (`is_deleted` = 0 OR `is_deleted` IS NULL)
+  AND (`monday_is_closed` = 0 OR `monday_is_closed` IS NULL)
+  AND `monday_open` IS NOT NULL;
+INSERT INTO `store_due_slot` (`store_id`, `slot_type`, `minute_of_week`)
+SELECT `store_id`, 'CLOSE', 0 + HOUR(`monday_close`) * 60 + MINUTE(`monday_close`)
+FROM `store`
+WHERE (`is_deleted` = 0 OR `is_deleted` IS NULL)
+  AND (`monday_is_closed` = 0 OR `monday_is_closed` IS NULL)
+  AND `monday_close` IS NOT NULL;
+
+INSERT INTO `store_due_slot` (`store_id`, `slot_type`, `minute_of_week`)
+SELECT `store_id`, 'OPEN', 1440 + HOUR(`tuesday_open`) * 60 + MINUTE(`tuesday_open`)
+FROM `store`
+WHERE (`is_deleted` = 0 OR `is_deleted` IS NULL)
+  AND (`tuesday_is_closed` = 0 OR `tuesday_is_closed` IS NULL)
+  AND `tuesday_open` IS NOT NULL;
+INSERT INTO `store_due_slot` (`store_id`, `slot_type`, `minute_of_week`)
+SELECT `store_id`, 'CLOSE', 1440 + HOUR(`tuesday_close`) * 60 + MINUTE(`tuesday_close`)
+FROM `store`
+WHERE (`is_deleted` = 0 OR `is_deleted` IS NULL)
+  AND (`tuesday_is_closed` = 0 OR `tuesday_is_closed` IS NULL)
+  AND `tuesday_close` IS NOT NULL;
+
+INSERT INTO `store_due_slot` (`store_id`, `slot_type`, `minute_of_week`)
+SELECT `store_id`, 'OPEN', 2880 + HOUR(`wednesday_open`) * 60 + MINUTE(`wednesday_open`)
+FROM `store`
+WHERE (`is_deleted` = 0 OR `is_deleted` IS NULL)
+  AND (`wednesday_is_closed` = 0 OR `wednesday_is_closed` IS NULL)
+  AND `wednesday_open` IS NOT NULL;
+INSERT INTO `store_due_slot` (`store_id`, `slot_type`, `minute_of_week`)
+SELECT `store_id`, 'CLOSE', 2880 + HOUR(`wednesday_close`) * 60 + MINUTE(`wednesday_close`)
+FROM `store`
+WHERE (`is_deleted` = 0 OR `is_deleted` IS NULL)
+  AND (`wednesday_is_closed` = 0 OR `wednesday_is_closed` IS NULL)
+  AND `wednesday_close` IS NOT NULL;
+
+INSERT INTO `store_due_slot` (`store_id`, `slot_type`, `minute_of_week`)
+SELECT `store_id`, 'OPEN', 4320 + HOUR(`thursday_open`) * 60 + MINUTE(`thursday_open`)
+FROM `store`
+WHERE (`is_deleted` = 0 OR `is_deleted` IS NULL)
+  AND (`thursday_is_closed` = 0 OR `thursday_is_closed` IS NULL)
+  AND `thursday_open` IS NOT NULL;
+INSERT INTO `store_due_slot` (`store_id`, `slot_type`, `minute_of_week`)
+SELECT `store_id`, 'CLOSE', 4320 + HOUR(`thursday_close`) * 60 + MINUTE(`thursday_close`)
+FROM `store`
+WHERE (`is_deleted` = 0 OR `is_deleted` IS NULL)
+  AND (`thursday_is_closed` = 0 OR `thursday_is_closed` IS NULL)
+  AND `thursday_close` IS NOT NULL;
+
+INSERT INTO `store_due_slot` (`store_id`, `slot_type`, `minute_of_week`)
+SELECT `store_id`, 'OPEN', 5760 + HOUR(`friday_open`) * 60 + MINUTE(`friday_open`)
+FROM `store`
+WHERE (`is_deleted` = 0 OR `is_deleted` IS NULL)
+  AND (`friday_is_closed` = 0 OR `friday_is_closed` IS NULL)
+  AND `friday_open` IS NOT NULL;
+INSERT INTO `store_due_slot` (`store_id`, `slot_type`, `minute_of_week`)
+SELECT `store_id`, 'CLOSE', 5760 + HOUR(`friday_close`) * 60 + MINUTE(`friday_close`)
+FROM `store`
+WHERE (`is_deleted` = 0 OR `is_deleted` IS NULL)
+  AND (`friday_is_closed` = 0 OR `friday_is_closed` IS NULL)
+  AND `friday_close` IS NOT NULL;
+
+INSERT INTO `store_due_slot` (`store_id`, `slot_type`, `minute_of_week`)
+SELECT `store_id`, 'OPEN', 7200 + HOUR(`saturday_open`) * 60 + MINUTE(`saturday_open`)
+FROM `store`
+WHERE (`is_deleted` = 0 OR `is_deleted` IS NULL)
+  AND (`saturday_is_closed` = 0 OR `saturday_is_closed` IS NULL)
+  AND `saturday_open` IS NOT NULL;
+INSERT INTO `store_due_slot` (`store_id`, `slot_type`, `minute_of_week`)
+SELECT `store_id`, 'CLOSE', 7200 + HOUR(`saturday_close`) * 60 + MINUTE(`saturday_close`)
+FROM `store`
+WHERE (`is_deleted` = 0 OR `is_deleted` IS NULL)
+  AND (`saturday_is_closed` = 0 OR `saturday_is_closed` IS NULL)
+  AND `saturday_close` IS NOT NULL;
+
+INSERT INTO `store_due_slot` (`store_id`, `slot_type`, `minute_of_week`)
+SELECT `store_id`, 'OPEN', 8640 + HOUR(`sunday_open`) * 60 + MINUTE(`sunday_open`)
+FROM `store`
+WHERE (`is_deleted` = 0 OR `is_deleted` IS NULL)
+  AND (`sunday_is_closed` = 0 OR `sunday_is_closed` IS NULL)
+  AND `sunday_open` IS NOT NULL;
+INSERT INTO `store_due_slot` (`store_id`, `slot_type`, `minute_of_week`)
+SELECT `store_id`, 'CLOSE', 8640 + HOUR(`sunday_close`) * 60 + MINUTE(`sunday_close`)
+FROM `store`
+WHERE (`is_deleted` = 0 OR `is_deleted` IS NULL)
+  AND (`sunday_is_closed` = 0 OR `sunday_is_closed` IS NULL)
+  AND `sunday_close` IS NOT NULL;
+
+-- 급여일 D-3 배치 후보 조회(지급일 컬럼), 지각 감지 배치의 시작 시각 범위 조회.
+CREATE INDEX `idx_store_pay_day` ON `store` (`pay_day_day`, `pay_day_last_day`);
+CREATE INDEX `idx_work_shift_date_start` ON `work_shift` (`shift_date`, `start_time`);
@@ -0,0 +1,27 @@
+-- 구인·구직 반경 매칭 후보 조회용 위경도 격자 셀(GeoGrid).
+-- 셀 번호 = FLOOR((위도 + 90) * 20) * 7200 + FLOOR((경도 + 180) * 20) — 1/20도(약 5.5km) 격자.
+-- 반경 매칭은 중심 주변 셀 목록으로 IN 조회한 뒤 서비스가 Haversine 으로 최종 판정한다.
+ALTER TABLE `store`
+    ADD COLUMN `geo_cell` INT NULL COMMENT '위경도 격자 셀(GeoGrid)';
+ALTER TABLE `job_seeking_profile`
+    ADD COLUMN `location1_geo_cell` INT NULL COMMENT '희망지역1 격자 셀(GeoGrid)',
+    ADD COLUMN `location2_geo_cell` INT NULL COMMENT '희망지역2 격자 셀(GeoGrid)';
+
+UPDATE `store`
+SET `geo_cell` = FLOOR((`latitude` + 90) * 20) * 7200 + FLOOR((`longitude` + 180) * 20)
+WHERE `latitude` IS NOT NULL
+  AND `longitude` IS NOT NULL;
+
+UPDATE `job_seeking_profile`
+SET `location1_geo_cell` = FLOOR((`location1_latitude` + 90) * 20) * 7200 + FLOOR((`location1_longitude` + 180) * 20)
+WHERE `location1_latitude` IS NOT NULL
+  AND `location1_longitude` IS NOT NULL;
+
+UPDATE `job_seeking_profile`
+SET `location2_geo_cell` = FLOOR((`location2_latitude` + 90) * 20) * 7200 + FLOOR((`location2_longitude` + 180) * 20)
+WHERE `location2_latitude` IS NOT NULL
+  AND `location2_longitude` IS NOT NULL;
+
+CREATE INDEX `idx_store_geo_cell` ON `store` (`geo_cell`);
+CREATE INDEX `idx_job_seeking_location1_cell` ON `job_seeking_profile` (`location1_geo_cell`);
+CREATE INDEX `idx_job_seeking_location2_cell` ON `job_seeking_profile` (`location2_geo_cell`);
@@ -0,0 +1,6 @@
+-- CSV 내보내기 키셋 페이지 조회용 인덱스.
+-- 출퇴근: 매장/직원 + 출근시각 내림차순으로 (check_in_time, id) 커서 다음 페이지를 읽는다. InnoDB 보조 인덱스는 PK(id)를 끝에 달고 있다.
+-- 급여: 매장 + 정산 시작일 범위를 급여 ID 커서로 읽는다.
+CREATE INDEX idx_attendance_store_check_in ON `attendance` (`store_id`, `check_in_time`);
+CREATE INDEX idx_attendance_employee_check_in ON `attendance` (`employee_id`, `check_in_time`);
+CREATE INDEX idx_payroll_store_start_date ON `payroll` (`store_id`, `start_date`);
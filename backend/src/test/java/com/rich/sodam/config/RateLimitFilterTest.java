@@ -1,11 +1,14 @@
 package com.rich.sodam.config;
 
+import io.github.bucket4j.distributed.proxy.ProxyManager;
 import org.junit.jupiter.api.Test;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class RateLimitFilterTest {
 
@@ -100,6 +103,65 @@ class RateLimitFilterTest {
         assertThat(invokeReferralApply(filter).getStatus()).isEqualTo(429);
     }
 
+    @Test
+    void floodOfNewClientsCannotEvictExhaustedClientBucket() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(10);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(invokeLoginFrom(filter, "198.51.100.1").getStatus()).isEqualTo(204);
+        }
+        assertThat(invokeLoginFrom(filter, "198.51.100.1").getStatus()).isEqualTo(429);
+
+        // 한 번씩만 오는 IP 가 상한의 몇 배로 몰려오는 동안 계속 두드리는 소진된 클라이언트는 풀려나지 않는다
+        for (int i = 0; i < 50; i++) {
+            invokeLoginFrom(filter, "203.0.113." + i);
+            assertThat(invokeLoginFrom(filter, "198.51.100.1").getStatus()).isEqualTo(429);
+        }
+
+        assertThat(filter.bucketCountForTest()).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    void exhaustedClientThatGoesQuietStaysThrottledThroughFloodOfNewClients() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(10);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(invokeLoginFrom(filter, "198.51.100.1").getStatus()).isEqualTo(204);
+        }
+        assertThat(invokeLoginFrom(filter, "198.51.100.1").getStatus()).isEqualTo(429);
+
+        // 소진된 클라이언트가 쉬는 동안 새 IP 가 상한의 몇 배로 몰려와 버킷이 밀려나도, 돌아왔을 때 새 버킷을 받지 못한다
+        for (int i = 0; i < 50; i++) {
+            assertThat(invokeLoginFrom(filter, "203.0.113." + i).getStatus()).isEqualTo(204);
+        }
+
+        assertThat(invokeLoginFrom(filter, "198.51.100.1").getStatus()).isEqualTo(429);
+        assertThat(filter.bucketCountForTest()).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void redisFailureFallsBackToInstanceBucketInsteadOfFailingOpen() throws Exception {
+        ProxyManager<byte[]> proxyManager = mock(ProxyManager.class);
+        when(proxyManager.builder()).thenThrow(new IllegalStateException("redis unavailable"));
+        RateLimitFilter filter = new RateLimitFilter(100, proxyManager, new RateLimitProperties.Redis());
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(invokeLoginFrom(filter, "198.51.100.9").getStatus()).isEqualTo(204);
+        }
+
+        assertThat(invokeLoginFrom(filter, "198.51.100.9").getStatus()).isEqualTo(429);
+    }
+
+    private MockHttpServletResponse invokeLoginFrom(RateLimitFilter filter, String ip) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/login");
+        request.setRemoteAddr(ip);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilterInternal(request, response, (req, res) ->
+                ((jakarta.servlet.http.HttpServletResponse) res).setStatus(204));
+        return response;
+    }
+
     private MockHttpServletResponse invokeLogin(RateLimitFilter filter, String email) throws Exception {
         MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/login");
         request.setRemoteAddr("192.0.2.10");
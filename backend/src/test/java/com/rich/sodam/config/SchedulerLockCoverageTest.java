@@ -30,11 +30,13 @@ class SchedulerLockCoverageTest {
 
     /**
      * 락을 걸면 <b>안 되는</b> 배치. 그 인스턴스 자신의 JVM 상태를 다루므로 인스턴스마다 각자
-     * 돌아야 한다 — 락을 걸면 여러 대 중 한 대만 관측·정리된다.
+     * 돌아야 한다 — 락을 걸면 여러 대 중 한 대만 관측·정리된다. 전자서명 outbox 워커({@code runDueWork})는
+     * 행 lease({@code FOR UPDATE SKIP LOCKED})로 노드끼리 작업을 나누므로 노드마다 돌아야 처리량이 는다.
      */
     private static final Set<String> INSTANCE_LOCAL_TASKS = Set.of(
             "logSystemPerformance",
-            "performGarbageCollection"
+            "performGarbageCollection",
+            "runDueWork"
     );
 
     @Autowired
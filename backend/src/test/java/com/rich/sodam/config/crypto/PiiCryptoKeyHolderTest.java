@@ -1,5 +1,6 @@
 package com.rich.sodam.config.crypto;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.mock.env.MockEnvironment;
@@ -19,7 +20,7 @@ class PiiCryptoKeyHolderTest {
 
     @Test
     void prodRejectsPredictableNonBase64EncryptionKey() {
-        PiiCryptoKeyHolder holder = new PiiCryptoKeyHolder(prodEnvironment());
+        PiiCryptoKeyHolder holder = new PiiCryptoKeyHolder(prodEnvironment(), new SimpleMeterRegistry());
         ReflectionTestUtils.setField(holder, "encryptionKey", "change-me");
 
         assertThatThrownBy(holder::init)
@@ -30,7 +31,7 @@ class PiiCryptoKeyHolderTest {
 
     @Test
     void prodAcceptsExactly32ByteBase64EncryptionKey() {
-        PiiCryptoKeyHolder holder = new PiiCryptoKeyHolder(prodEnvironment());
+        PiiCryptoKeyHolder holder = new PiiCryptoKeyHolder(prodEnvironment(), new SimpleMeterRegistry());
         String key = Base64.getEncoder().encodeToString(new byte[32]);
         ReflectionTestUtils.setField(holder, "encryptionKey", key);
 
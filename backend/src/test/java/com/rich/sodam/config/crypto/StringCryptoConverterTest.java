@@ -0,0 +1,92 @@
+package com.rich.sodam.config.crypto;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스레드별 Cipher 재사용 경로 — 여러 스레드가 번갈아 암·복호화해도 값이 섞이지 않고, 복호화 실패 뒤에도
+ * 같은 스레드의 Cipher 가 다음 값을 정상 처리하며, 호출 수가 sodam.pii.crypto 타이머에 남는지 검증.
+ */
+class StringCryptoConverterTest {
+
+    private final StringCryptoConverter converter = new StringCryptoConverter();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        StringCryptoConverter.setKey(StringCryptoConverter.buildKey(new byte[32]));
+        StringCryptoConverter.bindMetrics(registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        StringCryptoConverter.setKey(null);
+        StringCryptoConverter.bindMetrics(null);
+    }
+
+    @Test
+    void concurrentRoundTripsOnPooledCiphersDoNotInterfere() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int worker = t;
+                results.add(pool.submit(() -> {
+                    for (int i = 0; i < 200; i++) {
+                        String plain = "010-" + worker + "-" + i + " 홍길동";
+                        String stored = converter.convertToDatabaseColumn(plain);
+                        if (!stored.startsWith("enc:v1:") || !plain.equals(converter.convertToEntityAttribute(stored))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void sameInputEncryptsWithFreshIvEachTime() {
+        assertThat(converter.convertToDatabaseColumn("010-1234-5678"))
+                .isNotEqualTo(converter.convertToDatabaseColumn("010-1234-5678"));
+    }
+
+    @Test
+    void tamperedCiphertextFallsBackAndTheThreadCipherStaysUsable() {
+        String stored = converter.convertToDatabaseColumn("010-1234-5678");
+        String tampered = stored.substring(0, stored.length() - 4) + (stored.endsWith("AAAA") ? "BBBB" : "AAAA");
+
+        assertThat(converter.convertToEntityAttribute(tampered)).isEqualTo(tampered);
+        assertThat(converter.convertToEntityAttribute(stored)).isEqualTo("010-1234-5678");
+    }
+
+    @Test
+    void encryptAndDecryptAreTimed() {
+        String stored = converter.convertToDatabaseColumn("서울시 마포구");
+        converter.convertToEntityAttribute(stored);
+        converter.convertToEntityAttribute(stored);
+
+        Timer encrypt = registry.find("sodam.pii.crypto").tag("op", "encrypt").timer();
+        Timer decrypt = registry.find("sodam.pii.crypto").tag("op", "decrypt").timer();
+        assertThat(encrypt).isNotNull();
+        assertThat(decrypt).isNotNull();
+        assertThat(encrypt.count()).isGreaterThanOrEqualTo(1);
+        assertThat(decrypt.count()).isGreaterThanOrEqualTo(2);
+    }
+}
@@ -0,0 +1,126 @@
+package com.rich.sodam.config.entitycache;
+
+import com.rich.sodam.domain.PayrollPolicy;
+import com.rich.sodam.domain.Store;
+import com.rich.sodam.domain.type.TaxPolicyType;
+import com.rich.sodam.repository.PayrollPolicyRepository;
+import com.rich.sodam.repository.StoreRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.cache.CacheManager;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 2차 캐시를 켠 컨텍스트 — test 프로필은 2차 캐시를 꺼 두므로 {@link EntityCacheConfig}·{@link EntityCacheMetrics}는
+ * 여기서만 뜬다. 영역 생성, Store·PayrollPolicy 두 번째 읽기의 캐시 히트, 영역별 지표 등록을 검증한다.
+ *
+ * <p>{@code @Transactional}을 걸지 않는다 — 걸면 두 번째 읽기가 1차 캐시(영속성 컨텍스트)에서 끝나 2차 캐시까지
+ * 가지 않는다. 리포지토리 호출마다 새 세션이 열리게 둔다.</p>
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class EntityCacheConfigTest {
+
+    @Autowired
+    private CacheManager entityCacheManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private StoreRepository storeRepository;
+    @Autowired
+    private PayrollPolicyRepository payrollPolicyRepository;
+    @Autowired
+    private TransactionTemplate transactions;
+
+    private SessionFactory sessionFactory;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        statistics = sessionFactory.getStatistics();
+    }
+
+    @Test
+    @DisplayName("설정한 데이터 영역과 테이블 변경 시각 영역이 Ehcache 에 만들어진다")
+    void regionsExist() {
+        for (String region : EntityCacheRegions.DATA_REGIONS) {
+            assertThat(entityCacheManager.getCache(region, Object.class, Object.class)).as(region).isNotNull();
+        }
+        assertThat(entityCacheManager.getCache(EntityCacheRegions.UPDATE_TIMESTAMPS, Object.class, Object.class))
+                .isNotNull();
+    }
+
+    @Test
+    @DisplayName("Store·PayrollPolicy 는 첫 읽기에 영역에 들어가고 두 번째 읽기는 캐시 히트다")
+    void secondReadIsCacheHit() {
+        PayrollPolicy saved = transactions.execute(status -> payrollPolicyRepository.save(policy(storeRepository.save(
+                new Store("2차캐시테스트매장", "7777777777", "02-7777-7777", "카페", 10000, 100)))));
+        Long storeId = saved.getStore().getId();
+        // 저장 시 READ_WRITE 영역에 들어간 항목을 비워 첫 읽기가 DB 를 거치게 한다
+        sessionFactory.getCache().evictAllRegions();
+        statistics.clear();
+
+        storeRepository.findById(storeId);
+        storeRepository.findById(storeId);
+        payrollPolicyRepository.findByStore_Id(storeId);
+        payrollPolicyRepository.findByStore_Id(storeId);
+
+        assertThat(statistics.getCacheRegionStatistics(EntityCacheRegions.STORE).getMissCount()).isEqualTo(1);
+        assertThat(statistics.getCacheRegionStatistics(EntityCacheRegions.STORE).getHitCount()).isEqualTo(1);
+        assertThat(statistics.getQueryRegionStatistics(EntityCacheRegions.PAYROLL_POLICY_BY_STORE).getHitCount())
+                .isEqualTo(1);
+        // 쿼리 캐시는 ID 만 두고 엔티티는 영역에서 꺼낸다 — 첫 조회 결과를 넣은 뒤 두 번째 조회가 영역 히트
+        assertThat(statistics.getCacheRegionStatistics(EntityCacheRegions.PAYROLL_POLICY).getHitCount())
+                .isGreaterThanOrEqualTo(1);
+        assertThat(meterRegistry.get("sodam.entity_cache.gets")
+                .tags("region", EntityCacheRegions.STORE, "result", "hit").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("영역별 조회·적재·히트율 지표가 등록된다")
+    void metersAreRegistered() {
+        for (String region : EntityCacheRegions.DATA_REGIONS) {
+            assertThat(meterRegistry.find("sodam.entity_cache.gets").tags("region", region, "result", "hit")
+                    .functionCounter()).as(region).isNotNull();
+            assertThat(meterRegistry.find("sodam.entity_cache.gets").tags("region", region, "result", "miss")
+                    .functionCounter()).as(region).isNotNull();
+            assertThat(meterRegistry.find("sodam.entity_cache.puts").tag("region", region)
+                    .functionCounter()).as(region).isNotNull();
+            assertThat(meterRegistry.find("sodam.entity_cache.hit_ratio").tag("region", region)
+                    .gauge()).as(region).isNotNull();
+        }
+    }
+
+    private static PayrollPolicy policy(Store store) {
+        PayrollPolicy policy = new PayrollPolicy();
+        policy.setStore(store);
+        policy.setTaxPolicyType(TaxPolicyType.INCOME_TAX_3_3);
+        policy.setNightWorkRate(1.5);
+        policy.setNightWorkStartTime(LocalTime.of(22, 0));
+        policy.setOvertimeRate(1.5);
+        policy.setRegularHoursPerDay(8.0);
+        policy.setWeeklyAllowanceEnabled(true);
+        return policy;
+    }
+}
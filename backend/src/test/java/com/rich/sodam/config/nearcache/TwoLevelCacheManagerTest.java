@@ -0,0 +1,129 @@
+package com.rich.sodam.config.nearcache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 2단계 캐시의 L1 동작과 인스턴스 간 무효화 검증.
+ *
+ * <p>L2 는 두 "인스턴스"가 공유하는 ConcurrentMapCacheManager 로 Redis 를 대신하고, pub/sub 는 한쪽이
+ * 발행한 메시지를 다른 쪽 {@link TwoLevelCacheManager#onInvalidationMessage}로 넘겨 흉내 낸다.</p>
+ */
+class TwoLevelCacheManagerTest {
+
+    private static final String CHANNEL = "test:near";
+
+    private ConcurrentMapCacheManager sharedL2;
+    private StringRedisTemplate publisherA;
+    private StringRedisTemplate publisherB;
+    private TwoLevelCacheManager instanceA;
+    private TwoLevelCacheManager instanceB;
+
+    @BeforeEach
+    void setUp() {
+        sharedL2 = new ConcurrentMapCacheManager("stores", "users");
+        NearCacheProperties properties = new NearCacheProperties();
+        properties.setChannel(CHANNEL);
+        NearCacheProperties.Spec spec = new NearCacheProperties.Spec();
+        spec.setMaxSize(100);
+        spec.setTtl(Duration.ofMinutes(1));
+        properties.getCaches().put("stores", spec);
+
+        publisherA = mock(StringRedisTemplate.class);
+        publisherB = mock(StringRedisTemplate.class);
+        instanceA = new TwoLevelCacheManager(sharedL2, properties, publisherA, false);
+        instanceB = new TwoLevelCacheManager(sharedL2, properties, publisherB, false);
+    }
+
+    @Test
+    @DisplayName("L1 에 있는 값은 L2 를 다시 읽지 않는다")
+    void l1HitSkipsL2() {
+        Cache stores = instanceA.getCache("stores");
+        sharedL2.getCache("stores").put("wage:1:1", 10_000);
+
+        assertThat(stores.get("wage:1:1").get()).isEqualTo(10_000);
+        assertThat(stores.get("wage:1:1").get()).isEqualTo(10_000);
+
+        TwoLevelCache near = instanceA.nearCaches().get("stores");
+        assertThat(near.l2Hits()).isEqualTo(1);
+        assertThat(near.l1().stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 삭제 메시지를 받으면 L1 을 지우고 L2 의 새 값을 읽는다")
+    void remoteEvictInvalidatesL1() {
+        Cache storesA = instanceA.getCache("stores");
+        Cache storesB = instanceB.getCache("stores");
+        storesA.put("wage:1:1", 10_000);
+        assertThat(storesB.get("wage:1:1").get()).isEqualTo(10_000);
+
+        storesA.put("wage:1:1", 12_000);
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(publisherA, times(2)).convertAndSend(eq(CHANNEL), message.capture());
+
+        // 메시지 도착 전에는 B 의 L1 이 옛 값을 들고 있다 (TTL 이 상한)
+        assertThat(storesB.get("wage:1:1").get()).isEqualTo(10_000);
+
+        instanceB.onInvalidationMessage(message.getValue());
+
+        assertThat(storesB.get("wage:1:1").get()).isEqualTo(12_000);
+    }
+
+    @Test
+    @DisplayName("자기가 보낸 메시지는 무시하고, 전체 삭제 메시지는 L1 을 비운다")
+    void ownMessageIgnoredAndClearPropagates() {
+        Cache storesA = instanceA.getCache("stores");
+        Cache storesB = instanceB.getCache("stores");
+        storesA.put("wage:1:1", 10_000);
+        storesB.get("wage:1:1");
+
+        storesA.clear();
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(publisherA, times(2)).convertAndSend(eq(CHANNEL), message.capture());
+
+        instanceA.onInvalidationMessage(message.getValue());
+        instanceB.onInvalidationMessage(message.getValue());
+
+        assertThat(instanceB.nearCaches().get("stores").l1().estimatedSize()).isZero();
+        assertThat(storesB.get("wage:1:1")).isNull();
+    }
+
+    @Test
+    @DisplayName("opt-in 하지 않은 캐시는 L1 없이 Redis 캐시를 그대로 쓰고 무효화도 발행하지 않는다")
+    void nonOptedCacheIsNotWrapped() {
+        Cache users = instanceA.getCache("users");
+        users.put("1", "사용자");
+
+        assertThat(users).isNotInstanceOf(TwoLevelCache.class);
+        assertThat(instanceA.nearCaches()).containsOnlyKeys("stores");
+        verify(publisherA, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("비활성화하면 모든 캐시가 L2 만 쓴다")
+    void disabledSkipsL1() {
+        NearCacheProperties disabled = new NearCacheProperties();
+        disabled.setEnabled(false);
+        disabled.getCaches().put("stores", new NearCacheProperties.Spec());
+
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(sharedL2, disabled, publisherA, false);
+
+        assertThat(manager.getCache("stores")).isNotInstanceOf(TwoLevelCache.class);
+        assertThat(manager.nearCaches()).isEmpty();
+    }
+}
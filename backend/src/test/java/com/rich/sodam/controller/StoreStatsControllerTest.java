@@ -4,13 +4,14 @@ import com.rich.sodam.domain.EmployeeProfile;
 import com.rich.sodam.domain.EmployeeStoreRelation;
 import com.rich.sodam.domain.Store;
 import com.rich.sodam.domain.User;
+import com.rich.sodam.domain.type.StoreDailyMetricType;
 import com.rich.sodam.repository.AttendanceCorrectionRequestRepository;
 import com.rich.sodam.repository.AttendanceRepository;
 import com.rich.sodam.repository.EmployeeStoreRelationRepository;
-import com.rich.sodam.repository.PayrollRepository;
 import com.rich.sodam.repository.StoreRepository;
 import com.rich.sodam.security.UserPrincipal;
 import com.rich.sodam.security.authorization.StoreAuthorizationPolicy;
+import com.rich.sodam.service.StoreDailyMetricService;
 import com.rich.sodam.service.StoreStatsService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,11 +23,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 /**
@@ -50,7 +53,7 @@ class StoreStatsControllerTest {
     @Mock
     AttendanceRepository attendanceRepository;
     @Mock
-    PayrollRepository payrollRepository;
+    StoreDailyMetricService storeDailyMetricService;
     @Mock
     AttendanceCorrectionRequestRepository attendanceCorrectionRequestRepository;
     @Mock
@@ -63,7 +66,7 @@ class StoreStatsControllerTest {
     @BeforeEach
     void setUp() {
         StoreStatsService storeStatsService = new StoreStatsService(
-                storeRepository, employeeStoreRelationRepository, attendanceRepository, payrollRepository,
+                storeRepository, employeeStoreRelationRepository, attendanceRepository, storeDailyMetricService,
                 attendanceCorrectionRequestRepository);
         controller = new StoreStatsController(storeStatsService, guard);
     }
@@ -75,9 +78,13 @@ class StoreStatsControllerTest {
         ReflectionTestUtils.setField(store, "id", 7L);
 
         when(storeRepository.findById(7L)).thenReturn(java.util.Optional.of(store));
-        when(employeeStoreRelationRepository.findByStoreAndIsActiveTrue(store)).thenReturn(Collections.emptyList());
+        when(employeeStoreRelationRepository.findWithEmployeeByStoreAndIsActiveTrue(store)).thenReturn(Collections.emptyList());
         when(attendanceRepository.findByStoreAndDate(any(), any(), any())).thenReturn(Collections.emptyList());
-        when(payrollRepository.findByStore_IdOrderByEndDateDesc(7L)).thenReturn(Collections.emptyList());
+        Map<StoreDailyMetricType, Double> noPayroll = new EnumMap<>(StoreDailyMetricType.class);
+        for (StoreDailyMetricType type : StoreDailyMetricType.values()) {
+            noPayroll.put(type, 0.0);
+        }
+        when(storeDailyMetricService.sum(eq(7L), any(), any())).thenReturn(noPayroll);
 
         ResponseEntity<Map<String, Object>> todayResponse = controller.today(principal, 7L);
         ResponseEntity<Map<String, Object>> monthToDateResponse = controller.monthToDate(principal, 7L);
@@ -109,7 +116,7 @@ class StoreStatsControllerTest {
         EmployeeStoreRelation relation = new EmployeeStoreRelation(profile, store);
 
         when(storeRepository.findById(7L)).thenReturn(java.util.Optional.of(store));
-        when(employeeStoreRelationRepository.findByStoreAndIsActiveTrue(store)).thenReturn(List.of(relation));
+        when(employeeStoreRelationRepository.findWithEmployeeByStoreAndIsActiveTrue(store)).thenReturn(List.of(relation));
         when(attendanceRepository.findByStoreAndDate(any(), any(), any())).thenReturn(Collections.emptyList());
 
         Map<String, Object> body = controller.today(principal, 7L).getBody();
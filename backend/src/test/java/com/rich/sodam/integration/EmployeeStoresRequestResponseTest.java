@@ -0,0 +1,102 @@
+package com.rich.sodam.integration;
+
+import com.rich.sodam.domain.EmployeeProfile;
+import com.rich.sodam.domain.EmployeeStoreRelation;
+import com.rich.sodam.domain.Store;
+import com.rich.sodam.domain.User;
+import com.rich.sodam.domain.type.UserGrade;
+import com.rich.sodam.repository.EmployeeProfileRepository;
+import com.rich.sodam.repository.EmployeeStoreRelationRepository;
+import com.rich.sodam.repository.StoreRepository;
+import com.rich.sodam.repository.UserRepository;
+import com.rich.sodam.security.UserPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * GET /api/stores/employee/{userId} — 직원 본인 매장 목록(매장 패스·출근 화면).
+ *
+ * <p>클래스 레벨 {@code @Transactional} 을 의도적으로 쓰지 않는다. 테스트 트랜잭션이 요청을 감싸면 서비스의
+ * 읽기 트랜잭션이 거기 합류해 컨트롤러의 DTO 변환까지 영속성 컨텍스트가 열려 있게 되고, 운영(open-in-view
+ * false)에서만 나는 지연 로딩 예외를 놓친다. 픽스처는 독립 커밋하고 {@link #cleanup()}에서 지운다.</p>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class EmployeeStoresRequestResponseTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EmployeeProfileRepository employeeProfileRepository;
+    @Autowired private StoreRepository storeRepository;
+    @Autowired private EmployeeStoreRelationRepository relationRepository;
+
+    private User employee;
+    private final List<EmployeeStoreRelation> relations = new ArrayList<>();
+    private final List<Store> stores = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        employee = new User("employee_stores_" + System.nanoTime() + "@example.com", "매장목록직원");
+        employee.setUserGrade(UserGrade.EMPLOYEE);
+        employee = userRepository.save(employee);
+        EmployeeProfile profile = employeeProfileRepository.save(new EmployeeProfile(employee));
+
+        relations.add(relationRepository.save(new EmployeeStoreRelation(profile, store("현재매장"), 10_000)));
+        EmployeeStoreRelation former = new EmployeeStoreRelation(profile, store("퇴사매장"), 10_000);
+        former.setIsActive(false);
+        relations.add(relationRepository.save(former));
+    }
+
+    @AfterEach
+    void cleanup() {
+        relationRepository.deleteAll(relations);
+        storeRepository.deleteAll(stores);
+        employeeProfileRepository.deleteById(employee.getId());
+        userRepository.deleteById(employee.getId());
+    }
+
+    @Test
+    @DisplayName("활성 소속 매장 이름까지 응답한다 — 트랜잭션 밖 DTO 변환에서 지연 로딩 예외가 나지 않는다")
+    void returnsActiveStoresWithNames() throws Exception {
+        mockMvc.perform(get("/api/stores/employee/{userId}", employee.getId())
+                        .with(SecurityMockMvcRequestPostProcessors.user(UserPrincipal.create(employee))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].storeName").value("현재매장"));
+    }
+
+    @Test
+    @DisplayName("includeInactive=true 는 퇴사 매장 이름도 함께 응답한다(WP-6 경력증명서)")
+    void includeInactiveReturnsFormerStoresWithNames() throws Exception {
+        mockMvc.perform(get("/api/stores/employee/{userId}", employee.getId())
+                        .param("includeInactive", "true")
+                        .with(SecurityMockMvcRequestPostProcessors.user(UserPrincipal.create(employee))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].storeName", containsInAnyOrder("현재매장", "퇴사매장")));
+    }
+
+    private Store store(String name) {
+        String unique = String.valueOf(System.nanoTime());
+        Store store = storeRepository.save(new Store(name, unique.substring(unique.length() - 10),
+                "02-111-0000", "카페", 10_000, 100));
+        stores.add(store);
+        return store;
+    }
+}
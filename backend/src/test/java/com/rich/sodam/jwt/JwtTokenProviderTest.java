@@ -3,6 +3,11 @@ package com.rich.sodam.jwt;
 import com.rich.sodam.domain.User;
 import com.rich.sodam.domain.type.UserGrade;
 import com.rich.sodam.exception.InvalidTokenException;
+import com.rich.sodam.security.UserPrincipal;
+import com.rich.sodam.service.AccessTokenCutoff;
+import com.rich.sodam.service.AccessTokenRevocationService;
+import com.rich.sodam.service.TokenStore;
+import com.rich.sodam.service.support.AfterCommitExecutor;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,7 +22,13 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -46,6 +57,15 @@ class JwtTokenProviderTest {
         return p;
     }
 
+    private JwtTokenProvider newStatelessProvider(AccessTokenRevocationService revocationService) {
+        JwtTokenProvider p = new JwtTokenProvider(userDetailsService, revocationService);
+        ReflectionTestUtils.setField(p, "secretKey", SECRET);
+        ReflectionTestUtils.setField(p, "tokenValidityInSeconds", 3600L);
+        ReflectionTestUtils.setField(p, "statelessPrincipal", true);
+        p.init();
+        return p;
+    }
+
     @BeforeEach
     void setUp() {
         userDetailsService = mock(UserDetailsService.class);
@@ -115,4 +135,80 @@ class JwtTokenProviderTest {
         when(noBearer.getHeader("Authorization")).thenReturn("Basic abc");
         assertThat(provider.resolveToken(noBearer)).isNull();
     }
+
+    @Test
+    @DisplayName("무상태 모드: 클레임으로 principal 을 만들고 사용자 조회를 하지 않는다")
+    void statelessPrincipalSkipsUserLookup() {
+        TokenStore tokenStore = mock(TokenStore.class);
+        when(tokenStore.findAccessTokenCutoff(42L)).thenReturn(AccessTokenCutoff.NONE);
+        JwtTokenProvider stateless = newStatelessProvider(
+                new AccessTokenRevocationService(tokenStore, new AfterCommitExecutor(), 3600, 5));
+
+        String token = stateless.createToken(user(42L, "a@b.com"));
+        Authentication first = stateless.getAuthentication(token);
+        Authentication second = stateless.getAuthentication(token);
+
+        assertThat(first.getPrincipal()).isInstanceOf(UserPrincipal.class);
+        assertThat(((UserPrincipal) first.getPrincipal()).getId()).isEqualTo(42L);
+        assertThat(second.getAuthorities()).extracting("authority").containsExactly("ROLE_PERSONAL");
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+        // 기준 시각은 로컬 캐시 — 같은 사용자의 연속 요청은 저장소를 한 번만 읽는다.
+        verify(tokenStore, times(1)).findAccessTokenCutoff(42L);
+    }
+
+    @Test
+    @DisplayName("로그아웃(폐기) 이전에 발급된 토큰은 거부되고, 이후 발급 토큰은 통과한다")
+    void revokedTokenIsRejected() throws InterruptedException {
+        TokenStore tokenStore = mock(TokenStore.class);
+        AccessTokenRevocationService revocations =
+                new AccessTokenRevocationService(tokenStore, new AfterCommitExecutor(), 3600, 5);
+        JwtTokenProvider stateless = newStatelessProvider(revocations);
+        String before = stateless.createToken(user(42L, "a@b.com"));
+
+        Thread.sleep(2);
+        long revokedAt = System.currentTimeMillis();
+        when(tokenStore.findAccessTokenCutoff(42L)).thenReturn(new AccessTokenCutoff(revokedAt, 0L));
+        revocations.revokeAfterCommit(42L);
+        Thread.sleep(2);
+        String after = stateless.createToken(user(42L, "a@b.com"));
+
+        verify(tokenStore).revokeAccessTokensIssuedBefore(eq(42L), anyLong(), eq(3600L));
+        assertThatThrownBy(() -> stateless.getAuthentication(before)).isInstanceOf(InvalidTokenException.class);
+        assertThat(stateless.getAuthentication(after).getName()).isEqualTo("42");
+    }
+
+    @Test
+    @DisplayName("필터 밖에서 직접 검증하는 경로(validateToken)도 폐기 이전 발급 토큰을 거부한다")
+    void validateTokenRejectsRevokedToken() throws InterruptedException {
+        TokenStore tokenStore = mock(TokenStore.class);
+        JwtTokenProvider stateless = newStatelessProvider(
+                new AccessTokenRevocationService(tokenStore, new AfterCommitExecutor(), 3600, 5));
+        String before = stateless.createToken(user(42L, "a@b.com"));
+        Thread.sleep(2);
+        when(tokenStore.findAccessTokenCutoff(42L))
+                .thenReturn(new AccessTokenCutoff(System.currentTimeMillis(), 0L));
+        Thread.sleep(2);
+        String after = stateless.createToken(user(42L, "a@b.com"));
+
+        assertThat(stateless.validateToken(before)).isFalse();
+        assertThat(stateless.validateToken(after)).isTrue();
+    }
+
+    @Test
+    @DisplayName("등급 변경 이전 발급 토큰은 등급 클레임 대신 DB 에서 principal 을 다시 읽는다")
+    void principalChangeFallsBackToUserLookup() {
+        TokenStore tokenStore = mock(TokenStore.class);
+        JwtTokenProvider stateless = newStatelessProvider(
+                new AccessTokenRevocationService(tokenStore, new AfterCommitExecutor(), 3600, 5));
+        String token = stateless.createToken(user(42L, "a@b.com"));
+        when(tokenStore.findAccessTokenCutoff(42L))
+                .thenReturn(new AccessTokenCutoff(0L, System.currentTimeMillis()));
+        when(userDetailsService.loadUserByUsername("a@b.com")).thenReturn(new UserPrincipal(42L, "a@b.com",
+                List.of(new SimpleGrantedAuthority("ROLE_MASTER"))));
+
+        Authentication auth = stateless.getAuthentication(token);
+
+        assertThat(auth.getAuthorities()).extracting("authority").containsExactly("ROLE_MASTER");
+        verify(userDetailsService).loadUserByUsername("a@b.com");
+    }
 }
@@ -66,13 +66,13 @@ class StoreAuthorizationPolicyTest {
 
     @Test
     void masterOwnsStore_passes() {
-        when(masterRepository.existsByMasterProfile_IdAndStore_Id(MASTER_ID, STORE_ID)).thenReturn(true);
+        when(masterRepository.findStoreIdsByMasterProfileId(MASTER_ID)).thenReturn(List.of(STORE_ID));
         assertThatCode(() -> policy.assertMasterOwnsStore(MASTER_ID, STORE_ID)).doesNotThrowAnyException();
     }
 
     @Test
     void masterDoesNotOwnAnotherStore_throws() {
-        when(masterRepository.existsByMasterProfile_IdAndStore_Id(MASTER_ID, OTHER_STORE_ID)).thenReturn(false);
+        when(masterRepository.findStoreIdsByMasterProfileId(MASTER_ID)).thenReturn(List.of());
         assertThatThrownBy(() -> policy.assertMasterOwnsStore(MASTER_ID, OTHER_STORE_ID))
                 .isInstanceOf(AccessDeniedException.class);
     }
@@ -81,21 +81,21 @@ class StoreAuthorizationPolicyTest {
 
     @Test
     void employeeInOwnStore_passes() {
-        when(employeeRepository.existsByEmployeeProfile_IdAndStore_Id(EMPLOYEE_ID, STORE_ID)).thenReturn(true);
+        when(employeeRepository.findByEmployeeProfile_Id(EMPLOYEE_ID)).thenReturn(List.of(relationIn(STORE_ID, true)));
         assertThatCode(() -> policy.assertEmployeeInStore(EMPLOYEE_ID, STORE_ID)).doesNotThrowAnyException();
     }
 
     @Test
     void employeeNotInStore_throws() {
-        when(employeeRepository.existsByEmployeeProfile_IdAndStore_Id(EMPLOYEE_ID, OTHER_STORE_ID)).thenReturn(false);
+        when(employeeRepository.findByEmployeeProfile_Id(EMPLOYEE_ID)).thenReturn(List.of());
         assertThatThrownBy(() -> policy.assertEmployeeInStore(EMPLOYEE_ID, OTHER_STORE_ID))
                 .isInstanceOf(AccessDeniedException.class);
     }
 
     @Test
     void inactiveEmployeeCannotPassTheCurrentEmploymentGuard() {
-        when(employeeRepository.existsByEmployeeProfile_IdAndStore_IdAndIsActiveTrue(EMPLOYEE_ID, STORE_ID))
-                .thenReturn(false);
+        when(employeeRepository.findByEmployeeProfile_Id(EMPLOYEE_ID))
+                .thenReturn(List.of(relationIn(STORE_ID, false)));
 
         assertThatThrownBy(() -> policy.assertActiveEmployeeInStore(EMPLOYEE_ID, STORE_ID))
                 .isInstanceOf(AccessDeniedException.class);
@@ -103,8 +103,8 @@ class StoreAuthorizationPolicyTest {
 
     @Test
     void activeEmployeePassesTheCurrentEmploymentGuard() {
-        when(employeeRepository.existsByEmployeeProfile_IdAndStore_IdAndIsActiveTrue(EMPLOYEE_ID, STORE_ID))
-                .thenReturn(true);
+        when(employeeRepository.findByEmployeeProfile_Id(EMPLOYEE_ID))
+                .thenReturn(List.of(relationIn(STORE_ID, true)));
 
         assertThatCode(() -> policy.assertActiveEmployeeInStore(EMPLOYEE_ID, STORE_ID))
                 .doesNotThrowAnyException();
@@ -114,30 +114,30 @@ class StoreAuthorizationPolicyTest {
 
     @Test
     void memberOfStore_masterPasses() {
-        when(masterRepository.existsByMasterProfile_IdAndStore_Id(MASTER_ID, STORE_ID)).thenReturn(true);
+        when(masterRepository.findStoreIdsByMasterProfileId(MASTER_ID)).thenReturn(List.of(STORE_ID));
         assertThatCode(() -> policy.assertMemberOfStore(MASTER_ID, STORE_ID)).doesNotThrowAnyException();
     }
 
     @Test
     void memberOfStore_employeePasses() {
-        when(masterRepository.existsByMasterProfile_IdAndStore_Id(EMPLOYEE_ID, STORE_ID)).thenReturn(false);
-        when(employeeRepository.existsByEmployeeProfile_IdAndStore_Id(EMPLOYEE_ID, STORE_ID)).thenReturn(true);
+        when(masterRepository.findStoreIdsByMasterProfileId(EMPLOYEE_ID)).thenReturn(List.of());
+        when(employeeRepository.findByEmployeeProfile_Id(EMPLOYEE_ID)).thenReturn(List.of(relationIn(STORE_ID, true)));
         assertThatCode(() -> policy.assertMemberOfStore(EMPLOYEE_ID, STORE_ID)).doesNotThrowAnyException();
     }
 
     @Test
     void nonMember_throws() {
-        when(masterRepository.existsByMasterProfile_IdAndStore_Id(OTHER_EMPLOYEE_ID, STORE_ID)).thenReturn(false);
-        when(employeeRepository.existsByEmployeeProfile_IdAndStore_Id(OTHER_EMPLOYEE_ID, STORE_ID)).thenReturn(false);
+        when(masterRepository.findStoreIdsByMasterProfileId(OTHER_EMPLOYEE_ID)).thenReturn(List.of());
+        when(employeeRepository.findByEmployeeProfile_Id(OTHER_EMPLOYEE_ID)).thenReturn(List.of());
         assertThatThrownBy(() -> policy.assertMemberOfStore(OTHER_EMPLOYEE_ID, STORE_ID))
                 .isInstanceOf(AccessDeniedException.class);
     }
 
     @Test
     void inactiveEmployeeCannotPassTheCurrentMemberGuard() {
-        when(masterRepository.existsByMasterProfile_IdAndStore_Id(EMPLOYEE_ID, STORE_ID)).thenReturn(false);
-        when(employeeRepository.existsByEmployeeProfile_IdAndStore_IdAndIsActiveTrue(EMPLOYEE_ID, STORE_ID))
-                .thenReturn(false);
+        when(masterRepository.findStoreIdsByMasterProfileId(EMPLOYEE_ID)).thenReturn(List.of());
+        when(employeeRepository.findByEmployeeProfile_Id(EMPLOYEE_ID))
+                .thenReturn(List.of(relationIn(STORE_ID, false)));
 
         assertThatThrownBy(() -> policy.assertActiveMemberOfStore(EMPLOYEE_ID, STORE_ID))
                 .isInstanceOf(AccessDeniedException.class);
@@ -171,7 +171,7 @@ class StoreAuthorizationPolicyTest {
         EmployeeStoreRelation relation = new EmployeeStoreRelation();
         relation.setStore(store);
         when(employeeRepository.findByEmployeeProfile_Id(OTHER_EMPLOYEE_ID)).thenReturn(List.of(relation));
-        when(masterRepository.existsByMasterProfile_IdAndStore_Id(MASTER_ID, STORE_ID)).thenReturn(true);
+        when(masterRepository.findStoreIdsByMasterProfileId(MASTER_ID)).thenReturn(List.of(STORE_ID));
 
         assertThatCode(() -> policy.assertCanViewEmployee(MASTER_ID, OTHER_EMPLOYEE_ID, true))
                 .doesNotThrowAnyException();
@@ -183,7 +183,7 @@ class StoreAuthorizationPolicyTest {
         EmployeeStoreRelation relation = new EmployeeStoreRelation();
         relation.setStore(store);
         when(employeeRepository.findByEmployeeProfile_Id(OTHER_EMPLOYEE_ID)).thenReturn(List.of(relation));
-        when(masterRepository.existsByMasterProfile_IdAndStore_Id(MASTER_ID, OTHER_STORE_ID)).thenReturn(false);
+        when(masterRepository.findStoreIdsByMasterProfileId(MASTER_ID)).thenReturn(List.of());
 
         assertThatThrownBy(() -> policy.assertCanViewEmployee(MASTER_ID, OTHER_EMPLOYEE_ID, true))
                 .isInstanceOf(AccessDeniedException.class);
@@ -204,7 +204,7 @@ class StoreAuthorizationPolicyTest {
         TimeOff timeOff = new TimeOff();
         timeOff.setStore(store);
         when(timeOffRepository.findById(100L)).thenReturn(Optional.of(timeOff));
-        when(masterRepository.existsByMasterProfile_IdAndStore_Id(MASTER_ID, STORE_ID)).thenReturn(true);
+        when(masterRepository.findStoreIdsByMasterProfileId(MASTER_ID)).thenReturn(List.of(STORE_ID));
 
         assertThatCode(() -> policy.assertMasterOwnsTimeOff(MASTER_ID, 100L)).doesNotThrowAnyException();
     }
@@ -215,7 +215,7 @@ class StoreAuthorizationPolicyTest {
         TimeOff timeOff = new TimeOff();
         timeOff.setStore(store);
         when(timeOffRepository.findById(100L)).thenReturn(Optional.of(timeOff));
-        when(masterRepository.existsByMasterProfile_IdAndStore_Id(MASTER_ID, OTHER_STORE_ID)).thenReturn(false);
+        when(masterRepository.findStoreIdsByMasterProfileId(MASTER_ID)).thenReturn(List.of());
 
         assertThatThrownBy(() -> policy.assertMasterOwnsTimeOff(MASTER_ID, 100L))
                 .isInstanceOf(AccessDeniedException.class);
@@ -232,16 +232,16 @@ class StoreAuthorizationPolicyTest {
 
     @Test
     void manager_notFoundRelation_throwsPermissionDenied() {
-        when(employeeRepository.findByEmployeeProfile_IdAndStore_IdAndIsActiveTrue(EMPLOYEE_ID, STORE_ID))
-                .thenReturn(Optional.empty());
+        when(employeeRepository.findByEmployeeProfile_Id(EMPLOYEE_ID))
+                .thenReturn(List.of());
         assertManagerCode(EMPLOYEE_ID, STORE_ID, ManagerPermission.ATTENDANCE_APPROVE, "MGR-001");
     }
 
     @Test
     void manager_regularStaff_throwsPermissionDenied() {
         EmployeeStoreRelation relation = new EmployeeStoreRelation();
-        when(employeeRepository.findByEmployeeProfile_IdAndStore_IdAndIsActiveTrue(EMPLOYEE_ID, STORE_ID))
-                .thenReturn(Optional.of(relation));
+        when(employeeRepository.findByEmployeeProfile_Id(EMPLOYEE_ID))
+                .thenReturn(List.of(inStore(relation, STORE_ID)));
         assertManagerCode(EMPLOYEE_ID, STORE_ID, ManagerPermission.ATTENDANCE_APPROVE, "MGR-001");
     }
 
@@ -249,16 +249,16 @@ class StoreAuthorizationPolicyTest {
     void manager_signaturePending_throwsSignaturePending() {
         EmployeeStoreRelation relation = new EmployeeStoreRelation();
         relation.draftManagerAppointment(EnumSet.of(ManagerPermission.ATTENDANCE_APPROVE), LocalDateTime.now());
-        when(employeeRepository.findByEmployeeProfile_IdAndStore_IdAndIsActiveTrue(EMPLOYEE_ID, STORE_ID))
-                .thenReturn(Optional.of(relation));
+        when(employeeRepository.findByEmployeeProfile_Id(EMPLOYEE_ID))
+                .thenReturn(List.of(inStore(relation, STORE_ID)));
         assertManagerCode(EMPLOYEE_ID, STORE_ID, ManagerPermission.ATTENDANCE_APPROVE, "MGR-004");
     }
 
     @Test
     void manager_subscriptionFrozen_throwsSubscriptionFrozen() {
         EmployeeStoreRelation relation = activeManager(EnumSet.of(ManagerPermission.ATTENDANCE_APPROVE));
-        when(employeeRepository.findByEmployeeProfile_IdAndStore_IdAndIsActiveTrue(EMPLOYEE_ID, STORE_ID))
-                .thenReturn(Optional.of(relation));
+        when(employeeRepository.findByEmployeeProfile_Id(EMPLOYEE_ID))
+                .thenReturn(List.of(inStore(relation, STORE_ID)));
         when(planAccessService.storeOwnerHasFeature(STORE_ID, PlanFeature.MANAGER_DELEGATION)).thenReturn(false);
         assertManagerCode(EMPLOYEE_ID, STORE_ID, ManagerPermission.ATTENDANCE_APPROVE, "MGR-005");
     }
@@ -267,8 +267,8 @@ class StoreAuthorizationPolicyTest {
     void manager_missingSpecificPermission_throwsPermissionDenied() {
         // 서명 완료·구독 활성이지만 요청 권한(SCHEDULE_MANAGE)이 부여목록에 없는 케이스.
         EmployeeStoreRelation relation = activeManager(EnumSet.of(ManagerPermission.ATTENDANCE_APPROVE));
-        when(employeeRepository.findByEmployeeProfile_IdAndStore_IdAndIsActiveTrue(EMPLOYEE_ID, STORE_ID))
-                .thenReturn(Optional.of(relation));
+        when(employeeRepository.findByEmployeeProfile_Id(EMPLOYEE_ID))
+                .thenReturn(List.of(inStore(relation, STORE_ID)));
         when(planAccessService.storeOwnerHasFeature(STORE_ID, PlanFeature.MANAGER_DELEGATION)).thenReturn(true);
         assertManagerCode(EMPLOYEE_ID, STORE_ID, ManagerPermission.SCHEDULE_MANAGE, "MGR-001");
     }
@@ -276,8 +276,8 @@ class StoreAuthorizationPolicyTest {
     @Test
     void manager_fullyQualified_passes() {
         EmployeeStoreRelation relation = activeManager(EnumSet.of(ManagerPermission.ATTENDANCE_APPROVE));
-        when(employeeRepository.findByEmployeeProfile_IdAndStore_IdAndIsActiveTrue(EMPLOYEE_ID, STORE_ID))
-                .thenReturn(Optional.of(relation));
+        when(employeeRepository.findByEmployeeProfile_Id(EMPLOYEE_ID))
+                .thenReturn(List.of(inStore(relation, STORE_ID)));
         when(planAccessService.storeOwnerHasFeature(STORE_ID, PlanFeature.MANAGER_DELEGATION)).thenReturn(true);
 
         assertThatCode(() -> policy.assertManagerPermission(EMPLOYEE_ID, STORE_ID, ManagerPermission.ATTENDANCE_APPROVE))
@@ -300,7 +300,7 @@ class StoreAuthorizationPolicyTest {
 
     @Test
     void masterOrManager_masterBypassesManagerLookup() {
-        when(masterRepository.existsByMasterProfile_IdAndStore_Id(MASTER_ID, STORE_ID)).thenReturn(true);
+        when(masterRepository.findStoreIdsByMasterProfileId(MASTER_ID)).thenReturn(List.of(STORE_ID));
 
         assertThatCode(() -> policy.assertMasterOrManagerPermission(
                 MASTER_ID, STORE_ID, ManagerPermission.ATTENDANCE_APPROVE)).doesNotThrowAnyException();
@@ -309,9 +309,9 @@ class StoreAuthorizationPolicyTest {
 
     @Test
     void masterOrManager_nonMasterDelegatesToManagerCheck() {
-        when(masterRepository.existsByMasterProfile_IdAndStore_Id(EMPLOYEE_ID, STORE_ID)).thenReturn(false);
-        when(employeeRepository.findByEmployeeProfile_IdAndStore_IdAndIsActiveTrue(EMPLOYEE_ID, STORE_ID))
-                .thenReturn(Optional.empty());
+        when(masterRepository.findStoreIdsByMasterProfileId(EMPLOYEE_ID)).thenReturn(List.of());
+        when(employeeRepository.findByEmployeeProfile_Id(EMPLOYEE_ID))
+                .thenReturn(List.of());
 
         assertThatThrownBy(() -> policy.assertMasterOrManagerPermission(
                 EMPLOYEE_ID, STORE_ID, ManagerPermission.ATTENDANCE_APPROVE))
@@ -327,7 +327,7 @@ class StoreAuthorizationPolicyTest {
         TimeOff timeOff = new TimeOff();
         timeOff.setStore(store);
         when(timeOffRepository.findById(100L)).thenReturn(Optional.of(timeOff));
-        when(masterRepository.existsByMasterProfile_IdAndStore_Id(MASTER_ID, STORE_ID)).thenReturn(true);
+        when(masterRepository.findStoreIdsByMasterProfileId(MASTER_ID)).thenReturn(List.of(STORE_ID));
 
         assertThatCode(() -> policy.assertMasterOrManagerOwnsTimeOff(
                 MASTER_ID, 100L, ManagerPermission.TIMEOFF_APPROVE)).doesNotThrowAnyException();
@@ -347,7 +347,7 @@ class StoreAuthorizationPolicyTest {
 
     @Test
     void isMasterOwner_true() {
-        when(masterRepository.existsByMasterProfile_IdAndStore_Id(MASTER_ID, STORE_ID)).thenReturn(true);
+        when(masterRepository.findStoreIdsByMasterProfileId(MASTER_ID)).thenReturn(List.of(STORE_ID));
         assertThat(policy.isMasterOwner(MASTER_ID, STORE_ID)).isTrue();
     }
 
@@ -390,6 +390,19 @@ class StoreAuthorizationPolicyTest {
         return store;
     }
 
+    private EmployeeStoreRelation relationIn(Long storeId, boolean active) {
+        EmployeeStoreRelation relation = inStore(new EmployeeStoreRelation(), storeId);
+        if (!active) {
+            relation.changeActive(false);
+        }
+        return relation;
+    }
+
+    private EmployeeStoreRelation inStore(EmployeeStoreRelation relation, Long storeId) {
+        relation.setStore(storeWithId(storeId));
+        return relation;
+    }
+
     private EmployeeStoreRelation activeManager(java.util.Set<ManagerPermission> permissions) {
         EmployeeStoreRelation relation = new EmployeeStoreRelation();
         relation.draftManagerAppointment(permissions, LocalDateTime.now());
@@ -0,0 +1,141 @@
+package com.rich.sodam.security.authorization;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.rich.sodam.domain.EmployeeStoreRelation;
+import com.rich.sodam.domain.Store;
+import com.rich.sodam.domain.type.ManagerPermission;
+import com.rich.sodam.domain.type.StoreRole;
+import com.rich.sodam.repository.EmployeeStoreRelationRepository;
+import com.rich.sodam.repository.MasterStoreRelationRepository;
+import com.rich.sodam.service.support.AfterCommitExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 인가 스냅샷 캐시: 두 번째 검사부터 저장소를 읽지 않고, 소속 변경은 커밋 이후에만 지워지며,
+ * Redis(L2) JSON 왕복 뒤에도 같은 판정을 내리는지 검증.
+ */
+@ExtendWith(MockitoExtension.class)
+class StoreMembershipCacheTest {
+
+    private static final Long USER_ID = 7L;
+    private static final Long STORE_ID = 10L;
+
+    @Mock MasterStoreRelationRepository masterRepository;
+    @Mock EmployeeStoreRelationRepository employeeRepository;
+
+    StoreMembershipCache membershipCache;
+    StoreAuthorizationPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        membershipCache = new StoreMembershipCache(masterRepository, employeeRepository,
+                new ConcurrentMapCacheManager(StoreMembershipCache.CACHE_NAME), new AfterCommitExecutor());
+        policy = new StoreAuthorizationPolicy(membershipCache, null, null, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 반복 인가 검사는 저장소를 한 번만 읽는다")
+    void repeatedChecksHitSnapshot() {
+        when(masterRepository.findStoreIdsByMasterProfileId(USER_ID)).thenReturn(List.of(STORE_ID));
+
+        for (int i = 0; i < 5; i++) {
+            policy.assertMasterOwnsStore(USER_ID, STORE_ID);
+            policy.assertMemberOfStore(USER_ID, STORE_ID);
+        }
+
+        verify(masterRepository, times(1)).findStoreIdsByMasterProfileId(USER_ID);
+    }
+
+    @Test
+    @DisplayName("비활성화는 커밋 전까지 스냅샷을 유지하고, 커밋 이후 다시 읽어 재직 검사를 막는다")
+    void evictionWaitsForCommit() {
+        EmployeeStoreRelation relation = relationIn(STORE_ID);
+        when(employeeRepository.findByEmployeeProfile_Id(USER_ID)).thenReturn(List.of(relation));
+        assertThat(membershipCache.employments(USER_ID).in(STORE_ID).isActive()).isTrue();
+
+        TransactionSynchronizationManager.initSynchronization();
+        relation.changeActive(false);
+        membershipCache.evictAfterCommit(USER_ID);
+
+        assertThat(membershipCache.employments(USER_ID).in(STORE_ID).isActive()).isTrue();
+        verify(employeeRepository, times(1)).findByEmployeeProfile_Id(USER_ID);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(membershipCache.employments(USER_ID).in(STORE_ID).isActive()).isFalse();
+        verify(employeeRepository, times(2)).findByEmployeeProfile_Id(USER_ID);
+    }
+
+    @Test
+    @DisplayName("스냅샷은 캐시 직렬화기(NON_FINAL 기본 타이핑) JSON 왕복 뒤에도 같은 값을 준다")
+    void snapshotSurvivesRedisSerialization() {
+        EmployeeStoreRelation relation = relationIn(STORE_ID);
+        relation.draftManagerAppointment(EnumSet.of(ManagerPermission.ATTENDANCE_APPROVE), LocalDateTime.now());
+        relation.activateManagerDelegation(88L, relation.getManagerDelegationVersion(), LocalDateTime.now());
+        when(employeeRepository.findByEmployeeProfile_Id(USER_ID)).thenReturn(List.of(relation));
+        when(masterRepository.findStoreIdsByMasterProfileId(USER_ID)).thenReturn(List.of(STORE_ID, 11L));
+        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(cacheObjectMapper());
+
+        StoreMembershipCache.Employments employments = (StoreMembershipCache.Employments)
+                serializer.deserialize(serializer.serialize(membershipCache.employments(USER_ID)));
+        StoreMembershipCache.Ownership ownership = (StoreMembershipCache.Ownership)
+                serializer.deserialize(serializer.serialize(membershipCache.ownership(USER_ID)));
+
+        StoreMembershipCache.Employment employment = employments.in(STORE_ID);
+        assertThat(employment.getStoreRole()).isEqualTo(StoreRole.MANAGER);
+        assertThat(employment.isManagerSigned()).isTrue();
+        assertThat(employment.hasActiveManagerPermission(ManagerPermission.ATTENDANCE_APPROVE)).isTrue();
+        assertThat(employment.hasActiveManagerPermission(ManagerPermission.SCHEDULE_MANAGE)).isFalse();
+        assertThat(ownership.owns(STORE_ID)).isTrue();
+        assertThat(ownership.owns(12L)).isFalse();
+    }
+
+    /** RedisConfig#createCacheObjectMapper 와 같은 타이핑 설정. */
+    private static ObjectMapper cacheObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        objectMapper.activateDefaultTyping(LaissezFaireSubTypeValidator.instance, ObjectMapper.DefaultTyping.NON_FINAL);
+        return objectMapper;
+    }
+
+    private static EmployeeStoreRelation relationIn(Long storeId) {
+        Store store = new Store("테스트매장", "1234567890", "010-0000-0000", "카페", 12_000, 100);
+        ReflectionTestUtils.setField(store, "id", storeId);
+        EmployeeStoreRelation relation = new EmployeeStoreRelation();
+        relation.setStore(store);
+        return relation;
+    }
+}
@@ -0,0 +1,111 @@
+package com.rich.sodam.service;
+
+import com.rich.sodam.domain.Attendance;
+import com.rich.sodam.domain.EmployeeProfile;
+import com.rich.sodam.domain.EmployeeStoreRelation;
+import com.rich.sodam.domain.Store;
+import com.rich.sodam.domain.User;
+import com.rich.sodam.repository.EmployeeProfileRepository;
+import com.rich.sodam.repository.EmployeeStoreRelationRepository;
+import com.rich.sodam.repository.StoreRepository;
+import com.rich.sodam.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 출퇴근이 "attendance" 캐시를 통째로 비우지 않고 해당 직원·매장 조회만 무효화하는지 검증.
+ *
+ * <p>세대 교체는 커밋 이후에 일어나므로 이 클래스는 {@code @Transactional}을 붙이지 않는다 — 서비스
+ * 호출마다 실제로 커밋된다. 매 테스트가 고유한 사업자번호/이메일을 써서 서로 간섭하지 않게 한다.</p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AttendanceCacheGenerationsTest {
+
+    private static final AtomicLong SEQ = new AtomicLong(System.nanoTime() % 100_000_000L);
+
+    @Autowired private AttendanceService attendanceService;
+    @Autowired private AttendanceCacheGenerations attendanceCacheGenerations;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EmployeeProfileRepository employeeProfileRepository;
+    @Autowired private StoreRepository storeRepository;
+    @Autowired private EmployeeStoreRelationRepository employeeStoreRelationRepository;
+
+    private EmployeeProfile employeeA;
+    private EmployeeProfile employeeB;
+    private Store storeA;
+    private Store storeB;
+    private LocalDateTime from;
+    private LocalDateTime to;
+
+    @BeforeEach
+    void setUp() {
+        storeA = newStore("세대A매장");
+        storeB = newStore("세대B매장");
+        employeeA = newEmployee(storeA);
+        employeeB = newEmployee(storeB);
+        from = LocalDate.now().atStartOfDay();
+        to = LocalDate.now().atTime(23, 59, 59);
+    }
+
+    @Test
+    @DisplayName("A매장 출근은 A매장·해당 직원 조회만 무효화하고 B매장 캐시는 그대로 둔다")
+    void checkInInvalidatesOnlyAffectedStoreAndEmployee() {
+        List<Attendance> storeABefore = attendanceService.getAttendancesByStoreAndPeriod(storeA.getId(), from, to);
+        List<Attendance> storeBBefore = attendanceService.getAttendancesByStoreAndPeriod(storeB.getId(), from, to);
+        List<Attendance> employeeABefore = attendanceService.getAttendancesByEmployeeAndPeriod(employeeA.getId(), from, to);
+        List<Attendance> employeeBBefore = attendanceService.getAttendancesByEmployeeAndPeriod(employeeB.getId(), from, to);
+        String storeBGeneration = attendanceCacheGenerations.store(storeB.getId());
+
+        attendanceService.checkIn(employeeA.getId(), storeA.getId(), null, null, from.plusMinutes(1));
+
+        // 영향받은 매장·직원은 새 세대 키로 다시 읽어 방금 출근 기록이 보인다
+        assertThat(storeABefore).isEmpty();
+        assertThat(attendanceService.getAttendancesByStoreAndPeriod(storeA.getId(), from, to)).hasSize(1);
+        assertThat(employeeABefore).isEmpty();
+        assertThat(attendanceService.getAttendancesByEmployeeAndPeriod(employeeA.getId(), from, to)).hasSize(1);
+
+        // 다른 매장·직원은 세대가 그대로라 같은 캐시 항목(같은 인스턴스)이 나온다
+        assertThat(attendanceCacheGenerations.store(storeB.getId())).isEqualTo(storeBGeneration);
+        assertThat(attendanceService.getAttendancesByStoreAndPeriod(storeB.getId(), from, to)).isSameAs(storeBBefore);
+        assertThat(attendanceService.getAttendancesByEmployeeAndPeriod(employeeB.getId(), from, to)).isSameAs(employeeBBefore);
+    }
+
+    @Test
+    @DisplayName("퇴근도 해당 매장 세대를 바꿔 '근무중' 상태가 캐시에 남지 않는다")
+    void checkOutInvalidatesStoreGeneration() {
+        attendanceService.checkIn(employeeA.getId(), storeA.getId(), null, null, from.plusMinutes(1));
+        List<Attendance> open = attendanceService.getAttendancesByStoreAndPeriod(storeA.getId(), from, to);
+        assertThat(open).singleElement().satisfies(a -> assertThat(a.getCheckOutTime()).isNull());
+        String generation = attendanceCacheGenerations.store(storeA.getId());
+
+        attendanceService.checkOut(employeeA.getId(), storeA.getId(), null, null, from.plusMinutes(2));
+
+        assertThat(attendanceCacheGenerations.store(storeA.getId())).isNotEqualTo(generation);
+        assertThat(attendanceService.getAttendancesByStoreAndPeriod(storeA.getId(), from, to))
+                .singleElement().satisfies(a -> assertThat(a.getCheckOutTime()).isNotNull());
+    }
+
+    private Store newStore(String name) {
+        String biz = String.format("%010d", 1_000_000_000L + (SEQ.incrementAndGet() % 900_000_000L));
+        return storeRepository.save(new Store(name, biz, "02-555-0000", "카페", 10000, 100));
+    }
+
+    private EmployeeProfile newEmployee(Store store) {
+        User user = userRepository.save(new User("cache_gen_" + SEQ.incrementAndGet() + "@example.com", "세대테스트직원"));
+        EmployeeProfile employee = employeeProfileRepository.save(new EmployeeProfile(user));
+        employeeStoreRelationRepository.save(new EmployeeStoreRelation(employee, store, 10000));
+        return employee;
+    }
+}
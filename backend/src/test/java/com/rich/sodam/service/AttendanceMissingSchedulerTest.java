@@ -0,0 +1,162 @@
+package com.rich.sodam.service;
+
+import com.rich.sodam.domain.Attendance;
+import com.rich.sodam.domain.EmployeeProfile;
+import com.rich.sodam.domain.EmployeeStoreRelation;
+import com.rich.sodam.domain.OperatingHours;
+import com.rich.sodam.domain.ReminderLog;
+import com.rich.sodam.domain.Store;
+import com.rich.sodam.domain.StoreDueSlot;
+import com.rich.sodam.domain.User;
+import com.rich.sodam.domain.type.ReminderType;
+import com.rich.sodam.repository.AttendanceRepository;
+import com.rich.sodam.repository.EmployeeStoreRelationRepository;
+import com.rich.sodam.repository.MasterStoreRelationRepository;
+import com.rich.sodam.repository.ReminderLogRepository;
+import com.rich.sodam.repository.StoreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 출퇴근 누락 감지 배치 — 기준 시각(오픈+30, 마감+60) 따라잡기 구간의 경계, 틱이 빠졌을 때의 이어 발송,
+ * 자정을 넘긴 마감+60, reminder_log 멱등(같은 직원·영업일 1회) 검증.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class AttendanceMissingSchedulerTest {
+
+    @Mock
+    StoreRepository storeRepository;
+    @Mock
+    EmployeeStoreRelationRepository employeeStoreRelationRepository;
+    @Mock
+    MasterStoreRelationRepository masterStoreRelationRepository;
+    @Mock
+    AttendanceRepository attendanceRepository;
+    @Mock
+    ReminderLogRepository reminderLogRepository;
+    @Mock
+    NotificationService notificationService;
+    @Mock
+    StoreDueSlotIndex storeDueSlotIndex;
+    @InjectMocks
+    AttendanceMissingScheduler scheduler;
+
+    @Mock
+    Store store;
+    @Mock
+    EmployeeProfile profile;
+
+    // 2026-07-06 은 월요일 — 기본 운영시간(월~토 09:00~18:00, 일 휴무)이라 출근 누락 기준 시각은 09:30.
+    private static final LocalDate MONDAY = LocalDate.of(2026, 7, 6);
+
+    private final List<ReminderLog> sent = new ArrayList<>();
+    private OperatingHours hours;
+
+    @BeforeEach
+    void setUp() {
+        hours = OperatingHours.createDefault();
+        when(store.getId()).thenReturn(1L);
+        when(store.isActive()).thenReturn(true);
+        when(store.getStoreName()).thenReturn("누락테스트매장");
+        when(store.getOperatingHours()).thenAnswer(inv -> hours);
+        // 후보 선정은 항상 이 매장을 돌려준다 — 최종 판정(따라잡기 구간)은 배치가 운영시간 원본으로 한다.
+        when(storeDueSlotIndex.dueStoreIds(any(), any(), any())).thenReturn(List.of(1L));
+        when(storeRepository.findAllById(List.of(1L))).thenReturn(List.of(store));
+        when(masterStoreRelationRepository.findByStore(store)).thenReturn(List.of());
+
+        User user = mock(User.class);
+        when(user.getId()).thenReturn(70L);
+        when(profile.getId()).thenReturn(7L);
+        when(profile.getUser()).thenReturn(user);
+        EmployeeStoreRelation relation = mock(EmployeeStoreRelation.class);
+        when(relation.getEmployeeProfile()).thenReturn(profile);
+        when(employeeStoreRelationRepository.findWithEmployeeByStoreAndIsActiveTrue(store))
+                .thenReturn(List.of(relation));
+        when(attendanceRepository.findByStoreAndDate(eq(store), any(), any())).thenReturn(List.of());
+
+        // reminder_log 를 메모리 목록으로 흉내 — 저장한 키는 다음 틱의 존재 체크에서 보인다.
+        when(reminderLogRepository.save(any(ReminderLog.class))).thenAnswer(inv -> {
+            sent.add(inv.getArgument(0));
+            return inv.getArgument(0);
+        });
+        when(reminderLogRepository.existsByStoreIdAndReminderTypeAndTargetDateAndRefId(any(), any(), any(), any()))
+                .thenAnswer(inv -> sent.stream().anyMatch(log -> log.getStoreId().equals(inv.getArgument(0))
+                        && log.getReminderType() == inv.getArgument(1)
+                        && log.getTargetDate().equals(inv.getArgument(2))
+                        && log.getRefId().equals(inv.getArgument(3))));
+    }
+
+    @Test
+    @DisplayName("기준 시각 직전과 따라잡기 구간이 끝난 시각에는 보내지 않고, 기준 시각 정각에는 보낸다")
+    void checkInAlertRespectsWindowBoundaries() {
+        scheduler.detectMissingAttendance(MONDAY.atTime(9, 29));   // 오픈+30(09:30) 전
+        scheduler.detectMissingAttendance(MONDAY.atTime(10, 30));  // 09:30 + 60분 — 구간 (09:30, 10:30] 밖
+        verifyNoInteractions(notificationService);
+
+        scheduler.detectMissingAttendance(MONDAY.atTime(9, 30));
+
+        verify(notificationService, times(1)).notifyAttendanceMissing(70L, "누락테스트매장");
+        assertThat(sent).singleElement().satisfies(log -> {
+            assertThat(log.getReminderType()).isEqualTo(ReminderType.ATTENDANCE_CHECK_IN_MISSING);
+            assertThat(log.getTargetDate()).isEqualTo(MONDAY);
+            assertThat(log.getRefId()).isEqualTo(7L);
+        });
+    }
+
+    @Test
+    @DisplayName("기준 시각 틱이 빠져도 다음 틱이 이어서 보내고, 그 뒤 틱은 같은 직원에게 다시 보내지 않는다")
+    void skippedTickIsCaughtUpOnceWithoutRepeats() {
+        scheduler.detectMissingAttendance(MONDAY.atTime(9, 15));
+        // 09:30·09:45 틱은 건너뛰어졌다(노드 재시작, 락 보유 등)
+        scheduler.detectMissingAttendance(MONDAY.atTime(10, 0));
+        scheduler.detectMissingAttendance(MONDAY.atTime(10, 15));
+
+        verify(notificationService, times(1)).notifyAttendanceMissing(70L, "누락테스트매장");
+        assertThat(sent).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("월요일 23:30 마감의 +60(화요일 00:30)은 전날 요일 마감 슬롯으로 찾고 월요일 영업일로 퇴근 누락을 보낸다")
+    void checkOutAlertRollsPastMidnight() {
+        hours.setDayOperatingHours(DayOfWeek.MONDAY, LocalTime.of(15, 0), LocalTime.of(23, 30), false);
+        Attendance open = mock(Attendance.class);
+        when(open.getEmployeeProfile()).thenReturn(profile);
+        when(open.getCheckOutTime()).thenReturn(null);
+        when(attendanceRepository.findByStoreAndDate(store, MONDAY.atStartOfDay(), MONDAY.plusDays(1).atStartOfDay()))
+                .thenReturn(List.of(open));
+        LocalDateTime tuesdayMidnightTick = MONDAY.plusDays(1).atTime(0, 30);
+
+        scheduler.detectMissingAttendance(tuesdayMidnightTick);
+        scheduler.detectMissingAttendance(tuesdayMidnightTick.plusMinutes(15));
+
+        // 마감 슬롯 조회 구간 (월 22:30, 월 23:30] — 마감 23:30 이 들어간다
+        verify(storeDueSlotIndex).dueStoreIds(StoreDueSlot.Type.CLOSE,
+                MONDAY.atTime(22, 30), MONDAY.atTime(23, 30));
+        verify(notificationService, times(1)).notifyAttendanceMissing(70L, "누락테스트매장");
+        ArgumentCaptor<ReminderLog> captor = ArgumentCaptor.forClass(ReminderLog.class);
+        verify(reminderLogRepository, times(1)).save(captor.capture());
+        assertThat(captor.getValue().getReminderType()).isEqualTo(ReminderType.ATTENDANCE_CHECK_OUT_MISSING);
+        assertThat(captor.getValue().getTargetDate()).isEqualTo(MONDAY);
+    }
+}
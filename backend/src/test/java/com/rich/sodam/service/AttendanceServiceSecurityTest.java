@@ -40,6 +40,8 @@ class AttendanceServiceSecurityTest {
     @Mock private NotificationService notificationService;
     @Mock private NfcVerificationService nfcVerificationService;
     @Mock private AfterCommitExecutor afterCommitExecutor;
+    @Mock private AttendanceCacheGenerations attendanceCacheGenerations;
+    @Mock private StoreDailyHeadcountService storeDailyHeadcountService;
     @InjectMocks private AttendanceService attendanceService;
 
     @Test
@@ -38,6 +38,7 @@ import com.rich.sodam.repository.MasterProfileRepository;
 import com.rich.sodam.repository.MasterStoreRelationRepository;
 import com.rich.sodam.repository.StoreRepository;
 import com.rich.sodam.repository.UserRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -70,6 +71,7 @@ class ChatRoomServiceTest {
     @Autowired private JobApplicationService jobApplicationService;
     @Autowired private JobPostingService jobPostingService;
     @Autowired private ChatRoomService chatRoomService;
+    @Autowired private EntityManager entityManager;
 
     @Autowired private UserRepository userRepo;
     @Autowired private EmployeeProfileRepository employeeProfileRepo;
@@ -300,6 +302,42 @@ class ChatRoomServiceTest {
         assertThat(applicantRooms.get(0).counterpartUserId()).isEqualTo(owner.getId());
     }
 
+    @Test
+    @DisplayName("내 채팅방 목록 — 요약의 마지막 메시지·미읽음 수가 발신/읽음 처리에 맞춰 갱신된다")
+    void getMyChatRooms_summaryTracksLastMessageAndUnread() {
+        User owner = masterUser();
+        Store store = store(owner);
+        User applicant = employeeUser();
+        JobApplicationResponse created = applyAndRespond(owner, store, applicant, true);
+        ChatRoom room = chatRoomRepo.findBySourceTypeAndSourceId(ChatSourceType.APPLICATION, created.id())
+                .orElseThrow();
+
+        ChatRoomListItemResponse opened = myOnlyRoom(owner);
+        assertThat(opened.lastMessagePreview()).isEqualTo("지원서를 열람하고 채팅방을 시작했어요.");
+        assertThat(opened.unreadCount()).isZero();
+
+        chatRoomService.sendMessage(room.getId(), applicant.getId(), "안녕하세요");
+        chatRoomService.sendMessage(room.getId(), applicant.getId(), "내일 면접 가능할까요?");
+
+        ChatRoomListItemResponse forOwner = myOnlyRoom(owner);
+        assertThat(forOwner.lastMessagePreview()).isEqualTo("내일 면접 가능할까요?");
+        assertThat(forOwner.unreadCount()).isEqualTo(2);
+        assertThat(myOnlyRoom(applicant).unreadCount()).isZero();
+
+        chatRoomService.getMessages(room.getId(), owner.getId(), 0, 30);
+
+        assertThat(myOnlyRoom(owner).unreadCount()).isZero();
+    }
+
+    /** 요약은 원자적 UPDATE 로 갱신되므로 영속성 컨텍스트를 비우고 다시 읽는다(요청마다 트랜잭션이 새로 열리는 운영과 동일). */
+    private ChatRoomListItemResponse myOnlyRoom(User user) {
+        entityManager.flush();
+        entityManager.clear();
+        List<ChatRoomListItemResponse> rooms = chatRoomService.getMyChatRooms(user.getId());
+        assertThat(rooms).hasSize(1);
+        return rooms.get(0);
+    }
+
     // ─────────────────────────────────────────────────────────────────
     // 읽기 전용 lazy 전환(§4.6)
     // ─────────────────────────────────────────────────────────────────
@@ -2,12 +2,15 @@ package com.rich.sodam.service;
 
 import com.rich.sodam.domain.type.DomainEventType;
 import com.rich.sodam.dto.response.WeeklyInsightsResponse;
+import com.rich.sodam.repository.DomainEventDailyCountRepository;
+import com.rich.sodam.repository.DomainEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -16,13 +19,34 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 /**
  * 퍼널 계측 (A6) — 이벤트 적재·주간 집계 검증.
+ *
+ * <p>적재는 별도 트랜잭션에서 비동기로 커밋되므로 테스트 트랜잭션으로 되돌릴 수 없다 — 버퍼를 비운 뒤
+ * 직접 지운다.</p>
  */
 @SpringBootTest
 @ActiveProfiles("test")
-@Transactional
 class DomainEventServiceTest {
 
     @Autowired private DomainEventService service;
+    @Autowired private DomainEventBuffer buffer;
+    @Autowired private DomainEventRepository domainEventRepository;
+    @Autowired private DomainEventDailyCountRepository dailyCountRepository;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    private void cleanUp() {
+        buffer.flush();
+        dailyCountRepository.deleteAll();
+        domainEventRepository.deleteAll();
+    }
 
     @Test
     @DisplayName("적재 후 주간 인사이트 종류별 카운트 + 미발생 종류는 0")
@@ -32,6 +56,7 @@ class DomainEventServiceTest {
         service.record(DomainEventType.PURCHASE_SAVED, null, storeId, "category=VEGETABLE");
         service.record(DomainEventType.PURCHASE_SAVED, null, storeId, "category=LIQUOR");
         service.record(DomainEventType.PAYROLL_PREVIEW_VIEWED, 1L, storeId, "weeklyHours=15");
+        buffer.flush();
 
         WeeklyInsightsResponse res = service.weeklyInsights(storeId, 7);
 
@@ -51,6 +76,7 @@ class DomainEventServiceTest {
     void storeScoped() {
         service.record(DomainEventType.STORE_CREATED, 1L, 8_001L, null);
         service.record(DomainEventType.STORE_CREATED, 2L, 8_002L, null);
+        buffer.flush();
 
         WeeklyInsightsResponse res = service.weeklyInsights(8_001L, 7);
         long created = res.items().stream()
@@ -58,4 +84,20 @@ class DomainEventServiceTest {
                 .findFirst().orElseThrow().count();
         assertThat(created).isEqualTo(1);
     }
+
+    @Test
+    @DisplayName("원본 이벤트도 함께 기록되고, 매장 없는 이벤트는 일자 집계에 넣지 않는다")
+    void rawEventsAreWrittenAlongsideDailyCounts() {
+        service.record(DomainEventType.STORE_CREATED, 1L, 8_101L, null);
+        service.record(DomainEventType.SUBSCRIPTION_STARTED, 1L, null, "STARTER");
+        buffer.flush();
+
+        assertThat(domainEventRepository.count()).isEqualTo(2);
+        assertThat(dailyCountRepository.findAll())
+                .singleElement()
+                .satisfies(c -> {
+                    assertThat(c.getStoreId()).isEqualTo(8_101L);
+                    assertThat(c.getEventCount()).isEqualTo(1);
+                });
+    }
 }
@@ -8,6 +8,7 @@ import com.rich.sodam.core.electronicsignature.*;
 import com.rich.sodam.domain.*;
 import com.rich.sodam.domain.type.*;
 import com.rich.sodam.repository.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
@@ -89,7 +90,8 @@ class ElectronicSignatureWorkerPersistenceTest {
                 authorityService,
                 mock(EmployeeResignationService.class),
                 mock(NotificationService.class), properties,
-                new TransactionTemplate(transactionManager), new ObjectMapper().findAndRegisterModules());
+                new TransactionTemplate(transactionManager), new ObjectMapper().findAndRegisterModules(), Runnable::run,
+                new SimpleMeterRegistry());
 
         worker.processOne(request.getId());
         worker.processOne(pending(envelope.getId(), SignatureOperation.STATUS).getId());
@@ -160,7 +162,8 @@ class ElectronicSignatureWorkerPersistenceTest {
                 mock(EmploymentAmendmentService.class), authorityService,
                 mock(EmployeeResignationService.class),
                 mock(NotificationService.class), properties,
-                new TransactionTemplate(transactionManager), new ObjectMapper().findAndRegisterModules());
+                new TransactionTemplate(transactionManager), new ObjectMapper().findAndRegisterModules(), Runnable::run,
+                new SimpleMeterRegistry());
 
         worker.processOne(request.getId());
         worker.processOne(pending(envelope.getId(), SignatureOperation.STATUS).getId());
@@ -179,6 +182,125 @@ class ElectronicSignatureWorkerPersistenceTest {
         verifyNoInteractions(laborContractService);
     }
 
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void dueLeaseQuerySkipsLiveLeasesAndReclaimsExpiredOnes() {
+        LocalDateTime now = LocalDateTime.now();
+        ElectronicSignatureOutbox due = outboxRepository.saveAndFlush(ElectronicSignatureOutbox.queue(
+                300L, null, SignatureOperation.FINALIZE, "lease-test:due", now.minusSeconds(1)));
+        ElectronicSignatureOutbox notYet = outboxRepository.saveAndFlush(ElectronicSignatureOutbox.queue(
+                300L, null, SignatureOperation.FINALIZE, "lease-test:later", now.plusHours(1)));
+        ElectronicSignatureOutbox live = ElectronicSignatureOutbox.queue(
+                300L, null, SignatureOperation.FINALIZE, "lease-test:live", now.minusSeconds(1));
+        live.lease(now.plusMinutes(5));
+        live = outboxRepository.saveAndFlush(live);
+        ElectronicSignatureOutbox expired = ElectronicSignatureOutbox.queue(
+                300L, null, SignatureOperation.FINALIZE, "lease-test:expired", now.minusMinutes(2));
+        expired.lease(now.plusMinutes(5));
+        org.springframework.test.util.ReflectionTestUtils.setField(expired, "leaseUntil", now.minusSeconds(5));
+        expired = outboxRepository.saveAndFlush(expired);
+
+        java.util.List<Long> claimed = new TransactionTemplate(transactionManager).execute(status ->
+                outboxRepository.findDueForLease(
+                                java.util.EnumSet.of(SignatureOutboxStatus.PENDING, SignatureOutboxStatus.RETRY),
+                                SignatureOutboxStatus.LEASED, now, org.springframework.data.domain.PageRequest.of(0, 100))
+                        .stream().filter(o -> o.getEnvelopeId() == 300L).map(ElectronicSignatureOutbox::getId).toList());
+
+        assertThat(claimed).containsExactly(expired.getId(), due.getId());
+        assertThat(claimed).doesNotContain(notYet.getId(), live.getId());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void runDueWorkNeverLeasesMoreRowsThanFreeWorkers() {
+        outboxRepository.deleteAll();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 5; i++) {
+            outboxRepository.saveAndFlush(ElectronicSignatureOutbox.queue(
+                    400L, null, SignatureOperation.CANCEL, "batch-test:" + i, now.minusSeconds(1)));
+        }
+        IntegrationProperties properties = workerProperties(2);
+        java.util.List<Long> leasedAtSubmit = new java.util.ArrayList<>();
+        java.util.concurrent.Executor recording = task -> {
+            leasedAtSubmit.add(outboxRepository.findByEnvelopeId(400L).stream()
+                    .filter(o -> o.getStatus() == SignatureOutboxStatus.LEASED).count());
+            task.run();
+        };
+
+        worker(properties, recording).runDueWork();
+
+        assertThat(leasedAtSubmit).hasSize(5).allMatch(leased -> leased <= 2);
+        assertThat(outboxRepository.findByEnvelopeId(400L))
+                .allMatch(o -> o.getStatus() == SignatureOutboxStatus.COMPLETED);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void largeBacklogDrainsAtMaxPerTick() {
+        outboxRepository.deleteAll();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 25; i++) {
+            outboxRepository.saveAndFlush(ElectronicSignatureOutbox.queue(
+                    600L, null, SignatureOperation.CANCEL, "drain-test:" + i, now.minusSeconds(1)));
+        }
+        IntegrationProperties properties = workerProperties(2);
+        properties.getElectronicSignature().setWorkerMaxPerTick(10);
+        ElectronicSignatureWorker worker = worker(properties, Runnable::run);
+
+        // 틱마다 min(밀린 양, 10)건 — 25건은 10·10·5 로 세 틱에 끝난다
+        java.util.List<Long> remainingAfterTick = new java.util.ArrayList<>();
+        for (int tick = 0; tick < 3; tick++) {
+            worker.runDueWork();
+            remainingAfterTick.add(outboxRepository.findByEnvelopeId(600L).stream()
+                    .filter(o -> o.getStatus() != SignatureOutboxStatus.COMPLETED).count());
+        }
+
+        assertThat(remainingAfterTick).containsExactly(15L, 5L, 0L);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void workerSkipsRowWhoseLeaseWasTakenOverBeforeProcessing() {
+        outboxRepository.deleteAll();
+        ElectronicSignatureOutbox row = outboxRepository.saveAndFlush(ElectronicSignatureOutbox.queue(
+                500L, null, SignatureOperation.CANCEL, "takeover-test", LocalDateTime.now().minusSeconds(1)));
+        // 워커 큐에서 기다리는 사이 lease 가 만료돼 다른 노드가 다시 잡은 상황
+        java.util.concurrent.Executor takenOverWhileQueued = task -> {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                ElectronicSignatureOutbox leased = outboxRepository.findById(row.getId()).orElseThrow();
+                org.springframework.test.util.ReflectionTestUtils.setField(
+                        leased, "leaseUntil", LocalDateTime.now().minusSeconds(1));
+                leased.lease(LocalDateTime.now().plusMinutes(5));
+            });
+            task.run();
+        };
+
+        worker(workerProperties(4), takenOverWhileQueued).runDueWork();
+
+        ElectronicSignatureOutbox after = outboxRepository.findById(row.getId()).orElseThrow();
+        assertThat(after.getStatus()).isEqualTo(SignatureOutboxStatus.LEASED);
+        assertThat(after.getAttemptCount()).isEqualTo(2);
+    }
+
+    private static IntegrationProperties workerProperties(int concurrency) {
+        IntegrationProperties properties = new IntegrationProperties();
+        properties.getElectronicSignature().setWorkerConcurrency(concurrency);
+        return properties;
+    }
+
+    private ElectronicSignatureWorker worker(IntegrationProperties properties, java.util.concurrent.Executor executor) {
+        return new ElectronicSignatureWorker(
+                mock(ElectronicSignatureGateway.class), envelopeRepository, partyRepository,
+                outboxRepository, attemptRepository, userRepository, mock(PrivateSignatureObjectStorage.class),
+                new SensitiveReferenceCrypto(toKeySource(properties)),
+                mock(StoreManagerService.class), mock(LaborContractService.class), mock(FixedScheduleService.class),
+                mock(EmploymentAmendmentService.class), mock(DelegatedActionAuthorityService.class),
+                mock(EmployeeResignationService.class),
+                mock(NotificationService.class), properties,
+                new TransactionTemplate(transactionManager), new ObjectMapper().findAndRegisterModules(), executor,
+                new SimpleMeterRegistry());
+    }
+
     private static SensitiveReferenceKeySource toKeySource(IntegrationProperties properties) {
         IntegrationProperties.ElectronicSignature c = properties.getElectronicSignature();
         return new SensitiveReferenceKeySource() {
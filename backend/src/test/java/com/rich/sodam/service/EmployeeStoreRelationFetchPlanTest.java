@@ -0,0 +1,145 @@
+package com.rich.sodam.service;
+
+import com.rich.sodam.domain.EmployeeProfile;
+import com.rich.sodam.domain.EmployeeStoreRelation;
+import com.rich.sodam.domain.Store;
+import com.rich.sodam.domain.StoreNotice;
+import com.rich.sodam.domain.User;
+import com.rich.sodam.domain.type.UserGrade;
+import com.rich.sodam.repository.EmployeeProfileRepository;
+import com.rich.sodam.repository.EmployeeStoreRelationRepository;
+import com.rich.sodam.repository.StoreNoticeRepository;
+import com.rich.sodam.repository.StoreRepository;
+import com.rich.sodam.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 직원-매장 관계를 읽는 화면(명부·노무 리스크·급여 컨텍스트·공지 읽음 목록)의 조회 수 — Hibernate 통계로 직원이 늘어도
+ * SQL 수가 그대로이고 지연 로딩 추가 조회(entity fetch)가 0 인지 검증.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+class EmployeeStoreRelationFetchPlanTest {
+
+    private static final LocalDate FROM = LocalDate.of(2026, 9, 1);
+    private static final LocalDate TO = LocalDate.of(2026, 9, 30);
+    private static final AtomicLong SEQ = new AtomicLong(System.nanoTime() % 100_000_000L);
+
+    @Autowired private LegalLedgerService legalLedgerService;
+    @Autowired private LaborRiskService laborRiskService;
+    @Autowired private PayrollCalculationContextLoader contextLoader;
+    @Autowired private StoreNoticeService storeNoticeService;
+    @Autowired private StoreNoticeRepository storeNoticeRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EmployeeProfileRepository employeeProfileRepository;
+    @Autowired private StoreRepository storeRepository;
+    @Autowired private EmployeeStoreRelationRepository relationRepository;
+    @Autowired private EntityManager entityManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("직원 명부는 관계·직원·사용자·매장을 쿼리 1번으로 읽는다")
+    void rosterIsSingleQuery() {
+        Long storeId = storeWithEmployees(4);
+
+        Usage usage = measure(() -> legalLedgerService.employeeRoster(storeId));
+
+        assertThat(usage.statements()).isEqualTo(1);
+        assertThat(usage.entityFetches()).isZero();
+    }
+
+    @Test
+    @DisplayName("노무 리스크 분석은 직원 2명이든 6명이든 같은 수의 쿼리로 끝난다")
+    void laborRiskDoesNotGrowWithEmployees() {
+        Long small = storeWithEmployees(2);
+        Long large = storeWithEmployees(6);
+
+        Usage smallUsage = measure(() -> laborRiskService.analyze(small, FROM));
+        Usage largeUsage = measure(() -> laborRiskService.analyze(large, FROM));
+
+        assertThat(largeUsage.statements()).isEqualTo(smallUsage.statements());
+        assertThat(largeUsage.entityFetches()).isZero();
+    }
+
+    @Test
+    @DisplayName("매장 급여 계산 컨텍스트는 직원 수와 무관하게 같은 수의 쿼리로 적재된다")
+    void payrollContextDoesNotGrowWithEmployees() {
+        Long small = storeWithEmployees(2);
+        Long large = storeWithEmployees(6);
+        // 정책이 없으면 첫 조회에 기본 정책을 만든다 — 측정 전에 만들어 두 매장을 같은 조건으로 맞춘다
+        contextLoader.loadForStore(small, FROM, TO, true);
+        contextLoader.loadForStore(large, FROM, TO, true);
+
+        Usage smallUsage = measure(() -> contextLoader.loadForStore(small, FROM, TO, true));
+        Usage largeUsage = measure(() -> contextLoader.loadForStore(large, FROM, TO, true));
+
+        assertThat(largeUsage.statements()).isEqualTo(smallUsage.statements());
+        assertThat(largeUsage.entityFetches()).isZero();
+    }
+
+    @Test
+    @DisplayName("공지 읽음 목록은 직원 이름을 직원 수와 무관하게 같은 수의 쿼리로 읽는다")
+    void noticeReadsDoNotGrowWithEmployees() {
+        Long small = storeWithEmployees(2);
+        Long large = storeWithEmployees(6);
+        Long smallNotice = storeNoticeRepository.save(StoreNotice.create(small, "공지", "본문")).getId();
+        Long largeNotice = storeNoticeRepository.save(StoreNotice.create(large, "공지", "본문")).getId();
+
+        Usage smallUsage = measure(() -> storeNoticeService.readsOf(small, smallNotice));
+        Usage largeUsage = measure(() -> storeNoticeService.readsOf(large, largeNotice));
+
+        assertThat(largeUsage.statements()).isEqualTo(smallUsage.statements());
+        assertThat(largeUsage.entityFetches()).isZero();
+    }
+
+    /** 영속성 컨텍스트를 비운 뒤 한 화면이 낸 SQL 수와 지연 로딩 추가 조회 수. */
+    private Usage measure(Runnable screen) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        screen.run();
+        return new Usage(statistics.getPrepareStatementCount(), statistics.getEntityFetchCount());
+    }
+
+    private Long storeWithEmployees(int count) {
+        String biz = String.format("%010d", 1_000_000_000L + (SEQ.incrementAndGet() % 900_000_000L));
+        Store store = new Store("조회수테스트매장", biz, "02-777-0003", "카페", 12000, 100);
+        store.updateLocation(37.5665, 126.9780, "서울 중구", 100);
+        Store saved = storeRepository.save(store);
+        for (int i = 0; i < count; i++) {
+            User user = new User("fetchplan_" + SEQ.incrementAndGet() + "@example.com", "조회수직원" + i);
+            user.setUserGrade(UserGrade.EMPLOYEE);
+            EmployeeProfile employee = employeeProfileRepository.save(new EmployeeProfile(userRepository.save(user)));
+            EmployeeStoreRelation relation = new EmployeeStoreRelation(employee, saved);
+            relation.setHireDate(FROM.minusYears(1));
+            relationRepository.save(relation);
+        }
+        return saved.getId();
+    }
+
+    private record Usage(long statements, long entityFetches) {
+    }
+}
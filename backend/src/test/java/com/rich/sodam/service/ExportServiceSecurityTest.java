@@ -2,17 +2,18 @@ package com.rich.sodam.service;
 
 import com.rich.sodam.domain.Attendance;
 import com.rich.sodam.domain.EmployeeProfile;
-import com.rich.sodam.domain.Store;
 import com.rich.sodam.domain.User;
 import com.rich.sodam.repository.AttendanceRepository;
 import com.rich.sodam.repository.PayrollRepository;
-import com.rich.sodam.repository.StoreRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -23,20 +24,17 @@ import static org.mockito.Mockito.when;
 class ExportServiceSecurityTest {
 
     @Test
-    void prefixesFormulaLikeEmployeeNameInAttendanceCsv() {
-        StoreRepository storeRepository = mock(StoreRepository.class);
+    void prefixesFormulaLikeEmployeeNameInAttendanceCsv() throws IOException {
         AttendanceRepository attendanceRepository = mock(AttendanceRepository.class);
         PayrollRepository payrollRepository = mock(PayrollRepository.class);
-        ExportService service = new ExportService(attendanceRepository, payrollRepository, storeRepository);
+        ExportService service = new ExportService(attendanceRepository, payrollRepository, mock(EntityManager.class));
 
-        Store store = mock(Store.class);
         Attendance attendance = mock(Attendance.class);
         EmployeeProfile employee = mock(EmployeeProfile.class);
         User user = mock(User.class);
 
-        when(storeRepository.findById(1L)).thenReturn(Optional.of(store));
-        when(attendanceRepository.findByStoreAndCheckInTimeBetweenOrderByCheckInTimeDesc(
-                eq(store), any(), any())).thenReturn(List.of(attendance));
+        when(attendanceRepository.findStoreExportPage(eq(1L), any(), any(), any(), any(), any()))
+                .thenReturn(List.of(attendance));
         when(attendance.getEmployeeProfile()).thenReturn(employee);
         when(employee.getId()).thenReturn(7L);
         when(employee.getUser()).thenReturn(user);
@@ -47,7 +45,7 @@ class ExportServiceSecurityTest {
         when(attendance.getAppliedHourlyWage()).thenReturn(10_000);
         when(attendance.calculateDailyWage()).thenReturn(90_000);
 
-        String csv = service.buildAttendanceCsv(1L, LocalDate.of(2026, 7, 30), LocalDate.of(2026, 7, 30));
+        String csv = attendanceCsv(service);
 
         assertThat(csv).contains("'=HYPERLINK");
         assertThat(csv).doesNotContain(",=HYPERLINK");
@@ -55,10 +53,15 @@ class ExportServiceSecurityTest {
         for (String formulaLikeName : List.of("+SUM(1,1)", "-1+1", "@SUM(1)", "\t=1+1", " =1+1")) {
             when(user.getName()).thenReturn(formulaLikeName);
 
-            String variantCsv = service.buildAttendanceCsv(
-                    1L, LocalDate.of(2026, 7, 30), LocalDate.of(2026, 7, 30));
+            String variantCsv = attendanceCsv(service);
 
             assertThat(variantCsv).contains("'" + formulaLikeName);
         }
     }
+
+    private static String attendanceCsv(ExportService service) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.writeAttendanceCsv(1L, LocalDate.of(2026, 7, 30), LocalDate.of(2026, 7, 30), out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
 }
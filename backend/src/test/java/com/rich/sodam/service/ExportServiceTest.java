@@ -0,0 +1,114 @@
+package com.rich.sodam.service;
+
+import com.rich.sodam.domain.Attendance;
+import com.rich.sodam.domain.Payroll;
+import com.rich.sodam.repository.AttendanceRepository;
+import com.rich.sodam.repository.PayrollRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * CSV 내보내기 키셋 페이징 — 다음 페이지는 직전 페이지 마지막 행의 커서로 읽고, 페이지마다 영속성
+ * 컨텍스트를 비우며, 모든 행이 한 번씩 스트림에 쓰이는지 검증.
+ */
+@ExtendWith(MockitoExtension.class)
+class ExportServiceTest {
+
+    private static final Long STORE_ID = 1L;
+    private static final LocalDate FROM = LocalDate.of(2026, 7, 1);
+    private static final LocalDate TO = LocalDate.of(2026, 7, 31);
+
+    @Mock AttendanceRepository attendanceRepository;
+    @Mock PayrollRepository payrollRepository;
+    @Mock EntityManager entityManager;
+
+    private ExportService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ExportService(attendanceRepository, payrollRepository, entityManager);
+    }
+
+    @Test
+    @DisplayName("출퇴근 CSV 는 (출근시각, ID) 커서로 다음 페이지를 읽고 페이지마다 컨텍스트를 비운다")
+    void attendancePagesByCheckInCursor() throws Exception {
+        LocalDateTime lastOfFirstPage = LocalDateTime.of(2026, 7, 10, 9, 0);
+        Attendance boundary = attendance(lastOfFirstPage, 42L);
+        List<Attendance> firstPage = new ArrayList<>(
+                Collections.nCopies(ExportService.PAGE_SIZE - 1, attendance(LocalDateTime.of(2026, 7, 20, 9, 0), 99L)));
+        firstPage.add(boundary);
+        Attendance secondPageRow = attendance(LocalDateTime.of(2026, 7, 2, 9, 0), 7L);
+        when(attendanceRepository.findStoreExportPage(eq(STORE_ID), any(), any(),
+                eq(AttendanceRepository.EXPORT_CURSOR_START), eq(Long.MAX_VALUE), any()))
+                .thenReturn(firstPage);
+        when(attendanceRepository.findStoreExportPage(eq(STORE_ID), any(), any(),
+                eq(lastOfFirstPage), eq(42L), any()))
+                .thenReturn(List.of(secondPageRow));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.writeAttendanceCsv(STORE_ID, FROM, TO, out);
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(csv).startsWith("﻿직원 ID");
+        assertThat(csv.lines()).hasSize(1 + ExportService.PAGE_SIZE + 1);
+        assertThat(csv).contains("2026-07-02");
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    @DisplayName("급여 CSV 는 급여 ID 커서로 이어 읽고, 페이지가 덜 차면 더 조회하지 않는다")
+    void payrollPagesByIdCursor() throws Exception {
+        List<Payroll> firstPage = new ArrayList<>();
+        for (long id = 1; id <= ExportService.PAGE_SIZE; id++) {
+            firstPage.add(payroll(id));
+        }
+        when(payrollRepository.findStoreExportPage(eq(STORE_ID), eq(FROM), eq(TO), eq(0L), any()))
+                .thenReturn(firstPage);
+        when(payrollRepository.findStoreExportPage(eq(STORE_ID), eq(FROM), eq(TO), eq((long) ExportService.PAGE_SIZE), any()))
+                .thenReturn(List.of(payroll(ExportService.PAGE_SIZE + 1L)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.writePayrollCsv(STORE_ID, FROM, TO, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8).lines()).hasSize(1 + ExportService.PAGE_SIZE + 1);
+        verify(payrollRepository, times(2)).findStoreExportPage(eq(STORE_ID), eq(FROM), eq(TO), any(), any());
+    }
+
+    private static Attendance attendance(LocalDateTime checkIn, Long id) {
+        Attendance attendance = mock(Attendance.class);
+        // lenient: 커서로 쓰이는 건 페이지 마지막 행의 ID 뿐이다
+        lenient().when(attendance.getCheckInTime()).thenReturn(checkIn);
+        lenient().when(attendance.getId()).thenReturn(id);
+        return attendance;
+    }
+
+    private static Payroll payroll(Long id) {
+        Payroll payroll = new Payroll();
+        payroll.setId(id);
+        payroll.setStartDate(FROM);
+        payroll.setEndDate(TO);
+        return payroll;
+    }
+}
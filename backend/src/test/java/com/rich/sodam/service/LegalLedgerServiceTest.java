@@ -122,7 +122,7 @@ class LegalLedgerServiceTest {
         when(r2.getStore()).thenReturn(store);
         when(r2.getIsActive()).thenReturn(false);
 
-        when(relationRepo.findByStore_Id(1L)).thenReturn(List.of(r1, r2));
+        when(relationRepo.findWithEmployeeByStore_Id(1L)).thenReturn(List.of(r1, r2));
 
         EmployeeRosterResponse res = service.employeeRoster(1L);
 
@@ -144,7 +144,7 @@ class LegalLedgerServiceTest {
     @Test
     @DisplayName("근로자명부: 직원 없으면 빈 명부")
     void rosterEmpty() {
-        when(relationRepo.findByStore_Id(9L)).thenReturn(List.of());
+        when(relationRepo.findWithEmployeeByStore_Id(9L)).thenReturn(List.of());
         EmployeeRosterResponse res = service.employeeRoster(9L);
         assertThat(res.employeeCount()).isZero();
         assertThat(res.items()).isEmpty();
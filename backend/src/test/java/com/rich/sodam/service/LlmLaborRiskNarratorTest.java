@@ -1,12 +1,16 @@
 package com.rich.sodam.service;
 
+import com.rich.sodam.config.LlmNarrationProperties;
 import com.rich.sodam.dto.response.LaborRiskResponse.Item;
 import com.rich.sodam.dto.response.LaborRiskResponse.RiskType;
 import com.rich.sodam.dto.response.LaborRiskResponse.Severity;
+import com.rich.sodam.service.ai.LlmNarrationPipeline;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -27,7 +31,8 @@ class LlmLaborRiskNarratorTest {
     @DisplayName("api-key 미설정이면 항상 원본 메시지를 그대로 반환한다(외부 호출 없음)")
     void fallsBackToOriginalWhenApiKeyBlank() {
         LlmLaborRiskNarrator narrator = new LlmLaborRiskNarrator(
-                "https://api.anthropic.com/v1/messages", "", "claude-haiku-4-5-20251001", 100, 100);
+                "https://api.anthropic.com/v1/messages", "", "claude-haiku-4-5-20251001", 100, 100,
+                new LlmNarrationPipeline(Optional.empty(), new LlmNarrationProperties(), new SimpleMeterRegistry()));
         Item item = danger52h();
 
         assertThat(narrator.narrate(item)).isEqualTo(item.message());
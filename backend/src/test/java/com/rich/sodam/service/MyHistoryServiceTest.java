@@ -21,6 +21,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayOutputStream;
 import java.lang.reflect.Field;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
@@ -142,7 +143,9 @@ class MyHistoryServiceTest {
         Person me = createEmployeeWithRecords(2, true);
         Person other = createEmployeeWithRecords(3, false);
 
-        String csv = new String(myHistoryService.myAttendanceCsv(me.userId()), StandardCharsets.UTF_8);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        myHistoryService.writeMyAttendanceCsv(me.userId(), out);
+        String csv = out.toString(StandardCharsets.UTF_8);
 
         assertThat(csv).startsWith("﻿");
         assertThat(csv).contains(me.storeName());
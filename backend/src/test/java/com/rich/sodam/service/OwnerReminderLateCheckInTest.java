@@ -51,6 +51,7 @@ class OwnerReminderLateCheckInTest {
     @Mock AttendanceRepository attendanceRepository;
     @Mock AttendanceApprovalRequestRepository attendanceApprovalRequestRepository;
     @Mock UserRepository userRepository;
+    @Mock StoreDueSlotIndex storeDueSlotIndex;
     @InjectMocks OwnerReminderScheduler scheduler;
 
     @Mock Store store;
@@ -75,7 +76,8 @@ class OwnerReminderLateCheckInTest {
         when(shift.getStoreId()).thenReturn(STORE_ID);
         when(shift.getShiftDate()).thenReturn(TODAY);
         when(shift.getStartTime()).thenReturn(LocalTime.of(9, 0));
-        when(workShiftRepository.findByShiftDateAndConfirmedAtIsNotNull(TODAY)).thenReturn(List.of(shift));
+        when(workShiftRepository.findByShiftDateAndConfirmedAtIsNotNullAndStartTimeGreaterThanEqualAndStartTimeLessThan(
+                eq(TODAY), any(), any())).thenReturn(List.of(shift));
 
         when(employee.getName()).thenReturn("김직원");
         when(userRepository.findById(EMPLOYEE_ID)).thenReturn(Optional.of(employee));
@@ -112,6 +114,22 @@ class OwnerReminderLateCheckInTest {
         verify(reminderLogRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("시프트는 유예가 방금 끝난 시작 시각 범위 [now-70분, now-10분) 만 조회하고, 자정 직후엔 조회하지 않는다")
+    void queriesOnlyShiftsWhoseGraceJustEnded() {
+        scheduler.remindLateCheckIn(TODAY.atTime(9, 11));
+        verify(workShiftRepository).findByShiftDateAndConfirmedAtIsNotNullAndStartTimeGreaterThanEqualAndStartTimeLessThan(
+                TODAY, LocalTime.of(8, 1), LocalTime.of(9, 1));
+
+        scheduler.remindLateCheckIn(TODAY.atTime(0, 30)); // 유예 끝 00:20 — 범위 시작은 자정으로 자른다
+        verify(workShiftRepository).findByShiftDateAndConfirmedAtIsNotNullAndStartTimeGreaterThanEqualAndStartTimeLessThan(
+                TODAY, LocalTime.MIN, LocalTime.of(0, 20));
+
+        clearInvocations(workShiftRepository);
+        scheduler.remindLateCheckIn(TODAY.atTime(0, 5));
+        verifyNoInteractions(workShiftRepository);
+    }
+
     @Test
     @DisplayName("이미 출근(check-in) 기록이 있으면 스킵")
     void checkedInSkipped() {
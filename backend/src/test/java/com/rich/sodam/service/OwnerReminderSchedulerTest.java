@@ -5,6 +5,7 @@ import com.rich.sodam.domain.OperatingHours;
 import com.rich.sodam.domain.PayrollCycle;
 import com.rich.sodam.domain.ReminderLog;
 import com.rich.sodam.domain.Store;
+import com.rich.sodam.domain.StoreDueSlot;
 import com.rich.sodam.domain.type.ReminderType;
 import com.rich.sodam.repository.DailySalesRepository;
 import com.rich.sodam.repository.MasterStoreRelationRepository;
@@ -27,6 +28,7 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -55,6 +57,8 @@ class OwnerReminderSchedulerTest {
     com.rich.sodam.repository.AttendanceApprovalRequestRepository attendanceApprovalRequestRepository;
     @Mock
     com.rich.sodam.repository.UserRepository userRepository;
+    @Mock
+    StoreDueSlotIndex storeDueSlotIndex;
     @InjectMocks
     OwnerReminderScheduler scheduler;
 
@@ -70,7 +74,11 @@ class OwnerReminderSchedulerTest {
         when(store.isActive()).thenReturn(true);
         when(store.getStoreName()).thenReturn("리마인더테스트매장");
         when(store.getOperatingHours()).thenReturn(OperatingHours.createDefault());
-        when(storeRepository.findAll()).thenReturn(List.of(store));
+        // 후보 선정(시각 인덱스·지급일·활성 ID)은 항상 이 매장을 돌려준다 — 최종 판정은 배치 룰이 한다.
+        when(storeDueSlotIndex.dueStoreIds(any(), any(), any())).thenReturn(List.of(1L));
+        when(storeRepository.findActiveIdsByPayDay(any(), anyBoolean())).thenReturn(List.of(1L));
+        when(storeRepository.findAllActiveIdsOrderById()).thenReturn(List.of(1L));
+        when(storeRepository.findAllById(List.of(1L))).thenReturn(List.of(store));
         when(masterStoreRelationRepository.findByStore(store)).thenReturn(List.of());
     }
 
@@ -135,6 +143,31 @@ class OwnerReminderSchedulerTest {
                 argThat(l -> l.getReminderType() == ReminderType.SALES_YESTERDAY_REMINDER));
     }
 
+    @Test
+    @DisplayName("후보 선정 — 마감 슬롯은 (now+20, now+31], 오픈 슬롯은 (now-60, now] 범위로 인덱스를 조회한다")
+    void salesReminderQueriesDueSlotWindows() {
+        LocalDateTime now = MONDAY.atTime(17, 35, 30);
+
+        scheduler.remindSalesInput(now);
+
+        verify(storeDueSlotIndex).dueStoreIds(StoreDueSlot.Type.CLOSE,
+                MONDAY.atTime(17, 55), MONDAY.atTime(18, 6));
+        verify(storeDueSlotIndex).dueStoreIds(StoreDueSlot.Type.OPEN,
+                MONDAY.atTime(16, 35), MONDAY.atTime(17, 35));
+        verify(storeRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("급여일 후보 — 말일이면 그 달에 없는 지정일(31일 등)과 말일 지급을 함께 조회한다")
+    void paydayCandidatesCoverClampedDays() {
+        scheduler.remindPaydayD3(LocalDate.of(2026, 6, 27)); // 지급일 6/30(말일)
+
+        verify(storeRepository).findActiveIdsByPayDay(List.of("30", "31"), true);
+
+        scheduler.remindPaydayD3(LocalDate.of(2026, 7, 7)); // 지급일 7/10
+        verify(storeRepository).findActiveIdsByPayDay(List.of("10"), false);
+    }
+
     @Test
     @DisplayName("급여일 D-3 — 지급일 3일 전 매장만 발송하고, 재실행 시 멱등")
     void paydayD3Idempotent() {
@@ -0,0 +1,201 @@
+package com.rich.sodam.service;
+
+import com.rich.sodam.domain.Attendance;
+import com.rich.sodam.domain.EmployeeProfile;
+import com.rich.sodam.domain.EmployeeStoreRelation;
+import com.rich.sodam.domain.LaborContract;
+import com.rich.sodam.domain.PayrollPolicy;
+import com.rich.sodam.domain.Store;
+import com.rich.sodam.domain.TimeOff;
+import com.rich.sodam.domain.User;
+import com.rich.sodam.domain.type.TimeOffStatus;
+import com.rich.sodam.exception.EntityNotFoundException;
+import com.rich.sodam.repository.AttendanceRepository;
+import com.rich.sodam.repository.EmployeeProfileRepository;
+import com.rich.sodam.repository.EmployeeStoreRelationRepository;
+import com.rich.sodam.repository.LaborContractRepository;
+import com.rich.sodam.repository.StoreRepository;
+import com.rich.sodam.repository.TimeOffRepository;
+import com.rich.sodam.repository.WorkShiftRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 급여 계산 컨텍스트 로더 — 직원 수와 무관한 고정 쿼리 수, 직원별 분배, 기존 단건 조회와 같은 경계 검증.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PayrollCalculationContextLoaderTest {
+
+    @Mock EmployeeProfileRepository employeeProfileRepository;
+    @Mock StoreRepository storeRepository;
+    @Mock EmployeeStoreRelationRepository employeeStoreRelationRepository;
+    @Mock AttendanceRepository attendanceRepository;
+    @Mock LaborContractRepository laborContractRepository;
+    @Mock WorkShiftRepository workShiftRepository;
+    @Mock TimeOffRepository timeOffRepository;
+    @Mock AttendanceIrregularityService attendanceIrregularityService;
+    @Mock PayrollPolicyService payrollPolicyService;
+
+    @InjectMocks PayrollCalculationContextLoader loader;
+
+    private static final Long STORE_ID = 1L;
+    private static final LocalDate START = LocalDate.of(2026, 9, 1);
+    private static final LocalDate END = LocalDate.of(2026, 9, 30);
+
+    private Store store;
+
+    @BeforeEach
+    void setUp() {
+        store = mock(Store.class);
+        when(store.getId()).thenReturn(STORE_ID);
+        when(storeRepository.findById(STORE_ID)).thenReturn(Optional.of(store));
+        when(payrollPolicyService.getPayrollPolicyByStore(STORE_ID)).thenReturn(mock(PayrollPolicy.class));
+    }
+
+    @Test
+    @DisplayName("매장 직원 수와 무관하게 종류별 IN 쿼리 1회로 읽고 직원별로 나눈다")
+    void loadsStoreWithOneQueryPerKind() {
+        EmployeeProfile first = profile(10L);
+        EmployeeProfile second = profile(20L);
+        when(employeeStoreRelationRepository.findByStoreIdWithEmployeeAndUser(STORE_ID))
+                .thenReturn(List.of(relation(second), relation(first)));
+
+        Attendance firstInPeriod = attendance(first, LocalDateTime.of(2026, 9, 15, 9, 0));
+        Attendance firstBeforePeriod = attendance(first, LocalDateTime.of(2026, 8, 28, 9, 0));
+        Attendance secondInPeriod = attendance(second, LocalDateTime.of(2026, 9, 2, 9, 0));
+        when(attendanceRepository.findByEmployeeIdsAndStoreIdAndPeriodWithDetails(any(), eq(STORE_ID), any(), any()))
+                .thenReturn(List.of(firstInPeriod, secondInPeriod, firstBeforePeriod));
+
+        LaborContract contract = mock(LaborContract.class);
+        when(contract.getEmployeeId()).thenReturn(20L);
+        when(laborContractRepository.findByStoreIdAndEmployeeIdInOrderByCreatedAtDesc(eq(STORE_ID), any()))
+                .thenReturn(List.of(contract));
+
+        TimeOff overlapping = mock(TimeOff.class);
+        when(overlapping.getEmployee()).thenReturn(first);
+        when(overlapping.getStartDate()).thenReturn(LocalDate.of(2026, 8, 30));
+        when(overlapping.getEndDate()).thenReturn(LocalDate.of(2026, 9, 2));
+        when(timeOffRepository.findByStore_IdAndEmployee_IdInAndStatus(eq(STORE_ID), any(), eq(TimeOffStatus.APPROVED)))
+                .thenReturn(List.of(overlapping));
+
+        when(attendanceIrregularityService.waivedMinutesByEmployeeAndDate(eq(STORE_ID), any(), eq(START), eq(END)))
+                .thenReturn(Map.of(20L, Map.of(LocalDate.of(2026, 9, 3), 30)));
+
+        PayrollCalculationContext context = loader.loadForStore(STORE_ID, START, END, false);
+
+        // 주 단위 집계 범위(앞뒤 6일)까지 한 번에 읽는다
+        verify(attendanceRepository, times(1)).findByEmployeeIdsAndStoreIdAndPeriodWithDetails(
+                argThat(ids -> ids.containsAll(List.of(10L, 20L))), eq(STORE_ID),
+                eq(LocalDateTime.of(2026, 8, 26, 0, 0)), eq(LocalDateTime.of(2026, 10, 6, 23, 59, 59)));
+        verify(laborContractRepository, times(1)).findByStoreIdAndEmployeeIdInOrderByCreatedAtDesc(eq(STORE_ID), any());
+        verify(workShiftRepository, times(1))
+                .findByStoreIdAndEmployeeIdInAndShiftDateBetweenAndConfirmedAtIsNotNull(eq(STORE_ID), any(), eq(START), eq(END));
+        verify(employeeStoreRelationRepository, never()).findEarliestHireDatesByEmployeeIds(any());
+
+        assertThat(context.relations())
+                .extracting(r -> r.getEmployeeProfile().getId())
+                .containsExactly(10L, 20L);
+        assertThat(context.attendances(10L, START.atStartOfDay(), END.atTime(23, 59, 59)))
+                .containsExactly(firstInPeriod);
+        assertThat(context.hasAttendanceInPeriod(20L)).isTrue();
+        assertThat(context.contracts(10L)).isEmpty();
+        assertThat(context.contracts(20L)).containsExactly(contract);
+        // 기간 밖 휴가일은 잘라낸다
+        assertThat(context.approvedTimeOffDates(10L))
+                .containsExactlyInAnyOrder(LocalDate.of(2026, 9, 1), LocalDate.of(2026, 9, 2));
+        assertThat(context.waivedMinutesByDate(20L)).containsEntry(LocalDate.of(2026, 9, 3), 30);
+        assertThat(context.hireAnchor(10L)).isNull();
+    }
+
+    @Test
+    @DisplayName("입사일 기산 정책이면 전 매장 최초 입사일을, 입사일이 없으면 가입일을 기산점으로 쓴다")
+    void resolvesHireAnchorsInBulk() {
+        EmployeeProfile hired = profile(10L);
+        EmployeeProfile noHireDate = profile(20L);
+        when(noHireDate.getUser().getCreatedAt()).thenReturn(LocalDateTime.of(2025, 3, 4, 10, 0));
+        when(employeeStoreRelationRepository.findByStoreIdWithEmployeeAndUser(STORE_ID))
+                .thenReturn(List.of(relation(hired), relation(noHireDate)));
+        when(employeeStoreRelationRepository.findEarliestHireDatesByEmployeeIds(any()))
+                .thenReturn(List.of(new Object[]{10L, LocalDate.of(2024, 1, 15)}, new Object[]{20L, null}));
+
+        PayrollCalculationContext context = loader.loadForStore(STORE_ID, START, END, true);
+
+        assertThat(context.hireAnchor(10L)).isEqualTo(LocalDate.of(2024, 1, 15));
+        assertThat(context.hireAnchor(20L)).isEqualTo(LocalDate.of(2025, 3, 4));
+    }
+
+    @Test
+    @DisplayName("직원이 없는 매장은 직원 단위 쿼리를 날리지 않는다")
+    void emptyStoreSkipsEmployeeQueries() {
+        when(employeeStoreRelationRepository.findByStoreIdWithEmployeeAndUser(STORE_ID)).thenReturn(List.of());
+
+        PayrollCalculationContext context = loader.loadForStore(STORE_ID, START, END, true);
+
+        assertThat(context.relations()).isEmpty();
+        verifyNoInteractions(attendanceRepository, laborContractRepository, workShiftRepository, timeOffRepository);
+    }
+
+    @Test
+    @DisplayName("단건 계산 경로는 관계가 없으면 기존과 같은 문구로 실패한다")
+    void singleEmployeeWithoutRelationFails() {
+        EmployeeProfile employee = profile(10L);
+        when(employeeProfileRepository.findById(10L)).thenReturn(Optional.of(employee));
+        when(employeeStoreRelationRepository.findByEmployeeProfileAndStore(employee, store)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> loader.loadForEmployee(10L, STORE_ID, START, END, false))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("사원-매장 관계를 찾을 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("컨텍스트에 없는 직원을 계산하려 하면 관계 없음으로 실패한다")
+    void contextRejectsUnknownEmployee() {
+        when(employeeStoreRelationRepository.findByStoreIdWithEmployeeAndUser(STORE_ID))
+                .thenReturn(List.of(relation(profile(10L))));
+
+        PayrollCalculationContext context = loader.loadForStore(STORE_ID, START, END, false);
+
+        assertThatThrownBy(() -> context.relationOf(99L))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    private EmployeeProfile profile(Long id) {
+        EmployeeProfile profile = mock(EmployeeProfile.class);
+        when(profile.getId()).thenReturn(id);
+        when(profile.getUser()).thenReturn(mock(User.class));
+        return profile;
+    }
+
+    private EmployeeStoreRelation relation(EmployeeProfile profile) {
+        EmployeeStoreRelation relation = mock(EmployeeStoreRelation.class);
+        when(relation.getEmployeeProfile()).thenReturn(profile);
+        when(relation.getStore()).thenReturn(store);
+        return relation;
+    }
+
+    private Attendance attendance(EmployeeProfile profile, LocalDateTime checkIn) {
+        Attendance attendance = mock(Attendance.class);
+        when(attendance.getEmployeeProfile()).thenReturn(profile);
+        when(attendance.getCheckInTime()).thenReturn(checkIn);
+        return attendance;
+    }
+}
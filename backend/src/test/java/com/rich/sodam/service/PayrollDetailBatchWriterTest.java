@@ -0,0 +1,103 @@
+package com.rich.sodam.service;
+
+import com.rich.sodam.domain.Attendance;
+import com.rich.sodam.domain.EmployeeProfile;
+import com.rich.sodam.domain.EmployeeStoreRelation;
+import com.rich.sodam.domain.Payroll;
+import com.rich.sodam.domain.PayrollDetail;
+import com.rich.sodam.domain.Store;
+import com.rich.sodam.domain.User;
+import com.rich.sodam.domain.type.UserGrade;
+import com.rich.sodam.repository.AttendanceRepository;
+import com.rich.sodam.repository.EmployeeProfileRepository;
+import com.rich.sodam.repository.EmployeeStoreRelationRepository;
+import com.rich.sodam.repository.PayrollDetailRepository;
+import com.rich.sodam.repository.StoreRepository;
+import com.rich.sodam.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 급여 상세 JDBC 일괄 INSERT — JPA 를 거치지 않고 넣은 행이 엔티티로 그대로 읽히는지
+ * (인용 식별자, 근태 FK, 엔티티 콜백 대신 채우는 생성 시각·버전) 검증.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class PayrollDetailBatchWriterTest {
+
+    @Autowired private PayrollService payrollService;
+    @Autowired private PayrollPolicyService payrollPolicyService;
+    @Autowired private PayrollDetailBatchWriter payrollDetailBatchWriter;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EmployeeProfileRepository employeeProfileRepository;
+    @Autowired private StoreRepository storeRepository;
+    @Autowired private EmployeeStoreRelationRepository relationRepository;
+    @Autowired private AttendanceRepository attendanceRepository;
+    @Autowired private PayrollDetailRepository payrollDetailRepository;
+
+    private static final AtomicLong SEQ = new AtomicLong(System.nanoTime() % 100_000_000L);
+
+    @Test
+    @DisplayName("급여 계산이 만든 상세 내역이 JDBC 배치로 저장되고 엔티티 조회로 같은 값이 읽힌다")
+    void calculatedDetailsAreBatchInsertedAndReadable() {
+        String biz = String.format("%010d", 1_000_000_000L + (SEQ.incrementAndGet() % 900_000_000L));
+        Store store = new Store("상세배치테스트매장", biz, "02-777-0001", "카페", 12000, 100);
+        store.updateLocation(37.5665, 126.9780, "서울 중구", 100);
+        store = storeRepository.save(store);
+
+        User user = new User("detail_batch_" + SEQ.incrementAndGet() + "@example.com", "상세배치직원");
+        user.setUserGrade(UserGrade.EMPLOYEE);
+        EmployeeProfile employee = employeeProfileRepository.save(new EmployeeProfile(userRepository.save(user)));
+        EmployeeStoreRelation relation = new EmployeeStoreRelation(employee, store, 15_000);
+        relation.setIsActive(true);
+        relationRepository.save(relation);
+        payrollPolicyService.getPayrollPolicyByStore(store.getId());
+
+        LocalDateTime lastCheckOut = LocalDateTime.now().minusDays(1).withHour(18).withMinute(0).withSecond(0).withNano(0);
+        Set<Long> attendanceIds = new HashSet<>();
+        for (int day = 0; day < 3; day++) {
+            Attendance attendance = new Attendance(employee, store);
+            LocalDateTime checkOut = lastCheckOut.minusDays(day);
+            attendance.manualCheckIn(checkOut.minusHours(8), 37.5665, 126.9780, 15_000);
+            attendance.manualCheckOut(checkOut, 37.5665, 126.9780);
+            attendanceIds.add(attendanceRepository.save(attendance).getId());
+        }
+        LocalDate start = lastCheckOut.toLocalDate().minusDays(2);
+        LocalDate end = lastCheckOut.toLocalDate();
+        long rowsBefore = payrollDetailBatchWriter.totalRows();
+
+        Payroll payroll = payrollService.calculatePayroll(employee.getId(), store.getId(), start, end, false);
+
+        List<PayrollDetail> details = payrollDetailRepository.findByPayroll_IdOrderByWorkDateAsc(payroll.getId());
+        assertThat(details).hasSize(3);
+        assertThat(payrollDetailBatchWriter.totalRows() - rowsBefore).isEqualTo(3);
+        assertThat(details.stream().map(d -> d.getAttendance().getId()).collect(Collectors.toSet()))
+                .isEqualTo(attendanceIds);
+        assertThat(details).allSatisfy(detail -> {
+            assertThat(detail.getId()).isNotNull();
+            assertThat(detail.getCreatedAt()).isNotNull();
+            assertThat(detail.getVersion()).isZero();
+            assertThat(detail.getBaseHourlyWage()).isEqualTo(payroll.getBaseHourlyWage());
+            assertThat(detail.getDailyWage()).isPositive();
+            assertThat(detail.getStartTime()).isEqualTo(detail.getAttendance().getCheckInTime().toLocalTime());
+            assertThat(detail.getEndTime()).isEqualTo(detail.getAttendance().getCheckOutTime().toLocalTime());
+        });
+        assertThat(details.stream().mapToInt(PayrollDetail::getDailyWage).sum())
+                .isLessThanOrEqualTo(payroll.getGrossWage());
+    }
+}
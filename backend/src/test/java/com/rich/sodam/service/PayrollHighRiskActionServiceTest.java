@@ -25,7 +25,7 @@ class PayrollHighRiskActionServiceTest {
         StoreDelegationAuditRepository audits = mock(StoreDelegationAuditRepository.class);
         StoreAccessGuard guard = mock(StoreAccessGuard.class);
         PayrollHighRiskActionService service = new PayrollHighRiskActionService(
-                payrolls, payrollService, authorities, stepUp, audits, guard);
+                payrolls, payrollService, authorities, stepUp, audits, guard, mock(StoreDailyMetricService.class));
         Payroll payroll = payroll(10L, 20L);
         when(payrolls.findByIdForUpdate(30L)).thenReturn(Optional.of(payroll));
         when(authorities.require(1L, 10L, ManagerPermission.PAYROLL_CONFIRM))
@@ -56,7 +56,7 @@ class PayrollHighRiskActionServiceTest {
         StoreDelegationAuditRepository audits = mock(StoreDelegationAuditRepository.class);
         StoreAccessGuard guard = mock(StoreAccessGuard.class);
         PayrollHighRiskActionService service = new PayrollHighRiskActionService(
-                payrolls, payrollService, authorities, stepUp, audits, guard);
+                payrolls, payrollService, authorities, stepUp, audits, guard, mock(StoreDailyMetricService.class));
 
         Payroll payroll = payroll(10L, 20L);
         payroll.setGrossWage(1_000_000);
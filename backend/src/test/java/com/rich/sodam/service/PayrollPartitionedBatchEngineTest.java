@@ -0,0 +1,320 @@
+package com.rich.sodam.service;
+
+import com.rich.sodam.config.PayrollBatchProperties;
+import com.rich.sodam.domain.EmployeeProfile;
+import com.rich.sodam.domain.EmployeeStoreRelation;
+import com.rich.sodam.domain.PayrollBatchCheckpoint;
+import com.rich.sodam.domain.Store;
+import com.rich.sodam.exception.BusinessException;
+import com.rich.sodam.repository.PayrollBatchCheckpointRepository;
+import com.rich.sodam.repository.PayrollRepository;
+import com.rich.sodam.repository.StoreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 월별 급여 분할 배치 — 샤드 분할, 체크포인트 재개, 실패 샤드 재시도·재시도 상한, heartbeat, 실패 집계 검증.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PayrollPartitionedBatchEngineTest {
+
+    @Mock
+    StoreRepository storeRepository;
+    @Mock
+    PayrollRepository payrollRepository;
+    @Mock
+    PayrollBatchCheckpointRepository checkpointRepository;
+    @Mock
+    PayrollBatchExecutor payrollBatchExecutor;
+
+    private PayrollPartitionedBatchEngine engine;
+
+    private static final LocalDate START = LocalDate.of(2026, 9, 1);
+    private static final LocalDate END = LocalDate.of(2026, 9, 30);
+
+    @BeforeEach
+    void setUp() {
+        PayrollBatchProperties properties = new PayrollBatchProperties();
+        properties.setShardCount(2);
+        engine = new PayrollPartitionedBatchEngine(storeRepository, payrollRepository, checkpointRepository, payrollBatchExecutor, properties, new SyncTaskExecutor());
+
+        when(checkpointRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(checkpointRepository.findByPeriodStartAndPeriodEndAndShardCountAndShardIndex(any(), any(), anyInt(), anyInt()))
+                .thenReturn(Optional.empty());
+    }
+
+    @Test
+    @DisplayName("매장 ID 나머지로 샤드를 나누고, 각 샤드 안은 ID 오름차순을 유지한다")
+    void partitionsByStoreIdModulo() {
+        List<List<Long>> shards = PayrollPartitionedBatchEngine.partition(List.of(1L, 2L, 3L, 4L, 5L), 2);
+
+        assertThat(shards.get(0)).containsExactly(2L, 4L);
+        assertThat(shards.get(1)).containsExactly(1L, 3L, 5L);
+    }
+
+    @Test
+    @DisplayName("매장 컨텍스트를 한 번 읽어 모든 직원을 REQUIRES_NEW 실행기로 계산하고, 한 명의 실패는 집계에만 남는다")
+    void calculatesEveryEmployeeAndCountsFailures() {
+        when(storeRepository.findAllIdsOrderById()).thenReturn(List.of(1L, 2L));
+        PayrollCalculationContext store1 = context(1L, 11L, 12L);
+        PayrollCalculationContext store2 = context(2L, 21L);
+        when(payrollBatchExecutor.loadStoreContext(1L, START, END)).thenReturn(store1);
+        when(payrollBatchExecutor.loadStoreContext(2L, START, END)).thenReturn(store2);
+        when(payrollBatchExecutor.calculateForEmployee(same(store1), eq(12L), anyBoolean()))
+                .thenThrow(new BusinessException("이미 해당 기간에 대한 급여가 계산되었습니다."));
+
+        PayrollPartitionedBatchEngine.BatchReport report = engine.run(START, END);
+
+        verify(payrollBatchExecutor, times(1)).loadStoreContext(1L, START, END);
+        verify(payrollBatchExecutor).calculateForEmployee(store1, 11L, false);
+        verify(payrollBatchExecutor).calculateForEmployee(store1, 12L, false);
+        verify(payrollBatchExecutor).calculateForEmployee(store2, 21L, false);
+        // 실패 직원이 있는 샤드(매장 1)는 완료로 닫지 않고 재시도 대기로 남는다
+        assertThat(report.completedShards()).isEqualTo(1);
+        assertThat(report.retryPendingShards()).isEqualTo(1);
+        assertThat(report.storesProcessed()).isEqualTo(2);
+        assertThat(report.processed()).isEqualTo(2);
+        assertThat(report.failed()).isEqualTo(1);
+        assertThat(report.failedEmployees())
+                .extracting(PayrollPartitionedBatchEngine.FailedEmployee::employeeId)
+                .containsExactly(12L);
+    }
+
+    @Test
+    @DisplayName("완료된 샤드는 건너뛰고, 중단된 샤드는 마지막 완료 매장 다음부터 이미 계산된 직원을 빼고 이어받는다")
+    void resumesFromCheckpoint() {
+        when(storeRepository.findAllIdsOrderById()).thenReturn(List.of(1L, 2L, 3L, 4L, 5L));
+
+        PayrollBatchCheckpoint done = new PayrollBatchCheckpoint(START, END, 2, 0);
+        done.finish(3);
+        PayrollBatchCheckpoint crashed = new PayrollBatchCheckpoint(START, END, 2, 1);
+        crashed.advance(1L, 3, 0);
+        // 실행 노드가 죽어 오래 갱신되지 않은 체크포인트
+        ReflectionTestUtils.setField(crashed, "updatedAt", LocalDateTime.now().minusHours(1));
+        when(checkpointRepository.findByPeriodStartAndPeriodEndAndShardCountAndShardIndex(START, END, 2, 0))
+                .thenReturn(Optional.of(done));
+        when(checkpointRepository.findByPeriodStartAndPeriodEndAndShardCountAndShardIndex(START, END, 2, 1))
+                .thenReturn(Optional.of(crashed));
+
+        PayrollCalculationContext store3 = context(3L, 31L, 32L);
+        PayrollCalculationContext store5 = context(5L, 51L);
+        when(payrollBatchExecutor.loadStoreContext(3L, START, END)).thenReturn(store3);
+        when(payrollBatchExecutor.loadStoreContext(5L, START, END)).thenReturn(store5);
+        when(payrollRepository.findCalculatedEmployeeIds(3L, START, END)).thenReturn(List.of(31L));
+
+        PayrollPartitionedBatchEngine.BatchReport report = engine.run(START, END);
+
+        verify(payrollBatchExecutor, never()).loadStoreContext(eq(1L), any(), any());
+        verify(payrollBatchExecutor, never()).loadStoreContext(eq(2L), any(), any());
+        verify(payrollBatchExecutor, never()).calculateForEmployee(any(PayrollCalculationContext.class), eq(31L), anyBoolean());
+        verify(payrollBatchExecutor).calculateForEmployee(store3, 32L, false);
+        verify(payrollBatchExecutor).calculateForEmployee(store5, 51L, false);
+        assertThat(report.skippedShards()).isEqualTo(1);
+        assertThat(report.completedShards()).isEqualTo(1);
+        assertThat(crashed.isCompleted()).isTrue();
+        assertThat(crashed.getLastStoreId()).isEqualTo(5L);
+        assertThat(crashed.getProcessedCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("재시도 대기 샤드는 모든 매장을 다시 훑되 이미 계산된 직원은 건너뛰고 실패했던 직원만 계산한다")
+    void retriesShardLeftWithFailures() {
+        when(storeRepository.findAllIdsOrderById()).thenReturn(List.of(1L, 3L));
+        PayrollBatchCheckpoint failed = new PayrollBatchCheckpoint(START, END, 2, 1);
+        failed.advance(1L, 1, 0);
+        failed.advance(3L, 1, 1);
+        failed.finish(3);
+        assertThat(failed.isRetryPending()).isTrue();
+        when(checkpointRepository.findByPeriodStartAndPeriodEndAndShardCountAndShardIndex(START, END, 2, 1))
+                .thenReturn(Optional.of(failed));
+
+        PayrollCalculationContext store1 = context(1L, 11L);
+        PayrollCalculationContext store3 = context(3L, 31L, 32L);
+        when(payrollBatchExecutor.loadStoreContext(1L, START, END)).thenReturn(store1);
+        when(payrollBatchExecutor.loadStoreContext(3L, START, END)).thenReturn(store3);
+        when(payrollRepository.findCalculatedEmployeeIds(1L, START, END)).thenReturn(List.of(11L));
+        when(payrollRepository.findCalculatedEmployeeIds(3L, START, END)).thenReturn(List.of(31L));
+
+        PayrollPartitionedBatchEngine.BatchReport report = engine.run(START, END);
+
+        verify(payrollBatchExecutor, never()).calculateForEmployee(any(PayrollCalculationContext.class), eq(11L), anyBoolean());
+        verify(payrollBatchExecutor, never()).calculateForEmployee(any(PayrollCalculationContext.class), eq(31L), anyBoolean());
+        verify(payrollBatchExecutor).calculateForEmployee(store3, 32L, false);
+        assertThat(report.completedShards()).isEqualTo(2);
+        assertThat(failed.isCompleted()).isTrue();
+        assertThat(failed.getFailedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("첫 실행에서도 사장이 먼저 계산해 둔 직원은 건너뛰고 실패로 세지 않는다")
+    void freshRunSkipsManuallyCalculatedEmployees() {
+        when(storeRepository.findAllIdsOrderById()).thenReturn(List.of(2L));
+        PayrollCalculationContext store2 = context(2L, 21L, 22L);
+        when(payrollBatchExecutor.loadStoreContext(2L, START, END)).thenReturn(store2);
+        when(payrollRepository.findCalculatedEmployeeIds(2L, START, END)).thenReturn(List.of(21L));
+
+        PayrollPartitionedBatchEngine.BatchReport report = engine.run(START, END);
+
+        verify(payrollBatchExecutor, never()).calculateForEmployee(any(PayrollCalculationContext.class), eq(21L), anyBoolean());
+        verify(payrollBatchExecutor).calculateForEmployee(store2, 22L, false);
+        assertThat(report.failed()).isZero();
+        assertThat(report.completedShards()).isEqualTo(1);
+        assertThat(report.retryPendingShards()).isZero();
+    }
+
+    @Test
+    @DisplayName("재시도 상한까지 다시 훑고도 실패가 남으면 샤드를 실패 포함 완료로 닫고 다음 실행은 건너뛴다")
+    void stopsRetryingAfterMaxRetries() {
+        when(storeRepository.findAllIdsOrderById()).thenReturn(List.of(1L));
+        PayrollBatchCheckpoint failed = new PayrollBatchCheckpoint(START, END, 2, 1);
+        failed.advance(1L, 0, 1);
+        failed.finish(3);
+        for (int i = 0; i < 2; i++) {
+            failed.retry();
+            failed.advance(1L, 0, 1);
+            failed.finish(3);
+        }
+        assertThat(failed.isRetryPending()).isTrue();
+        ReflectionTestUtils.setField(failed, "updatedAt", LocalDateTime.now().minusHours(1));
+        when(checkpointRepository.findByPeriodStartAndPeriodEndAndShardCountAndShardIndex(START, END, 2, 1))
+                .thenReturn(Optional.of(failed));
+        PayrollCalculationContext store1 = context(1L, 11L);
+        when(payrollBatchExecutor.loadStoreContext(1L, START, END)).thenReturn(store1);
+        when(payrollBatchExecutor.calculateForEmployee(same(store1), eq(11L), anyBoolean()))
+                .thenThrow(new IllegalStateException("최저임금 미달 계약"));
+
+        PayrollPartitionedBatchEngine.BatchReport last = engine.run(START, END);
+
+        assertThat(failed.getRetryCount()).isEqualTo(3);
+        assertThat(failed.isCompletedWithFailures()).isTrue();
+        assertThat(last.retryPendingShards()).isZero();
+        assertThat(last.failed()).isEqualTo(1);
+
+        PayrollPartitionedBatchEngine.BatchReport next = engine.run(START, END);
+
+        verify(payrollBatchExecutor, times(1)).loadStoreContext(1L, START, END);
+        assertThat(next.skippedShards()).isEqualTo(1);
+        assertThat(next.failed()).isZero();
+    }
+
+    @Test
+    @DisplayName("매장 1곳을 계산하는 동안에도 직원 사이사이 체크포인트 진행 시각을 저장한다")
+    void heartbeatsBetweenEmployees() {
+        engine = engineWithStaleAfterMinutes(0); // heartbeat 간격 0 — 매 직원 뒤에 저장
+        when(storeRepository.findAllIdsOrderById()).thenReturn(List.of(2L));
+        PayrollCalculationContext store2 = context(2L, 21L, 22L);
+        when(payrollBatchExecutor.loadStoreContext(2L, START, END)).thenReturn(store2);
+
+        engine.run(START, END);
+
+        InOrder inOrder = inOrder(payrollBatchExecutor, checkpointRepository);
+        inOrder.verify(payrollBatchExecutor).calculateForEmployee(store2, 21L, false);
+        inOrder.verify(checkpointRepository).save(any());
+        inOrder.verify(payrollBatchExecutor).calculateForEmployee(store2, 22L, false);
+        inOrder.verify(checkpointRepository).save(any());
+    }
+
+    @Test
+    @DisplayName("진행 중 다른 실행이 샤드를 이어받아 버전이 충돌하면 남은 직원을 계산하지 않고 멈춘다")
+    void stopsWhenShardWasTakenOver() {
+        engine = engineWithStaleAfterMinutes(0);
+        when(storeRepository.findAllIdsOrderById()).thenReturn(List.of(2L));
+        PayrollCalculationContext store2 = context(2L, 21L, 22L);
+        when(payrollBatchExecutor.loadStoreContext(2L, START, END)).thenReturn(store2);
+        when(checkpointRepository.save(any()))
+                .thenAnswer(inv -> inv.getArgument(0))
+                .thenThrow(new ObjectOptimisticLockingFailureException(PayrollBatchCheckpoint.class, 1L))
+                .thenAnswer(inv -> inv.getArgument(0));
+
+        PayrollPartitionedBatchEngine.BatchReport report = engine.run(START, END);
+
+        verify(payrollBatchExecutor).calculateForEmployee(store2, 21L, false);
+        verify(payrollBatchExecutor, never()).calculateForEmployee(any(PayrollCalculationContext.class), eq(22L), anyBoolean());
+        assertThat(report.abortedShards()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최근에 진행 기록이 있는 샤드는 살아 있는 다른 실행의 몫이라 건드리지 않는다")
+    void skipsShardHeldByLiveRun() {
+        when(storeRepository.findAllIdsOrderById()).thenReturn(List.of(2L));
+        PayrollBatchCheckpoint live = new PayrollBatchCheckpoint(START, END, 2, 0);
+        when(checkpointRepository.findByPeriodStartAndPeriodEndAndShardCountAndShardIndex(START, END, 2, 0))
+                .thenReturn(Optional.of(live));
+
+        PayrollPartitionedBatchEngine.BatchReport report = engine.run(START, END);
+
+        verify(payrollBatchExecutor, never()).loadStoreContext(eq(2L), any(), any());
+        assertThat(report.skippedShards()).isEqualTo(1);
+        assertThat(live.isCompleted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("매장 입력 조회가 실패하면 매장 단위 실패 1건으로 남기고 다음 매장을 계속한다")
+    void countsStoreContextFailureAndContinues() {
+        when(storeRepository.findAllIdsOrderById()).thenReturn(List.of(2L, 4L));
+        when(payrollBatchExecutor.loadStoreContext(2L, START, END))
+                .thenThrow(new IllegalStateException("db down"));
+        PayrollCalculationContext store4 = context(4L, 41L);
+        when(payrollBatchExecutor.loadStoreContext(4L, START, END)).thenReturn(store4);
+
+        PayrollPartitionedBatchEngine.BatchReport report = engine.run(START, END);
+
+        verify(payrollBatchExecutor).calculateForEmployee(store4, 41L, false);
+        assertThat(report.processed()).isEqualTo(1);
+        assertThat(report.failed()).isEqualTo(1);
+        assertThat(report.failedEmployees()).singleElement()
+                .satisfies(failure -> {
+                    assertThat(failure.employeeId()).isNull();
+                    assertThat(failure.storeId()).isEqualTo(2L);
+                });
+    }
+
+    private PayrollPartitionedBatchEngine engineWithStaleAfterMinutes(int minutes) {
+        PayrollBatchProperties properties = new PayrollBatchProperties();
+        properties.setShardCount(2);
+        properties.setStaleAfterMinutes(minutes);
+        return new PayrollPartitionedBatchEngine(storeRepository, payrollRepository, checkpointRepository,
+                payrollBatchExecutor, properties, new SyncTaskExecutor());
+    }
+
+    private PayrollCalculationContext context(Long storeId, Long... employeeIds) {
+        Store store = mock(Store.class);
+        when(store.getId()).thenReturn(storeId);
+        Map<Long, EmployeeStoreRelation> relations = Arrays.stream(employeeIds)
+                .collect(Collectors.toMap(Function.identity(), this::relation));
+        return new PayrollCalculationContext(store, null, START, END, relations,
+                Map.of(), Map.of(), Map.of(), Map.of(), Map.of(), Map.of());
+    }
+
+    private EmployeeStoreRelation relation(Long employeeId) {
+        EmployeeProfile profile = mock(EmployeeProfile.class);
+        when(profile.getId()).thenReturn(employeeId);
+        EmployeeStoreRelation relation = mock(EmployeeStoreRelation.class);
+        when(relation.getEmployeeProfile()).thenReturn(profile);
+        return relation;
+    }
+}
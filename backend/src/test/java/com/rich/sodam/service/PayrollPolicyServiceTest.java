@@ -12,7 +12,10 @@ import java.time.LocalTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class PayrollPolicyServiceTest {
@@ -38,6 +41,35 @@ class PayrollPolicyServiceTest {
         assertThat(updated.getNightWorkStartTime()).isEqualTo(LocalTime.of(22, 0));
     }
 
+    @Test
+    void staleEmptyQueryCacheReusesPolicyCreatedElsewhereInsteadOfInserting() {
+        Store store = mock(Store.class);
+        when(store.getId()).thenReturn(1L);
+        PayrollPolicy existing = new PayrollPolicy();
+        when(storeRepository.findById(1L)).thenReturn(Optional.of(store));
+        when(payrollPolicyRepository.findByStore(store)).thenReturn(Optional.empty());
+        when(payrollPolicyRepository.findByStoreIdForUpdate(1L)).thenReturn(Optional.of(existing));
+
+        assertThat(service.getPayrollPolicyByStore(1L)).isSameAs(existing);
+        verify(storeRepository).findByIdForUpdate(1L);
+        verify(payrollPolicyRepository, never()).save(any());
+    }
+
+    @Test
+    void createsDefaultPolicyOnlyWhenLockedReadAlsoFindsNone() {
+        Store store = mock(Store.class);
+        when(store.getId()).thenReturn(1L);
+        when(storeRepository.findById(1L)).thenReturn(Optional.of(store));
+        when(payrollPolicyRepository.findByStore(store)).thenReturn(Optional.empty());
+        when(payrollPolicyRepository.findByStoreIdForUpdate(1L)).thenReturn(Optional.empty());
+        when(payrollPolicyRepository.save(any(PayrollPolicy.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        PayrollPolicy created = service.getPayrollPolicyByStore(1L);
+
+        assertThat(created.getStore()).isSameAs(store);
+        assertThat(created.getTaxPolicyType()).isEqualTo(TaxPolicyType.INCOME_TAX_3_3);
+    }
+
     private PayrollPolicyUpdateDto policyUpdate(LocalTime nightStart) {
         return PayrollPolicyUpdateDto.builder()
                 .taxPolicyType(TaxPolicyType.INCOME_TAX_3_3)
@@ -0,0 +1,194 @@
+package com.rich.sodam.service;
+
+import com.lowagie.text.DocumentException;
+import com.rich.sodam.domain.EmployeeProfile;
+import com.rich.sodam.domain.Payroll;
+import com.rich.sodam.domain.PayrollDetail;
+import com.rich.sodam.domain.User;
+import com.rich.sodam.domain.type.PayrollStatus;
+import com.rich.sodam.domain.type.PlanFeature;
+import com.rich.sodam.repository.PayrollDetailRepository;
+import com.rich.sodam.repository.PayrollRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 명세서 일괄 발급 — 확정·지급 급여만 기간 상한 안에서 읽고, 상세 내역을 한 번에 읽고, 병렬로 렌더링해도 ZIP
+ * 항목은 급여 ID 순서로 모두 PDF 로 들어가며, 무료 플랜 매장은 워터마크로 나가고, 쓰다 실패하면 남은 렌더링은
+ * 취소되는지 검증.
+ */
+@ExtendWith(MockitoExtension.class)
+class PayslipBulkExportServiceTest {
+
+    private static final Long STORE_ID = 10L;
+    private static final LocalDate FROM = LocalDate.of(2026, 6, 1);
+    private static final LocalDate TO = LocalDate.of(2026, 6, 30);
+    private static final EnumSet<PayrollStatus> ISSUABLE = EnumSet.of(PayrollStatus.CONFIRMED, PayrollStatus.PAID);
+
+    @Mock PayrollRepository payrollRepository;
+    @Mock PayrollDetailRepository payrollDetailRepository;
+    @Mock PlanAccessService planAccessService;
+
+    private ExecutorService pool;
+    private PayslipBulkExportService service;
+
+    @BeforeEach
+    void setUp() {
+        pool = Executors.newFixedThreadPool(4);
+        service = new PayslipBulkExportService(payrollRepository, payrollDetailRepository, planAccessService,
+                new PayslipPdfRenderer(), new TransactionTemplate(mock(PlatformTransactionManager.class)), pool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("직원 전원의 명세서가 급여 ID 순서대로 ZIP 에 PDF 로 들어간다")
+    void writesOnePdfPerPayrollInOrder() throws Exception {
+        List<Payroll> payrolls = new ArrayList<>();
+        for (long id = 1; id <= 12; id++) {
+            payrolls.add(payroll(id, "직원 " + id));
+        }
+        when(payrollRepository.findWithEmployeeByStoreIdAndPeriod(STORE_ID, FROM, TO, ISSUABLE)).thenReturn(payrolls);
+        when(payrollDetailRepository.findByPayroll_IdInOrderByPayroll_IdAscWorkDateAsc(anyCollection()))
+                .thenReturn(List.of(detail(payrolls.get(0), 1), detail(payrolls.get(0), 2), detail(payrolls.get(3), 5)));
+        when(planAccessService.storeOwnerHasFeature(STORE_ID, PlanFeature.PAYSLIP_PDF)).thenReturn(true);
+
+        PayslipBulkExportService.StorePayslips payslips = service.prepare(STORE_ID, FROM, TO);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.writeZip(payslips, out);
+
+        List<String> names = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                names.add(entry.getName());
+                byte[] pdf = zip.readAllBytes();
+                assertThat(new String(pdf, 0, 5, StandardCharsets.ISO_8859_1)).isEqualTo("%PDF-");
+            }
+        }
+        assertThat(names).hasSize(12);
+        assertThat(names.get(0)).isEqualTo("1_직원_1_2026-06-01.pdf");
+        assertThat(names.get(11)).startsWith("12_");
+        assertThat(payslips.details().get(1L)).hasSize(2);
+        assertThat(payslips.watermark()).isFalse();
+        verify(payrollDetailRepository, times(1)).findByPayroll_IdInOrderByPayroll_IdAscWorkDateAsc(anyCollection());
+    }
+
+    @Test
+    @DisplayName("무료 플랜 매장은 일괄 발급 시 전부 워터마크 — 월 1회 무료 정식 발급은 소진하지 않는다")
+    void freeOwnerGetsWatermark() {
+        when(payrollRepository.findWithEmployeeByStoreIdAndPeriod(STORE_ID, FROM, TO, ISSUABLE)).thenReturn(List.of());
+        when(planAccessService.storeOwnerHasFeature(STORE_ID, PlanFeature.PAYSLIP_PDF)).thenReturn(false);
+
+        assertThat(service.prepare(STORE_ID, FROM, TO).watermark()).isTrue();
+    }
+
+    @Test
+    @DisplayName("기간이 없거나 거꾸로이거나 3개월을 넘으면 조회하지 않고 거절한다")
+    void rejectsMissingReversedOrTooLongPeriod() {
+        assertThatThrownBy(() -> service.prepare(STORE_ID, null, TO)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.prepare(STORE_ID, FROM, null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.prepare(STORE_ID, TO, FROM)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.prepare(STORE_ID, FROM, FROM.plusMonths(3).plusDays(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(payrollRepository);
+    }
+
+    @Test
+    @DisplayName("명세서 하나가 실패하면 아직 시작하지 않은 렌더링은 취소돼 실행되지 않는다")
+    void cancelsPendingRendersWhenAnEntryFails() throws Exception {
+        PayslipPdfRenderer renderer = mock(PayslipPdfRenderer.class);
+        doThrow(new DocumentException("render failed")).when(renderer).render(any(), anyList(), anyBoolean(), any());
+        // 첫 렌더링만 바로 돌리고 나머지는 쌓아 둔다 — 실행기 대기열에 남은 작업
+        AtomicBoolean first = new AtomicBoolean(true);
+        List<Runnable> queued = new ArrayList<>();
+        Executor executor = task -> {
+            if (first.getAndSet(false)) {
+                task.run();
+            } else {
+                queued.add(task);
+            }
+        };
+        PayslipBulkExportService failing = new PayslipBulkExportService(payrollRepository, payrollDetailRepository,
+                planAccessService, renderer, new TransactionTemplate(mock(PlatformTransactionManager.class)), executor);
+        List<Payroll> payrolls = new ArrayList<>();
+        for (long id = 1; id <= 12; id++) {
+            payrolls.add(payroll(id, "직원 " + id));
+        }
+
+        assertThatThrownBy(() -> failing.writeZip(
+                new PayslipBulkExportService.StorePayslips(payrolls, Map.of(), false), new ByteArrayOutputStream()))
+                .isInstanceOf(IOException.class);
+
+        assertThat(queued).isNotEmpty();
+        queued.forEach(Runnable::run);
+        verify(renderer, times(1)).render(any(), anyList(), anyBoolean(), any());
+    }
+
+    private static Payroll payroll(Long id, String employeeName) {
+        User user = new User();
+        user.setId(id);
+        user.setName(employeeName);
+        EmployeeProfile employee = new EmployeeProfile();
+        employee.setId(id);
+        employee.setUser(user);
+
+        Payroll payroll = new Payroll();
+        payroll.setId(id);
+        payroll.setEmployee(employee);
+        payroll.setStartDate(FROM);
+        payroll.setEndDate(TO);
+        payroll.setGrossWage(1_200_000);
+        payroll.setNetWage(1_100_000);
+        return payroll;
+    }
+
+    private static PayrollDetail detail(Payroll payroll, int day) {
+        PayrollDetail detail = new PayrollDetail();
+        detail.setPayroll(payroll);
+        detail.setWorkDate(FROM.plusDays(day - 1L));
+        detail.setRegularHours(8.0);
+        detail.setDailyWage(96_000);
+        return detail;
+    }
+}
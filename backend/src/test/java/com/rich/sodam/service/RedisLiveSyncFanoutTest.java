@@ -0,0 +1,81 @@
+package com.rich.sodam.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rich.sodam.config.LiveSyncProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 라이브 동기화 Redis 팬아웃 — 로컬 구독자에게 먼저 보내고 채널로 중계하며, 다른 인스턴스가 보낸 신호만
+ * 다시 뿌리고 자기가 보낸 신호는 무시하는지 검증.
+ */
+@ExtendWith(MockitoExtension.class)
+class RedisLiveSyncFanoutTest {
+
+    @Mock SimpMessagingTemplate messagingTemplate;
+    @Mock StringRedisTemplate publisher;
+
+    private final LiveSyncProperties properties = new LiveSyncProperties();
+    private RedisLiveSyncFanout fanout;
+
+    @BeforeEach
+    void setUp() {
+        fanout = new RedisLiveSyncFanout(messagingTemplate, publisher, new ObjectMapper(), properties,
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("발행하면 로컬 브로커로 보내고 채널에 중계하며, 자기 메시지는 되받아도 다시 뿌리지 않는다")
+    void sendsLocallyAndIgnoresOwnRelay() {
+        Map<String, Object> payload = Map.of("type", "ATTENDANCE_CHANGED", "storeId", 7);
+
+        fanout.send("/topic/store.7", payload);
+
+        ArgumentCaptor<String> relayed = ArgumentCaptor.forClass(String.class);
+        verify(messagingTemplate).convertAndSend("/topic/store.7", (Object) payload);
+        verify(publisher).convertAndSend(eq("sodam:live-sync"), relayed.capture());
+        assertThat(relayed.getValue()).contains("|/topic/store.7|").contains("\"storeId\":7");
+
+        fanout.onRelayMessage(relayed.getValue());
+        verify(messagingTemplate, times(1)).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 보낸 신호는 이 인스턴스의 구독자에게 JSON 그대로 전달한다")
+    void relaysOtherInstanceMessages() {
+        fanout.onRelayMessage("other-instance|/topic/chat.3|{\"content\":\"안녕\"}");
+
+        ArgumentCaptor<Object> delivered = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate).convertAndSend(eq("/topic/chat.3"), delivered.capture());
+        assertThat(((JsonNode) delivered.getValue()).get("content").asText()).isEqualTo("안녕");
+    }
+
+    @Test
+    @DisplayName("Redis 발행이 실패해도 로컬 전달은 끝나고 예외는 새지 않는다")
+    void relayFailureDoesNotBreakLocalDelivery() {
+        doThrow(new IllegalStateException("redis down")).when(publisher).convertAndSend(anyString(), anyString());
+
+        fanout.send("/topic/store.1", Map.of("type", "STORE_UPDATED"));
+
+        verify(messagingTemplate).convertAndSend(eq("/topic/store.1"), any(Object.class));
+    }
+}
@@ -1,6 +1,7 @@
 package com.rich.sodam.service;
 
 import com.rich.sodam.domain.EmployeeStoreRelation;
+import com.rich.sodam.domain.Store;
 import com.rich.sodam.domain.type.ManagerPermission;
 import com.rich.sodam.domain.type.PlanFeature;
 import com.rich.sodam.exception.ManagerAccessDeniedException;
@@ -14,10 +15,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.EnumSet;
-import java.util.Optional;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -51,8 +53,8 @@ class StaffDeactivatePermissionTest {
         EmployeeStoreRelation relation = new EmployeeStoreRelation();
         relation.draftManagerAppointment(EnumSet.of(ManagerPermission.ATTENDANCE_APPROVE), LocalDateTime.now());
         relation.activateManagerDelegation(88L, relation.getManagerDelegationVersion(), LocalDateTime.now());
-        when(employeeRepository.findByEmployeeProfile_IdAndStore_IdAndIsActiveTrue(2L, 10L))
-                .thenReturn(Optional.of(relation));
+        when(employeeRepository.findByEmployeeProfile_Id(2L))
+                .thenReturn(List.of(inStore(relation, 10L)));
         when(planAccessService.storeOwnerHasFeature(10L, PlanFeature.MANAGER_DELEGATION)).thenReturn(true);
 
         assertThatThrownBy(() -> guard.assertMasterOrManagerPermission(2L, 10L, ManagerPermission.STAFF_DEACTIVATE))
@@ -65,8 +67,8 @@ class StaffDeactivatePermissionTest {
         EmployeeStoreRelation relation = new EmployeeStoreRelation();
         relation.draftManagerAppointment(EnumSet.of(ManagerPermission.STAFF_DEACTIVATE), LocalDateTime.now());
         relation.activateManagerDelegation(88L, relation.getManagerDelegationVersion(), LocalDateTime.now());
-        when(employeeRepository.findByEmployeeProfile_IdAndStore_IdAndIsActiveTrue(2L, 10L))
-                .thenReturn(Optional.of(relation));
+        when(employeeRepository.findByEmployeeProfile_Id(2L))
+                .thenReturn(List.of(inStore(relation, 10L)));
         when(planAccessService.storeOwnerHasFeature(10L, PlanFeature.MANAGER_DELEGATION)).thenReturn(true);
 
         assertThatCode(() -> guard.assertMasterOrManagerPermission(2L, 10L, ManagerPermission.STAFF_DEACTIVATE))
@@ -76,7 +78,7 @@ class StaffDeactivatePermissionTest {
     @Test
     @DisplayName("사장은 매니저 조회 없이 항상 통과한다(기존 경로 회귀 없음)")
     void ownerAlwaysPassesRegardlessOfPermission() {
-        when(masterRepository.existsByMasterProfile_IdAndStore_Id(1L, 10L)).thenReturn(true);
+        when(masterRepository.findStoreIdsByMasterProfileId(1L)).thenReturn(List.of(10L));
 
         assertThatCode(() -> guard.assertMasterOrManagerPermission(1L, 10L, ManagerPermission.STAFF_DEACTIVATE))
                 .doesNotThrowAnyException();
@@ -88,4 +90,11 @@ class StaffDeactivatePermissionTest {
     void defaultPresetDoesNotIncludeStaffDeactivate() {
         assertThat(ManagerPermission.defaultPreset()).doesNotContain(ManagerPermission.STAFF_DEACTIVATE);
     }
+
+    private static EmployeeStoreRelation inStore(EmployeeStoreRelation relation, Long storeId) {
+        Store store = new Store("테스트매장", "1234567890", "010-0000-0000", "카페", 12_000, 100);
+        ReflectionTestUtils.setField(store, "id", storeId);
+        relation.setStore(store);
+        return relation;
+    }
 }
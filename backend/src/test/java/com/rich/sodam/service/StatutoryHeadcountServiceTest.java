@@ -1,13 +1,10 @@
 package com.rich.sodam.service;
 
 import com.rich.sodam.config.LaborLawRoadmapProperties;
-import com.rich.sodam.domain.Attendance;
-import com.rich.sodam.domain.EmployeeProfile;
 import com.rich.sodam.domain.EmployeeStoreRelation;
 import com.rich.sodam.domain.Store;
 import com.rich.sodam.dto.response.HeadcountSimulationResponse;
 import com.rich.sodam.dto.response.StatutoryHeadcountResponse;
-import com.rich.sodam.repository.AttendanceRepository;
 import com.rich.sodam.repository.EmployeeStoreRelationRepository;
 import com.rich.sodam.repository.StoreRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -15,8 +12,6 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,49 +32,34 @@ class StatutoryHeadcountServiceTest {
     private static final long STORE_ID = 1L;
     /** 산정기간 = 2026-07-15 ~ 2026-08-14 (기준일 2026-08-15 전 1개월). */
     private static final LocalDate TODAY = LocalDate.of(2026, 8, 15);
-    private static final LocalDate FIRST_DAY = LocalDate.of(2026, 7, 16);
+    private static final LocalDate PERIOD_START = LocalDate.of(2026, 7, 15);
+    private static final LocalDate PERIOD_END = LocalDate.of(2026, 8, 14);
 
     private final StoreRepository storeRepository = mock(StoreRepository.class);
-    private final AttendanceRepository attendanceRepository = mock(AttendanceRepository.class);
+    private final StoreDailyHeadcountService dailyHeadcountService = mock(StoreDailyHeadcountService.class);
     private final EmployeeStoreRelationRepository relationRepository = mock(EmployeeStoreRelationRepository.class);
     private final LaborLawRoadmapProperties roadmapProperties = new LaborLawRoadmapProperties();
     private final StatutoryHeadcountService service = new StatutoryHeadcountService(
-            storeRepository, attendanceRepository, relationRepository, roadmapProperties);
+            storeRepository, dailyHeadcountService, relationRepository, roadmapProperties);
 
     private final Store store = mock(Store.class);
 
-    private Attendance att(long empId, LocalDateTime checkIn) {
-        EmployeeProfile e = mock(EmployeeProfile.class);
-        when(e.getId()).thenReturn(empId);
-        Attendance a = mock(Attendance.class);
-        when(a.getEmployeeProfile()).thenReturn(e);
-        when(a.getCheckInTime()).thenReturn(checkIn);
-        return a;
+    /** 가동일 {@code days}일, 마지막 날만 {@code lastDayEmployees}명, 나머지는 5명씩 근무한 일자별 집계. */
+    private StoreDailyHeadcountService.HeadcountTotals buildTotals(int days, int lastDayEmployees) {
+        int manDays = days == 0 ? 0 : 5 * (days - 1) + lastDayEmployees;
+        return new StoreDailyHeadcountService.HeadcountTotals(days, manDays);
     }
 
-    /** 가동일 {@code days}일, 마지막 날만 {@code lastDayEmployees}명, 나머지는 5명씩 근무. */
-    private List<Attendance> buildAttendances(int days, int lastDayEmployees) {
-        List<Attendance> list = new ArrayList<>();
-        for (int d = 0; d < days; d++) {
-            LocalDate day = FIRST_DAY.plusDays(d);
-            int count = (d == days - 1) ? lastDayEmployees : 5;
-            for (long e = 1; e <= count; e++) {
-                list.add(att(e, day.atTime(9, 0)));
-            }
-        }
-        return list;
-    }
-
-    private void stubAttendances(List<Attendance> attendances) {
+    private void stubTotals(StoreDailyHeadcountService.HeadcountTotals totals) {
+        when(storeRepository.existsById(eq(STORE_ID))).thenReturn(true);
         when(storeRepository.findById(eq(STORE_ID))).thenReturn(Optional.of(store));
-        when(attendanceRepository.findByStoreAndCheckInTimeBetweenOrderByCheckInTimeDesc(any(), any(), any()))
-                .thenReturn(attendances);
+        when(dailyHeadcountService.summarize(STORE_ID, PERIOD_START, PERIOD_END)).thenReturn(totals);
     }
 
     @Test
     @DisplayName("경계값 4.9명 — 가동일 10일·연인원 49명(9일×5명+1일×4명)은 5인 미충족")
     void belowThresholdAt49Point() {
-        stubAttendances(buildAttendances(10, 4));
+        stubTotals(buildTotals(10, 4));
 
         StatutoryHeadcountResponse res = service.referenceHeadcount(STORE_ID, TODAY);
 
@@ -92,7 +72,7 @@ class StatutoryHeadcountServiceTest {
     @Test
     @DisplayName("경계값 5.0명 — 가동일 10일·연인원 50명(10일×5명)은 5인 충족")
     void meetsThresholdAt50Point() {
-        stubAttendances(buildAttendances(10, 5));
+        stubTotals(buildTotals(10, 5));
 
         StatutoryHeadcountResponse res = service.referenceHeadcount(STORE_ID, TODAY);
 
@@ -105,7 +85,7 @@ class StatutoryHeadcountServiceTest {
     @Test
     @DisplayName("가동일 0일(출근 기록 없음) — 참고 산정 0명, 5인 미충족")
     void zeroWhenNoAttendance() {
-        stubAttendances(List.of());
+        stubTotals(buildTotals(0, 0));
 
         StatutoryHeadcountResponse res = service.referenceHeadcount(STORE_ID, TODAY);
 
@@ -117,7 +97,7 @@ class StatutoryHeadcountServiceTest {
     @Test
     @DisplayName("면책 문구가 항상 포함된다 — 참고 산정이며 최종 판단은 근로감독관·법원 권한")
     void alwaysCarriesDisclaimer() {
-        stubAttendances(buildAttendances(10, 4));
+        stubTotals(buildTotals(10, 4));
 
         StatutoryHeadcountResponse res = service.referenceHeadcount(STORE_ID, TODAY);
 
@@ -127,7 +107,7 @@ class StatutoryHeadcountServiceTest {
     @Test
     @DisplayName("전환 시뮬레이션 — 4.9명에서 1명 추가 시 5.9명으로 경계를 넘고 신규 적용 조항 목록을 반환")
     void simulationCrossesThreshold() {
-        stubAttendances(buildAttendances(10, 4)); // 참고 산정 4.9명
+        stubTotals(buildTotals(10, 4)); // 참고 산정 4.9명
         EmployeeStoreRelation rel = mock(EmployeeStoreRelation.class);
         when(rel.getAppliedHourlyWage()).thenReturn(11_000);
         when(relationRepository.findByStoreAndIsActiveTrue(any())).thenReturn(List.of(rel));
@@ -145,7 +125,7 @@ class StatutoryHeadcountServiceTest {
     @Test
     @DisplayName("전환 시뮬레이션 — 이미 5인 이상이면 crossesThreshold=false(이미 충족된 상태라 '전환'이 아님)")
     void simulationDoesNotFlagAlreadyMet() {
-        stubAttendances(buildAttendances(10, 5)); // 참고 산정 5.0명(이미 충족)
+        stubTotals(buildTotals(10, 5)); // 참고 산정 5.0명(이미 충족)
         when(relationRepository.findByStoreAndIsActiveTrue(any())).thenReturn(List.of());
 
         HeadcountSimulationResponse res = service.simulateAddingEmployees(STORE_ID, 1, TODAY);
@@ -157,7 +137,7 @@ class StatutoryHeadcountServiceTest {
     @Test
     @DisplayName("판정이 다른 기능을 자동 활성화하지 않는다(HC-4) — 응답은 참고 수치일 뿐 다른 상태를 변경하지 않는다")
     void doesNotMutateAnyOtherState() {
-        stubAttendances(buildAttendances(10, 5));
+        stubTotals(buildTotals(10, 5));
 
         service.referenceHeadcount(STORE_ID, TODAY);
 
@@ -170,7 +150,7 @@ class StatutoryHeadcountServiceTest {
     void differsFromTaxCreditHeadcount() {
         // 알바 4명이 각각 주 2일씩 근무하는 시나리오를 근기법 산식으로 재현하면 distinct(4명)보다 낮다.
         // 가동일 10일 중 매일 서로 다른 4명 중 일부만 근무(9일×5명 + 1일×4명 = 연인원 49 → 4.9명).
-        stubAttendances(buildAttendances(10, 4));
+        stubTotals(buildTotals(10, 4));
 
         StatutoryHeadcountResponse statutory = service.referenceHeadcount(STORE_ID, TODAY);
 
@@ -1,6 +1,7 @@
 package com.rich.sodam.service;
 
 import com.rich.sodam.domain.EmployeeStoreRelation;
+import com.rich.sodam.domain.Store;
 import com.rich.sodam.domain.type.ManagerPermission;
 import com.rich.sodam.domain.type.PlanFeature;
 import com.rich.sodam.exception.ManagerAccessDeniedException;
@@ -13,10 +14,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.EnumSet;
-import java.util.Optional;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -39,8 +41,8 @@ class StoreAccessGuardManagerTest {
     @Test
     void regularEmployeeGetsMgr001() {
         EmployeeStoreRelation relation = new EmployeeStoreRelation();
-        when(employeeRepository.findByEmployeeProfile_IdAndStore_IdAndIsActiveTrue(2L, 10L))
-                .thenReturn(Optional.of(relation));
+        when(employeeRepository.findByEmployeeProfile_Id(2L))
+                .thenReturn(List.of(inStore(relation, 10L)));
         assertCode(ManagerPermission.ATTENDANCE_APPROVE, "MGR-001");
     }
 
@@ -48,23 +50,23 @@ class StoreAccessGuardManagerTest {
     void unsignedManagerGetsMgr004() {
         EmployeeStoreRelation relation = new EmployeeStoreRelation();
         relation.draftManagerAppointment(EnumSet.of(ManagerPermission.ATTENDANCE_APPROVE), LocalDateTime.now());
-        when(employeeRepository.findByEmployeeProfile_IdAndStore_IdAndIsActiveTrue(2L, 10L))
-                .thenReturn(Optional.of(relation));
+        when(employeeRepository.findByEmployeeProfile_Id(2L))
+                .thenReturn(List.of(inStore(relation, 10L)));
         assertCode(ManagerPermission.ATTENDANCE_APPROVE, "MGR-004");
     }
 
     @Test
     void signedManagerOnFreeStoreGetsMgr005() {
         EmployeeStoreRelation relation = activeManager();
-        when(employeeRepository.findByEmployeeProfile_IdAndStore_IdAndIsActiveTrue(2L, 10L))
-                .thenReturn(Optional.of(relation));
+        when(employeeRepository.findByEmployeeProfile_Id(2L))
+                .thenReturn(List.of(inStore(relation, 10L)));
         when(planAccessService.storeOwnerHasFeature(10L, PlanFeature.MANAGER_DELEGATION)).thenReturn(false);
         assertCode(ManagerPermission.ATTENDANCE_APPROVE, "MGR-005");
     }
 
     @Test
     void ownerBypassesManagerLookupAndTierGate() {
-        when(masterRepository.existsByMasterProfile_IdAndStore_Id(1L, 10L)).thenReturn(true);
+        when(masterRepository.findStoreIdsByMasterProfileId(1L)).thenReturn(List.of(10L));
         assertThatCode(() -> guard.assertMasterOrManagerPermission(
                 1L, 10L, ManagerPermission.ATTENDANCE_APPROVE)).doesNotThrowAnyException();
         verifyNoInteractions(employeeRepository, planAccessService);
@@ -94,4 +96,11 @@ class StoreAccessGuardManagerTest {
                 .isInstanceOfSatisfying(ManagerAccessDeniedException.class,
                         error -> org.assertj.core.api.Assertions.assertThat(error.getCode()).isEqualTo(code));
     }
+
+    private static EmployeeStoreRelation inStore(EmployeeStoreRelation relation, Long storeId) {
+        Store store = new Store("테스트매장", "1234567890", "010-0000-0000", "카페", 12_000, 100);
+        ReflectionTestUtils.setField(store, "id", storeId);
+        relation.setStore(store);
+        return relation;
+    }
 }
@@ -0,0 +1,96 @@
+package com.rich.sodam.service;
+
+import com.rich.sodam.domain.Attendance;
+import com.rich.sodam.domain.EmployeeProfile;
+import com.rich.sodam.domain.Store;
+import com.rich.sodam.domain.User;
+import com.rich.sodam.domain.type.UserGrade;
+import com.rich.sodam.repository.AttendanceRepository;
+import com.rich.sodam.repository.EmployeeProfileRepository;
+import com.rich.sodam.repository.StoreRepository;
+import com.rich.sodam.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 매장 일자별 출근 인원 — 같은 직원의 하루 두 번 출근은 한 명으로 세고, 가동일수·연인원이 일자 행 합산으로
+ * 나오며, 원본 재계산은 출근 기록이 없는 일자를 비우는지 검증.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class StoreDailyHeadcountServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 9, 1);
+    private static final AtomicLong SEQ = new AtomicLong(System.nanoTime() % 100_000_000L);
+
+    @Autowired private StoreDailyHeadcountService service;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EmployeeProfileRepository employeeProfileRepository;
+    @Autowired private StoreRepository storeRepository;
+    @Autowired private AttendanceRepository attendanceRepository;
+
+    @Test
+    @DisplayName("일자를 다시 세면 같은 직원의 두 번째 출근은 더하지 않고, 요약은 출근자가 있는 일자만 가동일로 센다")
+    void refreshCountsDistinctWorkersPerDay() {
+        Store store = store();
+        EmployeeProfile first = employee();
+        EmployeeProfile second = employee();
+        checkIn(first, store, DAY, 9);
+        checkIn(first, store, DAY, 18);
+        checkIn(second, store, DAY, 10);
+        checkIn(second, store, DAY.plusDays(2), 9);
+
+        service.refresh(store.getId(), DAY);
+        service.refresh(store.getId(), DAY.plusDays(1));
+        service.refresh(store.getId(), DAY.plusDays(2));
+
+        StoreDailyHeadcountService.HeadcountTotals totals = service.summarize(store.getId(), DAY, DAY.plusDays(29));
+        assertThat(totals.operatingDays()).isEqualTo(2);
+        assertThat(totals.manDays()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("원본 재계산은 구간을 다시 채우고, 출근 기록이 없는 매장·일자는 비운다")
+    void recomputeRebuildsFromAttendance() {
+        Store store = store();
+        EmployeeProfile employee = employee();
+        checkIn(employee, store, DAY, 9);
+        service.refresh(store.getId(), DAY);
+        Store empty = store();
+        service.refresh(empty.getId(), DAY);
+
+        service.recompute(DAY, DAY.plusDays(1));
+
+        assertThat(service.summarize(store.getId(), DAY, DAY).manDays()).isEqualTo(1);
+        assertThat(service.summarize(empty.getId(), DAY, DAY).operatingDays()).isZero();
+    }
+
+    private Store store() {
+        String biz = String.format("%010d", 1_000_000_000L + (SEQ.incrementAndGet() % 900_000_000L));
+        Store store = new Store("출근인원테스트매장", biz, "02-777-0002", "카페", 12000, 100);
+        store.updateLocation(37.5665, 126.9780, "서울 중구", 100);
+        return storeRepository.save(store);
+    }
+
+    private EmployeeProfile employee() {
+        User user = new User("headcount_" + SEQ.incrementAndGet() + "@example.com", "출근인원직원");
+        user.setUserGrade(UserGrade.EMPLOYEE);
+        return employeeProfileRepository.save(new EmployeeProfile(userRepository.save(user)));
+    }
+
+    private void checkIn(EmployeeProfile employee, Store store, LocalDate day, int hour) {
+        Attendance attendance = new Attendance(employee, store);
+        attendance.manualCheckIn(day.atTime(hour, 0), 37.5665, 126.9780, 12_000);
+        attendanceRepository.save(attendance);
+    }
+}
@@ -0,0 +1,62 @@
+package com.rich.sodam.service;
+
+import com.rich.sodam.domain.type.StoreDailyMetricType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 매장 일자별 사전 집계 — 급여 재계산은 이전 값을 빼고 새 값을 더하고, 원본 재계산은 원본에 없는 일자를
+ * 비우는지 검증.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class StoreDailyMetricServiceTest {
+
+    private static final Long STORE_ID = 9_101L;
+    private static final LocalDate DAY = LocalDate.of(2026, 9, 1);
+
+    @Autowired private StoreDailyMetricService service;
+
+    @Test
+    @DisplayName("같은 급여를 다시 계산하면 일자 합계는 새 값만 남는다")
+    void recalculationReplacesPreviousTotals() {
+        StoreDailyMetricService.PayrollTotals first =
+                new StoreDailyMetricService.PayrollTotals(STORE_ID, DAY, 1_000_000, 967_000, 80.0);
+        StoreDailyMetricService.PayrollTotals other =
+                new StoreDailyMetricService.PayrollTotals(STORE_ID, DAY.plusDays(3), 500_000, 483_500, 40.0);
+        service.recordPayrollChange(null, first);
+        service.recordPayrollChange(null, other);
+
+        StoreDailyMetricService.PayrollTotals recalculated =
+                new StoreDailyMetricService.PayrollTotals(STORE_ID, DAY, 1_200_000, 1_160_400, 96.0);
+        service.recordPayrollChange(first, recalculated);
+
+        Map<StoreDailyMetricType, Double> sums = service.sum(STORE_ID, DAY, DAY.plusDays(29));
+        assertThat(sums.get(StoreDailyMetricType.PAYROLL_GROSS)).isEqualTo(1_700_000.0);
+        assertThat(sums.get(StoreDailyMetricType.PAYROLL_NET)).isEqualTo(1_643_900.0);
+        assertThat(sums.get(StoreDailyMetricType.PAYROLL_HOURS)).isEqualTo(136.0);
+        assertThat(service.sum(STORE_ID, DAY.plusDays(1), DAY.plusDays(2)).get(StoreDailyMetricType.PAYROLL_GROSS))
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("원본 재계산은 급여가 없는 일자의 집계를 지운다")
+    void recomputeDropsRowsWithoutPayroll() {
+        service.recordPayrollChange(null,
+                new StoreDailyMetricService.PayrollTotals(STORE_ID, DAY, 1_000_000, 967_000, 80.0));
+
+        service.recomputePayroll(DAY, DAY);
+
+        assertThat(service.sum(STORE_ID, DAY, DAY).get(StoreDailyMetricType.PAYROLL_GROSS)).isZero();
+    }
+}
@@ -0,0 +1,86 @@
+package com.rich.sodam.service;
+
+import com.rich.sodam.domain.OperatingHours;
+import com.rich.sodam.domain.Store;
+import com.rich.sodam.domain.StoreDueSlot;
+import com.rich.sodam.repository.StoreDueSlotRepository;
+import com.rich.sodam.repository.StoreRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * 매장 시각 인덱스 — 주 경계(일→월)를 넘는 윈도 분할, 심야 영업 마감 슬롯의 요일, 삭제 매장 처리 검증.
+ */
+@ExtendWith(MockitoExtension.class)
+class StoreDueSlotIndexTest {
+
+    @Mock StoreDueSlotRepository storeDueSlotRepository;
+    @Mock StoreRepository storeRepository;
+    @Mock TransactionTemplate transactions;
+    @InjectMocks StoreDueSlotIndex index;
+
+    // 2026-07-12 은 일요일, 07-13 은 월요일
+    private static final LocalDate SUNDAY = LocalDate.of(2026, 7, 12);
+
+    @Test
+    @DisplayName("일요일 23:50 ~ 월요일 00:10 윈도는 주 끝·주 시작 두 범위로 나눠 조회하고 ID 를 합친다")
+    void windowAcrossWeekBoundaryIsSplit() {
+        int sunday2350 = StoreDueSlot.minuteOfWeek(DayOfWeek.SUNDAY, LocalTime.of(23, 50));
+        when(storeDueSlotRepository.findStoreIdsInWindow(StoreDueSlot.Type.OPEN, sunday2350, StoreDueSlot.MINUTES_PER_WEEK))
+                .thenReturn(List.of(5L, 2L));
+        when(storeDueSlotRepository.findStoreIdsInWindow(StoreDueSlot.Type.OPEN, -1, 10))
+                .thenReturn(List.of(2L, 9L));
+
+        List<Long> ids = index.dueStoreIds(StoreDueSlot.Type.OPEN,
+                SUNDAY.atTime(23, 50), SUNDAY.plusDays(1).atTime(0, 10));
+
+        assertThat(ids).containsExactly(2L, 5L, 9L);
+    }
+
+    @Test
+    @DisplayName("영업일마다 오픈·마감 슬롯 한 쌍, 휴무일(일요일)은 슬롯이 없다")
+    void slotsFollowOperatingHours() {
+        OperatingHours hours = OperatingHours.createDefault(); // 월~토 09:00~18:00, 일 휴무
+        hours.setDayOperatingHours(DayOfWeek.SATURDAY, LocalTime.of(11, 30), LocalTime.of(23, 30), false);
+
+        List<StoreDueSlot> slots = StoreDueSlotIndex.slotsOf(store(hours));
+
+        assertThat(slots).hasSize(12);
+        assertThat(slots).anyMatch(s -> s.getSlotType() == StoreDueSlot.Type.CLOSE
+                && s.getMinuteOfWeek() == 5 * StoreDueSlot.MINUTES_PER_DAY + 23 * 60 + 30);
+        assertThat(slots).noneMatch(s -> s.getMinuteOfWeek() >= 6 * StoreDueSlot.MINUTES_PER_DAY);
+    }
+
+    @Test
+    @DisplayName("삭제된 매장은 재색인 시 슬롯을 지우기만 한다")
+    void deletedStoreHasNoSlots() {
+        Store store = store(OperatingHours.createDefault());
+        store.softDelete();
+
+        index.reindex(store);
+
+        verify(storeDueSlotRepository).deleteByStoreId(1L);
+        verify(storeDueSlotRepository).saveAll(List.of());
+    }
+
+    private static Store store(OperatingHours hours) {
+        Store store = new Store("인덱스매장", "1234567890", "02-000-0000", "카페", 12_000, 100);
+        ReflectionTestUtils.setField(store, "id", 1L);
+        store.updateOperatingHours(hours);
+        return store;
+    }
+}
@@ -8,6 +8,7 @@ import com.rich.sodam.domain.type.UserGrade;
 import com.rich.sodam.repository.EmployeeProfileRepository;
 import com.rich.sodam.repository.EmployeeStoreRelationRepository;
 import com.rich.sodam.repository.StoreRepository;
+import com.rich.sodam.security.authorization.StoreMembershipCache;
 import com.rich.sodam.service.support.AfterCommitExecutor;
 import org.junit.jupiter.api.Test;
 import org.springframework.security.access.AccessDeniedException;
@@ -38,7 +39,7 @@ class StoreJoinReactivationSecurityTest {
         StoreManagementServiceImpl service = spy(new StoreManagementServiceImpl(
                 null, null, employeeProfileRepository, storeRepository, null, relationRepository,
                 null, null, null, null, null, null, liveSyncPublisher, null, null, null,
-                null, null, null, afterCommitExecutor));
+                null, null, null, afterCommitExecutor, mock(StoreMembershipCache.class), null, null));
 
         User user = new User("former-join@example.test", "Former employee");
         user.setUserGrade(UserGrade.EMPLOYEE);
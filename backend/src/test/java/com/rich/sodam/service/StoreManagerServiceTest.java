@@ -8,6 +8,7 @@ import com.rich.sodam.domain.type.StoreRole;
 import com.rich.sodam.repository.EmployeeStoreRelationRepository;
 import com.rich.sodam.repository.StoreDelegationAuditRepository;
 import com.rich.sodam.repository.StoreRepository;
+import com.rich.sodam.security.authorization.StoreMembershipCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -30,12 +31,13 @@ class StoreManagerServiceTest {
     @Mock EmployeeStoreRelationRepository relationRepository;
     @Mock StoreDelegationAuditRepository auditRepository;
     @Mock DelegatedContractEnvelopeCancellationService delegatedContractCancellationService;
+    @Mock StoreMembershipCache storeMembershipCache;
     StoreManagerService service;
 
     @BeforeEach
     void setUp() {
         service = new StoreManagerService(guard, planAccessService, storeRepository, relationRepository,
-                auditRepository, delegatedContractCancellationService);
+                auditRepository, delegatedContractCancellationService, storeMembershipCache);
     }
 
     @Test
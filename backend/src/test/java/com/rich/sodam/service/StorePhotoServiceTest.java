@@ -0,0 +1,172 @@
+package com.rich.sodam.service;
+
+import com.rich.sodam.config.ImageUploadProperties;
+import com.rich.sodam.config.integration.ObjectStorage;
+import com.rich.sodam.domain.Store;
+import com.rich.sodam.domain.StorePhoto;
+import com.rich.sodam.repository.StorePhotoRepository;
+import com.rich.sodam.repository.StoreRepository;
+import com.rich.sodam.service.image.ImagePipeline;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 매장 사진 업로드 — 본 이미지 옆 {@code _thumb} 키로 썸네일을 올리는지, 썸네일·DB 저장이 실패하면 올린 객체를
+ * 지우는지, 응답·목록의 thumbnailUrl 이 썸네일 키(없으면 본 이미지)를 가리키는지 검증한다.
+ * ObjectStorage 는 mock 이고, 변환 파이프라인은 실제 축소본을 만든다.
+ */
+@ExtendWith(MockitoExtension.class)
+class StorePhotoServiceTest {
+
+    private static final String DISPLAY_KEY = "stores/1/photos/abc.jpg";
+    private static final String THUMBNAIL_KEY = "stores/1/photos/abc_thumb.jpg";
+
+    @Mock
+    StorePhotoRepository storePhotoRepository;
+    @Mock
+    StoreRepository storeRepository;
+    @Mock
+    ObjectStorage objectStorage;
+    @Mock
+    Store store;
+    @Spy
+    ImageUploadProperties imageProperties = new ImageUploadProperties();
+    @Spy
+    ImagePipeline imagePipeline = new ImagePipeline(new ImageUploadProperties());
+
+    @InjectMocks
+    StorePhotoService storePhotoService;
+
+    @AfterEach
+    void tearDown() {
+        imagePipeline.shutdown();
+    }
+
+    @Test
+    @DisplayName("업로드 성공 — 썸네일은 본 이미지 키 옆 _thumb 키로 올라가고 응답 thumbnailUrl 이 그 키를 가리킨다")
+    void uploadStoresThumbnailNextToDisplayImage() throws Exception {
+        givenUploadableStore();
+        givenStoredObjects();
+        when(storePhotoRepository.save(any(StorePhoto.class))).thenAnswer(inv -> withId(inv.getArgument(0), 10L));
+        when(objectStorage.accessUrl(anyString())).thenAnswer(inv -> "/uploads/" + inv.getArgument(0));
+
+        StorePhotoService.UploadResult result = storePhotoService.upload(1L, photo());
+
+        assertThat(result.success()).isTrue();
+        assertThat(result.body())
+                .containsEntry("id", 10L)
+                .containsEntry("publicUrl", "/uploads/" + DISPLAY_KEY)
+                .containsEntry("thumbnailUrl", "/uploads/" + THUMBNAIL_KEY);
+        ArgumentCaptor<StorePhoto> saved = ArgumentCaptor.forClass(StorePhoto.class);
+        verify(storePhotoRepository).save(saved.capture());
+        assertThat(saved.getValue().getStorageKey()).isEqualTo(DISPLAY_KEY);
+        assertThat(saved.getValue().getThumbnailKey()).isEqualTo(THUMBNAIL_KEY);
+        verify(objectStorage, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("DB 저장이 실패하면 올린 본 이미지와 썸네일을 모두 지우고 예외를 그대로 던진다")
+    void failedSaveDeletesUploadedObjects() throws Exception {
+        givenUploadableStore();
+        givenStoredObjects();
+        when(storePhotoRepository.save(any(StorePhoto.class))).thenThrow(new IllegalStateException("db down"));
+
+        assertThatThrownBy(() -> storePhotoService.upload(1L, photo()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("db down");
+
+        verify(objectStorage).delete(DISPLAY_KEY);
+        verify(objectStorage).delete(THUMBNAIL_KEY);
+    }
+
+    @Test
+    @DisplayName("썸네일 업로드가 실패하면 먼저 올린 본 이미지를 지우고 DB 에는 저장하지 않는다")
+    void failedThumbnailPutDeletesDisplayImage() throws Exception {
+        givenUploadableStore();
+        when(objectStorage.put(eq("stores/1/photos"), any(Path.class), eq("image/jpeg")))
+                .thenReturn(new ObjectStorage.PutResult(DISPLAY_KEY, null));
+        when(objectStorage.putAt(eq(THUMBNAIL_KEY), any(Path.class), eq("image/jpeg")))
+                .thenThrow(new IllegalStateException("파일 저장에 실패했습니다."));
+
+        assertThatThrownBy(() -> storePhotoService.upload(1L, photo()))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(objectStorage).delete(DISPLAY_KEY);
+        verify(storePhotoRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("목록 — 썸네일이 없는 사진(도입 전 업로드)은 thumbnailUrl 이 본 이미지를 가리킨다")
+    void listFallsBackToDisplayImageWithoutThumbnail() {
+        StorePhoto withThumbnail = StorePhoto.of(store, DISPLAY_KEY, THUMBNAIL_KEY, DISPLAY_KEY, 0, "image/jpeg", 10L);
+        StorePhoto legacy = StorePhoto.of(store, "stores/1/photos/old.jpg", null, "stores/1/photos/old.jpg",
+                1, "image/jpeg", 10L);
+        when(storePhotoRepository.findByStore_IdOrderByDisplayOrderAsc(1L)).thenReturn(List.of(withThumbnail, legacy));
+        when(objectStorage.accessUrl(anyString())).thenAnswer(inv -> "/uploads/" + inv.getArgument(0));
+
+        List<Map<String, Object>> photos = storePhotoService.list(1L);
+
+        assertThat(photos.get(0)).containsEntry("thumbnailUrl", "/uploads/" + THUMBNAIL_KEY);
+        assertThat(photos.get(1)).containsEntry("thumbnailUrl", "/uploads/stores/1/photos/old.jpg");
+    }
+
+    private void givenUploadableStore() {
+        when(storePhotoRepository.countByStore_Id(1L)).thenReturn(0L);
+        when(storeRepository.findById(1L)).thenReturn(Optional.of(store));
+    }
+
+    private void givenStoredObjects() {
+        when(objectStorage.put(eq("stores/1/photos"), any(Path.class), eq("image/jpeg")))
+                .thenReturn(new ObjectStorage.PutResult(DISPLAY_KEY, null));
+        when(objectStorage.putAt(eq(THUMBNAIL_KEY), any(Path.class), eq("image/jpeg")))
+                .thenReturn(new ObjectStorage.PutResult(THUMBNAIL_KEY, null));
+    }
+
+    private static StorePhoto withId(StorePhoto photo, Long id) throws Exception {
+        Field idField = StorePhoto.class.getDeclaredField("id");
+        idField.setAccessible(true);
+        idField.set(photo, id);
+        return photo;
+    }
+
+    /** 디코딩 가능한 JPEG — 변환 파이프라인이 본 이미지·썸네일을 실제로 만든다. */
+    private static MockMultipartFile photo() throws IOException {
+        BufferedImage image = new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.ORANGE);
+        g.fillRect(0, 0, 800, 600);
+        g.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return new MockMultipartFile("file", "store.jpg", "image/jpeg", out.toByteArray());
+    }
+}
@@ -61,7 +61,7 @@ class SubsidyEligibilityServiceTest {
     void eligibleUnderCap() {
         EmployeeStoreRelation r1 = rel(10L, "김알바");
         EmployeeStoreRelation r2 = rel(20L, "이파트");
-        when(relationRepository.findByStore_Id(eq(1L))).thenReturn(List.of(r1, r2));
+        when(relationRepository.findWithEmployeeByStore_Id(eq(1L))).thenReturn(List.of(r1, r2));
         Payroll low = payroll(10L, 2_000_000);
         Payroll high = payroll(20L, 2_900_000);
         when(payrollRepository.findByEmployee_IdInOrderByEndDateDesc(anyList()))
@@ -86,7 +86,7 @@ class SubsidyEligibilityServiceTest {
         for (long i = 1; i <= 10; i++) {
             rels.add(rel(i, "직원" + i));
         }
-        when(relationRepository.findByStore_Id(eq(2L))).thenReturn(rels);
+        when(relationRepository.findWithEmployeeByStore_Id(eq(2L))).thenReturn(rels);
         List<Payroll> payrolls = new java.util.ArrayList<>();
         for (long i = 1; i <= 10; i++) {
             payrolls.add(payroll(i, 1_500_000));
@@ -107,7 +107,7 @@ class SubsidyEligibilityServiceTest {
     @DisplayName("급여 이력이 없는 직원은 월보수 null → 판정 보류(비대상)")
     void noPayrollHistoryTreatedAsNull() {
         EmployeeStoreRelation r1 = rel(30L, "신입");
-        when(relationRepository.findByStore_Id(eq(3L))).thenReturn(List.of(r1));
+        when(relationRepository.findWithEmployeeByStore_Id(eq(3L))).thenReturn(List.of(r1));
         when(payrollRepository.findByEmployee_IdInOrderByEndDateDesc(anyList())).thenReturn(List.of());
 
         SubsidyEligibilityResponse res = service.evaluate(3L);
@@ -1,28 +1,39 @@
 package com.rich.sodam.service;
 
+import com.rich.sodam.config.ImageUploadProperties;
 import com.rich.sodam.config.integration.ObjectStorage;
 import com.rich.sodam.domain.User;
 import com.rich.sodam.repository.SubscriptionRepository;
 import com.rich.sodam.repository.TermsAgreementRepository;
 import com.rich.sodam.repository.UserRepository;
+import com.rich.sodam.service.image.ImagePipeline;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.lang.reflect.Field;
+import java.nio.file.Path;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -31,7 +42,9 @@ import static org.mockito.Mockito.when;
 /**
  * 사용자 아바타(프로필 사진) 업로드/삭제 — StorePhotoService 와 동일한 검증 규칙(빈 파일/5MB 초과/image 아님),
  * 교체 시 기존 파일 정리(ObjectStorage.delete), 삭제(초기화) 케이스를 검증한다.
- * ObjectStorage 는 mock 처리해 실제 파일시스템을 건드리지 않는다.
+ * 변환·업로드는 트랜잭션 밖에서, 아바타 키 갱신만 트랜잭션 안에서 하는지도 본다.
+ * ObjectStorage 는 mock 처리해 실제 파일시스템을 건드리지 않는다. 가짜 바이트는 디코딩할 수 없어 변환
+ * 파이프라인이 원본 그대로(content type 유지) 넘긴다.
  */
 @ExtendWith(MockitoExtension.class)
 class UserAvatarServiceTest {
@@ -46,6 +59,12 @@ class UserAvatarServiceTest {
     PasswordEncoder passwordEncoder;
     @Mock
     ObjectStorage objectStorage;
+    @Spy
+    ImageUploadProperties imageProperties = new ImageUploadProperties();
+    @Spy
+    ImagePipeline imagePipeline = new ImagePipeline(new ImageUploadProperties());
+    @Mock
+    TransactionTemplate transactions;
 
     @InjectMocks
     UserService userService;
@@ -56,6 +75,8 @@ class UserAvatarServiceTest {
     void setUp() throws Exception {
         user = new User("avatar@sodam.dev", "아바타테스트");
         setId(user, 1L);
+        lenient().when(transactions.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
     }
 
     private void setId(User user, Long id) throws Exception {
@@ -70,7 +91,7 @@ class UserAvatarServiceTest {
         MockMultipartFile file = new MockMultipartFile(
                 "file", "profile.png", "image/png", "fake-image-bytes".getBytes());
         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-        when(objectStorage.put(eq("users/1/avatar"), any(byte[].class), eq("image/png")))
+        when(objectStorage.put(eq("users/1/avatar"), any(Path.class), eq("image/png")))
                 .thenReturn(new ObjectStorage.PutResult("users/1/avatar/uuid.png", "/uploads/users/1/avatar/uuid.png"));
         when(userRepository.save(any(User.class))).thenAnswer(inv -> inv.getArgument(0));
 
@@ -81,6 +102,42 @@ class UserAvatarServiceTest {
         verify(objectStorage, never()).delete(anyString()); // 기존 파일 없었으므로 delete 호출 안 됨
     }
 
+    @Test
+    @DisplayName("변환·업로드는 트랜잭션 밖에서 끝내고, 트랜잭션은 아바타 키 갱신에만 연다")
+    void uploadAvatar_transcodesOutsideTransaction() throws Exception {
+        MockMultipartFile file = new MockMultipartFile(
+                "file", "profile.png", "image/png", "fake-image-bytes".getBytes());
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(objectStorage.put(eq("users/1/avatar"), any(Path.class), eq("image/png")))
+                .thenReturn(new ObjectStorage.PutResult("users/1/avatar/uuid.png", "/uploads/users/1/avatar/uuid.png"));
+        when(userRepository.save(any(User.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        userService.uploadAvatar(1L, file);
+
+        InOrder inOrder = inOrder(imagePipeline, objectStorage, transactions, userRepository);
+        inOrder.verify(imagePipeline).process(any(), anyLong(), anyInt());
+        inOrder.verify(objectStorage).put(eq("users/1/avatar"), any(Path.class), eq("image/png"));
+        inOrder.verify(transactions).execute(any());
+        inOrder.verify(userRepository).save(user);
+    }
+
+    @Test
+    @DisplayName("아바타 키 갱신이 실패하면 방금 올린 객체를 지우고, 기존 파일은 그대로 둔다")
+    void uploadAvatar_saveFails_deletesUploadedObject() throws Exception {
+        user.updateAvatar(null, "users/1/avatar/old.png");
+        MockMultipartFile file = new MockMultipartFile("file", "new.png", "image/png", "new-bytes".getBytes());
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(objectStorage.put(eq("users/1/avatar"), any(Path.class), eq("image/png")))
+                .thenReturn(new ObjectStorage.PutResult("users/1/avatar/new.png", "/uploads/users/1/avatar/new.png"));
+        when(userRepository.save(any(User.class))).thenThrow(new IllegalStateException("db down"));
+
+        assertThatThrownBy(() -> userService.uploadAvatar(1L, file))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(objectStorage).delete("users/1/avatar/new.png");
+        verify(objectStorage, never()).delete("users/1/avatar/old.png");
+    }
+
     @Test
     @DisplayName("업로드 실패 — 빈 파일")
     void uploadAvatar_emptyFile_fails() {
@@ -130,12 +187,12 @@ class UserAvatarServiceTest {
     }
 
     @Test
-    @DisplayName("교체 업로드 — 기존 avatarKey 가 있으면 새 파일 저장 전 기존 파일을 delete")
+    @DisplayName("교체 업로드 — 기존 avatarKey 가 있으면 새 키 저장 후 기존 파일을 delete")
     void uploadAvatar_replacesExisting_deletesOldKey() throws Exception {
         user.updateAvatar("/uploads/users/1/avatar/old.png", "users/1/avatar/old.png");
         MockMultipartFile file = new MockMultipartFile("file", "new.png", "image/png", "new-bytes".getBytes());
         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-        when(objectStorage.put(eq("users/1/avatar"), any(byte[].class), eq("image/png")))
+        when(objectStorage.put(eq("users/1/avatar"), any(Path.class), eq("image/png")))
                 .thenReturn(new ObjectStorage.PutResult("users/1/avatar/new.png", "/uploads/users/1/avatar/new.png"));
         when(userRepository.save(any(User.class))).thenAnswer(inv -> inv.getArgument(0));
 
@@ -0,0 +1,172 @@
+package com.rich.sodam.service.ai;
+
+import com.rich.sodam.config.LlmNarrationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LLM 문구 생성 파이프라인 — 로컬 스텁 클라이언트로 응답 캐시, 동일 프롬프트 합치기, 전체 대기 한도를 넘긴
+ * 항목의 템플릿 폴백, 대기열 상한과 한도를 넘긴 대기 항목의 취소를 검증한다.
+ */
+class LlmNarrationPipelineTest {
+
+    private final StubClient stub = new StubClient();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private LlmNarrationPipeline pipeline;
+
+    @AfterEach
+    void tearDown() {
+        stub.release.countDown();
+        if (pipeline != null) {
+            pipeline.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 프롬프트는 캐시된 응답을 쓰고 모델을 다시 부르지 않는다")
+    void identicalPromptIsServedFromCache() {
+        pipeline = pipeline(Duration.ofSeconds(2));
+        stub.release.countDown();
+        TextGenerationClient client = pipeline.client().orElseThrow();
+
+        assertThat(client.complete("문구 A")).isEqualTo("다듬은 문구 A");
+        assertThat(client.complete("문구 A")).isEqualTo("다듬은 문구 A");
+        assertThat(stub.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("진행 중인 같은 프롬프트는 새로 보내지 않고 그 응답을 함께 받는다")
+    void concurrentIdenticalPromptsAreCoalesced() throws Exception {
+        pipeline = pipeline(Duration.ofSeconds(2));
+        TextGenerationClient client = pipeline.client().orElseThrow();
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> client.complete("문구 B"));
+        assertThat(stub.started.await(2, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> client.complete("문구 B"));
+        Thread.sleep(50);
+        stub.release.countDown();
+
+        assertThat(first.get(2, TimeUnit.SECONDS)).isEqualTo("다듬은 문구 B");
+        assertThat(second.get(2, TimeUnit.SECONDS)).isEqualTo("다듬은 문구 B");
+        assertThat(stub.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 한도 안에 끝난 항목만 생성 문구로, 늦은 항목은 템플릿 문구로 나가고 늦은 응답은 캐시에 남는다")
+    void itemsMissingDeadlineFallBackToTemplate() throws Exception {
+        pipeline = pipeline(Duration.ofMillis(200));
+        stub.slowPrompt = "느린 문구";
+        List<LlmNarrationPipeline.Request> requests = List.of(
+                new LlmNarrationPipeline.Request(() -> "빠른 문구", text -> true, "빠른 문구"),
+                new LlmNarrationPipeline.Request(() -> "느린 문구", text -> true, "느린 문구"),
+                new LlmNarrationPipeline.Request(() -> "검증 탈락", text -> false, "검증 탈락"));
+
+        List<String> results = pipeline.generateAll(stub, requests, "test");
+
+        assertThat(results).containsExactly("다듬은 빠른 문구", "느린 문구", "검증 탈락");
+
+        stub.release.countDown();
+        Thread.sleep(100);
+        int callsBefore = stub.calls.get();
+        assertThat(pipeline.client().orElseThrow().complete("느린 문구")).isEqualTo("다듬은 느린 문구");
+        assertThat(stub.calls.get()).isEqualTo(callsBefore);
+    }
+
+    @Test
+    @DisplayName("provider 가 없으면 클라이언트가 비어 있고 일괄 생성은 전부 템플릿 문구다")
+    void noProviderFallsBack() {
+        pipeline = new LlmNarrationPipeline(Optional.empty(), new LlmNarrationProperties(), registry);
+
+        assertThat(pipeline.client()).isEmpty();
+        assertThat(pipeline.generateAll(null,
+                List.of(new LlmNarrationPipeline.Request(() -> "p", text -> true, "원문")), "test"))
+                .containsExactly("원문");
+    }
+
+    @Test
+    @DisplayName("대기 한도를 넘긴 항목 중 아직 대기열에 있던 것은 취소되어 모델을 부르지 않는다")
+    void queuedItemsMissingDeadlineAreCancelled() throws Exception {
+        pipeline = pipeline(Duration.ofMillis(200), 1, 8);
+        stub.slowPrompt = "느린 문구";
+        List<LlmNarrationPipeline.Request> requests = List.of(
+                new LlmNarrationPipeline.Request(() -> "느린 문구", text -> true, "느린 문구"),
+                new LlmNarrationPipeline.Request(() -> "대기 문구 1", text -> true, "대기 문구 1"),
+                new LlmNarrationPipeline.Request(() -> "대기 문구 2", text -> true, "대기 문구 2"));
+
+        List<String> results = pipeline.generateAll(stub, requests, "test");
+
+        assertThat(results).containsExactly("느린 문구", "대기 문구 1", "대기 문구 2");
+        stub.release.countDown();
+        Thread.sleep(100);
+        assertThat(stub.calls.get()).isEqualTo(1);
+        assertThat(registry.get("sodam.ai.narration.deadline_missed").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 그 항목은 기다리지 않고 바로 템플릿 문구로 나간다")
+    void itemsBeyondQueueCapacityFallBackImmediately() {
+        pipeline = pipeline(Duration.ofMillis(200), 1, 1);
+        List<LlmNarrationPipeline.Request> requests = List.of(
+                new LlmNarrationPipeline.Request(() -> "문구 1", text -> true, "문구 1"),
+                new LlmNarrationPipeline.Request(() -> "문구 2", text -> true, "문구 2"),
+                new LlmNarrationPipeline.Request(() -> "문구 3", text -> true, "문구 3"));
+
+        List<String> results = pipeline.generateAll(stub, requests, "test");
+
+        assertThat(results).containsExactly("문구 1", "문구 2", "문구 3");
+        assertThat(registry.get("sodam.ai.narration.rejected").counter().count()).isEqualTo(1);
+        assertThat(registry.get("sodam.ai.narration.deadline_missed").counter().count()).isEqualTo(2);
+    }
+
+    private LlmNarrationPipeline pipeline(Duration deadline) {
+        return pipeline(deadline, new LlmNarrationProperties().getParallelism(),
+                new LlmNarrationProperties().getQueueCapacity());
+    }
+
+    private LlmNarrationPipeline pipeline(Duration deadline, int parallelism, int queueCapacity) {
+        LlmNarrationProperties properties = new LlmNarrationProperties();
+        properties.setDeadline(deadline);
+        properties.setParallelism(parallelism);
+        properties.setQueueCapacity(queueCapacity);
+        return new LlmNarrationPipeline(Optional.of(stub), properties, registry);
+    }
+
+    /** 로컬 스텁 — 응답은 "다듬은 " + 프롬프트. 첫 호출 또는 {@link #slowPrompt}는 {@link #release}까지 기다린다. */
+    private static final class StubClient implements TextGenerationClient {
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        volatile String slowPrompt;
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public String complete(String prompt) {
+            calls.incrementAndGet();
+            started.countDown();
+            if (slowPrompt == null || slowPrompt.equals(prompt)) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return "다듬은 " + prompt;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.rich.sodam.service.image;
+
+import com.rich.sodam.config.ImageUploadProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 업로드 이미지 파이프라인 — 축소본 크기, EXIF 방향 적용, 스트리밍 크기 상한, 해상도 상한, 원본 통과, 임시 파일 정리.
+ */
+class ImagePipelineTest {
+
+    private ImagePipeline pipeline;
+
+    @AfterEach
+    void tearDown() {
+        if (pipeline != null) {
+            pipeline.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("3000x2000 사진은 요청한 긴 변에 맞춘 JPEG 축소본들로 만들어지고, 닫으면 임시 파일이 지워진다")
+    void rendersRequestedEdges() throws Exception {
+        pipeline = new ImagePipeline(new ImageUploadProperties());
+        MockMultipartFile file = image("photo.jpg", "image/jpeg", 3000, 2000, "jpg");
+
+        Path source;
+        Path display;
+        try (ImagePipeline.Processed processed = pipeline.process(file, 5 * 1024 * 1024, 1600, 400)) {
+            source = processed.source();
+            display = processed.rendition(0).file();
+
+            assertThat(processed.rendition(0).width()).isEqualTo(1600);
+            assertThat(processed.rendition(0).height()).isEqualTo(1067);
+            assertThat(processed.rendition(1).width()).isEqualTo(400);
+            assertThat(processed.rendition(1).height()).isEqualTo(267);
+            assertThat(processed.rendition(0).contentType()).isEqualTo("image/jpeg");
+            BufferedImage written = ImageIO.read(display.toFile());
+            assertThat(written.getWidth()).isEqualTo(1600);
+        }
+        assertThat(source).doesNotExist();
+        assertThat(display).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("요청한 크기보다 작은 사진은 키우지 않는다")
+    void doesNotUpscale() throws Exception {
+        pipeline = new ImagePipeline(new ImageUploadProperties());
+        MockMultipartFile file = image("small.png", "image/png", 300, 200, "png");
+
+        try (ImagePipeline.Processed processed = pipeline.process(file, 5 * 1024 * 1024, 1600)) {
+            assertThat(processed.rendition(0).width()).isEqualTo(300);
+            assertThat(processed.rendition(0).height()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    @DisplayName("EXIF Orientation=6(시계 방향 90°)인 JPEG 는 돌려서 축소하므로 세로 사진이 세로로 나온다")
+    void appliesExifOrientationBeforeScaling() throws Exception {
+        pipeline = new ImagePipeline(new ImageUploadProperties());
+        // 센서 방향 그대로 저장된 400x200 — 왼쪽 빨강, 오른쪽 파랑. 시계 방향 90° 돌리면 위가 빨강인 200x400 이다.
+        BufferedImage sensor = new BufferedImage(400, 200, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = sensor.createGraphics();
+        g.setColor(Color.RED);
+        g.fillRect(0, 0, 200, 200);
+        g.setColor(Color.BLUE);
+        g.fillRect(200, 0, 200, 200);
+        g.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(sensor, "jpg", out);
+        MockMultipartFile file = new MockMultipartFile("file", "portrait.jpg", "image/jpeg",
+                withExifOrientation(out.toByteArray(), 6));
+
+        try (ImagePipeline.Processed processed = pipeline.process(file, 5 * 1024 * 1024, 100)) {
+            assertThat(processed.rendition(0).width()).isEqualTo(50);
+            assertThat(processed.rendition(0).height()).isEqualTo(100);
+            BufferedImage written = ImageIO.read(processed.rendition(0).file().toFile());
+            Color top = new Color(written.getRGB(25, 20));
+            Color bottom = new Color(written.getRGB(25, 80));
+            assertThat(top.getRed()).isGreaterThan(top.getBlue());
+            assertThat(bottom.getBlue()).isGreaterThan(bottom.getRed());
+        }
+    }
+
+    @Test
+    @DisplayName("실제 바이트가 상한을 넘으면 받던 중에 거절하고 임시 파일을 남기지 않는다")
+    void rejectsOversizeStream() {
+        pipeline = new ImagePipeline(new ImageUploadProperties());
+        // 선언된 크기(getSize)와 무관하게 스트림에서 센 바이트로 판정한다
+        MockMultipartFile file = new MockMultipartFile("file", "big.jpg", "image/jpeg", new byte[4096]);
+
+        assertThatThrownBy(() -> pipeline.process(file, 1024, 1600))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("최대 크기");
+    }
+
+    @Test
+    @DisplayName("디코딩할 수 없는 파일은 원본 그대로 넘긴다")
+    void passesThroughUndecodable() throws Exception {
+        pipeline = new ImagePipeline(new ImageUploadProperties());
+        MockMultipartFile file = new MockMultipartFile("file", "x.png", "image/png", "not-an-image".getBytes());
+
+        try (ImagePipeline.Processed processed = pipeline.process(file, 1024, 1600, 400)) {
+            ImagePipeline.Rendition rendition = processed.rendition(1);
+            assertThat(rendition.transcoded()).isFalse();
+            assertThat(rendition.contentType()).isEqualTo("image/png");
+            assertThat(Files.readAllBytes(rendition.file())).isEqualTo("not-an-image".getBytes());
+        }
+    }
+
+    @Test
+    @DisplayName("헤더상 해상도가 상한을 넘으면 디코딩하지 않고 거절한다")
+    void rejectsTooManyPixels() throws Exception {
+        ImageUploadProperties properties = new ImageUploadProperties();
+        properties.setMaxPixels(1_000_000L);
+        pipeline = new ImagePipeline(properties);
+        MockMultipartFile file = image("wide.png", "image/png", 2000, 1000, "png");
+
+        assertThatThrownBy(() -> pipeline.process(file, 5 * 1024 * 1024, 1600))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("해상도");
+    }
+
+    /** SOI 바로 뒤에 Orientation 태그 하나만 든 APP1(Exif, 빅엔디언 TIFF) 세그먼트를 끼워 넣는다. */
+    private static byte[] withExifOrientation(byte[] jpeg, int orientation) {
+        byte[] exif = {
+                'E', 'x', 'i', 'f', 0, 0,
+                'M', 'M', 0, 42, 0, 0, 0, 8,            // TIFF 헤더, IFD0 은 오프셋 8
+                0, 1,                                    // 항목 1개
+                0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0,  // Orientation, SHORT, 1개
+                0, 0, 0, 0};                             // 다음 IFD 없음
+        int length = exif.length + 2;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, 2);
+        out.write(0xFF);
+        out.write(0xE1);
+        out.write(length >> 8);
+        out.write(length & 0xFF);
+        out.write(exif, 0, exif.length);
+        out.write(jpeg, 2, jpeg.length - 2);
+        return out.toByteArray();
+    }
+
+    private static MockMultipartFile image(String name, String contentType, int width, int height, String format)
+            throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.ORANGE);
+        g.fillRect(0, 0, width, height);
+        g.setColor(Color.BLUE);
+        g.fillOval(width / 4, height / 4, width / 2, height / 2);
+        g.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return new MockMultipartFile("file", name, contentType, out.toByteArray());
+    }
+}
@@ -1,5 +1,6 @@
 package com.rich.sodam.service.retention;
 
+import com.rich.sodam.config.RetentionPurgeProperties;
 import com.rich.sodam.domain.DomainEvent;
 import com.rich.sodam.domain.ReminderLog;
 import com.rich.sodam.domain.RetentionPurgeSchedule;
@@ -8,6 +9,7 @@ import com.rich.sodam.domain.type.ReminderType;
 import com.rich.sodam.repository.DomainEventRepository;
 import com.rich.sodam.repository.ReminderLogRepository;
 import com.rich.sodam.repository.RetentionPurgeScheduleRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,6 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.lang.reflect.Field;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,6 +40,8 @@ class RetentionPurgeServiceTest {
     @Autowired private RetentionPurgeScheduleRepository scheduleRepository;
     @Autowired private DomainEventRepository domainEventRepository;
     @Autowired private ReminderLogRepository reminderLogRepository;
+    @Autowired private RetentionPurgeProperties retentionPurgeProperties;
+    @Autowired private DomainEventRetentionPolicy domainEventRetentionPolicy;
 
     private DomainEvent expiredEvent;
     private DomainEvent freshEvent;
@@ -56,6 +61,11 @@ class RetentionPurgeServiceTest {
         domainEventRepository.save(freshEvent);
     }
 
+    @AfterEach
+    void restoreChunkSize() {
+        retentionPurgeProperties.setChunkSize(new RetentionPurgeProperties().getChunkSize());
+    }
+
     private void backdate(Object entity, String fieldName, LocalDateTime value) throws Exception {
         Field field = entity.getClass().getDeclaredField(fieldName);
         field.setAccessible(true);
@@ -139,4 +149,81 @@ class RetentionPurgeServiceTest {
         assertThat(scheduled).isGreaterThanOrEqualTo(1);
         assertThat(scheduleRepository.findByTableNameAndEntityId("reminder_log", log.getId())).isPresent();
     }
+
+    @Test
+    @DisplayName("청크 크기보다 많은 대상도 청크를 넘어가며 빠짐없이 등록·파기된다")
+    void scanAndPurgeCrossChunkBoundaries() throws Exception {
+        List<DomainEvent> expired = new ArrayList<>(List.of(expiredEvent));
+        for (int i = 0; i < 4; i++) {
+            DomainEvent event = DomainEvent.of(DomainEventType.EMPLOYEE_REGISTERED, 1L, 1L, null);
+            domainEventRepository.save(event);
+            backdate(event, "occurredAt", LocalDateTime.now().minusYears(3));
+            domainEventRepository.save(event);
+            expired.add(event);
+        }
+        retentionPurgeProperties.setChunkSize(2);
+
+        assertThat(retentionPurgeService.scanAndSchedule()).isGreaterThanOrEqualTo(expired.size());
+        for (DomainEvent event : expired) {
+            RetentionPurgeSchedule schedule =
+                    scheduleRepository.findByTableNameAndEntityId("domain_event", event.getId()).orElseThrow();
+            backdate(schedule, "scheduledPurgeAt", LocalDateTime.now().minusDays(1));
+            scheduleRepository.save(schedule);
+        }
+
+        assertThat(retentionPurgeService.executePurge()).isGreaterThanOrEqualTo(expired.size());
+        for (DomainEvent event : expired) {
+            assertThat(domainEventRepository.findById(event.getId())).isEmpty();
+        }
+        assertThat(domainEventRepository.findById(freshEvent.getId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("만료 대상 조회는 ID 커서 뒤에서부터 한 페이지만 ID 순으로 읽는다")
+    void findExpiredReadsOneKeysetPageAfterCursor() throws Exception {
+        DomainEvent second = DomainEvent.of(DomainEventType.EMPLOYEE_REGISTERED, 1L, 1L, null);
+        domainEventRepository.save(second);
+        backdate(second, "occurredAt", LocalDateTime.now().minusYears(3));
+        domainEventRepository.save(second);
+        LocalDateTime cutoff = LocalDateTime.now().minusYears(2);
+
+        List<RetentionPolicy.ExpiredEntity> firstPage =
+                domainEventRetentionPolicy.findExpired(cutoff, expiredEvent.getId() - 1, 1);
+        List<RetentionPolicy.ExpiredEntity> nextPage =
+                domainEventRetentionPolicy.findExpired(cutoff, expiredEvent.getId(), 10);
+
+        assertThat(firstPage).extracting(RetentionPolicy.ExpiredEntity::id).containsExactly(expiredEvent.getId());
+        assertThat(nextPage).extracting(RetentionPolicy.ExpiredEntity::id)
+                .contains(second.getId())
+                .doesNotContain(expiredEvent.getId(), freshEvent.getId())
+                .isSorted();
+    }
+
+    @Test
+    @DisplayName("이미 파기 스케줄에 오른 대상은 만료 대상 조회에서 빠진다 — 다음 스캔은 새 만료분만 읽는다")
+    void findExpiredSkipsAlreadyScheduledEntities() {
+        LocalDateTime cutoff = LocalDateTime.now().minusYears(2);
+        assertThat(domainEventRetentionPolicy.findExpired(cutoff, expiredEvent.getId() - 1, 1))
+                .extracting(RetentionPolicy.ExpiredEntity::id).containsExactly(expiredEvent.getId());
+
+        retentionPurgeService.scanAndSchedule();
+
+        assertThat(domainEventRetentionPolicy.findExpired(cutoff, 0L, Integer.MAX_VALUE))
+                .extracting(RetentionPolicy.ExpiredEntity::id).doesNotContain(expiredEvent.getId());
+    }
+
+    @Test
+    @DisplayName("앞쪽 대상이 이미 등록돼 있어도 스캔은 커서를 넘겨 뒤쪽 신규 만료 대상까지 등록한다")
+    void rescanPagesPastAlreadyScheduledEntities() throws Exception {
+        retentionPurgeProperties.setChunkSize(1);
+        retentionPurgeService.scanAndSchedule();
+
+        DomainEvent later = DomainEvent.of(DomainEventType.EMPLOYEE_REGISTERED, 1L, 1L, null);
+        domainEventRepository.save(later);
+        backdate(later, "occurredAt", LocalDateTime.now().minusYears(3));
+        domainEventRepository.save(later);
+
+        assertThat(retentionPurgeService.scanAndSchedule()).isGreaterThanOrEqualTo(1);
+        assertThat(scheduleRepository.findByTableNameAndEntityId("domain_event", later.getId())).isPresent();
+    }
 }
@@ -0,0 +1,47 @@
+package com.rich.sodam.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 격자 셀 후보 조회가 반경 안의 좌표를 빠뜨리지 않는지 — 반경 매칭의 정확성은 셀 목록이 상위 집합인지에 달려 있다.
+ */
+class GeoGridTest {
+
+    private static final double RADIUS_METERS = 4_000;
+
+    @Test
+    @DisplayName("반경 안의 임의 좌표는 항상 중심의 후보 셀 목록에 들어 있다")
+    void cellsWithinCoverEveryPointInRadius() {
+        SplittableRandom random = new SplittableRandom(7);
+        double[][] centers = {{37.5665, 126.9780}, {33.4996, 126.5312}, {37.5500, 127.0499}, {38.2, 128.59}};
+        for (double[] center : centers) {
+            List<Integer> cells = GeoGrid.cellsWithin(center[0], center[1], RADIUS_METERS);
+            for (int i = 0; i < 5_000; i++) {
+                double lat = center[0] + random.nextDouble(-0.04, 0.04);
+                double lon = center[1] + random.nextDouble(-0.05, 0.05);
+                if (GeoUtils.calculateDistance(center[0], center[1], lat, lon) <= RADIUS_METERS) {
+                    assertThat(cells).contains(GeoGrid.cellOf(lat, lon));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("4km 반경 후보는 서울 위도에서 3×3 셀 이내로 좁혀진다")
+    void candidateCellsStaySmall() {
+        assertThat(GeoGrid.cellsWithin(37.5665, 126.9780, RADIUS_METERS)).hasSizeLessThanOrEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("좌표가 없으면 셀도 없다")
+    void missingCoordinatesHaveNoCell() {
+        assertThat(GeoGrid.cellOf(null, 126.9)).isNull();
+        assertThat(GeoGrid.cellOf(37.5, null)).isNull();
+    }
+}